@@ -0,0 +1,99 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.bls;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.crypto.Hash;
+
+/**
+ * Bounded cache of signatures which have already been verified, so the same aggregate signature
+ * isn't checked again when it arrives through another path. For example, attestations are verified
+ * when received on gossip and then again when processed by fork choice and when included in a
+ * block.
+ *
+ * <p>Entries are keyed by a hash of the message, signature and public keys so only an exact match
+ * of all three is considered verified. Only successful verifications are recorded.
+ */
+public class VerifiedSignatureCache {
+  public static final int DEFAULT_MAX_SIZE = 16_384;
+
+  /** Cache which never records any signatures so every signature is always verified. */
+  public static final VerifiedSignatureCache DISABLED = new VerifiedSignatureCache(0);
+
+  private final int maxSize;
+  private final Cache<Bytes32, Boolean> verifiedSignatures;
+
+  public VerifiedSignatureCache(final int maxSize) {
+    this.maxSize = maxSize;
+    this.verifiedSignatures = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+  }
+
+  public boolean isVerified(
+      final List<BLSPublicKey> publicKeys, final Bytes message, final BLSSignature signature) {
+    if (maxSize == 0) {
+      return false;
+    }
+    return verifiedSignatures.getIfPresent(calculateKey(publicKeys, message, signature)) != null;
+  }
+
+  public void markVerified(
+      final List<BLSPublicKey> publicKeys, final Bytes message, final BLSSignature signature) {
+    if (maxSize == 0) {
+      return;
+    }
+    verifiedSignatures.put(calculateKey(publicKeys, message, signature), Boolean.TRUE);
+  }
+
+  /**
+   * Creates a verifier which skips signatures already in this cache and records any signatures
+   * successfully verified by {@code delegate}.
+   */
+  public BLSSignatureVerifier wrap(final BLSSignatureVerifier delegate) {
+    if (maxSize == 0) {
+      return delegate;
+    }
+    return (publicKeys, message, signature) -> {
+      if (isVerified(publicKeys, message, signature)) {
+        return true;
+      }
+      final boolean valid = delegate.verify(publicKeys, message, signature);
+      if (valid) {
+        markVerified(publicKeys, message, signature);
+      }
+      return valid;
+    };
+  }
+
+  public long size() {
+    return verifiedSignatures.size();
+  }
+
+  private Bytes32 calculateKey(
+      final List<BLSPublicKey> publicKeys, final Bytes message, final BLSSignature signature) {
+    // Signatures and public keys are fixed size so prefixing the message length is enough to make
+    // the encoding unambiguous
+    final Bytes[] components = new Bytes[publicKeys.size() + 3];
+    components[0] = Bytes.ofUnsignedInt(message.size());
+    components[1] = message;
+    components[2] = signature.toBytes();
+    for (int i = 0; i < publicKeys.size(); i++) {
+      components[i + 3] = publicKeys.get(i).toBytesCompressed();
+    }
+    return Hash.sha2_256(Bytes.wrap(components));
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.bls;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+
+class VerifiedSignatureCacheTest {
+  private static final BLSKeyPair KEY_PAIR_1 = BLSKeyPair.random(1);
+  private static final BLSKeyPair KEY_PAIR_2 = BLSKeyPair.random(2);
+  private static final Bytes MESSAGE = Bytes.wrap("Hello, world!".getBytes(UTF_8));
+
+  private final VerifiedSignatureCache cache = new VerifiedSignatureCache(10);
+  private final BLSSignature signature = BLS.sign(KEY_PAIR_1.getSecretKey(), MESSAGE);
+  private final List<BLSPublicKey> publicKeys = List.of(KEY_PAIR_1.getPublicKey());
+
+  @Test
+  public void isVerified_shouldOnlyMatchExactEntry() {
+    cache.markVerified(publicKeys, MESSAGE, signature);
+
+    assertThat(cache.isVerified(publicKeys, MESSAGE, signature)).isTrue();
+    assertThat(cache.isVerified(List.of(KEY_PAIR_2.getPublicKey()), MESSAGE, signature)).isFalse();
+    assertThat(cache.isVerified(publicKeys, Bytes.fromHexString("0x1234"), signature)).isFalse();
+    assertThat(cache.isVerified(publicKeys, MESSAGE, BLSSignature.random(5))).isFalse();
+  }
+
+  @Test
+  public void wrap_shouldSkipVerificationForCachedSignatures() {
+    final AtomicInteger verifyCount = new AtomicInteger();
+    final BLSSignatureVerifier verifier =
+        cache.wrap(
+            (keys, message, sig) -> {
+              verifyCount.incrementAndGet();
+              return BLSSignatureVerifier.SIMPLE.verify(keys, message, sig);
+            });
+
+    assertThat(verifier.verify(publicKeys, MESSAGE, signature)).isTrue();
+    assertThat(verifier.verify(publicKeys, MESSAGE, signature)).isTrue();
+    assertThat(verifyCount).hasValue(1);
+  }
+
+  @Test
+  public void wrap_shouldNotRecordInvalidSignatures() {
+    final BLSSignatureVerifier verifier = cache.wrap(BLSSignatureVerifier.SIMPLE);
+    final List<BLSPublicKey> wrongKeys = List.of(KEY_PAIR_2.getPublicKey());
+
+    assertThat(verifier.verify(wrongKeys, MESSAGE, signature)).isFalse();
+    assertThat(cache.isVerified(wrongKeys, MESSAGE, signature)).isFalse();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  public void disabled_shouldNeverRecordSignatures() {
+    VerifiedSignatureCache.DISABLED.markVerified(publicKeys, MESSAGE, signature);
+    assertThat(VerifiedSignatureCache.DISABLED.isVerified(publicKeys, MESSAGE, signature))
+        .isFalse();
+  }
+}
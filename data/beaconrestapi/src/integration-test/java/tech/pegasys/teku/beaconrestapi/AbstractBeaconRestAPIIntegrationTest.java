@@ -33,6 +33,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.datastructures.util.DataStructureUtil;
+import tech.pegasys.teku.metrics.StubMetricsSystem;
 import tech.pegasys.teku.networking.eth2.Eth2Network;
 import tech.pegasys.teku.statetransition.blockimport.BlockImporter;
 import tech.pegasys.teku.storage.api.StorageQueryChannel;
@@ -81,7 +82,7 @@ public abstract class AbstractBeaconRestAPIIntegrationTest {
             validatorApiChannel,
             blockImporter);
 
-    beaconRestApi = new BeaconRestApi(dataProvider, config);
+    beaconRestApi = new BeaconRestApi(dataProvider, config, new StubMetricsSystem());
     beaconRestApi.start();
     client = new OkHttpClient();
   }
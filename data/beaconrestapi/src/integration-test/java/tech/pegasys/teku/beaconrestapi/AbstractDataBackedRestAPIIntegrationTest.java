@@ -41,12 +41,15 @@ import tech.pegasys.teku.bls.BLSKeyGenerator;
 import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.core.ChainBuilder;
 import tech.pegasys.teku.core.StateTransition;
+import tech.pegasys.teku.data.BlockProcessingRecordChannel;
 import tech.pegasys.teku.datastructures.blocks.BeaconBlockAndState;
 import tech.pegasys.teku.datastructures.blocks.SignedBlockAndState;
+import tech.pegasys.teku.metrics.StubMetricsSystem;
 import tech.pegasys.teku.networking.eth2.Eth2Network;
 import tech.pegasys.teku.provider.JsonProvider;
 import tech.pegasys.teku.statetransition.BeaconChainUtil;
 import tech.pegasys.teku.statetransition.blockimport.BlockImporter;
+import tech.pegasys.teku.statetransition.events.block.ImportedBlockChannel;
 import tech.pegasys.teku.statetransition.forkchoice.ForkChoice;
 import tech.pegasys.teku.storage.client.ChainUpdater;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
@@ -121,7 +124,12 @@ public abstract class AbstractDataBackedRestAPIIntegrationTest {
   }
 
   private void setupAndStartRestAPI(TekuConfiguration config) {
-    blockImporter = new BlockImporter(recentChainData, forkChoice, storageSystem.eventBus());
+    blockImporter =
+        new BlockImporter(
+            recentChainData,
+            forkChoice,
+            mock(ImportedBlockChannel.class),
+            mock(BlockProcessingRecordChannel.class));
     combinedChainDataClient = storageSystem.combinedChainDataClient();
     dataProvider =
         new DataProvider(
@@ -131,7 +139,7 @@ public abstract class AbstractDataBackedRestAPIIntegrationTest {
             syncService,
             validatorApiChannel,
             blockImporter);
-    beaconRestApi = new BeaconRestApi(dataProvider, config);
+    beaconRestApi = new BeaconRestApi(dataProvider, config, new StubMetricsSystem());
     beaconRestApi.start();
     client = new OkHttpClient.Builder().readTimeout(0, TimeUnit.SECONDS).build();
   }
@@ -33,11 +33,13 @@ import kotlin.text.Charsets;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.api.NetworkDataProvider;
 import tech.pegasys.teku.api.ValidatorDataProvider;
 import tech.pegasys.teku.beaconrestapi.handlers.admin.PutLogLevel;
+import tech.pegasys.teku.beaconrestapi.handlers.admin.PutStateTransitionProfiling;
 import tech.pegasys.teku.beaconrestapi.handlers.beacon.GetBlock;
 import tech.pegasys.teku.beaconrestapi.handlers.beacon.GetChainHead;
 import tech.pegasys.teku.beaconrestapi.handlers.beacon.GetCommittees;
@@ -73,7 +75,10 @@ public class BeaconRestApi {
   private static final Logger LOG = LogManager.getLogger();
   public static final String FILE_NOT_FOUND_HTML = "404.html";
 
-  private void initialize(final DataProvider dataProvider, final TekuConfiguration configuration) {
+  private void initialize(
+      final DataProvider dataProvider,
+      final TekuConfiguration configuration,
+      final MetricsSystem metricsSystem) {
     app.server().setServerHost(configuration.getRestApiInterface());
     app.server().setServerPort(configuration.getRestApiPort());
 
@@ -81,7 +86,10 @@ public class BeaconRestApi {
 
     addExceptionHandlers();
     addAdminHandlers();
-    addBeaconHandlers(dataProvider);
+    addBeaconHandlers(
+        dataProvider,
+        FinalizedResponseCache.create(
+            metricsSystem, configuration.getRestApiFinalizedCacheMaxSizeInMb()));
     addNetworkHandlers(dataProvider.getNetworkDataProvider());
     addNodeHandlers(dataProvider);
     addV1NodeHandlers(dataProvider);
@@ -134,7 +142,10 @@ public class BeaconRestApi {
         });
   }
 
-  public BeaconRestApi(final DataProvider dataProvider, final TekuConfiguration configuration) {
+  public BeaconRestApi(
+      final DataProvider dataProvider,
+      final TekuConfiguration configuration,
+      final MetricsSystem metricsSystem) {
     this.app =
         Javalin.create(
             config -> {
@@ -144,13 +155,16 @@ public class BeaconRestApi {
               config.logIfServerNotStarted = false;
               config.showJavalinBanner = false;
             });
-    initialize(dataProvider, configuration);
+    initialize(dataProvider, configuration, metricsSystem);
   }
 
   BeaconRestApi(
-      final DataProvider dataProvider, final TekuConfiguration configuration, final Javalin app) {
+      final DataProvider dataProvider,
+      final TekuConfiguration configuration,
+      final MetricsSystem metricsSystem,
+      final Javalin app) {
     this.app = app;
-    initialize(dataProvider, configuration);
+    initialize(dataProvider, configuration, metricsSystem);
   }
 
   public void start() {
@@ -187,6 +201,7 @@ public class BeaconRestApi {
 
   private void addAdminHandlers() {
     app.put(PutLogLevel.ROUTE, new PutLogLevel(jsonProvider));
+    app.put(PutStateTransitionProfiling.ROUTE, new PutStateTransitionProfiling(jsonProvider));
   }
 
   private void addV1NodeHandlers(final DataProvider provider) {
@@ -204,13 +219,14 @@ public class BeaconRestApi {
     app.get(GetVersion.ROUTE, new GetVersion(jsonProvider));
   }
 
-  private void addBeaconHandlers(final DataProvider dataProvider) {
+  private void addBeaconHandlers(
+      final DataProvider dataProvider, final FinalizedResponseCache responseCache) {
     final ChainDataProvider provider = dataProvider.getChainDataProvider();
-    app.get(GetBlock.ROUTE, new GetBlock(provider, jsonProvider));
+    app.get(GetBlock.ROUTE, new GetBlock(provider, jsonProvider, responseCache));
     app.get(GetChainHead.ROUTE, new GetChainHead(provider, jsonProvider));
     app.get(GetHead.ROUTE, new GetHead(provider, jsonProvider));
-    app.get(GetCommittees.ROUTE, new GetCommittees(provider, jsonProvider));
-    app.get(GetState.ROUTE, new GetState(provider, jsonProvider));
+    app.get(GetCommittees.ROUTE, new GetCommittees(provider, jsonProvider, responseCache));
+    app.get(GetState.ROUTE, new GetState(provider, jsonProvider, responseCache));
     app.get(GetStateRoot.ROUTE, new GetStateRoot(provider, jsonProvider));
 
     app.post(PostValidators.ROUTE, new PostValidators(provider, jsonProvider));
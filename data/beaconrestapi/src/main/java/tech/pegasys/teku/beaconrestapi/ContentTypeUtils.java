@@ -0,0 +1,39 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beaconrestapi;
+
+import io.javalin.core.util.Header;
+import io.javalin.http.Context;
+
+public class ContentTypeUtils {
+  public static final String APPLICATION_JSON = "application/json";
+  public static final String OCTET_STREAM = "application/octet-stream";
+
+  /** Returns true if the request's Accept header lists {@code application/octet-stream}. */
+  public static boolean isSszRequested(final Context ctx) {
+    final String accept = ctx.header(Header.ACCEPT);
+    if (accept == null) {
+      return false;
+    }
+    for (String mediaRange : accept.split(",", -1)) {
+      final int parametersStart = mediaRange.indexOf(';');
+      final String mediaType =
+          parametersStart < 0 ? mediaRange : mediaRange.substring(0, parametersStart);
+      if (mediaType.trim().equalsIgnoreCase(OCTET_STREAM)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
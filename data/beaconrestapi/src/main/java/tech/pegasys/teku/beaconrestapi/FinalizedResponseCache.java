@@ -0,0 +1,141 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beaconrestapi;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.metrics.TekuMetricCategory;
+
+/**
+ * Cache of serialized responses for finalized data, which can never change once it is available.
+ *
+ * <p>Entries are keyed by endpoint and canonical query parameters. The total size of the cached
+ * responses is bounded by {@code maxSizeInBytes}, evicting the least recently used entries first.
+ * Concurrent requests for the same key while it is being loaded share a single load.
+ */
+public class FinalizedResponseCache {
+  private static final long BYTES_PER_MB = 1024 * 1024;
+
+  private final long maxSizeInBytes;
+  private final Map<String, Bytes> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final Map<String, SafeFuture<Optional<Bytes>>> pendingLoads = new HashMap<>();
+  private long sizeInBytes = 0;
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+  private final Counter sharedLoadCounter;
+  private final Counter evictionCounter;
+
+  public FinalizedResponseCache(final MetricsSystem metricsSystem, final long maxSizeInBytes) {
+    this.maxSizeInBytes = maxSizeInBytes;
+    final LabelledMetric<Counter> requestCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.BEACON,
+            "rest_api_finalized_cache_requests_total",
+            "Counter recording lookups in the REST API finalized response cache",
+            "result");
+    hitCounter = requestCounter.labels("hit");
+    missCounter = requestCounter.labels("miss");
+    sharedLoadCounter = requestCounter.labels("shared");
+    evictionCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.BEACON,
+            "rest_api_finalized_cache_evictions_total",
+            "Counter recording entries evicted from the REST API finalized response cache");
+    metricsSystem.createGauge(
+        TekuMetricCategory.BEACON,
+        "rest_api_finalized_cache_size_bytes",
+        "Total size of the responses held in the REST API finalized response cache",
+        this::getSizeInBytes);
+  }
+
+  public static FinalizedResponseCache create(
+      final MetricsSystem metricsSystem, final int maxSizeInMb) {
+    return new FinalizedResponseCache(metricsSystem, maxSizeInMb * BYTES_PER_MB);
+  }
+
+  /**
+   * Returns the cached response for {@code key}, using {@code loader} to create it if required.
+   * Empty results are not cached.
+   */
+  public SafeFuture<Optional<Bytes>> get(
+      final String key, final Supplier<SafeFuture<Optional<Bytes>>> loader) {
+    if (maxSizeInBytes <= 0) {
+      return loader.get();
+    }
+    final SafeFuture<Optional<Bytes>> result;
+    synchronized (this) {
+      final Bytes cachedResponse = entries.get(key);
+      if (cachedResponse != null) {
+        hitCounter.inc();
+        return SafeFuture.completedFuture(Optional.of(cachedResponse));
+      }
+      final SafeFuture<Optional<Bytes>> pendingLoad = pendingLoads.get(key);
+      if (pendingLoad != null) {
+        sharedLoadCounter.inc();
+        return pendingLoad;
+      }
+      missCounter.inc();
+      result = new SafeFuture<>();
+      pendingLoads.put(key, result);
+    }
+
+    SafeFuture.ofComposed(loader::get)
+        .whenComplete(
+            (response, error) -> {
+              synchronized (this) {
+                pendingLoads.remove(key);
+                if (error == null && response.isPresent()) {
+                  add(key, response.get());
+                }
+              }
+            })
+        .propagateTo(result);
+    return result;
+  }
+
+  synchronized long getSizeInBytes() {
+    return sizeInBytes;
+  }
+
+  synchronized int size() {
+    return entries.size();
+  }
+
+  private void add(final String key, final Bytes response) {
+    if (response.size() > maxSizeInBytes) {
+      return;
+    }
+    final Bytes previous = entries.put(key, response);
+    if (previous != null) {
+      sizeInBytes -= previous.size();
+    }
+    sizeInBytes += response.size();
+    final Iterator<Bytes> iterator = entries.values().iterator();
+    while (sizeInBytes > maxSizeInBytes && iterator.hasNext()) {
+      sizeInBytes -= iterator.next().size();
+      iterator.remove();
+      evictionCounter.inc();
+    }
+  }
+}
@@ -15,10 +15,17 @@ package tech.pegasys.teku.beaconrestapi.handlers;
 
 import static javax.servlet.http.HttpServletResponse.SC_GONE;
 import static javax.servlet.http.HttpServletResponse.SC_NOT_FOUND;
+import static tech.pegasys.teku.beaconrestapi.CacheControlUtils.CACHE_FINALIZED;
 
+import io.javalin.core.util.Header;
 import io.javalin.http.Context;
 import io.javalin.http.Handler;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.Optional;
+import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.beaconrestapi.FinalizedResponseCache;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.provider.JsonProvider;
 
@@ -72,6 +79,70 @@ public abstract class AbstractHandler implements Handler {
             }));
   }
 
+  protected <T> void handlePossiblyMissingStreamingResult(
+      final Context ctx,
+      SafeFuture<Optional<T>> future,
+      StreamingResultProcessor<T> resultProcessor) {
+    handleOptionalStreamingResult(ctx, future, resultProcessor, SC_NOT_FOUND);
+  }
+
+  protected <T> void handlePossiblyGoneStreamingResult(
+      final Context ctx,
+      SafeFuture<Optional<T>> future,
+      StreamingResultProcessor<T> resultProcessor) {
+    handleOptionalStreamingResult(ctx, future, resultProcessor, SC_GONE);
+  }
+
+  protected <T> void handleOptionalStreamingResult(
+      final Context ctx,
+      SafeFuture<Optional<T>> future,
+      StreamingResultProcessor<T> resultProcessor,
+      final int missingStatus) {
+    ctx.result(
+        future.thenApplyChecked(
+            result -> {
+              if (result.isPresent()) {
+                return resultProcessor.process(ctx, result.get()).orElse(null);
+              } else {
+                ctx.status(missingStatus);
+                return null;
+              }
+            }));
+  }
+
+  /**
+   * Responds with the cached serialized response for {@code key}, loading it through {@code cache}
+   * if required. Must only be used for finalized data.
+   */
+  protected void handleFinalizedCachedResult(
+      final Context ctx,
+      final FinalizedResponseCache cache,
+      final String key,
+      final String contentType,
+      final int missingStatus,
+      final Supplier<SafeFuture<Optional<Bytes>>> loader) {
+    ctx.result(
+        cache
+            .get(key, loader)
+            .thenApply(
+                result -> {
+                  if (result.isPresent()) {
+                    ctx.header(Header.CACHE_CONTROL, CACHE_FINALIZED);
+                    ctx.contentType(contentType);
+                    return new ByteArrayInputStream(result.get().toArrayUnsafe());
+                  } else {
+                    ctx.status(missingStatus);
+                    return null;
+                  }
+                }));
+  }
+
+  @FunctionalInterface
+  public interface StreamingResultProcessor<T> {
+    // Process result, returning an optional stream which is written as the response body
+    Optional<InputStream> process(final Context context, final T result) throws Exception;
+  }
+
   @FunctionalInterface
   public interface ResultProcessor<T> {
     // Process result, returning an optional serialized response
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beaconrestapi.handlers.admin;
+
+import static javax.servlet.http.HttpServletResponse.SC_BAD_REQUEST;
+import static javax.servlet.http.HttpServletResponse.SC_NO_CONTENT;
+import static tech.pegasys.teku.beaconrestapi.RestApiConstants.INVALID_BODY_SUPPLIED;
+import static tech.pegasys.teku.beaconrestapi.RestApiConstants.RES_BAD_REQUEST;
+import static tech.pegasys.teku.beaconrestapi.RestApiConstants.RES_INTERNAL_ERROR;
+import static tech.pegasys.teku.beaconrestapi.RestApiConstants.RES_NO_CONTENT;
+import static tech.pegasys.teku.beaconrestapi.RestApiConstants.TAG_ADMIN;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.javalin.http.Context;
+import io.javalin.http.Handler;
+import io.javalin.plugin.openapi.annotations.HttpMethod;
+import io.javalin.plugin.openapi.annotations.OpenApi;
+import io.javalin.plugin.openapi.annotations.OpenApiContent;
+import io.javalin.plugin.openapi.annotations.OpenApiRequestBody;
+import io.javalin.plugin.openapi.annotations.OpenApiResponse;
+import tech.pegasys.teku.api.schema.StateTransitionProfiling;
+import tech.pegasys.teku.beaconrestapi.schema.BadRequest;
+import tech.pegasys.teku.core.profiling.StateTransitionProfiler;
+import tech.pegasys.teku.provider.JsonProvider;
+
+public class PutStateTransitionProfiling implements Handler {
+
+  public static final String ROUTE = "/admin/state_transition_profiling";
+
+  private final JsonProvider jsonProvider;
+
+  public PutStateTransitionProfiling(final JsonProvider jsonProvider) {
+    this.jsonProvider = jsonProvider;
+  }
+
+  @OpenApi(
+      path = ROUTE,
+      method = HttpMethod.PUT,
+      summary = "Enables or disables state transition profiling without restarting.",
+      tags = {TAG_ADMIN},
+      requestBody =
+          @OpenApiRequestBody(
+              content = {@OpenApiContent(from = StateTransitionProfiling.class)},
+              description = "```\n{\n  \"enabled\": (Boolean)\n}\n```"),
+      description =
+          "Enables or disables timing of each state transition phase. While enabled, phase timings are published under the state_transition metrics category.",
+      responses = {
+        @OpenApiResponse(
+            status = RES_NO_CONTENT,
+            description = "The profiling setting was accepted and applied"),
+        @OpenApiResponse(status = RES_BAD_REQUEST, description = INVALID_BODY_SUPPLIED),
+        @OpenApiResponse(status = RES_INTERNAL_ERROR)
+      })
+  @Override
+  public void handle(final Context ctx) throws Exception {
+    try {
+      final StateTransitionProfiling params =
+          jsonProvider.jsonToObject(ctx.body(), StateTransitionProfiling.class);
+      StateTransitionProfiler.setEnabled(params.isEnabled());
+      ctx.status(SC_NO_CONTENT);
+    } catch (final IllegalArgumentException | JsonProcessingException e) {
+      ctx.result(jsonProvider.objectToJSON(new BadRequest(e.getMessage())));
+      ctx.status(SC_BAD_REQUEST);
+    }
+  }
+}
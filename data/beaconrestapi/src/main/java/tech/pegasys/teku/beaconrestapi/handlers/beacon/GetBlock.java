@@ -13,9 +13,13 @@
 
 package tech.pegasys.teku.beaconrestapi.handlers.beacon;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static javax.servlet.http.HttpServletResponse.SC_BAD_REQUEST;
 import static javax.servlet.http.HttpServletResponse.SC_NOT_FOUND;
-import static tech.pegasys.teku.beaconrestapi.CacheControlUtils.getMaxAgeForSignedBlock;
+import static tech.pegasys.teku.beaconrestapi.CacheControlUtils.getMaxAgeForSlot;
+import static tech.pegasys.teku.beaconrestapi.ContentTypeUtils.APPLICATION_JSON;
+import static tech.pegasys.teku.beaconrestapi.ContentTypeUtils.OCTET_STREAM;
+import static tech.pegasys.teku.beaconrestapi.ContentTypeUtils.isSszRequested;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.EPOCH;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.EPOCH_QUERY_DESCRIPTION;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.RES_BAD_REQUEST;
@@ -40,16 +44,24 @@ import io.javalin.plugin.openapi.annotations.OpenApi;
 import io.javalin.plugin.openapi.annotations.OpenApiContent;
 import io.javalin.plugin.openapi.annotations.OpenApiParam;
 import io.javalin.plugin.openapi.annotations.OpenApiResponse;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.response.GetBlockResponse;
+import tech.pegasys.teku.beaconrestapi.FinalizedResponseCache;
+import tech.pegasys.teku.beaconrestapi.handlers.AbstractHandler;
 import tech.pegasys.teku.beaconrestapi.schema.BadRequest;
+import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.datastructures.util.SimpleOffsetSerializer;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.provider.JsonProvider;
 
-public class GetBlock implements Handler {
+public class GetBlock extends AbstractHandler implements Handler {
 
   public static final String ROUTE = "/beacon/block";
   static final String TOO_MANY_PARAMETERS =
@@ -58,12 +70,16 @@ public class GetBlock implements Handler {
       "No parameters were provided; please supply slot, epoch, or root.";
   static final String NO_VALID_PARAMETER =
       "An invalid parameter was specified; please supply slot, epoch, or root.";
-  private final JsonProvider jsonProvider;
   private final ChainDataProvider provider;
+  private final FinalizedResponseCache responseCache;
 
-  public GetBlock(final ChainDataProvider provider, final JsonProvider jsonProvider) {
-    this.jsonProvider = jsonProvider;
+  public GetBlock(
+      final ChainDataProvider provider,
+      final JsonProvider jsonProvider,
+      final FinalizedResponseCache responseCache) {
+    super(jsonProvider);
     this.provider = provider;
+    this.responseCache = responseCache;
   }
 
   @OpenApi(
@@ -77,7 +93,10 @@ public class GetBlock implements Handler {
         @OpenApiParam(name = ROOT, description = ROOT_QUERY_DESCRIPTION)
       },
       description =
-          "Returns the beacon chain block that matches the specified epoch, slot, or block root.",
+          "Returns the beacon chain block that matches the specified epoch, slot, or block root.\n\n"
+              + "Returns the SSZ encoded signed block if the request accepts `"
+              + OCTET_STREAM
+              + "`.",
       responses = {
         @OpenApiResponse(status = RES_OK, content = @OpenApiContent(from = GetBlockResponse.class)),
         @OpenApiResponse(status = RES_BAD_REQUEST, description = "Invalid parameter supplied"),
@@ -93,44 +112,84 @@ public class GetBlock implements Handler {
         throw new IllegalArgumentException(TOO_MANY_PARAMETERS);
       }
 
+      final SafeFuture<Optional<SignedBeaconBlock>> future;
       if (queryParamMap.containsKey(ROOT)) {
         final Bytes32 blockRoot = getParameterValueAsBytes32(queryParamMap, ROOT);
-
-        ctx.result(
-            provider
-                .getBlockByBlockRoot(blockRoot)
-                .thenApplyChecked(block -> handleResponseContext(ctx, block)));
-        return;
+        future = provider.getInternalBlockByBlockRoot(blockRoot);
+      } else {
+        final UnsignedLong slot;
+        if (queryParamMap.containsKey(EPOCH)) {
+          UnsignedLong epoch = getParameterValueAsUnsignedLong(queryParamMap, EPOCH);
+          slot = compute_start_slot_at_epoch(epoch);
+        } else if (queryParamMap.containsKey(SLOT)) {
+          slot = getParameterValueAsUnsignedLong(queryParamMap, SLOT);
+        } else {
+          throw new IllegalArgumentException(NO_VALID_PARAMETER);
+        }
+        if (provider.isFinalized(slot)) {
+          handleFinalizedBlockBySlot(ctx, slot);
+          return;
+        }
+        future = provider.getInternalBlockBySlot(slot);
       }
 
-      final UnsignedLong slot;
-      if (queryParamMap.containsKey(EPOCH)) {
-        UnsignedLong epoch = getParameterValueAsUnsignedLong(queryParamMap, EPOCH);
-        slot = compute_start_slot_at_epoch(epoch);
-      } else if (queryParamMap.containsKey(SLOT)) {
-        slot = getParameterValueAsUnsignedLong(queryParamMap, SLOT);
+      if (isSszRequested(ctx)) {
+        ctx.result(future.thenApply(block -> handleSszResponseContext(ctx, block)));
       } else {
-        throw new IllegalArgumentException(NO_VALID_PARAMETER);
+        ctx.result(future.thenApplyChecked(block -> handleResponseContext(ctx, block)));
       }
-
-      ctx.result(
-          provider
-              .getBlockBySlot(slot)
-              .thenApplyChecked(block -> handleResponseContext(ctx, block)));
-
     } catch (final IllegalArgumentException e) {
       ctx.status(SC_BAD_REQUEST);
       ctx.result(jsonProvider.objectToJSON(new BadRequest(e.getMessage())));
     }
   }
 
-  private String handleResponseContext(Context ctx, Optional<GetBlockResponse> blockOptional)
+  private void handleFinalizedBlockBySlot(final Context ctx, final UnsignedLong slot) {
+    final boolean sszRequested = isSszRequested(ctx);
+    handleFinalizedCachedResult(
+        ctx,
+        responseCache,
+        ROUTE + "?" + SLOT + "=" + slot + (sszRequested ? "#ssz" : "#json"),
+        sszRequested ? OCTET_STREAM : APPLICATION_JSON,
+        SC_NOT_FOUND,
+        () ->
+            provider
+                .getInternalBlockBySlot(slot)
+                .thenApplyChecked(
+                    maybeBlock -> {
+                      if (maybeBlock.isEmpty()) {
+                        return Optional.<Bytes>empty();
+                      }
+                      final SignedBeaconBlock block = maybeBlock.get();
+                      return Optional.of(
+                          sszRequested
+                              ? SimpleOffsetSerializer.serialize(block)
+                              : Bytes.wrap(
+                                  jsonProvider
+                                      .objectToJSON(new GetBlockResponse(block))
+                                      .getBytes(UTF_8)));
+                    }));
+  }
+
+  private String handleResponseContext(Context ctx, Optional<SignedBeaconBlock> blockOptional)
       throws JsonProcessingException {
     if (blockOptional.isPresent()) {
-      GetBlockResponse response = blockOptional.get();
-      ctx.header(
-          Header.CACHE_CONTROL, getMaxAgeForSignedBlock(provider, response.signedBeaconBlock));
-      return jsonProvider.objectToJSON(response);
+      final SignedBeaconBlock block = blockOptional.get();
+      ctx.header(Header.CACHE_CONTROL, getMaxAgeForSlot(provider, block.getSlot()));
+      return jsonProvider.objectToJSON(new GetBlockResponse(block));
+    } else {
+      ctx.status(SC_NOT_FOUND);
+      return null;
+    }
+  }
+
+  private InputStream handleSszResponseContext(
+      Context ctx, Optional<SignedBeaconBlock> blockOptional) {
+    if (blockOptional.isPresent()) {
+      final SignedBeaconBlock block = blockOptional.get();
+      ctx.header(Header.CACHE_CONTROL, getMaxAgeForSlot(provider, block.getSlot()));
+      ctx.contentType(OCTET_STREAM);
+      return new ByteArrayInputStream(SimpleOffsetSerializer.serialize(block).toArrayUnsafe());
     } else {
       ctx.status(SC_NOT_FOUND);
       return null;
@@ -13,8 +13,11 @@
 
 package tech.pegasys.teku.beaconrestapi.handlers.beacon;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static javax.servlet.http.HttpServletResponse.SC_BAD_REQUEST;
+import static javax.servlet.http.HttpServletResponse.SC_GONE;
 import static tech.pegasys.teku.beaconrestapi.CacheControlUtils.getMaxAgeForSlot;
+import static tech.pegasys.teku.beaconrestapi.ContentTypeUtils.APPLICATION_JSON;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.EPOCH;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.EPOCH_QUERY_DESCRIPTION;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.NO_CONTENT_PRE_GENESIS;
@@ -36,8 +39,10 @@ import io.javalin.plugin.openapi.annotations.OpenApiParam;
 import io.javalin.plugin.openapi.annotations.OpenApiResponse;
 import java.util.List;
 import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.schema.Committee;
+import tech.pegasys.teku.beaconrestapi.FinalizedResponseCache;
 import tech.pegasys.teku.beaconrestapi.handlers.AbstractHandler;
 import tech.pegasys.teku.beaconrestapi.schema.BadRequest;
 import tech.pegasys.teku.datastructures.util.BeaconStateUtil;
@@ -49,10 +54,15 @@ public class GetCommittees extends AbstractHandler implements Handler {
   public static final String ROUTE = "/beacon/committees";
 
   private final ChainDataProvider provider;
+  private final FinalizedResponseCache responseCache;
 
-  public GetCommittees(ChainDataProvider provider, JsonProvider jsonProvider) {
+  public GetCommittees(
+      final ChainDataProvider provider,
+      final JsonProvider jsonProvider,
+      final FinalizedResponseCache responseCache) {
     super(jsonProvider);
     this.provider = provider;
+    this.responseCache = responseCache;
   }
 
   @OpenApi(
@@ -76,12 +86,29 @@ public class GetCommittees extends AbstractHandler implements Handler {
   public void handle(Context ctx) throws Exception {
     try {
       UnsignedLong epoch = getParameterValueAsUnsignedLong(ctx.queryParamMap(), EPOCH);
-      final SafeFuture<Optional<List<Committee>>> future = provider.getCommitteesAtEpoch(epoch);
       UnsignedLong slot = BeaconStateUtil.compute_start_slot_at_epoch(epoch);
       ctx.header(Header.CACHE_CONTROL, getMaxAgeForSlot(provider, slot));
       if (provider.isFinalized(slot)) {
-        handlePossiblyGoneResult(ctx, future);
+        handleFinalizedCachedResult(
+            ctx,
+            responseCache,
+            ROUTE + "?" + EPOCH + "=" + epoch,
+            APPLICATION_JSON,
+            SC_GONE,
+            () ->
+                provider
+                    .getCommitteesAtEpoch(epoch)
+                    .thenApplyChecked(
+                        maybeCommittees ->
+                            maybeCommittees.isEmpty()
+                                ? Optional.<Bytes>empty()
+                                : Optional.of(
+                                    Bytes.wrap(
+                                        jsonProvider
+                                            .objectToJSON(maybeCommittees.get())
+                                            .getBytes(UTF_8)))));
       } else {
+        final SafeFuture<Optional<List<Committee>>> future = provider.getCommitteesAtEpoch(epoch);
         handlePossiblyMissingResult(ctx, future);
       }
     } catch (final IllegalArgumentException e) {
@@ -14,7 +14,10 @@
 package tech.pegasys.teku.beaconrestapi.handlers.beacon;
 
 import static javax.servlet.http.HttpServletResponse.SC_BAD_REQUEST;
-import static tech.pegasys.teku.beaconrestapi.CacheControlUtils.getMaxAgeForBeaconState;
+import static javax.servlet.http.HttpServletResponse.SC_GONE;
+import static tech.pegasys.teku.beaconrestapi.CacheControlUtils.getMaxAgeForSlot;
+import static tech.pegasys.teku.beaconrestapi.ContentTypeUtils.OCTET_STREAM;
+import static tech.pegasys.teku.beaconrestapi.ContentTypeUtils.isSszRequested;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.NO_CONTENT_PRE_GENESIS;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.RES_BAD_REQUEST;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.RES_INTERNAL_ERROR;
@@ -31,7 +34,6 @@ import static tech.pegasys.teku.beaconrestapi.RestApiConstants.TAG_BEACON;
 import static tech.pegasys.teku.beaconrestapi.SingleQueryParameterUtils.getParameterValueAsBytes32;
 import static tech.pegasys.teku.beaconrestapi.SingleQueryParameterUtils.getParameterValueAsUnsignedLong;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.primitives.UnsignedLong;
 import io.javalin.core.util.Header;
 import io.javalin.http.Context;
@@ -41,13 +43,18 @@ import io.javalin.plugin.openapi.annotations.OpenApi;
 import io.javalin.plugin.openapi.annotations.OpenApiContent;
 import io.javalin.plugin.openapi.annotations.OpenApiParam;
 import io.javalin.plugin.openapi.annotations.OpenApiResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.schema.BeaconState;
+import tech.pegasys.teku.beaconrestapi.FinalizedResponseCache;
 import tech.pegasys.teku.beaconrestapi.handlers.AbstractHandler;
 import tech.pegasys.teku.beaconrestapi.schema.BadRequest;
+import tech.pegasys.teku.datastructures.util.SimpleOffsetSerializer;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.provider.JsonProvider;
 
@@ -55,10 +62,15 @@ public class GetState extends AbstractHandler implements Handler {
   public static final String ROUTE = "/beacon/state";
 
   private final ChainDataProvider provider;
+  private final FinalizedResponseCache responseCache;
 
-  public GetState(final ChainDataProvider provider, final JsonProvider jsonProvider) {
+  public GetState(
+      final ChainDataProvider provider,
+      final JsonProvider jsonProvider,
+      final FinalizedResponseCache responseCache) {
     super(jsonProvider);
     this.provider = provider;
+    this.responseCache = responseCache;
   }
 
   @OpenApi(
@@ -71,7 +83,11 @@ public class GetState extends AbstractHandler implements Handler {
         @OpenApiParam(name = SLOT, description = SLOT_QUERY_DESCRIPTION),
         @OpenApiParam(name = STATE_ROOT, description = STATE_ROOT_QUERY_DESCRIPTION)
       },
-      description = "Returns the beacon chain state that matches the specified slot or root.",
+      description =
+          "Returns the beacon chain state that matches the specified slot or root.\n\n"
+              + "Returns the SSZ encoded state if the request accepts `"
+              + OCTET_STREAM
+              + "`.",
       responses = {
         @OpenApiResponse(status = RES_OK, content = @OpenApiContent(from = BeaconState.class)),
         @OpenApiResponse(
@@ -85,20 +101,36 @@ public class GetState extends AbstractHandler implements Handler {
   public void handle(Context ctx) throws Exception {
     try {
       final Map<String, List<String>> parameters = ctx.queryParamMap();
-      final SafeFuture<Optional<BeaconState>> future;
+      final SafeFuture<Optional<tech.pegasys.teku.datastructures.state.BeaconState>> future;
       if (parameters.size() == 0) {
         throw new IllegalArgumentException("No query parameters specified");
       }
 
       boolean isFinalizedState = false;
       if (parameters.containsKey(ROOT)) {
-        future = provider.getStateByBlockRoot(getParameterValueAsBytes32(parameters, ROOT));
+        future = provider.getInternalStateByBlockRoot(getParameterValueAsBytes32(parameters, ROOT));
       } else if (parameters.containsKey(SLOT)) {
         final UnsignedLong slot = getParameterValueAsUnsignedLong(parameters, SLOT);
-        future = provider.getStateAtSlot(getParameterValueAsUnsignedLong(parameters, SLOT));
         isFinalizedState = provider.isFinalized(slot);
+        if (isFinalizedState && isSszRequested(ctx)) {
+          // Only the compact SSZ form is cached, JSON states are too large to hold in memory
+          handleFinalizedCachedResult(
+              ctx,
+              responseCache,
+              ROUTE + "?" + SLOT + "=" + slot,
+              OCTET_STREAM,
+              SC_GONE,
+              () ->
+                  provider
+                      .getInternalStateAtSlot(slot)
+                      .thenApply(maybeState -> maybeState.map(SimpleOffsetSerializer::serialize)));
+          return;
+        }
+        future = provider.getInternalStateAtSlot(slot);
       } else if (parameters.containsKey(STATE_ROOT)) {
-        future = provider.getStateByStateRoot(getParameterValueAsBytes32(parameters, STATE_ROOT));
+        future =
+            provider.getInternalStateByStateRoot(
+                getParameterValueAsBytes32(parameters, STATE_ROOT));
       } else {
         ctx.result(
             jsonProvider.objectToJSON(
@@ -106,10 +138,13 @@ public class GetState extends AbstractHandler implements Handler {
         ctx.status(SC_BAD_REQUEST);
         return;
       }
+      final boolean sszRequested = isSszRequested(ctx);
       if (isFinalizedState) {
-        this.handlePossiblyGoneResult(ctx, future, this::handleResult);
+        this.handlePossiblyGoneStreamingResult(
+            ctx, future, (context, state) -> handleResult(context, state, sszRequested));
       } else {
-        this.handlePossiblyMissingResult(ctx, future, this::handleResult);
+        this.handlePossiblyMissingStreamingResult(
+            ctx, future, (context, state) -> handleResult(context, state, sszRequested));
       }
     } catch (final IllegalArgumentException e) {
       ctx.result(jsonProvider.objectToJSON(new BadRequest(e.getMessage())));
@@ -117,9 +152,17 @@ public class GetState extends AbstractHandler implements Handler {
     }
   }
 
-  private Optional<String> handleResult(Context ctx, final BeaconState beaconState)
-      throws JsonProcessingException {
-    ctx.header(Header.CACHE_CONTROL, getMaxAgeForBeaconState(provider, beaconState));
-    return Optional.of(jsonProvider.objectToJSON(beaconState));
+  private Optional<InputStream> handleResult(
+      Context ctx,
+      final tech.pegasys.teku.datastructures.state.BeaconState beaconState,
+      final boolean sszRequested)
+      throws IOException {
+    ctx.header(Header.CACHE_CONTROL, getMaxAgeForSlot(provider, beaconState.getSlot()));
+    if (sszRequested) {
+      ctx.contentType(OCTET_STREAM);
+      return Optional.of(
+          new ByteArrayInputStream(SimpleOffsetSerializer.serialize(beaconState).toArrayUnsafe()));
+    }
+    return Optional.of(BeaconState.toJsonStream(jsonProvider.streamingJson(), beaconState));
   }
 }
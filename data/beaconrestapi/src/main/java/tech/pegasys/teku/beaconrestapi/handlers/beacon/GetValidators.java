@@ -16,7 +16,7 @@ package tech.pegasys.teku.beaconrestapi.handlers.beacon;
 import static javax.servlet.http.HttpServletResponse.SC_BAD_REQUEST;
 import static tech.pegasys.teku.api.schema.BeaconValidators.PAGE_SIZE_DEFAULT;
 import static tech.pegasys.teku.api.schema.BeaconValidators.PAGE_TOKEN_DEFAULT;
-import static tech.pegasys.teku.beaconrestapi.CacheControlUtils.getMaxAgeForBeaconState;
+import static tech.pegasys.teku.beaconrestapi.CacheControlUtils.getMaxAgeForSlot;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.ACTIVE;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.EPOCH;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.EPOCH_QUERY_DESCRIPTION;
@@ -44,10 +44,10 @@ import java.util.Map;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.api.ChainDataProvider;
-import tech.pegasys.teku.api.schema.BeaconState;
 import tech.pegasys.teku.api.schema.BeaconValidators;
 import tech.pegasys.teku.beaconrestapi.handlers.AbstractHandler;
 import tech.pegasys.teku.beaconrestapi.schema.BadRequest;
+import tech.pegasys.teku.datastructures.state.BeaconState;
 import tech.pegasys.teku.datastructures.util.BeaconStateUtil;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.provider.JsonProvider;
@@ -119,11 +119,11 @@ public class GetValidators extends AbstractHandler implements Handler {
         UnsignedLong epoch = getParameterValueAsUnsignedLong(parameters, EPOCH);
         UnsignedLong slot = BeaconStateUtil.compute_start_slot_at_epoch(epoch);
         isFinalized = chainDataProvider.isFinalized(slot);
-        future = chainDataProvider.getStateAtSlot(slot);
+        future = chainDataProvider.getInternalStateAtSlot(slot);
       } else {
         Bytes32 blockRoot =
             chainDataProvider.getBestBlockRoot().orElseThrow(ChainDataUnavailableException::new);
-        future = chainDataProvider.getStateByBlockRoot(blockRoot);
+        future = chainDataProvider.getInternalStateByBlockRoot(blockRoot);
       }
 
       if (isFinalized) {
@@ -142,8 +142,10 @@ public class GetValidators extends AbstractHandler implements Handler {
   private final ResultProcessor<BeaconState> getResultProcessor(
       final boolean activeOnly, final int pageSize, final int pageToken) {
     return (ctx, state) -> {
-      final BeaconValidators result = new BeaconValidators(state, activeOnly, pageSize, pageToken);
-      ctx.header(Header.CACHE_CONTROL, getMaxAgeForBeaconState(chainDataProvider, state));
+      final BeaconValidators result =
+          new BeaconValidators(
+              state, activeOnly, BeaconStateUtil.get_current_epoch(state), pageSize, pageToken);
+      ctx.header(Header.CACHE_CONTROL, getMaxAgeForSlot(chainDataProvider, state.getSlot()));
       return Optional.of(jsonProvider.objectToJSON(result));
     };
   }
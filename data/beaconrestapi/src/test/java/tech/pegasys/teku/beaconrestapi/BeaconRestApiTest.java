@@ -21,7 +21,6 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.google.common.eventbus.EventBus;
 import io.javalin.Javalin;
 import io.javalin.core.JavalinServer;
 import org.junit.jupiter.api.BeforeEach;
@@ -46,6 +45,7 @@ import tech.pegasys.teku.beaconrestapi.handlers.node.GetVersion;
 import tech.pegasys.teku.beaconrestapi.handlers.v1.node.GetIdentity;
 import tech.pegasys.teku.beaconrestapi.handlers.validator.PostBlock;
 import tech.pegasys.teku.beaconrestapi.handlers.validator.PostDuties;
+import tech.pegasys.teku.metrics.StubMetricsSystem;
 import tech.pegasys.teku.statetransition.blockimport.BlockImporter;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
 import tech.pegasys.teku.storage.client.MemoryOnlyRecentChainData;
@@ -54,7 +54,7 @@ import tech.pegasys.teku.sync.SyncService;
 import tech.pegasys.teku.util.config.TekuConfiguration;
 
 class BeaconRestApiTest {
-  private final RecentChainData storageClient = MemoryOnlyRecentChainData.create(new EventBus());
+  private final RecentChainData storageClient = MemoryOnlyRecentChainData.create();
   private final CombinedChainDataClient combinedChainDataClient =
       mock(CombinedChainDataClient.class);
   private final JavalinServer server = mock(JavalinServer.class);
@@ -72,6 +72,7 @@ class BeaconRestApiTest {
         new DataProvider(
             storageClient, combinedChainDataClient, null, syncService, null, blockImporter),
         config,
+        new StubMetricsSystem(),
         app);
   }
 
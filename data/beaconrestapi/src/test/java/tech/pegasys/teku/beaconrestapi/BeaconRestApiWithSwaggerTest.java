@@ -20,7 +20,6 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.google.common.eventbus.EventBus;
 import io.javalin.Javalin;
 import io.javalin.core.JavalinServer;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,7 +33,7 @@ import tech.pegasys.teku.sync.SyncService;
 import tech.pegasys.teku.util.config.TekuConfiguration;
 
 public class BeaconRestApiWithSwaggerTest {
-  private final RecentChainData storageClient = MemoryOnlyRecentChainData.create(new EventBus());
+  private final RecentChainData storageClient = MemoryOnlyRecentChainData.create();
   private final CombinedChainDataClient combinedChainDataClient =
       mock(CombinedChainDataClient.class);
   private final JavalinServer server = mock(JavalinServer.class);
@@ -52,6 +51,7 @@ public class BeaconRestApiWithSwaggerTest {
         new DataProvider(
             storageClient, combinedChainDataClient, null, syncService, null, blockImporter),
         config,
+        new StubMetricsSystem(),
         app);
   }
 
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beaconrestapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.metrics.StubCounter;
+import tech.pegasys.teku.metrics.StubMetricsSystem;
+import tech.pegasys.teku.metrics.TekuMetricCategory;
+
+public class FinalizedResponseCacheTest {
+  private static final String KEY = "/beacon/state?slot=1";
+
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final FinalizedResponseCache cache = new FinalizedResponseCache(metricsSystem, 100);
+
+  @Test
+  public void shouldReturnCachedResponseWithoutLoadingAgain() {
+    final Bytes response = Bytes.random(10);
+    final CountingLoader loader = new CountingLoader(Optional.of(response));
+
+    assertThat(cache.get(KEY, loader)).isCompletedWithValue(Optional.of(response));
+    assertThat(cache.get(KEY, loader)).isCompletedWithValue(Optional.of(response));
+
+    assertThat(loader.calls.get()).isEqualTo(1);
+    assertThat(getRequestCounter().getValue("miss")).isEqualTo(1);
+    assertThat(getRequestCounter().getValue("hit")).isEqualTo(1);
+    assertThat(cache.getSizeInBytes()).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldShareLoadBetweenConcurrentRequests() {
+    final SafeFuture<Optional<Bytes>> pendingLoad = new SafeFuture<>();
+    final AtomicInteger calls = new AtomicInteger();
+    final Supplier<SafeFuture<Optional<Bytes>>> loader =
+        () -> {
+          calls.incrementAndGet();
+          return pendingLoad;
+        };
+
+    final SafeFuture<Optional<Bytes>> result1 = cache.get(KEY, loader);
+    final SafeFuture<Optional<Bytes>> result2 = cache.get(KEY, loader);
+    assertThat(result1).isNotDone();
+    assertThat(result2).isNotDone();
+
+    final Bytes response = Bytes.random(10);
+    pendingLoad.complete(Optional.of(response));
+
+    assertThat(result1).isCompletedWithValue(Optional.of(response));
+    assertThat(result2).isCompletedWithValue(Optional.of(response));
+    assertThat(calls.get()).isEqualTo(1);
+    assertThat(getRequestCounter().getValue("shared")).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldNotCacheEmptyResponses() {
+    final CountingLoader loader = new CountingLoader(Optional.empty());
+
+    assertThat(cache.get(KEY, loader)).isCompletedWithValue(Optional.empty());
+    assertThat(cache.get(KEY, loader)).isCompletedWithValue(Optional.empty());
+
+    assertThat(loader.calls.get()).isEqualTo(2);
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  public void shouldNotCacheFailedLoads() {
+    final SafeFuture<Optional<Bytes>> result =
+        cache.get(KEY, () -> SafeFuture.failedFuture(new IllegalStateException("Oops")));
+    assertThat(result).isCompletedExceptionally();
+
+    final Bytes response = Bytes.random(10);
+    assertThat(cache.get(KEY, new CountingLoader(Optional.of(response))))
+        .isCompletedWithValue(Optional.of(response));
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedEntriesWhenFull() {
+    cache.get("a", new CountingLoader(Optional.of(Bytes.random(40)))).join();
+    cache.get("b", new CountingLoader(Optional.of(Bytes.random(40)))).join();
+    // Access "a" so "b" becomes the least recently used entry
+    cache.get("a", new CountingLoader(Optional.empty())).join();
+    cache.get("c", new CountingLoader(Optional.of(Bytes.random(40)))).join();
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.getSizeInBytes()).isEqualTo(80);
+    assertThat(
+            metricsSystem
+                .getGauge(TekuMetricCategory.BEACON, "rest_api_finalized_cache_size_bytes")
+                .getValue())
+        .isEqualTo(80.0);
+    assertThat(
+            metricsSystem
+                .getCounter(TekuMetricCategory.BEACON, "rest_api_finalized_cache_evictions_total")
+                .getValue())
+        .isEqualTo(1);
+
+    final CountingLoader loader = new CountingLoader(Optional.empty());
+    assertThat(cache.get("b", loader)).isCompletedWithValue(Optional.empty());
+    assertThat(loader.calls.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldNotCacheResponsesLargerThanMaxSize() {
+    final CountingLoader loader = new CountingLoader(Optional.of(Bytes.random(101)));
+
+    cache.get(KEY, loader).join();
+    cache.get(KEY, loader).join();
+
+    assertThat(loader.calls.get()).isEqualTo(2);
+    assertThat(cache.getSizeInBytes()).isZero();
+  }
+
+  @Test
+  public void shouldAlwaysLoadWhenDisabled() {
+    final FinalizedResponseCache disabledCache =
+        FinalizedResponseCache.create(new StubMetricsSystem(), 0);
+    final CountingLoader loader = new CountingLoader(Optional.of(Bytes.random(10)));
+
+    disabledCache.get(KEY, loader).join();
+    disabledCache.get(KEY, loader).join();
+
+    assertThat(loader.calls.get()).isEqualTo(2);
+    assertThat(disabledCache.size()).isZero();
+  }
+
+  private StubCounter getRequestCounter() {
+    return metricsSystem.getCounter(
+        TekuMetricCategory.BEACON, "rest_api_finalized_cache_requests_total");
+  }
+
+  private static class CountingLoader implements Supplier<SafeFuture<Optional<Bytes>>> {
+    private final AtomicInteger calls = new AtomicInteger();
+    private final Optional<Bytes> response;
+
+    private CountingLoader(final Optional<Bytes> response) {
+      this.response = response;
+    }
+
+    @Override
+    public SafeFuture<Optional<Bytes>> get() {
+      calls.incrementAndGet();
+      return SafeFuture.completedFuture(response);
+    }
+  }
+}
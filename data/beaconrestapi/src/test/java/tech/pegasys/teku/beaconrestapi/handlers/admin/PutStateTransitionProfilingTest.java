@@ -0,0 +1,67 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beaconrestapi.handlers.admin;
+
+import static javax.servlet.http.HttpServletResponse.SC_BAD_REQUEST;
+import static javax.servlet.http.HttpServletResponse.SC_NO_CONTENT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.javalin.http.Context;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.core.profiling.StateTransitionProfiler;
+import tech.pegasys.teku.provider.JsonProvider;
+
+public class PutStateTransitionProfilingTest {
+
+  private final JsonProvider jsonProvider = new JsonProvider();
+
+  private final Context context = mock(Context.class);
+  private final PutStateTransitionProfiling handler = new PutStateTransitionProfiling(jsonProvider);
+
+  @AfterEach
+  public void tearDown() {
+    StateTransitionProfiler.setEnabled(false);
+  }
+
+  @Test
+  public void shouldReturnBadRequestWhenEnabledIsMissing() throws Exception {
+    when(context.body()).thenReturn("{\"a\": \"field\"}");
+    handler.handle(context);
+
+    verify(context).status(SC_BAD_REQUEST);
+  }
+
+  @Test
+  public void shouldEnableProfiling() throws Exception {
+    when(context.body()).thenReturn("{\"enabled\": true}");
+    handler.handle(context);
+
+    verify(context).status(SC_NO_CONTENT);
+    assertThat(StateTransitionProfiler.isEnabled()).isTrue();
+  }
+
+  @Test
+  public void shouldDisableProfiling() throws Exception {
+    StateTransitionProfiler.setEnabled(true);
+    when(context.body()).thenReturn("{\"enabled\": false}");
+    handler.handle(context);
+
+    verify(context).status(SC_NO_CONTENT);
+    assertThat(StateTransitionProfiler.isEnabled()).isFalse();
+  }
+}
@@ -14,13 +14,17 @@
 package tech.pegasys.teku.beaconrestapi.handlers.beacon;
 
 import static com.google.common.primitives.UnsignedLong.ONE;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static javax.servlet.http.HttpServletResponse.SC_BAD_REQUEST;
 import static javax.servlet.http.HttpServletResponse.SC_NOT_FOUND;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.beaconrestapi.CacheControlUtils.CACHE_FINALIZED;
 import static tech.pegasys.teku.beaconrestapi.CacheControlUtils.CACHE_NONE;
+import static tech.pegasys.teku.beaconrestapi.ContentTypeUtils.OCTET_STREAM;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.EPOCH;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.ROOT;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.SLOT;
@@ -32,19 +36,25 @@ import static tech.pegasys.teku.infrastructure.async.SafeFuture.completedFuture;
 import com.google.common.primitives.UnsignedLong;
 import io.javalin.core.util.Header;
 import io.javalin.http.Context;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.response.GetBlockResponse;
+import tech.pegasys.teku.beaconrestapi.FinalizedResponseCache;
 import tech.pegasys.teku.beaconrestapi.schema.BadRequest;
+import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.datastructures.util.DataStructureUtil;
+import tech.pegasys.teku.datastructures.util.SimpleOffsetSerializer;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.metrics.StubMetricsSystem;
 import tech.pegasys.teku.provider.JsonProvider;
 
 public class GetBlockTest {
@@ -55,16 +65,17 @@ public class GetBlockTest {
 
   private final Context context = mock(Context.class);
   private final ChainDataProvider provider = mock(ChainDataProvider.class);
+  private final FinalizedResponseCache responseCache =
+      new FinalizedResponseCache(new StubMetricsSystem(), 1024 * 1024);
 
   private final JsonProvider jsonProvider = new JsonProvider();
   private GetBlock handler;
   private Bytes32 blockRoot = Bytes32.random();
-  private tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock signedBeaconBlock =
-      dataStructureUtil.randomSignedBeaconBlock(1);
+  private SignedBeaconBlock signedBeaconBlock = dataStructureUtil.randomSignedBeaconBlock(1);
 
   @BeforeEach
   public void setup() {
-    handler = new GetBlock(provider, jsonProvider);
+    handler = new GetBlock(provider, jsonProvider, responseCache);
   }
 
   private void badRequestParamsTest(final Map<String, List<String>> params, String message)
@@ -101,25 +112,25 @@ public class GetBlockTest {
   @Test
   public void shouldReturnBlockWhenQueryByRoot() throws Exception {
     final Map<String, List<String>> params = Map.of(ROOT, List.of(blockRoot.toHexString()));
-    SafeFuture<Optional<GetBlockResponse>> providerData =
-        completedFuture(Optional.of(new GetBlockResponse(signedBeaconBlock)));
+    SafeFuture<Optional<SignedBeaconBlock>> providerData =
+        completedFuture(Optional.of(signedBeaconBlock));
     when(context.queryParamMap()).thenReturn(params);
-    when(provider.getBlockByBlockRoot(blockRoot)).thenReturn(providerData);
+    when(provider.getInternalBlockByBlockRoot(blockRoot)).thenReturn(providerData);
 
     handler.handle(context);
     verify(context).result(args.capture());
     verify(context).header(Header.CACHE_CONTROL, CACHE_NONE);
     SafeFuture<String> future = args.getValue();
     String data = future.get();
-    assertThat(data).isEqualTo(jsonProvider.objectToJSON(providerData.get().get()));
+    assertThat(data).isEqualTo(jsonProvider.objectToJSON(new GetBlockResponse(signedBeaconBlock)));
   }
 
   @Test
   public void shouldReturnEmptyWhenQueryByRootNotFound() throws Exception {
     final Map<String, List<String>> params = Map.of(ROOT, List.of(blockRoot.toHexString()));
-    SafeFuture<Optional<GetBlockResponse>> providerData = completedFuture(Optional.empty());
+    SafeFuture<Optional<SignedBeaconBlock>> providerData = completedFuture(Optional.empty());
     when(context.queryParamMap()).thenReturn(params);
-    when(provider.getBlockByBlockRoot(blockRoot)).thenReturn(providerData);
+    when(provider.getInternalBlockByBlockRoot(blockRoot)).thenReturn(providerData);
 
     handler.handle(context);
     verify(context).status(SC_NOT_FOUND);
@@ -128,25 +139,25 @@ public class GetBlockTest {
   @Test
   public void shouldReturnBlockWhenQueryBySlot() throws Exception {
     final Map<String, List<String>> params = Map.of(SLOT, List.of(ONE.toString()));
-    SafeFuture<Optional<GetBlockResponse>> providerData =
-        completedFuture(Optional.of(new GetBlockResponse(signedBeaconBlock)));
+    SafeFuture<Optional<SignedBeaconBlock>> providerData =
+        completedFuture(Optional.of(signedBeaconBlock));
     when(context.queryParamMap()).thenReturn(params);
-    when(provider.getBlockBySlot(ONE)).thenReturn(providerData);
+    when(provider.getInternalBlockBySlot(ONE)).thenReturn(providerData);
 
     handler.handle(context);
     verify(context).result(args.capture());
     verify(context).header(Header.CACHE_CONTROL, CACHE_NONE);
     SafeFuture<String> future = args.getValue();
     String data = future.get();
-    assertThat(data).isEqualTo(jsonProvider.objectToJSON(providerData.get().get()));
+    assertThat(data).isEqualTo(jsonProvider.objectToJSON(new GetBlockResponse(signedBeaconBlock)));
   }
 
   @Test
   public void shouldReturnEmptyWhenQueryBySlotNotFound() throws Exception {
     final Map<String, List<String>> params = Map.of(SLOT, List.of(ONE.toString()));
-    SafeFuture<Optional<GetBlockResponse>> providerData = completedFuture(Optional.empty());
+    SafeFuture<Optional<SignedBeaconBlock>> providerData = completedFuture(Optional.empty());
     when(context.queryParamMap()).thenReturn(params);
-    when(provider.getBlockBySlot(ONE)).thenReturn(providerData);
+    when(provider.getInternalBlockBySlot(ONE)).thenReturn(providerData);
 
     handler.handle(context);
     verify(context).status(SC_NOT_FOUND);
@@ -155,27 +166,70 @@ public class GetBlockTest {
   @Test
   public void shouldReturnBlockWhenQueryByEpoch() throws Exception {
     final Map<String, List<String>> params = Map.of(EPOCH, List.of(ONE.toString()));
-    SafeFuture<Optional<GetBlockResponse>> providerData =
-        completedFuture(Optional.of(new GetBlockResponse(signedBeaconBlock)));
+    SafeFuture<Optional<SignedBeaconBlock>> providerData =
+        completedFuture(Optional.of(signedBeaconBlock));
     when(context.queryParamMap()).thenReturn(params);
-    when(provider.getBlockBySlot(UnsignedLong.valueOf(8))).thenReturn(providerData);
+    when(provider.getInternalBlockBySlot(UnsignedLong.valueOf(8))).thenReturn(providerData);
 
     handler.handle(context);
     verify(context).result(args.capture());
     verify(context).header(Header.CACHE_CONTROL, CACHE_NONE);
     SafeFuture<String> future = args.getValue();
     String data = future.get();
-    assertThat(data).isEqualTo(jsonProvider.objectToJSON(providerData.get().get()));
+    assertThat(data).isEqualTo(jsonProvider.objectToJSON(new GetBlockResponse(signedBeaconBlock)));
   }
 
   @Test
   public void shouldReturnEmptyWhenQueryByEpochNotFound() throws Exception {
     final Map<String, List<String>> params = Map.of(EPOCH, List.of(ONE.toString()));
-    SafeFuture<Optional<GetBlockResponse>> providerData = completedFuture(Optional.empty());
+    SafeFuture<Optional<SignedBeaconBlock>> providerData = completedFuture(Optional.empty());
     when(context.queryParamMap()).thenReturn(params);
-    when(provider.getBlockBySlot(UnsignedLong.valueOf(8))).thenReturn(providerData);
+    when(provider.getInternalBlockBySlot(UnsignedLong.valueOf(8))).thenReturn(providerData);
 
     handler.handle(context);
     verify(context).status(SC_NOT_FOUND);
   }
+
+  @Test
+  public void shouldReturnSszEncodedBlockWhenOctetStreamAccepted() throws Exception {
+    final Map<String, List<String>> params = Map.of(ROOT, List.of(blockRoot.toHexString()));
+    when(context.queryParamMap()).thenReturn(params);
+    when(context.header(Header.ACCEPT)).thenReturn(OCTET_STREAM);
+    when(provider.getInternalBlockByBlockRoot(blockRoot))
+        .thenReturn(completedFuture(Optional.of(signedBeaconBlock)));
+
+    handler.handle(context);
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<SafeFuture<InputStream>> streamArgs =
+        ArgumentCaptor.forClass(SafeFuture.class);
+    verify(context).result(streamArgs.capture());
+    verify(context).contentType(OCTET_STREAM);
+    verify(context).header(Header.CACHE_CONTROL, CACHE_NONE);
+    final Bytes data = Bytes.wrap(streamArgs.getValue().get().readAllBytes());
+    assertThat(SimpleOffsetSerializer.deserialize(data, SignedBeaconBlock.class))
+        .isEqualTo(signedBeaconBlock);
+  }
+
+  @Test
+  public void shouldServeFinalizedBlockFromCache() throws Exception {
+    final Map<String, List<String>> params = Map.of(SLOT, List.of(ONE.toString()));
+    when(context.queryParamMap()).thenReturn(params);
+    when(provider.isFinalized(ONE)).thenReturn(true);
+    when(provider.getInternalBlockBySlot(ONE))
+        .thenReturn(completedFuture(Optional.of(signedBeaconBlock)));
+
+    handler.handle(context);
+    handler.handle(context);
+
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<SafeFuture<InputStream>> streamArgs =
+        ArgumentCaptor.forClass(SafeFuture.class);
+    verify(context, times(2)).result(streamArgs.capture());
+    verify(context, times(2)).header(Header.CACHE_CONTROL, CACHE_FINALIZED);
+    verify(provider, times(1)).getInternalBlockBySlot(ONE);
+    for (SafeFuture<InputStream> result : streamArgs.getAllValues()) {
+      assertThat(new String(result.get().readAllBytes(), UTF_8))
+          .isEqualTo(jsonProvider.objectToJSON(new GetBlockResponse(signedBeaconBlock)));
+    }
+  }
 }
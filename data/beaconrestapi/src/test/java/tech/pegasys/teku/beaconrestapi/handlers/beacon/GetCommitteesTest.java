@@ -37,8 +37,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import tech.pegasys.teku.api.ChainDataProvider;
+import tech.pegasys.teku.beaconrestapi.FinalizedResponseCache;
 import tech.pegasys.teku.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.metrics.StubMetricsSystem;
 import tech.pegasys.teku.provider.JsonProvider;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
 import tech.pegasys.teku.storage.storageSystem.InMemoryStorageSystem;
@@ -55,6 +57,8 @@ public class GetCommitteesTest {
   private final JsonProvider jsonProvider = new JsonProvider();
   private final Context context = mock(Context.class);
   private final ChainDataProvider provider = mock(ChainDataProvider.class);
+  private final FinalizedResponseCache responseCache =
+      new FinalizedResponseCache(new StubMetricsSystem(), 1024 * 1024);
 
   @SuppressWarnings("unchecked")
   private final ArgumentCaptor<SafeFuture<String>> args = ArgumentCaptor.forClass(SafeFuture.class);
@@ -73,7 +77,7 @@ public class GetCommitteesTest {
   @Test
   public void shouldReturnBadRequestWhenNoEpochIsSupplied() throws Exception {
     ChainDataProvider provider = new ChainDataProvider(null, combinedChainDataClient);
-    final GetCommittees handler = new GetCommittees(provider, jsonProvider);
+    final GetCommittees handler = new GetCommittees(provider, jsonProvider, responseCache);
 
     handler.handle(context);
     verify(context).status(SC_BAD_REQUEST);
@@ -81,7 +85,7 @@ public class GetCommitteesTest {
 
   @Test
   public void shouldHandleFutureEpoch() throws Exception {
-    final GetCommittees handler = new GetCommittees(provider, jsonProvider);
+    final GetCommittees handler = new GetCommittees(provider, jsonProvider, responseCache);
 
     final UnsignedLong futureEpoch = epoch.plus(UnsignedLong.ONE);
     final UnsignedLong epochSlot = compute_start_slot_at_epoch(futureEpoch);
@@ -102,7 +106,7 @@ public class GetCommitteesTest {
 
   @Test
   public void shouldHandleMissingFinalizedState() throws Exception {
-    final GetCommittees handler = new GetCommittees(provider, jsonProvider);
+    final GetCommittees handler = new GetCommittees(provider, jsonProvider, responseCache);
 
     when(context.queryParamMap()).thenReturn(Map.of(EPOCH, List.of("0")));
     when(provider.isStoreAvailable()).thenReturn(true);
@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.beaconrestapi.handlers.beacon;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static javax.servlet.http.HttpServletResponse.SC_BAD_REQUEST;
 import static javax.servlet.http.HttpServletResponse.SC_GONE;
 import static javax.servlet.http.HttpServletResponse.SC_NOT_FOUND;
@@ -21,12 +22,15 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.beaconrestapi.ContentTypeUtils.OCTET_STREAM;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.EPOCH;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.ROOT;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.SLOT;
 
 import com.google.common.primitives.UnsignedLong;
+import io.javalin.core.util.Header;
 import io.javalin.http.Context;
+import java.io.InputStream;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -38,8 +42,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.schema.BeaconState;
+import tech.pegasys.teku.beaconrestapi.FinalizedResponseCache;
 import tech.pegasys.teku.datastructures.blocks.SignedBlockAndState;
+import tech.pegasys.teku.datastructures.util.SimpleOffsetSerializer;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.metrics.StubMetricsSystem;
 import tech.pegasys.teku.provider.JsonProvider;
 import tech.pegasys.teku.storage.storageSystem.InMemoryStorageSystem;
 import tech.pegasys.teku.storage.storageSystem.StorageSystem;
@@ -57,6 +64,8 @@ public class GetStateTest {
   private final Context context = mock(Context.class);
   private final String missingRoot = Bytes32.leftPad(Bytes.fromHexString("0xff")).toHexString();
   private final ChainDataProvider dataProvider = mock(ChainDataProvider.class);
+  private final FinalizedResponseCache responseCache =
+      new FinalizedResponseCache(new StubMetricsSystem(), 1024 * 1024);
 
   @BeforeEach
   public void setup() {
@@ -72,11 +81,11 @@ public class GetStateTest {
 
   @Test
   public void shouldReturnNotFoundWhenQueryAgainstMissingRootObject() throws Exception {
-    final GetState handler = new GetState(dataProvider, jsonProvider);
+    final GetState handler = new GetState(dataProvider, jsonProvider, responseCache);
 
     when(dataProvider.isStoreAvailable()).thenReturn(true);
     when(context.queryParamMap()).thenReturn(Map.of(ROOT, List.of(missingRoot)));
-    when(dataProvider.getStateByBlockRoot(any()))
+    when(dataProvider.getInternalStateByBlockRoot(any()))
         .thenReturn(SafeFuture.completedFuture(Optional.empty()));
 
     handler.handle(context);
@@ -86,7 +95,7 @@ public class GetStateTest {
 
   @Test
   public void shouldReturnBadRequestWhenNoParameterSpecified() throws Exception {
-    final GetState handler = new GetState(dataProvider, jsonProvider);
+    final GetState handler = new GetState(dataProvider, jsonProvider, responseCache);
 
     when(context.queryParamMap()).thenReturn(Collections.emptyMap());
 
@@ -97,7 +106,7 @@ public class GetStateTest {
 
   @Test
   public void shouldReturnBadRequestWhenBadSlotSpecified() throws Exception {
-    final GetState handler = new GetState(dataProvider, jsonProvider);
+    final GetState handler = new GetState(dataProvider, jsonProvider, responseCache);
 
     when(dataProvider.isStoreAvailable()).thenReturn(true);
     when(context.queryParamMap()).thenReturn(Map.of(SLOT, List.of("not-an-int")));
@@ -109,7 +118,7 @@ public class GetStateTest {
 
   @Test
   public void shouldReturnBadRequestWhenBadParamSpecified() throws Exception {
-    final GetState handler = new GetState(dataProvider, jsonProvider);
+    final GetState handler = new GetState(dataProvider, jsonProvider, responseCache);
 
     when(dataProvider.isStoreAvailable()).thenReturn(true);
     when(context.queryParamMap()).thenReturn(Map.of(EPOCH, List.of("not-an-int")));
@@ -121,25 +130,26 @@ public class GetStateTest {
 
   @Test
   public void shouldReturnBeaconStateObjectWhenQueryByRoot() throws Exception {
-    final GetState handler = new GetState(dataProvider, jsonProvider);
+    final GetState handler = new GetState(dataProvider, jsonProvider, responseCache);
 
     when(dataProvider.isStoreAvailable()).thenReturn(true);
     when(context.queryParamMap()).thenReturn(Map.of(ROOT, List.of(blockRoot.toHexString())));
-    when(dataProvider.getStateByBlockRoot(any()))
-        .thenReturn(SafeFuture.completedFuture(Optional.of(beaconState)));
+    when(dataProvider.getInternalStateByBlockRoot(any()))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(beaconStateInternal)));
 
     handler.handle(context);
 
     @SuppressWarnings("unchecked")
-    final ArgumentCaptor<SafeFuture<String>> args = ArgumentCaptor.forClass(SafeFuture.class);
+    final ArgumentCaptor<SafeFuture<InputStream>> args = ArgumentCaptor.forClass(SafeFuture.class);
     verify(context).result(args.capture());
-    SafeFuture<String> data = args.getValue();
-    assertEquals(data.get(), jsonProvider.objectToJSON(beaconState));
+    SafeFuture<InputStream> data = args.getValue();
+    assertEquals(
+        new String(data.get().readAllBytes(), UTF_8), jsonProvider.objectToJSON(beaconState));
   }
 
   @Test
   public void shouldReturnBadRequestWhenEmptyRootIsSpecified() throws Exception {
-    final GetState handler = new GetState(dataProvider, jsonProvider);
+    final GetState handler = new GetState(dataProvider, jsonProvider, responseCache);
 
     when(dataProvider.isStoreAvailable()).thenReturn(true);
     when(context.queryParamMap()).thenReturn(Map.of(ROOT, List.of()));
@@ -151,7 +161,7 @@ public class GetStateTest {
 
   @Test
   public void shouldReturnBadRequestWhenEmptySlotIsSpecified() throws Exception {
-    final GetState handler = new GetState(dataProvider, jsonProvider);
+    final GetState handler = new GetState(dataProvider, jsonProvider, responseCache);
 
     when(dataProvider.isStoreAvailable()).thenReturn(true);
     when(context.queryParamMap()).thenReturn(Map.of(SLOT, List.of()));
@@ -163,7 +173,7 @@ public class GetStateTest {
 
   @Test
   public void shouldReturnBadRequestWhenMultipleParametersSpecified() throws Exception {
-    final GetState handler = new GetState(dataProvider, jsonProvider);
+    final GetState handler = new GetState(dataProvider, jsonProvider, responseCache);
 
     when(dataProvider.isStoreAvailable()).thenReturn(true);
     when(context.queryParamMap()).thenReturn(Map.of(SLOT, List.of(), ROOT, List.of()));
@@ -175,31 +185,32 @@ public class GetStateTest {
 
   @Test
   public void shouldReturnBeaconStateObjectWhenQueryBySlot() throws Exception {
-    final GetState handler = new GetState(dataProvider, jsonProvider);
+    final GetState handler = new GetState(dataProvider, jsonProvider, responseCache);
 
     when(dataProvider.isStoreAvailable()).thenReturn(true);
     when(context.queryParamMap()).thenReturn(Map.of(SLOT, List.of(slot.toString())));
-    when(dataProvider.getStateAtSlot(any()))
-        .thenReturn(SafeFuture.completedFuture(Optional.of(beaconState)));
+    when(dataProvider.getInternalStateAtSlot(any()))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(beaconStateInternal)));
 
     handler.handle(context);
 
     @SuppressWarnings("unchecked")
-    final ArgumentCaptor<SafeFuture<String>> args = ArgumentCaptor.forClass(SafeFuture.class);
+    final ArgumentCaptor<SafeFuture<InputStream>> args = ArgumentCaptor.forClass(SafeFuture.class);
     verify(context).result(args.capture());
-    SafeFuture<String> data = args.getValue();
-    assertEquals(data.get(), jsonProvider.objectToJSON(beaconState));
+    SafeFuture<InputStream> data = args.getValue();
+    assertEquals(
+        new String(data.get().readAllBytes(), UTF_8), jsonProvider.objectToJSON(beaconState));
   }
 
   @Test
   public void shouldHandleMissingStateAtFinalizedSlot() throws Exception {
-    final GetState handler = new GetState(dataProvider, jsonProvider);
+    final GetState handler = new GetState(dataProvider, jsonProvider, responseCache);
     final UnsignedLong slot = UnsignedLong.valueOf(11223344L);
 
     when(dataProvider.isStoreAvailable()).thenReturn(true);
     when(context.queryParamMap()).thenReturn(Map.of(SLOT, List.of(slot.toString())));
     when(dataProvider.isFinalized(slot)).thenReturn(true);
-    when(dataProvider.getStateAtSlot(any()))
+    when(dataProvider.getInternalStateAtSlot(any()))
         .thenReturn(SafeFuture.completedFuture(Optional.empty()));
 
     handler.handle(context);
@@ -209,17 +220,37 @@ public class GetStateTest {
 
   @Test
   public void shouldHandleMissingStateAtNonFinalSlot() throws Exception {
-    final GetState handler = new GetState(dataProvider, jsonProvider);
+    final GetState handler = new GetState(dataProvider, jsonProvider, responseCache);
     final UnsignedLong slot = UnsignedLong.valueOf(11223344L);
 
     when(dataProvider.isStoreAvailable()).thenReturn(true);
     when(context.queryParamMap()).thenReturn(Map.of(SLOT, List.of(slot.toString())));
     when(dataProvider.isFinalized(slot)).thenReturn(false);
-    when(dataProvider.getStateAtSlot(any()))
+    when(dataProvider.getInternalStateAtSlot(any()))
         .thenReturn(SafeFuture.completedFuture(Optional.empty()));
 
     handler.handle(context);
 
     verify(context).status(SC_NOT_FOUND);
   }
+
+  @Test
+  public void shouldReturnSszEncodedStateWhenOctetStreamAccepted() throws Exception {
+    final GetState handler = new GetState(dataProvider, jsonProvider, responseCache);
+
+    when(dataProvider.isStoreAvailable()).thenReturn(true);
+    when(context.queryParamMap()).thenReturn(Map.of(ROOT, List.of(blockRoot.toHexString())));
+    when(context.header(Header.ACCEPT)).thenReturn("application/json;q=0.9, " + OCTET_STREAM);
+    when(dataProvider.getInternalStateByBlockRoot(any()))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(beaconStateInternal)));
+
+    handler.handle(context);
+
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<SafeFuture<InputStream>> args = ArgumentCaptor.forClass(SafeFuture.class);
+    verify(context).result(args.capture());
+    verify(context).contentType(OCTET_STREAM);
+    final Bytes data = Bytes.wrap(args.getValue().get().readAllBytes());
+    assertEquals(SimpleOffsetSerializer.serialize(beaconStateInternal), data);
+  }
 }
@@ -35,7 +35,6 @@ import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import tech.pegasys.teku.api.ChainDataProvider;
-import tech.pegasys.teku.api.schema.BeaconState;
 import tech.pegasys.teku.api.schema.BeaconValidators;
 import tech.pegasys.teku.datastructures.state.Validator;
 import tech.pegasys.teku.datastructures.util.BeaconStateUtil;
@@ -53,7 +52,6 @@ public class GetValidatorsTest {
   private final Bytes32 blockRoot = dataStructureUtil.randomBytes32();
   private final tech.pegasys.teku.datastructures.state.BeaconState beaconStateInternal =
       dataStructureUtil.randomBeaconState();
-  private final BeaconState beaconState = new BeaconState(beaconStateInternal);
 
   private final ChainDataProvider provider = mock(ChainDataProvider.class);
 
@@ -67,13 +65,13 @@ public class GetValidatorsTest {
 
     when(provider.isStoreAvailable()).thenReturn(true);
     when(provider.getBestBlockRoot()).thenReturn(Optional.of(blockRoot));
-    when(provider.getStateByBlockRoot(blockRoot))
-        .thenReturn(SafeFuture.completedFuture(Optional.of(beaconState)));
+    when(provider.getInternalStateByBlockRoot(blockRoot))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(beaconStateInternal)));
 
     handler.handle(context);
 
     verify(provider).getBestBlockRoot();
-    verify(provider).getStateByBlockRoot(blockRoot);
+    verify(provider).getInternalStateByBlockRoot(blockRoot);
     verify(context).result(args.capture());
 
     SafeFuture<String> data = args.getValue();
@@ -90,13 +88,13 @@ public class GetValidatorsTest {
 
     when(provider.isStoreAvailable()).thenReturn(true);
     when(provider.getBestBlockRoot()).thenReturn(Optional.of(blockRoot));
-    when(provider.getStateByBlockRoot(blockRoot))
-        .thenReturn(SafeFuture.completedFuture(Optional.of(new BeaconState(beaconStateW))));
+    when(provider.getInternalStateByBlockRoot(blockRoot))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(beaconStateW)));
 
     handler.handle(context);
 
     verify(provider).getBestBlockRoot();
-    verify(provider).getStateByBlockRoot(blockRoot);
+    verify(provider).getInternalStateByBlockRoot(blockRoot);
     verify(context).result(args.capture());
 
     SafeFuture<String> data = args.getValue();
@@ -112,12 +110,12 @@ public class GetValidatorsTest {
     BeaconValidators beaconValidators = new BeaconValidators(beaconStateInternal);
 
     when(provider.isStoreAvailable()).thenReturn(true);
-    when(provider.getStateAtSlot(slot))
-        .thenReturn(SafeFuture.completedFuture(Optional.of(beaconState)));
+    when(provider.getInternalStateAtSlot(slot))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(beaconStateInternal)));
 
     handler.handle(context);
 
-    verify(provider).getStateAtSlot(slot);
+    verify(provider).getInternalStateAtSlot(slot);
     verify(context).result(args.capture());
 
     SafeFuture<String> data = args.getValue();
@@ -146,14 +144,12 @@ public class GetValidatorsTest {
             PAGE_TOKEN_DEFAULT);
 
     when(provider.isStoreAvailable()).thenReturn(true);
-    when(provider.getStateAtSlot(slot))
-        .thenReturn(
-            SafeFuture.completedFuture(
-                Optional.of(new BeaconState(beaconStateWithAddedActiveValidator))));
+    when(provider.getInternalStateAtSlot(slot))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(beaconStateWithAddedActiveValidator)));
 
     handler.handle(context);
 
-    verify(provider).getStateAtSlot(slot);
+    verify(provider).getInternalStateAtSlot(slot);
     verify(context).result(args.capture());
 
     SafeFuture<String> data = args.getValue();
@@ -177,16 +173,17 @@ public class GetValidatorsTest {
             PAGE_SIZE_DEFAULT,
             PAGE_TOKEN_DEFAULT);
 
-    BeaconState result = new BeaconState(beaconStateWithAddedValidator);
+    tech.pegasys.teku.datastructures.state.BeaconState result = beaconStateWithAddedValidator;
     when(provider.isStoreAvailable()).thenReturn(true);
-    when(provider.getStateByBlockRoot(blockRoot))
+    when(provider.getInternalStateByBlockRoot(blockRoot))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(result)));
+    when(provider.getInternalStateAtSlot(slot))
         .thenReturn(SafeFuture.completedFuture(Optional.of(result)));
-    when(provider.getStateAtSlot(slot)).thenReturn(SafeFuture.completedFuture(Optional.of(result)));
 
     handler.handle(context);
 
     verify(provider).getBestBlockRoot();
-    verify(provider).getStateByBlockRoot(blockRoot);
+    verify(provider).getInternalStateByBlockRoot(blockRoot);
     verify(context).result(args.capture());
 
     SafeFuture<String> data = args.getValue();
@@ -213,12 +210,12 @@ public class GetValidatorsTest {
             beaconStateInternal, false, epoch, suppliedPageSizeParam, PAGE_TOKEN_DEFAULT);
 
     when(provider.isStoreAvailable()).thenReturn(true);
-    when(provider.getStateAtSlot(slot))
-        .thenReturn(SafeFuture.completedFuture(Optional.of(new BeaconState(beaconStateInternal))));
+    when(provider.getInternalStateAtSlot(slot))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(beaconStateInternal)));
 
     handler.handle(context);
 
-    verify(provider).getStateAtSlot(slot);
+    verify(provider).getInternalStateAtSlot(slot);
     verify(context).result(args.capture());
 
     SafeFuture<String> data = args.getValue();
@@ -249,12 +246,12 @@ public class GetValidatorsTest {
             beaconStateInternal, false, epoch, suppliedPageSizeParam, suppliedPageTokenParam);
 
     when(provider.isStoreAvailable()).thenReturn(true);
-    when(provider.getStateAtSlot(slot))
-        .thenReturn(SafeFuture.completedFuture(Optional.of(new BeaconState(beaconStateInternal))));
+    when(provider.getInternalStateAtSlot(slot))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(beaconStateInternal)));
 
     handler.handle(context);
 
-    verify(provider).getStateAtSlot(slot);
+    verify(provider).getInternalStateAtSlot(slot);
     verify(context).result(args.capture());
 
     SafeFuture<String> data = args.getValue();
@@ -288,8 +285,8 @@ public class GetValidatorsTest {
                 List.of(String.valueOf(Constants.FAR_FUTURE_EPOCH))));
     when(provider.isStoreAvailable()).thenReturn(true);
     when(provider.getBestBlockRoot()).thenReturn(Optional.of(blockRoot));
-    when(provider.getStateAtSlot(farFutureSlot))
-        .thenReturn(SafeFuture.completedFuture(Optional.of(beaconState)));
+    when(provider.getInternalStateAtSlot(farFutureSlot))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(beaconStateInternal)));
 
     handler.handle(context);
 
@@ -25,6 +25,7 @@ public enum TekuMetricCategory implements MetricCategory {
   STORAGE("storage"),
   STORAGE_HOT_DB("storage_hot"),
   STORAGE_FINALIZED_DB("storage_finalized"),
+  STATE_TRANSITION("state_transition"),
   VALIDATOR("validator");
 
   private final String name;
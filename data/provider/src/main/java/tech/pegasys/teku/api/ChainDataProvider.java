@@ -104,12 +104,15 @@ public class ChainDataProvider {
   }
 
   public SafeFuture<Optional<GetBlockResponse>> getBlockBySlot(final UnsignedLong slot) {
+    return getInternalBlockBySlot(slot).thenApply(block -> block.map(GetBlockResponse::new));
+  }
+
+  public SafeFuture<Optional<tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock>>
+      getInternalBlockBySlot(final UnsignedLong slot) {
     if (!isStoreAvailable()) {
       return chainUnavailable();
     }
-    return combinedChainDataClient
-        .getBlockInEffectAtSlot(slot)
-        .thenApply(block -> block.map(GetBlockResponse::new));
+    return combinedChainDataClient.getBlockInEffectAtSlot(slot);
   }
 
   public boolean isStoreAvailable() {
@@ -121,40 +124,53 @@ public class ChainDataProvider {
   }
 
   public SafeFuture<Optional<GetBlockResponse>> getBlockByBlockRoot(final Bytes32 blockParam) {
+    return getInternalBlockByBlockRoot(blockParam)
+        .thenApply(block -> block.map(GetBlockResponse::new));
+  }
+
+  public SafeFuture<Optional<tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock>>
+      getInternalBlockByBlockRoot(final Bytes32 blockParam) {
     if (!isStoreAvailable()) {
       return chainUnavailable();
     }
-    return combinedChainDataClient
-        .getBlockByBlockRoot(blockParam)
-        .thenApply(block -> block.map(GetBlockResponse::new));
+    return combinedChainDataClient.getBlockByBlockRoot(blockParam);
   }
 
   public SafeFuture<Optional<BeaconState>> getStateByBlockRoot(final Bytes32 blockRoot) {
+    return getInternalStateByBlockRoot(blockRoot).thenApply(state -> state.map(BeaconState::new));
+  }
+
+  public SafeFuture<Optional<tech.pegasys.teku.datastructures.state.BeaconState>>
+      getInternalStateByBlockRoot(final Bytes32 blockRoot) {
     if (!isStoreAvailable()) {
       return chainUnavailable();
     }
-    return combinedChainDataClient
-        .getStateByBlockRoot(blockRoot)
-        .thenApply(state -> state.map(BeaconState::new));
+    return combinedChainDataClient.getStateByBlockRoot(blockRoot);
   }
 
   public SafeFuture<Optional<BeaconState>> getStateByStateRoot(final Bytes32 stateRoot) {
+    return getInternalStateByStateRoot(stateRoot).thenApply(state -> state.map(BeaconState::new));
+  }
+
+  public SafeFuture<Optional<tech.pegasys.teku.datastructures.state.BeaconState>>
+      getInternalStateByStateRoot(final Bytes32 stateRoot) {
     if (!isStoreAvailable()) {
       return chainUnavailable();
     }
-    return combinedChainDataClient
-        .getStateByStateRoot(stateRoot)
-        .thenApply(state -> state.map(BeaconState::new));
+    return combinedChainDataClient.getStateByStateRoot(stateRoot);
   }
 
   public SafeFuture<Optional<BeaconState>> getStateAtSlot(final UnsignedLong slot) {
+    return getInternalStateAtSlot(slot)
+        .thenApply(stateInternal -> stateInternal.map(BeaconState::new));
+  }
+
+  public SafeFuture<Optional<tech.pegasys.teku.datastructures.state.BeaconState>>
+      getInternalStateAtSlot(final UnsignedLong slot) {
     if (!combinedChainDataClient.isChainDataFullyAvailable()) {
       return chainUnavailable();
     }
-
-    return combinedChainDataClient
-        .getStateAtSlotExact(slot)
-        .thenApply(stateInternal -> stateInternal.map(BeaconState::new));
+    return combinedChainDataClient.getStateAtSlotExact(slot);
   }
 
   public SafeFuture<Optional<Bytes32>> getStateRootAtSlot(final UnsignedLong slot) {
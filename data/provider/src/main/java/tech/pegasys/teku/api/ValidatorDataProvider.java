@@ -129,7 +129,11 @@ public class ValidatorDataProvider {
             })
         .thenApply(
             res ->
-                res.map(duties -> duties.stream().map(this::mapToSchemaDuties).collect(toList())));
+                res.map(
+                    duties ->
+                        duties.getDuties().stream()
+                            .map(this::mapToSchemaDuties)
+                            .collect(toList())));
   }
 
   private ValidatorDuties mapToSchemaDuties(
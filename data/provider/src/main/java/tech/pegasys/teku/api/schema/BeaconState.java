@@ -25,10 +25,13 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.primitives.UnsignedLong;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.datastructures.blocks.BeaconBlockAndState;
+import tech.pegasys.teku.provider.StreamingJsonInputStream;
 import tech.pegasys.teku.ssz.SSZTypes.Bitvector;
 import tech.pegasys.teku.ssz.SSZTypes.SSZList;
 import tech.pegasys.teku.ssz.SSZTypes.SSZVector;
@@ -172,6 +175,54 @@ public class BeaconState {
     this.finalized_checkpoint = new Checkpoint(beaconState.getFinalized_checkpoint());
   }
 
+  /**
+   * Streams the JSON representation of {@code beaconState} without first copying the whole state
+   * into a {@link BeaconState}. Elements of the large lists are converted one at a time as the
+   * stream is read, producing the same output as serializing {@code new BeaconState(beaconState)}.
+   */
+  public static InputStream toJsonStream(
+      final StreamingJsonInputStream.Builder builder,
+      final tech.pegasys.teku.datastructures.state.BeaconState beaconState)
+      throws IOException {
+    return builder
+        .startObject()
+        .field("genesis_time", beaconState::getGenesis_time)
+        .field("genesis_validators_root", beaconState::getGenesis_validators_root)
+        .field("slot", beaconState::getSlot)
+        .field("fork", () -> new Fork(beaconState.getFork()))
+        .field(
+            "latest_block_header",
+            () -> new BeaconBlockHeader(beaconState.getLatest_block_header()))
+        .arrayField("block_roots", beaconState.getBlock_roots())
+        .arrayField("state_roots", beaconState.getState_roots())
+        .arrayField("historical_roots", beaconState.getHistorical_roots())
+        .field("eth1_data", () -> new Eth1Data(beaconState.getEth1_data()))
+        .arrayField("eth1_data_votes", beaconState.getEth1_data_votes(), Eth1Data::new)
+        .field("eth1_deposit_index", beaconState::getEth1_deposit_index)
+        .arrayField("validators", beaconState.getValidators(), Validator::new)
+        .arrayField("balances", beaconState.getBalances())
+        .arrayField("randao_mixes", beaconState.getRandao_mixes())
+        .arrayField("slashings", beaconState.getSlashings())
+        .arrayField(
+            "previous_epoch_attestations",
+            beaconState.getPrevious_epoch_attestations(),
+            PendingAttestation::new)
+        .arrayField(
+            "current_epoch_attestations",
+            beaconState.getCurrent_epoch_attestations(),
+            PendingAttestation::new)
+        .field("justification_bits", beaconState::getJustification_bits)
+        .field(
+            "previous_justified_checkpoint",
+            () -> new Checkpoint(beaconState.getPrevious_justified_checkpoint()))
+        .field(
+            "current_justified_checkpoint",
+            () -> new Checkpoint(beaconState.getCurrent_justified_checkpoint()))
+        .field("finalized_checkpoint", () -> new Checkpoint(beaconState.getFinalized_checkpoint()))
+        .endObject()
+        .build();
+  }
+
   public tech.pegasys.teku.datastructures.state.BeaconState asInternalBeaconState() {
     return tech.pegasys.teku.datastructures.state.BeaconState.create(
         genesis_time,
@@ -18,10 +18,15 @@ import static tech.pegasys.teku.util.config.Constants.FAR_FUTURE_EPOCH;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Streams;
 import com.google.common.primitives.UnsignedLong;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import tech.pegasys.teku.datastructures.util.ValidatorsUtil;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class BeaconValidators {
@@ -54,11 +59,14 @@ public class BeaconValidators {
       final UnsignedLong epoch,
       final int pageSize,
       final int pageToken) {
+    // Page directly over the state so only the returned validators are converted
     this(
-        state.getValidators().stream().map(Validator::new).collect(Collectors.toList()),
-        state.getBalances().stream().collect(Collectors.toList()),
+        state.getValidators(),
+        state.getValidators().size(),
+        validator -> ValidatorsUtil.is_active_validator(validator, epoch),
+        (validator, index) ->
+            new ValidatorWithIndex(new Validator(validator), index, state.getBalances().get(index)),
         activeOnly,
-        epoch,
         pageSize,
         pageToken);
   }
@@ -97,11 +105,29 @@ public class BeaconValidators {
       final UnsignedLong epoch,
       final int pageSize,
       final int pageToken) {
+    this(
+        list,
+        list.size(),
+        validator -> is_active_validator(validator, epoch),
+        (validator, index) -> new ValidatorWithIndex(validator, index, balances.get(index)),
+        activeOnly,
+        pageSize,
+        pageToken);
+  }
 
+  private <T> BeaconValidators(
+      final Iterable<T> list,
+      final int listSize,
+      final Predicate<T> isActive,
+      final ValidatorConverter<T> converter,
+      final boolean activeOnly,
+      final int pageSize,
+      final int pageToken) {
     if (pageSize > 0 && pageToken >= 0) {
       int offset = pageToken * pageSize;
-      this.total_size = getEffectiveListSize(list, activeOnly, epoch);
-      if (offset >= list.size()) {
+      this.total_size =
+          activeOnly ? Streams.stream(list).filter(isActive).count() : (long) listSize;
+      if (offset >= listSize) {
         this.validators = List.of();
         this.next_page_token = 0;
         return;
@@ -109,21 +135,24 @@ public class BeaconValidators {
       validators = new ArrayList<>();
       int i = offset;
       int numberAdded = 0;
-      while (i < list.size() && numberAdded < pageSize) {
-        if (!activeOnly || is_active_validator(list.get(i), epoch)) {
-          validators.add(new ValidatorWithIndex(list.get(i), i, balances.get(i)));
+      final Iterator<T> iterator = list.iterator();
+      Iterators.advance(iterator, offset);
+      while (iterator.hasNext() && numberAdded < pageSize) {
+        final T validator = iterator.next();
+        if (!activeOnly || isActive.test(validator)) {
+          validators.add(converter.convert(validator, i));
           numberAdded++;
         }
         i++;
       }
-      if (total_size == 0 || offset + numberAdded >= list.size()) {
+      if (total_size == 0 || offset + numberAdded >= listSize) {
         this.next_page_token = 0;
       } else {
         this.next_page_token = pageToken + 1;
       }
     } else {
       this.validators = List.of();
-      this.total_size = (long) list.size();
+      this.total_size = (long) listSize;
       this.next_page_token = 0;
     }
   }
@@ -141,4 +170,9 @@ public class BeaconValidators {
     return validator.activation_epoch.compareTo(epoch) <= 0
         && epoch.compareTo(validator.exit_epoch) < 0;
   }
+
+  @FunctionalInterface
+  private interface ValidatorConverter<T> {
+    ValidatorWithIndex convert(T validator, int index);
+  }
 }
@@ -64,6 +64,10 @@ public class JsonProvider {
     return objectMapper.writeValueAsString(object);
   }
 
+  public StreamingJsonInputStream.Builder streamingJson() {
+    return StreamingJsonInputStream.builder(objectMapper);
+  }
+
   public <T> T jsonToObject(String json, Class<T> clazz) throws JsonProcessingException {
     return objectMapper.readValue(json, clazz);
   }
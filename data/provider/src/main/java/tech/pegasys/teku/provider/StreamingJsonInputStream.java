@@ -0,0 +1,161 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.provider;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Iterators;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * An {@link InputStream} which generates JSON as it is read, so a large document never needs to be
+ * held in memory.
+ *
+ * <p>The document is described as a sequence of write steps, such as a single field or a single
+ * array element. Steps are only executed once the previously generated output has been consumed, so
+ * memory use is bounded by roughly {@link #CHUNK_SIZE} plus the size of the largest single element.
+ */
+public class StreamingJsonInputStream extends InputStream {
+  static final int CHUNK_SIZE = 8192;
+
+  private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(CHUNK_SIZE * 2);
+  private final JsonGenerator generator;
+  private final Iterator<JsonWriteStep> steps;
+  private byte[] chunk = new byte[0];
+  private int position = 0;
+
+  private StreamingJsonInputStream(
+      final ObjectMapper objectMapper, final Iterator<JsonWriteStep> steps) throws IOException {
+    this.generator = objectMapper.getFactory().createGenerator(buffer);
+    this.steps = steps;
+  }
+
+  public static Builder builder(final ObjectMapper objectMapper) {
+    return new Builder(objectMapper);
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!fillChunk()) {
+      return -1;
+    }
+    return chunk[position++] & 0xff;
+  }
+
+  @Override
+  public int read(final byte[] target, final int offset, final int length) throws IOException {
+    if (length == 0) {
+      return 0;
+    }
+    if (!fillChunk()) {
+      return -1;
+    }
+    final int bytesRead = Math.min(length, chunk.length - position);
+    System.arraycopy(chunk, position, target, offset, bytesRead);
+    position += bytesRead;
+    return bytesRead;
+  }
+
+  @Override
+  public int available() {
+    return chunk.length - position;
+  }
+
+  @Override
+  public void close() throws IOException {
+    generator.close();
+  }
+
+  private boolean fillChunk() throws IOException {
+    while (position >= chunk.length) {
+      if (!steps.hasNext()) {
+        return false;
+      }
+      while (steps.hasNext() && buffer.size() < CHUNK_SIZE) {
+        steps.next().write(generator);
+        generator.flush();
+      }
+      chunk = buffer.toByteArray();
+      buffer.reset();
+      position = 0;
+    }
+    return true;
+  }
+
+  @FunctionalInterface
+  private interface JsonWriteStep {
+    void write(JsonGenerator generator) throws IOException;
+  }
+
+  public static class Builder {
+    private final ObjectMapper objectMapper;
+    private final List<Iterator<JsonWriteStep>> steps = new ArrayList<>();
+
+    private Builder(final ObjectMapper objectMapper) {
+      this.objectMapper = objectMapper;
+    }
+
+    public Builder startObject() {
+      return step(JsonGenerator::writeStartObject);
+    }
+
+    public Builder endObject() {
+      return step(JsonGenerator::writeEndObject);
+    }
+
+    /** Adds a field whose value is only created when the stream reaches it. */
+    public Builder field(final String name, final Supplier<?> value) {
+      return step(
+          generator -> {
+            generator.writeFieldName(name);
+            generator.writeObject(value.get());
+          });
+    }
+
+    /** Adds an array field, converting and writing each element only when the stream reaches it. */
+    public <T> Builder arrayField(
+        final String name, final Iterable<T> elements, final Function<T, ?> converter) {
+      step(
+          generator -> {
+            generator.writeFieldName(name);
+            generator.writeStartArray();
+          });
+      steps.add(
+          Iterators.<T, JsonWriteStep>transform(
+              elements.iterator(),
+              element -> generator -> generator.writeObject(converter.apply(element))));
+      return step(JsonGenerator::writeEndArray);
+    }
+
+    public <T> Builder arrayField(final String name, final Iterable<T> elements) {
+      return arrayField(name, elements, Function.identity());
+    }
+
+    public StreamingJsonInputStream build() throws IOException {
+      return new StreamingJsonInputStream(objectMapper, Iterators.concat(steps.iterator()));
+    }
+
+    private Builder step(final JsonWriteStep step) {
+      steps.add(Iterators.singletonIterator(step));
+      return this;
+    }
+  }
+}
@@ -57,6 +57,7 @@ import tech.pegasys.teku.statetransition.blockimport.BlockImporter;
 import tech.pegasys.teku.storage.client.ChainDataUnavailableException;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
 import tech.pegasys.teku.util.config.Constants;
+import tech.pegasys.teku.validator.api.EpochDuties;
 import tech.pegasys.teku.validator.api.ValidatorApiChannel;
 
 public class ValidatorDataProviderTest {
@@ -181,7 +182,11 @@ public class ValidatorDataProviderTest {
         .thenReturn(
             SafeFuture.completedFuture(
                 Optional.of(
-                    List.of(tech.pegasys.teku.validator.api.ValidatorDuties.noDuties(publicKey)))));
+                    new EpochDuties(
+                        dataStructureUtil.randomBytes32(),
+                        List.of(
+                            tech.pegasys.teku.validator.api.ValidatorDuties.noDuties(
+                                publicKey))))));
 
     SafeFuture<Optional<List<ValidatorDuties>>> future =
         provider.getValidatorDutiesByRequest(smallRequest);
@@ -223,15 +228,17 @@ public class ValidatorDataProviderTest {
         .thenReturn(
             SafeFuture.completedFuture(
                 Optional.of(
-                    List.of(
-                        tech.pegasys.teku.validator.api.ValidatorDuties.withDuties(
-                            publicKey,
-                            validatorIndex,
-                            attestationCommitteeIndex,
-                            attestationCommitteePosition,
-                            aggregatorModulo,
-                            blockProposalSlots,
-                            attestationSlot)))));
+                    new EpochDuties(
+                        dataStructureUtil.randomBytes32(),
+                        List.of(
+                            tech.pegasys.teku.validator.api.ValidatorDuties.withDuties(
+                                publicKey,
+                                validatorIndex,
+                                attestationCommitteeIndex,
+                                attestationCommitteePosition,
+                                aggregatorModulo,
+                                blockProposalSlots,
+                                attestationSlot))))));
 
     SafeFuture<Optional<List<ValidatorDuties>>> future =
         provider.getValidatorDutiesByRequest(smallRequest);
@@ -13,10 +13,13 @@
 
 package tech.pegasys.teku.api.schema;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.InputStream;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.datastructures.util.DataStructureUtil;
+import tech.pegasys.teku.provider.JsonProvider;
 
 public class BeaconStateTest {
   private final DataStructureUtil dataStructureUtil = new DataStructureUtil();
@@ -29,4 +32,17 @@ public class BeaconStateTest {
 
     assertThat(beaconState.asInternalBeaconState()).isEqualTo(beaconStateInternal);
   }
+
+  @Test
+  public void shouldStreamSameJsonAsConvertedObject() throws Exception {
+    final JsonProvider jsonProvider = new JsonProvider();
+
+    final String streamed;
+    try (InputStream stream =
+        BeaconState.toJsonStream(jsonProvider.streamingJson(), beaconStateInternal)) {
+      streamed = new String(stream.readAllBytes(), UTF_8);
+    }
+
+    assertThat(streamed).isEqualTo(jsonProvider.objectToJSON(new BeaconState(beaconStateInternal)));
+  }
 }
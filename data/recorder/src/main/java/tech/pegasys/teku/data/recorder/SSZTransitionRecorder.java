@@ -15,19 +15,23 @@ package tech.pegasys.teku.data.recorder;
 
 import static tech.pegasys.teku.datastructures.util.SimpleOffsetSerializer.serialize;
 
-import com.google.common.eventbus.Subscribe;
 import com.google.common.primitives.UnsignedLong;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import tech.pegasys.teku.data.BlockProcessingRecord;
+import tech.pegasys.teku.data.BlockProcessingRecordChannel;
 import tech.pegasys.teku.datastructures.state.BeaconState;
 import tech.pegasys.teku.ssz.sos.SimpleOffsetSerializable;
+import tech.pegasys.teku.storage.api.ChainInitializedChannel;
 import tech.pegasys.teku.storage.events.AnchorPoint;
 
-public class SSZTransitionRecorder {
+public class SSZTransitionRecorder
+    implements BlockProcessingRecordChannel, ChainInitializedChannel {
 
   private static final Logger LOG = LogManager.getLogger();
 
@@ -37,8 +41,8 @@ public class SSZTransitionRecorder {
     this.outputDirectory = mkdirs(outputDirectory);
   }
 
-  @Subscribe
-  public void onGenesis(final AnchorPoint anchor) {
+  @Override
+  public void onChainInitialized(final AnchorPoint anchor) {
     if (!anchor.isGenesis()) {
       return;
     }
@@ -46,12 +50,27 @@ public class SSZTransitionRecorder {
     store(outputDirectory.resolve("genesis.ssz"), genesisState);
   }
 
-  @Subscribe
+  @Override
   public void onBlockProcessingRecord(final BlockProcessingRecord record) {
     final Path slotDirectory = slotDirectory(record.getBlock().getSlot());
     store(slotDirectory.resolve("pre.ssz"), record.getPreState());
     store(slotDirectory.resolve("block.ssz"), record.getBlock());
     store(slotDirectory.resolve("post.ssz"), record.getPostState());
+    record
+        .getPhaseDurations()
+        .ifPresent(
+            durations -> storePhaseDurations(slotDirectory.resolve("phases.csv"), durations));
+  }
+
+  private void storePhaseDurations(final Path file, final Map<String, Duration> durations) {
+    final StringBuilder csv = new StringBuilder("phase,nanos\n");
+    durations.forEach(
+        (phase, duration) -> csv.append(phase).append(',').append(duration.toNanos()).append('\n'));
+    try {
+      Files.writeString(file, csv);
+    } catch (final IOException e) {
+      LOG.error("Failed to record data to " + file, e);
+    }
   }
 
   private void store(final Path file, SimpleOffsetSerializable data) {
@@ -13,6 +13,9 @@
 
 package tech.pegasys.teku.data;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.datastructures.state.BeaconState;
 
@@ -20,12 +23,22 @@ public class BlockProcessingRecord {
   private final BeaconState preState;
   private final SignedBeaconBlock block;
   private final BeaconState postState;
+  private final Optional<Map<String, Duration>> phaseDurations;
 
   public BlockProcessingRecord(
       final BeaconState preState, final SignedBeaconBlock block, final BeaconState postState) {
+    this(preState, block, postState, Optional.empty());
+  }
+
+  public BlockProcessingRecord(
+      final BeaconState preState,
+      final SignedBeaconBlock block,
+      final BeaconState postState,
+      final Optional<Map<String, Duration>> phaseDurations) {
     this.preState = preState;
     this.block = block;
     this.postState = postState;
+    this.phaseDurations = phaseDurations;
   }
 
   public BeaconState getPreState() {
@@ -39,4 +52,12 @@ public class BlockProcessingRecord {
   public BeaconState getPostState() {
     return postState;
   }
+
+  /**
+   * Returns the time spent in each phase of the state transition for this block, if state
+   * transition profiling was enabled when it was processed.
+   */
+  public Optional<Map<String, Duration>> getPhaseDurations() {
+    return phaseDurations;
+  }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.events.EventChannels;
+import tech.pegasys.teku.events.LoggingChannelExceptionHandler;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.MetricTrackingExecutorFactory;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.ScheduledExecutorAsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SharedExecutorPool;
+import tech.pegasys.teku.util.channels.VoidReturningChannelInterface;
+
+/**
+ * Compares async runners and event channels using dedicated threads with the same workloads run on
+ * a {@link SharedExecutorPool}. Both fan a burst of small tasks out across many runners or
+ * subscribers, as happens at the start of each slot.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class ExecutorBackendBenchmark {
+  private static final int TASKS_PER_RUNNER = 100;
+  private static final int EVENTS_PER_ITERATION = 100;
+
+  @Param({"dedicated", "shared"})
+  String backend;
+
+  @Param({"4", "32"})
+  int runnerCount;
+
+  private Optional<SharedExecutorPool> sharedPool;
+  private final List<AsyncRunner> asyncRunners = new ArrayList<>();
+  private EventChannels eventChannels;
+  private BenchmarkChannel publisher;
+  private volatile CountDownLatch deliveredEvents;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    final MetricsSystem metricsSystem = new NoOpMetricsSystem();
+    final MetricTrackingExecutorFactory executorFactory =
+        new MetricTrackingExecutorFactory(metricsSystem);
+    sharedPool =
+        backend.equals("shared")
+            ? Optional.of(SharedExecutorPool.create(metricsSystem))
+            : Optional.empty();
+    for (int i = 0; i < runnerCount; i++) {
+      final String name = "runner" + i;
+      asyncRunners.add(
+          sharedPool
+              .map(
+                  pool ->
+                      ScheduledExecutorAsyncRunner.createOnSharedPool(
+                          name, 4, pool, executorFactory))
+              .orElseGet(() -> ScheduledExecutorAsyncRunner.create(name, 4, executorFactory)));
+    }
+
+    eventChannels =
+        sharedPool
+            .map(
+                pool ->
+                    EventChannels.createSharedPoolChannels(
+                        LoggingChannelExceptionHandler.LOGGING_EXCEPTION_HANDLER,
+                        metricsSystem,
+                        pool.getExecutor()))
+            .orElseGet(
+                () ->
+                    new EventChannels(
+                        LoggingChannelExceptionHandler.LOGGING_EXCEPTION_HANDLER, metricsSystem));
+    for (int i = 0; i < runnerCount; i++) {
+      eventChannels.subscribe(BenchmarkChannel.class, () -> deliveredEvents.countDown());
+    }
+    publisher = eventChannels.getPublisher(BenchmarkChannel.class);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    eventChannels.stop();
+    asyncRunners.forEach(AsyncRunner::shutdown);
+    sharedPool.ifPresent(SharedExecutorPool::shutdown);
+  }
+
+  @Benchmark
+  public void runAsyncTasks() {
+    final List<SafeFuture<Void>> results = new ArrayList<>();
+    for (int i = 0; i < TASKS_PER_RUNNER; i++) {
+      for (AsyncRunner asyncRunner : asyncRunners) {
+        results.add(asyncRunner.runAsync(() -> {}));
+      }
+    }
+    SafeFuture.allOf(results.toArray(new SafeFuture<?>[0])).join();
+  }
+
+  @Benchmark
+  public void deliverEvents() throws InterruptedException {
+    deliveredEvents = new CountDownLatch(EVENTS_PER_ITERATION * runnerCount);
+    for (int i = 0; i < EVENTS_PER_ITERATION; i++) {
+      publisher.onEvent();
+    }
+    deliveredEvents.await();
+  }
+
+  public interface BenchmarkChannel extends VoidReturningChannelInterface {
+    void onEvent();
+  }
+}
@@ -15,7 +15,6 @@ package tech.pegasys.teku.benchmarks;
 
 import static org.mockito.Mockito.mock;
 
-import com.google.common.eventbus.EventBus;
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
@@ -30,6 +29,7 @@ import tech.pegasys.teku.benchmarks.gen.BlsKeyPairIO;
 import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.core.StateTransition;
 import tech.pegasys.teku.core.results.BlockImportResult;
+import tech.pegasys.teku.data.BlockProcessingRecordChannel;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.datastructures.state.BeaconState;
 import tech.pegasys.teku.datastructures.util.BeaconStateUtil;
@@ -37,6 +37,7 @@ import tech.pegasys.teku.ssz.backing.CompositeViewRead;
 import tech.pegasys.teku.ssz.backing.ViewRead;
 import tech.pegasys.teku.statetransition.BeaconChainUtil;
 import tech.pegasys.teku.statetransition.blockimport.BlockImporter;
+import tech.pegasys.teku.statetransition.events.block.ImportedBlockChannel;
 import tech.pegasys.teku.statetransition.forkchoice.ForkChoice;
 import tech.pegasys.teku.statetransition.util.StartupUtil;
 import tech.pegasys.teku.storage.client.MemoryOnlyRecentChainData;
@@ -76,12 +77,16 @@ public class ProfilingRun {
         StartupUtil.createMockedStartInitialBeaconState(0, validatorKeys, false);
 
     while (true) {
-      EventBus localEventBus = mock(EventBus.class);
-      RecentChainData recentChainData = MemoryOnlyRecentChainData.create(localEventBus);
+      RecentChainData recentChainData = MemoryOnlyRecentChainData.create();
       BeaconChainUtil localChain = BeaconChainUtil.create(recentChainData, validatorKeys, false);
       recentChainData.initializeFromGenesis(initialState);
       ForkChoice forkChoice = new ForkChoice(recentChainData, new StateTransition());
-      BlockImporter blockImporter = new BlockImporter(recentChainData, forkChoice, localEventBus);
+      BlockImporter blockImporter =
+          new BlockImporter(
+              recentChainData,
+              forkChoice,
+              mock(ImportedBlockChannel.class),
+              mock(BlockProcessingRecordChannel.class));
 
       System.out.println("Start blocks import from " + blocksFile);
       int blockCount = 0;
@@ -143,13 +148,17 @@ public class ProfilingRun {
     statesList.add(initialState);
 
     while (true) {
-      EventBus localEventBus = mock(EventBus.class);
-      RecentChainData recentChainData = MemoryOnlyRecentChainData.create(localEventBus);
+      RecentChainData recentChainData = MemoryOnlyRecentChainData.create();
       BeaconChainUtil localChain = BeaconChainUtil.create(recentChainData, validatorKeys, false);
       recentChainData.initializeFromGenesis(initialState);
       initialState = null;
       ForkChoice forkChoice = new ForkChoice(recentChainData, new StateTransition());
-      BlockImporter blockImporter = new BlockImporter(recentChainData, forkChoice, localEventBus);
+      BlockImporter blockImporter =
+          new BlockImporter(
+              recentChainData,
+              forkChoice,
+              mock(ImportedBlockChannel.class),
+              mock(BlockProcessingRecordChannel.class));
 
       System.out.println("Start blocks import from " + blocksFile);
       int counter = 1;
@@ -15,9 +15,10 @@ package tech.pegasys.teku.benchmarks;
 
 import static org.mockito.Mockito.mock;
 
-import com.google.common.eventbus.EventBus;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Level;
@@ -34,11 +35,19 @@ import tech.pegasys.teku.benchmarks.gen.BlockIO;
 import tech.pegasys.teku.benchmarks.gen.BlsKeyPairIO;
 import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.core.StateTransition;
+import tech.pegasys.teku.core.blockvalidator.BatchBlockValidator;
+import tech.pegasys.teku.core.blockvalidator.BlockValidator;
+import tech.pegasys.teku.core.blockvalidator.PipelinedBlockValidator;
 import tech.pegasys.teku.core.results.BlockImportResult;
+import tech.pegasys.teku.data.BlockProcessingRecordChannel;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.datastructures.util.BeaconStateUtil;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.MetricTrackingExecutorFactory;
+import tech.pegasys.teku.infrastructure.async.ScheduledExecutorAsyncRunner;
 import tech.pegasys.teku.statetransition.BeaconChainUtil;
 import tech.pegasys.teku.statetransition.blockimport.BlockImporter;
+import tech.pegasys.teku.statetransition.events.block.ImportedBlockChannel;
 import tech.pegasys.teku.statetransition.forkchoice.ForkChoice;
 import tech.pegasys.teku.storage.client.MemoryOnlyRecentChainData;
 import tech.pegasys.teku.storage.client.RecentChainData;
@@ -77,13 +86,18 @@ public abstract class TransitionBenchmark {
     List<BLSKeyPair> validatorKeys =
         BlsKeyPairIO.createReaderForResource(keysFile).readAll(validatorsCount);
 
-    EventBus localEventBus = mock(EventBus.class);
-    recentChainData = MemoryOnlyRecentChainData.create(localEventBus);
+    recentChainData = MemoryOnlyRecentChainData.create();
     localChain = BeaconChainUtil.create(recentChainData, validatorKeys, false);
     localChain.initializeStorage();
 
-    ForkChoice forkChoice = new ForkChoice(recentChainData, new StateTransition());
-    blockImporter = new BlockImporter(recentChainData, forkChoice, localEventBus);
+    ForkChoice forkChoice =
+        new ForkChoice(recentChainData, new StateTransition(createBlockValidator()));
+    blockImporter =
+        new BlockImporter(
+            recentChainData,
+            forkChoice,
+            mock(ImportedBlockChannel.class),
+            mock(BlockProcessingRecordChannel.class));
     blockIterator = BlockIO.createResourceReader(blocksFile).iterator();
     System.out.println("Importing blocks from " + blocksFile);
   }
@@ -91,6 +105,10 @@ public abstract class TransitionBenchmark {
   @TearDown
   public void dispose() throws Exception {}
 
+  protected BlockValidator createBlockValidator() {
+    return new BatchBlockValidator();
+  }
+
   protected void prefetchBlock() {
     prefetchedBlock = blockIterator.next();
   }
@@ -135,6 +153,76 @@ public abstract class TransitionBenchmark {
     }
   }
 
+  /**
+   * Same as {@link Block} but verifies the batched block signatures on a separate thread while the
+   * block is being processed. The difference from {@link Block} is the wall-clock time saved per
+   * block by the pipelining.
+   */
+  public static class PipelinedBlock extends Block {
+    AsyncRunner validationAsyncRunner;
+
+    @Override
+    protected BlockValidator createBlockValidator() {
+      validationAsyncRunner =
+          ScheduledExecutorAsyncRunner.create(
+              "blockvalidation", 1, new MetricTrackingExecutorFactory(new NoOpMetricsSystem()));
+      return new PipelinedBlockValidator(validationAsyncRunner);
+    }
+
+    @TearDown
+    public void shutdownAsyncRunner() {
+      validationAsyncRunner.shutdown();
+    }
+  }
+
+  /**
+   * Measures importing segments of consecutive blocks as returned by a range sync request. With an
+   * import batch size of 1 every block is imported separately and verifies its own signatures,
+   * otherwise the signatures of each batch of blocks are verified together. The per-block cost is
+   * the reported time divided by {@link #SEGMENT_SIZE}.
+   */
+  @Warmup(iterations = 1)
+  @Measurement(iterations = 5)
+  public static class Segment extends TransitionBenchmark {
+    static final int SEGMENT_SIZE = 64;
+
+    @Param({"1", "64"})
+    int importBatchSize;
+
+    List<SignedBeaconBlock> segment;
+
+    @Setup(Level.Iteration)
+    public void prefetchSegment() {
+      segment = new ArrayList<>();
+      for (int i = 0; i < SEGMENT_SIZE; i++) {
+        segment.add(blockIterator.next());
+      }
+    }
+
+    @Benchmark
+    public void importSegment() {
+      if (importBatchSize == 1) {
+        segment.forEach(
+            block -> {
+              prefetchedBlock = block;
+              importNextBlock();
+            });
+        return;
+      }
+      for (int i = 0; i < segment.size(); i += importBatchSize) {
+        final List<SignedBeaconBlock> batch =
+            segment.subList(i, Math.min(i + importBatchSize, segment.size()));
+        localChain.setSlot(batch.get(batch.size() - 1).getSlot());
+        final List<BlockImportResult> results = blockImporter.importBlocks(batch).join();
+        if (results.size() != batch.size()
+            || !results.stream().allMatch(BlockImportResult::isSuccessful)) {
+          throw new RuntimeException("Unable to import blocks: " + results);
+        }
+        lastResult = results.get(results.size() - 1);
+      }
+    }
+  }
+
   /**
    * Measures epoch state transition performance by importing only epoch boundary blocks in the
    * benchmark method. Other blocks are 'skipped' by importing them outside of benchmark method.
@@ -13,11 +13,9 @@
 
 package tech.pegasys.teku.benchmarks.gen;
 
-import static org.mockito.Mockito.mock;
 import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.get_committee_count_at_slot;
 import static tech.pegasys.teku.datastructures.util.CommitteeUtil.get_beacon_committee;
 
-import com.google.common.eventbus.EventBus;
 import com.google.common.primitives.UnsignedLong;
 import java.io.File;
 import java.util.ArrayList;
@@ -63,8 +61,7 @@ public class Generator {
 
     System.out.println("Keypairs done.");
 
-    EventBus localEventBus = mock(EventBus.class);
-    RecentChainData localStorage = MemoryOnlyRecentChainData.create(localEventBus);
+    RecentChainData localStorage = MemoryOnlyRecentChainData.create();
     BeaconChainUtil localChain = BeaconChainUtil.create(localStorage, validatorKeys, false);
     localChain.initializeStorage();
     AttestationGenerator attestationGenerator = new AttestationGenerator(validatorKeys);
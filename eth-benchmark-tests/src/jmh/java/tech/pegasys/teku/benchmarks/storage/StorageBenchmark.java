@@ -0,0 +1,156 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks.storage;
+
+import com.google.common.primitives.UnsignedLong;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.core.lookup.BlockProvider;
+import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.storage.server.Database;
+import tech.pegasys.teku.storage.server.DatabaseVersion;
+import tech.pegasys.teku.storage.server.state.FinalizedStateCache;
+import tech.pegasys.teku.storage.store.UpdatableStore;
+import tech.pegasys.teku.util.config.StateStorageMode;
+
+/**
+ * JMH base class for measuring read and startup performance of databases created by {@link
+ * StorageChainGenerator}. Databases are generated on first use and reused by later runs.
+ */
+@State(Scope.Thread)
+@Fork(1)
+public abstract class StorageBenchmark {
+
+  @Param({"V4", "V5"})
+  DatabaseVersion databaseVersion;
+
+  @Param({"PRUNE", "ARCHIVE"})
+  StateStorageMode storageMode;
+
+  @Param({"16384"})
+  int validatorCount;
+
+  @Param({"32"})
+  int epochCount;
+
+  @Param({"8"})
+  int forkCount;
+
+  @Param({"256"})
+  long stateStorageFrequency;
+
+  StorageChainGenerator generator;
+  Path dataDir;
+
+  @Setup(Level.Trial)
+  public void generateDatabase() {
+    generator =
+        new StorageChainGenerator(
+            databaseVersion,
+            storageMode,
+            validatorCount,
+            epochCount,
+            forkCount,
+            stateStorageFrequency);
+    dataDir = generator.getOrCreateDatabase(StorageChainGenerator.getDefaultBaseDir());
+    System.out.printf(
+        "Database %s uses %d bytes on disk%n",
+        dataDir, StorageChainGenerator.getDiskFootprint(dataDir));
+  }
+
+  /** Measures query performance against finalized data in an open database. */
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  @Warmup(iterations = 3)
+  @Measurement(iterations = 5)
+  public static class Reads extends StorageBenchmark {
+    private final Random random = new Random(1);
+
+    @Param({"64"})
+    int rangeSize;
+
+    Database database;
+    long finalizedSlot;
+
+    @Setup(Level.Trial)
+    public void openDatabase() {
+      database = generator.openDatabase(dataDir);
+      final UpdatableStore store =
+          database.createMemoryStore().orElseThrow().blockProvider(BlockProvider.NOOP).build();
+      finalizedSlot = store.getFinalizedCheckpoint().getEpochStartSlot().longValue();
+    }
+
+    @TearDown(Level.Trial)
+    public void closeDatabase() throws Exception {
+      database.close();
+    }
+
+    private UnsignedLong randomFinalizedSlot() {
+      return UnsignedLong.valueOf((long) (random.nextDouble() * finalizedSlot));
+    }
+
+    @Benchmark
+    public void streamFinalizedBlocks(final Blackhole bh) {
+      final UnsignedLong startSlot = randomFinalizedSlot();
+      try (final Stream<SignedBeaconBlock> blocks =
+          database.streamFinalizedBlocks(
+              startSlot, startSlot.plus(UnsignedLong.valueOf(rangeSize - 1)))) {
+        blocks.forEach(bh::consume);
+      }
+    }
+
+    @Benchmark
+    public void getLatestAvailableFinalizedState(final Blackhole bh) {
+      bh.consume(database.getLatestAvailableFinalizedState(randomFinalizedSlot()));
+    }
+
+    @Benchmark
+    public void regenerateFinalizedState(final Blackhole bh) {
+      // A fresh cache forces the state to be regenerated from the nearest stored state
+      final FinalizedStateCache cache = new FinalizedStateCache(database, 1, false);
+      bh.consume(cache.getFinalizedState(randomFinalizedSlot()));
+    }
+  }
+
+  /** Measures the time to open the database and load the in-memory store from it. */
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Warmup(iterations = 2)
+  @Measurement(iterations = 10)
+  public static class Startup extends StorageBenchmark {
+
+    @Benchmark
+    public UpdatableStore createMemoryStore() throws Exception {
+      try (final Database database = generator.openDatabase(dataDir)) {
+        return database.createMemoryStore().orElseThrow().blockProvider(BlockProvider.NOOP).build();
+      }
+    }
+  }
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks.storage;
+
+import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.compute_epoch_at_slot;
+import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.compute_start_slot_at_epoch;
+
+import com.google.common.primitives.UnsignedLong;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.benchmarks.gen.BlsKeyPairIO;
+import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.teku.core.ChainBuilder;
+import tech.pegasys.teku.core.StateTransitionException;
+import tech.pegasys.teku.datastructures.blocks.SignedBlockAndState;
+import tech.pegasys.teku.datastructures.state.Checkpoint;
+import tech.pegasys.teku.datastructures.util.BeaconStateUtil;
+import tech.pegasys.teku.metrics.StubMetricsSystem;
+import tech.pegasys.teku.storage.client.RecentChainData;
+import tech.pegasys.teku.storage.server.Database;
+import tech.pegasys.teku.storage.server.DatabaseVersion;
+import tech.pegasys.teku.storage.server.rocksdb.RocksDbConfiguration;
+import tech.pegasys.teku.storage.server.rocksdb.RocksDbDatabase;
+import tech.pegasys.teku.storage.storageSystem.FileBackedStorageSystem;
+import tech.pegasys.teku.storage.storageSystem.StorageSystem;
+import tech.pegasys.teku.storage.store.UpdatableStore.StoreTransaction;
+import tech.pegasys.teku.util.config.Constants;
+import tech.pegasys.teku.util.config.StateStorageMode;
+import tech.pegasys.teku.util.file.FileUtil;
+
+/**
+ * Generates synthetic chains and writes them to on-disk databases so storage performance can be
+ * measured at realistic sizes.
+ *
+ * <p>The canonical chain has a block in every slot and finalizes two epochs behind the head. Fork
+ * blocks branch off the canonical chain at evenly spaced slots and are written but never become
+ * canonical, so they are pruned when their slots are finalized.
+ *
+ * <p>Generated databases are kept in a directory named after the generation parameters and are
+ * reused by later runs with the same parameters.
+ */
+public class StorageChainGenerator {
+  private static final String KEYS_FILE = "/bls-key-pairs/bls-key-pairs-200k-seed-0.txt.gz";
+  private static final String COMPLETE_MARKER = "generation-complete";
+  private static final int FORK_LENGTH = 2;
+
+  private final DatabaseVersion databaseVersion;
+  private final StateStorageMode storageMode;
+  private final int validatorCount;
+  private final int epochCount;
+  private final int forkCount;
+  private final long stateStorageFrequency;
+
+  public StorageChainGenerator(
+      final DatabaseVersion databaseVersion,
+      final StateStorageMode storageMode,
+      final int validatorCount,
+      final int epochCount,
+      final int forkCount,
+      final long stateStorageFrequency) {
+    this.databaseVersion = databaseVersion;
+    this.storageMode = storageMode;
+    this.validatorCount = validatorCount;
+    this.epochCount = epochCount;
+    this.forkCount = forkCount;
+    this.stateStorageFrequency = stateStorageFrequency;
+  }
+
+  public static Path getDefaultBaseDir() {
+    return Path.of(
+        System.getProperty(
+            "teku.storageBenchmarkDir",
+            Path.of(System.getProperty("java.io.tmpdir"), "teku-storage-benchmarks").toString()));
+  }
+
+  /**
+   * Returns the directory of a database generated with this generator's parameters, generating it
+   * first if no complete database exists under {@code baseDir}.
+   */
+  public Path getOrCreateDatabase(final Path baseDir) {
+    final Path dataDir = baseDir.resolve(getName());
+    if (Files.exists(dataDir.resolve(COMPLETE_MARKER))) {
+      System.out.println("Reusing generated database at " + dataDir);
+      return dataDir;
+    }
+    if (Files.exists(dataDir)) {
+      FileUtil.recursivelyDeleteDirectories(List.of(dataDir.toFile()));
+    }
+    generateDatabase(dataDir);
+    try {
+      Files.createFile(dataDir.resolve(COMPLETE_MARKER));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return dataDir;
+  }
+
+  public void generateDatabase(final Path dataDir) {
+    final GeneratedChain chain = generateChain();
+    System.out.println("Writing " + chain.getBlocks().size() + " blocks to " + dataDir);
+    final long start = System.nanoTime();
+    try (final StorageSystem storageSystem = createStorageSystem(dataDir)) {
+      importChain(chain, storageSystem.recentChainData());
+    } catch (final Exception e) {
+      throw new IllegalStateException("Failed to generate database at " + dataDir, e);
+    }
+    final long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+    System.out.printf(
+        "Wrote %d blocks in %d ms, database size is %d bytes%n",
+        chain.getBlocks().size(), elapsedMillis, getDiskFootprint(dataDir));
+  }
+
+  /**
+   * Generates the blocks for a chain in the order they should be imported. Fork blocks are
+   * interleaved with the canonical chain at the slot they were produced.
+   */
+  public GeneratedChain generateChain() {
+    Constants.setConstants("mainnet");
+    BeaconStateUtil.BLS_VERIFY_DEPOSIT = false;
+
+    System.out.println("Loading " + validatorCount + " keypairs from " + KEYS_FILE);
+    final List<BLSKeyPair> validatorKeys =
+        BlsKeyPairIO.createReaderForResource(KEYS_FILE).readAll(validatorCount);
+    final ChainBuilder chainBuilder = ChainBuilder.create(validatorKeys);
+    final SignedBlockAndState genesis = chainBuilder.generateGenesis(false);
+
+    final long lastSlot = (long) epochCount * Constants.SLOTS_PER_EPOCH;
+    final long forkInterval = forkCount > 0 ? Math.max(1, lastSlot / (forkCount + 1)) : 0;
+    final List<SignedBlockAndState> blocks = new ArrayList<>();
+    final Set<Bytes32> canonicalRoots = new HashSet<>();
+    canonicalRoots.add(genesis.getRoot());
+    int forksCreated = 0;
+    try {
+      for (long slot = 1; slot <= lastSlot; slot++) {
+        if (forksCreated < forkCount
+            && slot % forkInterval == 0
+            && slot + FORK_LENGTH + 1 <= lastSlot) {
+          // Skip a slot so the fork's first block differs from the canonical block
+          final ChainBuilder fork = chainBuilder.fork();
+          blocks.add(fork.generateBlockAtSlot(slot + 1));
+          for (int i = 1; i < FORK_LENGTH; i++) {
+            blocks.add(fork.generateNextBlock());
+          }
+          forksCreated++;
+        }
+        final SignedBlockAndState block = chainBuilder.generateBlockAtSlot(slot);
+        canonicalRoots.add(block.getRoot());
+        blocks.add(block);
+      }
+    } catch (final StateTransitionException e) {
+      throw new IllegalStateException("Failed to generate chain", e);
+    }
+    return new GeneratedChain(genesis, blocks, canonicalRoots);
+  }
+
+  /**
+   * Writes a generated chain through {@link RecentChainData}, committing one store transaction per
+   * block and finalizing the epoch two behind each new canonical epoch.
+   */
+  public static void importChain(final GeneratedChain chain, final RecentChainData recentChain) {
+    recentChain.initializeFromGenesis(chain.getGenesis().getState());
+    final NavigableMap<UnsignedLong, SignedBlockAndState> canonicalBySlot = new TreeMap<>();
+    canonicalBySlot.put(chain.getGenesis().getSlot(), chain.getGenesis());
+    UnsignedLong finalizedEpoch = UnsignedLong.ZERO;
+
+    for (SignedBlockAndState block : chain.getBlocks()) {
+      final boolean canonical = chain.isCanonical(block.getRoot());
+      final StoreTransaction tx = recentChain.startStoreTransaction();
+      tx.putBlockAndState(block.getBlock(), block.getState());
+      final UnsignedLong blockTime =
+          recentChain
+              .getGenesisTime()
+              .plus(block.getSlot().times(UnsignedLong.valueOf(Constants.SECONDS_PER_SLOT)));
+      if (blockTime.compareTo(recentChain.getStore().getTime()) > 0) {
+        tx.setTime(blockTime);
+      }
+
+      if (canonical) {
+        canonicalBySlot.put(block.getSlot(), block);
+        final UnsignedLong epoch = compute_epoch_at_slot(block.getSlot());
+        if (epoch.compareTo(UnsignedLong.valueOf(2)) >= 0
+            && epoch.minus(UnsignedLong.valueOf(2)).compareTo(finalizedEpoch) > 0) {
+          finalizedEpoch = epoch.minus(UnsignedLong.valueOf(2));
+          final Map.Entry<UnsignedLong, SignedBlockAndState> checkpointBlock =
+              canonicalBySlot.floorEntry(compute_start_slot_at_epoch(finalizedEpoch));
+          tx.setFinalizedCheckpoint(
+              new Checkpoint(finalizedEpoch, checkpointBlock.getValue().getRoot()));
+        }
+      }
+      tx.commit().join();
+
+      recentChain
+          .getForkChoiceStrategy()
+          .orElseThrow()
+          .onBlock(block.getBlock().getMessage(), block.getState());
+      if (canonical) {
+        recentChain.updateBestBlock(block.getRoot(), block.getSlot());
+      }
+    }
+  }
+
+  public StorageSystem createStorageSystem(final Path dataDir) {
+    switch (databaseVersion) {
+      case V3:
+        return FileBackedStorageSystem.createV3StorageSystem(dataDir, storageMode);
+      case V4:
+        return FileBackedStorageSystem.createV4StorageSystem(
+            dataDir, storageMode, stateStorageFrequency);
+      case V5:
+        return FileBackedStorageSystem.createV5StorageSystem(
+            dataDir, storageMode, stateStorageFrequency);
+      default:
+        throw new UnsupportedOperationException("Unhandled database version " + databaseVersion);
+    }
+  }
+
+  /** Opens a database previously written by {@link #generateDatabase(Path)}. */
+  public Database openDatabase(final Path dataDir) {
+    final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+    switch (databaseVersion) {
+      case V3:
+        return RocksDbDatabase.createV3(
+            metricsSystem, RocksDbConfiguration.v3And4Settings(dataDir), storageMode);
+      case V4:
+        return RocksDbDatabase.createV4(
+            metricsSystem,
+            RocksDbConfiguration.v3And4Settings(dataDir.resolve("hot")),
+            RocksDbConfiguration.v3And4Settings(dataDir.resolve("archive")),
+            storageMode,
+            stateStorageFrequency);
+      case V5:
+        return RocksDbDatabase.createV4(
+            metricsSystem,
+            RocksDbConfiguration.v5HotDefaults().withDatabaseDir(dataDir.resolve("hot")),
+            RocksDbConfiguration.v5ArchiveDefaults().withDatabaseDir(dataDir.resolve("archive")),
+            storageMode,
+            stateStorageFrequency);
+      default:
+        throw new UnsupportedOperationException("Unhandled database version " + databaseVersion);
+    }
+  }
+
+  public static long getDiskFootprint(final Path dataDir) {
+    try (final Stream<Path> files = Files.walk(dataDir)) {
+      return files
+          .filter(Files::isRegularFile)
+          .mapToLong(
+              file -> {
+                try {
+                  return Files.size(file);
+                } catch (final IOException e) {
+                  throw new UncheckedIOException(e);
+                }
+              })
+          .sum();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private String getName() {
+    return String.format(
+        "%s_%s_validators_%d_epochs_%d_forks_%d_frequency_%d",
+        databaseVersion, storageMode, validatorCount, epochCount, forkCount, stateStorageFrequency);
+  }
+
+  public static class GeneratedChain {
+    private final SignedBlockAndState genesis;
+    private final List<SignedBlockAndState> blocks;
+    private final Set<Bytes32> canonicalRoots;
+
+    private GeneratedChain(
+        final SignedBlockAndState genesis,
+        final List<SignedBlockAndState> blocks,
+        final Set<Bytes32> canonicalRoots) {
+      this.genesis = genesis;
+      this.blocks = blocks;
+      this.canonicalRoots = canonicalRoots;
+    }
+
+    public SignedBlockAndState getGenesis() {
+      return genesis;
+    }
+
+    public List<SignedBlockAndState> getBlocks() {
+      return blocks;
+    }
+
+    public boolean isCanonical(final Bytes32 blockRoot) {
+      return canonicalRoots.contains(blockRoot);
+    }
+  }
+}
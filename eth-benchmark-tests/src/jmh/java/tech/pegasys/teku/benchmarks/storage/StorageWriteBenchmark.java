@@ -0,0 +1,109 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.benchmarks.storage.StorageChainGenerator.GeneratedChain;
+import tech.pegasys.teku.storage.server.DatabaseVersion;
+import tech.pegasys.teku.storage.storageSystem.StorageSystem;
+import tech.pegasys.teku.util.config.StateStorageMode;
+import tech.pegasys.teku.util.file.FileUtil;
+
+/**
+ * Measures write throughput by importing a pre-generated chain into an empty database. Each
+ * invocation writes the whole chain, committing one store transaction per block, so blocks per
+ * second is the number of generated blocks divided by the reported time. The size of the resulting
+ * database is printed after each invocation.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+public class StorageWriteBenchmark {
+
+  @Param({"V3", "V4", "V5"})
+  DatabaseVersion databaseVersion;
+
+  @Param({"PRUNE", "ARCHIVE"})
+  StateStorageMode storageMode;
+
+  @Param({"16384"})
+  int validatorCount;
+
+  @Param({"8"})
+  int epochCount;
+
+  @Param({"4"})
+  int forkCount;
+
+  @Param({"256"})
+  long stateStorageFrequency;
+
+  StorageChainGenerator generator;
+  GeneratedChain chain;
+  Path dataDir;
+  StorageSystem storageSystem;
+
+  @Setup(Level.Trial)
+  public void generateChain() {
+    generator =
+        new StorageChainGenerator(
+            databaseVersion,
+            storageMode,
+            validatorCount,
+            epochCount,
+            forkCount,
+            stateStorageFrequency);
+    chain = generator.generateChain();
+    System.out.println("Generated " + chain.getBlocks().size() + " blocks");
+  }
+
+  @Setup(Level.Invocation)
+  public void createDatabase() throws IOException {
+    dataDir = Files.createTempDirectory("teku-storage-write");
+    storageSystem = generator.createStorageSystem(dataDir);
+  }
+
+  @TearDown(Level.Invocation)
+  public void deleteDatabase() throws Exception {
+    storageSystem.close();
+    System.out.printf(
+        "Database used %d bytes on disk%n", StorageChainGenerator.getDiskFootprint(dataDir));
+    FileUtil.recursivelyDeleteDirectories(List.of(dataDir.toFile()));
+  }
+
+  @Benchmark
+  public void importChain() {
+    StorageChainGenerator.importChain(chain, storageSystem.recentChainData());
+  }
+}
@@ -15,6 +15,11 @@ package tech.pegasys.teku.core;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.lang.Math.toIntExact;
+import static tech.pegasys.teku.core.profiling.StateTransitionPhase.BLOCK_ATTESTATIONS;
+import static tech.pegasys.teku.core.profiling.StateTransitionPhase.BLOCK_ATTESTER_SLASHINGS;
+import static tech.pegasys.teku.core.profiling.StateTransitionPhase.BLOCK_DEPOSITS;
+import static tech.pegasys.teku.core.profiling.StateTransitionPhase.BLOCK_PROPOSER_SLASHINGS;
+import static tech.pegasys.teku.core.profiling.StateTransitionPhase.BLOCK_VOLUNTARY_EXITS;
 import static tech.pegasys.teku.datastructures.util.AttestationUtil.get_indexed_attestation;
 import static tech.pegasys.teku.datastructures.util.AttestationUtil.is_valid_indexed_attestation;
 import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.compute_epoch_at_slot;
@@ -52,6 +57,8 @@ import tech.pegasys.teku.core.operationvalidators.AttesterSlashingStateTransitio
 import tech.pegasys.teku.core.operationvalidators.OperationInvalidReason;
 import tech.pegasys.teku.core.operationvalidators.ProposerSlashingStateTransitionValidator;
 import tech.pegasys.teku.core.operationvalidators.VoluntaryExitStateTransitionValidator;
+import tech.pegasys.teku.core.profiling.StateTransitionProfiler;
+import tech.pegasys.teku.core.profiling.StateTransitionProfiler.PhaseTimer;
 import tech.pegasys.teku.datastructures.blocks.BeaconBlock;
 import tech.pegasys.teku.datastructures.blocks.BeaconBlockBody;
 import tech.pegasys.teku.datastructures.blocks.BeaconBlockHeader;
@@ -197,11 +204,21 @@ public final class BlockProcessorUtil {
                           .longValue())),
           "process_operations: Verify that outstanding deposits are processed up to the maximum number of deposits");
 
-      process_proposer_slashings_no_validation(state, body.getProposer_slashings());
-      process_attester_slashings(state, body.getAttester_slashings());
-      process_attestations_no_validation(state, body.getAttestations());
-      process_deposits(state, body.getDeposits());
-      process_voluntary_exits_no_validation(state, body.getVoluntary_exits());
+      try (PhaseTimer ignored = StateTransitionProfiler.startPhase(BLOCK_PROPOSER_SLASHINGS)) {
+        process_proposer_slashings_no_validation(state, body.getProposer_slashings());
+      }
+      try (PhaseTimer ignored = StateTransitionProfiler.startPhase(BLOCK_ATTESTER_SLASHINGS)) {
+        process_attester_slashings(state, body.getAttester_slashings());
+      }
+      try (PhaseTimer ignored = StateTransitionProfiler.startPhase(BLOCK_ATTESTATIONS)) {
+        process_attestations_no_validation(state, body.getAttestations());
+      }
+      try (PhaseTimer ignored = StateTransitionProfiler.startPhase(BLOCK_DEPOSITS)) {
+        process_deposits(state, body.getDeposits());
+      }
+      try (PhaseTimer ignored = StateTransitionProfiler.startPhase(BLOCK_VOLUNTARY_EXITS)) {
+        process_voluntary_exits_no_validation(state, body.getVoluntary_exits());
+      }
       // @process_shard_receipt_proofs
     } catch (IllegalArgumentException e) {
       LOG.warn(e.getMessage());
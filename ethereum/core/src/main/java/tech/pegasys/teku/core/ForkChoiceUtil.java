@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.core;
 
+import static tech.pegasys.teku.core.profiling.StateTransitionPhase.BATCH_SIGNATURE_VERIFICATION;
 import static tech.pegasys.teku.datastructures.util.AttestationProcessingResult.SUCCESSFUL;
 import static tech.pegasys.teku.datastructures.util.AttestationUtil.get_indexed_attestation;
 import static tech.pegasys.teku.datastructures.util.AttestationUtil.is_valid_indexed_attestation;
@@ -25,6 +26,8 @@ import static tech.pegasys.teku.util.config.Constants.SECONDS_PER_SLOT;
 
 import com.google.common.primitives.UnsignedLong;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.TreeMap;
@@ -33,6 +36,14 @@ import javax.annotation.CheckReturnValue;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.bls.BLSSignatureVerifier;
+import tech.pegasys.teku.bls.VerifiedSignatureCache;
+import tech.pegasys.teku.core.blockvalidator.BatchSignatureVerifier;
+import tech.pegasys.teku.core.blockvalidator.BlockValidator;
+import tech.pegasys.teku.core.blockvalidator.SimpleBlockValidator;
+import tech.pegasys.teku.core.profiling.StateTransitionBreakdown;
+import tech.pegasys.teku.core.profiling.StateTransitionProfiler;
+import tech.pegasys.teku.core.profiling.StateTransitionProfiler.PhaseTimer;
 import tech.pegasys.teku.core.results.BlockImportResult;
 import tech.pegasys.teku.data.BlockProcessingRecord;
 import tech.pegasys.teku.datastructures.attestation.ValidateableAttestation;
@@ -211,6 +222,38 @@ public class ForkChoiceUtil {
       final StateTransition st,
       final ForkChoiceStrategy forkChoiceStrategy,
       final Consumer<BeaconState> beaconStateConsumer) {
+    final BlockImportResult result =
+        compute_block_post_state(
+            store, signed_block, maybePreState, st, forkChoiceStrategy, beaconStateConsumer);
+    if (!result.isSuccessful()) {
+      return result;
+    }
+    return apply_block_to_store(
+        store, result.getBlockProcessingRecord().orElseThrow(), forkChoiceStrategy);
+  }
+
+  /**
+   * Runs the part of ``on_block`` which does not modify the store: the precondition checks and the
+   * state transition, including signature verification. This is the expensive part of block import
+   * and is safe to run concurrently for multiple blocks. The resulting record must then be applied
+   * with {@link #apply_block_to_store(MutableStore, BlockProcessingRecord, ForkChoiceStrategy)}.
+   *
+   * @param store
+   * @param signed_block
+   * @param maybePreState
+   * @param st
+   * @param forkChoiceStrategy
+   * @param beaconStateConsumer
+   * @return a successful result containing the block processing record, or the failure reason
+   */
+  @CheckReturnValue
+  public static BlockImportResult compute_block_post_state(
+      final ReadOnlyStore store,
+      final SignedBeaconBlock signed_block,
+      Optional<BeaconState> maybePreState,
+      final StateTransition st,
+      final ForkChoiceStrategy forkChoiceStrategy,
+      final Consumer<BeaconState> beaconStateConsumer) {
     final BeaconBlock block = signed_block.getMessage();
 
     // Return early if precondition checks fail;
@@ -220,15 +263,163 @@ public class ForkChoiceUtil {
       return maybeFailure.get();
     }
     final BeaconState preState = maybePreState.orElseThrow();
+    return run_state_transition(preState, signed_block, st, Optional.empty(), beaconStateConsumer);
+  }
+
+  /**
+   * Runs the state transitions for a chain of blocks, each the child of the one before it, and
+   * verifies the signatures of all the blocks in a single batch rather than block by block. If the
+   * batch is invalid it is bisected to find the first block with an invalid signature.
+   *
+   * <p>Only blocks which were fully verified are returned as successful. The returned list covers a
+   * prefix of {@code signed_blocks}:
+   *
+   * <ul>
+   *   <li>If the last result is a failure, the blocks after it were not processed.
+   *   <li>If every result is successful but the list is shorter than {@code signed_blocks}, the
+   *       remaining blocks could not be verified as part of the batch. This happens when a block
+   *       has an invalid signature or does not build on the previous block. Those blocks should be
+   *       imported individually with {@link #compute_block_post_state}.
+   * </ul>
+   *
+   * <p>As with {@link #compute_block_post_state}, the store is not modified.
+   *
+   * @param store
+   * @param signed_blocks
+   * @param maybePreState the pre-state of the first block
+   * @param st
+   * @param verifiedSignatureCache
+   * @param forkChoiceStrategy
+   * @param beaconStateConsumer
+   * @return the results for the verified prefix of the blocks
+   */
+  @CheckReturnValue
+  public static List<BlockImportResult> compute_block_batch_post_states(
+      final ReadOnlyStore store,
+      final List<SignedBeaconBlock> signed_blocks,
+      final Optional<BeaconState> maybePreState,
+      final StateTransition st,
+      final VerifiedSignatureCache verifiedSignatureCache,
+      final ForkChoiceStrategy forkChoiceStrategy,
+      final Consumer<BeaconState> beaconStateConsumer) {
+    final List<BlockImportResult> results = new ArrayList<>();
+    final List<BatchSignatureVerifier> signatureVerifiers = new ArrayList<>();
+    Optional<BlockImportResult> failure = Optional.empty();
+    BeaconState preState = maybePreState.orElse(null);
+    SignedBeaconBlock previousBlock = null;
+    for (SignedBeaconBlock signed_block : signed_blocks) {
+      if (previousBlock == null) {
+        failure =
+            checkOnBlockConditions(signed_block.getMessage(), preState, store, forkChoiceStrategy);
+      } else if (!signed_block.getParent_root().equals(previousBlock.getRoot())) {
+        // Not part of the chain, leave it to be imported individually
+        break;
+      } else {
+        failure = checkBatchBlockConditions(signed_block.getMessage(), preState, store);
+      }
+      if (failure.isPresent()) {
+        break;
+      }
+
+      // Collect the signatures to verify them all at once when the batch is complete
+      final BatchSignatureVerifier signatureVerifier =
+          new BatchSignatureVerifier(verifiedSignatureCache);
+      final BlockImportResult result =
+          run_state_transition(
+              preState,
+              signed_block,
+              st,
+              Optional.of(new SimpleBlockValidator(true, true, true, signatureVerifier)),
+              beaconStateConsumer);
+      if (!result.isSuccessful()) {
+        failure = Optional.of(result);
+        break;
+      }
+      results.add(result);
+      signatureVerifiers.add(signatureVerifier);
+      preState = result.getBlockProcessingRecord().orElseThrow().getPostState();
+      previousBlock = signed_block;
+    }
+
+    final boolean signaturesValid;
+    try (PhaseTimer ignored = StateTransitionProfiler.startPhase(BATCH_SIGNATURE_VERIFICATION)) {
+      signaturesValid = BatchSignatureVerifier.batchVerify(signatureVerifiers);
+    }
+    if (!signaturesValid) {
+      // Keep only the blocks before the first invalid one
+      final int firstInvalidBlock = findFirstInvalidBatch(signatureVerifiers);
+      return new ArrayList<>(results.subList(0, firstInvalidBlock));
+    }
+    failure.ifPresent(results::add);
+    return results;
+  }
 
+  /**
+   * Finds the first of the given verifiers which holds an invalid signature, assuming that
+   * verifying all of them together has already failed.
+   */
+  private static int findFirstInvalidBatch(final List<BatchSignatureVerifier> signatureVerifiers) {
+    int fromIndex = 0;
+    int toIndex = signatureVerifiers.size();
+    while (toIndex - fromIndex > 1) {
+      final int midIndex = (fromIndex + toIndex) / 2;
+      if (BatchSignatureVerifier.batchVerify(signatureVerifiers.subList(fromIndex, midIndex))) {
+        fromIndex = midIndex;
+      } else {
+        toIndex = midIndex;
+      }
+    }
+    return fromIndex;
+  }
+
+  private static BlockImportResult run_state_transition(
+      final BeaconState preState,
+      final SignedBeaconBlock signed_block,
+      final StateTransition st,
+      final Optional<BlockValidator> blockValidator,
+      final Consumer<BeaconState> beaconStateConsumer) {
     // Make a copy of the state to avoid mutability issues
     BeaconState state;
 
     // Check the block is valid and compute the post-state
+    final StateTransitionBreakdown breakdown = StateTransitionProfiler.startBreakdown();
     try {
-      state = st.initiate(preState, signed_block, true, beaconStateConsumer);
+      state =
+          blockValidator.isPresent()
+              ? st.initiate(preState, signed_block, blockValidator.get(), beaconStateConsumer)
+              : st.initiate(preState, signed_block, true, beaconStateConsumer);
     } catch (StateTransitionException e) {
       return BlockImportResult.failedStateTransition(e);
+    } finally {
+      StateTransitionProfiler.stopBreakdown(breakdown);
+    }
+
+    final BlockProcessingRecord record =
+        new BlockProcessingRecord(preState, signed_block, state, breakdown.getPhaseDurations());
+    return BlockImportResult.successful(record);
+  }
+
+  /**
+   * Adds a block whose post-state was computed by {@link #compute_block_post_state} to the store
+   * and updates the justified and finalized checkpoints. Finalization may have advanced since the
+   * post-state was computed, so the block's ancestry is checked again against the store.
+   *
+   * @param store
+   * @param record
+   * @param forkChoiceStrategy
+   * @return the result of applying the block
+   */
+  @CheckReturnValue
+  public static BlockImportResult apply_block_to_store(
+      final MutableStore store,
+      final BlockProcessingRecord record,
+      final ForkChoiceStrategy forkChoiceStrategy) {
+    final SignedBeaconBlock signed_block = record.getBlock();
+    final BeaconState state = record.getPostState();
+
+    if (!blockDescendsFromLatestFinalizedBlock(
+        signed_block.getMessage(), store, forkChoiceStrategy)) {
+      return BlockImportResult.FAILED_INVALID_ANCESTRY;
     }
 
     // Add new block to store
@@ -262,7 +453,6 @@ public class ForkChoiceUtil {
       }
     }
 
-    final BlockProcessingRecord record = new BlockProcessingRecord(preState, signed_block, state);
     return BlockImportResult.successful(record);
   }
 
@@ -297,6 +487,23 @@ public class ForkChoiceUtil {
     return Optional.empty();
   }
 
+  /**
+   * Checks the conditions for a block in a batch whose parent is the previous block of the batch.
+   * The parent is not yet in the store, so its descent from the finalized block was checked when
+   * the first block of the batch was checked instead.
+   */
+  private static Optional<BlockImportResult> checkBatchBlockConditions(
+      final BeaconBlock block, final BeaconState preState, final ReadOnlyStore store) {
+    final UnsignedLong blockSlot = block.getSlot();
+    if (preState.getSlot().compareTo(blockSlot) >= 0) {
+      return Optional.of(BlockImportResult.FAILED_INVALID_ANCESTRY);
+    }
+    if (blockIsFromFuture(store, blockSlot)) {
+      return Optional.of(BlockImportResult.FAILED_BLOCK_IS_FROM_FUTURE);
+    }
+    return Optional.empty();
+  }
+
   private static boolean blockIsFromFuture(ReadOnlyStore store, final UnsignedLong blockSlot) {
     return get_current_slot(store).compareTo(blockSlot) < 0;
   }
@@ -341,6 +548,7 @@ public class ForkChoiceUtil {
    * @param store
    * @param validateableAttestation
    * @param stateTransition
+   * @param signatureVerifier
    * @see
    *     <a>https://github.com/ethereum/eth2.0-specs/blob/v0.8.1/specs/core/0_fork-choice.md#on_attestation</a>
    */
@@ -349,13 +557,17 @@ public class ForkChoiceUtil {
       final MutableStore store,
       final ValidateableAttestation validateableAttestation,
       final StateTransition stateTransition,
-      final ForkChoiceStrategy forkChoiceStrategy) {
+      final ForkChoiceStrategy forkChoiceStrategy,
+      final BLSSignatureVerifier signatureVerifier) {
 
     Attestation attestation = validateableAttestation.getAttestation();
     Checkpoint target = attestation.getData().getTarget();
 
     return validateOnAttestation(store, attestation, forkChoiceStrategy)
-        .ifSuccessful(() -> indexAndValidateAttestation(store, validateableAttestation, target))
+        .ifSuccessful(
+            () ->
+                indexAndValidateAttestation(
+                    store, validateableAttestation, target, signatureVerifier))
         .ifSuccessful(() -> checkIfAttestationShouldBeSavedForFuture(store, attestation))
         .ifSuccessful(
             () -> {
@@ -375,7 +587,10 @@ public class ForkChoiceUtil {
    * @return
    */
   private static AttestationProcessingResult indexAndValidateAttestation(
-      MutableStore store, ValidateableAttestation attestation, Checkpoint target) {
+      MutableStore store,
+      ValidateableAttestation attestation,
+      Checkpoint target,
+      BLSSignatureVerifier signatureVerifier) {
     BeaconState targetState;
     try {
       Optional<BeaconState> maybeTargetState = store.getCheckpointState(target);
@@ -395,7 +610,7 @@ public class ForkChoiceUtil {
       LOG.debug("on_attestation: Attestation is not valid: ", e);
       return AttestationProcessingResult.invalid(e.getMessage());
     }
-    return is_valid_indexed_attestation(targetState, indexedAttestation)
+    return is_valid_indexed_attestation(targetState, indexedAttestation, signatureVerifier)
         .ifSuccessful(
             () -> {
               attestation.setIndexedAttestation(indexedAttestation);
@@ -14,6 +14,14 @@
 package tech.pegasys.teku.core;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static tech.pegasys.teku.core.profiling.StateTransitionPhase.BLOCK_ETH1_DATA;
+import static tech.pegasys.teku.core.profiling.StateTransitionPhase.BLOCK_HEADER;
+import static tech.pegasys.teku.core.profiling.StateTransitionPhase.BLOCK_RANDAO;
+import static tech.pegasys.teku.core.profiling.StateTransitionPhase.BLOCK_VALIDATION;
+import static tech.pegasys.teku.core.profiling.StateTransitionPhase.PROCESS_BLOCK;
+import static tech.pegasys.teku.core.profiling.StateTransitionPhase.PROCESS_SLOTS;
+import static tech.pegasys.teku.core.profiling.StateTransitionPhase.SLOT_HASH_TREE_ROOT;
+import static tech.pegasys.teku.core.profiling.StateTransitionPhase.TOTAL;
 import static tech.pegasys.teku.util.config.Constants.SLOTS_PER_EPOCH;
 import static tech.pegasys.teku.util.config.Constants.SLOTS_PER_HISTORICAL_ROOT;
 import static tech.pegasys.teku.util.config.Constants.ZERO_HASH;
@@ -30,10 +38,15 @@ import tech.pegasys.teku.core.epoch.EpochProcessor;
 import tech.pegasys.teku.core.exceptions.BlockProcessingException;
 import tech.pegasys.teku.core.exceptions.EpochProcessingException;
 import tech.pegasys.teku.core.exceptions.SlotProcessingException;
+import tech.pegasys.teku.core.profiling.StateTransitionProfiler;
+import tech.pegasys.teku.core.profiling.StateTransitionProfiler.PhaseTimer;
+import tech.pegasys.teku.core.profiling.StateTransitionProfiler.SplitPhaseTimer;
 import tech.pegasys.teku.datastructures.blocks.BeaconBlock;
 import tech.pegasys.teku.datastructures.blocks.BeaconBlockHeader;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.datastructures.state.BeaconState;
+import tech.pegasys.teku.datastructures.state.MutableBeaconState;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
 
 public class StateTransition {
 
@@ -81,9 +94,24 @@ public class StateTransition {
       boolean validateStateRootAndSignatures,
       final Consumer<BeaconState> beaconStateConsumer)
       throws StateTransitionException {
-    try {
-      BlockValidator blockValidator =
-          validateStateRootAndSignatures ? this.blockValidator : BlockValidator.NOOP;
+    return initiate(
+        preState,
+        signed_block,
+        validateStateRootAndSignatures ? this.blockValidator : BlockValidator.NOOP,
+        beaconStateConsumer);
+  }
+
+  /**
+   * Runs state transition up to and with the given block, validating it with the supplied {@link
+   * BlockValidator} instead of the one this instance was created with.
+   */
+  public BeaconState initiate(
+      BeaconState preState,
+      SignedBeaconBlock signed_block,
+      BlockValidator blockValidator,
+      final Consumer<BeaconState> beaconStateConsumer)
+      throws StateTransitionException {
+    try (PhaseTimer ignored = StateTransitionProfiler.startPhase(TOTAL)) {
       final BeaconBlock block = signed_block.getMessage();
 
       // * Process slots (including those with no blocks) since block
@@ -99,11 +127,25 @@ public class StateTransition {
                 }
               });
 
-      // Process_block
-      BeaconState postState = process_block(postSlotState, block);
+      final BeaconState postState;
+      final BlockValidationResult blockValidationResult;
+      try (SplitPhaseTimer validationTimer =
+          StateTransitionProfiler.startSplitPhase(BLOCK_VALIDATION)) {
+        // Validators may verify signatures asynchronously, so start validating against the
+        // pre-state before processing the block to let the two overlap
+        final SafeFuture<BlockValidationResult> preStateValidationResult =
+            validationTimer.time(
+                () -> validate_pre_state(blockValidator, postSlotState, signed_block));
+
+        // Process_block
+        postState = process_block(postSlotState, block);
 
-      BlockValidationResult blockValidationResult =
-          blockValidator.validate(postSlotState, signed_block, postState).join();
+        blockValidationResult =
+            validationTimer.time(
+                () ->
+                    validate_block(
+                        blockValidator, preStateValidationResult, signed_block, postState));
+      }
 
       if (!blockValidationResult.isValid()) {
         throw new BlockProcessingException(blockValidationResult.getReason());
@@ -128,13 +170,40 @@ public class StateTransition {
    */
   private BeaconState process_block(BeaconState preState, BeaconBlock block)
       throws BlockProcessingException {
-    return preState.updated(
-        state -> {
-          BlockProcessorUtil.process_block_header(state, block);
-          BlockProcessorUtil.process_randao_no_validation(state, block.getBody());
-          BlockProcessorUtil.process_eth1_data(state, block.getBody());
-          BlockProcessorUtil.process_operations_no_validation(state, block.getBody());
-        });
+    try (PhaseTimer ignored = StateTransitionProfiler.startPhase(PROCESS_BLOCK)) {
+      return preState.updated(state -> process_block_operations(state, block));
+    }
+  }
+
+  private static void process_block_operations(MutableBeaconState state, BeaconBlock block)
+      throws BlockProcessingException {
+    try (PhaseTimer ignored = StateTransitionProfiler.startPhase(BLOCK_HEADER)) {
+      BlockProcessorUtil.process_block_header(state, block);
+    }
+    try (PhaseTimer ignored = StateTransitionProfiler.startPhase(BLOCK_RANDAO)) {
+      BlockProcessorUtil.process_randao_no_validation(state, block.getBody());
+    }
+    try (PhaseTimer ignored = StateTransitionProfiler.startPhase(BLOCK_ETH1_DATA)) {
+      BlockProcessorUtil.process_eth1_data(state, block.getBody());
+    }
+    BlockProcessorUtil.process_operations_no_validation(state, block.getBody());
+  }
+
+  private static SafeFuture<BlockValidationResult> validate_pre_state(
+      BlockValidator blockValidator, BeaconState postSlotState, SignedBeaconBlock signed_block) {
+    return blockValidator.validatePreState(postSlotState, signed_block);
+  }
+
+  private static BlockValidationResult validate_block(
+      BlockValidator blockValidator,
+      SafeFuture<BlockValidationResult> preStateValidationResult,
+      SignedBeaconBlock signed_block,
+      BeaconState postState) {
+    final SafeFuture<BlockValidationResult> postStateValidationResult =
+        blockValidator.validatePostState(postState, signed_block);
+    return preStateValidationResult
+        .thenCombine(postStateValidationResult, (pre, post) -> !pre.isValid() ? pre : post)
+        .join();
   }
 
   /**
@@ -146,7 +215,7 @@ public class StateTransition {
     return preState.updated(
         state -> {
           // Cache state root
-          Bytes32 previous_state_root = state.hash_tree_root();
+          Bytes32 previous_state_root = hash_state(state);
           int index =
               state.getSlot().mod(UnsignedLong.valueOf(SLOTS_PER_HISTORICAL_ROOT)).intValue();
           state.getState_roots().set(index, previous_state_root);
@@ -170,6 +239,12 @@ public class StateTransition {
         });
   }
 
+  private static Bytes32 hash_state(BeaconState state) {
+    try (PhaseTimer ignored = StateTransitionProfiler.startPhase(SLOT_HASH_TREE_ROOT)) {
+      return state.hash_tree_root();
+    }
+  }
+
   /**
    * v0.7.1
    * https://github.com/ethereum/eth2.0-specs/blob/v0.7.1/specs/core/0_beacon-chain.md#beacon-chain-state-transition-function
@@ -186,7 +261,7 @@ public class StateTransition {
   public BeaconState process_slots(
       BeaconState preState, UnsignedLong slot, final Consumer<BeaconState> beaconStateConsumer)
       throws SlotProcessingException, EpochProcessingException {
-    try {
+    try (PhaseTimer ignored = StateTransitionProfiler.startPhase(PROCESS_SLOTS)) {
       checkArgument(
           preState.getSlot().compareTo(slot) < 0,
           "process_slots: State slot %s higher than given slot %s",
@@ -13,6 +13,12 @@
 
 package tech.pegasys.teku.core.blockvalidator;
 
+import static tech.pegasys.teku.core.profiling.StateTransitionPhase.BATCH_SIGNATURE_VERIFICATION;
+import static tech.pegasys.teku.core.profiling.StateTransitionPhase.STATE_ROOT;
+
+import tech.pegasys.teku.bls.VerifiedSignatureCache;
+import tech.pegasys.teku.core.profiling.StateTransitionProfiler;
+import tech.pegasys.teku.core.profiling.StateTransitionProfiler.PhaseTimer;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.datastructures.state.BeaconState;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -23,33 +29,64 @@ import tech.pegasys.teku.infrastructure.async.SafeFuture;
  */
 public class BatchBlockValidator implements BlockValidator {
 
+  private final VerifiedSignatureCache verifiedSignatureCache;
+
+  public BatchBlockValidator() {
+    this(VerifiedSignatureCache.DISABLED);
+  }
+
+  public BatchBlockValidator(final VerifiedSignatureCache verifiedSignatureCache) {
+    this.verifiedSignatureCache = verifiedSignatureCache;
+  }
+
   @Override
   public SafeFuture<BlockValidationResult> validatePreState(
       BeaconState preState, SignedBeaconBlock block) {
-    BatchSignatureVerifier signatureVerifier = new BatchSignatureVerifier();
+    BatchSignatureVerifier signatureVerifier = createSignatureVerifier();
+    BlockValidationResult noBLSValidationResult =
+        collectSignatures(preState, block, signatureVerifier);
+    if (!noBLSValidationResult.isValid()) {
+      // something went wrong aside of signatures verification
+      return SafeFuture.completedFuture(noBLSValidationResult);
+    }
+    return SafeFuture.completedFuture(verifySignatures(preState, block, signatureVerifier));
+  }
+
+  protected BatchSignatureVerifier createSignatureVerifier() {
+    return new BatchSignatureVerifier(verifiedSignatureCache);
+  }
+
+  /**
+   * Performs all pre-state validations, passing the block signatures to the {@code
+   * signatureVerifier} to be collected rather than verified.
+   */
+  protected BlockValidationResult collectSignatures(
+      BeaconState preState, SignedBeaconBlock block, BatchSignatureVerifier signatureVerifier) {
     SimpleBlockValidator blockValidator =
         new SimpleBlockValidator(true, true, true, signatureVerifier);
-    SafeFuture<BlockValidationResult> noBLSValidationResultFut =
-        blockValidator.validatePreState(preState, block);
-    // during the above validatePreState() call BatchSignatureVerifier just collected
-    // a bunch of signatures to be verified in optimized batched way on the following step
-    if (!noBLSValidationResultFut.join().isValid()) {
-      // something went wrong aside of signatures verification
-      return noBLSValidationResultFut;
+    return blockValidator.validatePreState(preState, block).join();
+  }
+
+  /** Verifies the signatures collected by {@link #collectSignatures} in a single batch. */
+  protected BlockValidationResult verifySignatures(
+      BeaconState preState, SignedBeaconBlock block, BatchSignatureVerifier signatureVerifier) {
+    final boolean batchBLSResult;
+    try (PhaseTimer ignored = StateTransitionProfiler.startPhase(BATCH_SIGNATURE_VERIFICATION)) {
+      batchBLSResult = signatureVerifier.batchVerify();
+    }
+    if (!batchBLSResult) {
+      // validate again naively to get exact invalid signature
+      return new SimpleBlockValidator().validatePreState(preState, block).join();
     } else {
-      boolean batchBLSResult = signatureVerifier.batchVerify();
-      if (!batchBLSResult) {
-        // validate again naively to get exact invalid signature
-        return new SimpleBlockValidator().validatePreState(preState, block);
-      } else {
-        return SafeFuture.completedFuture(new BlockValidationResult(true));
-      }
+      return new BlockValidationResult(true);
     }
   }
 
   @Override
   public SafeFuture<BlockValidationResult> validatePostState(
       BeaconState postState, SignedBeaconBlock block) {
-    return new SimpleBlockValidator().validatePostState(postState, block);
+    try (PhaseTimer ignored = StateTransitionProfiler.startPhase(STATE_ROOT)) {
+      return new SimpleBlockValidator().validatePostState(postState, block);
+    }
   }
 }
@@ -13,16 +13,19 @@
 
 package tech.pegasys.teku.core.blockvalidator;
 
+import static java.util.stream.Collectors.toList;
+
 import com.google.common.annotations.VisibleForTesting;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.bls.BLS;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.bls.BLSSignatureVerifier;
 import tech.pegasys.teku.bls.BatchSemiAggregate;
+import tech.pegasys.teku.bls.VerifiedSignatureCache;
 
 /**
  * Implementation which doesn't perform any actual validations on {@link #verify(List, Bytes,
@@ -32,18 +35,20 @@ import tech.pegasys.teku.bls.BatchSemiAggregate;
  * <p>Every instance of this class is disposable, i.e. it is intended for just a single batch and a
  * single {@link #batchVerify()} call.
  *
+ * <p>Signatures already in the supplied {@link VerifiedSignatureCache}, such as attestations that
+ * were verified when received via gossip, are skipped. Signatures in a batch which verifies
+ * successfully are added to the cache.
+ *
  * <p>This is thread-safe class.
  */
 public class BatchSignatureVerifier implements BLSSignatureVerifier {
 
   private static class Job {
-    final int idx;
     final List<BLSPublicKey> publicKeys;
     final Bytes message;
     final BLSSignature signature;
 
-    public Job(int idx, List<BLSPublicKey> publicKeys, Bytes message, BLSSignature signature) {
-      this.idx = idx;
+    public Job(List<BLSPublicKey> publicKeys, Bytes message, BLSSignature signature) {
       this.publicKeys = publicKeys;
       this.message = message;
       this.signature = signature;
@@ -51,13 +56,25 @@ public class BatchSignatureVerifier implements BLSSignatureVerifier {
   }
 
   @VisibleForTesting final List<Job> toVerify = new ArrayList<>();
+  private final VerifiedSignatureCache verifiedSignatureCache;
   private boolean complete = false;
 
+  public BatchSignatureVerifier() {
+    this(VerifiedSignatureCache.DISABLED);
+  }
+
+  public BatchSignatureVerifier(final VerifiedSignatureCache verifiedSignatureCache) {
+    this.verifiedSignatureCache = verifiedSignatureCache;
+  }
+
   @Override
   public synchronized boolean verify(
       List<BLSPublicKey> publicKeys, Bytes message, BLSSignature signature) {
     if (complete) throw new IllegalStateException("Reuse of disposable instance");
-    toVerify.add(new Job(toVerify.size(), publicKeys, message, signature));
+    if (verifiedSignatureCache.isVerified(publicKeys, message, signature)) {
+      return true;
+    }
+    toVerify.add(new Job(publicKeys, message, signature));
     return true;
   }
 
@@ -70,12 +87,43 @@ public class BatchSignatureVerifier implements BLSSignatureVerifier {
    */
   public synchronized boolean batchVerify() {
     if (complete) throw new IllegalStateException("Reuse of disposable instance");
-    List<BatchSemiAggregate> batchSemiAggregates =
-        toVerify.stream()
-            .parallel()
-            .map(job -> BLS.prepareBatchVerify(job.idx, job.publicKeys, job.message, job.signature))
-            .collect(Collectors.toList());
     complete = true;
-    return BLS.completeBatchVerify(batchSemiAggregates);
+    return batchVerify(List.of(this));
+  }
+
+  /**
+   * Verifies the signatures collected by all of the given verifiers in a single batch, so that the
+   * final exponentiation is only performed once for all of them.
+   *
+   * <p>Unlike {@link #batchVerify()} the verifiers are not disposed, so if the batch fails it can
+   * be split and each part verified again to find which verifier holds the invalid signature.
+   */
+  public static boolean batchVerify(final List<BatchSignatureVerifier> verifiers) {
+    final List<Job> jobs =
+        verifiers.stream().flatMap(verifier -> verifier.getJobs().stream()).collect(toList());
+    // Indices must be unique within the batch so are assigned across all verifiers
+    final List<BatchSemiAggregate> batchSemiAggregates =
+        IntStream.range(0, jobs.size())
+            .parallel()
+            .mapToObj(
+                idx -> {
+                  final Job job = jobs.get(idx);
+                  return BLS.prepareBatchVerify(idx, job.publicKeys, job.message, job.signature);
+                })
+            .collect(toList());
+    final boolean valid = BLS.completeBatchVerify(batchSemiAggregates);
+    if (valid) {
+      verifiers.forEach(BatchSignatureVerifier::markVerified);
+    }
+    return valid;
+  }
+
+  private synchronized List<Job> getJobs() {
+    return new ArrayList<>(toVerify);
+  }
+
+  private synchronized void markVerified() {
+    toVerify.forEach(
+        job -> verifiedSignatureCache.markVerified(job.publicKeys, job.message, job.signature));
   }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.core.blockvalidator;
+
+import tech.pegasys.teku.bls.VerifiedSignatureCache;
+import tech.pegasys.teku.core.profiling.StateTransitionProfiler;
+import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.datastructures.state.BeaconState;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+
+/**
+ * Batch block validator which verifies the collected BLS signatures on the supplied {@link
+ * AsyncRunner} instead of the calling thread.
+ *
+ * <p>The signatures are collected from the pre-state synchronously, after which {@link
+ * #validatePreState(BeaconState, SignedBeaconBlock)} returns a future which completes once the
+ * batch verification finishes. This lets the caller apply the block to the state while the
+ * signatures are being verified.
+ */
+public class PipelinedBlockValidator extends BatchBlockValidator {
+
+  private final AsyncRunner asyncRunner;
+
+  public PipelinedBlockValidator(final AsyncRunner asyncRunner) {
+    this(VerifiedSignatureCache.DISABLED, asyncRunner);
+  }
+
+  public PipelinedBlockValidator(
+      final VerifiedSignatureCache verifiedSignatureCache, final AsyncRunner asyncRunner) {
+    super(verifiedSignatureCache);
+    this.asyncRunner = asyncRunner;
+  }
+
+  @Override
+  public SafeFuture<BlockValidationResult> validatePreState(
+      final BeaconState preState, final SignedBeaconBlock block) {
+    final BatchSignatureVerifier signatureVerifier = createSignatureVerifier();
+    final BlockValidationResult noBLSValidationResult =
+        collectSignatures(preState, block, signatureVerifier);
+    if (!noBLSValidationResult.isValid()) {
+      return SafeFuture.completedFuture(noBLSValidationResult);
+    }
+    // Keep the signature verification phase in the caller's per-block breakdown
+    return asyncRunner.runAsync(
+        StateTransitionProfiler.propagateBreakdown(
+            () ->
+                SafeFuture.completedFuture(verifySignatures(preState, block, signatureVerifier))));
+  }
+}
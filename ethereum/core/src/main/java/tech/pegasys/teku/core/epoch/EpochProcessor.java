@@ -13,8 +13,19 @@
 
 package tech.pegasys.teku.core.epoch;
 
+import static tech.pegasys.teku.core.profiling.StateTransitionPhase.EPOCH_FINAL_UPDATES;
+import static tech.pegasys.teku.core.profiling.StateTransitionPhase.EPOCH_JUSTIFICATION_AND_FINALIZATION;
+import static tech.pegasys.teku.core.profiling.StateTransitionPhase.EPOCH_MATCHING_ATTESTATIONS;
+import static tech.pegasys.teku.core.profiling.StateTransitionPhase.EPOCH_REGISTRY_UPDATES;
+import static tech.pegasys.teku.core.profiling.StateTransitionPhase.EPOCH_REWARDS_AND_PENALTIES;
+import static tech.pegasys.teku.core.profiling.StateTransitionPhase.EPOCH_SLASHINGS;
+import static tech.pegasys.teku.core.profiling.StateTransitionPhase.PROCESS_EPOCH;
+
 import tech.pegasys.teku.core.exceptions.EpochProcessingException;
+import tech.pegasys.teku.core.profiling.StateTransitionProfiler;
+import tech.pegasys.teku.core.profiling.StateTransitionProfiler.PhaseTimer;
 import tech.pegasys.teku.datastructures.state.BeaconState;
+import tech.pegasys.teku.datastructures.state.MutableBeaconState;
 
 public class EpochProcessor {
 
@@ -26,14 +37,32 @@ public class EpochProcessor {
    */
   public static BeaconState processEpoch(final BeaconState preState)
       throws EpochProcessingException {
-    return preState.updated(
-        state -> {
-          final MatchingAttestations matchingAttestations = new MatchingAttestations(state);
-          EpochProcessorUtil.process_justification_and_finalization(state, matchingAttestations);
-          EpochProcessorUtil.process_rewards_and_penalties(state, matchingAttestations);
-          EpochProcessorUtil.process_registry_updates(state);
-          EpochProcessorUtil.process_slashings(state);
-          EpochProcessorUtil.process_final_updates(state);
-        });
+    try (PhaseTimer ignored = StateTransitionProfiler.startPhase(PROCESS_EPOCH)) {
+      return preState.updated(EpochProcessor::processEpochPhases);
+    }
+  }
+
+  private static void processEpochPhases(final MutableBeaconState state)
+      throws EpochProcessingException {
+    final MatchingAttestations matchingAttestations;
+    try (PhaseTimer ignored = StateTransitionProfiler.startPhase(EPOCH_MATCHING_ATTESTATIONS)) {
+      matchingAttestations = new MatchingAttestations(state);
+    }
+    try (PhaseTimer ignored =
+        StateTransitionProfiler.startPhase(EPOCH_JUSTIFICATION_AND_FINALIZATION)) {
+      EpochProcessorUtil.process_justification_and_finalization(state, matchingAttestations);
+    }
+    try (PhaseTimer ignored = StateTransitionProfiler.startPhase(EPOCH_REWARDS_AND_PENALTIES)) {
+      EpochProcessorUtil.process_rewards_and_penalties(state, matchingAttestations);
+    }
+    try (PhaseTimer ignored = StateTransitionProfiler.startPhase(EPOCH_REGISTRY_UPDATES)) {
+      EpochProcessorUtil.process_registry_updates(state);
+    }
+    try (PhaseTimer ignored = StateTransitionProfiler.startPhase(EPOCH_SLASHINGS)) {
+      EpochProcessorUtil.process_slashings(state);
+    }
+    try (PhaseTimer ignored = StateTransitionProfiler.startPhase(EPOCH_FINAL_UPDATES)) {
+      EpochProcessorUtil.process_final_updates(state);
+    }
   }
 }
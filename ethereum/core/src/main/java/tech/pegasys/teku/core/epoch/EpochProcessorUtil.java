@@ -48,6 +48,7 @@ import static tech.pegasys.teku.util.config.Constants.SLOTS_PER_HISTORICAL_ROOT;
 import com.google.common.primitives.UnsignedLong;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.TreeSet;
 import java.util.function.Supplier;
@@ -246,12 +247,11 @@ public final class EpochProcessorUtil {
 
       // Process activation eligibility and ejections
       SSZMutableList<Validator> validators = state.getValidators();
-      for (int index = 0; index < validators.size(); index++) {
-        Validator validator = validators.get(index);
-
+      int validatorIndex = 0;
+      for (Validator validator : validators) {
         if (is_eligible_for_activation_queue(validator)) {
           validators.set(
-              index,
+              validatorIndex,
               validator.withActivation_eligibility_epoch(
                   get_current_epoch(state).plus(UnsignedLong.ONE)));
         }
@@ -259,8 +259,9 @@ public final class EpochProcessorUtil {
         if (is_active_validator(validator, get_current_epoch(state))
             && validator.getEffective_balance().compareTo(UnsignedLong.valueOf(EJECTION_BALANCE))
                 <= 0) {
-          initiate_validator_exit(state, index);
+          initiate_validator_exit(state, validatorIndex);
         }
+        validatorIndex++;
       }
 
       // Queue validators eligible for activation and not yet dequeued for activation
@@ -321,9 +322,8 @@ public final class EpochProcessorUtil {
     UnsignedLong epoch = get_current_epoch(state);
     UnsignedLong total_balance = get_total_active_balance(state);
 
-    SSZList<Validator> validators = state.getValidators();
-    for (int index = 0; index < validators.size(); index++) {
-      Validator validator = validators.get(index);
+    int index = 0;
+    for (Validator validator : state.getValidators()) {
       if (validator.isSlashed()
           && epoch
               .plus(UnsignedLong.valueOf(EPOCHS_PER_SLASHINGS_VECTOR / 2))
@@ -342,6 +342,7 @@ public final class EpochProcessorUtil {
         UnsignedLong penalty = penalty_numerator.dividedBy(total_balance).times(increment);
         decrease_balance(state, index, penalty);
       }
+      index++;
     }
   }
 
@@ -364,11 +365,11 @@ public final class EpochProcessorUtil {
     }
 
     // Update effective balances with hysteresis
-    SSZMutableList<Validator> validators = state.getValidators();
-    SSZList<UnsignedLong> balances = state.getBalances();
-    for (int index = 0; index < validators.size(); index++) {
-      Validator validator = validators.get(index);
-      UnsignedLong balance = balances.get(index);
+    Iterator<Validator> validators = state.getValidators().iterator();
+    Iterator<UnsignedLong> balances = state.getBalances().iterator();
+    for (int index = 0; validators.hasNext(); index++) {
+      Validator validator = validators.next();
+      UnsignedLong balance = balances.next();
 
       final UnsignedLong hysteresis_increment =
           EFFECTIVE_BALANCE_INCREMENT.dividedBy(HYSTERESIS_QUOTIENT);
@@ -14,7 +14,6 @@
 package tech.pegasys.teku.core.epoch;
 
 import static java.lang.Math.toIntExact;
-import static java.util.stream.Collectors.toMap;
 import static tech.pegasys.teku.core.epoch.EpochProcessorUtil.get_unslashed_attesting_indices;
 import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.get_previous_epoch;
 import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.get_total_active_balance;
@@ -34,13 +33,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import org.apache.commons.lang3.tuple.Pair;
 import tech.pegasys.teku.core.Deltas;
 import tech.pegasys.teku.datastructures.state.BeaconState;
@@ -81,8 +80,12 @@ public class RewardsAndPenaltiesCalculator {
   }
 
   private UnsignedLong calculateBaseReward(int index) {
+    return calculateBaseReward(state.getValidators().get(index));
+  }
+
+  private UnsignedLong calculateBaseReward(final Validator validator) {
     UnsignedLong totalBalanceSquareRoot = get_total_active_balance_with_root(state).getRight();
-    UnsignedLong effectiveBalance = state.getValidators().get(index).getEffective_balance();
+    UnsignedLong effectiveBalance = validator.getEffective_balance();
     return effectiveBalance
         .times(UnsignedLong.valueOf(BASE_REWARD_FACTOR))
         .dividedBy(totalBalanceSquareRoot)
@@ -92,16 +95,16 @@ public class RewardsAndPenaltiesCalculator {
   private Map<Integer, UnsignedLong> calculateEligibleValidatorBaseRewards() {
     final UnsignedLong previousEpoch = get_previous_epoch(state);
     final UnsignedLong previousEpochPlusOne = previousEpoch.plus(UnsignedLong.ONE);
-    return IntStream.range(0, state.getValidators().size())
-        .filter(
-            index -> {
-              final Validator v = state.getValidators().get(index);
-              return is_active_validator(v, previousEpoch)
-                  || (v.isSlashed()
-                      && previousEpochPlusOne.compareTo(v.getWithdrawable_epoch()) < 0);
-            })
-        .boxed()
-        .collect(toMap(i -> i, this::calculateBaseReward));
+    final Map<Integer, UnsignedLong> baseRewards = new HashMap<>();
+    int index = 0;
+    for (Validator v : state.getValidators()) {
+      if (is_active_validator(v, previousEpoch)
+          || (v.isSlashed() && previousEpochPlusOne.compareTo(v.getWithdrawable_epoch()) < 0)) {
+        baseRewards.put(index, calculateBaseReward(v));
+      }
+      index++;
+    }
+    return baseRewards;
   }
 
   private Collection<Integer> getEligibleValidatorIndices() {
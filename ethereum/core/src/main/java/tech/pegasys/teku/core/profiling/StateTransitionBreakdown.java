@@ -0,0 +1,61 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.core.profiling;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Time spent in each {@link StateTransitionPhase} while processing a single block. Phases which run
+ * more than once, such as hashing the state for each empty slot, are summed.
+ *
+ * <p>Instances are updated by the thread that started them via {@link
+ * StateTransitionProfiler#startBreakdown()} and by any work it hands off to other threads through
+ * {@link StateTransitionProfiler#propagateBreakdown(java.util.function.Supplier)}.
+ */
+public class StateTransitionBreakdown {
+  static final StateTransitionBreakdown DISABLED = new StateTransitionBreakdown(false);
+
+  private final boolean enabled;
+  private final Map<StateTransitionPhase, Long> phaseNanos =
+      new EnumMap<>(StateTransitionPhase.class);
+
+  StateTransitionBreakdown(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  synchronized void record(final StateTransitionPhase phase, final long nanos) {
+    phaseNanos.merge(phase, nanos, Long::sum);
+  }
+
+  boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Returns the time spent in each phase, keyed by phase label and ordered as in {@link
+   * StateTransitionPhase}, or empty if profiling was disabled when the breakdown was started.
+   */
+  public synchronized Optional<Map<String, Duration>> getPhaseDurations() {
+    if (!enabled) {
+      return Optional.empty();
+    }
+    final Map<String, Duration> durations = new LinkedHashMap<>();
+    phaseNanos.forEach((phase, nanos) -> durations.put(phase.getLabel(), Duration.ofNanos(nanos)));
+    return Optional.of(durations);
+  }
+}
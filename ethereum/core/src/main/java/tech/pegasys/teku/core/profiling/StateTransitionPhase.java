@@ -0,0 +1,51 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.core.profiling;
+
+/** The timed phases of a state transition, reported by {@link StateTransitionProfiler}. */
+public enum StateTransitionPhase {
+  TOTAL("total"),
+  PROCESS_SLOTS("process_slots"),
+  SLOT_HASH_TREE_ROOT("slot_hash_tree_root"),
+  PROCESS_EPOCH("process_epoch"),
+  EPOCH_MATCHING_ATTESTATIONS("epoch_matching_attestations"),
+  EPOCH_JUSTIFICATION_AND_FINALIZATION("epoch_justification_and_finalization"),
+  EPOCH_REWARDS_AND_PENALTIES("epoch_rewards_and_penalties"),
+  EPOCH_REGISTRY_UPDATES("epoch_registry_updates"),
+  EPOCH_SLASHINGS("epoch_slashings"),
+  EPOCH_FINAL_UPDATES("epoch_final_updates"),
+  PROCESS_BLOCK("process_block"),
+  BLOCK_HEADER("block_header"),
+  BLOCK_RANDAO("block_randao"),
+  BLOCK_ETH1_DATA("block_eth1_data"),
+  BLOCK_PROPOSER_SLASHINGS("block_proposer_slashings"),
+  BLOCK_ATTESTER_SLASHINGS("block_attester_slashings"),
+  BLOCK_ATTESTATIONS("block_attestations"),
+  BLOCK_DEPOSITS("block_deposits"),
+  BLOCK_VOLUNTARY_EXITS("block_voluntary_exits"),
+  BLOCK_VALIDATION("block_validation"),
+  BATCH_SIGNATURE_VERIFICATION("batch_signature_verification"),
+  STATE_ROOT("state_root");
+
+  private final String label;
+
+  StateTransitionPhase(final String label) {
+    this.label = label;
+  }
+
+  /** Returns the name used for this phase in metrics labels and recorded breakdowns. */
+  public String getLabel() {
+    return label;
+  }
+}
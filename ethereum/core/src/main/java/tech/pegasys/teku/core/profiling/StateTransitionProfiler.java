@@ -0,0 +1,189 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.core.profiling;
+
+import io.prometheus.client.Histogram;
+import java.util.function.Supplier;
+import org.hyperledger.besu.metrics.prometheus.PrometheusMetricsSystem;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
+import tech.pegasys.teku.metrics.TekuMetricCategory;
+
+/**
+ * Times the phases of the state transition and publishes them as metrics and as an optional
+ * per-block {@link StateTransitionBreakdown}.
+ *
+ * <p>Profiling is disabled by default and can be switched on and off at runtime. While disabled,
+ * {@link #startPhase(StateTransitionPhase)} returns a shared no-op timer so the instrumented code
+ * only pays for a volatile read.
+ */
+public class StateTransitionProfiler {
+
+  private static final PhaseTimer NOOP_TIMER = () -> {};
+  private static final double NANOS_PER_SECOND = 1_000_000_000d;
+  private static final double[] LATENCY_BUCKETS_SECONDS = {
+    0.0001, 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5
+  };
+  private static final ThreadLocal<StateTransitionBreakdown> CURRENT_BREAKDOWN =
+      new ThreadLocal<>();
+
+  private static volatile boolean enabled = false;
+  private static volatile Histogram phaseLatency = null;
+
+  /** Registers the per-phase latency metrics. Phases are timed even if this is never called. */
+  public static void initMetrics(final MetricsSystem metricsSystem) {
+    final MetricCategory category = TekuMetricCategory.STATE_TRANSITION;
+    final Histogram histogram =
+        Histogram.build()
+            .name(
+                category.getApplicationPrefix().orElse("") + category.getName() + "_phase_seconds")
+            .help("Time spent in each phase of the state transition while profiling is enabled")
+            .labelNames("phase")
+            .buckets(LATENCY_BUCKETS_SECONDS)
+            .create();
+    if (metricsSystem instanceof PrometheusMetricsSystem) {
+      ((PrometheusMetricsSystem) metricsSystem).addCollector(category, histogram);
+    }
+    phaseLatency = histogram;
+  }
+
+  public static void setEnabled(final boolean enabled) {
+    StateTransitionProfiler.enabled = enabled;
+  }
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Starts timing a phase on the current thread. The returned timer must be closed when the phase
+   * completes, normally via try-with-resources.
+   */
+  public static PhaseTimer startPhase(final StateTransitionPhase phase) {
+    if (!enabled) {
+      return NOOP_TIMER;
+    }
+    final long startNanos = System.nanoTime();
+    return () -> recordPhase(phase, System.nanoTime() - startNanos);
+  }
+
+  /**
+   * Starts timing a phase whose work is split into several sections on the current thread, with
+   * other phases running in between. Only time spent in {@link SplitPhaseTimer#time(Supplier)} is
+   * counted and the total is recorded once, when the returned timer is closed.
+   */
+  public static SplitPhaseTimer startSplitPhase(final StateTransitionPhase phase) {
+    return enabled ? new SplitPhaseTimer(phase) : SplitPhaseTimer.DISABLED;
+  }
+
+  private static void recordPhase(final StateTransitionPhase phase, final long elapsedNanos) {
+    final Histogram histogram = phaseLatency;
+    if (histogram != null) {
+      histogram.labels(phase.getLabel()).observe(elapsedNanos / NANOS_PER_SECOND);
+    }
+    final StateTransitionBreakdown breakdown = CURRENT_BREAKDOWN.get();
+    if (breakdown != null) {
+      breakdown.record(phase, elapsedNanos);
+    }
+  }
+
+  /**
+   * Starts collecting the phases timed on the current thread into a new breakdown. Every call must
+   * be paired with {@link #stopBreakdown(StateTransitionBreakdown)} in a finally block.
+   *
+   * @return the breakdown being collected, which reports no phases if profiling is disabled
+   */
+  public static StateTransitionBreakdown startBreakdown() {
+    if (!enabled) {
+      return StateTransitionBreakdown.DISABLED;
+    }
+    final StateTransitionBreakdown breakdown = new StateTransitionBreakdown(true);
+    CURRENT_BREAKDOWN.set(breakdown);
+    return breakdown;
+  }
+
+  /** Stops collecting phases into the given breakdown. */
+  public static void stopBreakdown(final StateTransitionBreakdown breakdown) {
+    if (breakdown.isEnabled()) {
+      CURRENT_BREAKDOWN.remove();
+    }
+  }
+
+  /**
+   * Wraps an action so the phases it times are recorded in the breakdown being collected on the
+   * current thread, even if the action is run on a different thread.
+   */
+  public static <T> Supplier<T> propagateBreakdown(final Supplier<T> action) {
+    final StateTransitionBreakdown breakdown = CURRENT_BREAKDOWN.get();
+    if (breakdown == null) {
+      return action;
+    }
+    return () -> {
+      final StateTransitionBreakdown previousBreakdown = CURRENT_BREAKDOWN.get();
+      CURRENT_BREAKDOWN.set(breakdown);
+      try {
+        return action.get();
+      } finally {
+        if (previousBreakdown != null) {
+          CURRENT_BREAKDOWN.set(previousBreakdown);
+        } else {
+          CURRENT_BREAKDOWN.remove();
+        }
+      }
+    };
+  }
+
+  static Histogram getPhaseLatency() {
+    return phaseLatency;
+  }
+
+  /** Timer for a single phase which does not throw checked exceptions when closed. */
+  public interface PhaseTimer extends AutoCloseable {
+    @Override
+    void close();
+  }
+
+  /** Timer for a phase made up of several separately timed sections. */
+  public static class SplitPhaseTimer implements PhaseTimer {
+    private static final SplitPhaseTimer DISABLED = new SplitPhaseTimer(null);
+
+    // Null when profiling was disabled as the timer was started
+    private final StateTransitionPhase phase;
+    private long elapsedNanos = 0;
+
+    private SplitPhaseTimer(final StateTransitionPhase phase) {
+      this.phase = phase;
+    }
+
+    /** Runs one section of the phase, adding the time it takes to the phase total. */
+    public <T> T time(final Supplier<T> section) {
+      if (phase == null) {
+        return section.get();
+      }
+      final long startNanos = System.nanoTime();
+      try {
+        return section.get();
+      } finally {
+        elapsedNanos += System.nanoTime() - startNanos;
+      }
+    }
+
+    @Override
+    public void close() {
+      if (phase != null) {
+        recordPhase(phase, elapsedNanos);
+      }
+    }
+  }
+}
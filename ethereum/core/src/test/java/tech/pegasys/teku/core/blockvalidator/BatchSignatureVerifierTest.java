@@ -26,8 +26,11 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.bls.BLS;
+import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.bls.VerifiedSignatureCache;
 
 public class BatchSignatureVerifierTest {
 
@@ -67,4 +70,69 @@ public class BatchSignatureVerifierTest {
     assertThat(verifier.toVerify.size()).isEqualTo(nThreads * iterations);
     assertThat(verifier.toVerify).doesNotContainNull();
   }
+
+  @Test
+  public void shouldSkipSignaturesAlreadyVerified() {
+    final VerifiedSignatureCache cache = new VerifiedSignatureCache(10);
+    final BLSKeyPair keyPair = BLSKeyPair.random(1);
+    final Bytes message = Bytes.wrap("Hello, world!".getBytes(UTF_8));
+    final BLSSignature signature = BLS.sign(keyPair.getSecretKey(), message);
+    final List<BLSPublicKey> publicKeys = List.of(keyPair.getPublicKey());
+    cache.markVerified(publicKeys, message, signature);
+
+    final BatchSignatureVerifier verifier = new BatchSignatureVerifier(cache);
+    assertThat(verifier.verify(publicKeys, message, signature)).isTrue();
+    assertThat(verifier.toVerify).isEmpty();
+    assertThat(verifier.batchVerify()).isTrue();
+  }
+
+  @Test
+  public void shouldRecordSignaturesFromSuccessfulBatch() {
+    final VerifiedSignatureCache cache = new VerifiedSignatureCache(10);
+    final BLSKeyPair keyPair = BLSKeyPair.random(1);
+    final Bytes message = Bytes.wrap("Hello, world!".getBytes(UTF_8));
+    final BLSSignature signature = BLS.sign(keyPair.getSecretKey(), message);
+    final List<BLSPublicKey> publicKeys = List.of(keyPair.getPublicKey());
+
+    final BatchSignatureVerifier verifier = new BatchSignatureVerifier(cache);
+    verifier.verify(publicKeys, message, signature);
+    assertThat(verifier.batchVerify()).isTrue();
+    assertThat(cache.isVerified(publicKeys, message, signature)).isTrue();
+  }
+
+  @Test
+  public void shouldVerifySignaturesFromMultipleVerifiersTogether() {
+    final List<BatchSignatureVerifier> verifiers = createVerifiers(4);
+
+    assertThat(BatchSignatureVerifier.batchVerify(verifiers)).isTrue();
+  }
+
+  @Test
+  public void shouldRejectBatchWhenAnyVerifierHasInvalidSignature() {
+    final List<BatchSignatureVerifier> verifiers = createVerifiers(4);
+    final BLSKeyPair keyPair = BLSKeyPair.random(10);
+    final Bytes message = Bytes.wrap("Invalid".getBytes(UTF_8));
+    verifiers.get(2).verify(List.of(keyPair.getPublicKey()), message, BLSSignature.random(11));
+
+    assertThat(BatchSignatureVerifier.batchVerify(verifiers)).isFalse();
+    // Verifiers are not disposed so the batch can be split to find the invalid signature
+    assertThat(BatchSignatureVerifier.batchVerify(verifiers.subList(0, 2))).isTrue();
+    assertThat(BatchSignatureVerifier.batchVerify(verifiers.subList(2, 4))).isFalse();
+  }
+
+  private List<BatchSignatureVerifier> createVerifiers(final int count) {
+    return IntStream.range(0, count)
+        .mapToObj(
+            i -> {
+              final BLSKeyPair keyPair = BLSKeyPair.random(i);
+              final Bytes message = Bytes.wrap(("Message " + i).getBytes(UTF_8));
+              final BatchSignatureVerifier verifier = new BatchSignatureVerifier();
+              verifier.verify(
+                  List.of(keyPair.getPublicKey()),
+                  message,
+                  BLS.sign(keyPair.getSecretKey(), message));
+              return verifier;
+            })
+        .collect(Collectors.toList());
+  }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.core.blockvalidator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.core.profiling.StateTransitionPhase.BATCH_SIGNATURE_VERIFICATION;
+import static tech.pegasys.teku.core.profiling.StateTransitionPhase.BLOCK_VALIDATION;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.bls.BLSKeyGenerator;
+import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.core.ChainBuilder;
+import tech.pegasys.teku.core.StateTransition;
+import tech.pegasys.teku.core.StateTransitionException;
+import tech.pegasys.teku.core.blockvalidator.BlockValidator.BlockValidationResult;
+import tech.pegasys.teku.core.profiling.StateTransitionBreakdown;
+import tech.pegasys.teku.core.profiling.StateTransitionProfiler;
+import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.datastructures.state.BeaconState;
+import tech.pegasys.teku.infrastructure.async.DelayedExecutorAsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+
+class PipelinedBlockValidatorTest {
+
+  private static final List<BLSKeyPair> VALIDATOR_KEYS = BLSKeyGenerator.generateKeyPairs(3);
+  private final ChainBuilder chainBuilder = ChainBuilder.create(VALIDATOR_KEYS);
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final PipelinedBlockValidator validator = new PipelinedBlockValidator(asyncRunner);
+
+  private BeaconState genesisState;
+  private BeaconState preState;
+  private SignedBeaconBlock block;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    genesisState = chainBuilder.generateGenesis().getState();
+    block = chainBuilder.generateNextBlock().getBlock();
+    preState = new StateTransition().process_slots(genesisState, block.getSlot());
+  }
+
+  @AfterEach
+  void tearDown() {
+    StateTransitionProfiler.setEnabled(false);
+  }
+
+  @Test
+  void shouldVerifySignaturesOnAsyncRunner() {
+    final SafeFuture<BlockValidationResult> result = validator.validatePreState(preState, block);
+    assertThat(result).isNotDone();
+
+    asyncRunner.executeQueuedActions();
+    assertThat(result).isCompleted();
+    assertThat(result.join().isValid()).isTrue();
+  }
+
+  @Test
+  void shouldRejectBlockWithInvalidSignature() {
+    final SignedBeaconBlock invalidBlock =
+        new SignedBeaconBlock(block.getMessage(), BLSSignature.random(1));
+    final SafeFuture<BlockValidationResult> result =
+        validator.validatePreState(preState, invalidBlock);
+
+    asyncRunner.executeQueuedActions();
+    assertThat(result).isCompleted();
+    assertThat(result.join().isValid()).isFalse();
+  }
+
+  @Test
+  void shouldReportAllStateTransitionPhasesWhenVerifyingSignaturesOnAnotherThread()
+      throws Exception {
+    StateTransitionProfiler.setEnabled(true);
+    final Map<String, Duration> batchPhases = profileStateTransition(new BatchBlockValidator());
+    final Map<String, Duration> pipelinedPhases =
+        profileStateTransition(new PipelinedBlockValidator(DelayedExecutorAsyncRunner.create()));
+
+    assertThat(pipelinedPhases)
+        .containsKeys(BLOCK_VALIDATION.getLabel(), BATCH_SIGNATURE_VERIFICATION.getLabel());
+    assertThat(pipelinedPhases.keySet()).containsExactlyElementsOf(batchPhases.keySet());
+  }
+
+  private Map<String, Duration> profileStateTransition(final BlockValidator blockValidator)
+      throws StateTransitionException {
+    final StateTransitionBreakdown breakdown = StateTransitionProfiler.startBreakdown();
+    try {
+      new StateTransition().initiate(genesisState, block, blockValidator, state -> {});
+    } finally {
+      StateTransitionProfiler.stopBreakdown(breakdown);
+    }
+    return breakdown.getPhaseDurations().orElseThrow();
+  }
+}
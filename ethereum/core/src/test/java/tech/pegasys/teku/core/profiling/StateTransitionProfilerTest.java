@@ -0,0 +1,163 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.core.profiling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.core.profiling.StateTransitionPhase.BATCH_SIGNATURE_VERIFICATION;
+import static tech.pegasys.teku.core.profiling.StateTransitionPhase.BLOCK_ATTESTATIONS;
+import static tech.pegasys.teku.core.profiling.StateTransitionPhase.BLOCK_VALIDATION;
+import static tech.pegasys.teku.core.profiling.StateTransitionPhase.PROCESS_SLOTS;
+import static tech.pegasys.teku.core.profiling.StateTransitionPhase.SLOT_HASH_TREE_ROOT;
+
+import io.prometheus.client.Histogram;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.core.profiling.StateTransitionProfiler.PhaseTimer;
+import tech.pegasys.teku.core.profiling.StateTransitionProfiler.SplitPhaseTimer;
+
+public class StateTransitionProfilerTest {
+
+  @AfterEach
+  public void tearDown() {
+    StateTransitionProfiler.setEnabled(false);
+  }
+
+  @Test
+  public void shouldNotRecordBreakdownWhenDisabled() {
+    final StateTransitionBreakdown breakdown = StateTransitionProfiler.startBreakdown();
+    try {
+      timePhase(PROCESS_SLOTS);
+    } finally {
+      StateTransitionProfiler.stopBreakdown(breakdown);
+    }
+
+    assertThat(breakdown.getPhaseDurations()).isEmpty();
+  }
+
+  @Test
+  public void shouldRecordPhasesInOrderWhenEnabled() {
+    StateTransitionProfiler.setEnabled(true);
+    final StateTransitionBreakdown breakdown = StateTransitionProfiler.startBreakdown();
+    try {
+      timePhase(BLOCK_ATTESTATIONS);
+      timePhase(PROCESS_SLOTS);
+    } finally {
+      StateTransitionProfiler.stopBreakdown(breakdown);
+    }
+
+    final Map<String, Duration> durations = breakdown.getPhaseDurations().orElseThrow();
+    assertThat(durations.keySet())
+        .containsExactly(PROCESS_SLOTS.getLabel(), BLOCK_ATTESTATIONS.getLabel());
+  }
+
+  @Test
+  public void shouldSumRepeatedPhases() {
+    StateTransitionProfiler.setEnabled(true);
+    final StateTransitionBreakdown breakdown = StateTransitionProfiler.startBreakdown();
+    try {
+      timePhase(SLOT_HASH_TREE_ROOT);
+      timePhase(SLOT_HASH_TREE_ROOT);
+    } finally {
+      StateTransitionProfiler.stopBreakdown(breakdown);
+    }
+
+    assertThat(breakdown.getPhaseDurations().orElseThrow()).containsOnlyKeys("slot_hash_tree_root");
+  }
+
+  @Test
+  public void shouldNotRecordPhasesAfterBreakdownStopped() {
+    StateTransitionProfiler.setEnabled(true);
+    final StateTransitionBreakdown breakdown = StateTransitionProfiler.startBreakdown();
+    StateTransitionProfiler.stopBreakdown(breakdown);
+
+    timePhase(PROCESS_SLOTS);
+
+    assertThat(breakdown.getPhaseDurations().orElseThrow()).isEmpty();
+  }
+
+  @Test
+  public void shouldRecordPhaseLatencyInHistogram() {
+    StateTransitionProfiler.initMetrics(new NoOpMetricsSystem());
+    StateTransitionProfiler.setEnabled(true);
+
+    timePhase(PROCESS_SLOTS);
+    timePhase(PROCESS_SLOTS);
+
+    final Histogram histogram = StateTransitionProfiler.getPhaseLatency();
+    assertThat(getObservationCount(histogram, PROCESS_SLOTS)).isEqualTo(2);
+    assertThat(getObservationCount(histogram, BLOCK_ATTESTATIONS)).isZero();
+  }
+
+  @Test
+  public void shouldRecordSplitPhaseOnce() {
+    StateTransitionProfiler.initMetrics(new NoOpMetricsSystem());
+    StateTransitionProfiler.setEnabled(true);
+    final StateTransitionBreakdown breakdown = StateTransitionProfiler.startBreakdown();
+    try (SplitPhaseTimer timer = StateTransitionProfiler.startSplitPhase(BLOCK_VALIDATION)) {
+      timer.time(() -> null);
+      timePhase(PROCESS_SLOTS);
+      timer.time(() -> null);
+    } finally {
+      StateTransitionProfiler.stopBreakdown(breakdown);
+    }
+
+    assertThat(getObservationCount(StateTransitionProfiler.getPhaseLatency(), BLOCK_VALIDATION))
+        .isEqualTo(1);
+    assertThat(breakdown.getPhaseDurations().orElseThrow())
+        .containsOnlyKeys(PROCESS_SLOTS.getLabel(), BLOCK_VALIDATION.getLabel());
+  }
+
+  @Test
+  public void shouldRecordPhasesFromOtherThreadsWhenBreakdownPropagated() throws Exception {
+    StateTransitionProfiler.setEnabled(true);
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    final StateTransitionBreakdown breakdown = StateTransitionProfiler.startBreakdown();
+    try {
+      CompletableFuture.supplyAsync(
+              StateTransitionProfiler.propagateBreakdown(
+                  () -> {
+                    timePhase(BATCH_SIGNATURE_VERIFICATION);
+                    return null;
+                  }),
+              executor)
+          .get();
+      // Phases timed on the other thread without propagation are not included
+      CompletableFuture.runAsync(() -> timePhase(BLOCK_ATTESTATIONS), executor).get();
+    } finally {
+      StateTransitionProfiler.stopBreakdown(breakdown);
+      executor.shutdownNow();
+    }
+
+    assertThat(breakdown.getPhaseDurations().orElseThrow())
+        .containsOnlyKeys(BATCH_SIGNATURE_VERIFICATION.getLabel());
+  }
+
+  private double getObservationCount(final Histogram histogram, final StateTransitionPhase phase) {
+    // Bucket counts are cumulative so the last (+Inf) bucket holds the total
+    final double[] buckets = histogram.labels(phase.getLabel()).get().buckets;
+    return buckets[buckets.length - 1];
+  }
+
+  private void timePhase(final StateTransitionPhase phase) {
+    try (PhaseTimer ignored = StateTransitionProfiler.startPhase(phase)) {
+      // Nothing to do
+    }
+  }
+}
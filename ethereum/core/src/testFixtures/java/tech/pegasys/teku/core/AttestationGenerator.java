@@ -79,8 +79,7 @@ public class AttestationGenerator {
     Collections.shuffle(unsetBits);
     newBitlist.setBit(unsetBits.get(0));
 
-    attestation.setAggregation_bits(newBitlist);
-    return attestation;
+    return new Attestation(newBitlist, attestation.getData(), attestation.getAggregate_signature());
   }
 
   /**
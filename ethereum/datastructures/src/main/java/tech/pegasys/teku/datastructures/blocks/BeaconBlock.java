@@ -14,10 +14,13 @@
 package tech.pegasys.teku.datastructures.blocks;
 
 import com.google.common.base.MoreObjects;
+import com.google.common.base.Suppliers;
 import com.google.common.primitives.UnsignedLong;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
+import jdk.jfr.Label;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.ssz.SSZ;
@@ -34,13 +37,16 @@ public final class BeaconBlock implements Merkleizable, SimpleOffsetSerializable
   public static final int SSZ_FIELD_COUNT = 4;
 
   // Header
-  private UnsignedLong slot;
-  private UnsignedLong proposer_index;
-  private Bytes32 parent_root;
-  private Bytes32 state_root;
+  private final UnsignedLong slot;
+  private final UnsignedLong proposer_index;
+  private final Bytes32 parent_root;
+  private final Bytes32 state_root;
 
   // Body
-  private BeaconBlockBody body;
+  private final BeaconBlockBody body;
+
+  @Label("sos-ignore")
+  private final Supplier<Bytes32> hashTreeRoot = Suppliers.memoize(this::calculateHashTreeRoot);
 
   public BeaconBlock(
       UnsignedLong slot,
@@ -128,10 +134,6 @@ public final class BeaconBlock implements Merkleizable, SimpleOffsetSerializable
     return state_root;
   }
 
-  public void setState_root(Bytes32 state_root) {
-    this.state_root = state_root;
-  }
-
   public Bytes32 getParent_root() {
     return parent_root;
   }
@@ -146,6 +148,10 @@ public final class BeaconBlock implements Merkleizable, SimpleOffsetSerializable
 
   @Override
   public Bytes32 hash_tree_root() {
+    return hashTreeRoot.get();
+  }
+
+  private Bytes32 calculateHashTreeRoot() {
     return HashTreeUtil.merkleize(
         Arrays.asList(
             HashTreeUtil.hash_tree_root(SSZTypes.BASIC, SSZ.encodeUInt64(slot.longValue())),
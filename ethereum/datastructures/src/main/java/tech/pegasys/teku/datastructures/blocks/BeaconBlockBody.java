@@ -13,11 +13,14 @@
 
 package tech.pegasys.teku.datastructures.blocks;
 
+import com.google.common.base.Suppliers;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
+import jdk.jfr.Label;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.ssz.SSZ;
@@ -52,6 +55,9 @@ public class BeaconBlockBody implements SimpleOffsetSerializable, SSZContainer,
   private final SSZList<Deposit> deposits; // List bounded by MAX_DEPOSITS
   private final SSZList<SignedVoluntaryExit> voluntary_exits; // List bounded by MAX_VOLUNTARY_EXITS
 
+  @Label("sos-ignore")
+  private final Supplier<Bytes32> hashTreeRoot = Suppliers.memoize(this::calculateHashTreeRoot);
+
   public BeaconBlockBody(
       BLSSignature randao_reveal,
       Eth1Data eth1_data,
@@ -186,6 +192,10 @@ public class BeaconBlockBody implements SimpleOffsetSerializable, SSZContainer,
 
   @Override
   public Bytes32 hash_tree_root() {
+    return hashTreeRoot.get();
+  }
+
+  private Bytes32 calculateHashTreeRoot() {
     return HashTreeUtil.merkleize(
         Arrays.asList(
             HashTreeUtil.hash_tree_root(SSZTypes.VECTOR_OF_BASIC, randao_reveal.toBytes()),
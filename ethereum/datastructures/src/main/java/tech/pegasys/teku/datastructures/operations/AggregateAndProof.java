@@ -14,11 +14,14 @@
 package tech.pegasys.teku.datastructures.operations;
 
 import com.google.common.base.MoreObjects;
+import com.google.common.base.Suppliers;
 import com.google.common.primitives.UnsignedLong;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
+import jdk.jfr.Label;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.ssz.SSZ;
@@ -39,6 +42,9 @@ public class AggregateAndProof implements SimpleOffsetSerializable, SSZContainer
   private final Attestation aggregate;
   private final BLSSignature selection_proof;
 
+  @Label("sos-ignore")
+  private final Supplier<Bytes32> hashTreeRoot = Suppliers.memoize(this::calculateHashTreeRoot);
+
   public AggregateAndProof(
       UnsignedLong index, Attestation aggregate, BLSSignature selection_proof) {
     this.index = index;
@@ -124,6 +130,10 @@ public class AggregateAndProof implements SimpleOffsetSerializable, SSZContainer
 
   @Override
   public Bytes32 hash_tree_root() {
+    return hashTreeRoot.get();
+  }
+
+  private Bytes32 calculateHashTreeRoot() {
     return HashTreeUtil.merkleize(
         List.of(
             HashTreeUtil.hash_tree_root(SSZTypes.BASIC, SSZ.encodeUInt64(index.longValue())),
@@ -14,6 +14,7 @@
 package tech.pegasys.teku.datastructures.operations;
 
 import com.google.common.base.MoreObjects;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.Sets;
 import com.google.common.primitives.UnsignedLong;
 import java.util.ArrayList;
@@ -22,6 +23,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
+import jdk.jfr.Label;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLSSignature;
@@ -39,9 +42,12 @@ public class Attestation implements Merkleizable, SimpleOffsetSerializable, SSZC
   // The number of SimpleSerialize basic types in this SSZ Container/POJO.
   public static final int SSZ_FIELD_COUNT = 1;
 
-  private Bitlist aggregation_bits; // Bitlist bounded by MAX_VALIDATORS_PER_COMMITTEE
-  private AttestationData data;
-  private BLSSignature signature;
+  private final Bitlist aggregation_bits; // Bitlist bounded by MAX_VALIDATORS_PER_COMMITTEE
+  private final AttestationData data;
+  private final BLSSignature signature;
+
+  @Label("sos-ignore")
+  private final Supplier<Bytes32> hashTreeRoot = Suppliers.memoize(this::calculateHashTreeRoot);
 
   public Attestation(Bitlist aggregation_bits, AttestationData data, BLSSignature signature) {
     this.aggregation_bits = aggregation_bits;
@@ -50,14 +56,17 @@ public class Attestation implements Merkleizable, SimpleOffsetSerializable, SSZC
   }
 
   public Attestation(Attestation attestation) {
-    this.aggregation_bits = attestation.getAggregation_bits().copy();
-    this.data = attestation.getData();
-    this.signature = attestation.getAggregate_signature();
+    this(
+        attestation.getAggregation_bits().copy(),
+        attestation.getData(),
+        attestation.getAggregate_signature());
   }
 
   public Attestation() {
-    this.aggregation_bits =
-        new Bitlist(Constants.MAX_VALIDATORS_PER_COMMITTEE, Constants.MAX_VALIDATORS_PER_COMMITTEE);
+    this(
+        new Bitlist(Constants.MAX_VALIDATORS_PER_COMMITTEE, Constants.MAX_VALIDATORS_PER_COMMITTEE),
+        null,
+        null);
   }
 
   public UnsignedLong getEarliestSlotForForkChoiceProcessing() {
@@ -142,28 +151,20 @@ public class Attestation implements Merkleizable, SimpleOffsetSerializable, SSZC
     return aggregation_bits;
   }
 
-  public void setAggregation_bits(Bitlist aggregation_bits) {
-    this.aggregation_bits = aggregation_bits;
-  }
-
   public AttestationData getData() {
     return data;
   }
 
-  public void setData(AttestationData data) {
-    this.data = data;
-  }
-
   public BLSSignature getAggregate_signature() {
     return signature;
   }
 
-  public void setAggregate_signature(BLSSignature aggregate_signature) {
-    this.signature = aggregate_signature;
-  }
-
   @Override
   public Bytes32 hash_tree_root() {
+    return hashTreeRoot.get();
+  }
+
+  private Bytes32 calculateHashTreeRoot() {
     return HashTreeUtil.merkleize(
         Arrays.asList(
             HashTreeUtil.hash_tree_root_bitlist(aggregation_bits),
@@ -43,6 +43,9 @@ public class AttesterSlashing implements Merkleizable, SimpleOffsetSerializable,
   @Label("sos-ignore")
   private final Supplier<Set<UnsignedLong>> intersectingIndices;
 
+  @Label("sos-ignore")
+  private final Supplier<Bytes32> hashTreeRoot = Suppliers.memoize(this::calculateHashTreeRoot);
+
   public AttesterSlashing(IndexedAttestation attestation_1, IndexedAttestation attestation_2) {
     this.attestation_1 = attestation_1;
     this.attestation_2 = attestation_2;
@@ -106,6 +109,10 @@ public class AttesterSlashing implements Merkleizable, SimpleOffsetSerializable,
 
   @Override
   public Bytes32 hash_tree_root() {
+    return hashTreeRoot.get();
+  }
+
+  private Bytes32 calculateHashTreeRoot() {
     return HashTreeUtil.merkleize(
         Arrays.asList(attestation_1.hash_tree_root(), attestation_2.hash_tree_root()));
   }
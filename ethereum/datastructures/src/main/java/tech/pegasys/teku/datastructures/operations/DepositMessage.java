@@ -13,11 +13,14 @@
 
 package tech.pegasys.teku.datastructures.operations;
 
+import com.google.common.base.Suppliers;
 import com.google.common.primitives.UnsignedLong;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
+import jdk.jfr.Label;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.ssz.SSZ;
@@ -37,6 +40,9 @@ public class DepositMessage implements SimpleOffsetSerializable, SSZContainer, M
   private final Bytes32 withdrawal_credentials;
   private final UnsignedLong amount;
 
+  @Label("sos-ignore")
+  private final Supplier<Bytes32> hashTreeRoot = Suppliers.memoize(this::calculateHashTreeRoot);
+
   public DepositMessage(
       final BLSPublicKey pubkey, final Bytes32 withdrawal_credentials, final UnsignedLong amount) {
     this.pubkey = pubkey;
@@ -93,6 +99,10 @@ public class DepositMessage implements SimpleOffsetSerializable, SSZContainer, M
 
   @Override
   public Bytes32 hash_tree_root() {
+    return hashTreeRoot.get();
+  }
+
+  private Bytes32 calculateHashTreeRoot() {
     return HashTreeUtil.merkleize(
         Arrays.asList(
             HashTreeUtil.hash_tree_root(SSZTypes.VECTOR_OF_BASIC, pubkey.toBytes()),
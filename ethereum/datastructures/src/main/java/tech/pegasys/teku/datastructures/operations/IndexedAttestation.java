@@ -13,13 +13,16 @@
 
 package tech.pegasys.teku.datastructures.operations;
 
+import com.google.common.base.Suppliers;
 import com.google.common.primitives.UnsignedLong;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import jdk.jfr.Label;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.ssz.SSZ;
@@ -42,6 +45,9 @@ public class IndexedAttestation implements Merkleizable, SimpleOffsetSerializabl
   private final AttestationData data;
   private final BLSSignature signature;
 
+  @Label("sos-ignore")
+  private final Supplier<Bytes32> hashTreeRoot = Suppliers.memoize(this::calculateHashTreeRoot);
+
   public IndexedAttestation(
       SSZList<UnsignedLong> attesting_indices, AttestationData data, BLSSignature signature) {
     this.attesting_indices = attesting_indices;
@@ -132,6 +138,10 @@ public class IndexedAttestation implements Merkleizable, SimpleOffsetSerializabl
 
   @Override
   public Bytes32 hash_tree_root() {
+    return hashTreeRoot.get();
+  }
+
+  private Bytes32 calculateHashTreeRoot() {
     return HashTreeUtil.merkleize(
         Arrays.asList(
             HashTreeUtil.hash_tree_root_list_ul(
@@ -13,10 +13,13 @@
 
 package tech.pegasys.teku.datastructures.operations;
 
+import com.google.common.base.Suppliers;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
+import jdk.jfr.Label;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlockHeader;
@@ -33,6 +36,9 @@ public class ProposerSlashing implements Merkleizable, SimpleOffsetSerializable,
   private final SignedBeaconBlockHeader header_1;
   private final SignedBeaconBlockHeader header_2;
 
+  @Label("sos-ignore")
+  private final Supplier<Bytes32> hashTreeRoot = Suppliers.memoize(this::calculateHashTreeRoot);
+
   public ProposerSlashing(SignedBeaconBlockHeader header_1, SignedBeaconBlockHeader header_2) {
     this.header_1 = header_1;
     this.header_2 = header_2;
@@ -86,6 +92,10 @@ public class ProposerSlashing implements Merkleizable, SimpleOffsetSerializable,
 
   @Override
   public Bytes32 hash_tree_root() {
+    return hashTreeRoot.get();
+  }
+
+  private Bytes32 calculateHashTreeRoot() {
     return HashTreeUtil.merkleize(
         Arrays.asList(header_1.hash_tree_root(), header_2.hash_tree_root()));
   }
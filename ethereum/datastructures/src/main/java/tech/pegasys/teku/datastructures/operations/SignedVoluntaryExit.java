@@ -14,10 +14,13 @@
 package tech.pegasys.teku.datastructures.operations;
 
 import com.google.common.base.MoreObjects;
+import com.google.common.base.Suppliers;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
+import jdk.jfr.Label;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLSSignature;
@@ -31,6 +34,9 @@ public class SignedVoluntaryExit implements SimpleOffsetSerializable, SSZContain
   private final VoluntaryExit message;
   private final BLSSignature signature;
 
+  @Label("sos-ignore")
+  private final Supplier<Bytes32> hashTreeRoot = Suppliers.memoize(this::calculateHashTreeRoot);
+
   public SignedVoluntaryExit(final VoluntaryExit message, final BLSSignature signature) {
     this.message = message;
     this.signature = signature;
@@ -59,6 +65,10 @@ public class SignedVoluntaryExit implements SimpleOffsetSerializable, SSZContain
 
   @Override
   public Bytes32 hash_tree_root() {
+    return hashTreeRoot.get();
+  }
+
+  private Bytes32 calculateHashTreeRoot() {
     return HashTreeUtil.merkleize(
         Arrays.asList(
             message.hash_tree_root(),
@@ -13,10 +13,13 @@
 
 package tech.pegasys.teku.datastructures.operations;
 
+import com.google.common.base.Suppliers;
 import com.google.common.primitives.UnsignedLong;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
+import jdk.jfr.Label;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.ssz.SSZ;
@@ -34,6 +37,9 @@ public class VoluntaryExit implements Merkleizable, SimpleOffsetSerializable, SS
   private final UnsignedLong epoch;
   private final UnsignedLong validator_index;
 
+  @Label("sos-ignore")
+  private final Supplier<Bytes32> hashTreeRoot = Suppliers.memoize(this::calculateHashTreeRoot);
+
   public VoluntaryExit(UnsignedLong epoch, UnsignedLong validator_index) {
     this.epoch = epoch;
     this.validator_index = validator_index;
@@ -85,6 +91,10 @@ public class VoluntaryExit implements Merkleizable, SimpleOffsetSerializable, SS
 
   @Override
   public Bytes32 hash_tree_root() {
+    return hashTreeRoot.get();
+  }
+
+  private Bytes32 calculateHashTreeRoot() {
     return HashTreeUtil.merkleize(
         Arrays.asList(
             HashTreeUtil.hash_tree_root(SSZTypes.BASIC, SSZ.encodeUInt64(epoch.longValue())),
@@ -272,6 +272,11 @@ public interface BeaconState
         AbstractBasicView::get);
   }
 
+  /** Returns the validator balances decoded directly from the state tree in a single pass */
+  default long[] getBalancesAsLongArray() {
+    return ViewUtils.toLongArray(getAny(BALANCES_FIELD.getIndex()));
+  }
+
   default SSZVector<Bytes32> getRandao_mixes() {
     return new SSZBackingVector<>(
         Bytes32.class,
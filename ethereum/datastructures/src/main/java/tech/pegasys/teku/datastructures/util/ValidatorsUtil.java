@@ -14,16 +14,14 @@
 package tech.pegasys.teku.datastructures.util;
 
 import com.google.common.primitives.UnsignedLong;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.datastructures.state.BeaconState;
 import tech.pegasys.teku.datastructures.state.BeaconStateCache;
 import tech.pegasys.teku.datastructures.state.MutableBeaconState;
 import tech.pegasys.teku.datastructures.state.Validator;
-import tech.pegasys.teku.ssz.SSZTypes.SSZList;
 import tech.pegasys.teku.util.config.Constants;
 
 public class ValidatorsUtil {
@@ -97,11 +95,15 @@ public class ValidatorsUtil {
         .get(
             epoch,
             e -> {
-              SSZList<Validator> validators = state.getValidators();
-              return IntStream.range(0, validators.size())
-                  .filter(index -> is_active_validator(validators.get(index), epoch))
-                  .boxed()
-                  .collect(Collectors.toList());
+              final List<Integer> activeValidators = new ArrayList<>();
+              int index = 0;
+              for (Validator validator : state.getValidators()) {
+                if (is_active_validator(validator, epoch)) {
+                  activeValidators.add(index);
+                }
+                index++;
+              }
+              return activeValidators;
             });
   }
 
@@ -113,12 +115,12 @@ public class ValidatorsUtil {
             .get(
                 publicKey,
                 key -> {
-                  SSZList<Validator> validators = state.getValidators();
-                  for (int i = 0; i < validators.size(); i++) {
-                    final Validator validator = validators.get(i);
+                  int index = 0;
+                  for (Validator validator : state.getValidators()) {
                     if (validator.getPubkey().equals(publicKey)) {
-                      return i;
+                      return index;
                     }
+                    index++;
                   }
                   return null;
                 });
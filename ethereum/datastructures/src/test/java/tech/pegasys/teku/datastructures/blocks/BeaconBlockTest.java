@@ -108,4 +108,19 @@ class BeaconBlockTest {
     final BeaconBlock result = SimpleOffsetSerializer.deserialize(ssz, BeaconBlock.class);
     assertThat(result).isEqualTo(beaconBlock);
   }
+
+  @Test
+  void hashTreeRootShouldMatchEqualBlock() {
+    final Bytes32 expectedRoot = beaconBlock.hash_tree_root();
+    final BeaconBlock result =
+        SimpleOffsetSerializer.deserialize(
+            SimpleOffsetSerializer.serialize(beaconBlock), BeaconBlock.class);
+
+    assertThat(beaconBlock.hash_tree_root()).isEqualTo(expectedRoot);
+    assertThat(result.hash_tree_root()).isEqualTo(expectedRoot);
+    assertThat(
+            new BeaconBlock(slot, proposer_index, previous_root, state_root.not(), body)
+                .hash_tree_root())
+        .isNotEqualTo(expectedRoot);
+  }
 }
@@ -13,8 +13,6 @@
 
 package tech.pegasys.teku.statetransition.attestation;
 
-import com.google.common.eventbus.EventBus;
-import com.google.common.eventbus.Subscribe;
 import com.google.common.primitives.UnsignedLong;
 import java.util.List;
 import org.apache.logging.log4j.LogManager;
@@ -26,17 +24,16 @@ import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.datastructures.util.AttestationProcessingResult;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.service.serviceutils.Service;
-import tech.pegasys.teku.statetransition.events.block.ImportedBlockEvent;
+import tech.pegasys.teku.statetransition.events.block.ImportedBlockChannel;
 import tech.pegasys.teku.statetransition.util.FutureItems;
 import tech.pegasys.teku.statetransition.util.PendingPool;
 import tech.pegasys.teku.util.events.Subscribers;
 import tech.pegasys.teku.util.time.channels.SlotEventsChannel;
 
-public class AttestationManager extends Service implements SlotEventsChannel {
+public class AttestationManager extends Service implements SlotEventsChannel, ImportedBlockChannel {
 
   private static final Logger LOG = LogManager.getLogger();
 
-  private final EventBus eventBus;
   private final ForkChoiceAttestationProcessor attestationProcessor;
 
   private final PendingPool<ValidateableAttestation> pendingAttestations;
@@ -47,12 +44,10 @@ public class AttestationManager extends Service implements SlotEventsChannel {
       Subscribers.create(true);
 
   AttestationManager(
-      final EventBus eventBus,
       final ForkChoiceAttestationProcessor attestationProcessor,
       final PendingPool<ValidateableAttestation> pendingAttestations,
       final FutureItems<ValidateableAttestation> futureAttestations,
       final AggregatingAttestationPool aggregatingAttestationPool) {
-    this.eventBus = eventBus;
     this.attestationProcessor = attestationProcessor;
     this.pendingAttestations = pendingAttestations;
     this.futureAttestations = futureAttestations;
@@ -60,13 +55,11 @@ public class AttestationManager extends Service implements SlotEventsChannel {
   }
 
   public static AttestationManager create(
-      final EventBus eventBus,
       final PendingPool<ValidateableAttestation> pendingAttestations,
       final FutureItems<ValidateableAttestation> futureAttestations,
       final ForkChoiceAttestationProcessor forkChoiceAttestationProcessor,
       final AggregatingAttestationPool aggregatingAttestationPool) {
     return new AttestationManager(
-        eventBus,
         forkChoiceAttestationProcessor,
         pendingAttestations,
         futureAttestations,
@@ -92,10 +85,8 @@ public class AttestationManager extends Service implements SlotEventsChannel {
     processedAttestationSubscriber.forEach(s -> s.accept(attestation));
   }
 
-  @Subscribe
-  @SuppressWarnings("unused")
-  private void onBlockImported(final ImportedBlockEvent blockImportedEvent) {
-    final SignedBeaconBlock block = blockImportedEvent.getBlock();
+  @Override
+  public void onBlockImported(final SignedBeaconBlock block) {
     final Bytes32 blockRoot = block.getMessage().hash_tree_root();
     pendingAttestations
         .getItemsDependingOn(blockRoot, false)
@@ -140,13 +131,11 @@ public class AttestationManager extends Service implements SlotEventsChannel {
 
   @Override
   protected SafeFuture<?> doStart() {
-    eventBus.register(this);
     return SafeFuture.COMPLETE;
   }
 
   @Override
   protected SafeFuture<?> doStop() {
-    eventBus.unregister(this);
     return SafeFuture.COMPLETE;
   }
 }
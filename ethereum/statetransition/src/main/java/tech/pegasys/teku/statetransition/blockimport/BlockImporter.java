@@ -13,31 +13,33 @@
 
 package tech.pegasys.teku.statetransition.blockimport;
 
-import com.google.common.eventbus.EventBus;
-import com.google.common.eventbus.Subscribe;
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.List;
 import javax.annotation.CheckReturnValue;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import tech.pegasys.teku.core.results.BlockImportResult;
-import tech.pegasys.teku.data.BlockProcessingRecord;
+import tech.pegasys.teku.data.BlockProcessingRecordChannel;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.datastructures.operations.Attestation;
 import tech.pegasys.teku.datastructures.operations.AttesterSlashing;
 import tech.pegasys.teku.datastructures.operations.ProposerSlashing;
 import tech.pegasys.teku.datastructures.operations.SignedVoluntaryExit;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
-import tech.pegasys.teku.statetransition.events.block.ImportedBlockEvent;
-import tech.pegasys.teku.statetransition.events.block.ProposedBlockEvent;
+import tech.pegasys.teku.statetransition.blockimport.BlockLifecycleTracker.Stage;
+import tech.pegasys.teku.statetransition.events.block.ImportedBlockChannel;
+import tech.pegasys.teku.statetransition.events.block.ProposedBlockChannel;
 import tech.pegasys.teku.statetransition.forkchoice.ForkChoice;
 import tech.pegasys.teku.storage.client.RecentChainData;
 import tech.pegasys.teku.util.events.Subscribers;
 
-public class BlockImporter {
+public class BlockImporter implements ProposedBlockChannel {
   private static final Logger LOG = LogManager.getLogger();
   private final RecentChainData recentChainData;
   private final ForkChoice forkChoice;
-  private final EventBus eventBus;
+  private final ImportedBlockChannel importedBlockChannel;
+  private final BlockProcessingRecordChannel blockProcessingRecordChannel;
+  private final BlockLifecycleTracker blockLifecycleTracker;
 
   private Subscribers<VerifiedBlockOperationsListener<Attestation>> attestationSubscribers =
       Subscribers.create(true);
@@ -49,11 +51,29 @@ public class BlockImporter {
       voluntaryExitSubscribers = Subscribers.create(true);
 
   public BlockImporter(
-      final RecentChainData recentChainData, final ForkChoice forkChoice, final EventBus eventBus) {
+      final RecentChainData recentChainData,
+      final ForkChoice forkChoice,
+      final ImportedBlockChannel importedBlockChannel,
+      final BlockProcessingRecordChannel blockProcessingRecordChannel) {
+    this(
+        recentChainData,
+        forkChoice,
+        importedBlockChannel,
+        blockProcessingRecordChannel,
+        BlockLifecycleTracker.NOOP);
+  }
+
+  public BlockImporter(
+      final RecentChainData recentChainData,
+      final ForkChoice forkChoice,
+      final ImportedBlockChannel importedBlockChannel,
+      final BlockProcessingRecordChannel blockProcessingRecordChannel,
+      final BlockLifecycleTracker blockLifecycleTracker) {
     this.recentChainData = recentChainData;
     this.forkChoice = forkChoice;
-    this.eventBus = eventBus;
-    eventBus.register(this);
+    this.importedBlockChannel = importedBlockChannel;
+    this.blockProcessingRecordChannel = blockProcessingRecordChannel;
+    this.blockLifecycleTracker = blockLifecycleTracker;
   }
 
   @CheckReturnValue
@@ -65,11 +85,13 @@ public class BlockImporter {
           block.getMessage().hash_tree_root());
       return SafeFuture.completedFuture(BlockImportResult.knownBlock(block));
     }
+    blockLifecycleTracker.onStageCompleted(block, Stage.IMPORT_QUEUE);
 
     return recentChainData
         .retrieveBlockState(block.getParent_root())
         .thenApply(
             preState -> {
+              blockLifecycleTracker.onStageCompleted(block, Stage.PRE_STATE_LOAD);
               BlockImportResult result = forkChoice.onBlock(block, preState);
               if (!result.isSuccessful()) {
                 LOG.trace(
@@ -80,10 +102,11 @@ public class BlockImporter {
               }
               LOG.trace("Successfully imported block {}", block.getMessage().hash_tree_root());
 
-              final Optional<BlockProcessingRecord> record = result.getBlockProcessingRecord();
-              eventBus.post(new ImportedBlockEvent(block));
+              importedBlockChannel.onBlockImported(block);
               notifyBlockOperationSubscribers(block);
-              record.ifPresent(eventBus::post);
+              result
+                  .getBlockProcessingRecord()
+                  .ifPresent(blockProcessingRecordChannel::onBlockProcessingRecord);
 
               return result;
             })
@@ -94,22 +117,86 @@ public class BlockImporter {
             });
   }
 
-  @Subscribe
-  @SuppressWarnings("unused")
-  private void onBlockProposed(final ProposedBlockEvent blockProposedEvent) {
-    LOG.trace("Preparing to import proposed block: {}", blockProposedEvent.getBlock());
-    importBlock(blockProposedEvent.getBlock())
+  /**
+   * Imports a chain of blocks, each the child of the one before it, verifying their signatures in a
+   * single batch. Blocks which are already known at the start of the chain are skipped.
+   *
+   * @param blocks the blocks to import, in order
+   * @return the results for each block up to and including the first failure
+   */
+  @CheckReturnValue
+  public SafeFuture<List<BlockImportResult>> importBlocks(final List<SignedBeaconBlock> blocks) {
+    final List<BlockImportResult> knownBlockResults = new ArrayList<>();
+    int firstUnknownBlock = 0;
+    while (firstUnknownBlock < blocks.size()
+        && recentChainData.containsBlock(blocks.get(firstUnknownBlock).getRoot())) {
+      knownBlockResults.add(BlockImportResult.knownBlock(blocks.get(firstUnknownBlock)));
+      firstUnknownBlock++;
+    }
+    if (firstUnknownBlock == blocks.size()) {
+      return SafeFuture.completedFuture(knownBlockResults);
+    }
+    final List<SignedBeaconBlock> blocksToImport = blocks.subList(firstUnknownBlock, blocks.size());
+    final SignedBeaconBlock firstBlock = blocksToImport.get(0);
+    LOG.trace(
+        "Import {} blocks from slot {}", blocksToImport.size(), firstBlock.getMessage().getSlot());
+    blocksToImport.forEach(
+        block -> blockLifecycleTracker.onStageCompleted(block, Stage.IMPORT_QUEUE));
+
+    return recentChainData
+        .retrieveBlockState(firstBlock.getParent_root())
+        .thenApply(
+            preState -> {
+              blocksToImport.forEach(
+                  block -> blockLifecycleTracker.onStageCompleted(block, Stage.PRE_STATE_LOAD));
+              final List<BlockImportResult> importResults =
+                  forkChoice.onBlocks(blocksToImport, preState);
+              final List<BlockImportResult> results = new ArrayList<>(knownBlockResults);
+              for (int i = 0; i < importResults.size(); i++) {
+                final BlockImportResult result = importResults.get(i);
+                final SignedBeaconBlock block = blocksToImport.get(i);
+                results.add(result);
+                if (!result.isSuccessful()) {
+                  LOG.trace(
+                      "Failed to import block for reason {}: {}",
+                      result.getFailureReason(),
+                      block.getMessage());
+                  break;
+                }
+                LOG.trace("Successfully imported block {}", block.getRoot());
+
+                importedBlockChannel.onBlockImported(block);
+                notifyBlockOperationSubscribers(block);
+                result
+                    .getBlockProcessingRecord()
+                    .ifPresent(blockProcessingRecordChannel::onBlockProcessingRecord);
+              }
+              return results;
+            })
+        .exceptionally(
+            (e) -> {
+              LOG.error(
+                  "Internal error while importing blocks from: " + firstBlock.getMessage(), e);
+              final List<BlockImportResult> results = new ArrayList<>(knownBlockResults);
+              results.add(BlockImportResult.internalError(e));
+              return results;
+            });
+  }
+
+  @Override
+  public void onBlockProposed(final SignedBeaconBlock block) {
+    LOG.trace("Preparing to import proposed block: {}", block);
+    importBlock(block)
         .thenAccept(
             (result) -> {
               if (result.isSuccessful()) {
-                LOG.trace(
-                    "Successfully imported proposed block: {}", blockProposedEvent.getBlock());
+                LOG.trace("Successfully imported proposed block: {}", block);
               } else {
                 LOG.error(
                     "Failed to import proposed block for reason + "
                         + result.getFailureReason()
                         + ": "
-                        + blockProposedEvent,
+                        + block,
                     result.getFailureCause().orElse(null));
               }
             })
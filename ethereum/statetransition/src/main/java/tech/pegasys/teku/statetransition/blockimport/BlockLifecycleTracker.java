@@ -0,0 +1,114 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.blockimport;
+
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
+
+/**
+ * Records when a block received from the network passes through each stage of the import pipeline,
+ * from arrival to becoming the chain head.
+ *
+ * <p>Only blocks reported via {@link #onReceived(SignedBeaconBlock, Source)} are tracked. Events
+ * for any other block, such as those imported during sync, are ignored.
+ */
+public interface BlockLifecycleTracker {
+
+  BlockLifecycleTracker NOOP =
+      new BlockLifecycleTracker() {
+        @Override
+        public void onReceived(final SignedBeaconBlock block, final Source source) {}
+
+        @Override
+        public void onStageCompleted(final SignedBeaconBlock block, final Stage stage) {}
+
+        @Override
+        public void onDeferred(final SignedBeaconBlock block, final Deferral deferral) {}
+
+        @Override
+        public void onDropped(final SignedBeaconBlock block) {}
+
+        @Override
+        public void onHead(final Bytes32 blockRoot) {}
+      };
+
+  /** Starts tracking a block as it arrives. Blocks which are already tracked are unaffected. */
+  void onReceived(SignedBeaconBlock block, Source source);
+
+  /** Records that a tracked block has completed the given stage. */
+  void onStageCompleted(SignedBeaconBlock block, Stage stage);
+
+  /** Records that a tracked block has been parked until it can be imported. */
+  void onDeferred(SignedBeaconBlock block, Deferral deferral);
+
+  /** Stops tracking a block which was found to be invalid. */
+  void onDropped(SignedBeaconBlock block);
+
+  /** Completes tracking of the block which has become the chain head. */
+  void onHead(Bytes32 blockRoot);
+
+  enum Source {
+    GOSSIP("gossip"),
+    RPC("rpc");
+
+    private final String label;
+
+    Source(final String label) {
+      this.label = label;
+    }
+
+    public String getLabel() {
+      return label;
+    }
+  }
+
+  /**
+   * Stages of the import pipeline, in the order they complete. The duration reported for a stage is
+   * the time since the previous completed stage.
+   */
+  enum Stage {
+    GOSSIP_VALIDATION("gossip_validation"),
+    IMPORT_QUEUE("import_queue"),
+    PRE_STATE_LOAD("pre_state_load"),
+    STATE_TRANSITION("state_transition"),
+    STORE_COMMIT("store_commit"),
+    HEAD_UPDATE("head_update");
+
+    private final String label;
+
+    Stage(final String label) {
+      this.label = label;
+    }
+
+    public String getLabel() {
+      return label;
+    }
+  }
+
+  /** Places a block may wait before it can be imported. */
+  enum Deferral {
+    PENDING_POOL("pending_pool"),
+    FUTURE_ITEMS("future_items");
+
+    private final String label;
+
+    Deferral(final String label) {
+      this.label = label;
+    }
+
+    public String getLabel() {
+      return label;
+    }
+  }
+}
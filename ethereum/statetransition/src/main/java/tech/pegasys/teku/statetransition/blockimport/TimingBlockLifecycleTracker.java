@@ -0,0 +1,217 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.blockimport;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.prometheus.client.Histogram;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.metrics.prometheus.PrometheusMetricsSystem;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
+import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.metrics.TekuMetricCategory;
+import tech.pegasys.teku.util.collections.ConcurrentLimitedMap;
+import tech.pegasys.teku.util.collections.LimitStrategy;
+import tech.pegasys.teku.util.time.TimeProvider;
+
+/**
+ * Tracks the latency of each block received from the network through the import pipeline and
+ * publishes it as histograms. Blocks which take longer than a threshold from arrival to becoming
+ * head are logged with their per-stage breakdown.
+ */
+public class TimingBlockLifecycleTracker implements BlockLifecycleTracker {
+  private static final Logger LOG = LogManager.getLogger();
+
+  // Blocks which never become head, for example because a child was imported before the next fork
+  // choice run, are dropped once this many newer blocks are being tracked
+  private static final int MAX_TRACKED_BLOCKS = 256;
+  private static final double[] LATENCY_BUCKETS_SECONDS = {
+    0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2, 4, 8, 12, 24, 60
+  };
+
+  private final TimeProvider timeProvider;
+  private final long slowBlockThresholdMillis;
+  private final Map<Bytes32, BlockTimings> trackedBlocks =
+      ConcurrentLimitedMap.create(MAX_TRACKED_BLOCKS, LimitStrategy.DROP_OLDEST_ELEMENT);
+  private final Histogram arrivalToHeadLatency;
+  private final Histogram stageLatency;
+
+  public TimingBlockLifecycleTracker(
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider,
+      final long slowBlockThresholdMillis) {
+    this.timeProvider = timeProvider;
+    this.slowBlockThresholdMillis = slowBlockThresholdMillis;
+    final MetricCategory category = TekuMetricCategory.BEACON;
+    arrivalToHeadLatency =
+        Histogram.build()
+            .name(metricName(category, "block_arrival_to_head_seconds"))
+            .help("Time from a block first being received until it became the chain head")
+            .labelNames("source")
+            .buckets(LATENCY_BUCKETS_SECONDS)
+            .create();
+    stageLatency =
+        Histogram.build()
+            .name(metricName(category, "block_import_stage_seconds"))
+            .help("Time spent by blocks received from the network in each import stage")
+            .labelNames("stage")
+            .buckets(LATENCY_BUCKETS_SECONDS)
+            .create();
+    if (metricsSystem instanceof PrometheusMetricsSystem) {
+      ((PrometheusMetricsSystem) metricsSystem).addCollector(category, arrivalToHeadLatency);
+      ((PrometheusMetricsSystem) metricsSystem).addCollector(category, stageLatency);
+    }
+  }
+
+  private static String metricName(final MetricCategory category, final String name) {
+    return category.getApplicationPrefix().orElse("") + category.getName() + "_" + name;
+  }
+
+  @Override
+  public void onReceived(final SignedBeaconBlock block, final Source source) {
+    trackedBlocks.putIfAbsent(
+        block.getRoot(), new BlockTimings(block.getSlot().longValue(), source, currentTime()));
+  }
+
+  @Override
+  public void onStageCompleted(final SignedBeaconBlock block, final Stage stage) {
+    final BlockTimings timings = trackedBlocks.get(block.getRoot());
+    if (timings != null) {
+      timings.onStageCompleted(stage, currentTime());
+    }
+  }
+
+  @Override
+  public void onDeferred(final SignedBeaconBlock block, final Deferral deferral) {
+    final BlockTimings timings = trackedBlocks.get(block.getRoot());
+    if (timings != null) {
+      timings.onDeferred(deferral, currentTime());
+    }
+  }
+
+  @Override
+  public void onDropped(final SignedBeaconBlock block) {
+    trackedBlocks.remove(block.getRoot());
+  }
+
+  @Override
+  public void onHead(final Bytes32 blockRoot) {
+    final BlockTimings timings = trackedBlocks.remove(blockRoot);
+    if (timings == null) {
+      return;
+    }
+    timings.onStageCompleted(Stage.HEAD_UPDATE, currentTime());
+    final Map<String, Long> breakdown = timings.getBreakdownMillis();
+    final long totalMillis = timings.getTotalMillis();
+
+    arrivalToHeadLatency.labels(timings.source.getLabel()).observe(toSeconds(totalMillis));
+    breakdown.forEach((stage, millis) -> stageLatency.labels(stage).observe(toSeconds(millis)));
+
+    if (totalMillis >= slowBlockThresholdMillis) {
+      LOG.info(
+          "Slow block import: {} block at slot {} ({}) took {}ms from arrival to head. Breakdown: {}",
+          timings.source.getLabel(),
+          timings.slot,
+          blockRoot,
+          totalMillis,
+          breakdown.entrySet().stream()
+              .map(entry -> entry.getKey() + "=" + entry.getValue() + "ms")
+              .collect(Collectors.joining(", ")));
+    }
+  }
+
+  @VisibleForTesting
+  int countTrackedBlocks() {
+    return trackedBlocks.size();
+  }
+
+  @VisibleForTesting
+  Histogram getArrivalToHeadLatency() {
+    return arrivalToHeadLatency;
+  }
+
+  @VisibleForTesting
+  Histogram getStageLatency() {
+    return stageLatency;
+  }
+
+  private long currentTime() {
+    return timeProvider.getTimeInMillis().longValue();
+  }
+
+  private static double toSeconds(final long millis) {
+    return millis / 1000.0;
+  }
+
+  private static class BlockTimings {
+    private final long slot;
+    private final Source source;
+    private final long receivedAt;
+    private final Map<Stage, Long> stageCompletedAt = new EnumMap<>(Stage.class);
+    private final Map<Deferral, Long> deferredMillis = new EnumMap<>(Deferral.class);
+    private Deferral currentDeferral;
+    private long deferredAt;
+
+    private BlockTimings(final long slot, final Source source, final long receivedAt) {
+      this.slot = slot;
+      this.source = source;
+      this.receivedAt = receivedAt;
+    }
+
+    synchronized void onDeferred(final Deferral deferral, final long time) {
+      currentDeferral = deferral;
+      deferredAt = time;
+    }
+
+    synchronized void onStageCompleted(final Stage stage, final long time) {
+      if (stage == Stage.IMPORT_QUEUE) {
+        // A new import attempt replaces the timings of any earlier attempt
+        stageCompletedAt.keySet().removeIf(completed -> completed.compareTo(stage) > 0);
+        if (currentDeferral != null) {
+          deferredMillis.merge(currentDeferral, time - deferredAt, Long::sum);
+          currentDeferral = null;
+        }
+      }
+      stageCompletedAt.put(stage, time);
+    }
+
+    synchronized long getTotalMillis() {
+      return stageCompletedAt.getOrDefault(Stage.HEAD_UPDATE, receivedAt) - receivedAt;
+    }
+
+    /** Returns the time spent in each stage and deferral, ordered as they occur. */
+    synchronized Map<String, Long> getBreakdownMillis() {
+      final Map<String, Long> breakdown = new LinkedHashMap<>();
+      long previousStageCompletedAt = receivedAt;
+      for (Map.Entry<Stage, Long> entry : stageCompletedAt.entrySet()) {
+        long duration = entry.getValue() - previousStageCompletedAt;
+        if (entry.getKey() == Stage.IMPORT_QUEUE) {
+          for (Map.Entry<Deferral, Long> deferral : deferredMillis.entrySet()) {
+            breakdown.put(deferral.getKey().getLabel(), deferral.getValue());
+            duration -= deferral.getValue();
+          }
+        }
+        breakdown.put(entry.getKey().getLabel(), duration);
+        previousStageCompletedAt = entry.getValue();
+      }
+      return breakdown;
+    }
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2019 ConsenSys AG.
+ * Copyright 2020 ConsenSys AG.
  *
  * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
  * the License. You may obtain a copy of the License at
@@ -14,30 +14,10 @@
 package tech.pegasys.teku.statetransition.events.attestation;
 
 import com.google.common.primitives.UnsignedLong;
-import java.util.Objects;
+import tech.pegasys.teku.util.channels.VoidReturningChannelInterface;
 
-public class BroadcastAggregatesEvent {
+public interface AttestationTimingChannel extends VoidReturningChannelInterface {
+  void onAttestationCreationDue(UnsignedLong slot);
 
-  private final UnsignedLong slot;
-
-  public BroadcastAggregatesEvent(final UnsignedLong slot) {
-    this.slot = slot;
-  }
-
-  public UnsignedLong getSlot() {
-    return slot;
-  }
-
-  @Override
-  public boolean equals(final Object o) {
-    if (this == o) return true;
-    if (o == null || getClass() != o.getClass()) return false;
-    final BroadcastAggregatesEvent that = (BroadcastAggregatesEvent) o;
-    return Objects.equals(slot, that.slot);
-  }
-
-  @Override
-  public int hashCode() {
-    return Objects.hash(slot);
-  }
+  void onAttestationAggregationDue(UnsignedLong slot);
 }
@@ -1,43 +0,0 @@
-/*
- * Copyright 2019 ConsenSys AG.
- *
- * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
- * the License. You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
- * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
- * specific language governing permissions and limitations under the License.
- */
-
-package tech.pegasys.teku.statetransition.events.attestation;
-
-import com.google.common.primitives.UnsignedLong;
-import java.util.Objects;
-
-public class BroadcastAttestationEvent {
-
-  private final UnsignedLong nodeSlot;
-
-  public BroadcastAttestationEvent(final UnsignedLong nodeSlot) {
-    this.nodeSlot = nodeSlot;
-  }
-
-  public UnsignedLong getNodeSlot() {
-    return nodeSlot;
-  }
-
-  @Override
-  public boolean equals(final Object o) {
-    if (this == o) return true;
-    if (o == null || getClass() != o.getClass()) return false;
-    final BroadcastAttestationEvent that = (BroadcastAttestationEvent) o;
-    return Objects.equals(nodeSlot, that.nodeSlot);
-  }
-
-  @Override
-  public int hashCode() {
-    return Objects.hash(nodeSlot);
-  }
-}
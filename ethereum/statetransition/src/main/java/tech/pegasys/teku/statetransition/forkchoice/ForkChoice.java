@@ -13,14 +13,26 @@
 
 package tech.pegasys.teku.statetransition.forkchoice;
 
+import static tech.pegasys.teku.core.ForkChoiceUtil.apply_block_to_store;
+import static tech.pegasys.teku.core.ForkChoiceUtil.compute_block_batch_post_states;
+import static tech.pegasys.teku.core.ForkChoiceUtil.compute_block_post_state;
 import static tech.pegasys.teku.core.ForkChoiceUtil.on_attestation;
-import static tech.pegasys.teku.core.ForkChoiceUtil.on_block;
 
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
 import com.google.common.primitives.UnsignedLong;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.bls.BLSSignatureVerifier;
+import tech.pegasys.teku.bls.VerifiedSignatureCache;
 import tech.pegasys.teku.core.StateTransition;
 import tech.pegasys.teku.core.results.BlockImportResult;
+import tech.pegasys.teku.data.BlockProcessingRecord;
 import tech.pegasys.teku.datastructures.attestation.ValidateableAttestation;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.datastructures.blocks.SlotAndBlockRoot;
@@ -29,6 +41,8 @@ import tech.pegasys.teku.datastructures.operations.IndexedAttestation;
 import tech.pegasys.teku.datastructures.state.BeaconState;
 import tech.pegasys.teku.datastructures.util.AttestationProcessingResult;
 import tech.pegasys.teku.protoarray.ForkChoiceStrategy;
+import tech.pegasys.teku.statetransition.blockimport.BlockLifecycleTracker;
+import tech.pegasys.teku.statetransition.blockimport.BlockLifecycleTracker.Stage;
 import tech.pegasys.teku.storage.client.RecentChainData;
 import tech.pegasys.teku.storage.store.UpdatableStore.StoreTransaction;
 
@@ -36,10 +50,31 @@ public class ForkChoice {
 
   private final RecentChainData recentChainData;
   private final StateTransition stateTransition;
+  private final VerifiedSignatureCache verifiedSignatureCache;
+  private final BLSSignatureVerifier attestationSignatureVerifier;
+  private final BlockLifecycleTracker blockLifecycleTracker;
 
   public ForkChoice(final RecentChainData recentChainData, final StateTransition stateTransition) {
+    this(recentChainData, stateTransition, VerifiedSignatureCache.DISABLED);
+  }
+
+  public ForkChoice(
+      final RecentChainData recentChainData,
+      final StateTransition stateTransition,
+      final VerifiedSignatureCache verifiedSignatureCache) {
+    this(recentChainData, stateTransition, verifiedSignatureCache, BlockLifecycleTracker.NOOP);
+  }
+
+  public ForkChoice(
+      final RecentChainData recentChainData,
+      final StateTransition stateTransition,
+      final VerifiedSignatureCache verifiedSignatureCache,
+      final BlockLifecycleTracker blockLifecycleTracker) {
     this.recentChainData = recentChainData;
     this.stateTransition = stateTransition;
+    this.verifiedSignatureCache = verifiedSignatureCache;
+    this.attestationSignatureVerifier = verifiedSignatureCache.wrap(BLSSignatureVerifier.SIMPLE);
+    this.blockLifecycleTracker = blockLifecycleTracker;
     recentChainData.subscribeStoreInitialized(this::initializeProtoArrayForkChoice);
   }
 
@@ -69,41 +104,175 @@ public class ForkChoice {
                     () ->
                         new IllegalStateException(
                             "Unable to retrieve the slot of fork choice head"))));
+    blockLifecycleTracker.onHead(headBlockRoot);
   }
 
-  public synchronized BlockImportResult onBlock(
-      final SignedBeaconBlock block, Optional<BeaconState> preState) {
+  /**
+   * Imports a block in two phases. The state transition, including signature verification, runs
+   * without holding the fork choice lock so that multiple blocks can be processed concurrently and
+   * {@link #processHead()} is not held up behind it. Only applying the result to the store and
+   * protoarray is done under the lock.
+   */
+  public BlockImportResult onBlock(final SignedBeaconBlock block, Optional<BeaconState> preState) {
     final ForkChoiceStrategy forkChoiceStrategy = getForkChoiceStrategy();
-    StoreTransaction transaction = recentChainData.startStoreTransaction();
+    final Map<Bytes32, SlotAndBlockRoot> stateRoots = new LinkedHashMap<>();
     final BlockImportResult result =
-        on_block(
-            transaction,
+        compute_block_post_state(
+            recentChainData.getStore(),
             block,
             preState,
             stateTransition,
             forkChoiceStrategy,
-            beaconState ->
-                transaction.putStateRoot(
-                    beaconState.hash_tree_root(),
-                    new SlotAndBlockRoot(
-                        beaconState.getSlot(),
-                        beaconState.getLatest_block_header().hash_tree_root())));
+            stateRootCollector(stateRoots));
+
+    if (!result.isSuccessful()) {
+      return result;
+    }
+    blockLifecycleTracker.onStageCompleted(block, Stage.STATE_TRANSITION);
+
+    final BlockImportResult applyResult =
+        applyBlock(forkChoiceStrategy, result.getBlockProcessingRecord().orElseThrow(), stateRoots);
+    if (applyResult.isSuccessful()) {
+      blockLifecycleTracker.onStageCompleted(block, Stage.STORE_COMMIT);
+    }
+    return applyResult;
+  }
+
+  /**
+   * Imports a chain of blocks, each the child of the one before it, verifying the signatures of all
+   * the blocks in a single batch. Nothing is applied to the store until the batch has been
+   * verified. Blocks after the first one with an invalid signature are imported one at a time so
+   * the exact failure is reported.
+   *
+   * @param blocks the blocks to import, in order
+   * @param preState the pre-state of the first block
+   * @return the results for each block up to and including the first failure
+   */
+  public List<BlockImportResult> onBlocks(
+      final List<SignedBeaconBlock> blocks, final Optional<BeaconState> preState) {
+    final ForkChoiceStrategy forkChoiceStrategy = getForkChoiceStrategy();
+    final Map<Bytes32, SlotAndBlockRoot> stateRoots = new LinkedHashMap<>();
+    final List<BlockImportResult> computedResults =
+        compute_block_batch_post_states(
+            recentChainData.getStore(),
+            blocks,
+            preState,
+            stateTransition,
+            verifiedSignatureCache,
+            forkChoiceStrategy,
+            stateRootCollector(stateRoots));
+    computedResults.stream()
+        .filter(BlockImportResult::isSuccessful)
+        .forEach(
+            result ->
+                blockLifecycleTracker.onStageCompleted(
+                    result.getBlockProcessingRecord().orElseThrow().getBlock(),
+                    Stage.STATE_TRANSITION));
+
+    final List<BlockImportResult> results =
+        applyBlocks(forkChoiceStrategy, computedResults, stateRoots);
+    if (results.size() == blocks.size()
+        || !results.stream().allMatch(BlockImportResult::isSuccessful)) {
+      return results;
+    }
+
+    // The remaining blocks could not be verified as part of the batch
+    Optional<BeaconState> nextPreState =
+        results.isEmpty()
+            ? preState
+            : Optional.of(
+                results
+                    .get(results.size() - 1)
+                    .getBlockProcessingRecord()
+                    .orElseThrow()
+                    .getPostState());
+    for (SignedBeaconBlock block : blocks.subList(results.size(), blocks.size())) {
+      final BlockImportResult result = onBlock(block, nextPreState);
+      results.add(result);
+      if (!result.isSuccessful()) {
+        break;
+      }
+      nextPreState = Optional.of(result.getBlockProcessingRecord().orElseThrow().getPostState());
+    }
+    return results;
+  }
+
+  private synchronized List<BlockImportResult> applyBlocks(
+      final ForkChoiceStrategy forkChoiceStrategy,
+      final List<BlockImportResult> computedResults,
+      final Map<Bytes32, SlotAndBlockRoot> stateRoots) {
+    final List<BlockImportResult> results = new ArrayList<>();
+    final PeekingIterator<Map.Entry<Bytes32, SlotAndBlockRoot>> remainingStateRoots =
+        Iterators.peekingIterator(stateRoots.entrySet().iterator());
+    for (BlockImportResult computedResult : computedResults) {
+      if (!computedResult.isSuccessful()) {
+        results.add(computedResult);
+        break;
+      }
+      // Each block is committed separately so that the fork choice strategy knows about its
+      // parent, but only once every block in the batch has been verified
+      final BlockProcessingRecord record = computedResult.getBlockProcessingRecord().orElseThrow();
+      final BlockImportResult applyResult =
+          applyBlock(
+              forkChoiceStrategy,
+              record,
+              takeStateRootsBefore(remainingStateRoots, record.getBlock().getSlot()));
+      results.add(applyResult);
+      if (!applyResult.isSuccessful()) {
+        break;
+      }
+      blockLifecycleTracker.onStageCompleted(record.getBlock(), Stage.STORE_COMMIT);
+    }
+    return results;
+  }
+
+  /**
+   * Takes the state roots of the empty slots before the given slot. State roots are collected in
+   * slot order as the batch is processed, so these are the ones which reference the block's parent
+   * and the rest reference blocks which are not yet committed.
+   */
+  private static Map<Bytes32, SlotAndBlockRoot> takeStateRootsBefore(
+      final PeekingIterator<Map.Entry<Bytes32, SlotAndBlockRoot>> stateRoots,
+      final UnsignedLong slot) {
+    final Map<Bytes32, SlotAndBlockRoot> result = new LinkedHashMap<>();
+    while (stateRoots.hasNext() && stateRoots.peek().getValue().getSlot().compareTo(slot) < 0) {
+      final Map.Entry<Bytes32, SlotAndBlockRoot> entry = stateRoots.next();
+      result.put(entry.getKey(), entry.getValue());
+    }
+    return result;
+  }
+
+  private static Consumer<BeaconState> stateRootCollector(
+      final Map<Bytes32, SlotAndBlockRoot> stateRoots) {
+    return beaconState ->
+        stateRoots.put(
+            beaconState.hash_tree_root(),
+            new SlotAndBlockRoot(
+                beaconState.getSlot(), beaconState.getLatest_block_header().hash_tree_root()));
+  }
+
+  private synchronized BlockImportResult applyBlock(
+      final ForkChoiceStrategy forkChoiceStrategy,
+      final BlockProcessingRecord record,
+      final Map<Bytes32, SlotAndBlockRoot> stateRoots) {
+    StoreTransaction transaction = recentChainData.startStoreTransaction();
+    stateRoots.forEach(transaction::putStateRoot);
+    final BlockImportResult result = apply_block_to_store(transaction, record, forkChoiceStrategy);
 
     if (!result.isSuccessful()) {
       return result;
     }
 
     transaction.commit().join();
-    result
-        .getBlockProcessingRecord()
-        .ifPresent(record -> forkChoiceStrategy.onBlock(block.getMessage(), record.getPostState()));
+    forkChoiceStrategy.onBlock(record.getBlock().getMessage(), record.getPostState());
 
     return result;
   }
 
   public AttestationProcessingResult onAttestation(
       final MutableStore store, final ValidateableAttestation attestation) {
-    return on_attestation(store, attestation, stateTransition, getForkChoiceStrategy());
+    return on_attestation(
+        store, attestation, stateTransition, getForkChoiceStrategy(), attestationSignatureVerifier);
   }
 
   public void save() {
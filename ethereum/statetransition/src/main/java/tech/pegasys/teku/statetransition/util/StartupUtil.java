@@ -23,6 +23,7 @@ import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.datastructures.operations.DepositData;
 import tech.pegasys.teku.datastructures.state.BeaconState;
 import tech.pegasys.teku.datastructures.state.BeaconStateImpl;
@@ -32,6 +33,7 @@ import tech.pegasys.teku.datastructures.util.MockStartDepositGenerator;
 import tech.pegasys.teku.datastructures.util.MockStartValidatorKeyPairFactory;
 import tech.pegasys.teku.datastructures.util.SimpleOffsetSerializer;
 import tech.pegasys.teku.storage.client.RecentChainData;
+import tech.pegasys.teku.storage.events.AnchorPoint;
 import tech.pegasys.teku.util.resource.ResourceLoader;
 
 public final class StartupUtil {
@@ -60,6 +62,30 @@ public final class StartupUtil {
         BeaconStateImpl.class);
   }
 
+  private static SignedBeaconBlock loadSignedBeaconBlock(final String source) throws IOException {
+    return SimpleOffsetSerializer.deserialize(
+        ResourceLoader.urlOrFile()
+            .loadBytes(source)
+            .orElseThrow(() -> new FileNotFoundException("Could not find " + source)),
+        SignedBeaconBlock.class);
+  }
+
+  public static void setupInitialAnchor(
+      final RecentChainData recentChainData, final String anchorState, final String anchorBlock) {
+    final AnchorPoint anchor;
+    try {
+      STATUS_LOG.loadingInitialAnchor(anchorState, anchorBlock);
+      anchor =
+          AnchorPoint.fromInitialBlockAndState(
+              loadSignedBeaconBlock(anchorBlock), loadBeaconState(anchorState));
+    } catch (final IOException e) {
+      throw new IllegalStateException("Failed to load initial anchor", e);
+    }
+
+    recentChainData.initializeFromAnchorPoint(anchor);
+    STATUS_LOG.initialAnchorLoaded(anchor.getCheckpoint().getEpoch(), anchor.getRoot());
+  }
+
   public static void setupInitialState(
       final RecentChainData recentChainData,
       final long genesisTime,
@@ -27,7 +27,6 @@ import static tech.pegasys.teku.datastructures.util.AttestationProcessingResult.
 import static tech.pegasys.teku.datastructures.util.AttestationProcessingResult.SUCCESSFUL;
 import static tech.pegasys.teku.datastructures.util.AttestationProcessingResult.UNKNOWN_BLOCK;
 
-import com.google.common.eventbus.EventBus;
 import com.google.common.primitives.UnsignedLong;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.AfterEach;
@@ -45,13 +44,11 @@ import tech.pegasys.teku.datastructures.util.AttestationProcessingResult;
 import tech.pegasys.teku.datastructures.util.DataStructureUtil;
 import tech.pegasys.teku.ssz.SSZTypes.Bitlist;
 import tech.pegasys.teku.ssz.SSZTypes.SSZList;
-import tech.pegasys.teku.statetransition.events.block.ImportedBlockEvent;
 import tech.pegasys.teku.statetransition.util.FutureItems;
 import tech.pegasys.teku.statetransition.util.PendingPool;
 
 class AttestationManagerTest {
   private final DataStructureUtil dataStructureUtil = new DataStructureUtil();
-  private final EventBus eventBus = new EventBus();
 
   private final AggregatingAttestationPool attestationPool = mock(AggregatingAttestationPool.class);
   private final ForkChoiceAttestationProcessor attestationProcessor =
@@ -63,7 +60,7 @@ class AttestationManagerTest {
 
   private final AttestationManager attestationManager =
       new AttestationManager(
-          eventBus, attestationProcessor, pendingAttestations, futureAttestations, attestationPool);
+          attestationProcessor, pendingAttestations, futureAttestations, attestationPool);
 
   @BeforeEach
   public void setup() {
@@ -152,10 +149,10 @@ class AttestationManagerTest {
     verifyNoMoreInteractions(attestationProcessor);
 
     // Importing a different block shouldn't cause the attestation to be processed
-    eventBus.post(new ImportedBlockEvent(dataStructureUtil.randomSignedBeaconBlock(2)));
+    attestationManager.onBlockImported(dataStructureUtil.randomSignedBeaconBlock(2));
     verifyNoMoreInteractions(attestationProcessor);
 
-    eventBus.post(new ImportedBlockEvent(block));
+    attestationManager.onBlockImported(block);
     verify(attestationProcessor, times(2)).processAttestation(captor.getValue());
     assertThat(futureAttestations.size()).isZero();
     assertThat(pendingAttestations.size()).isZero();
@@ -197,7 +194,7 @@ class AttestationManagerTest {
     final SSZList<Attestation> attestations = block.getMessage().getBody().getAttestations();
     assertThat(attestations.size()).isNotZero();
 
-    eventBus.post(new ImportedBlockEvent(block));
+    attestationManager.onBlockImported(block);
 
     attestations.forEach(attestation -> verify(attestationPool).remove(attestation));
   }
@@ -15,10 +15,12 @@ package tech.pegasys.teku.statetransition.blockimport;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.compute_epoch_at_slot;
 
-import com.google.common.eventbus.EventBus;
 import com.google.common.primitives.UnsignedLong;
 import java.util.ArrayList;
 import java.util.List;
@@ -35,6 +37,7 @@ import tech.pegasys.teku.core.StateTransition;
 import tech.pegasys.teku.core.results.BlockImportResult;
 import tech.pegasys.teku.core.results.BlockImportResult.FailureReason;
 import tech.pegasys.teku.core.signatures.Signer;
+import tech.pegasys.teku.data.BlockProcessingRecordChannel;
 import tech.pegasys.teku.datastructures.blocks.BeaconBlock;
 import tech.pegasys.teku.datastructures.blocks.BeaconBlockAndState;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
@@ -43,6 +46,7 @@ import tech.pegasys.teku.datastructures.state.BeaconState;
 import tech.pegasys.teku.datastructures.state.Checkpoint;
 import tech.pegasys.teku.datastructures.util.BeaconStateUtil;
 import tech.pegasys.teku.statetransition.BeaconChainUtil;
+import tech.pegasys.teku.statetransition.events.block.ImportedBlockChannel;
 import tech.pegasys.teku.statetransition.forkchoice.ForkChoice;
 import tech.pegasys.teku.storage.client.MemoryOnlyRecentChainData;
 import tech.pegasys.teku.storage.client.RecentChainData;
@@ -51,19 +55,22 @@ import tech.pegasys.teku.util.config.Constants;
 
 public class BlockImporterTest {
   private final List<BLSKeyPair> validatorKeys = BLSKeyGenerator.generateKeyPairs(8);
-  private final EventBus localEventBus = mock(EventBus.class);
-  private final RecentChainData recentChainData = MemoryOnlyRecentChainData.create(localEventBus);
+  private final RecentChainData recentChainData = MemoryOnlyRecentChainData.create();
   private final ForkChoice forkChoice = new ForkChoice(recentChainData, new StateTransition());
   private final BeaconChainUtil localChain =
       BeaconChainUtil.create(recentChainData, validatorKeys, forkChoice, false);
 
-  private final EventBus otherEventBus = mock(EventBus.class);
-  private final RecentChainData otherStorage = MemoryOnlyRecentChainData.create(otherEventBus);
+  private final RecentChainData otherStorage = MemoryOnlyRecentChainData.create();
   private final BeaconChainUtil otherChain =
       BeaconChainUtil.create(otherStorage, validatorKeys, false);
 
+  private final ImportedBlockChannel importedBlockChannel = mock(ImportedBlockChannel.class);
+  private final BlockProcessingRecordChannel blockProcessingRecordChannel =
+      mock(BlockProcessingRecordChannel.class);
+
   private final BlockImporter blockImporter =
-      new BlockImporter(recentChainData, forkChoice, localEventBus);
+      new BlockImporter(
+          recentChainData, forkChoice, importedBlockChannel, blockProcessingRecordChannel);
 
   @BeforeAll
   public static void init() {
@@ -89,6 +96,9 @@ public class BlockImporterTest {
 
     final BlockImportResult result = blockImporter.importBlock(block).get();
     assertSuccessfulResult(result);
+    verify(importedBlockChannel).onBlockImported(block);
+    verify(blockProcessingRecordChannel)
+        .onBlockProcessingRecord(argThat(record -> record.getBlock().equals(block)));
   }
 
   @Test
@@ -99,6 +109,8 @@ public class BlockImporterTest {
     assertThat(blockImporter.importBlock(block).get().isSuccessful()).isTrue();
     BlockImportResult result = blockImporter.importBlock(block).get();
     assertSuccessfulResult(result);
+    // Only the first import should be published
+    verify(importedBlockChannel, times(1)).onBlockImported(block);
   }
 
   @Test
@@ -137,9 +149,14 @@ public class BlockImporterTest {
         AttestationGenerator.groupAndAggregateAttestations(attestations);
 
     // make one attestation signature invalid
-    aggregatedAttestations
-        .get(aggregatedAttestations.size() / 2)
-        .setAggregate_signature(BLSSignature.random(1));
+    final int invalidIndex = aggregatedAttestations.size() / 2;
+    final Attestation validAttestation = aggregatedAttestations.get(invalidIndex);
+    aggregatedAttestations.set(
+        invalidIndex,
+        new Attestation(
+            validAttestation.getAggregation_bits(),
+            validAttestation.getData(),
+            BLSSignature.random(1)));
 
     UnsignedLong currentSlotFinal = currentSlot.plus(UnsignedLong.ONE);
 
@@ -287,8 +304,17 @@ public class BlockImporterTest {
 
   @Test
   public void importBlock_invalidStateTransition() throws Exception {
-    final SignedBeaconBlock block = otherChain.createBlockAtSlot(UnsignedLong.ONE);
-    block.getMessage().setState_root(Bytes32.ZERO);
+    final SignedBeaconBlock validBlock = otherChain.createBlockAtSlot(UnsignedLong.ONE);
+    final BeaconBlock message = validBlock.getMessage();
+    final SignedBeaconBlock block =
+        new SignedBeaconBlock(
+            new BeaconBlock(
+                message.getSlot(),
+                message.getProposer_index(),
+                message.getParent_root(),
+                Bytes32.ZERO,
+                message.getBody()),
+            validBlock.getSignature());
     localChain.setSlot(block.getSlot());
 
     final BlockImportResult result = blockImporter.importBlock(block).get();
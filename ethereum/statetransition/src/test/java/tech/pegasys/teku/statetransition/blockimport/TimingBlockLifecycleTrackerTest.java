@@ -0,0 +1,118 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.blockimport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.datastructures.util.DataStructureUtil;
+import tech.pegasys.teku.statetransition.blockimport.BlockLifecycleTracker.Deferral;
+import tech.pegasys.teku.statetransition.blockimport.BlockLifecycleTracker.Source;
+import tech.pegasys.teku.statetransition.blockimport.BlockLifecycleTracker.Stage;
+import tech.pegasys.teku.util.time.StubTimeProvider;
+
+public class TimingBlockLifecycleTrackerTest {
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil();
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInMillis(10_000);
+  private final TimingBlockLifecycleTracker tracker =
+      new TimingBlockLifecycleTracker(new NoOpMetricsSystem(), timeProvider, 4000);
+  private final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(5);
+
+  @Test
+  public void shouldRecordEachStageUntilBlockBecomesHead() {
+    tracker.onReceived(block, Source.GOSSIP);
+    completeStage(50, Stage.GOSSIP_VALIDATION);
+    completeStage(10, Stage.IMPORT_QUEUE);
+    completeStage(20, Stage.PRE_STATE_LOAD);
+    completeStage(300, Stage.STATE_TRANSITION);
+    completeStage(40, Stage.STORE_COMMIT);
+    timeProvider.advanceTimeByMillis(580);
+    tracker.onHead(block.getRoot());
+
+    assertStageSeconds(Stage.GOSSIP_VALIDATION.getLabel(), 0.05);
+    assertStageSeconds(Stage.IMPORT_QUEUE.getLabel(), 0.01);
+    assertStageSeconds(Stage.PRE_STATE_LOAD.getLabel(), 0.02);
+    assertStageSeconds(Stage.STATE_TRANSITION.getLabel(), 0.3);
+    assertStageSeconds(Stage.STORE_COMMIT.getLabel(), 0.04);
+    assertStageSeconds(Stage.HEAD_UPDATE.getLabel(), 0.58);
+    assertArrivalToHeadSeconds(Source.GOSSIP, 1.0);
+    assertThat(tracker.countTrackedBlocks()).isZero();
+  }
+
+  @Test
+  public void shouldReportTimeSpentDeferredSeparatelyFromImportQueue() {
+    tracker.onReceived(block, Source.RPC);
+    completeStage(10, Stage.IMPORT_QUEUE);
+    completeStage(10, Stage.PRE_STATE_LOAD);
+    tracker.onDeferred(block, Deferral.PENDING_POOL);
+    timeProvider.advanceTimeByMillis(500);
+    completeStage(0, Stage.IMPORT_QUEUE);
+    completeStage(10, Stage.PRE_STATE_LOAD);
+    timeProvider.advanceTimeByMillis(100);
+    tracker.onHead(block.getRoot());
+
+    assertStageSeconds(Deferral.PENDING_POOL.getLabel(), 0.5);
+    // Time before the first import attempt and between deferring and the retry
+    assertStageSeconds(Stage.IMPORT_QUEUE.getLabel(), 0.02);
+    assertStageSeconds(Stage.PRE_STATE_LOAD.getLabel(), 0.01);
+    assertStageSeconds(Stage.HEAD_UPDATE.getLabel(), 0.1);
+    assertArrivalToHeadSeconds(Source.RPC, 0.63);
+  }
+
+  @Test
+  public void shouldIgnoreBlocksWhichWereNotReceived() {
+    tracker.onStageCompleted(block, Stage.IMPORT_QUEUE);
+    tracker.onHead(block.getRoot());
+
+    assertThat(tracker.countTrackedBlocks()).isZero();
+    assertThat(tracker.getArrivalToHeadLatency().labels(Source.GOSSIP.getLabel()).get().sum)
+        .isZero();
+  }
+
+  @Test
+  public void shouldKeepFirstArrivalTime() {
+    tracker.onReceived(block, Source.GOSSIP);
+    timeProvider.advanceTimeByMillis(200);
+    tracker.onReceived(block, Source.RPC);
+    tracker.onHead(block.getRoot());
+
+    assertArrivalToHeadSeconds(Source.GOSSIP, 0.2);
+  }
+
+  @Test
+  public void shouldStopTrackingDroppedBlocks() {
+    tracker.onReceived(block, Source.GOSSIP);
+    tracker.onDropped(block);
+
+    assertThat(tracker.countTrackedBlocks()).isZero();
+  }
+
+  private void completeStage(final long durationMillis, final Stage stage) {
+    timeProvider.advanceTimeByMillis(durationMillis);
+    tracker.onStageCompleted(block, stage);
+  }
+
+  private void assertStageSeconds(final String stage, final double expectedSeconds) {
+    assertThat(tracker.getStageLatency().labels(stage).get().sum)
+        .isCloseTo(expectedSeconds, within(0.0001));
+  }
+
+  private void assertArrivalToHeadSeconds(final Source source, final double expectedSeconds) {
+    assertThat(tracker.getArrivalToHeadLatency().labels(source.getLabel()).get().sum)
+        .isCloseTo(expectedSeconds, within(0.0001));
+  }
+}
@@ -15,18 +15,41 @@ package tech.pegasys.teku.statetransition.forkchoice;
 
 import static com.google.common.primitives.UnsignedLong.ONE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.spy;
 
+import com.google.common.primitives.UnsignedLong;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.mockito.invocation.Invocation;
+import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.core.ChainBuilder;
 import tech.pegasys.teku.core.StateTransition;
+import tech.pegasys.teku.core.blockvalidator.BlockValidator;
+import tech.pegasys.teku.core.results.BlockImportResult;
+import tech.pegasys.teku.core.results.BlockImportResult.FailureReason;
+import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.datastructures.blocks.SignedBlockAndState;
+import tech.pegasys.teku.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.datastructures.state.BeaconState;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.storage.api.TrackingReorgEventChannel.ReorgEvent;
 import tech.pegasys.teku.storage.client.RecentChainData;
 import tech.pegasys.teku.storage.storageSystem.InMemoryStorageSystem;
 import tech.pegasys.teku.storage.storageSystem.StorageSystem;
+import tech.pegasys.teku.storage.store.UpdatableStore.StoreTransaction;
 import tech.pegasys.teku.util.config.StateStorageMode;
 
 class ForkChoiceTest {
@@ -59,4 +82,150 @@ class ForkChoiceTest {
     assertThat(reorgEvents.get(0).getBestSlot()).isEqualTo(ONE);
     assertThat(reorgEvents.get(0).getBestBlockRoot()).isEqualTo(slot1Block.getRoot());
   }
+
+  @Test
+  void onBlock_shouldImportSiblingBlocksConcurrently() throws Exception {
+    final ChainBuilder forkBuilder = chainBuilder.fork();
+    final SignedBlockAndState blockA = chainBuilder.generateBlockAtSlot(1);
+    final SignedBlockAndState blockB = forkBuilder.generateBlockAtSlot(2);
+    storageSystem.chainUpdater().setCurrentSlot(UnsignedLong.valueOf(2));
+
+    // Hold the state transition of block A until block B has been imported
+    final CountDownLatch blockAStarted = new CountDownLatch(1);
+    final CountDownLatch releaseBlockA = new CountDownLatch(1);
+    final BlockValidator blockingValidator =
+        new BlockValidator() {
+          @Override
+          public SafeFuture<BlockValidationResult> validatePreState(
+              final BeaconState preState, final SignedBeaconBlock block) {
+            if (block.equals(blockA.getBlock())) {
+              blockAStarted.countDown();
+              try {
+                releaseBlockA.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return SafeFuture.failedFuture(e);
+              }
+            }
+            return BlockValidator.NOOP.validatePreState(preState, block);
+          }
+
+          @Override
+          public SafeFuture<BlockValidationResult> validatePostState(
+              final BeaconState postState, final SignedBeaconBlock block) {
+            return BlockValidator.NOOP.validatePostState(postState, block);
+          }
+        };
+    final ForkChoice importingForkChoice =
+        new ForkChoice(recentChainData, new StateTransition(blockingValidator));
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      final CompletableFuture<BlockImportResult> resultA =
+          CompletableFuture.supplyAsync(
+              () -> importingForkChoice.onBlock(blockA.getBlock(), Optional.of(genesis.getState())),
+              executor);
+      assertThat(blockAStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+      final CompletableFuture<BlockImportResult> resultB =
+          CompletableFuture.supplyAsync(
+              () -> importingForkChoice.onBlock(blockB.getBlock(), Optional.of(genesis.getState())),
+              executor);
+      assertThat(resultB.get(10, TimeUnit.SECONDS).isSuccessful()).isTrue();
+      assertThat(recentChainData.containsBlock(blockB.getRoot())).isTrue();
+      assertThat(resultA).isNotDone();
+
+      releaseBlockA.countDown();
+      assertThat(resultA.get(10, TimeUnit.SECONDS).isSuccessful()).isTrue();
+      assertThat(recentChainData.containsBlock(blockA.getRoot())).isTrue();
+    } finally {
+      releaseBlockA.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void onBlocks_shouldImportChainOfBlocks() throws Exception {
+    final ForkChoice importingForkChoice = new ForkChoice(recentChainData, new StateTransition());
+    final List<SignedBlockAndState> blocks = chainBuilder.generateBlocksUpToSlot(3);
+    storageSystem.chainUpdater().setCurrentSlot(UnsignedLong.valueOf(3));
+
+    final List<BlockImportResult> results =
+        importingForkChoice.onBlocks(
+            blocks.stream().map(SignedBlockAndState::getBlock).collect(Collectors.toList()),
+            Optional.of(genesis.getState()));
+
+    assertThat(results).hasSize(3).allMatch(BlockImportResult::isSuccessful);
+    blocks.forEach(block -> assertThat(recentChainData.containsBlock(block.getRoot())).isTrue());
+  }
+
+  @Test
+  void onBlocks_shouldOnlyCommitStateRootsOfEachBlocksOwnEmptySlots() throws Exception {
+    final List<SignedBlockAndState> blocks =
+        List.of(
+            chainBuilder.generateBlockAtSlot(2),
+            chainBuilder.generateBlockAtSlot(4),
+            chainBuilder.generateBlockAtSlot(6));
+    storageSystem.chainUpdater().setCurrentSlot(UnsignedLong.valueOf(6));
+    final RecentChainData trackingChainData = spy(recentChainData);
+    final List<StoreTransaction> transactions = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              final StoreTransaction transaction =
+                  mock(
+                      StoreTransaction.class,
+                      AdditionalAnswers.delegatesTo(invocation.callRealMethod()));
+              transactions.add(transaction);
+              return transaction;
+            })
+        .when(trackingChainData)
+        .startStoreTransaction();
+    final ForkChoice importingForkChoice = new ForkChoice(trackingChainData, new StateTransition());
+
+    final List<BlockImportResult> results =
+        importingForkChoice.onBlocks(
+            blocks.stream().map(SignedBlockAndState::getBlock).collect(Collectors.toList()),
+            Optional.of(genesis.getState()));
+
+    assertThat(results).hasSize(3).allMatch(BlockImportResult::isSuccessful);
+    assertThat(transactions).hasSize(3);
+    for (int i = 0; i < blocks.size(); i++) {
+      final SignedBeaconBlock block = blocks.get(i).getBlock();
+      // Each transaction holds the state of the empty slot before its block, which references
+      // the block's parent rather than any block later in the batch
+      assertThat(getPutStateRoots(transactions.get(i)))
+          .containsExactly(
+              new SlotAndBlockRoot(block.getSlot().minus(ONE), block.getParent_root()));
+    }
+  }
+
+  @Test
+  void onBlocks_shouldStopAtBlockWithInvalidSignature() throws Exception {
+    final ForkChoice importingForkChoice = new ForkChoice(recentChainData, new StateTransition());
+    final List<SignedBlockAndState> blocks = chainBuilder.generateBlocksUpToSlot(3);
+    storageSystem.chainUpdater().setCurrentSlot(UnsignedLong.valueOf(3));
+    final SignedBeaconBlock invalidBlock =
+        new SignedBeaconBlock(blocks.get(1).getBlock().getMessage(), BLSSignature.random(1));
+
+    final List<BlockImportResult> results =
+        importingForkChoice.onBlocks(
+            List.of(blocks.get(0).getBlock(), invalidBlock, blocks.get(2).getBlock()),
+            Optional.of(genesis.getState()));
+
+    assertThat(results).hasSize(2);
+    assertThat(results.get(0).isSuccessful()).isTrue();
+    assertThat(results.get(1).getFailureReason()).isEqualTo(FailureReason.FAILED_STATE_TRANSITION);
+    assertThat(recentChainData.containsBlock(blocks.get(0).getRoot())).isTrue();
+    assertThat(recentChainData.containsBlock(blocks.get(1).getRoot())).isFalse();
+    assertThat(recentChainData.containsBlock(blocks.get(2).getRoot())).isFalse();
+  }
+
+  private List<SlotAndBlockRoot> getPutStateRoots(final StoreTransaction transaction) {
+    final List<SlotAndBlockRoot> stateRoots = new ArrayList<>();
+    for (Invocation invocation : mockingDetails(transaction).getInvocations()) {
+      if (invocation.getMethod().getName().equals("putStateRoot")) {
+        stateRoots.add(invocation.getArgument(1));
+      }
+    }
+    return stateRoots;
+  }
 }
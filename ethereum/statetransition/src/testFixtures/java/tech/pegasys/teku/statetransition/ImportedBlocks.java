@@ -13,34 +13,21 @@
 
 package tech.pegasys.teku.statetransition;
 
-import com.google.common.eventbus.EventBus;
-import com.google.common.eventbus.Subscribe;
 import java.util.ArrayList;
 import java.util.List;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
-import tech.pegasys.teku.statetransition.events.block.ImportedBlockEvent;
+import tech.pegasys.teku.statetransition.events.block.ImportedBlockChannel;
 
-public class ImportedBlocks implements AutoCloseable {
+public class ImportedBlocks implements ImportedBlockChannel {
 
-  private final EventBus eventBus;
   private List<SignedBeaconBlock> importedBlocks = new ArrayList<>();
 
-  public ImportedBlocks(final EventBus eventBus) {
-    this.eventBus = eventBus;
-    eventBus.register(this);
-  }
-
-  @Subscribe
-  public void onImported(ImportedBlockEvent blockImportedEvent) {
-    importedBlocks.add(blockImportedEvent.getBlock());
+  @Override
+  public void onBlockImported(final SignedBeaconBlock block) {
+    importedBlocks.add(block);
   }
 
   public List<SignedBeaconBlock> get() {
     return importedBlocks;
   }
-
-  @Override
-  public void close() throws Exception {
-    eventBus.unregister(this);
-  }
 }
@@ -26,34 +26,63 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer.TimingContext;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.metrics.TekuMetricCategory;
 
 public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
   private static final Logger LOG = LogManager.getLogger();
-  private static final int QUEUE_CAPACITY = 500;
 
-  private final Map<T, BlockingQueue<Runnable>> eventQueuesBySubscriber =
+  private final Map<T, EventQueue> eventQueuesBySubscriber =
       synchronizedMap(new IdentityHashMap<>());
-  private final AtomicBoolean stopped = new AtomicBoolean(false);
+  protected final AtomicBoolean stopped = new AtomicBoolean(false);
   private final ExecutorService executor;
+  protected final int queueCapacity;
+  private final OperationTimer deliveryTimer;
 
   public AsyncEventDeliverer(
+      final String channelName,
       final ExecutorService executor,
+      final int queueCapacity,
       final ChannelExceptionHandler exceptionHandler,
       final MetricsSystem metricsSystem) {
     super(exceptionHandler, metricsSystem);
     this.executor = executor;
+    this.queueCapacity = queueCapacity;
+    deliveryTimer =
+        metricsSystem
+            .createLabelledTimer(
+                TekuMetricCategory.EVENTBUS,
+                "event_delivery_duration",
+                "Time from an event being published until a subscriber finished processing it",
+                "channel")
+            .labels(channelName);
   }
 
   @Override
   void subscribe(final T subscriber, final int numberOfThreads) {
-    final BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
-    eventQueuesBySubscriber.put(subscriber, queue);
+    eventQueuesBySubscriber.put(subscriber, createEventQueue(numberOfThreads));
     super.subscribe(subscriber, numberOfThreads);
+  }
+
+  protected EventQueue createEventQueue(final int numberOfThreads) {
+    final BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(queueCapacity);
     for (int i = 0; i < numberOfThreads; i++) {
       executor.execute(new QueueReader(queue));
     }
+    return new EventQueue() {
+      @Override
+      public void put(final Runnable event) throws InterruptedException {
+        queue.put(event);
+      }
+
+      @Override
+      public int size() {
+        return queue.size();
+      }
+    };
   }
 
   @Override
@@ -78,10 +107,19 @@ public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
   }
 
   private void enqueueDelivery(final T subscriber, final Method method, final Runnable action) {
-    final BlockingQueue<Runnable> queue = checkNotNull(eventQueuesBySubscriber.get(subscriber));
+    final EventQueue queue = checkNotNull(eventQueuesBySubscriber.get(subscriber));
+    final TimingContext timingContext = deliveryTimer.startTimer();
+    final Runnable timedAction =
+        () -> {
+          try {
+            action.run();
+          } finally {
+            timingContext.stopTimer();
+          }
+        };
     while (!stopped.get()) {
       try {
-        queue.put(action);
+        queue.put(timedAction);
         return;
       } catch (final InterruptedException e) {
         LOG.debug("Interrupted while trying to publish event {}", method::getName);
@@ -89,12 +127,28 @@ public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
     }
   }
 
+  @Override
+  int getQueuedEventCount() {
+    synchronized (eventQueuesBySubscriber) {
+      return eventQueuesBySubscriber.values().stream().mapToInt(EventQueue::size).sum();
+    }
+  }
+
   @Override
   public void stop() {
     stopped.set(true);
     executor.shutdownNow();
   }
 
+  /** The events waiting to be delivered to a single subscriber. */
+  protected interface EventQueue {
+
+    /** Adds an event to the queue, blocking while the queue is full. */
+    void put(Runnable event) throws InterruptedException;
+
+    int size();
+  }
+
   class QueueReader implements Runnable {
     private final BlockingQueue<Runnable> queue;
 
@@ -63,6 +63,15 @@ class EventChannel<T> {
       final Class<T> channelInterface,
       final ChannelExceptionHandler exceptionHandler,
       final MetricsSystem metricsSystem) {
+    return createAsync(
+        channelInterface, EventChannelConfig.DEFAULT, exceptionHandler, metricsSystem);
+  }
+
+  static <T> EventChannel<T> createAsync(
+      final Class<T> channelInterface,
+      final EventChannelConfig config,
+      final ChannelExceptionHandler exceptionHandler,
+      final MetricsSystem metricsSystem) {
     return createAsync(
         channelInterface,
         Executors.newCachedThreadPool(
@@ -70,6 +79,7 @@ class EventChannel<T> {
                 .setDaemon(true)
                 .setNameFormat(channelInterface.getSimpleName() + "-%d")
                 .build()),
+        config.getQueueCapacity(),
         exceptionHandler,
         metricsSystem);
   }
@@ -78,16 +88,44 @@ class EventChannel<T> {
       final Class<T> channelInterface,
       final ExecutorService executor,
       final MetricsSystem metricsSystem) {
-    return createAsync(channelInterface, executor, LOGGING_EXCEPTION_HANDLER, metricsSystem);
+    return createAsync(
+        channelInterface,
+        executor,
+        EventChannelConfig.DEFAULT_QUEUE_CAPACITY,
+        LOGGING_EXCEPTION_HANDLER,
+        metricsSystem);
   }
 
   static <T> EventChannel<T> createAsync(
       final Class<T> channelInterface,
       final ExecutorService executor,
+      final int queueCapacity,
       final ChannelExceptionHandler exceptionHandler,
       final MetricsSystem metricsSystem) {
     return create(
-        channelInterface, new AsyncEventDeliverer<>(executor, exceptionHandler, metricsSystem));
+        channelInterface,
+        new AsyncEventDeliverer<>(
+            channelInterface.getSimpleName(),
+            executor,
+            queueCapacity,
+            exceptionHandler,
+            metricsSystem));
+  }
+
+  static <T> EventChannel<T> createAsyncOnSharedPool(
+      final Class<T> channelInterface,
+      final ExecutorService sharedExecutor,
+      final EventChannelConfig config,
+      final ChannelExceptionHandler exceptionHandler,
+      final MetricsSystem metricsSystem) {
+    return create(
+        channelInterface,
+        new SharedPoolEventDeliverer<>(
+            channelInterface.getSimpleName(),
+            sharedExecutor,
+            config.getQueueCapacity(),
+            exceptionHandler,
+            metricsSystem));
   }
 
   private static <T> EventChannel<T> create(
@@ -164,6 +202,10 @@ class EventChannel<T> {
     invoker.subscribe(listener, requestedParallelism);
   }
 
+  int getQueuedEventCount() {
+    return invoker.getQueuedEventCount();
+  }
+
   public void stop() {
     invoker.stop();
   }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.events;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Delivery settings for an async event channel.
+ *
+ * <p>Each subscriber to a channel gets its own queue of {@code queueCapacity} events. Publishers
+ * block when a subscriber's queue is full, so channels which must never stall their publisher
+ * should be given a larger capacity. The channel's {@link Priority} decides which threads deliver
+ * its events.
+ */
+public class EventChannelConfig {
+  public static final int DEFAULT_QUEUE_CAPACITY = 500;
+  public static final EventChannelConfig DEFAULT =
+      new EventChannelConfig(DEFAULT_QUEUE_CAPACITY, Priority.NORMAL);
+
+  private final int queueCapacity;
+  private final Priority priority;
+
+  private EventChannelConfig(final int queueCapacity, final Priority priority) {
+    checkArgument(queueCapacity > 0, "Queue capacity must be greater than 0");
+    this.queueCapacity = queueCapacity;
+    this.priority = priority;
+  }
+
+  public static EventChannelConfig create(final int queueCapacity, final Priority priority) {
+    return new EventChannelConfig(queueCapacity, priority);
+  }
+
+  public int getQueueCapacity() {
+    return queueCapacity;
+  }
+
+  public Priority getPriority() {
+    return priority;
+  }
+
+  /**
+   * Priority is provided by the threads a channel is given rather than by OS thread priorities,
+   * which are ignored by the JVM on Linux by default.
+   */
+  public enum Priority {
+    /**
+     * Events for all low priority channels are delivered by a single shared thread, so they never
+     * use more than one thread between them.
+     */
+    LOW,
+    /** Events are delivered by the threads of the {@link EventChannels} instance. */
+    NORMAL,
+    /**
+     * Events are always delivered by threads dedicated to the channel, even when other channels
+     * share a thread pool, so they never wait behind work from other channels.
+     */
+    HIGH
+  }
+}
@@ -13,25 +13,41 @@
 
 package tech.pegasys.teku.events;
 
+import static com.google.common.base.Preconditions.checkState;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.GaugeMetricFamily;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BiFunction;
 import java.util.function.Function;
+import org.hyperledger.besu.metrics.prometheus.PrometheusMetricsSystem;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.metrics.TekuMetricCategory;
 import tech.pegasys.teku.util.channels.ChannelInterface;
 import tech.pegasys.teku.util.channels.VoidReturningChannelInterface;
 
 public class EventChannels {
 
   private final ConcurrentMap<Class<?>, EventChannel<?>> channels = new ConcurrentHashMap<>();
-  private final Function<Class<?>, EventChannel<?>> eventChannelFactory;
+  private final ConcurrentMap<Class<?>, EventChannelConfig> channelConfigs =
+      new ConcurrentHashMap<>();
+  private final BiFunction<Class<?>, EventChannelConfig, EventChannel<?>> eventChannelFactory;
+  private final Runnable onStop;
 
   public EventChannels(
       final ChannelExceptionHandler exceptionHandler, final MetricsSystem metricsSystem) {
     this(
-        channelInterface ->
-            EventChannel.createAsync(channelInterface, exceptionHandler, metricsSystem));
+        new PrioritizedEventChannelFactory(
+            (channelInterface, config) ->
+                EventChannel.createAsync(channelInterface, config, exceptionHandler, metricsSystem),
+            exceptionHandler,
+            metricsSystem),
+        metricsSystem);
   }
 
   public static EventChannels createSyncChannels(
@@ -40,8 +56,73 @@ public class EventChannels {
         channelInterface -> EventChannel.create(channelInterface, exceptionHandler, metricsSystem));
   }
 
+  /**
+   * Creates event channels which deliver events using tasks on {@code sharedExecutor} rather than
+   * dedicated threads per subscriber. Queue capacity from {@link EventChannelConfig} still applies.
+   * High priority channels keep dedicated threads so they never wait behind other work in the
+   * shared pool. Stopping the channels does not shut down {@code sharedExecutor}.
+   */
+  public static EventChannels createSharedPoolChannels(
+      final ChannelExceptionHandler exceptionHandler,
+      final MetricsSystem metricsSystem,
+      final ExecutorService sharedExecutor) {
+    return new EventChannels(
+        new PrioritizedEventChannelFactory(
+            (channelInterface, config) ->
+                EventChannel.createAsyncOnSharedPool(
+                    channelInterface, sharedExecutor, config, exceptionHandler, metricsSystem),
+            exceptionHandler,
+            metricsSystem),
+        metricsSystem);
+  }
+
   EventChannels(final Function<Class<?>, EventChannel<?>> eventChannelFactory) {
+    this((channelInterface, config) -> eventChannelFactory.apply(channelInterface));
+  }
+
+  EventChannels(
+      final BiFunction<Class<?>, EventChannelConfig, EventChannel<?>> eventChannelFactory) {
+    this(eventChannelFactory, () -> {});
+  }
+
+  private EventChannels(
+      final PrioritizedEventChannelFactory eventChannelFactory, final MetricsSystem metricsSystem) {
+    this(eventChannelFactory, eventChannelFactory::stop);
+    registerQueueSizeGauge(metricsSystem);
+  }
+
+  private EventChannels(
+      final BiFunction<Class<?>, EventChannelConfig, EventChannel<?>> eventChannelFactory,
+      final Runnable onStop) {
     this.eventChannelFactory = eventChannelFactory;
+    this.onStop = onStop;
+  }
+
+  private void registerQueueSizeGauge(final MetricsSystem metricsSystem) {
+    if (metricsSystem instanceof PrometheusMetricsSystem) {
+      ((PrometheusMetricsSystem) metricsSystem)
+          .addCollector(TekuMetricCategory.EVENTBUS, new QueueSizeCollector());
+    }
+  }
+
+  /**
+   * Sets the queue capacity and priority used to deliver events on a channel. Channels which are
+   * not configured use {@link EventChannelConfig#DEFAULT}. The config has no effect on channels
+   * created by {@link #createSyncChannels(ChannelExceptionHandler, MetricsSystem)}.
+   *
+   * <p>Must be called before any publisher or subscriber is added to the channel.
+   *
+   * @param channelInterface the channel to configure
+   * @param config the delivery settings for the channel
+   */
+  public <T extends ChannelInterface> EventChannels configure(
+      final Class<T> channelInterface, final EventChannelConfig config) {
+    checkState(
+        !channels.containsKey(channelInterface),
+        "Event channel %s must be configured before it is used",
+        channelInterface.getSimpleName());
+    channelConfigs.put(channelInterface, config);
+    return this;
   }
 
   /**
@@ -106,10 +187,36 @@ public class EventChannels {
 
   @SuppressWarnings("unchecked")
   private <T extends ChannelInterface> EventChannel<T> getChannel(final Class<T> channelInterface) {
-    return (EventChannel<T>) channels.computeIfAbsent(channelInterface, eventChannelFactory);
+    return (EventChannel<T>)
+        channels.computeIfAbsent(
+            channelInterface,
+            key ->
+                eventChannelFactory.apply(
+                    key, channelConfigs.getOrDefault(key, EventChannelConfig.DEFAULT)));
   }
 
   public void stop() {
     channels.values().forEach(EventChannel::stop);
+    onStop.run();
+  }
+
+  /** Reports the number of queued events as a single gauge labelled by channel. */
+  private class QueueSizeCollector extends Collector {
+    private final String name =
+        TekuMetricCategory.EVENTBUS.getApplicationPrefix().orElse("")
+            + TekuMetricCategory.EVENTBUS.getName()
+            + "_event_queue_size";
+
+    @Override
+    public List<MetricFamilySamples> collect() {
+      final GaugeMetricFamily gauge =
+          new GaugeMetricFamily(
+              name, "Number of events waiting to be processed by subscribers", List.of("channel"));
+      channels.forEach(
+          (channelInterface, channel) ->
+              gauge.addMetric(
+                  List.of(channelInterface.getSimpleName()), channel.getQueuedEventCount()));
+      return List.of(gauge);
+    }
   }
 }
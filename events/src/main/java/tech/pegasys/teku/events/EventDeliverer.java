@@ -75,5 +75,10 @@ abstract class EventDeliverer<T> {
   protected abstract <X> SafeFuture<X> deliverToWithResponse(
       T subscriber, Method method, Object[] args, AsyncRunner responseRunner);
 
+  /** Returns the number of events waiting to be delivered to subscribers. */
+  int getQueuedEventCount() {
+    return 0;
+  }
+
   public void stop() {}
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.events;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.events.EventChannelConfig.Priority;
+
+/**
+ * Creates async event channels with threads according to their {@link Priority}. Normal priority
+ * channels are created by the supplied factory, high priority channels always get dedicated threads
+ * and low priority channels share a single thread.
+ */
+class PrioritizedEventChannelFactory
+    implements BiFunction<Class<?>, EventChannelConfig, EventChannel<?>> {
+
+  private final BiFunction<Class<?>, EventChannelConfig, EventChannel<?>> normalPriorityFactory;
+  private final ChannelExceptionHandler exceptionHandler;
+  private final MetricsSystem metricsSystem;
+  private Optional<ExecutorService> lowPriorityExecutor = Optional.empty();
+  private boolean stopped = false;
+
+  PrioritizedEventChannelFactory(
+      final BiFunction<Class<?>, EventChannelConfig, EventChannel<?>> normalPriorityFactory,
+      final ChannelExceptionHandler exceptionHandler,
+      final MetricsSystem metricsSystem) {
+    this.normalPriorityFactory = normalPriorityFactory;
+    this.exceptionHandler = exceptionHandler;
+    this.metricsSystem = metricsSystem;
+  }
+
+  @Override
+  public EventChannel<?> apply(final Class<?> channelInterface, final EventChannelConfig config) {
+    switch (config.getPriority()) {
+      case HIGH:
+        return EventChannel.createAsync(channelInterface, config, exceptionHandler, metricsSystem);
+      case LOW:
+        return EventChannel.createAsyncOnSharedPool(
+            channelInterface, getLowPriorityExecutor(), config, exceptionHandler, metricsSystem);
+      default:
+        return normalPriorityFactory.apply(channelInterface, config);
+    }
+  }
+
+  private synchronized ExecutorService getLowPriorityExecutor() {
+    if (lowPriorityExecutor.isEmpty()) {
+      final ExecutorService executor =
+          Executors.newSingleThreadExecutor(
+              new ThreadFactoryBuilder()
+                  .setDaemon(true)
+                  .setNameFormat("low-priority-events-%d")
+                  .build());
+      if (stopped) {
+        executor.shutdownNow();
+      }
+      lowPriorityExecutor = Optional.of(executor);
+    }
+    return lowPriorityExecutor.get();
+  }
+
+  synchronized void stop() {
+    stopped = true;
+    lowPriorityExecutor.ifPresent(ExecutorService::shutdownNow);
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.events;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.infrastructure.async.BoundedExecutor;
+
+/**
+ * Delivers events asynchronously using tasks on a shared executor instead of dedicated threads
+ * which block waiting for the next event. Idle subscribers hold no threads at all.
+ *
+ * <p>Each subscriber has at most {@code numberOfThreads} events being processed at once so with a
+ * single thread events are still delivered in order. Publishers block when a subscriber already has
+ * {@code queueCapacity} events waiting.
+ */
+class SharedPoolEventDeliverer<T> extends AsyncEventDeliverer<T> {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final ExecutorService sharedExecutor;
+  private final List<BoundedExecutor> subscriberExecutors = new CopyOnWriteArrayList<>();
+
+  SharedPoolEventDeliverer(
+      final String channelName,
+      final ExecutorService sharedExecutor,
+      final int queueCapacity,
+      final ChannelExceptionHandler exceptionHandler,
+      final MetricsSystem metricsSystem) {
+    super(channelName, sharedExecutor, queueCapacity, exceptionHandler, metricsSystem);
+    this.sharedExecutor = sharedExecutor;
+  }
+
+  @Override
+  protected EventQueue createEventQueue(final int numberOfThreads) {
+    // A finished event releases its permit slightly before the executor starts the next one so
+    // allow the executor's queue that much slack.
+    final BoundedExecutor executor =
+        new BoundedExecutor(sharedExecutor, numberOfThreads, queueCapacity + numberOfThreads);
+    final Semaphore capacity = new Semaphore(queueCapacity + numberOfThreads);
+    subscriberExecutors.add(executor);
+    return new EventQueue() {
+      @Override
+      public void put(final Runnable event) throws InterruptedException {
+        capacity.acquire();
+        try {
+          executor.execute(
+              () -> {
+                try {
+                  event.run();
+                } finally {
+                  capacity.release();
+                }
+              });
+        } catch (final RejectedExecutionException e) {
+          capacity.release();
+          LOG.debug("Dropping event because event delivery has stopped", e);
+        }
+      }
+
+      @Override
+      public int size() {
+        return executor.getQueueSize();
+      }
+    };
+  }
+
+  @Override
+  public void stop() {
+    // The shared executor is owned by the caller so only stop this channel's subscribers
+    stopped.set(true);
+    subscriberExecutors.forEach(BoundedExecutor::shutdownNow);
+  }
+}
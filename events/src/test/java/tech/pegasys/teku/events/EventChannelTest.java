@@ -18,6 +18,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -278,6 +279,90 @@ class EventChannelTest {
     assertThat(result).isCompletedWithValue("Yay");
   }
 
+  @Test
+  public void shouldDeliverEventsInOrderOnSharedPool() {
+    final ExecutorService sharedExecutor = mock(ExecutorService.class);
+    final EventChannel<EventWithArgument> channel =
+        EventChannel.createAsyncOnSharedPool(
+            EventWithArgument.class,
+            sharedExecutor,
+            EventChannelConfig.DEFAULT,
+            exceptionHandler,
+            metricsSystem);
+    final EventWithArgument subscriber = mock(EventWithArgument.class);
+    channel.subscribe(subscriber);
+
+    // No threads are used until there are events to deliver
+    verifyNoInteractions(sharedExecutor);
+
+    channel.getPublisher(Optional.empty()).method1("Event1");
+    channel.getPublisher(Optional.empty()).method2("Event2");
+    channel.getPublisher(Optional.empty()).method1("Event3");
+    verifyNoInteractions(subscriber);
+
+    // Only one event at a time is handed to the shared executor
+    final ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(sharedExecutor).execute(taskCaptor.capture());
+    taskCaptor.getValue().run();
+    verify(sharedExecutor, times(2)).execute(taskCaptor.capture());
+    taskCaptor.getValue().run();
+    verify(sharedExecutor, times(3)).execute(taskCaptor.capture());
+    taskCaptor.getValue().run();
+
+    final InOrder inOrder = inOrder(subscriber);
+    inOrder.verify(subscriber).method1("Event1");
+    inOrder.verify(subscriber).method2("Event2");
+    inOrder.verify(subscriber).method1("Event3");
+    inOrder.verifyNoMoreInteractions();
+  }
+
+  @Test
+  public void shouldDeliverAsyncEventsOnMultipleSharedThreads() throws Exception {
+    executor =
+        Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("shouldDeliverAsyncEventsOnMultipleSharedThreads-%d")
+                .build());
+    final EventChannel<WaitOnLatch> channel =
+        EventChannel.createAsyncOnSharedPool(
+            WaitOnLatch.class,
+            executor,
+            EventChannelConfig.DEFAULT,
+            exceptionHandler,
+            metricsSystem);
+    final WaitOnLatch subscriber =
+        (started, await, completed) -> {
+          started.countDown();
+          try {
+            await.await();
+            completed.countDown();
+          } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+          }
+        };
+    channel.subscribeMultithreaded(subscriber, 2);
+
+    final CountDownLatch started1 = new CountDownLatch(1);
+    final CountDownLatch await1 = new CountDownLatch(1);
+    final CountDownLatch completed1 = new CountDownLatch(1);
+    final CountDownLatch started2 = new CountDownLatch(1);
+    final CountDownLatch await2 = new CountDownLatch(1);
+    final CountDownLatch completed2 = new CountDownLatch(1);
+
+    channel.getPublisher(Optional.empty()).waitFor(started1, await1, completed1);
+    channel.getPublisher(Optional.empty()).waitFor(started2, await2, completed2);
+
+    waitForCountDownLatchComplete(started1);
+    waitForCountDownLatchComplete(started2);
+
+    await2.countDown();
+    waitForCountDownLatchComplete(completed2);
+
+    await1.countDown();
+    waitForCountDownLatchComplete(completed1);
+  }
+
   private void waitForCountDownLatchComplete(final CountDownLatch started1)
       throws InterruptedException {
     assertThat(started1.await(5, TimeUnit.SECONDS)).isTrue();
@@ -13,13 +13,31 @@
 
 package tech.pegasys.teku.events;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
-
+import static tech.pegasys.teku.events.LoggingChannelExceptionHandler.LOGGING_EXCEPTION_HANDLER;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.hyperledger.besu.metrics.ObservableMetricsSystem;
+import org.hyperledger.besu.metrics.Observation;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.metrics.prometheus.MetricsConfiguration;
+import org.hyperledger.besu.metrics.prometheus.PrometheusMetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
 import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.events.EventChannelConfig.Priority;
+import tech.pegasys.teku.metrics.TekuMetricCategory;
 import tech.pegasys.teku.util.channels.VoidReturningChannelInterface;
 
 class EventChannelsTest {
@@ -84,6 +102,126 @@ class EventChannelsTest {
     verifyNoMoreInteractions(runnableSubscriber);
   }
 
+  @Test
+  public void shouldCreateChannelsWithConfiguredSettings() {
+    final Map<Class<?>, EventChannelConfig> createdConfigs = new HashMap<>();
+    final EventChannels channels =
+        new EventChannels(
+            (channel, config) -> {
+              createdConfigs.put(channel, config);
+              return EventChannel.create(channel, new NoOpMetricsSystem());
+            });
+    final EventChannelConfig config = EventChannelConfig.create(10, Priority.HIGH);
+    channels.configure(SimpleChannel.class, config);
+
+    channels.getPublisher(SimpleChannel.class);
+    channels.getPublisher(SimpleConsumer.class);
+
+    assertThat(createdConfigs)
+        .containsEntry(SimpleChannel.class, config)
+        .containsEntry(SimpleConsumer.class, EventChannelConfig.DEFAULT);
+  }
+
+  @Test
+  public void shouldNotAllowConfiguringChannelAfterItIsUsed() {
+    channels.getPublisher(SimpleChannel.class);
+
+    assertThatThrownBy(
+            () ->
+                channels.configure(
+                    SimpleChannel.class, EventChannelConfig.create(10, Priority.HIGH)))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void shouldDeliverHighPriorityEventsOnDedicatedThreadsWhenUsingSharedPool()
+      throws Exception {
+    final ExecutorService sharedExecutor = mock(ExecutorService.class);
+    final EventChannels channels =
+        EventChannels.createSharedPoolChannels(
+                LOGGING_EXCEPTION_HANDLER, new NoOpMetricsSystem(), sharedExecutor)
+            .configure(SimpleChannel.class, EventChannelConfig.create(10, Priority.HIGH));
+    try {
+      final CompletableFuture<String> deliveryThread = new CompletableFuture<>();
+      channels.subscribe(
+          SimpleChannel.class, () -> deliveryThread.complete(Thread.currentThread().getName()));
+
+      channels.getPublisher(SimpleChannel.class).run();
+
+      assertThat(deliveryThread.get(10, TimeUnit.SECONDS)).startsWith("SimpleChannel-");
+      verifyNoInteractions(sharedExecutor);
+    } finally {
+      channels.stop();
+    }
+  }
+
+  @Test
+  public void shouldDeliverLowPriorityEventsFromAllChannelsOnOneThread() throws Exception {
+    final EventChannels channels =
+        new EventChannels(LOGGING_EXCEPTION_HANDLER, new NoOpMetricsSystem())
+            .configure(SimpleChannel.class, EventChannelConfig.create(10, Priority.LOW))
+            .configure(SimpleConsumer.class, EventChannelConfig.create(10, Priority.LOW));
+    try {
+      final CompletableFuture<String> runThread = new CompletableFuture<>();
+      final CompletableFuture<String> acceptThread = new CompletableFuture<>();
+      channels.subscribe(
+          SimpleChannel.class, () -> runThread.complete(Thread.currentThread().getName()));
+      channels.subscribe(
+          SimpleConsumer.class, value -> acceptThread.complete(Thread.currentThread().getName()));
+
+      channels.getPublisher(SimpleChannel.class).run();
+      channels.getPublisher(SimpleConsumer.class).accept(1);
+
+      assertThat(runThread.get(10, TimeUnit.SECONDS)).startsWith("low-priority-events-");
+      assertThat(acceptThread.get(10, TimeUnit.SECONDS)).isEqualTo(runThread.get());
+    } finally {
+      channels.stop();
+    }
+  }
+
+  @Test
+  public void shouldReportQueuedEventsAsGaugeLabelledByChannel() throws Exception {
+    final ObservableMetricsSystem metricsSystem =
+        PrometheusMetricsSystem.init(
+            MetricsConfiguration.builder()
+                .enabled(true)
+                .metricCategories(Set.<MetricCategory>of(TekuMetricCategory.EVENTBUS))
+                .build());
+    final EventChannels channels = new EventChannels(LOGGING_EXCEPTION_HANDLER, metricsSystem);
+    try {
+      final CountDownLatch deliveryStarted = new CountDownLatch(1);
+      final CountDownLatch releaseDelivery = new CountDownLatch(1);
+      channels.subscribe(
+          SimpleChannel.class,
+          () -> {
+            deliveryStarted.countDown();
+            try {
+              releaseDelivery.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          });
+      final SimpleChannel publisher = channels.getPublisher(SimpleChannel.class);
+
+      publisher.run();
+      assertThat(deliveryStarted.await(10, TimeUnit.SECONDS)).isTrue();
+      publisher.run();
+      publisher.run();
+
+      assertThat(
+              metricsSystem
+                  .streamObservations(TekuMetricCategory.EVENTBUS)
+                  .filter(observation -> observation.getMetricName().equals("event_queue_size"))
+                  .filter(observation -> observation.getLabels().equals(List.of("SimpleChannel"))))
+          .extracting(Observation::getValue)
+          .containsExactly(2.0);
+      releaseDelivery.countDown();
+    } finally {
+      releaseDelivery.countDown();
+      channels.stop();
+    }
+  }
+
   private interface SimpleConsumer extends VoidReturningChannelInterface {
     void accept(int value);
   }
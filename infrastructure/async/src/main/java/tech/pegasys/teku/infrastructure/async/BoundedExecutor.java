@@ -0,0 +1,148 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.async;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * An {@link java.util.concurrent.ExecutorService} which runs tasks on a shared executor but never
+ * has more than {@code maxConcurrency} of its tasks running at once. Further tasks are queued, up
+ * to {@code maxQueueSize}, and then rejected with {@link RejectedExecutionException}.
+ *
+ * <p>Tasks start in the order they are submitted so with a {@code maxConcurrency} of 1 they also
+ * complete in that order. Shutting down this executor does not affect the shared executor.
+ */
+public class BoundedExecutor extends AbstractExecutorService {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final Executor sharedExecutor;
+  private final int maxConcurrency;
+  private final int maxQueueSize;
+  private final Queue<Runnable> queue = new ArrayDeque<>();
+  private int runningTasks = 0;
+  private boolean shutdown = false;
+
+  public BoundedExecutor(
+      final Executor sharedExecutor, final int maxConcurrency, final int maxQueueSize) {
+    this.sharedExecutor = sharedExecutor;
+    this.maxConcurrency = maxConcurrency;
+    this.maxQueueSize = maxQueueSize;
+  }
+
+  @Override
+  public void execute(final Runnable task) {
+    synchronized (this) {
+      if (shutdown) {
+        throw new RejectedExecutionException("Executor has been shutdown");
+      }
+      if (runningTasks >= maxConcurrency) {
+        if (queue.size() >= maxQueueSize) {
+          throw new RejectedExecutionException("Executor task queue is full");
+        }
+        queue.add(task);
+        return;
+      }
+      runningTasks++;
+    }
+    try {
+      sharedExecutor.execute(() -> runTask(task));
+    } catch (final RuntimeException e) {
+      taskCompleted();
+      throw e;
+    }
+  }
+
+  private void runTask(final Runnable firstTask) {
+    // Drain queued tasks on this thread rather than resubmitting each one, so a long backlog can't
+    // build up a deep stack if the shared executor runs tasks on the submitting thread.
+    Runnable task = firstTask;
+    while (task != null) {
+      try {
+        task.run();
+      } catch (final Throwable t) {
+        LOG.error("Uncaught exception in executor task", t);
+      }
+      task = pollNextTask();
+    }
+  }
+
+  private synchronized Runnable pollNextTask() {
+    final Runnable nextTask = queue.poll();
+    if (nextTask == null) {
+      taskCompleted();
+    }
+    return nextTask;
+  }
+
+  private synchronized void taskCompleted() {
+    runningTasks--;
+    if (runningTasks == 0) {
+      notifyAll();
+    }
+  }
+
+  public synchronized int getQueueSize() {
+    return queue.size();
+  }
+
+  public synchronized int getActiveCount() {
+    return runningTasks;
+  }
+
+  @Override
+  public synchronized void shutdown() {
+    shutdown = true;
+  }
+
+  @Override
+  public synchronized List<Runnable> shutdownNow() {
+    shutdown = true;
+    final List<Runnable> pendingTasks = new ArrayList<>(queue);
+    queue.clear();
+    return pendingTasks;
+  }
+
+  @Override
+  public synchronized boolean isShutdown() {
+    return shutdown;
+  }
+
+  @Override
+  public synchronized boolean isTerminated() {
+    return shutdown && runningTasks == 0 && queue.isEmpty();
+  }
+
+  @Override
+  public synchronized boolean awaitTermination(final long timeout, final TimeUnit unit)
+      throws InterruptedException {
+    final long deadline = System.nanoTime() + unit.toNanos(timeout);
+    while (!isTerminated()) {
+      final long remainingNanos = deadline - System.nanoTime();
+      if (remainingNanos <= 0) {
+        return false;
+      }
+      TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+    }
+    return true;
+  }
+}
@@ -14,6 +14,7 @@
 package tech.pegasys.teku.infrastructure.async;
 
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -84,4 +85,46 @@ public class MetricTrackingExecutorFactory {
 
     return executor;
   }
+
+  /**
+   * Creates a new {@link ExecutorService} which runs up to {@code maxThreads} tasks at a time on
+   * {@code sharedExecutor} instead of creating its own threads. When that many tasks are running,
+   * up to {@code maxQueueSize} further tasks are queued and after that tasks are rejected with
+   * {@link java.util.concurrent.RejectedExecutionException}
+   *
+   * <p>The same metrics as {@link #newCachedThreadPool(String, int, int, ThreadFactory)} are
+   * captured, with the thread pool size reporting the {@code maxThreads} limit as shared threads
+   * are only borrowed while tasks are running.
+   *
+   * @param name the name to use as a prefix in metric names. Must be unique.
+   * @param maxThreads the maximum number of tasks to run at any one time.
+   * @param maxQueueSize the maximum capacity of the pending task queue.
+   * @param sharedExecutor the executor to run tasks on.
+   * @return the new {@link ExecutorService}
+   */
+  public ExecutorService newBoundedExecutor(
+      final String name,
+      final int maxThreads,
+      final int maxQueueSize,
+      final Executor sharedExecutor) {
+    final BoundedExecutor executor = new BoundedExecutor(sharedExecutor, maxThreads, maxQueueSize);
+
+    metricsSystem.createIntegerGauge(
+        TekuMetricCategory.EXECUTOR,
+        name + "_queue_size",
+        "Current size of the executor task queue",
+        executor::getQueueSize);
+    metricsSystem.createIntegerGauge(
+        TekuMetricCategory.EXECUTOR,
+        name + "_thread_pool_size",
+        "Current number of threads in the executor thread pool",
+        () -> maxThreads);
+    metricsSystem.createIntegerGauge(
+        TekuMetricCategory.EXECUTOR,
+        name + "_thread_active_count",
+        "Current number of threads executing tasks for this executor",
+        executor::getActiveCount);
+
+    return executor;
+  }
 }
@@ -30,11 +30,20 @@ public class ScheduledExecutorAsyncRunner implements AsyncRunner {
   private final AtomicBoolean shutdown = new AtomicBoolean(false);
   private final ScheduledExecutorService scheduler;
   private final ExecutorService workerPool;
+  private final boolean ownsScheduler;
 
   ScheduledExecutorAsyncRunner(
       final ScheduledExecutorService scheduler, final ExecutorService workerPool) {
+    this(scheduler, workerPool, true);
+  }
+
+  ScheduledExecutorAsyncRunner(
+      final ScheduledExecutorService scheduler,
+      final ExecutorService workerPool,
+      final boolean ownsScheduler) {
     this.scheduler = scheduler;
     this.workerPool = workerPool;
+    this.ownsScheduler = ownsScheduler;
   }
 
   public static AsyncRunner create(
@@ -57,6 +66,22 @@ public class ScheduledExecutorAsyncRunner implements AsyncRunner {
     return new ScheduledExecutorAsyncRunner(scheduler, workerPool);
   }
 
+  /**
+   * Creates an {@link AsyncRunner} which runs up to {@code maxThreads} tasks at a time on the
+   * threads of {@code sharedPool} and uses its scheduler for delayed tasks, rather than creating
+   * dedicated threads. Shutting down the returned runner leaves the shared pool running.
+   */
+  public static AsyncRunner createOnSharedPool(
+      final String name,
+      final int maxThreads,
+      final SharedExecutorPool sharedPool,
+      final MetricTrackingExecutorFactory executorFactory) {
+    final ExecutorService workerPool =
+        executorFactory.newBoundedExecutor(
+            name, maxThreads, QUEUE_CAPACITY, sharedPool.getExecutor());
+    return new ScheduledExecutorAsyncRunner(sharedPool.getScheduler(), workerPool, false);
+  }
+
   @Override
   public <U> SafeFuture<U> runAsync(final Supplier<SafeFuture<U>> action) {
     if (shutdown.get()) {
@@ -102,7 +127,9 @@ public class ScheduledExecutorAsyncRunner implements AsyncRunner {
   public void shutdown() {
     // All threads are daemon threads so don't wait for them to actually stop
     shutdown.set(true);
-    scheduler.shutdownNow();
+    if (ownsScheduler) {
+      scheduler.shutdownNow();
+    }
     workerPool.shutdownNow();
   }
 
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.async;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.metrics.TekuMetricCategory;
+
+/**
+ * A thread pool and scheduler shared by many {@link AsyncRunner} instances and event channels.
+ *
+ * <p>Each user of a dedicated pool keeps its own idle threads alive and runs its own scheduler
+ * thread. The shared pool reuses idle threads across all its users and lets them time out, so the
+ * node only holds as many threads as it currently has running tasks. Users limit their own
+ * concurrency with {@link BoundedExecutor}, which also caps the total thread count.
+ *
+ * <p>Many tasks block waiting for other tasks, such as storage updates and queries, so the pool
+ * starts a new thread whenever every existing thread is busy rather than queuing. A fixed number of
+ * threads could otherwise all be blocked waiting for tasks which never get a thread. Tasks are only
+ * rejected, with {@link java.util.concurrent.RejectedExecutionException}, once the pool is shut
+ * down and are never run on the submitting thread.
+ */
+public class SharedExecutorPool {
+  private static final int THREAD_KEEP_ALIVE_SECONDS = 60;
+
+  private final ThreadPoolExecutor executor;
+  private final ScheduledExecutorService scheduler;
+
+  SharedExecutorPool(final ThreadPoolExecutor executor, final ScheduledExecutorService scheduler) {
+    this.executor = executor;
+    this.scheduler = scheduler;
+  }
+
+  public static SharedExecutorPool create(final MetricsSystem metricsSystem) {
+    final ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            0,
+            Integer.MAX_VALUE,
+            THREAD_KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS,
+            new SynchronousQueue<>(),
+            new ThreadFactoryBuilder().setNameFormat("shared-%d").setDaemon(true).build(),
+            new ThreadPoolExecutor.AbortPolicy());
+    final ScheduledExecutorService scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("shared-scheduler-%d")
+                .setDaemon(true)
+                .build());
+
+    metricsSystem.createIntegerGauge(
+        TekuMetricCategory.EXECUTOR,
+        "shared_thread_pool_size",
+        "Current number of threads in the shared thread pool",
+        executor::getPoolSize);
+    metricsSystem.createIntegerGauge(
+        TekuMetricCategory.EXECUTOR,
+        "shared_thread_active_count",
+        "Current number of threads executing tasks in the shared thread pool",
+        executor::getActiveCount);
+    return new SharedExecutorPool(executor, scheduler);
+  }
+
+  public ExecutorService getExecutor() {
+    return executor;
+  }
+
+  public ScheduledExecutorService getScheduler() {
+    return scheduler;
+  }
+
+  public void shutdown() {
+    // All threads are daemon threads so don't wait for them to actually stop
+    scheduler.shutdownNow();
+    executor.shutdownNow();
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+class BoundedExecutorTest {
+  private final List<Runnable> sharedTasks = new ArrayList<>();
+  private final Executor sharedExecutor = sharedTasks::add;
+
+  @Test
+  void shouldLimitNumberOfConcurrentTasks() {
+    final BoundedExecutor executor = new BoundedExecutor(sharedExecutor, 2, 10);
+    executor.execute(mock(Runnable.class));
+    executor.execute(mock(Runnable.class));
+    executor.execute(mock(Runnable.class));
+
+    assertThat(sharedTasks).hasSize(2);
+    assertThat(executor.getActiveCount()).isEqualTo(2);
+    assertThat(executor.getQueueSize()).isEqualTo(1);
+
+    // The finished shared task goes on to run the queued task
+    runSharedTask(0);
+
+    assertThat(sharedTasks).hasSize(1);
+    assertThat(executor.getActiveCount()).isEqualTo(1);
+    assertThat(executor.getQueueSize()).isZero();
+
+    runSharedTask(0);
+    assertThat(executor.getActiveCount()).isZero();
+  }
+
+  @Test
+  void shouldRunTasksInOrderWhenLimitedToOneAtATime() {
+    final BoundedExecutor executor = new BoundedExecutor(sharedExecutor, 1, 10);
+    final Runnable task1 = mock(Runnable.class);
+    final Runnable task2 = mock(Runnable.class);
+    final Runnable task3 = mock(Runnable.class);
+    executor.execute(task1);
+    executor.execute(task2);
+    executor.execute(task3);
+
+    while (!sharedTasks.isEmpty()) {
+      runSharedTask(0);
+    }
+
+    final InOrder inOrder = inOrder(task1, task2, task3);
+    inOrder.verify(task1).run();
+    inOrder.verify(task2).run();
+    inOrder.verify(task3).run();
+  }
+
+  @Test
+  void shouldRejectTasksWhenQueueIsFull() {
+    final BoundedExecutor executor = new BoundedExecutor(sharedExecutor, 1, 1);
+    executor.execute(mock(Runnable.class));
+    executor.execute(mock(Runnable.class));
+
+    assertThatThrownBy(() -> executor.execute(mock(Runnable.class)))
+        .isInstanceOf(RejectedExecutionException.class);
+  }
+
+  @Test
+  void shouldContinueWithNextTaskWhenTaskThrowsException() {
+    final BoundedExecutor executor = new BoundedExecutor(sharedExecutor, 1, 10);
+    final Runnable task = mock(Runnable.class);
+    executor.execute(
+        () -> {
+          throw new RuntimeException("Oops");
+        });
+    executor.execute(task);
+
+    runSharedTask(0);
+
+    verify(task).run();
+  }
+
+  @Test
+  void shutdownNow_shouldDropQueuedTasksAndRejectNewOnes() {
+    final BoundedExecutor executor = new BoundedExecutor(sharedExecutor, 1, 10);
+    final Runnable queuedTask = mock(Runnable.class);
+    executor.execute(mock(Runnable.class));
+    executor.execute(queuedTask);
+
+    assertThat(executor.shutdownNow()).containsExactly(queuedTask);
+    assertThatThrownBy(() -> executor.execute(mock(Runnable.class)))
+        .isInstanceOf(RejectedExecutionException.class);
+    assertThat(executor.isTerminated()).isFalse();
+
+    runSharedTask(0);
+
+    assertThat(sharedTasks).isEmpty();
+    assertThat(executor.isTerminated()).isTrue();
+    verifyNoInteractions(queuedTask);
+  }
+
+  @Test
+  void shouldDrainLongBacklogWhenSharedExecutorRunsTasksOnSubmittingThread() {
+    final int backlogSize = 100_000;
+    final BoundedExecutor executor = new BoundedExecutor(Runnable::run, 1, backlogSize);
+    final AtomicInteger completedTasks = new AtomicInteger();
+    executor.execute(
+        () -> {
+          for (int i = 0; i < backlogSize; i++) {
+            executor.execute(completedTasks::incrementAndGet);
+          }
+        });
+
+    assertThat(completedTasks).hasValue(backlogSize);
+    assertThat(executor.getActiveCount()).isZero();
+  }
+
+  private void runSharedTask(final int index) {
+    sharedTasks.remove(index).run();
+  }
+}
@@ -96,6 +96,23 @@ class MetricTrackingExecutorFactoryTest {
         .isInstanceOf(RejectedExecutionException.class);
   }
 
+  @Test
+  void newBoundedExecutor_shouldReportLimitAsThreadPoolSize() {
+    final List<Runnable> sharedTasks = new ArrayList<>();
+    final ExecutorService executorService =
+        factory.newBoundedExecutor("foo", 3, 5, sharedTasks::add);
+    executorService.execute(new Task());
+
+    assertThat(
+            metricSystem.getGauge(TekuMetricCategory.EXECUTOR, "foo_thread_pool_size").getValue())
+        .isEqualTo(3);
+    assertThat(
+            metricSystem
+                .getGauge(TekuMetricCategory.EXECUTOR, "foo_thread_active_count")
+                .getValue())
+        .isEqualTo(1);
+  }
+
   private ExecutorService newCachedThreadPool(final int maxThreads, final int maxQueueSize) {
     final ExecutorService executorService =
         factory.newCachedThreadPool("foo", maxThreads, maxQueueSize, threadFactory);
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.metrics.StubMetricsSystem;
+import tech.pegasys.teku.metrics.TekuMetricCategory;
+
+class SharedExecutorPoolTest {
+  private static final int TASK_COUNT = 50;
+
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final SharedExecutorPool pool = SharedExecutorPool.create(metricsSystem);
+  private final CountDownLatch releaseTasks = new CountDownLatch(1);
+
+  @AfterEach
+  void tearDown() {
+    releaseTasks.countDown();
+    pool.shutdown();
+  }
+
+  @Test
+  void shouldStartNewThreadsWhenAllThreadsAreBlocked() throws Exception {
+    // Every task waits for all the others to start so they only complete if each gets a thread
+    final CountDownLatch tasksStarted = new CountDownLatch(TASK_COUNT);
+    final CountDownLatch tasksCompleted = new CountDownLatch(TASK_COUNT);
+    for (int i = 0; i < TASK_COUNT; i++) {
+      pool.getExecutor()
+          .execute(
+              () -> {
+                tasksStarted.countDown();
+                try {
+                  if (tasksStarted.await(10, TimeUnit.SECONDS)) {
+                    tasksCompleted.countDown();
+                  }
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+              });
+    }
+
+    assertThat(tasksCompleted.await(10, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void shouldReportThreadsInUse() throws Exception {
+    final CountDownLatch tasksStarted = new CountDownLatch(TASK_COUNT);
+    for (int i = 0; i < TASK_COUNT; i++) {
+      pool.getExecutor()
+          .execute(
+              () -> {
+                tasksStarted.countDown();
+                awaitRelease();
+              });
+    }
+    assertThat(tasksStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+    assertThat(
+            metricsSystem
+                .getGauge(TekuMetricCategory.EXECUTOR, "shared_thread_pool_size")
+                .getValue())
+        .isEqualTo(TASK_COUNT);
+    assertThat(
+            metricsSystem
+                .getGauge(TekuMetricCategory.EXECUTOR, "shared_thread_active_count")
+                .getValue())
+        .isEqualTo(TASK_COUNT);
+  }
+
+  @Test
+  void shouldRejectTasksAfterShutdownWithoutRunningThemOnSubmittingThread() {
+    pool.shutdown();
+
+    final AtomicBoolean taskRun = new AtomicBoolean(false);
+    assertThatThrownBy(() -> pool.getExecutor().execute(() -> taskRun.set(true)))
+        .isInstanceOf(RejectedExecutionException.class);
+    assertThat(taskRun).isFalse();
+  }
+
+  private void awaitRelease() {
+    try {
+      releaseTasks.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -16,12 +16,14 @@ package tech.pegasys.teku.logging;
 import static java.util.stream.Collectors.joining;
 import static tech.pegasys.teku.logging.LoggingConfigurator.STATUS_LOGGER_NAME;
 
+import com.google.common.primitives.UnsignedLong;
 import java.nio.file.Path;
 import java.util.List;
 import org.apache.commons.lang3.time.DateFormatUtils;
 import org.apache.commons.lang3.time.DurationFormatUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
 
 public class StatusLogger {
 
@@ -115,6 +117,21 @@ public class StatusLogger {
     log.info("Loading genesis from {}", genesisFile);
   }
 
+  public void loadingInitialAnchor(final String stateFile, final String blockFile) {
+    log.info("Loading initial anchor state from {} and block from {}", stateFile, blockFile);
+  }
+
+  public void initialAnchorLoaded(final UnsignedLong epoch, final Bytes32 blockRoot) {
+    log.info(
+        "Starting from finalized anchor at epoch {} with block root {}. Historical blocks will be downloaded in the background",
+        epoch,
+        blockRoot);
+  }
+
+  public void historicalBlockSyncComplete() {
+    log.info("All historical blocks have been downloaded");
+  }
+
   public void loadingGenesisFromEth1Chain() {
     log.info("No genesis state available. Loading deposits from ETH1 chain");
   }
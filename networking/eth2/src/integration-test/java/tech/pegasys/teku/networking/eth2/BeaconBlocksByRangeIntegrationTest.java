@@ -17,7 +17,6 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static tech.pegasys.teku.infrastructure.async.Waiter.waitFor;
 
-import com.google.common.eventbus.EventBus;
 import com.google.common.primitives.UnsignedLong;
 import java.util.ArrayList;
 import java.util.List;
@@ -46,9 +45,8 @@ public abstract class BeaconBlocksByRangeIntegrationTest {
 
   @BeforeEach
   public void setUp() throws Exception {
-    final EventBus eventBus1 = new EventBus();
     final RpcEncoding rpcEncoding = getEncoding();
-    recentChainData1 = MemoryOnlyRecentChainData.create(eventBus1);
+    recentChainData1 = MemoryOnlyRecentChainData.create();
     beaconChainUtil = BeaconChainUtil.create(1, recentChainData1);
     beaconChainUtil.initializeStorage();
 
@@ -56,11 +54,10 @@ public abstract class BeaconBlocksByRangeIntegrationTest {
         networkFactory
             .builder()
             .rpcEncoding(rpcEncoding)
-            .eventBus(eventBus1)
             .recentChainData(recentChainData1)
             .startNetwork();
 
-    final RecentChainData recentChainData2 = MemoryOnlyRecentChainData.create(new EventBus());
+    final RecentChainData recentChainData2 = MemoryOnlyRecentChainData.create();
     BeaconChainUtil.create(1, recentChainData2).initializeStorage();
     final Eth2Network network2 =
         networkFactory
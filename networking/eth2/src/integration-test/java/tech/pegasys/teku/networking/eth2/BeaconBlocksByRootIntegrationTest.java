@@ -68,7 +68,6 @@ public abstract class BeaconBlocksByRootIntegrationTest {
         networkFactory
             .builder()
             .rpcEncoding(rpcEncoding)
-            .eventBus(storageSystem1.eventBus())
             .recentChainData(storageClient1)
             .startNetwork();
 
@@ -77,7 +76,6 @@ public abstract class BeaconBlocksByRootIntegrationTest {
             .builder()
             .rpcEncoding(rpcEncoding)
             .recentChainData(storageSystem2.recentChainData())
-            .eventBus(storageSystem2.eventBus())
             .peer(network1)
             .startNetwork();
 
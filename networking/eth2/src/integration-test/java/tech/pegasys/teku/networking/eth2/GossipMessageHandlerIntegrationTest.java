@@ -38,7 +38,7 @@ import tech.pegasys.teku.datastructures.operations.Attestation;
 import tech.pegasys.teku.infrastructure.async.Waiter;
 import tech.pegasys.teku.networking.eth2.Eth2NetworkFactory.Eth2P2PNetworkBuilder;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
-import tech.pegasys.teku.statetransition.events.block.ProposedBlockEvent;
+import tech.pegasys.teku.statetransition.events.block.ProposedBlockChannel;
 import tech.pegasys.teku.util.events.Subscribers;
 
 public class GossipMessageHandlerIntegrationTest {
@@ -86,11 +86,11 @@ public class GossipMessageHandlerIntegrationTest {
 
     // Propagate block from network 1
     final SignedBeaconBlock newBlock = node1.chainUtil().createBlockAtSlot(blockSlot);
-    node1.eventBus().post(new ProposedBlockEvent(newBlock));
+    node1.eventChannels().getPublisher(ProposedBlockChannel.class).onBlockProposed(newBlock);
 
     // Listen for new block event to arrive on networks 2 and 3
-    final GossipedBlockCollector network2Blocks = new GossipedBlockCollector(node2.eventBus());
-    final GossipedBlockCollector network3Blocks = new GossipedBlockCollector(node3.eventBus());
+    final GossipedBlockCollector network2Blocks = new GossipedBlockCollector(node2.eventChannels());
+    final GossipedBlockCollector network3Blocks = new GossipedBlockCollector(node3.eventChannels());
 
     // Verify the expected block was gossiped across the network
     Waiter.waitFor(
@@ -137,11 +137,11 @@ public class GossipMessageHandlerIntegrationTest {
     // Propagate invalid block from network 1
     final SignedBeaconBlock newBlock =
         node1.chainUtil().createBlockAtSlotFromInvalidProposer(blockSlot);
-    node1.eventBus().post(new ProposedBlockEvent(newBlock));
+    node1.eventChannels().getPublisher(ProposedBlockChannel.class).onBlockProposed(newBlock);
 
     // Listen for new block event to arrive on networks 2 and 3
-    final GossipedBlockCollector network2Blocks = new GossipedBlockCollector(node2.eventBus());
-    final GossipedBlockCollector network3Blocks = new GossipedBlockCollector(node3.eventBus());
+    final GossipedBlockCollector network2Blocks = new GossipedBlockCollector(node2.eventChannels());
+    final GossipedBlockCollector network3Blocks = new GossipedBlockCollector(node3.eventChannels());
 
     // Wait for blocks to propagate
     ensureConditionRemainsMet(() -> assertThat(network2Blocks.getBlocks()).isEmpty(), 10000);
@@ -16,7 +16,6 @@ package tech.pegasys.teku.networking.eth2;
 import static org.assertj.core.api.Assertions.assertThat;
 import static tech.pegasys.teku.infrastructure.async.Waiter.waitFor;
 
-import com.google.common.eventbus.EventBus;
 import com.google.common.primitives.UnsignedLong;
 import java.time.Duration;
 import java.util.List;
@@ -42,7 +41,7 @@ public class PeerStatusIntegrationTest {
 
   private static final List<BLSKeyPair> VALIDATOR_KEYS = BLSKeyGenerator.generateKeyPairs(1);
   private final Eth2NetworkFactory networkFactory = new Eth2NetworkFactory();
-  private final RecentChainData recentChainData1 = MemoryOnlyRecentChainData.create(new EventBus());
+  private final RecentChainData recentChainData1 = MemoryOnlyRecentChainData.create();
   private final BeaconChainUtil beaconChainUtil1 =
       BeaconChainUtil.create(recentChainData1, VALIDATOR_KEYS);
 
@@ -65,8 +64,7 @@ public class PeerStatusIntegrationTest {
   @MethodSource("getEncodings")
   public void shouldExchangeStatusMessagesOnConnection(
       final String encodingName, final RpcEncoding encoding) throws Exception {
-    final EventBus eventBus2 = new EventBus();
-    final RecentChainData recentChainData2 = MemoryOnlyRecentChainData.create(eventBus2);
+    final RecentChainData recentChainData2 = MemoryOnlyRecentChainData.create();
     BeaconChainUtil.create(recentChainData2, VALIDATOR_KEYS).initializeStorage();
 
     final Eth2Network network1 =
@@ -79,7 +77,6 @@ public class PeerStatusIntegrationTest {
         networkFactory
             .builder()
             .rpcEncoding(encoding)
-            .eventBus(eventBus2)
             .recentChainData(recentChainData2)
             .startNetwork();
 
@@ -109,14 +106,12 @@ public class PeerStatusIntegrationTest {
             .recentChainData(recentChainData1)
             .startNetwork();
 
-    final EventBus eventBus2 = new EventBus();
-    final RecentChainData recentChainData2 = MemoryOnlyRecentChainData.create(eventBus2);
+    final RecentChainData recentChainData2 = MemoryOnlyRecentChainData.create();
     BeaconChainUtil.create(recentChainData2, VALIDATOR_KEYS).initializeStorage();
     final Eth2Network network2 =
         networkFactory
             .builder()
             .rpcEncoding(encoding)
-            .eventBus(eventBus2)
             .recentChainData(recentChainData2)
             .peer(network1)
             .startNetwork();
@@ -146,14 +141,12 @@ public class PeerStatusIntegrationTest {
             .recentChainData(recentChainData1)
             .startNetwork();
 
-    final EventBus eventBus2 = new EventBus();
-    final RecentChainData recentChainData2 = MemoryOnlyRecentChainData.create(eventBus2);
+    final RecentChainData recentChainData2 = MemoryOnlyRecentChainData.create();
     BeaconChainUtil.create(recentChainData2, VALIDATOR_KEYS).initializeStorage();
     final Eth2Network network2 =
         networkFactory
             .builder()
             .rpcEncoding(encoding)
-            .eventBus(eventBus2)
             .eth2StatusUpdateInterval(statusUpdateInterval)
             .recentChainData(recentChainData2)
             .peer(network1)
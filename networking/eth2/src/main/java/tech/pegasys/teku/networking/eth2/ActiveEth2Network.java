@@ -14,13 +14,13 @@
 package tech.pegasys.teku.networking.eth2;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.eventbus.EventBus;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.bls.VerifiedSignatureCache;
 import tech.pegasys.teku.core.StateTransition;
 import tech.pegasys.teku.core.operationsignatureverifiers.ProposerSlashingSignatureVerifier;
 import tech.pegasys.teku.core.operationsignatureverifiers.VoluntaryExitSignatureVerifier;
@@ -33,6 +33,7 @@ import tech.pegasys.teku.datastructures.operations.AttesterSlashing;
 import tech.pegasys.teku.datastructures.operations.ProposerSlashing;
 import tech.pegasys.teku.datastructures.operations.SignedVoluntaryExit;
 import tech.pegasys.teku.datastructures.state.ForkInfo;
+import tech.pegasys.teku.events.EventChannels;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.networking.eth2.gossip.AggregateGossipManager;
 import tech.pegasys.teku.networking.eth2.gossip.AttestationGossipManager;
@@ -41,6 +42,7 @@ import tech.pegasys.teku.networking.eth2.gossip.BlockGossipManager;
 import tech.pegasys.teku.networking.eth2.gossip.ProposerSlashingGossipManager;
 import tech.pegasys.teku.networking.eth2.gossip.VoluntaryExitGossipManager;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
+import tech.pegasys.teku.networking.eth2.gossip.events.GossipedBlockChannel;
 import tech.pegasys.teku.networking.eth2.gossip.subnets.AttestationSubnetSubscriptions;
 import tech.pegasys.teku.networking.eth2.gossip.topics.GossipedOperationConsumer;
 import tech.pegasys.teku.networking.eth2.gossip.topics.ProcessedAttestationSubscriptionProvider;
@@ -58,6 +60,8 @@ import tech.pegasys.teku.networking.p2p.DiscoveryNetwork;
 import tech.pegasys.teku.networking.p2p.network.DelegatingP2PNetwork;
 import tech.pegasys.teku.networking.p2p.peer.NodeId;
 import tech.pegasys.teku.networking.p2p.peer.PeerConnectedSubscriber;
+import tech.pegasys.teku.statetransition.blockimport.BlockLifecycleTracker;
+import tech.pegasys.teku.statetransition.events.block.ProposedBlockChannel;
 import tech.pegasys.teku.storage.client.RecentChainData;
 
 public class ActiveEth2Network extends DelegatingP2PNetwork<Eth2Peer> implements Eth2Network {
@@ -65,8 +69,10 @@ public class ActiveEth2Network extends DelegatingP2PNetwork<Eth2Peer> implements
   private final MetricsSystem metricsSystem;
   private final DiscoveryNetwork<?> discoveryNetwork;
   private final Eth2PeerManager peerManager;
-  private final EventBus eventBus;
+  private final EventChannels eventChannels;
   private final RecentChainData recentChainData;
+  private final VerifiedSignatureCache verifiedSignatureCache;
+  private final BlockLifecycleTracker blockLifecycleTracker;
   private final AtomicReference<State> state = new AtomicReference<>(State.IDLE);
   private final GossipEncoding gossipEncoding;
   private final AttestationSubnetService attestationSubnetService;
@@ -95,7 +101,7 @@ public class ActiveEth2Network extends DelegatingP2PNetwork<Eth2Peer> implements
       final MetricsSystem metricsSystem,
       final DiscoveryNetwork<?> discoveryNetwork,
       final Eth2PeerManager peerManager,
-      final EventBus eventBus,
+      final EventChannels eventChannels,
       final RecentChainData recentChainData,
       final GossipEncoding gossipEncoding,
       final AttestationSubnetService attestationSubnetService,
@@ -105,12 +111,14 @@ public class ActiveEth2Network extends DelegatingP2PNetwork<Eth2Peer> implements
       final GossipedOperationConsumer<SignedVoluntaryExit> gossipedVoluntaryExitConsumer,
       final ProcessedAttestationSubscriptionProvider processedAttestationSubscriptionProvider,
       final VerifiedBlockAttestationsSubscriptionProvider
-          verifiedBlockAttestationsSubscriptionProvider) {
+          verifiedBlockAttestationsSubscriptionProvider,
+      final VerifiedSignatureCache verifiedSignatureCache,
+      final BlockLifecycleTracker blockLifecycleTracker) {
     super(discoveryNetwork);
     this.metricsSystem = metricsSystem;
     this.discoveryNetwork = discoveryNetwork;
     this.peerManager = peerManager;
-    this.eventBus = eventBus;
+    this.eventChannels = eventChannels;
     this.recentChainData = recentChainData;
     this.gossipEncoding = gossipEncoding;
     this.attestationSubnetService = attestationSubnetService;
@@ -121,6 +129,8 @@ public class ActiveEth2Network extends DelegatingP2PNetwork<Eth2Peer> implements
     this.processedAttestationSubscriptionProvider = processedAttestationSubscriptionProvider;
     this.verifiedBlockAttestationsSubscriptionProvider =
         verifiedBlockAttestationsSubscriptionProvider;
+    this.verifiedSignatureCache = verifiedSignatureCache;
+    this.blockLifecycleTracker = blockLifecycleTracker;
   }
 
   @Override
@@ -139,7 +149,8 @@ public class ActiveEth2Network extends DelegatingP2PNetwork<Eth2Peer> implements
   private synchronized void startup() {
     state.set(State.RUNNING);
     BlockValidator blockValidator = new BlockValidator(recentChainData, new StateTransition());
-    AttestationValidator attestationValidator = new AttestationValidator(recentChainData);
+    AttestationValidator attestationValidator =
+        new AttestationValidator(recentChainData, verifiedSignatureCache);
     SignedAggregateAndProofValidator aggregateValidator =
         new SignedAggregateAndProofValidator(recentChainData, attestationValidator);
     final ForkInfo forkInfo = recentChainData.getHeadForkInfo().orElseThrow();
@@ -169,7 +180,13 @@ public class ActiveEth2Network extends DelegatingP2PNetwork<Eth2Peer> implements
 
     blockGossipManager =
         new BlockGossipManager(
-            discoveryNetwork, gossipEncoding, forkInfo, blockValidator, eventBus);
+            discoveryNetwork,
+            gossipEncoding,
+            forkInfo,
+            blockValidator,
+            eventChannels.getPublisher(GossipedBlockChannel.class),
+            blockLifecycleTracker);
+    eventChannels.subscribe(ProposedBlockChannel.class, blockGossipManager);
 
     attestationGossipManager =
         new AttestationGossipManager(metricsSystem, attestationSubnetSubscriptions);
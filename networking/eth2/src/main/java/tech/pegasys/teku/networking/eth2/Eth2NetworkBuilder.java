@@ -17,17 +17,18 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
-import com.google.common.eventbus.EventBus;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.bls.VerifiedSignatureCache;
 import tech.pegasys.teku.datastructures.attestation.ValidateableAttestation;
 import tech.pegasys.teku.datastructures.operations.AttesterSlashing;
 import tech.pegasys.teku.datastructures.operations.ProposerSlashing;
 import tech.pegasys.teku.datastructures.operations.SignedVoluntaryExit;
+import tech.pegasys.teku.events.EventChannels;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
 import tech.pegasys.teku.networking.eth2.gossip.subnets.AttestationSubnetTopicProvider;
@@ -35,6 +36,7 @@ import tech.pegasys.teku.networking.eth2.gossip.subnets.PeerSubnetSubscriptions;
 import tech.pegasys.teku.networking.eth2.gossip.topics.GossipedOperationConsumer;
 import tech.pegasys.teku.networking.eth2.gossip.topics.ProcessedAttestationSubscriptionProvider;
 import tech.pegasys.teku.networking.eth2.gossip.topics.VerifiedBlockAttestationsSubscriptionProvider;
+import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
 import tech.pegasys.teku.networking.eth2.peers.Eth2PeerManager;
 import tech.pegasys.teku.networking.eth2.peers.Eth2PeerSelectionStrategy;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
@@ -44,6 +46,7 @@ import tech.pegasys.teku.networking.p2p.libp2p.LibP2PNetwork;
 import tech.pegasys.teku.networking.p2p.network.NetworkConfig;
 import tech.pegasys.teku.networking.p2p.network.PeerHandler;
 import tech.pegasys.teku.networking.p2p.rpc.RpcMethod;
+import tech.pegasys.teku.statetransition.blockimport.BlockLifecycleTracker;
 import tech.pegasys.teku.storage.api.StorageQueryChannel;
 import tech.pegasys.teku.storage.client.RecentChainData;
 import tech.pegasys.teku.util.config.Constants;
@@ -56,7 +59,7 @@ public class Eth2NetworkBuilder {
 
   private NetworkConfig config;
   private Eth2Config eth2Config;
-  private EventBus eventBus;
+  private EventChannels eventChannels;
   private RecentChainData recentChainData;
   private GossipedOperationConsumer<ValidateableAttestation> gossipedAttestationConsumer;
   private GossipedOperationConsumer<AttesterSlashing> gossipedAttesterSlashingConsumer;
@@ -74,6 +77,8 @@ public class Eth2NetworkBuilder {
   private Duration eth2RpcPingInterval = DEFAULT_ETH2_RPC_PING_INTERVAL;
   private int eth2RpcOutstandingPingThreshold = DEFAULT_ETH2_RPC_OUTSTANDING_PING_THRESHOLD;
   private Duration eth2StatusUpdateInterval = DEFAULT_ETH2_STATUS_UPDATE_INTERVAL;
+  private VerifiedSignatureCache verifiedSignatureCache = VerifiedSignatureCache.DISABLED;
+  private BlockLifecycleTracker blockLifecycleTracker = BlockLifecycleTracker.NOOP;
 
   private Eth2NetworkBuilder() {}
 
@@ -98,7 +103,8 @@ public class Eth2NetworkBuilder {
             rpcEncoding,
             eth2RpcPingInterval,
             eth2RpcOutstandingPingThreshold,
-            eth2StatusUpdateInterval);
+            eth2StatusUpdateInterval,
+            timeProvider);
     final Collection<RpcMethod> eth2RpcMethods = eth2PeerManager.getBeaconChainMethods().all();
     rpcMethods.addAll(eth2RpcMethods);
     peerHandlers.add(eth2PeerManager);
@@ -106,13 +112,13 @@ public class Eth2NetworkBuilder {
     final GossipEncoding gossipEncoding =
         eth2Config.isSnappyCompressionEnabled() ? GossipEncoding.SSZ_SNAPPY : GossipEncoding.SSZ;
     // Build core network and inject eth2 handlers
-    final DiscoveryNetwork<?> network = buildNetwork(gossipEncoding);
+    final DiscoveryNetwork<?> network = buildNetwork(gossipEncoding, eth2PeerManager);
 
     return new ActiveEth2Network(
         metricsSystem,
         network,
         eth2PeerManager,
-        eventBus,
+        eventChannels,
         recentChainData,
         gossipEncoding,
         attestationSubnetService,
@@ -121,10 +127,13 @@ public class Eth2NetworkBuilder {
         gossipedProposerSlashingConsumer,
         gossipedVoluntaryExitConsumer,
         processedAttestationSubscriptionProvider,
-        verifiedBlockAttestationsSubscriptionProvider);
+        verifiedBlockAttestationsSubscriptionProvider,
+        verifiedSignatureCache,
+        blockLifecycleTracker);
   }
 
-  protected DiscoveryNetwork<?> buildNetwork(final GossipEncoding gossipEncoding) {
+  protected DiscoveryNetwork<?> buildNetwork(
+      final GossipEncoding gossipEncoding, final Eth2PeerManager eth2PeerManager) {
     final ReputationManager reputationManager =
         new ReputationManager(metricsSystem, timeProvider, Constants.REPUTATION_MANAGER_CAPACITY);
     final LibP2PNetwork p2pNetwork =
@@ -140,14 +149,15 @@ public class Eth2NetworkBuilder {
             config.getTargetPeerRange(),
             network -> PeerSubnetSubscriptions.create(network, subnetTopicProvider),
             reputationManager,
-            Collections::shuffle),
+            Collections::shuffle,
+            peerId -> eth2PeerManager.getPeer(peerId).map(Eth2Peer::getPerformanceScore).orElse(0)),
         config);
   }
 
   private void validate() {
     assertNotNull("config", config);
     assertNotNull("eth2Config", eth2Config);
-    assertNotNull("eventBus", eventBus);
+    assertNotNull("eventChannels", eventChannels);
     assertNotNull("metricsSystem", metricsSystem);
     assertNotNull("chainStorageClient", recentChainData);
     assertNotNull("timeProvider", timeProvider);
@@ -173,9 +183,9 @@ public class Eth2NetworkBuilder {
     return this;
   }
 
-  public Eth2NetworkBuilder eventBus(final EventBus eventBus) {
-    checkNotNull(eventBus);
-    this.eventBus = eventBus;
+  public Eth2NetworkBuilder eventChannels(final EventChannels eventChannels) {
+    checkNotNull(eventChannels);
+    this.eventChannels = eventChannels;
     return this;
   }
 
@@ -276,4 +286,18 @@ public class Eth2NetworkBuilder {
     this.eth2RpcOutstandingPingThreshold = eth2RpcOutstandingPingThreshold;
     return this;
   }
+
+  public Eth2NetworkBuilder verifiedSignatureCache(
+      final VerifiedSignatureCache verifiedSignatureCache) {
+    checkNotNull(verifiedSignatureCache);
+    this.verifiedSignatureCache = verifiedSignatureCache;
+    return this;
+  }
+
+  public Eth2NetworkBuilder blockLifecycleTracker(
+      final BlockLifecycleTracker blockLifecycleTracker) {
+    checkNotNull(blockLifecycleTracker);
+    this.blockLifecycleTracker = blockLifecycleTracker;
+    return this;
+  }
 }
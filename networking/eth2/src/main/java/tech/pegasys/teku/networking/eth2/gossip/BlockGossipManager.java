@@ -13,22 +13,22 @@
 
 package tech.pegasys.teku.networking.eth2.gossip;
 
-import com.google.common.eventbus.EventBus;
-import com.google.common.eventbus.Subscribe;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.datastructures.state.ForkInfo;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
+import tech.pegasys.teku.networking.eth2.gossip.events.GossipedBlockChannel;
 import tech.pegasys.teku.networking.eth2.gossip.topics.BlockTopicHandler;
 import tech.pegasys.teku.networking.eth2.gossip.topics.validation.BlockValidator;
 import tech.pegasys.teku.networking.p2p.gossip.GossipNetwork;
 import tech.pegasys.teku.networking.p2p.gossip.TopicChannel;
-import tech.pegasys.teku.statetransition.events.block.ProposedBlockEvent;
+import tech.pegasys.teku.statetransition.blockimport.BlockLifecycleTracker;
+import tech.pegasys.teku.statetransition.events.block.ProposedBlockChannel;
 
-public class BlockGossipManager {
+public class BlockGossipManager implements ProposedBlockChannel {
   private final GossipEncoding gossipEncoding;
   private final TopicChannel channel;
-  private final EventBus eventBus;
 
   private final AtomicBoolean shutdown = new AtomicBoolean(false);
 
@@ -37,27 +37,28 @@ public class BlockGossipManager {
       final GossipEncoding gossipEncoding,
       final ForkInfo forkInfo,
       final BlockValidator blockValidator,
-      final EventBus eventBus) {
+      final GossipedBlockChannel gossipedBlockChannel,
+      final BlockLifecycleTracker blockLifecycleTracker) {
     this.gossipEncoding = gossipEncoding;
 
     final BlockTopicHandler topicHandler =
-        new BlockTopicHandler(gossipEncoding, forkInfo, blockValidator, eventBus);
+        new BlockTopicHandler(
+            gossipEncoding, forkInfo, blockValidator, gossipedBlockChannel, blockLifecycleTracker);
     this.channel = gossipNetwork.subscribe(topicHandler.getTopic(), topicHandler);
-
-    this.eventBus = eventBus;
-    eventBus.register(this);
   }
 
-  @Subscribe
-  @SuppressWarnings("unused")
-  void onBlockProposed(final ProposedBlockEvent blockProposedEvent) {
-    final Bytes data = gossipEncoding.encode(blockProposedEvent.getBlock());
+  @Override
+  public void onBlockProposed(final SignedBeaconBlock block) {
+    if (shutdown.get()) {
+      // Event channel subscriptions can't be removed so ignore blocks proposed after shutdown
+      return;
+    }
+    final Bytes data = gossipEncoding.encode(block);
     channel.gossip(data);
   }
 
   public void shutdown() {
     if (shutdown.compareAndSet(false, true)) {
-      eventBus.unregister(this);
       // Close gossip channels
       channel.close();
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2019 ConsenSys AG.
+ * Copyright 2020 ConsenSys AG.
  *
  * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
  * the License. You may obtain a copy of the License at
@@ -13,34 +13,9 @@
 
 package tech.pegasys.teku.networking.eth2.gossip.events;
 
-import java.util.Objects;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.util.channels.VoidReturningChannelInterface;
 
-public class GossipedBlockEvent {
-  private final SignedBeaconBlock block;
-
-  public GossipedBlockEvent(final SignedBeaconBlock block) {
-    this.block = block;
-  }
-
-  public SignedBeaconBlock getBlock() {
-    return block;
-  }
-
-  @Override
-  public boolean equals(final Object o) {
-    if (o == this) {
-      return true;
-    }
-    if (!(o instanceof GossipedBlockEvent)) {
-      return false;
-    }
-    final GossipedBlockEvent that = (GossipedBlockEvent) o;
-    return Objects.equals(block, that.block);
-  }
-
-  @Override
-  public int hashCode() {
-    return Objects.hash(block);
-  }
+public interface GossipedBlockChannel extends VoidReturningChannelInterface {
+  void onGossipedBlock(SignedBeaconBlock block);
 }
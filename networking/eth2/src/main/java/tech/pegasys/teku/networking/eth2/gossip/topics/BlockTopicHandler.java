@@ -13,17 +13,19 @@
 
 package tech.pegasys.teku.networking.eth2.gossip.topics;
 
-import com.google.common.eventbus.EventBus;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.datastructures.state.ForkInfo;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
-import tech.pegasys.teku.networking.eth2.gossip.events.GossipedBlockEvent;
+import tech.pegasys.teku.networking.eth2.gossip.events.GossipedBlockChannel;
 import tech.pegasys.teku.networking.eth2.gossip.topics.validation.BlockValidator;
 import tech.pegasys.teku.networking.eth2.gossip.topics.validation.InternalValidationResult;
 import tech.pegasys.teku.ssz.SSZTypes.Bytes4;
+import tech.pegasys.teku.statetransition.blockimport.BlockLifecycleTracker;
+import tech.pegasys.teku.statetransition.blockimport.BlockLifecycleTracker.Source;
+import tech.pegasys.teku.statetransition.blockimport.BlockLifecycleTracker.Stage;
 
 public class BlockTopicHandler extends Eth2TopicHandler.SimpleEth2TopicHandler<SignedBeaconBlock> {
   private static final Logger LOG = LogManager.getLogger();
@@ -32,17 +34,20 @@ public class BlockTopicHandler extends Eth2TopicHandler.SimpleEth2TopicHandler<S
   private final GossipEncoding gossipEncoding;
   private final Bytes4 forkDigest;
   private final BlockValidator blockValidator;
-  private final EventBus eventBus;
+  private final GossipedBlockChannel gossipedBlockChannel;
+  private final BlockLifecycleTracker blockLifecycleTracker;
 
   public BlockTopicHandler(
       final GossipEncoding gossipEncoding,
       final ForkInfo forkInfo,
       final BlockValidator blockValidator,
-      final EventBus eventBus) {
+      final GossipedBlockChannel gossipedBlockChannel,
+      final BlockLifecycleTracker blockLifecycleTracker) {
     this.gossipEncoding = gossipEncoding;
     this.forkDigest = forkInfo.getForkDigest();
     this.blockValidator = blockValidator;
-    this.eventBus = eventBus;
+    this.gossipedBlockChannel = gossipedBlockChannel;
+    this.blockLifecycleTracker = blockLifecycleTracker;
   }
 
   @Override
@@ -55,10 +60,10 @@ public class BlockTopicHandler extends Eth2TopicHandler.SimpleEth2TopicHandler<S
         break;
       case SAVE_FOR_FUTURE:
         LOG.trace("Deferring message for topic: {}", this::getTopic);
-        eventBus.post(createEvent(block));
+        gossipedBlockChannel.onGossipedBlock(block);
         break;
       case ACCEPT:
-        eventBus.post(createEvent(block));
+        gossipedBlockChannel.onGossipedBlock(block);
         break;
       default:
         throw new UnsupportedOperationException(
@@ -71,10 +76,6 @@ public class BlockTopicHandler extends Eth2TopicHandler.SimpleEth2TopicHandler<S
     return gossipEncoding;
   }
 
-  public Object createEvent(final SignedBeaconBlock block) {
-    return new GossipedBlockEvent(block);
-  }
-
   @Override
   public String getTopicName() {
     return TOPIC_NAME;
@@ -92,6 +93,16 @@ public class BlockTopicHandler extends Eth2TopicHandler.SimpleEth2TopicHandler<S
 
   @Override
   protected SafeFuture<InternalValidationResult> validateData(final SignedBeaconBlock block) {
-    return blockValidator.validate(block);
+    blockLifecycleTracker.onReceived(block, Source.GOSSIP);
+    return blockValidator
+        .validate(block)
+        .thenPeek(
+            result -> {
+              if (result == InternalValidationResult.REJECT) {
+                blockLifecycleTracker.onDropped(block);
+              } else {
+                blockLifecycleTracker.onStageCompleted(block, Stage.GOSSIP_VALIDATION);
+              }
+            });
   }
 }
@@ -32,6 +32,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.OptionalInt;
 import java.util.Set;
+import tech.pegasys.teku.bls.BLSSignatureVerifier;
+import tech.pegasys.teku.bls.VerifiedSignatureCache;
 import tech.pegasys.teku.datastructures.attestation.ValidateableAttestation;
 import tech.pegasys.teku.datastructures.operations.Attestation;
 import tech.pegasys.teku.datastructures.operations.IndexedAttestation;
@@ -53,9 +55,12 @@ public class AttestationValidator {
       ConcurrentLimitedSet.create(
           VALID_ATTESTATION_SET_SIZE, LimitStrategy.DROP_LEAST_RECENTLY_ACCESSED);
   private final RecentChainData recentChainData;
+  private final BLSSignatureVerifier signatureVerifier;
 
-  public AttestationValidator(final RecentChainData recentChainData) {
+  public AttestationValidator(
+      final RecentChainData recentChainData, final VerifiedSignatureCache verifiedSignatureCache) {
     this.recentChainData = recentChainData;
+    this.signatureVerifier = verifiedSignatureCache.wrap(BLSSignatureVerifier.SIMPLE);
   }
 
   public SafeFuture<InternalValidationResult> validate(
@@ -148,7 +153,8 @@ public class AttestationValidator {
               // The signature of attestation is valid.
               final IndexedAttestation indexedAttestation =
                   get_indexed_attestation(state, attestation);
-              if (!is_valid_indexed_attestation(state, indexedAttestation).isSuccessful()) {
+              if (!is_valid_indexed_attestation(state, indexedAttestation, signatureVerifier)
+                  .isSuccessful()) {
                 return REJECT;
               }
               return ACCEPT;
@@ -17,12 +17,14 @@ import static tech.pegasys.teku.networking.eth2.rpc.core.RpcResponseStatus.INVAL
 import static tech.pegasys.teku.util.config.Constants.MAX_REQUEST_BLOCKS;
 
 import com.google.common.base.MoreObjects;
+import com.google.common.base.Throwables;
 import com.google.common.primitives.UnsignedLong;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
@@ -48,7 +50,9 @@ import tech.pegasys.teku.networking.eth2.rpc.core.ResponseStreamListener;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
 import tech.pegasys.teku.networking.p2p.peer.DelegatingPeer;
 import tech.pegasys.teku.networking.p2p.peer.Peer;
+import tech.pegasys.teku.networking.p2p.rpc.StreamTimeoutException;
 import tech.pegasys.teku.ssz.SSZTypes.Bitvector;
+import tech.pegasys.teku.util.time.TimeProvider;
 
 public class Eth2Peer extends DelegatingPeer implements Peer {
   private static final Logger LOG = LogManager.getLogger();
@@ -63,16 +67,20 @@ public class Eth2Peer extends DelegatingPeer implements Peer {
   private final AtomicBoolean chainValidated = new AtomicBoolean(false);
   private final AtomicInteger outstandingRequests = new AtomicInteger(0);
   private final AtomicInteger outstandingPings = new AtomicInteger();
+  private final PeerPerformance performance = new PeerPerformance();
+  private final TimeProvider timeProvider;
 
   public Eth2Peer(
       final Peer peer,
       final BeaconChainMethods rpcMethods,
       final StatusMessageFactory statusMessageFactory,
-      final MetadataMessagesFactory metadataMessagesFactory) {
+      final MetadataMessagesFactory metadataMessagesFactory,
+      final TimeProvider timeProvider) {
     super(peer);
     this.rpcMethods = rpcMethods;
     this.statusMessageFactory = statusMessageFactory;
     this.metadataMessagesFactory = metadataMessagesFactory;
+    this.timeProvider = timeProvider;
   }
 
   public void updateStatus(final PeerStatus status) {
@@ -121,6 +129,19 @@ public class Eth2Peer extends DelegatingPeer implements Peer {
     return remoteStatus.isPresent();
   }
 
+  public PeerPerformance getPerformance() {
+    return performance;
+  }
+
+  /** Returns a score for how quickly and reliably this peer responds, higher is better. */
+  public int getPerformanceScore() {
+    return performance.getScore();
+  }
+
+  public void reportExcessiveThrottling() {
+    performance.onExcessiveThrottling();
+  }
+
   boolean isChainValidated() {
     return chainValidated.get();
   }
@@ -156,7 +177,8 @@ public class Eth2Peer extends DelegatingPeer implements Peer {
     }
     final Eth2RpcMethod<BeaconBlocksByRootRequestMessage, SignedBeaconBlock> blockByRoot =
         rpcMethods.beaconBlocksByRoot();
-    return requestStream(blockByRoot, new BeaconBlocksByRootRequestMessage(blockRoots), listener);
+    return requestBlockStream(
+        blockByRoot, new BeaconBlocksByRootRequestMessage(blockRoots), listener);
   }
 
   public SafeFuture<SignedBeaconBlock> requestBlockBySlot(final UnsignedLong slot) {
@@ -164,13 +186,17 @@ public class Eth2Peer extends DelegatingPeer implements Peer {
         rpcMethods.beaconBlocksByRange();
     final BeaconBlocksByRangeRequestMessage request =
         new BeaconBlocksByRangeRequestMessage(slot, UnsignedLong.ONE, UnsignedLong.ONE);
-    return requestSingleItem(blocksByRange, request);
+    final long startTimeMillis = currentTimeMillis();
+    return trackPerformance(requestSingleItem(blocksByRange, request), startTimeMillis);
   }
 
   public SafeFuture<SignedBeaconBlock> requestBlockByRoot(final Bytes32 blockRoot) {
     final Eth2RpcMethod<BeaconBlocksByRootRequestMessage, SignedBeaconBlock> blockByRoot =
         rpcMethods.beaconBlocksByRoot();
-    return requestSingleItem(blockByRoot, new BeaconBlocksByRootRequestMessage(List.of(blockRoot)));
+    final long startTimeMillis = currentTimeMillis();
+    return trackPerformance(
+        requestSingleItem(blockByRoot, new BeaconBlocksByRootRequestMessage(List.of(blockRoot))),
+        startTimeMillis);
   }
 
   public SafeFuture<Void> requestBlocksByRange(
@@ -180,7 +206,7 @@ public class Eth2Peer extends DelegatingPeer implements Peer {
       final ResponseStreamListener<SignedBeaconBlock> listener) {
     final Eth2RpcMethod<BeaconBlocksByRangeRequestMessage, SignedBeaconBlock> blocksByRange =
         rpcMethods.beaconBlocksByRange();
-    return requestStream(
+    return requestBlockStream(
         blocksByRange, new BeaconBlocksByRangeRequestMessage(startSlot, count, step), listener);
   }
 
@@ -224,6 +250,73 @@ public class Eth2Peer extends DelegatingPeer implements Peer {
     return sendRequest(method, request, handler).thenCompose(__ -> respFuture);
   }
 
+  private <I extends RpcRequest> SafeFuture<Void> requestBlockStream(
+      final Eth2RpcMethod<I, SignedBeaconBlock> method,
+      final I request,
+      final ResponseStreamListener<SignedBeaconBlock> listener) {
+    final long startTimeMillis = currentTimeMillis();
+    final AtomicLong firstBlockTimeMillis = new AtomicLong(-1);
+    final AtomicInteger blocksReceived = new AtomicInteger(0);
+    // Responses are processed one at a time so time spent importing blocks would otherwise be
+    // attributed to the peer
+    final AtomicLong listenerTimeMillis = new AtomicLong(0);
+    return requestStream(
+            method,
+            request,
+            block -> {
+              final long receivedTimeMillis = currentTimeMillis();
+              if (blocksReceived.getAndIncrement() == 0) {
+                firstBlockTimeMillis.set(receivedTimeMillis);
+              }
+              return listener
+                  .onResponse(block)
+                  .whenComplete(
+                      (__, error) ->
+                          listenerTimeMillis.addAndGet(currentTimeMillis() - receivedTimeMillis));
+            })
+        .whenComplete(
+            (result, error) -> {
+              final long endTimeMillis = currentTimeMillis() - listenerTimeMillis.get();
+              final long firstResponseTimeMillis =
+                  blocksReceived.get() > 0 ? firstBlockTimeMillis.get() : endTimeMillis;
+              recordPerformance(
+                  startTimeMillis,
+                  firstResponseTimeMillis,
+                  endTimeMillis,
+                  blocksReceived.get(),
+                  error);
+            });
+  }
+
+  private SafeFuture<SignedBeaconBlock> trackPerformance(
+      final SafeFuture<SignedBeaconBlock> request, final long startTimeMillis) {
+    return request.whenComplete(
+        (block, error) -> {
+          final long endTimeMillis = currentTimeMillis();
+          recordPerformance(startTimeMillis, endTimeMillis, endTimeMillis, 1, error);
+        });
+  }
+
+  private void recordPerformance(
+      final long startTimeMillis,
+      final long firstResponseTimeMillis,
+      final long endTimeMillis,
+      final int blocksReceived,
+      final Throwable error) {
+    if (error == null) {
+      performance.onRequestCompleted(
+          firstResponseTimeMillis - startTimeMillis,
+          endTimeMillis - startTimeMillis,
+          blocksReceived);
+    } else if (Throwables.getRootCause(error) instanceof StreamTimeoutException) {
+      performance.onRequestTimedOut();
+    }
+  }
+
+  private long currentTimeMillis() {
+    return timeProvider.getTimeInMillis().longValue();
+  }
+
   private <I extends RpcRequest, O> SafeFuture<ResponseStream<O>> sendRequest(
       final Eth2RpcMethod<I, O> method, final I request, Eth2OutgoingRequestHandler<I, O> handler) {
     Bytes payload = method.encodeRequest(request);
@@ -260,6 +353,7 @@ public class Eth2Peer extends DelegatingPeer implements Peer {
     return MoreObjects.toStringHelper(this)
         .add("id", getId())
         .add("remoteStatus", remoteStatus)
+        .add("performance", performance)
         .toString();
   }
 
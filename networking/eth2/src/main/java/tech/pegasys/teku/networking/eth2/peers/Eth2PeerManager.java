@@ -43,6 +43,7 @@ import tech.pegasys.teku.storage.client.CombinedChainDataClient;
 import tech.pegasys.teku.storage.client.RecentChainData;
 import tech.pegasys.teku.util.config.Constants;
 import tech.pegasys.teku.util.events.Subscribers;
+import tech.pegasys.teku.util.time.TimeProvider;
 
 public class Eth2PeerManager implements PeerLookup, PeerHandler {
   private static final Logger LOG = LogManager.getLogger();
@@ -66,7 +67,6 @@ public class Eth2PeerManager implements PeerLookup, PeerHandler {
   Eth2PeerManager(
       final AsyncRunner asyncRunner,
       final CombinedChainDataClient combinedChainDataClient,
-      final RecentChainData storageClient,
       final MetricsSystem metricsSystem,
       final Eth2PeerFactory eth2PeerFactory,
       final PeerValidatorFactory peerValidatorFactory,
@@ -85,7 +85,6 @@ public class Eth2PeerManager implements PeerLookup, PeerHandler {
             asyncRunner,
             this,
             combinedChainDataClient,
-            storageClient,
             metricsSystem,
             statusMessageFactory,
             metadataMessagesFactory,
@@ -104,7 +103,8 @@ public class Eth2PeerManager implements PeerLookup, PeerHandler {
       final RpcEncoding rpcEncoding,
       final Duration eth2RpcPingInterval,
       final int eth2RpcOutstandingPingThreshold,
-      Duration eth2StatusUpdateInterval) {
+      final Duration eth2StatusUpdateInterval,
+      final TimeProvider timeProvider) {
 
     final PeerValidatorFactory peerValidatorFactory =
         (peer, status) ->
@@ -116,9 +116,8 @@ public class Eth2PeerManager implements PeerLookup, PeerHandler {
     return new Eth2PeerManager(
         asyncRunner,
         new CombinedChainDataClient(recentChainData, historicalChainData),
-        recentChainData,
         metricsSystem,
-        new Eth2PeerFactory(statusMessageFactory, metadataMessagesFactory),
+        new Eth2PeerFactory(statusMessageFactory, metadataMessagesFactory, timeProvider),
         peerValidatorFactory,
         statusMessageFactory,
         metadataMessagesFactory,
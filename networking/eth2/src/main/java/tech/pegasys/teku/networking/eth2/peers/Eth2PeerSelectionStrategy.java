@@ -26,6 +26,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
@@ -39,6 +40,7 @@ import tech.pegasys.teku.networking.p2p.connection.TargetPeerRange;
 import tech.pegasys.teku.networking.p2p.discovery.DiscoveryPeer;
 import tech.pegasys.teku.networking.p2p.network.P2PNetwork;
 import tech.pegasys.teku.networking.p2p.network.PeerAddress;
+import tech.pegasys.teku.networking.p2p.peer.NodeId;
 import tech.pegasys.teku.networking.p2p.peer.Peer;
 
 public class Eth2PeerSelectionStrategy implements PeerSelectionStrategy {
@@ -48,16 +50,19 @@ public class Eth2PeerSelectionStrategy implements PeerSelectionStrategy {
   private final PeerSubnetSubscriptions.Factory peerSubnetSubscriptionsFactory;
   private final ReputationManager reputationManager;
   private final Shuffler shuffler;
+  private final ToIntFunction<NodeId> performanceScores;
 
   public Eth2PeerSelectionStrategy(
       final TargetPeerRange targetPeerCountRange,
       final PeerSubnetSubscriptions.Factory peerSubnetSubscriptionsFactory,
       final ReputationManager reputationManager,
-      final Shuffler shuffler) {
+      final Shuffler shuffler,
+      final ToIntFunction<NodeId> performanceScores) {
     this.targetPeerCountRange = targetPeerCountRange;
     this.peerSubnetSubscriptionsFactory = peerSubnetSubscriptionsFactory;
     this.reputationManager = reputationManager;
     this.shuffler = shuffler;
+    this.performanceScores = performanceScores;
   }
 
   @Override
@@ -167,7 +172,9 @@ public class Eth2PeerSelectionStrategy implements PeerSelectionStrategy {
     if (peersToDrop == 0) {
       return emptyList();
     }
-    final PeerScorer peerScorer = peerSubnetSubscriptionsFactory.create(network).createScorer();
+    final PeerScorer peerScorer =
+        new PeerPerformanceScorer(
+            peerSubnetSubscriptionsFactory.create(network).createScorer(), performanceScores);
     final int randomlySelectedPeersToDrop =
         targetPeerCountRange.getRandomlySelectedPeersToDrop(
             randomlySelectedPeerCount, currentPeerCount);
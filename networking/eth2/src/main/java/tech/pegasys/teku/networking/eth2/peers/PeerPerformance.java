@@ -0,0 +1,124 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.peers;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * Tracks how quickly and reliably a peer has responded to our requests, using exponentially
+ * weighted moving averages so recent behaviour dominates.
+ *
+ * <p>The resulting score is used to prefer fast, reliable peers when choosing who to sync from, who
+ * to fetch blocks from and who to disconnect. Peers we have not yet made requests to are given a
+ * middling score so they are neither favoured nor avoided.
+ */
+public class PeerPerformance {
+  // Weight given to each new sample in the moving averages
+  private static final double ALPHA = 0.2;
+
+  private static final int MAX_LATENCY_SCORE = 200;
+  private static final int LATENCY_MILLIS_PER_POINT = 10;
+  private static final int MAX_THROUGHPUT_SCORE = 300;
+  private static final int THROUGHPUT_POINTS_PER_BLOCK_PER_SECOND = 10;
+  private static final int MAX_TIMEOUT_PENALTY = 500;
+  private static final int THROTTLING_PENALTY = 100;
+  private static final int MAX_THROTTLING_PENALTIES = 5;
+
+  private double averageLatencyMillis = -1;
+  private double averageBlocksPerSecond = -1;
+  private double timeoutRate = 0;
+  private int requestCount = 0;
+  private int timeoutCount = 0;
+  private int excessiveThrottlingCount = 0;
+
+  /**
+   * Records a request which completed successfully.
+   *
+   * @param latencyMillis the time from sending the request until the first response was received
+   * @param durationMillis the time from sending the request until the last response was received
+   * @param blocksReceived the number of blocks returned
+   */
+  public synchronized void onRequestCompleted(
+      final long latencyMillis, final long durationMillis, final int blocksReceived) {
+    requestCount++;
+    averageLatencyMillis = updateAverage(averageLatencyMillis, Math.max(0, latencyMillis));
+    timeoutRate = updateAverage(timeoutRate, 0);
+    if (blocksReceived > 0) {
+      final double blocksPerSecond = blocksReceived * 1000.0 / Math.max(1, durationMillis);
+      averageBlocksPerSecond = updateAverage(averageBlocksPerSecond, blocksPerSecond);
+    }
+  }
+
+  /** Records a request which failed because the peer did not respond in time. */
+  public synchronized void onRequestTimedOut() {
+    requestCount++;
+    timeoutCount++;
+    timeoutRate = updateAverage(timeoutRate, 1);
+  }
+
+  /** Records that the peer returned far fewer blocks than requested while we were syncing. */
+  public synchronized void onExcessiveThrottling() {
+    excessiveThrottlingCount++;
+  }
+
+  public synchronized int getScore() {
+    final int latencyScore =
+        averageLatencyMillis < 0
+            ? MAX_LATENCY_SCORE / 2
+            : Math.max(
+                0, MAX_LATENCY_SCORE - (int) (averageLatencyMillis / LATENCY_MILLIS_PER_POINT));
+    final int throughputScore =
+        averageBlocksPerSecond < 0
+            ? MAX_THROUGHPUT_SCORE / 2
+            : Math.min(
+                MAX_THROUGHPUT_SCORE,
+                (int) (averageBlocksPerSecond * THROUGHPUT_POINTS_PER_BLOCK_PER_SECOND));
+    final int timeoutPenalty = (int) (timeoutRate * MAX_TIMEOUT_PENALTY);
+    final int throttlingPenalty =
+        Math.min(excessiveThrottlingCount, MAX_THROTTLING_PENALTIES) * THROTTLING_PENALTY;
+    return latencyScore + throughputScore - timeoutPenalty - throttlingPenalty;
+  }
+
+  public synchronized double getAverageLatencyMillis() {
+    return Math.max(0, averageLatencyMillis);
+  }
+
+  public synchronized double getAverageBlocksPerSecond() {
+    return Math.max(0, averageBlocksPerSecond);
+  }
+
+  public synchronized int getTimeoutCount() {
+    return timeoutCount;
+  }
+
+  public synchronized int getExcessiveThrottlingCount() {
+    return excessiveThrottlingCount;
+  }
+
+  private static double updateAverage(final double currentAverage, final double sample) {
+    return currentAverage < 0 ? sample : currentAverage + ALPHA * (sample - currentAverage);
+  }
+
+  @Override
+  public synchronized String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("score", getScore())
+        .add("requestCount", requestCount)
+        .add("averageLatencyMillis", averageLatencyMillis)
+        .add("averageBlocksPerSecond", averageBlocksPerSecond)
+        .add("timeoutCount", timeoutCount)
+        .add("excessiveThrottlingCount", excessiveThrottlingCount)
+        .toString();
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.peers;
+
+import java.util.function.ToIntFunction;
+import tech.pegasys.teku.networking.p2p.discovery.DiscoveryPeer;
+import tech.pegasys.teku.networking.p2p.peer.NodeId;
+import tech.pegasys.teku.networking.p2p.peer.Peer;
+import tech.pegasys.teku.ssz.SSZTypes.Bitvector;
+
+/**
+ * Adds the request performance of connected peers to the score from another {@link PeerScorer} so
+ * that slow or unreliable peers are disconnected first. Candidate peers have no performance history
+ * so are scored by the delegate alone.
+ */
+public class PeerPerformanceScorer implements PeerScorer {
+  private final PeerScorer delegate;
+  private final ToIntFunction<NodeId> performanceScores;
+
+  public PeerPerformanceScorer(
+      final PeerScorer delegate, final ToIntFunction<NodeId> performanceScores) {
+    this.delegate = delegate;
+    this.performanceScores = performanceScores;
+  }
+
+  @Override
+  public int scoreExistingPeer(final NodeId peerId) {
+    return delegate.scoreExistingPeer(peerId) + performanceScores.applyAsInt(peerId);
+  }
+
+  @Override
+  public int scoreExistingPeer(final Peer peer) {
+    return delegate.scoreExistingPeer(peer) + performanceScores.applyAsInt(peer.getId());
+  }
+
+  @Override
+  public int scoreCandidatePeer(final Bitvector subscriptions) {
+    return delegate.scoreCandidatePeer(subscriptions);
+  }
+
+  @Override
+  public int scoreCandidatePeer(final DiscoveryPeer candidate) {
+    return delegate.scoreCandidatePeer(candidate);
+  }
+}
@@ -13,22 +13,25 @@
 
 package tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
 import org.apache.logging.log4j.LogManager;
+import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.datastructures.networking.libp2p.rpc.BeaconBlocksByRootRequestMessage;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
 import tech.pegasys.teku.networking.eth2.rpc.core.PeerRequiredLocalMessageHandler;
 import tech.pegasys.teku.networking.eth2.rpc.core.ResponseCallback;
-import tech.pegasys.teku.storage.client.RecentChainData;
+import tech.pegasys.teku.storage.client.CombinedChainDataClient;
 
 public class BeaconBlocksByRootMessageHandler
     extends PeerRequiredLocalMessageHandler<BeaconBlocksByRootRequestMessage, SignedBeaconBlock> {
   private static final org.apache.logging.log4j.Logger LOG = LogManager.getLogger();
 
-  private final RecentChainData storageClient;
+  private final CombinedChainDataClient combinedChainDataClient;
 
-  public BeaconBlocksByRootMessageHandler(final RecentChainData storageClient) {
-    this.storageClient = storageClient;
+  public BeaconBlocksByRootMessageHandler(final CombinedChainDataClient combinedChainDataClient) {
+    this.combinedChainDataClient = combinedChainDataClient;
   }
 
   @Override
@@ -38,17 +41,28 @@ public class BeaconBlocksByRootMessageHandler
       final ResponseCallback<SignedBeaconBlock> callback) {
     LOG.trace(
         "Peer {} requested BeaconBlocks with roots: {}", peer.getId(), message.getBlockRoots());
-    if (storageClient.getStore() != null) {
-      message
-          .getBlockRoots()
-          .forEach(
-              blockRoot -> {
-                final SignedBeaconBlock block = storageClient.getStore().getSignedBlock(blockRoot);
+    if (!combinedChainDataClient.isStoreAvailable()) {
+      callback.completeSuccessfully();
+      return;
+    }
+    // Preserve the requested order so blocks are sent back in the order they were asked for
+    final Set<Bytes32> blockRoots = new LinkedHashSet<>();
+    message.getBlockRoots().forEach(blockRoots::add);
+    combinedChainDataClient
+        .getBlocksByBlockRoots(blockRoots)
+        .finish(
+            blocks -> {
+              for (Bytes32 blockRoot : blockRoots) {
+                final SignedBeaconBlock block = blocks.get(blockRoot);
                 if (block != null) {
                   callback.respond(block);
                 }
-              });
-    }
-    callback.completeSuccessfully();
+              }
+              callback.completeSuccessfully();
+            },
+            error -> {
+              LOG.error("Failed to process blocks by root request", error);
+              callback.completeWithUnexpectedError(error);
+            });
   }
 }
@@ -17,9 +17,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
-import com.google.common.eventbus.EventBus;
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,45 +27,57 @@ import tech.pegasys.teku.core.StateTransition;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.datastructures.util.DataStructureUtil;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
+import tech.pegasys.teku.networking.eth2.gossip.events.GossipedBlockChannel;
 import tech.pegasys.teku.networking.eth2.gossip.topics.BlockTopicHandler;
 import tech.pegasys.teku.networking.eth2.gossip.topics.validation.BlockValidator;
 import tech.pegasys.teku.networking.p2p.gossip.GossipNetwork;
 import tech.pegasys.teku.networking.p2p.gossip.TopicChannel;
-import tech.pegasys.teku.statetransition.events.block.ProposedBlockEvent;
+import tech.pegasys.teku.statetransition.blockimport.BlockLifecycleTracker;
 import tech.pegasys.teku.storage.client.MemoryOnlyRecentChainData;
 import tech.pegasys.teku.storage.client.RecentChainData;
 
 public class BlockGossipManagerTest {
 
   private final DataStructureUtil dataStructureUtil = new DataStructureUtil();
-  private final EventBus eventBus = new EventBus();
-  private final RecentChainData recentChainData = MemoryOnlyRecentChainData.create(eventBus);
+  private final RecentChainData recentChainData = MemoryOnlyRecentChainData.create();
   private final BlockValidator blockValidator =
       new BlockValidator(recentChainData, new StateTransition());
   private final GossipNetwork gossipNetwork = mock(GossipNetwork.class);
   private final GossipEncoding gossipEncoding = GossipEncoding.SSZ_SNAPPY;
   private final TopicChannel topicChannel = mock(TopicChannel.class);
+  private BlockGossipManager blockGossipManager;
 
   @BeforeEach
   public void setup() {
     doReturn(topicChannel)
         .when(gossipNetwork)
         .subscribe(contains(BlockTopicHandler.TOPIC_NAME), any());
-    new BlockGossipManager(
-        gossipNetwork,
-        gossipEncoding,
-        dataStructureUtil.randomForkInfo(),
-        blockValidator,
-        eventBus);
+    blockGossipManager =
+        new BlockGossipManager(
+            gossipNetwork,
+            gossipEncoding,
+            dataStructureUtil.randomForkInfo(),
+            blockValidator,
+            mock(GossipedBlockChannel.class),
+            BlockLifecycleTracker.NOOP);
   }
 
   @Test
   public void onBlockProposed() {
-    // Should gossip new blocks received from event bus
+    // Should gossip new blocks proposed locally
     SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(1);
     Bytes serialized = gossipEncoding.encode(block);
-    eventBus.post(new ProposedBlockEvent(block));
+    blockGossipManager.onBlockProposed(block);
 
     verify(topicChannel).gossip(serialized);
   }
+
+  @Test
+  public void onBlockProposed_shouldNotGossipAfterShutdown() {
+    SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(1);
+    blockGossipManager.shutdown();
+    blockGossipManager.onBlockProposed(block);
+
+    verify(topicChannel, never()).gossip(any());
+  }
 }
@@ -22,7 +22,6 @@ import static tech.pegasys.teku.networking.eth2.gossip.topics.validation.Interna
 import static tech.pegasys.teku.networking.eth2.gossip.topics.validation.InternalValidationResult.IGNORE;
 import static tech.pegasys.teku.networking.eth2.gossip.topics.validation.InternalValidationResult.REJECT;
 
-import com.google.common.eventbus.EventBus;
 import io.libp2p.core.pubsub.ValidationResult;
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,14 +38,13 @@ import tech.pegasys.teku.storage.client.RecentChainData;
 
 public class AttesterSlashingTopicHandlerTest {
   private final DataStructureUtil dataStructureUtil = new DataStructureUtil();
-  private final EventBus eventBus = mock(EventBus.class);
 
   @SuppressWarnings("unchecked")
   private final GossipedOperationConsumer<AttesterSlashing> consumer =
       mock(GossipedOperationConsumer.class);
 
   private final GossipEncoding gossipEncoding = GossipEncoding.SSZ_SNAPPY;
-  private final RecentChainData recentChainData = MemoryOnlyRecentChainData.create(eventBus);
+  private final RecentChainData recentChainData = MemoryOnlyRecentChainData.create();
   private final BeaconChainUtil beaconChainUtil = BeaconChainUtil.create(5, recentChainData);
 
   private final AttesterSlashingValidator validator = mock(AttesterSlashingValidator.class);
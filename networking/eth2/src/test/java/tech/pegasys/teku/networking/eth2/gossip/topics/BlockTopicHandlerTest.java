@@ -19,7 +19,6 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.google.common.eventbus.EventBus;
 import com.google.common.primitives.UnsignedLong;
 import io.libp2p.core.pubsub.ValidationResult;
 import org.apache.tuweni.bytes.Bytes;
@@ -30,25 +29,30 @@ import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.datastructures.state.ForkInfo;
 import tech.pegasys.teku.datastructures.util.DataStructureUtil;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
-import tech.pegasys.teku.networking.eth2.gossip.events.GossipedBlockEvent;
+import tech.pegasys.teku.networking.eth2.gossip.events.GossipedBlockChannel;
 import tech.pegasys.teku.networking.eth2.gossip.topics.validation.BlockValidator;
 import tech.pegasys.teku.ssz.SSZTypes.Bytes4;
 import tech.pegasys.teku.statetransition.BeaconChainUtil;
+import tech.pegasys.teku.statetransition.blockimport.BlockLifecycleTracker;
 import tech.pegasys.teku.storage.client.MemoryOnlyRecentChainData;
 import tech.pegasys.teku.storage.client.RecentChainData;
 
 public class BlockTopicHandlerTest {
   private final DataStructureUtil dataStructureUtil = new DataStructureUtil();
-  private final EventBus eventBus = mock(EventBus.class);
+  private final GossipedBlockChannel gossipedBlockChannel = mock(GossipedBlockChannel.class);
   private final GossipEncoding gossipEncoding = GossipEncoding.SSZ_SNAPPY;
-  private final RecentChainData recentChainData = MemoryOnlyRecentChainData.create(eventBus);
+  private final RecentChainData recentChainData = MemoryOnlyRecentChainData.create();
   private final BlockValidator blockValidator =
       new BlockValidator(recentChainData, new StateTransition());
   private final BeaconChainUtil beaconChainUtil = BeaconChainUtil.create(2, recentChainData);
 
   private BlockTopicHandler topicHandler =
       new BlockTopicHandler(
-          gossipEncoding, dataStructureUtil.randomForkInfo(), blockValidator, eventBus);
+          gossipEncoding,
+          dataStructureUtil.randomForkInfo(),
+          blockValidator,
+          gossipedBlockChannel,
+          BlockLifecycleTracker.NOOP);
 
   @BeforeEach
   public void setup() {
@@ -64,7 +68,7 @@ public class BlockTopicHandlerTest {
 
     final ValidationResult result = topicHandler.handleMessage(serialized).join();
     assertThat(result).isEqualTo(ValidationResult.Valid);
-    verify(eventBus).post(new GossipedBlockEvent(block));
+    verify(gossipedBlockChannel).onGossipedBlock(block);
   }
 
   @Test
@@ -76,7 +80,7 @@ public class BlockTopicHandlerTest {
 
     final ValidationResult result = topicHandler.handleMessage(serialized).join();
     assertThat(result).isEqualTo(ValidationResult.Ignore);
-    verify(eventBus).post(new GossipedBlockEvent(block));
+    verify(gossipedBlockChannel).onGossipedBlock(block);
   }
 
   @Test
@@ -86,7 +90,7 @@ public class BlockTopicHandlerTest {
 
     final ValidationResult result = topicHandler.handleMessage(serialized).join();
     assertThat(result).isEqualTo(ValidationResult.Ignore);
-    verify(eventBus).post(new GossipedBlockEvent(block));
+    verify(gossipedBlockChannel).onGossipedBlock(block);
   }
 
   @Test
@@ -106,7 +110,7 @@ public class BlockTopicHandlerTest {
 
     final ValidationResult result = topicHandler.handleMessage(serialized).join();
     assertThat(result).isEqualTo(ValidationResult.Invalid);
-    verify(eventBus, never()).post(new GossipedBlockEvent(block));
+    verify(gossipedBlockChannel, never()).onGossipedBlock(block);
   }
 
   @Test
@@ -115,7 +119,12 @@ public class BlockTopicHandlerTest {
     final ForkInfo forkInfo = mock(ForkInfo.class);
     when(forkInfo.getForkDigest()).thenReturn(forkDigest);
     final BlockTopicHandler topicHandler =
-        new BlockTopicHandler(gossipEncoding, forkInfo, blockValidator, eventBus);
+        new BlockTopicHandler(
+            gossipEncoding,
+            forkInfo,
+            blockValidator,
+            gossipedBlockChannel,
+            BlockLifecycleTracker.NOOP);
     assertThat(topicHandler.getTopic()).isEqualTo("/eth2/11223344/beacon_block/ssz_snappy");
   }
 }
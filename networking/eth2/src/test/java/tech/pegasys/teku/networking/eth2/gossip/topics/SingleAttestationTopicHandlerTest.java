@@ -23,7 +23,6 @@ import static tech.pegasys.teku.networking.eth2.gossip.topics.validation.Interna
 import static tech.pegasys.teku.networking.eth2.gossip.topics.validation.InternalValidationResult.REJECT;
 import static tech.pegasys.teku.networking.eth2.gossip.topics.validation.InternalValidationResult.SAVE_FOR_FUTURE;
 
-import com.google.common.eventbus.EventBus;
 import io.libp2p.core.pubsub.ValidationResult;
 import java.util.List;
 import org.apache.tuweni.bytes.Bytes;
@@ -55,8 +54,7 @@ public class SingleAttestationTopicHandlerTest {
   private final GossipedOperationConsumer<ValidateableAttestation> gossipedAttestationConsumer =
       mock(GossipedOperationConsumer.class);
 
-  private final RecentChainData recentChainData =
-      MemoryOnlyRecentChainData.create(mock(EventBus.class));
+  private final RecentChainData recentChainData = MemoryOnlyRecentChainData.create();
   private final AttestationValidator attestationValidator = mock(AttestationValidator.class);
   private final SingleAttestationTopicHandler topicHandler =
       new tech.pegasys.teku.networking.eth2.gossip.topics.SingleAttestationTopicHandler(
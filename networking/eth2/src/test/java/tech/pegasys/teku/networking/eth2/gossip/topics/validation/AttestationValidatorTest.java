@@ -32,6 +32,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.bls.BLSKeyGenerator;
 import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.teku.bls.VerifiedSignatureCache;
 import tech.pegasys.teku.core.AttestationGenerator;
 import tech.pegasys.teku.core.ChainBuilder;
 import tech.pegasys.teku.datastructures.attestation.ValidateableAttestation;
@@ -79,7 +80,9 @@ class AttestationValidatorTest {
   private final AttestationGenerator attestationGenerator =
       new AttestationGenerator(chainBuilder.getValidatorKeys());
 
-  private final AttestationValidator validator = new AttestationValidator(recentChainData);
+  private final VerifiedSignatureCache verifiedSignatureCache = new VerifiedSignatureCache(100);
+  private final AttestationValidator validator =
+      new AttestationValidator(recentChainData, verifiedSignatureCache);
 
   @BeforeAll
   public static void init() {
@@ -103,6 +106,14 @@ class AttestationValidatorTest {
     assertThat(validate(attestation)).isEqualTo(ACCEPT);
   }
 
+  @Test
+  public void shouldRecordVerifiedSignatureForValidAttestation() {
+    final Attestation attestation =
+        attestationGenerator.validAttestation(recentChainData.getBestBlockAndState().orElseThrow());
+    assertThat(validate(attestation)).isEqualTo(ACCEPT);
+    assertThat(verifiedSignatureCache.size()).isEqualTo(1);
+  }
+
   @Test
   public void shouldRejectAttestationWithIncorrectAggregateBitsSize() {
     final Attestation attestation =
@@ -22,7 +22,6 @@ import static tech.pegasys.teku.networking.eth2.gossip.topics.validation.Interna
 import static tech.pegasys.teku.networking.eth2.gossip.topics.validation.InternalValidationResult.IGNORE;
 import static tech.pegasys.teku.networking.eth2.gossip.topics.validation.InternalValidationResult.REJECT;
 
-import com.google.common.eventbus.EventBus;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -50,7 +49,7 @@ public class ProposerSlashingValidatorTest {
 
   @BeforeEach
   void beforeEach() {
-    recentChainData = MemoryOnlyRecentChainData.create(new EventBus());
+    recentChainData = MemoryOnlyRecentChainData.create();
     beaconChainUtil = BeaconChainUtil.create(recentChainData, VALIDATOR_KEYS, true);
     stateTransitionValidator = mock(ProposerSlashingStateTransitionValidator.class);
     signatureVerifier = mock(ProposerSlashingSignatureVerifier.class);
@@ -70,7 +70,6 @@ public class Eth2PeerManagerTest {
       new Eth2PeerManager(
           asyncRunner,
           combinedChainDataClient,
-          recentChainData,
           new NoOpMetricsSystem(),
           eth2PeerFactory,
           peerValidatorFactory,
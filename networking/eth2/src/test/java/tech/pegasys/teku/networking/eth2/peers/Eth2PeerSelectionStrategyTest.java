@@ -24,7 +24,9 @@ import com.google.common.primitives.Ints;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes;
@@ -42,6 +44,7 @@ import tech.pegasys.teku.networking.p2p.discovery.DiscoveryPeer;
 import tech.pegasys.teku.networking.p2p.mock.MockNodeId;
 import tech.pegasys.teku.networking.p2p.network.P2PNetwork;
 import tech.pegasys.teku.networking.p2p.network.PeerAddress;
+import tech.pegasys.teku.networking.p2p.peer.NodeId;
 import tech.pegasys.teku.networking.p2p.peer.Peer;
 import tech.pegasys.teku.ssz.SSZTypes.Bitvector;
 
@@ -66,6 +69,7 @@ class Eth2PeerSelectionStrategyTest {
   private final PeerSubnetSubscriptions.Factory peerSubnetSubscriptionsFactory =
       network -> peerSubnetSubscriptions;
   private final ReputationManager reputationManager = mock(ReputationManager.class);
+  private final Map<NodeId, Integer> performanceScores = new HashMap<>();
 
   private Shuffler shuffler = list -> {};
 
@@ -205,6 +209,25 @@ class Eth2PeerSelectionStrategyTest {
         .containsExactlyInAnyOrder(peer1, peer3);
   }
 
+  @Test
+  void selectPeersToDisconnect_shouldDisconnectSlowPeersFirst() {
+    final Eth2PeerSelectionStrategy strategy = createStrategy(0, 1, 0);
+    final StubPeer peer1 = new StubPeer(new MockNodeId(1));
+    final StubPeer peer2 = new StubPeer(new MockNodeId(2));
+    final StubPeer peer3 = new StubPeer(new MockNodeId(3));
+    peerScorer.setScore(peer1.getId(), 100);
+    peerScorer.setScore(peer2.getId(), 200);
+    peerScorer.setScore(peer3.getId(), 150);
+    performanceScores.put(peer1.getId(), 300);
+    performanceScores.put(peer2.getId(), -200);
+
+    when(network.getPeerCount()).thenReturn(3);
+    when(network.streamPeers()).thenReturn(Stream.of(peer1, peer2, peer3));
+
+    assertThat(strategy.selectPeersToDisconnect(network, peerPools))
+        .containsExactlyInAnyOrder(peer2, peer3);
+  }
+
   @Test
   void selectPeersToDisconnect_shouldNotDisconnectFromStaticPeers() {
     final Eth2PeerSelectionStrategy strategy = createStrategy(0, 0, 0);
@@ -292,7 +315,8 @@ class Eth2PeerSelectionStrategyTest {
         new TargetPeerRange(peerCountLowerBound, peerCountUpperBound, minimumRandomPeers),
         peerSubnetSubscriptionsFactory,
         reputationManager,
-        list -> shuffler.shuffle(list));
+        list -> shuffler.shuffle(list),
+        peerId -> performanceScores.getOrDefault(peerId, 0));
   }
 
   private void withShuffleOrder(final Object... values) {
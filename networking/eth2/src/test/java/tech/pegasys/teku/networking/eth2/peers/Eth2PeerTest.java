@@ -0,0 +1,238 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.peers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.primitives.UnsignedLong;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.datastructures.networking.libp2p.rpc.BeaconBlocksByRangeRequestMessage;
+import tech.pegasys.teku.datastructures.networking.libp2p.rpc.BeaconBlocksByRootRequestMessage;
+import tech.pegasys.teku.datastructures.networking.libp2p.rpc.RpcRequest;
+import tech.pegasys.teku.datastructures.util.DataStructureUtil;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.networking.eth2.rpc.beaconchain.BeaconChainMethods;
+import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.MetadataMessagesFactory;
+import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.StatusMessageFactory;
+import tech.pegasys.teku.networking.eth2.rpc.core.Eth2OutgoingRequestHandler;
+import tech.pegasys.teku.networking.eth2.rpc.core.Eth2RpcMethod;
+import tech.pegasys.teku.networking.eth2.rpc.core.ResponseStreamImpl;
+import tech.pegasys.teku.networking.p2p.peer.Peer;
+import tech.pegasys.teku.networking.p2p.rpc.RpcStream;
+import tech.pegasys.teku.networking.p2p.rpc.StreamTimeoutException;
+import tech.pegasys.teku.util.time.StubTimeProvider;
+
+class Eth2PeerTest {
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil();
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInMillis(10_000);
+  private final Peer delegate = mock(Peer.class);
+  private final BeaconChainMethods rpcMethods = mock(BeaconChainMethods.class);
+
+  @SuppressWarnings("unchecked")
+  private final Eth2RpcMethod<BeaconBlocksByRangeRequestMessage, SignedBeaconBlock> blocksByRange =
+      mock(Eth2RpcMethod.class);
+
+  @SuppressWarnings("unchecked")
+  private final Eth2RpcMethod<BeaconBlocksByRootRequestMessage, SignedBeaconBlock> blocksByRoot =
+      mock(Eth2RpcMethod.class);
+
+  private final Eth2Peer peer =
+      new Eth2Peer(
+          delegate,
+          rpcMethods,
+          mock(StatusMessageFactory.class),
+          mock(MetadataMessagesFactory.class),
+          timeProvider);
+
+  private final PeerPerformance performance = peer.getPerformance();
+  private final int initialScore = performance.getScore();
+
+  @BeforeEach
+  void setUp() {
+    when(rpcMethods.beaconBlocksByRange()).thenReturn(blocksByRange);
+    when(rpcMethods.beaconBlocksByRoot()).thenReturn(blocksByRoot);
+    when(delegate.sendRequest(any(), any(), any()))
+        .thenReturn(SafeFuture.completedFuture(mock(RpcStream.class)));
+  }
+
+  @Test
+  void requestBlocksByRange_shouldRecordLatencyAndThroughputOnSuccess() {
+    final ResponseStreamImpl<SignedBeaconBlock> response = expectRequest(blocksByRange);
+    final SafeFuture<Void> result = requestBlocksByRange();
+
+    timeProvider.advanceTimeByMillis(100);
+    response.respond(dataStructureUtil.randomSignedBeaconBlock(1));
+    timeProvider.advanceTimeByMillis(400);
+    response.respond(dataStructureUtil.randomSignedBeaconBlock(2));
+    response.completeSuccessfully();
+
+    assertThat(result).isCompleted();
+    // Latency is measured to the first block, throughput over the whole request
+    assertThat(performance.getAverageLatencyMillis()).isEqualTo(100);
+    assertThat(performance.getAverageBlocksPerSecond()).isEqualTo(4);
+    assertThat(performance.getTimeoutCount()).isZero();
+    assertThat(performance.getScore()).isGreaterThan(initialScore);
+  }
+
+  @Test
+  void requestBlocksByRange_shouldExcludeTimeSpentProcessingBlocksFromThroughput() {
+    final ResponseStreamImpl<SignedBeaconBlock> response = expectRequest(blocksByRange);
+    final SafeFuture<Void> importResult = new SafeFuture<>();
+    final SafeFuture<Void> result =
+        peer.requestBlocksByRange(
+            UnsignedLong.ZERO, UnsignedLong.valueOf(10), UnsignedLong.ONE, block -> importResult);
+
+    timeProvider.advanceTimeByMillis(100);
+    response.respond(dataStructureUtil.randomSignedBeaconBlock(1));
+    // Importing the block is slow but that isn't the peer's fault
+    timeProvider.advanceTimeByMillis(2_000);
+    importResult.complete(null);
+    timeProvider.advanceTimeByMillis(400);
+    response.respond(dataStructureUtil.randomSignedBeaconBlock(2));
+    response.completeSuccessfully();
+
+    assertThat(result).isCompleted();
+    assertThat(performance.getAverageLatencyMillis()).isEqualTo(100);
+    assertThat(performance.getAverageBlocksPerSecond()).isEqualTo(4);
+  }
+
+  @Test
+  void requestBlocksByRange_shouldUpdateMovingAveragesWithEachRequest() {
+    final ResponseStreamImpl<SignedBeaconBlock> firstResponse = expectRequest(blocksByRange);
+    requestBlocksByRange();
+    timeProvider.advanceTimeByMillis(100);
+    firstResponse.respond(dataStructureUtil.randomSignedBeaconBlock(1));
+    timeProvider.advanceTimeByMillis(400);
+    firstResponse.respond(dataStructureUtil.randomSignedBeaconBlock(2));
+    firstResponse.completeSuccessfully();
+
+    final ResponseStreamImpl<SignedBeaconBlock> secondResponse = expectRequest(blocksByRange);
+    requestBlocksByRange();
+    timeProvider.advanceTimeByMillis(200);
+    secondResponse.respond(dataStructureUtil.randomSignedBeaconBlock(3));
+    secondResponse.completeSuccessfully();
+
+    // Each new sample moves the average 20% of the way towards it
+    assertThat(performance.getAverageLatencyMillis()).isCloseTo(120, within(0.001));
+    assertThat(performance.getAverageBlocksPerSecond()).isCloseTo(4.2, within(0.001));
+  }
+
+  @Test
+  void requestBlocksByRange_shouldUseCompletionTimeAsLatencyWhenNoBlocksReturned() {
+    final ResponseStreamImpl<SignedBeaconBlock> response = expectRequest(blocksByRange);
+    requestBlocksByRange();
+
+    timeProvider.advanceTimeByMillis(300);
+    response.completeSuccessfully();
+
+    assertThat(performance.getAverageLatencyMillis()).isEqualTo(300);
+    assertThat(performance.getAverageBlocksPerSecond()).isZero();
+    assertThat(performance.getTimeoutCount()).isZero();
+  }
+
+  @Test
+  void requestBlocksByRange_shouldRecordTimeout() {
+    final ResponseStreamImpl<SignedBeaconBlock> response = expectRequest(blocksByRange);
+    final SafeFuture<Void> result = requestBlocksByRange();
+
+    timeProvider.advanceTimeByMillis(10_000);
+    response.completeWithError(new StreamTimeoutException("Timed out"));
+
+    assertThat(result).isCompletedExceptionally();
+    assertThat(performance.getTimeoutCount()).isEqualTo(1);
+    assertThat(performance.getAverageLatencyMillis()).isZero();
+    assertThat(performance.getAverageBlocksPerSecond()).isZero();
+    assertThat(performance.getScore()).isLessThan(initialScore);
+  }
+
+  @Test
+  void requestBlocksByRange_shouldNotRecordOtherErrors() {
+    final ResponseStreamImpl<SignedBeaconBlock> response = expectRequest(blocksByRange);
+    final SafeFuture<Void> result = requestBlocksByRange();
+
+    timeProvider.advanceTimeByMillis(100);
+    response.completeWithError(new IllegalStateException("Invalid response"));
+
+    assertThat(result).isCompletedExceptionally();
+    assertThat(performance.getTimeoutCount()).isZero();
+    assertThat(performance.getAverageLatencyMillis()).isZero();
+    assertThat(performance.getScore()).isEqualTo(initialScore);
+  }
+
+  @Test
+  void requestBlockByRoot_shouldRecordLatencyAndThroughputOnSuccess() {
+    final ResponseStreamImpl<SignedBeaconBlock> response = expectRequest(blocksByRoot);
+    final SafeFuture<SignedBeaconBlock> result = peer.requestBlockByRoot(Bytes32.ZERO);
+
+    timeProvider.advanceTimeByMillis(250);
+    response.respond(dataStructureUtil.randomSignedBeaconBlock(1));
+    response.completeSuccessfully();
+
+    assertThat(result).isCompleted();
+    assertThat(performance.getAverageLatencyMillis()).isEqualTo(250);
+    assertThat(performance.getAverageBlocksPerSecond()).isEqualTo(4);
+  }
+
+  @Test
+  void requestBlockByRoot_shouldRecordTimeout() {
+    final ResponseStreamImpl<SignedBeaconBlock> response = expectRequest(blocksByRoot);
+    final SafeFuture<SignedBeaconBlock> result = peer.requestBlockByRoot(Bytes32.ZERO);
+
+    timeProvider.advanceTimeByMillis(10_000);
+    response.completeWithError(new StreamTimeoutException("Timed out"));
+
+    assertThat(result).isCompletedExceptionally();
+    assertThat(performance.getTimeoutCount()).isEqualTo(1);
+    assertThat(performance.getAverageLatencyMillis()).isZero();
+  }
+
+  @Test
+  void requestBlockByRoot_shouldNotRecordOtherErrors() {
+    final ResponseStreamImpl<SignedBeaconBlock> response = expectRequest(blocksByRoot);
+    final SafeFuture<SignedBeaconBlock> result = peer.requestBlockByRoot(Bytes32.ZERO);
+
+    response.completeWithError(new IllegalStateException("Invalid response"));
+
+    assertThat(result).isCompletedExceptionally();
+    assertThat(performance.getTimeoutCount()).isZero();
+    assertThat(performance.getScore()).isEqualTo(initialScore);
+  }
+
+  private SafeFuture<Void> requestBlocksByRange() {
+    return peer.requestBlocksByRange(
+        UnsignedLong.ZERO,
+        UnsignedLong.valueOf(10),
+        UnsignedLong.ONE,
+        block -> SafeFuture.COMPLETE);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <I extends RpcRequest> ResponseStreamImpl<SignedBeaconBlock> expectRequest(
+      final Eth2RpcMethod<I, SignedBeaconBlock> method) {
+    final ResponseStreamImpl<SignedBeaconBlock> responseStream = new ResponseStreamImpl<>();
+    final Eth2OutgoingRequestHandler<I, SignedBeaconBlock> handler =
+        mock(Eth2OutgoingRequestHandler.class);
+    when(handler.getResponseStream()).thenReturn(responseStream);
+    when(method.createOutgoingRequestHandler(anyInt())).thenReturn(handler);
+    return responseStream;
+  }
+}
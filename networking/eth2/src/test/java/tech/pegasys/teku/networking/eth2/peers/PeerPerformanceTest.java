@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.peers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class PeerPerformanceTest {
+
+  private final PeerPerformance performance = new PeerPerformance();
+
+  @Test
+  void shouldScoreFastPeerAboveUnknownPeer() {
+    final int initialScore = performance.getScore();
+    performance.onRequestCompleted(20, 1000, 64);
+
+    assertThat(performance.getScore()).isGreaterThan(initialScore);
+    assertThat(performance.getAverageLatencyMillis()).isEqualTo(20);
+    assertThat(performance.getAverageBlocksPerSecond()).isEqualTo(64);
+  }
+
+  @Test
+  void shouldScoreFastPeerAboveSlowPeer() {
+    final PeerPerformance slowPerformance = new PeerPerformance();
+    performance.onRequestCompleted(50, 500, 64);
+    slowPerformance.onRequestCompleted(1500, 8000, 64);
+
+    assertThat(performance.getScore()).isGreaterThan(slowPerformance.getScore());
+  }
+
+  @Test
+  void shouldWeightRecentRequestsMoreHeavily() {
+    performance.onRequestCompleted(1000, 1000, 1);
+    performance.onRequestCompleted(0, 1000, 1);
+
+    assertThat(performance.getAverageLatencyMillis()).isEqualTo(800);
+  }
+
+  @Test
+  void shouldPenaliseTimeouts() {
+    performance.onRequestCompleted(50, 500, 64);
+    final int scoreBeforeTimeout = performance.getScore();
+
+    performance.onRequestTimedOut();
+
+    assertThat(performance.getTimeoutCount()).isEqualTo(1);
+    assertThat(performance.getScore()).isLessThan(scoreBeforeTimeout);
+  }
+
+  @Test
+  void shouldPenaliseExcessiveThrottling() {
+    final int initialScore = performance.getScore();
+
+    performance.onExcessiveThrottling();
+
+    assertThat(performance.getExcessiveThrottlingCount()).isEqualTo(1);
+    assertThat(performance.getScore()).isLessThan(initialScore);
+  }
+
+  @Test
+  void shouldNotUpdateThroughputWhenNoBlocksReturned() {
+    performance.onRequestCompleted(50, 500, 0);
+
+    assertThat(performance.getAverageBlocksPerSecond()).isZero();
+  }
+}
@@ -100,7 +100,6 @@ public class BeaconChainMethodsTest {
         asyncRunner,
         peerLookup,
         combinedChainDataClient,
-        recentChainData,
         metricsSystem,
         statusMessageFactory,
         metadataMessagesFactory,
@@ -60,7 +60,6 @@ abstract class AbstractRequestHandlerTest<T extends RpcRequestHandler> {
             asyncRunner,
             peerLookup,
             combinedChainDataClient,
-            recentChainData,
             new NoOpMetricsSystem(),
             new StatusMessageFactory(recentChainData),
             new MetadataMessagesFactory(),
@@ -18,8 +18,8 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.events.TestExceptionHandler.TEST_EXCEPTION_HANDLER;
 
-import com.google.common.eventbus.EventBus;
 import io.libp2p.core.crypto.KEY_TYPE;
 import io.libp2p.core.crypto.KeyKt;
 import java.net.BindException;
@@ -37,12 +37,14 @@ import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import tech.pegasys.teku.bls.VerifiedSignatureCache;
 import tech.pegasys.teku.datastructures.attestation.ProcessedAttestationListener;
 import tech.pegasys.teku.datastructures.attestation.ValidateableAttestation;
 import tech.pegasys.teku.datastructures.operations.Attestation;
 import tech.pegasys.teku.datastructures.operations.AttesterSlashing;
 import tech.pegasys.teku.datastructures.operations.ProposerSlashing;
 import tech.pegasys.teku.datastructures.operations.SignedVoluntaryExit;
+import tech.pegasys.teku.events.EventChannels;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.DelayedExecutorAsyncRunner;
 import tech.pegasys.teku.infrastructure.async.Waiter;
@@ -52,6 +54,7 @@ import tech.pegasys.teku.networking.eth2.gossip.subnets.PeerSubnetSubscriptions;
 import tech.pegasys.teku.networking.eth2.gossip.topics.GossipedOperationConsumer;
 import tech.pegasys.teku.networking.eth2.gossip.topics.ProcessedAttestationSubscriptionProvider;
 import tech.pegasys.teku.networking.eth2.gossip.topics.VerifiedBlockAttestationsSubscriptionProvider;
+import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
 import tech.pegasys.teku.networking.eth2.peers.Eth2PeerManager;
 import tech.pegasys.teku.networking.eth2.peers.Eth2PeerSelectionStrategy;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
@@ -66,6 +69,7 @@ import tech.pegasys.teku.networking.p2p.network.PeerHandler;
 import tech.pegasys.teku.networking.p2p.network.WireLogsConfig;
 import tech.pegasys.teku.networking.p2p.rpc.RpcMethod;
 import tech.pegasys.teku.statetransition.BeaconChainUtil;
+import tech.pegasys.teku.statetransition.blockimport.BlockLifecycleTracker;
 import tech.pegasys.teku.statetransition.blockimport.VerifiedBlockOperationsListener;
 import tech.pegasys.teku.storage.api.StorageQueryChannel;
 import tech.pegasys.teku.storage.api.StubStorageQueryChannel;
@@ -74,6 +78,7 @@ import tech.pegasys.teku.storage.client.RecentChainData;
 import tech.pegasys.teku.util.config.Constants;
 import tech.pegasys.teku.util.events.Subscribers;
 import tech.pegasys.teku.util.time.StubTimeProvider;
+import tech.pegasys.teku.util.time.SystemTimeProvider;
 
 public class Eth2NetworkFactory {
 
@@ -96,7 +101,7 @@ public class Eth2NetworkFactory {
 
     protected List<Eth2Network> peers = new ArrayList<>();
     protected AsyncRunner asyncRunner;
-    protected EventBus eventBus;
+    protected EventChannels eventChannels;
     protected RecentChainData recentChainData;
     protected GossipedOperationConsumer<ValidateableAttestation> gossipedAttestationConsumer;
     protected GossipedOperationConsumer<AttesterSlashing> gossipedAttesterSlashingConsumer;
@@ -162,7 +167,8 @@ public class Eth2NetworkFactory {
                 rpcEncoding,
                 eth2RpcPingInterval,
                 eth2RpcOutstandingPingThreshold,
-                eth2StatusUpdateInterval);
+                eth2StatusUpdateInterval,
+                new SystemTimeProvider());
 
         List<RpcMethod> rpcMethods =
             eth2PeerManager.getBeaconChainMethods().all().stream()
@@ -195,14 +201,19 @@ public class Eth2NetworkFactory {
                     gossipNetwork ->
                         PeerSubnetSubscriptions.create(gossipNetwork, subnetTopicProvider),
                     reputationManager,
-                    Collections::shuffle),
+                    Collections::shuffle,
+                    peerId ->
+                        eth2PeerManager
+                            .getPeer(peerId)
+                            .map(Eth2Peer::getPerformanceScore)
+                            .orElse(0)),
                 config);
 
         return new ActiveEth2Network(
             metricsSystem,
             network,
             eth2PeerManager,
-            eventBus,
+            eventChannels,
             recentChainData,
             gossipEncoding,
             attestationSubnetService,
@@ -211,7 +222,9 @@ public class Eth2NetworkFactory {
             gossipedProposerSlashingConsumer,
             gossipedVoluntaryExitConsumer,
             processedAttestationSubscriptionProvider,
-            verifiedBlockAttestationsSubscriptionProvider);
+            verifiedBlockAttestationsSubscriptionProvider,
+            new VerifiedSignatureCache(VerifiedSignatureCache.DEFAULT_MAX_SIZE),
+            BlockLifecycleTracker.NOOP);
       }
     }
 
@@ -237,8 +250,9 @@ public class Eth2NetworkFactory {
     }
 
     private void setDefaults() {
-      if (eventBus == null) {
-        eventBus = new EventBus();
+      if (eventChannels == null) {
+        eventChannels =
+            EventChannels.createSyncChannels(TEST_EXCEPTION_HANDLER, new NoOpMetricsSystem());
       }
       if (asyncRunner == null) {
         asyncRunner = DelayedExecutorAsyncRunner.create();
@@ -254,7 +268,7 @@ public class Eth2NetworkFactory {
             Eth2NetworkBuilder.DEFAULT_ETH2_RPC_OUTSTANDING_PING_THRESHOLD;
       }
       if (recentChainData == null) {
-        recentChainData = MemoryOnlyRecentChainData.create(eventBus);
+        recentChainData = MemoryOnlyRecentChainData.create();
         BeaconChainUtil.create(0, recentChainData).initializeStorage();
       }
       if (processedAttestationSubscriptionProvider == null) {
@@ -297,9 +311,9 @@ public class Eth2NetworkFactory {
       return this;
     }
 
-    public Eth2P2PNetworkBuilder eventBus(final EventBus eventBus) {
-      checkNotNull(eventBus);
-      this.eventBus = eventBus;
+    public Eth2P2PNetworkBuilder eventChannels(final EventChannels eventChannels) {
+      checkNotNull(eventChannels);
+      this.eventChannels = eventChannels;
       return this;
     }
 
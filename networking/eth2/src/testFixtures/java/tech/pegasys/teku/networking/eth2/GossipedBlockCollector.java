@@ -13,23 +13,22 @@
 
 package tech.pegasys.teku.networking.eth2;
 
-import com.google.common.eventbus.EventBus;
-import com.google.common.eventbus.Subscribe;
 import java.util.Collection;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
-import tech.pegasys.teku.networking.eth2.gossip.events.GossipedBlockEvent;
+import tech.pegasys.teku.events.EventChannels;
+import tech.pegasys.teku.networking.eth2.gossip.events.GossipedBlockChannel;
 
-public class GossipedBlockCollector {
+public class GossipedBlockCollector implements GossipedBlockChannel {
   private final Collection<SignedBeaconBlock> blocks = new ConcurrentLinkedQueue<>();
 
-  public GossipedBlockCollector(final EventBus eventBus) {
-    eventBus.register(this);
+  public GossipedBlockCollector(final EventChannels eventChannels) {
+    eventChannels.subscribe(GossipedBlockChannel.class, this);
   }
 
-  @Subscribe
-  public void onBeaconBlock(final GossipedBlockEvent event) {
-    blocks.add(event.getBlock());
+  @Override
+  public void onGossipedBlock(final SignedBeaconBlock block) {
+    blocks.add(block);
   }
 
   public Collection<SignedBeaconBlock> getBlocks() {
@@ -13,10 +13,13 @@
 
 package tech.pegasys.teku.networking.eth2;
 
-import com.google.common.eventbus.EventBus;
+import static tech.pegasys.teku.events.TestExceptionHandler.TEST_EXCEPTION_HANDLER;
+
 import java.util.List;
 import java.util.function.Consumer;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.teku.events.EventChannels;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.networking.eth2.Eth2NetworkFactory.Eth2P2PNetworkBuilder;
 import tech.pegasys.teku.networking.p2p.network.PeerAddress;
@@ -26,17 +29,17 @@ import tech.pegasys.teku.storage.client.MemoryOnlyRecentChainData;
 import tech.pegasys.teku.storage.client.RecentChainData;
 
 public class NodeManager {
-  private final EventBus eventBus;
+  private final EventChannels eventChannels;
   private final RecentChainData storageClient;
   private final BeaconChainUtil chainUtil;
   private final Eth2Network eth2Network;
 
   private NodeManager(
-      final EventBus eventBus,
+      final EventChannels eventChannels,
       final RecentChainData storageClient,
       final BeaconChainUtil chainUtil,
       final Eth2Network eth2Network) {
-    this.eventBus = eventBus;
+    this.eventChannels = eventChannels;
     this.storageClient = storageClient;
     this.chainUtil = chainUtil;
     this.eth2Network = eth2Network;
@@ -52,19 +55,20 @@ public class NodeManager {
       final List<BLSKeyPair> validatorKeys,
       Consumer<Eth2P2PNetworkBuilder> configureNetwork)
       throws Exception {
-    final EventBus eventBus = new EventBus();
-    final RecentChainData storageClient = MemoryOnlyRecentChainData.create(eventBus);
+    final EventChannels eventChannels =
+        EventChannels.createSyncChannels(TEST_EXCEPTION_HANDLER, new NoOpMetricsSystem());
+    final RecentChainData storageClient = MemoryOnlyRecentChainData.create();
 
     final BeaconChainUtil chainUtil = BeaconChainUtil.create(storageClient, validatorKeys);
     chainUtil.initializeStorage();
 
     final Eth2P2PNetworkBuilder networkBuilder =
-        networkFactory.builder().eventBus(eventBus).recentChainData(storageClient);
+        networkFactory.builder().eventChannels(eventChannels).recentChainData(storageClient);
 
     configureNetwork.accept(networkBuilder);
 
     final Eth2Network eth2Network = networkBuilder.startNetwork();
-    return new NodeManager(eventBus, storageClient, chainUtil, eth2Network);
+    return new NodeManager(eventChannels, storageClient, chainUtil, eth2Network);
   }
 
   public SafeFuture<Peer> connect(final NodeManager peer) {
@@ -72,8 +76,8 @@ public class NodeManager {
     return eth2Network.connect(peerAddress);
   }
 
-  public EventBus eventBus() {
-    return eventBus;
+  public EventChannels eventChannels() {
+    return eventChannels;
   }
 
   public BeaconChainUtil chainUtil() {
@@ -74,6 +74,7 @@ import tech.pegasys.teku.networking.p2p.peer.Peer;
 import tech.pegasys.teku.networking.p2p.peer.PeerConnectedSubscriber;
 import tech.pegasys.teku.networking.p2p.rpc.RpcMethod;
 import tech.pegasys.teku.util.cli.VersionProvider;
+import tech.pegasys.teku.util.time.SystemTimeProvider;
 
 public class LibP2PNetwork implements P2PNetwork<Peer> {
 
@@ -112,7 +113,8 @@ public class LibP2PNetwork implements P2PNetwork<Peer> {
     // Setup gossip
     gossip = createGossip();
     final PubsubPublisherApi publisher = gossip.createPublisher(privKey, new Random().nextLong());
-    gossipNetwork = new LibP2PGossipNetwork(gossip, publisher);
+    gossipNetwork =
+        new LibP2PGossipNetwork(metricsSystem, new SystemTimeProvider(), gossip, publisher);
 
     // Setup rpc methods
     rpcMethods.forEach(method -> rpcHandlers.put(method, new RpcHandler(asyncRunner, method)));
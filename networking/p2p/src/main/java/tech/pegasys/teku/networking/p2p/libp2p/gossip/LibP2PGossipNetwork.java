@@ -24,24 +24,45 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.metrics.TekuMetricCategory;
 import tech.pegasys.teku.networking.p2p.gossip.TopicChannel;
 import tech.pegasys.teku.networking.p2p.gossip.TopicHandler;
 import tech.pegasys.teku.networking.p2p.libp2p.LibP2PNodeId;
 import tech.pegasys.teku.networking.p2p.peer.NodeId;
+import tech.pegasys.teku.util.config.Constants;
+import tech.pegasys.teku.util.time.TimeProvider;
 
 public class LibP2PGossipNetwork implements tech.pegasys.teku.networking.p2p.gossip.GossipNetwork {
   private static final Logger LOG = LogManager.getLogger();
 
   private final Gossip gossip;
   private final PubsubPublisherApi publisher;
+  private final TimeProvider timeProvider;
+  private final LabelledMetric<Counter> messageCounter;
 
-  public LibP2PGossipNetwork(final Gossip gossip, final PubsubPublisherApi publisher) {
+  public LibP2PGossipNetwork(
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider,
+      final Gossip gossip,
+      final PubsubPublisherApi publisher) {
     this.gossip = gossip;
     this.publisher = publisher;
+    this.timeProvider = timeProvider;
+    this.messageCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.LIBP2P,
+            "gossip_messages_total",
+            "Counter of gossip messages received or published, by topic and whether they were new or duplicates",
+            "topic",
+            "result");
   }
 
   @Override
@@ -54,11 +75,24 @@ public class LibP2PGossipNetwork implements tech.pegasys.teku.networking.p2p.gos
   public TopicChannel subscribe(final String topic, final TopicHandler topicHandler) {
     LOG.trace("Subscribe to topic: {}", topic);
     final Topic libP2PTopic = new Topic(topic);
-    final GossipHandler gossipHandler = new GossipHandler(libP2PTopic, publisher, topicHandler);
+    final GossipHandler gossipHandler =
+        new GossipHandler(
+            libP2PTopic,
+            publisher,
+            topicHandler,
+            timeProvider,
+            getSeenMessageExpiryMillis(),
+            messageCounter);
     PubsubSubscription subscription = gossip.subscribe(gossipHandler, libP2PTopic);
     return new LibP2PTopicChannel(gossipHandler, subscription);
   }
 
+  private long getSeenMessageExpiryMillis() {
+    // Messages older than the attestation propagation range are no longer valid to forward
+    return TimeUnit.SECONDS.toMillis(
+        Constants.ATTESTATION_PROPAGATION_SLOT_RANGE.longValue() * Constants.SECONDS_PER_SLOT);
+  }
+
   @Override
   public Map<String, Collection<NodeId>> getSubscribersByTopic() {
     Map<PeerId, Set<Topic>> peerTopics = gossip.getPeerTopics().join();
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.p2p.libp2p.gossip;
+
+import io.netty.buffer.ByteBuf;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.util.time.TimeProvider;
+
+/**
+ * Tracks the gossip messages seen within a time window, keyed by a SHA-256 fingerprint of the
+ * message payload.
+ *
+ * <p>Entries expire once they are older than the window rather than when a fixed number of newer
+ * messages have arrived, so bursts of messages don't evict entries that are still relevant. The
+ * cache is lock-free and expired entries are pruned at most once per half window by whichever
+ * thread first notices it is due.
+ */
+class SeenMessageCache {
+  private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+
+  private final Map<Bytes32, Long> seenTimesByFingerprint = new ConcurrentHashMap<>();
+  private final TimeProvider timeProvider;
+  private final long expiryMillis;
+  private final AtomicLong nextPruneTime = new AtomicLong(0);
+
+  SeenMessageCache(final TimeProvider timeProvider, final long expiryMillis) {
+    this.timeProvider = timeProvider;
+    this.expiryMillis = expiryMillis;
+  }
+
+  /**
+   * Records the fingerprint as seen.
+   *
+   * @return true if the fingerprint had not been seen within the expiry window
+   */
+  public boolean markSeen(final Bytes32 fingerprint) {
+    final long now = timeProvider.getTimeInMillis().longValue();
+    pruneIfRequired(now);
+    final Long previousSeenTime = seenTimesByFingerprint.putIfAbsent(fingerprint, now);
+    if (previousSeenTime == null) {
+      return true;
+    }
+    // The entry may have expired without being pruned yet
+    return now - previousSeenTime >= expiryMillis
+        && seenTimesByFingerprint.replace(fingerprint, previousSeenTime, now);
+  }
+
+  public int size() {
+    return seenTimesByFingerprint.size();
+  }
+
+  private void pruneIfRequired(final long now) {
+    final long pruneTime = nextPruneTime.get();
+    if (now < pruneTime || !nextPruneTime.compareAndSet(pruneTime, now + expiryMillis / 2)) {
+      return;
+    }
+    final long cutoff = now - expiryMillis;
+    seenTimesByFingerprint.values().removeIf(seenTime -> seenTime <= cutoff);
+  }
+
+  /** Calculates the fingerprint of the readable bytes in {@code data} without copying them. */
+  public static Bytes32 fingerprint(final ByteBuf data) {
+    final MessageDigest digest = createDigest();
+    if (data.nioBufferCount() < 0) {
+      // Buffer can't be exposed as NIO buffers so fall back to copying
+      final byte[] bytes = new byte[data.readableBytes()];
+      data.getBytes(data.readerIndex(), bytes);
+      digest.update(bytes);
+    } else {
+      for (ByteBuffer buffer : data.nioBuffers()) {
+        digest.update(buffer);
+      }
+    }
+    return Bytes32.wrap(digest.digest());
+  }
+
+  public static Bytes32 fingerprint(final Bytes data) {
+    final MessageDigest digest = createDigest();
+    digest.update(data.toArrayUnsafe());
+    return Bytes32.wrap(digest.digest());
+  }
+
+  private static MessageDigest createDigest() {
+    try {
+      return MessageDigest.getInstance(FINGERPRINT_ALGORITHM);
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(FINGERPRINT_ALGORITHM + " is not available", e);
+    }
+  }
+}
@@ -17,6 +17,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.util.config.Constants.GOSSIP_MAX_SIZE;
@@ -30,14 +31,21 @@ import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.metrics.StubCounter;
 import tech.pegasys.teku.network.p2p.jvmlibp2p.MockMessageApi;
 import tech.pegasys.teku.networking.p2p.gossip.TopicHandler;
+import tech.pegasys.teku.util.time.StubTimeProvider;
 
 public class GossipHandlerTest {
+  private static final long EXPIRY_MILLIS = 10_000;
   private final Topic topic = new Topic("Testing");
   private final PubsubPublisherApi publisher = mock(PubsubPublisherApi.class);
   private final TopicHandler topicHandler = mock(TopicHandler.class);
-  private final GossipHandler gossipHandler = new GossipHandler(topic, publisher, topicHandler);
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(1000);
+  private final StubCounter messageCounter = new StubCounter();
+  private final GossipHandler gossipHandler =
+      new GossipHandler(
+          topic, publisher, topicHandler, timeProvider, EXPIRY_MILLIS, messageCounter);
 
   @BeforeEach
   public void setup() {
@@ -89,6 +97,35 @@ public class GossipHandlerTest {
     verify(topicHandler).handleMessage(any());
   }
 
+  @Test
+  @SuppressWarnings("FutureReturnValueIgnored")
+  public void apply_duplicateAfterExpiry() {
+    final Bytes data = Bytes.fromHexString("0x01");
+    final MockMessageApi message = new MockMessageApi(data, topic);
+
+    gossipHandler.apply(message);
+    timeProvider.advanceTimeByMillis(EXPIRY_MILLIS);
+    final SafeFuture<ValidationResult> result = gossipHandler.apply(message);
+
+    assertThat(result).isCompletedWithValue(ValidationResult.Valid);
+    verify(topicHandler, times(2)).handleMessage(any());
+  }
+
+  @Test
+  @SuppressWarnings("FutureReturnValueIgnored")
+  public void apply_shouldCountNewAndDuplicateMessages() {
+    final MockMessageApi message1 = new MockMessageApi(Bytes.fromHexString("0x01"), topic);
+    final MockMessageApi message2 = new MockMessageApi(Bytes.fromHexString("0x02"), topic);
+
+    gossipHandler.apply(message1);
+    gossipHandler.apply(message1);
+    gossipHandler.apply(message1);
+    gossipHandler.apply(message2);
+
+    assertThat(messageCounter.getValue(topic.getTopic(), "new")).isEqualTo(2);
+    assertThat(messageCounter.getValue(topic.getTopic(), "duplicate")).isEqualTo(2);
+  }
+
   @Test
   public void gossip_newMessage() {
     final Bytes message = Bytes.fromHexString("0x01");
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.p2p.libp2p.gossip;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.util.time.StubTimeProvider;
+
+class SeenMessageCacheTest {
+  private static final long EXPIRY_MILLIS = 10_000;
+  private static final Bytes32 FINGERPRINT1 = Bytes32.fromHexStringLenient("0x01");
+  private static final Bytes32 FINGERPRINT2 = Bytes32.fromHexStringLenient("0x02");
+
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(1000);
+  private final SeenMessageCache cache = new SeenMessageCache(timeProvider, EXPIRY_MILLIS);
+
+  @Test
+  public void markSeen_shouldReturnFalseForDuplicateWithinExpiryWindow() {
+    assertThat(cache.markSeen(FINGERPRINT1)).isTrue();
+    timeProvider.advanceTimeByMillis(EXPIRY_MILLIS - 1);
+    assertThat(cache.markSeen(FINGERPRINT1)).isFalse();
+    assertThat(cache.markSeen(FINGERPRINT2)).isTrue();
+  }
+
+  @Test
+  public void markSeen_shouldReturnTrueOnceEntryHasExpired() {
+    assertThat(cache.markSeen(FINGERPRINT1)).isTrue();
+    timeProvider.advanceTimeByMillis(EXPIRY_MILLIS);
+    assertThat(cache.markSeen(FINGERPRINT1)).isTrue();
+    assertThat(cache.markSeen(FINGERPRINT1)).isFalse();
+  }
+
+  @Test
+  public void markSeen_shouldPruneExpiredEntries() {
+    cache.markSeen(FINGERPRINT1);
+    timeProvider.advanceTimeByMillis(EXPIRY_MILLIS / 2);
+    cache.markSeen(FINGERPRINT2);
+    assertThat(cache.size()).isEqualTo(2);
+
+    timeProvider.advanceTimeByMillis(EXPIRY_MILLIS / 2);
+    cache.markSeen(FINGERPRINT2);
+    // Only the first entry has expired
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void fingerprint_shouldMatchForByteBufAndBytes() {
+    final Bytes data = Bytes.fromHexString("0x0102030405");
+    final ByteBuf buffer =
+        Unpooled.wrappedBuffer(
+            Unpooled.wrappedBuffer(data.slice(0, 2).toArrayUnsafe()),
+            Unpooled.wrappedBuffer(data.slice(2).toArrayUnsafe()));
+
+    assertThat(SeenMessageCache.fingerprint(buffer)).isEqualTo(SeenMessageCache.fingerprint(data));
+    // Calculating the fingerprint must not consume the buffer
+    assertThat(buffer.readableBytes()).isEqualTo(data.size());
+  }
+}
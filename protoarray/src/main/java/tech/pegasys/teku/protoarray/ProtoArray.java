@@ -14,48 +14,123 @@
 package tech.pegasys.teku.protoarray;
 
 import static com.google.common.base.Preconditions.checkArgument;
-import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
 import com.google.common.primitives.UnsignedLong;
-import java.util.List;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
 
+/**
+ * The proto array fork choice tree, stored as parallel arrays with one entry per node.
+ *
+ * <p>Keeping each field in its own primitive array rather than in a node object means walking the
+ * tree in {@link #applyScoreChanges(long[], UnsignedLong, UnsignedLong)} and {@link
+ * #maybePrune(Bytes32)} touches contiguous memory and allocates nothing, even when long periods of
+ * non-finality leave tens of thousands of nodes in the array.
+ */
 public class ProtoArray {
+  private static final int NONE = -1;
+  private static final int INITIAL_CAPACITY = 64;
 
   private int pruneThreshold;
 
-  private UnsignedLong justifiedEpoch;
-  private UnsignedLong finalizedEpoch;
-
-  private final List<ProtoNode> nodes;
-  private final Map<Bytes32, Integer> indices;
+  private long justifiedEpoch;
+  private long finalizedEpoch;
+
+  // The number of nodes pruned from the front of the array since it was created. Adding this to a
+  // node's index gives a sequence number which stays stable across pruning, used for persistence.
+  private long prunedNodeCount;
+
+  private int size = 0;
+  // The `slot` and `stateRoot` are not necessary for `ProtoArray`, they just exist so external
+  // components can easily query the block slot. This is useful for upstream fork choice logic.
+  private long[] blockSlots;
+  private Bytes32[] stateRoots;
+  private Bytes32[] blockRoots;
+  private Bytes32[] parentRoots;
+  private long[] justifiedEpochs;
+  private long[] finalizedEpochs;
+  private long[] weights;
+  private int[] parentIndices;
+  private int[] bestChildIndices;
+  private int[] bestDescendantIndices;
+
+  private final RootIndexMap indices;
 
   public ProtoArray(
-      int pruneThreshold,
-      UnsignedLong justifiedEpoch,
-      UnsignedLong finalizedEpoch,
-      List<ProtoNode> nodes,
-      Map<Bytes32, Integer> indices) {
+      final int pruneThreshold,
+      final UnsignedLong justifiedEpoch,
+      final UnsignedLong finalizedEpoch) {
+    this(pruneThreshold, justifiedEpoch, finalizedEpoch, 0, INITIAL_CAPACITY);
+  }
+
+  ProtoArray(
+      final int pruneThreshold,
+      final UnsignedLong justifiedEpoch,
+      final UnsignedLong finalizedEpoch,
+      final long prunedNodeCount,
+      final int expectedSize) {
     this.pruneThreshold = pruneThreshold;
-    this.justifiedEpoch = justifiedEpoch;
-    this.finalizedEpoch = finalizedEpoch;
-    this.nodes = nodes;
-    this.indices = indices;
+    this.justifiedEpoch = justifiedEpoch.longValue();
+    this.finalizedEpoch = finalizedEpoch.longValue();
+    this.prunedNodeCount = prunedNodeCount;
+    allocate(Math.max(INITIAL_CAPACITY, expectedSize));
+    this.indices = new RootIndexMap(expectedSize);
   }
 
-  public Map<Bytes32, Integer> getIndices() {
-    return indices;
+  public void setPruneThreshold(int pruneThreshold) {
+    this.pruneThreshold = pruneThreshold;
   }
 
-  public List<ProtoNode> getNodes() {
-    return nodes;
+  public int size() {
+    return size;
   }
 
-  public void setPruneThreshold(int pruneThreshold) {
-    this.pruneThreshold = pruneThreshold;
+  public boolean contains(final Bytes32 blockRoot) {
+    return indices.containsKey(blockRoot);
+  }
+
+  /** Returns the index of the node for {@code blockRoot}, or -1 if it is not in the array. */
+  public int getIndex(final Bytes32 blockRoot) {
+    return indices.get(blockRoot);
+  }
+
+  public Optional<UnsignedLong> getBlockSlot(final Bytes32 blockRoot) {
+    final int index = indices.get(blockRoot);
+    return index == NONE
+        ? Optional.empty()
+        : Optional.of(UnsignedLong.fromLongBits(blockSlots[index]));
+  }
+
+  public Optional<Bytes32> getParentRoot(final Bytes32 blockRoot) {
+    final int index = indices.get(blockRoot);
+    return index == NONE ? Optional.empty() : Optional.of(parentRoots[index]);
+  }
+
+  public Bytes32 getBlockRoot(final int index) {
+    checkIndex(index);
+    return blockRoots[index];
+  }
+
+  public UnsignedLong getWeight(final int index) {
+    checkIndex(index);
+    return UnsignedLong.fromLongBits(weights[index]);
+  }
+
+  public BlockInformation getBlockInformation(final int index) {
+    checkIndex(index);
+    return new BlockInformation(
+        UnsignedLong.fromLongBits(blockSlots[index]),
+        blockRoots[index],
+        parentRoots[index],
+        stateRoots[index],
+        UnsignedLong.fromLongBits(justifiedEpochs[index]),
+        UnsignedLong.fromLongBits(finalizedEpochs[index]));
+  }
+
+  public long getPrunedNodeCount() {
+    return prunedNodeCount;
   }
 
   /**
@@ -79,26 +154,28 @@ public class ProtoArray {
       return;
     }
 
-    int nodeIndex = nodes.size();
-
-    ProtoNode node =
-        new ProtoNode(
-            blockSlot,
-            stateRoot,
-            blockRoot,
-            parentRoot,
-            Optional.ofNullable(indices.get(parentRoot)),
-            justifiedEpoch,
-            finalizedEpoch,
-            UnsignedLong.ZERO,
-            Optional.empty(),
-            Optional.empty());
-
-    indices.put(node.getBlockRoot(), nodeIndex);
-    nodes.add(node);
-
-    node.getParentIndex()
-        .ifPresent(parentIndex -> maybeUpdateBestChildAndDescendant(parentIndex, nodeIndex));
+    if (size == blockRoots.length) {
+      grow(size * 2);
+    }
+    final int nodeIndex = size;
+    final int parentIndex = indices.get(parentRoot);
+
+    blockSlots[nodeIndex] = blockSlot.longValue();
+    stateRoots[nodeIndex] = stateRoot;
+    blockRoots[nodeIndex] = blockRoot;
+    parentRoots[nodeIndex] = parentRoot;
+    justifiedEpochs[nodeIndex] = justifiedEpoch.longValue();
+    finalizedEpochs[nodeIndex] = finalizedEpoch.longValue();
+    weights[nodeIndex] = 0;
+    parentIndices[nodeIndex] = parentIndex;
+    bestChildIndices[nodeIndex] = NONE;
+    bestDescendantIndices[nodeIndex] = NONE;
+    size++;
+    indices.put(blockRoot, nodeIndex);
+
+    if (parentIndex != NONE) {
+      maybeUpdateBestChildAndDescendant(parentIndex, nodeIndex);
+    }
   }
 
   /**
@@ -112,21 +189,18 @@ public class ProtoArray {
    * @return
    */
   public Bytes32 findHead(Bytes32 justifiedRoot) {
-    int justifiedIndex =
-        checkNotNull(indices.get(justifiedRoot), "ProtoArray: Unknown justified root");
-    ProtoNode justifiedNode =
-        checkNotNull(nodes.get(justifiedIndex), "ProtoArray: Unknown justified index");
+    final int justifiedIndex = getKnownIndex(justifiedRoot, "ProtoArray: Unknown justified root");
 
-    int bestDescendantIndex = justifiedNode.getBestDescendantIndex().orElse(justifiedIndex);
-    ProtoNode bestNode =
-        checkNotNull(nodes.get(bestDescendantIndex), "ProtoArray: Unknown best descendant index");
+    final int bestDescendantIndex = bestDescendantIndices[justifiedIndex];
+    final int bestIndex = bestDescendantIndex == NONE ? justifiedIndex : bestDescendantIndex;
+    checkState(bestIndex < size, "ProtoArray: Unknown best descendant index");
 
     // Perform a sanity check that the node is indeed valid to be the head.
-    if (!nodeIsViableForHead(bestNode)) {
+    if (!nodeIsViableForHead(bestIndex)) {
       throw new RuntimeException("ProtoArray: Best node is not viable for head");
     }
 
-    return bestNode.getBlockRoot();
+    return blockRoots[bestIndex];
   }
 
   /**
@@ -147,37 +221,34 @@ public class ProtoArray {
    *       descendant.
    * </ul>
    *
+   * <p>The deltas array is modified in place as deltas are back-propagated.
+   *
    * @param deltas
    * @param justifiedEpoch
    * @param finalizedEpoch
    */
   public void applyScoreChanges(
-      List<Long> deltas, UnsignedLong justifiedEpoch, UnsignedLong finalizedEpoch) {
-    checkArgument(deltas.size() == indices.size(), "ProtoArray: Invalid delta length");
+      long[] deltas, UnsignedLong justifiedEpoch, UnsignedLong finalizedEpoch) {
+    checkArgument(deltas.length == size, "ProtoArray: Invalid delta length");
 
-    if (!justifiedEpoch.equals(this.justifiedEpoch)
-        || !finalizedEpoch.equals(this.finalizedEpoch)) {
-      this.justifiedEpoch = justifiedEpoch;
-      this.finalizedEpoch = finalizedEpoch;
-    }
-
-    // Iterate backwards through all indices in `this.nodes`.
-    for (int nodeIndex = nodes.size() - 1; nodeIndex >= 0; nodeIndex--) {
-      ProtoNode node = nodes.get(nodeIndex);
+    this.justifiedEpoch = justifiedEpoch.longValue();
+    this.finalizedEpoch = finalizedEpoch.longValue();
 
+    // Iterate backwards through all indices in the array.
+    for (int nodeIndex = size - 1; nodeIndex >= 0; nodeIndex--) {
       // There is no need to adjust the balances or manage parent of the zero hash since it
       // is an alias to the genesis block. The weight applied to the genesis block is
       // irrelevant as we _always_ choose it and it's impossible for it to have a parent.
-      if (node.getBlockRoot().equals(Bytes32.ZERO)) {
+      if (blockRoots[nodeIndex].equals(Bytes32.ZERO)) {
         continue;
       }
 
-      long nodeDelta = deltas.get(nodeIndex);
-      node.adjustWeight(nodeDelta);
+      final long nodeDelta = deltas[nodeIndex];
+      adjustWeight(nodeIndex, nodeDelta);
 
-      if (node.getParentIndex().isPresent()) {
-        int parentIndex = node.getParentIndex().get();
-        deltas.set(parentIndex, deltas.get(parentIndex) + nodeDelta);
+      final int parentIndex = parentIndices[nodeIndex];
+      if (parentIndex != NONE) {
+        deltas[parentIndex] += nodeDelta;
         maybeUpdateBestChildAndDescendant(parentIndex, nodeIndex);
       }
     }
@@ -195,64 +266,60 @@ public class ProtoArray {
    * @param finalizedRoot
    */
   public void maybePrune(Bytes32 finalizedRoot) {
-    int finalizedIndex =
-        checkNotNull(indices.get(finalizedRoot), "ProtoArray: Finalized root is unknown");
+    final int finalizedIndex =
+        getKnownIndex(finalizedRoot, "ProtoArray: Finalized root is unknown");
 
     if (finalizedIndex < pruneThreshold) {
       // Pruning at small numbers incurs more cost than benefit.
       return;
     }
 
-    // Remove the `indices` key/values for all the to-be-deleted nodes.
-    for (int nodeIndex = 0; nodeIndex < finalizedIndex; nodeIndex++) {
-      Bytes32 root =
-          checkNotNull(nodes.get(nodeIndex), "ProtoArray: Invalid node index").getBlockRoot();
-      indices.remove(root);
-    }
-
     // Drop all the nodes prior to finalization.
-    nodes.subList(0, finalizedIndex).clear();
-
-    // Adjust the indices map.
-    indices.replaceAll(
-        (key, value) -> {
-          int newIndex = value - finalizedIndex;
-          checkState(newIndex >= 0, "ProtoArray: New array index less than 0.");
-          return newIndex;
-        });
+    final int newSize = size - finalizedIndex;
+    shiftLeft(blockSlots, finalizedIndex, newSize);
+    shiftLeft(stateRoots, finalizedIndex, newSize);
+    shiftLeft(blockRoots, finalizedIndex, newSize);
+    shiftLeft(parentRoots, finalizedIndex, newSize);
+    shiftLeft(justifiedEpochs, finalizedIndex, newSize);
+    shiftLeft(finalizedEpochs, finalizedIndex, newSize);
+    shiftLeft(weights, finalizedIndex, newSize);
+    shiftLeft(parentIndices, finalizedIndex, newSize);
+    shiftLeft(bestChildIndices, finalizedIndex, newSize);
+    shiftLeft(bestDescendantIndices, finalizedIndex, newSize);
+    // Release the dropped roots
+    Arrays.fill(stateRoots, newSize, size, null);
+    Arrays.fill(blockRoots, newSize, size, null);
+    Arrays.fill(parentRoots, newSize, size, null);
+    size = newSize;
+    prunedNodeCount += finalizedIndex;
 
     // Iterate through all the existing nodes and adjust their indices to match the
     // new layout of nodes.
-    for (ProtoNode node : nodes) {
-      node.getParentIndex()
-          .ifPresent(
-              parentIndex -> {
-                // If node.parentIndex is less than finalizedIndex, set is to None.
-                if (parentIndex < finalizedIndex) {
-                  node.setParentIndex(Optional.empty());
-                } else {
-                  node.setParentIndex(Optional.of(parentIndex - finalizedIndex));
-                }
-              });
-
-      node.getBestChildIndex()
-          .ifPresent(
-              bestChildIndex -> {
-                int newBestChildIndex = bestChildIndex - finalizedIndex;
-                checkState(
-                    newBestChildIndex >= 0, "ProtoArray: New best child index is less than 0");
-                node.setBestChildIndex(Optional.of(newBestChildIndex));
-              });
-
-      node.getBestDescendantIndex()
-          .ifPresent(
-              bestDescendantIndex -> {
-                int newBestDescendantIndex = bestDescendantIndex - finalizedIndex;
-                checkState(
-                    newBestDescendantIndex >= 0,
-                    "ProtoArray: New best descendant index is less than 0");
-                node.setBestDescendantIndex(Optional.of(newBestDescendantIndex));
-              });
+    indices.clear();
+    for (int nodeIndex = 0; nodeIndex < size; nodeIndex++) {
+      indices.put(blockRoots[nodeIndex], nodeIndex);
+
+      final int parentIndex = parentIndices[nodeIndex];
+      if (parentIndex != NONE) {
+        // If node.parentIndex is less than finalizedIndex, set is to None.
+        parentIndices[nodeIndex] =
+            parentIndex < finalizedIndex ? NONE : parentIndex - finalizedIndex;
+      }
+
+      final int bestChildIndex = bestChildIndices[nodeIndex];
+      if (bestChildIndex != NONE) {
+        final int newBestChildIndex = bestChildIndex - finalizedIndex;
+        checkState(newBestChildIndex >= 0, "ProtoArray: New best child index is less than 0");
+        bestChildIndices[nodeIndex] = newBestChildIndex;
+      }
+
+      final int bestDescendantIndex = bestDescendantIndices[nodeIndex];
+      if (bestDescendantIndex != NONE) {
+        final int newBestDescendantIndex = bestDescendantIndex - finalizedIndex;
+        checkState(
+            newBestDescendantIndex >= 0, "ProtoArray: New best descendant index is less than 0");
+        bestDescendantIndices[nodeIndex] = newBestDescendantIndex;
+      }
     }
   }
 
@@ -278,100 +345,86 @@ public class ProtoArray {
    */
   @SuppressWarnings("StatementWithEmptyBody")
   private void maybeUpdateBestChildAndDescendant(int parentIndex, int childIndex) {
-    ProtoNode child = nodes.get(childIndex);
-    ProtoNode parent = nodes.get(parentIndex);
-
-    boolean childLeadsToViableHead = nodeLeadsToViableHead(child);
-
-    parent
-        .getBestChildIndex()
-        .ifPresentOrElse(
-            bestChildIndex -> {
-              if (bestChildIndex.equals(childIndex) && !childLeadsToViableHead) {
-                // If the child is already the best-child of the parent but it's not viable for
-                // the head, remove it.
-                changeToNone(parent);
-              } else if (bestChildIndex.equals(childIndex)) {
-                // If the child is the best-child already, set it again to ensure that the
-                // best-descendant of the parent is updated.
-                changeToChild(parent, childIndex);
-              } else {
-                ProtoNode bestChild = nodes.get(bestChildIndex);
-
-                boolean bestChildLeadsToViableHead = nodeLeadsToViableHead(bestChild);
-
-                if (childLeadsToViableHead && !bestChildLeadsToViableHead) {
-                  // The child leads to a viable head, but the current best-child doesn't.
-                  changeToChild(parent, childIndex);
-                } else if (!childLeadsToViableHead && bestChildLeadsToViableHead) {
-                  // The best child leads to a viable head, but the child doesn't.
-                  // No change.
-                } else if (child.getWeight().equals(bestChild.getWeight())) {
-                  // Tie-breaker of equal weights by root.
-                  if (child
-                          .getBlockRoot()
-                          .toHexString()
-                          .compareTo(bestChild.getBlockRoot().toHexString())
-                      >= 0) {
-                    changeToChild(parent, childIndex);
-                  } else {
-                    // No change.
-                  }
-                } else {
-                  // Choose the winner by weight.
-                  if (child.getWeight().compareTo(bestChild.getWeight()) >= 0) {
-                    changeToChild(parent, childIndex);
-                  } else {
-                    // No change.
-                  }
-                }
-              }
-            },
-            () -> {
-              if (childLeadsToViableHead) {
-                // There is no current best-child and the child is viable.
-                changeToChild(parent, childIndex);
-              } else {
-                // There is no current best-child but the child is not not viable.
-                // No change.
-              }
-            });
+    final boolean childLeadsToViableHead = nodeLeadsToViableHead(childIndex);
+    final int bestChildIndex = bestChildIndices[parentIndex];
+
+    if (bestChildIndex == NONE) {
+      if (childLeadsToViableHead) {
+        // There is no current best-child and the child is viable.
+        changeToChild(parentIndex, childIndex);
+      } else {
+        // There is no current best-child but the child is not not viable.
+        // No change.
+      }
+    } else if (bestChildIndex == childIndex && !childLeadsToViableHead) {
+      // If the child is already the best-child of the parent but it's not viable for
+      // the head, remove it.
+      changeToNone(parentIndex);
+    } else if (bestChildIndex == childIndex) {
+      // If the child is the best-child already, set it again to ensure that the
+      // best-descendant of the parent is updated.
+      changeToChild(parentIndex, childIndex);
+    } else {
+      final boolean bestChildLeadsToViableHead = nodeLeadsToViableHead(bestChildIndex);
+
+      if (childLeadsToViableHead && !bestChildLeadsToViableHead) {
+        // The child leads to a viable head, but the current best-child doesn't.
+        changeToChild(parentIndex, childIndex);
+      } else if (!childLeadsToViableHead && bestChildLeadsToViableHead) {
+        // The best child leads to a viable head, but the child doesn't.
+        // No change.
+      } else if (weights[childIndex] == weights[bestChildIndex]) {
+        // Tie-breaker of equal weights by root.
+        if (compareRoots(blockRoots[childIndex], blockRoots[bestChildIndex]) >= 0) {
+          changeToChild(parentIndex, childIndex);
+        } else {
+          // No change.
+        }
+      } else {
+        // Choose the winner by weight.
+        if (Long.compareUnsigned(weights[childIndex], weights[bestChildIndex]) >= 0) {
+          changeToChild(parentIndex, childIndex);
+        } else {
+          // No change.
+        }
+      }
+    }
   }
 
   /**
    * Helper for maybeUpdateBestChildAndDescendant
    *
-   * @param parent
+   * @param parentIndex
    * @param childIndex
    */
-  private void changeToChild(ProtoNode parent, int childIndex) {
-    ProtoNode child = nodes.get(childIndex);
-    parent.setBestChildIndex(Optional.of(childIndex));
-    parent.setBestDescendantIndex(Optional.of(child.getBestDescendantIndex().orElse(childIndex)));
+  private void changeToChild(int parentIndex, int childIndex) {
+    final int childBestDescendant = bestDescendantIndices[childIndex];
+    bestChildIndices[parentIndex] = childIndex;
+    bestDescendantIndices[parentIndex] =
+        childBestDescendant == NONE ? childIndex : childBestDescendant;
   }
 
   /**
    * Helper for maybeUpdateBestChildAndDescendant
    *
-   * @param parent
+   * @param parentIndex
    */
-  private void changeToNone(ProtoNode parent) {
-    parent.setBestChildIndex(Optional.empty());
-    parent.setBestDescendantIndex(Optional.empty());
+  private void changeToNone(int parentIndex) {
+    bestChildIndices[parentIndex] = NONE;
+    bestDescendantIndices[parentIndex] = NONE;
   }
 
   /**
    * Indicates if the node itself is viable for the head, or if it's best descendant is viable for
    * the head.
    *
-   * @param node
+   * @param nodeIndex
    * @return
    */
-  private boolean nodeLeadsToViableHead(ProtoNode node) {
-    boolean bestDescendantIsViableForHead =
-        node.getBestDescendantIndex().map(nodes::get).map(this::nodeIsViableForHead).orElse(false);
-
-    return bestDescendantIsViableForHead || nodeIsViableForHead(node);
+  private boolean nodeLeadsToViableHead(int nodeIndex) {
+    final int bestDescendantIndex = bestDescendantIndices[nodeIndex];
+    return (bestDescendantIndex != NONE && nodeIsViableForHead(bestDescendantIndex))
+        || nodeIsViableForHead(nodeIndex);
   }
 
   /**
@@ -382,21 +435,78 @@ public class ProtoArray {
    * <p>Any node that has a different finalized or justified epoch should not be viable for the
    * head.
    *
-   * @param node
+   * @param nodeIndex
    * @return
    */
-  private boolean nodeIsViableForHead(ProtoNode node) {
-    return (node.getJustifiedEpoch().equals(justifiedEpoch)
-            || justifiedEpoch.equals(UnsignedLong.ZERO))
-        && (node.getFinalizedEpoch().equals(finalizedEpoch)
-            || finalizedEpoch.equals(UnsignedLong.ZERO));
+  private boolean nodeIsViableForHead(int nodeIndex) {
+    return (justifiedEpochs[nodeIndex] == justifiedEpoch || justifiedEpoch == 0)
+        && (finalizedEpochs[nodeIndex] == finalizedEpoch || finalizedEpoch == 0);
+  }
+
+  private void adjustWeight(final int nodeIndex, final long delta) {
+    final long weight = weights[nodeIndex];
+    if (delta < 0 && Long.compareUnsigned(-delta, weight) > 0) {
+      throw new RuntimeException("ProtoArray: Delta to be subtracted is greater than node weight.");
+    }
+    weights[nodeIndex] = weight + delta;
+  }
+
+  /** Compares roots as unsigned big-endian values, matching a comparison of their hex strings. */
+  private static int compareRoots(final Bytes32 a, final Bytes32 b) {
+    for (int i = 0; i < Bytes32.SIZE; i++) {
+      final int result = Integer.compare(a.get(i) & 0xFF, b.get(i) & 0xFF);
+      if (result != 0) {
+        return result;
+      }
+    }
+    return 0;
+  }
+
+  private int getKnownIndex(final Bytes32 blockRoot, final String errorMessage) {
+    final int index = indices.get(blockRoot);
+    checkState(index != NONE, errorMessage);
+    return index;
+  }
+
+  private void checkIndex(final int index) {
+    checkArgument(index >= 0 && index < size, "ProtoArray: Invalid node index %s", index);
+  }
+
+  private void allocate(final int capacity) {
+    blockSlots = new long[capacity];
+    stateRoots = new Bytes32[capacity];
+    blockRoots = new Bytes32[capacity];
+    parentRoots = new Bytes32[capacity];
+    justifiedEpochs = new long[capacity];
+    finalizedEpochs = new long[capacity];
+    weights = new long[capacity];
+    parentIndices = new int[capacity];
+    bestChildIndices = new int[capacity];
+    bestDescendantIndices = new int[capacity];
+  }
+
+  private void grow(final int capacity) {
+    blockSlots = Arrays.copyOf(blockSlots, capacity);
+    stateRoots = Arrays.copyOf(stateRoots, capacity);
+    blockRoots = Arrays.copyOf(blockRoots, capacity);
+    parentRoots = Arrays.copyOf(parentRoots, capacity);
+    justifiedEpochs = Arrays.copyOf(justifiedEpochs, capacity);
+    finalizedEpochs = Arrays.copyOf(finalizedEpochs, capacity);
+    weights = Arrays.copyOf(weights, capacity);
+    parentIndices = Arrays.copyOf(parentIndices, capacity);
+    bestChildIndices = Arrays.copyOf(bestChildIndices, capacity);
+    bestDescendantIndices = Arrays.copyOf(bestDescendantIndices, capacity);
+  }
+
+  private static void shiftLeft(final Object array, final int offset, final int length) {
+    System.arraycopy(array, offset, array, 0, length);
   }
 
   public UnsignedLong getJustifiedEpoch() {
-    return justifiedEpoch;
+    return UnsignedLong.fromLongBits(justifiedEpoch);
   }
 
   public UnsignedLong getFinalizedEpoch() {
-    return finalizedEpoch;
+    return UnsignedLong.fromLongBits(finalizedEpoch);
   }
 }
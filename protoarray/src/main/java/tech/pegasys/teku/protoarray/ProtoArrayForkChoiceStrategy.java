@@ -14,13 +14,11 @@
 package tech.pegasys.teku.protoarray;
 
 import com.google.common.primitives.UnsignedLong;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.datastructures.blocks.BeaconBlock;
 import tech.pegasys.teku.datastructures.blocks.SignedBlockAndState;
@@ -40,15 +38,26 @@ public class ProtoArrayForkChoiceStrategy implements ForkChoiceStrategy {
   private final ProtoArray protoArray;
   private final ProtoArrayStorageChannel storageChannel;
 
-  private List<UnsignedLong> balances;
+  // Balances the current vote weights were last applied with.
+  private long[] balances;
+
+  // Balances of the current justified checkpoint state, extracted once per justified checkpoint so
+  // head computation doesn't need to read them back out of the state's tree every time.
+  private Optional<Checkpoint> cachedJustifiedCheckpoint = Optional.empty();
+  private long[] justifiedBalances = new long[0];
+
+  // What was last written to storage. Starts from the loaded pruning marker with no nodes saved, so
+  // the first save rewrites every node and storage is left in a consistent state.
+  private long savedPrunedNodeCount;
+  private long savedNextNodeSequence;
 
   private ProtoArrayForkChoiceStrategy(
-      ProtoArray protoArray,
-      List<UnsignedLong> balances,
-      ProtoArrayStorageChannel protoArrayStorageChannel) {
+      ProtoArray protoArray, long[] balances, ProtoArrayStorageChannel protoArrayStorageChannel) {
     this.protoArray = protoArray;
     this.balances = balances;
     this.storageChannel = protoArrayStorageChannel;
+    this.savedPrunedNodeCount = protoArray.getPrunedNodeCount();
+    this.savedNextNodeSequence = protoArray.getPrunedNodeCount();
   }
 
   // Public
@@ -63,13 +72,10 @@ public class ProtoArrayForkChoiceStrategy implements ForkChoiceStrategy {
                 new ProtoArray(
                     Constants.PROTOARRAY_FORKCHOICE_PRUNE_THRESHOLD,
                     store.getJustifiedCheckpoint().getEpoch(),
-                    store.getFinalizedCheckpoint().getEpoch(),
-                    new ArrayList<>(),
-                    new HashMap<>()));
+                    store.getFinalizedCheckpoint().getEpoch()));
 
     return processBlocksInStoreAtStartup(store, protoArray)
-        .thenApply(
-            __ -> new ProtoArrayForkChoiceStrategy(protoArray, new ArrayList<>(), storageChannel));
+        .thenApply(__ -> new ProtoArrayForkChoiceStrategy(protoArray, new long[0], storageChannel));
   }
 
   @Override
@@ -80,7 +86,7 @@ public class ProtoArrayForkChoiceStrategy implements ForkChoiceStrategy {
         justifiedCheckpoint.getEpoch(),
         justifiedCheckpoint.getRoot(),
         store.getFinalizedCheckpoint().getEpoch(),
-        store.getCheckpointState(justifiedCheckpoint).orElseThrow().getBalances().asList());
+        getJustifiedBalances(store, justifiedCheckpoint));
   }
 
   @Override
@@ -116,11 +122,15 @@ public class ProtoArrayForkChoiceStrategy implements ForkChoiceStrategy {
 
   @Override
   public void save() {
-    protoArrayLock.readLock().lock();
+    protoArrayLock.writeLock().lock();
     try {
-      storageChannel.onProtoArrayUpdate(ProtoArraySnapshot.create(protoArray));
+      final ProtoArrayUpdate update =
+          ProtoArrayUpdate.create(protoArray, savedPrunedNodeCount, savedNextNodeSequence);
+      storageChannel.onProtoArrayUpdate(update);
+      savedPrunedNodeCount = update.getPrunedNodeCount();
+      savedNextNodeSequence = update.getNextNodeSequence();
     } finally {
-      protoArrayLock.readLock().unlock();
+      protoArrayLock.writeLock().unlock();
     }
   }
 
@@ -136,12 +146,9 @@ public class ProtoArrayForkChoiceStrategy implements ForkChoiceStrategy {
   // Internal
   private static SafeFuture<Void> processBlocksInStoreAtStartup(
       PrunableStore store, ProtoArray protoArray) {
-    List<Bytes32> alreadyIncludedBlockRoots =
-        protoArray.getNodes().stream().map(ProtoNode::getBlockRoot).collect(Collectors.toList());
-
     SafeFuture<Void> future = SafeFuture.completedFuture(null);
     for (Bytes32 blockRoot : store.getOrderedBlockRoots()) {
-      if (alreadyIncludedBlockRoots.contains(blockRoot)) {
+      if (protoArray.contains(blockRoot)) {
         continue;
       }
       future =
@@ -151,14 +158,30 @@ public class ProtoArrayForkChoiceStrategy implements ForkChoiceStrategy {
                       .retrieveBlockAndState(blockRoot)
                       .thenAccept(
                           blockAndState ->
-                              processBlockAtStartup(protoArray, blockAndState.orElseThrow())));
+                              processBlockAtStartup(
+                                  store, protoArray, blockAndState.orElseThrow())));
     }
     return future;
   }
 
   private static void processBlockAtStartup(
-      final ProtoArray protoArray, final SignedBlockAndState blockAndState) {
+      final PrunableStore store,
+      final ProtoArray protoArray,
+      final SignedBlockAndState blockAndState) {
     final BeaconState state = blockAndState.getState();
+    final Checkpoint finalizedCheckpoint = store.getFinalizedCheckpoint();
+    if (blockAndState.getRoot().equals(finalizedCheckpoint.getRoot())) {
+      // The finalized block is trusted as both justified and finalized, even when it is an anchor
+      // whose own state has not yet seen its checkpoint justified.
+      protoArray.onBlock(
+          blockAndState.getSlot(),
+          blockAndState.getRoot(),
+          blockAndState.getParentRoot(),
+          blockAndState.getStateRoot(),
+          store.getJustifiedCheckpoint().getEpoch(),
+          finalizedCheckpoint.getEpoch());
+      return;
+    }
     protoArray.onBlock(
         blockAndState.getSlot(),
         blockAndState.getRoot(),
@@ -197,25 +220,68 @@ public class ProtoArrayForkChoiceStrategy implements ForkChoiceStrategy {
     }
   }
 
+  private long[] getJustifiedBalances(
+      final MutableStore store, final Checkpoint justifiedCheckpoint) {
+    balancesLock.readLock().lock();
+    try {
+      if (cachedJustifiedCheckpoint.isPresent()
+          && cachedJustifiedCheckpoint.get().equals(justifiedCheckpoint)) {
+        return justifiedBalances;
+      }
+    } finally {
+      balancesLock.readLock().unlock();
+    }
+
+    final long[] newJustifiedBalances =
+        store.getCheckpointState(justifiedCheckpoint).orElseThrow().getBalancesAsLongArray();
+    balancesLock.writeLock().lock();
+    try {
+      cachedJustifiedCheckpoint = Optional.of(justifiedCheckpoint);
+      justifiedBalances = newJustifiedBalances;
+    } finally {
+      balancesLock.writeLock().unlock();
+    }
+    return newJustifiedBalances;
+  }
+
+  private static long[] toLongArray(final Stream<UnsignedLong> values) {
+    return values.mapToLong(UnsignedLong::longValue).toArray();
+  }
+
   Bytes32 findHead(
       MutableStore store,
       UnsignedLong justifiedEpoch,
       Bytes32 justifiedRoot,
       UnsignedLong finalizedEpoch,
       List<UnsignedLong> justifiedStateBalances) {
+    return findHead(
+        store,
+        justifiedEpoch,
+        justifiedRoot,
+        finalizedEpoch,
+        toLongArray(justifiedStateBalances.stream()));
+  }
+
+  private Bytes32 findHead(
+      MutableStore store,
+      UnsignedLong justifiedEpoch,
+      Bytes32 justifiedRoot,
+      UnsignedLong finalizedEpoch,
+      long[] justifiedStateBalances) {
     protoArrayLock.writeLock().lock();
     votesLock.writeLock().lock();
     balancesLock.writeLock().lock();
     try {
-      List<UnsignedLong> oldBalances = balances;
-      List<UnsignedLong> newBalances = justifiedStateBalances;
+      long[] oldBalances = balances;
+      long[] newBalances = justifiedStateBalances;
 
-      List<Long> deltas =
+      long[] deltas =
           ProtoArrayScoreCalculator.computeDeltas(
-              store, protoArray.getIndices(), oldBalances, newBalances);
+              store, protoArray.size(), protoArray::getIndex, oldBalances, newBalances);
 
       protoArray.applyScoreChanges(deltas, justifiedEpoch, finalizedEpoch);
-      balances = new ArrayList<>(newBalances);
+      // Balance vectors are never modified once created so can be shared rather than copied.
+      balances = newBalances;
 
       return protoArray.findHead(justifiedRoot);
     } finally {
@@ -237,7 +303,7 @@ public class ProtoArrayForkChoiceStrategy implements ForkChoiceStrategy {
   public int size() {
     protoArrayLock.readLock().lock();
     try {
-      return protoArray.getNodes().size();
+      return protoArray.size();
     } finally {
       protoArrayLock.readLock().unlock();
     }
@@ -247,7 +313,7 @@ public class ProtoArrayForkChoiceStrategy implements ForkChoiceStrategy {
   public boolean contains(Bytes32 blockRoot) {
     protoArrayLock.readLock().lock();
     try {
-      return protoArray.getIndices().containsKey(blockRoot);
+      return protoArray.contains(blockRoot);
     } finally {
       protoArrayLock.readLock().unlock();
     }
@@ -257,7 +323,7 @@ public class ProtoArrayForkChoiceStrategy implements ForkChoiceStrategy {
   public Optional<UnsignedLong> blockSlot(Bytes32 blockRoot) {
     protoArrayLock.readLock().lock();
     try {
-      return getProtoNode(blockRoot).map(ProtoNode::getBlockSlot);
+      return protoArray.getBlockSlot(blockRoot);
     } finally {
       protoArrayLock.readLock().unlock();
     }
@@ -267,20 +333,9 @@ public class ProtoArrayForkChoiceStrategy implements ForkChoiceStrategy {
   public Optional<Bytes32> blockParentRoot(Bytes32 blockRoot) {
     protoArrayLock.readLock().lock();
     try {
-      return getProtoNode(blockRoot).map(ProtoNode::getParentRoot);
+      return protoArray.getParentRoot(blockRoot);
     } finally {
       protoArrayLock.readLock().unlock();
     }
   }
-
-  private Optional<ProtoNode> getProtoNode(Bytes32 blockRoot) {
-    return Optional.ofNullable(protoArray.getIndices().get(blockRoot))
-        .flatMap(
-            blockIndex -> {
-              if (blockIndex < protoArray.getNodes().size()) {
-                return Optional.of(protoArray.getNodes().get(blockIndex));
-              }
-              return Optional.empty();
-            });
-  }
 }
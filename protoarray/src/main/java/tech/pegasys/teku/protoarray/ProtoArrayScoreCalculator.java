@@ -19,10 +19,7 @@ import static java.lang.Math.subtractExact;
 import static java.lang.Math.toIntExact;
 
 import com.google.common.primitives.UnsignedLong;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
+import java.util.function.ToIntFunction;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
@@ -33,8 +30,8 @@ class ProtoArrayScoreCalculator {
   private static final Logger LOG = LogManager.getLogger();
 
   /**
-   * Returns a list of `deltas`, where there is one delta for each of the indices in
-   * `0..indices.size()`.
+   * Returns an array of `deltas`, where there is one delta for each of the indices in
+   * `0..nodeCount`.
    *
    * <p>The deltas are formed by a change between `oldBalances` and `newBalances`, and/or a change
    * of vote in `votes`.
@@ -42,23 +39,23 @@ class ProtoArrayScoreCalculator {
    * <p>## Errors
    *
    * <ul>
-   *   <li>If a value in `indices` is greater to or equal to `indices.size()`.
-   *   <li>If some `Bytes32` in `votes` is not a key in `indices` (except for `Bytes32.ZERO`, this
-   *       is always valid).
+   *   <li>If an index returned by `getIndex` is greater to or equal to `nodeCount`.
    * </ul>
    *
-   * @param indices
    * @param store
-   * @param oldBalances
-   * @param newBalances
+   * @param nodeCount
+   * @param getIndex returns the node index for a root, or a negative value if it is unknown
+   * @param oldBalances balances indexed by validator index, in Gwei
+   * @param newBalances balances indexed by validator index, in Gwei
    * @return
    */
-  static List<Long> computeDeltas(
+  static long[] computeDeltas(
       MutableStore store,
-      Map<Bytes32, Integer> indices,
-      List<UnsignedLong> oldBalances,
-      List<UnsignedLong> newBalances) {
-    List<Long> deltas = new ArrayList<>(Collections.nCopies(indices.size(), 0L));
+      int nodeCount,
+      ToIntFunction<Bytes32> getIndex,
+      long[] oldBalances,
+      long[] newBalances) {
+    long[] deltas = new long[nodeCount];
 
     for (UnsignedLong validatorIndex : store.getVotedValidatorIndices()) {
       VoteTracker vote = store.getVote(validatorIndex);
@@ -73,40 +70,32 @@ class ProtoArrayScoreCalculator {
       int validatorIndexInt = toIntExact(validatorIndex.longValue());
       // If the validator was not included in the oldBalances (i.e. it did not exist yet)
       // then say its balance was zero.
-      UnsignedLong oldBalance =
-          oldBalances.size() > validatorIndexInt
-              ? oldBalances.get(validatorIndexInt)
-              : UnsignedLong.ZERO;
+      long oldBalance = oldBalances.length > validatorIndexInt ? oldBalances[validatorIndexInt] : 0;
 
       // If the validator vote is not known in the newBalances, then use a balance of zero.
       //
       // It is possible that there is a vote for an unknown validator if we change our
       // justified state to a new state with a higher epoch that is on a different fork
       // because that may have on-boarded less validators than the prior fork.
-      UnsignedLong newBalance =
-          newBalances.size() > validatorIndexInt
-              ? newBalances.get(validatorIndexInt)
-              : UnsignedLong.ZERO;
+      long newBalance = newBalances.length > validatorIndexInt ? newBalances[validatorIndexInt] : 0;
 
-      if (!vote.getCurrentRoot().equals(vote.getNextRoot()) || !oldBalance.equals(newBalance)) {
+      if (!vote.getCurrentRoot().equals(vote.getNextRoot()) || oldBalance != newBalance) {
         // We ignore the vote if it is not known in `indices`. We assume that it is outside
         // of our tree (i.e. pre-finalization) and therefore not interesting.
-        Integer currentDeltaIndex = indices.get(vote.getCurrentRoot());
-        if (currentDeltaIndex != null) {
+        int currentDeltaIndex = getIndex.applyAsInt(vote.getCurrentRoot());
+        if (currentDeltaIndex >= 0) {
           checkState(
-              currentDeltaIndex < deltas.size(), "ProtoArrayForkChoice: Invalid node delta index");
-          long delta = subtractExact(deltas.get(currentDeltaIndex), oldBalance.longValue());
-          deltas.set(currentDeltaIndex, delta);
+              currentDeltaIndex < deltas.length, "ProtoArrayForkChoice: Invalid node delta index");
+          deltas[currentDeltaIndex] = subtractExact(deltas[currentDeltaIndex], oldBalance);
         }
 
         // We ignore the vote if it is not known in `indices`. We assume that it is outside
         // of our tree (i.e. pre-finalization) and therefore not interesting.
-        Integer nextDeltaIndex = indices.get(vote.getNextRoot());
-        if (nextDeltaIndex != null) {
+        int nextDeltaIndex = getIndex.applyAsInt(vote.getNextRoot());
+        if (nextDeltaIndex >= 0) {
           checkState(
-              nextDeltaIndex < deltas.size(), "ProtoArrayForkChoice: Invalid node delta index");
-          long delta = addExact(deltas.get(nextDeltaIndex), newBalance.longValue());
-          deltas.set(nextDeltaIndex, delta);
+              nextDeltaIndex < deltas.length, "ProtoArrayForkChoice: Invalid node delta index");
+          deltas[nextDeltaIndex] = addExact(deltas[nextDeltaIndex], newBalance);
         }
 
         vote.setCurrentRoot(vote.getNextRoot());
@@ -16,34 +16,43 @@ package tech.pegasys.teku.protoarray;
 import com.google.common.base.Objects;
 import com.google.common.primitives.UnsignedLong;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
 import tech.pegasys.teku.util.config.Constants;
 
 public class ProtoArraySnapshot {
 
   private final UnsignedLong justifiedEpoch;
   private final UnsignedLong finalizedEpoch;
+  private final long prunedNodeCount;
   private final List<BlockInformation> blockInformationList;
 
   public ProtoArraySnapshot(
       final UnsignedLong justifiedEpoch,
       final UnsignedLong finalizedEpoch,
       final List<BlockInformation> blockInformationList) {
+    this(justifiedEpoch, finalizedEpoch, 0, blockInformationList);
+  }
+
+  public ProtoArraySnapshot(
+      final UnsignedLong justifiedEpoch,
+      final UnsignedLong finalizedEpoch,
+      final long prunedNodeCount,
+      final List<BlockInformation> blockInformationList) {
     this.justifiedEpoch = justifiedEpoch;
     this.finalizedEpoch = finalizedEpoch;
+    this.prunedNodeCount = prunedNodeCount;
     this.blockInformationList = blockInformationList;
   }
 
   public static ProtoArraySnapshot create(final ProtoArray protoArray) {
-    List<BlockInformation> nodes =
-        protoArray.getNodes().stream()
-            .map(ProtoNode::createBlockInformation)
-            .collect(Collectors.toList());
+    List<BlockInformation> nodes = new ArrayList<>(protoArray.size());
+    for (int i = 0; i < protoArray.size(); i++) {
+      nodes.add(protoArray.getBlockInformation(i));
+    }
     UnsignedLong justifiedEpoch = protoArray.getJustifiedEpoch();
     UnsignedLong finalizedEpoch = protoArray.getFinalizedEpoch();
-    return new ProtoArraySnapshot(justifiedEpoch, finalizedEpoch, nodes);
+    return new ProtoArraySnapshot(
+        justifiedEpoch, finalizedEpoch, protoArray.getPrunedNodeCount(), nodes);
   }
 
   public ProtoArray toProtoArray() {
@@ -52,8 +61,8 @@ public class ProtoArraySnapshot {
             Constants.PROTOARRAY_FORKCHOICE_PRUNE_THRESHOLD,
             justifiedEpoch,
             finalizedEpoch,
-            new ArrayList<>(),
-            new HashMap<>());
+            prunedNodeCount,
+            blockInformationList.size());
 
     blockInformationList.forEach(
         blockInformation ->
@@ -67,6 +76,25 @@ public class ProtoArraySnapshot {
     return protoArray;
   }
 
+  /**
+   * Applies an incremental update to this snapshot, for storage which keeps the full snapshot.
+   *
+   * <p>The nodes in this snapshot are assumed to start at the sequence number given by {@link
+   * ProtoArrayUpdate#getPreviousPrunedNodeCount()}.
+   */
+  public ProtoArraySnapshot applyUpdate(final ProtoArrayUpdate update) {
+    final List<BlockInformation> nodes = new ArrayList<>();
+    for (int i = 0; i < blockInformationList.size(); i++) {
+      final long sequence = update.getPreviousPrunedNodeCount() + i;
+      if (sequence >= update.getPrunedNodeCount() && sequence < update.getFirstNewNodeSequence()) {
+        nodes.add(blockInformationList.get(i));
+      }
+    }
+    nodes.addAll(update.getNewNodes());
+    return new ProtoArraySnapshot(
+        update.getJustifiedEpoch(), update.getFinalizedEpoch(), update.getPrunedNodeCount(), nodes);
+  }
+
   public UnsignedLong getJustifiedEpoch() {
     return justifiedEpoch;
   }
@@ -75,6 +103,10 @@ public class ProtoArraySnapshot {
     return finalizedEpoch;
   }
 
+  public long getPrunedNodeCount() {
+    return prunedNodeCount;
+  }
+
   public List<BlockInformation> getBlockInformationList() {
     return blockInformationList;
   }
@@ -84,13 +116,15 @@ public class ProtoArraySnapshot {
     if (this == o) return true;
     if (!(o instanceof ProtoArraySnapshot)) return false;
     ProtoArraySnapshot that = (ProtoArraySnapshot) o;
-    return Objects.equal(getJustifiedEpoch(), that.getJustifiedEpoch())
+    return getPrunedNodeCount() == that.getPrunedNodeCount()
+        && Objects.equal(getJustifiedEpoch(), that.getJustifiedEpoch())
         && Objects.equal(getFinalizedEpoch(), that.getFinalizedEpoch())
         && Objects.equal(getBlockInformationList(), that.getBlockInformationList());
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(getJustifiedEpoch(), getFinalizedEpoch(), getBlockInformationList());
+    return Objects.hashCode(
+        getJustifiedEpoch(), getFinalizedEpoch(), getPrunedNodeCount(), getBlockInformationList());
   }
 }
@@ -19,7 +19,7 @@ import tech.pegasys.teku.util.channels.ChannelInterface;
 
 public interface ProtoArrayStorageChannel extends ChannelInterface {
 
-  void onProtoArrayUpdate(ProtoArraySnapshot protoArraySnapshot);
+  void onProtoArrayUpdate(ProtoArrayUpdate protoArrayUpdate);
 
   SafeFuture<Optional<ProtoArraySnapshot>> getProtoArraySnapshot();
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.protoarray;
+
+import com.google.common.base.Objects;
+import com.google.common.primitives.UnsignedLong;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The changes to a {@link ProtoArray} since it was last saved.
+ *
+ * <p>Each node is identified by a sequence number, its index plus {@link
+ * ProtoArray#getPrunedNodeCount()}, which doesn't change when the array is pruned. Saving an update
+ * appends the new nodes and moves the pruning marker forward, removing any nodes before it, so
+ * storage never has to rewrite the whole array.
+ */
+public class ProtoArrayUpdate {
+  private final UnsignedLong justifiedEpoch;
+  private final UnsignedLong finalizedEpoch;
+  private final long previousPrunedNodeCount;
+  private final long prunedNodeCount;
+  private final long firstNewNodeSequence;
+  private final List<BlockInformation> newNodes;
+
+  public ProtoArrayUpdate(
+      final UnsignedLong justifiedEpoch,
+      final UnsignedLong finalizedEpoch,
+      final long previousPrunedNodeCount,
+      final long prunedNodeCount,
+      final long firstNewNodeSequence,
+      final List<BlockInformation> newNodes) {
+    this.justifiedEpoch = justifiedEpoch;
+    this.finalizedEpoch = finalizedEpoch;
+    this.previousPrunedNodeCount = previousPrunedNodeCount;
+    this.prunedNodeCount = prunedNodeCount;
+    this.firstNewNodeSequence = firstNewNodeSequence;
+    this.newNodes = newNodes;
+  }
+
+  /**
+   * Creates the update which brings storage from a previous save of {@code protoArray} up to date.
+   *
+   * @param protoArray the array to save
+   * @param previousPrunedNodeCount the pruned node count when the array was last saved
+   * @param previousNextNodeSequence the sequence number following the last node previously saved
+   * @return the update to apply to storage
+   */
+  public static ProtoArrayUpdate create(
+      final ProtoArray protoArray,
+      final long previousPrunedNodeCount,
+      final long previousNextNodeSequence) {
+    final long prunedNodeCount = protoArray.getPrunedNodeCount();
+    final long firstNewNodeSequence = Math.max(previousNextNodeSequence, prunedNodeCount);
+    final List<BlockInformation> newNodes = new ArrayList<>();
+    for (int i = Math.toIntExact(firstNewNodeSequence - prunedNodeCount);
+        i < protoArray.size();
+        i++) {
+      newNodes.add(protoArray.getBlockInformation(i));
+    }
+    return new ProtoArrayUpdate(
+        protoArray.getJustifiedEpoch(),
+        protoArray.getFinalizedEpoch(),
+        previousPrunedNodeCount,
+        prunedNodeCount,
+        firstNewNodeSequence,
+        newNodes);
+  }
+
+  public UnsignedLong getJustifiedEpoch() {
+    return justifiedEpoch;
+  }
+
+  public UnsignedLong getFinalizedEpoch() {
+    return finalizedEpoch;
+  }
+
+  /** Nodes with sequence numbers from here up to {@link #getPrunedNodeCount()} are removed. */
+  public long getPreviousPrunedNodeCount() {
+    return previousPrunedNodeCount;
+  }
+
+  public long getPrunedNodeCount() {
+    return prunedNodeCount;
+  }
+
+  public long getFirstNewNodeSequence() {
+    return firstNewNodeSequence;
+  }
+
+  public long getNextNodeSequence() {
+    return firstNewNodeSequence + newNodes.size();
+  }
+
+  public List<BlockInformation> getNewNodes() {
+    return newNodes;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) return true;
+    if (!(o instanceof ProtoArrayUpdate)) return false;
+    final ProtoArrayUpdate that = (ProtoArrayUpdate) o;
+    return previousPrunedNodeCount == that.previousPrunedNodeCount
+        && prunedNodeCount == that.prunedNodeCount
+        && firstNewNodeSequence == that.firstNewNodeSequence
+        && Objects.equal(justifiedEpoch, that.justifiedEpoch)
+        && Objects.equal(finalizedEpoch, that.finalizedEpoch)
+        && Objects.equal(newNodes, that.newNodes);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(
+        justifiedEpoch,
+        finalizedEpoch,
+        previousPrunedNodeCount,
+        prunedNodeCount,
+        firstNewNodeSequence,
+        newNodes);
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.protoarray;
+
+import java.util.Arrays;
+import org.apache.tuweni.bytes.Bytes32;
+
+/**
+ * Open-addressing hash map from block root to node index, storing the indices as primitive ints to
+ * avoid boxing on the fork choice hot paths.
+ *
+ * <p>Entries are never removed individually. When the proto array is pruned every index changes, so
+ * the map is cleared and rebuilt instead.
+ */
+class RootIndexMap {
+  static final int NOT_FOUND = -1;
+  private static final int MIN_CAPACITY = 16;
+
+  private Bytes32[] keys;
+  private int[] values;
+  private int mask;
+  private int size;
+
+  RootIndexMap(final int expectedSize) {
+    allocate(tableSizeFor(expectedSize));
+  }
+
+  int get(final Bytes32 root) {
+    for (int slot = slotFor(root); ; slot = (slot + 1) & mask) {
+      final Bytes32 key = keys[slot];
+      if (key == null) {
+        return NOT_FOUND;
+      }
+      if (key.equals(root)) {
+        return values[slot];
+      }
+    }
+  }
+
+  boolean containsKey(final Bytes32 root) {
+    return get(root) != NOT_FOUND;
+  }
+
+  void put(final Bytes32 root, final int index) {
+    if ((size + 1) * 4L > keys.length * 3L) {
+      resize(keys.length * 2);
+    }
+    if (insert(root, index)) {
+      size++;
+    }
+  }
+
+  void clear() {
+    Arrays.fill(keys, null);
+    size = 0;
+  }
+
+  int size() {
+    return size;
+  }
+
+  private boolean insert(final Bytes32 root, final int index) {
+    for (int slot = slotFor(root); ; slot = (slot + 1) & mask) {
+      final Bytes32 key = keys[slot];
+      if (key == null) {
+        keys[slot] = root;
+        values[slot] = index;
+        return true;
+      }
+      if (key.equals(root)) {
+        values[slot] = index;
+        return false;
+      }
+    }
+  }
+
+  private void resize(final int capacity) {
+    final Bytes32[] oldKeys = keys;
+    final int[] oldValues = values;
+    allocate(capacity);
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != null) {
+        insert(oldKeys[i], oldValues[i]);
+      }
+    }
+  }
+
+  private void allocate(final int capacity) {
+    keys = new Bytes32[capacity];
+    values = new int[capacity];
+    mask = capacity - 1;
+  }
+
+  private int slotFor(final Bytes32 root) {
+    final int hash = root.hashCode();
+    return (hash ^ (hash >>> 16)) & mask;
+  }
+
+  private static int tableSizeFor(final int expectedSize) {
+    final int minCapacity = Math.max(MIN_CAPACITY, expectedSize + expectedSize / 3 + 1);
+    return Integer.highestOneBit(minCapacity - 1) << 1;
+  }
+}
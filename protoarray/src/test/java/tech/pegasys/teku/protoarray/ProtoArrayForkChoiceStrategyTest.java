@@ -16,6 +16,9 @@ package tech.pegasys.teku.protoarray;
 import static com.google.common.primitives.UnsignedLong.ONE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.primitives.UnsignedLong;
@@ -49,6 +52,19 @@ public class ProtoArrayForkChoiceStrategyTest {
     assertThat(forkChoiceStrategy.size()).isEqualTo(chainSize + 1);
   }
 
+  @Test
+  public void findHead_shouldOnlyLoadJustifiedBalancesOncePerCheckpoint() {
+    final MutablePrunableStore spyStore = spy(store);
+    final ProtoArrayForkChoiceStrategy forkChoiceStrategy =
+        ProtoArrayForkChoiceStrategy.initialize(spyStore, storageChannel).join();
+    final Checkpoint justifiedCheckpoint = spyStore.getJustifiedCheckpoint();
+
+    assertThat(forkChoiceStrategy.findHead(spyStore)).isEqualTo(genesis.getRoot());
+    assertThat(forkChoiceStrategy.findHead(spyStore)).isEqualTo(genesis.getRoot());
+
+    verify(spyStore, times(1)).getCheckpointState(justifiedCheckpoint);
+  }
+
   private void saveChainToStore(final int blockCount) {
     final List<SignedBlockAndState> chain = generateChain(blockCount);
     chain.forEach(store::putBlockAndState);
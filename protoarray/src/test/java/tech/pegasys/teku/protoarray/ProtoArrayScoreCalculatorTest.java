@@ -15,7 +15,6 @@ package tech.pegasys.teku.protoarray;
 
 import static com.google.common.primitives.UnsignedLong.ZERO;
 import static org.assertj.core.api.Assertions.assertThat;
-import static tech.pegasys.teku.protoarray.ProtoArrayScoreCalculator.computeDeltas;
 import static tech.pegasys.teku.protoarray.ProtoArrayTestUtil.createStoreToManipulateVotes;
 import static tech.pegasys.teku.protoarray.ProtoArrayTestUtil.getHash;
 
@@ -57,7 +56,7 @@ public class ProtoArrayScoreCalculatorTest {
       newBalances.add(ZERO);
     }
 
-    List<Long> deltas = computeDeltas(store, indices, oldBalances, newBalances);
+    long[] deltas = computeDeltas(store, indices, oldBalances, newBalances);
     assertThat(deltas).hasSize(validatorCount);
 
     // Deltas should all be zero
@@ -76,11 +75,11 @@ public class ProtoArrayScoreCalculatorTest {
       newBalances.add(BALANCE);
     }
 
-    List<Long> deltas = computeDeltas(store, indices, oldBalances, newBalances);
+    long[] deltas = computeDeltas(store, indices, oldBalances, newBalances);
     assertThat(deltas).hasSize(validatorCount);
 
-    for (int i = 0; i < deltas.size(); i++) {
-      long delta = deltas.get(i);
+    for (int i = 0; i < deltas.length; i++) {
+      long delta = deltas[i];
       if (i == 0) {
         // Zero'th root should have a delta
         assertThat(delta).isEqualTo(BALANCE.longValue() * Integer.toUnsignedLong(validatorCount));
@@ -105,7 +104,7 @@ public class ProtoArrayScoreCalculatorTest {
       newBalances.add(BALANCE);
     }
 
-    List<Long> deltas = computeDeltas(store, indices, oldBalances, newBalances);
+    long[] deltas = computeDeltas(store, indices, oldBalances, newBalances);
     assertThat(deltas).hasSize(validatorCount);
 
     // Each root should have the same delta
@@ -128,13 +127,13 @@ public class ProtoArrayScoreCalculatorTest {
       newBalances.add(BALANCE);
     }
 
-    List<Long> deltas = computeDeltas(store, indices, oldBalances, newBalances);
+    long[] deltas = computeDeltas(store, indices, oldBalances, newBalances);
 
     assertThat(deltas).hasSize(validatorCount);
     long totalDelta = BALANCE.longValue() * Integer.toUnsignedLong(validatorCount);
 
-    for (int i = 0; i < deltas.size(); i++) {
-      long delta = deltas.get(i);
+    for (int i = 0; i < deltas.length; i++) {
+      long delta = deltas[i];
       if (i == 0) {
         // Zero'th root should have a negative delta
         assertThat(delta).isEqualTo(-totalDelta);
@@ -171,11 +170,11 @@ public class ProtoArrayScoreCalculatorTest {
     validator2vote.setCurrentRoot(getHash(1));
     validator2vote.setNextRoot(getHash(1337));
 
-    List<Long> deltas = computeDeltas(store, indices, oldBalances, newBalances);
+    long[] deltas = computeDeltas(store, indices, oldBalances, newBalances);
     assertThat(deltas).hasSize(1);
 
     // The block should have lost both balances
-    assertThat(deltas.get(0)).isEqualTo(-BALANCE.longValue() * 2);
+    assertThat(deltas[0]).isEqualTo(-BALANCE.longValue() * 2);
 
     votesShouldBeUpdated(store);
   }
@@ -197,11 +196,11 @@ public class ProtoArrayScoreCalculatorTest {
       newBalances.add(NEW_BALANCE);
     }
 
-    List<Long> deltas = computeDeltas(store, indices, oldBalances, newBalances);
+    long[] deltas = computeDeltas(store, indices, oldBalances, newBalances);
     assertThat(deltas).hasSize(validatorCount);
 
-    for (int i = 0; i < deltas.size(); i++) {
-      long delta = deltas.get(i);
+    for (int i = 0; i < deltas.length; i++) {
+      long delta = deltas[i];
       if (i == 0) {
         // Zero'th root should have a negative delta
         assertThat(delta).isEqualTo(-OLD_BALANCE.longValue() * validatorCount);
@@ -238,14 +237,14 @@ public class ProtoArrayScoreCalculatorTest {
       vote.setNextRoot(getHash(2));
     }
 
-    List<Long> deltas = computeDeltas(store, indices, oldBalances, newBalances);
+    long[] deltas = computeDeltas(store, indices, oldBalances, newBalances);
     assertThat(deltas).hasSize(2);
 
     // Block 1 should have only lost one balance
-    assertThat(deltas.get(0)).isEqualTo(-BALANCE.longValue());
+    assertThat(deltas[0]).isEqualTo(-BALANCE.longValue());
 
     // Block 2 should have gained two balances
-    assertThat(deltas.get(1)).isEqualTo(2 * BALANCE.longValue());
+    assertThat(deltas[1]).isEqualTo(2 * BALANCE.longValue());
 
     votesShouldBeUpdated(store);
   }
@@ -271,14 +270,14 @@ public class ProtoArrayScoreCalculatorTest {
       vote.setNextRoot(getHash(2));
     }
 
-    List<Long> deltas = computeDeltas(store, indices, oldBalances, newBalances);
+    long[] deltas = computeDeltas(store, indices, oldBalances, newBalances);
     assertThat(deltas).hasSize(2);
 
     // Block 1 should have lost both balances
-    assertThat(deltas.get(0)).isEqualTo(-BALANCE.longValue() * 2);
+    assertThat(deltas[0]).isEqualTo(-BALANCE.longValue() * 2);
 
     // Block 2 should have only gained one balance
-    assertThat(deltas.get(1)).isEqualTo(BALANCE.longValue());
+    assertThat(deltas[1]).isEqualTo(BALANCE.longValue());
 
     votesShouldBeUpdated(store);
   }
@@ -289,4 +288,21 @@ public class ProtoArrayScoreCalculatorTest {
       assertThat(vote.getCurrentRoot()).isEqualTo(vote.getNextRoot());
     }
   }
+
+  private static long[] computeDeltas(
+      final MutableStore store,
+      final Map<Bytes32, Integer> indices,
+      final List<UnsignedLong> oldBalances,
+      final List<UnsignedLong> newBalances) {
+    return ProtoArrayScoreCalculator.computeDeltas(
+        store,
+        indices.size(),
+        root -> indices.getOrDefault(root, -1),
+        toLongArray(oldBalances),
+        toLongArray(newBalances));
+  }
+
+  private static long[] toLongArray(final List<UnsignedLong> balances) {
+    return balances.stream().mapToLong(UnsignedLong::longValue).toArray();
+  }
 }
@@ -16,52 +16,36 @@ package tech.pegasys.teku.protoarray;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static tech.pegasys.teku.protoarray.ProtoArrayTestUtil.assertThatProtoArrayMatches;
+import static tech.pegasys.teku.protoarray.ProtoArrayTestUtil.getHash;
 
 import com.google.common.primitives.UnsignedLong;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.util.config.Constants;
 
 public class ProtoArraySnapshotTest {
+  private static final UnsignedLong JUSTIFIED_EPOCH = UnsignedLong.valueOf(10);
+  private static final UnsignedLong FINALIZED_EPOCH = UnsignedLong.valueOf(9);
+
+  private final ProtoArray protoArray1 =
+      new ProtoArray(
+          Constants.PROTOARRAY_FORKCHOICE_PRUNE_THRESHOLD, JUSTIFIED_EPOCH, FINALIZED_EPOCH);
 
   @Test
   void shouldProduceEqualProtoArray() {
-    List<ProtoNode> nodes = new ArrayList<>();
-    ProtoArray protoArray1 =
-        new ProtoArray(
-            Constants.PROTOARRAY_FORKCHOICE_PRUNE_THRESHOLD,
-            UnsignedLong.valueOf(10),
-            UnsignedLong.valueOf(9),
-            nodes,
-            new HashMap<>());
-
-    ProtoNode protoNode1 =
-        new ProtoNode(
-            UnsignedLong.valueOf(10000),
-            Bytes32.ZERO,
-            Bytes32.fromHexString("0xdeadbeef"),
-            Bytes32.ZERO,
-            Optional.empty(),
-            UnsignedLong.valueOf(10),
-            UnsignedLong.valueOf(9),
-            UnsignedLong.ZERO,
-            Optional.empty(),
-            Optional.empty());
-
-    protoArray1.onBlock(
-        protoNode1.getBlockSlot(),
-        protoNode1.getBlockRoot(),
-        protoNode1.getParentRoot(),
-        protoNode1.getStateRoot(),
-        protoNode1.getJustifiedEpoch(),
-        protoNode1.getFinalizedEpoch());
+    addBlock(protoArray1, 0, Bytes32.ZERO);
 
     // sanity check
-    assertThat(nodes.get(0)).isEqualTo(protoNode1);
+    assertThat(protoArray1.getBlockInformation(0))
+        .isEqualTo(
+            new BlockInformation(
+                UnsignedLong.valueOf(10000),
+                getHash(0),
+                Bytes32.ZERO,
+                Bytes32.ZERO,
+                JUSTIFIED_EPOCH,
+                FINALIZED_EPOCH));
 
     ProtoArraySnapshot snaphot = ProtoArraySnapshot.create(protoArray1);
     ProtoArray protoArray2 = snaphot.toProtoArray();
@@ -71,67 +55,98 @@ public class ProtoArraySnapshotTest {
 
   @Test
   void shouldNotBeAlteredByChangesToOriginalProtoArray() {
-    List<ProtoNode> nodes = new ArrayList<>();
-    ProtoArray protoArray1 =
-        new ProtoArray(
-            Constants.PROTOARRAY_FORKCHOICE_PRUNE_THRESHOLD,
-            UnsignedLong.valueOf(10),
-            UnsignedLong.valueOf(9),
-            nodes,
-            new HashMap<>());
-
-    ProtoNode protoNode1 =
-        new ProtoNode(
-            UnsignedLong.valueOf(10000),
-            Bytes32.ZERO,
-            Bytes32.fromHexString("0xdeadbeef"),
-            Bytes32.ZERO,
-            Optional.empty(),
-            UnsignedLong.valueOf(10),
-            UnsignedLong.valueOf(9),
-            UnsignedLong.ZERO,
-            Optional.empty(),
-            Optional.empty());
-
-    ProtoNode protoNode2 =
-        new ProtoNode(
-            UnsignedLong.valueOf(10000),
-            Bytes32.ZERO,
-            Bytes32.fromHexString("0x1234"),
-            Bytes32.ZERO,
-            Optional.empty(),
-            UnsignedLong.valueOf(10),
-            UnsignedLong.valueOf(9),
-            UnsignedLong.ZERO,
-            Optional.empty(),
-            Optional.empty());
-
-    protoArray1.onBlock(
-        protoNode1.getBlockSlot(),
-        protoNode1.getBlockRoot(),
-        protoNode1.getParentRoot(),
-        protoNode1.getStateRoot(),
-        protoNode1.getJustifiedEpoch(),
-        protoNode1.getFinalizedEpoch());
-
-    protoArray1.onBlock(
-        protoNode1.getBlockSlot(),
-        protoNode1.getBlockRoot(),
-        protoNode1.getParentRoot(),
-        protoNode1.getStateRoot(),
-        protoNode1.getJustifiedEpoch(),
-        protoNode1.getFinalizedEpoch());
+    addBlock(protoArray1, 0, Bytes32.ZERO);
+    addBlock(protoArray1, 0, Bytes32.ZERO);
 
     // sanity check
-    assertThat(nodes.get(0)).isEqualTo(protoNode1);
+    assertThat(protoArray1.size()).isEqualTo(1);
 
     ProtoArraySnapshot snaphot = ProtoArraySnapshot.create(protoArray1);
     ProtoArray protoArray2 = snaphot.toProtoArray();
 
     assertThatProtoArrayMatches(protoArray1, protoArray2);
 
-    nodes.set(0, protoNode2);
+    addBlock(protoArray1, 1, getHash(0));
 
     assertThatThrownBy(() -> assertThatProtoArrayMatches(protoArray1, protoArray2));
+    assertThat(snaphot.toProtoArray().size()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldPreservePrunedNodeCount() {
+    protoArray1.setPruneThreshold(0);
+    addChain(protoArray1, 4);
+    protoArray1.maybePrune(getHash(2));
+
+    final ProtoArray protoArray2 = ProtoArraySnapshot.create(protoArray1).toProtoArray();
+
+    assertThat(protoArray2.getPrunedNodeCount()).isEqualTo(2);
+    assertThatProtoArrayMatches(protoArray1, protoArray2);
+  }
+
+  @Test
+  void createUpdate_shouldOnlyIncludeNodesAddedSinceLastSave() {
+    addChain(protoArray1, 3);
+    final ProtoArrayUpdate update1 = ProtoArrayUpdate.create(protoArray1, 0, 0);
+    assertThat(update1.getNewNodes()).hasSize(3);
+    assertThat(update1.getNextNodeSequence()).isEqualTo(3);
+
+    addBlock(protoArray1, 3, getHash(2));
+    final ProtoArrayUpdate update2 =
+        ProtoArrayUpdate.create(
+            protoArray1, update1.getPrunedNodeCount(), update1.getNextNodeSequence());
+
+    assertThat(update2.getPreviousPrunedNodeCount()).isZero();
+    assertThat(update2.getPrunedNodeCount()).isZero();
+    assertThat(update2.getFirstNewNodeSequence()).isEqualTo(3);
+    assertThat(update2.getNewNodes()).containsExactly(protoArray1.getBlockInformation(3));
+  }
+
+  @Test
+  void applyUpdate_shouldAppendNewNodesAndDropPrunedNodes() {
+    protoArray1.setPruneThreshold(0);
+    addChain(protoArray1, 3);
+    final ProtoArrayUpdate update1 = ProtoArrayUpdate.create(protoArray1, 0, 0);
+    final ProtoArraySnapshot snapshot1 =
+        new ProtoArraySnapshot(JUSTIFIED_EPOCH, FINALIZED_EPOCH, List.of()).applyUpdate(update1);
+    assertThat(snapshot1).isEqualTo(ProtoArraySnapshot.create(protoArray1));
+
+    addBlock(protoArray1, 3, getHash(2));
+    addBlock(protoArray1, 4, getHash(3));
+    protoArray1.maybePrune(getHash(2));
+    final ProtoArrayUpdate update2 =
+        ProtoArrayUpdate.create(
+            protoArray1, update1.getPrunedNodeCount(), update1.getNextNodeSequence());
+
+    assertThat(update2.getPrunedNodeCount()).isEqualTo(2);
+    assertThat(update2.getNewNodes()).hasSize(2);
+    assertThat(snapshot1.applyUpdate(update2)).isEqualTo(ProtoArraySnapshot.create(protoArray1));
+  }
+
+  @Test
+  void applyUpdate_shouldReplaceAllNodesWhenNothingWasPreviouslySaved() {
+    addChain(protoArray1, 3);
+    final ProtoArraySnapshot snapshot = ProtoArraySnapshot.create(protoArray1);
+
+    final ProtoArrayUpdate update = ProtoArrayUpdate.create(protoArray1, 0, 0);
+
+    assertThat(snapshot.applyUpdate(update)).isEqualTo(snapshot);
+  }
+
+  private void addChain(final ProtoArray protoArray, final int length) {
+    addBlock(protoArray, 0, Bytes32.ZERO);
+    for (int i = 1; i < length; i++) {
+      addBlock(protoArray, i, getHash(i - 1));
+    }
+  }
+
+  private void addBlock(final ProtoArray protoArray, final int index, final Bytes32 parentRoot) {
+    protoArray.onBlock(
+        UnsignedLong.valueOf(10000 + index),
+        getHash(index),
+        parentRoot,
+        Bytes32.ZERO,
+        JUSTIFIED_EPOCH,
+        FINALIZED_EPOCH);
   }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.protoarray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.protoarray.ProtoArrayTestUtil.getHash;
+
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+
+class RootIndexMapTest {
+  private final RootIndexMap map = new RootIndexMap(0);
+
+  @Test
+  void get_shouldReturnNotFoundForUnknownRoot() {
+    assertThat(map.get(Bytes32.ZERO)).isEqualTo(RootIndexMap.NOT_FOUND);
+    assertThat(map.containsKey(Bytes32.ZERO)).isFalse();
+  }
+
+  @Test
+  void put_shouldStoreIndicesBeyondInitialCapacity() {
+    final int count = 10_000;
+    for (int i = 0; i < count; i++) {
+      map.put(getHash(i), i);
+    }
+
+    assertThat(map.size()).isEqualTo(count);
+    for (int i = 0; i < count; i++) {
+      assertThat(map.get(getHash(i))).isEqualTo(i);
+    }
+    assertThat(map.get(getHash(count))).isEqualTo(RootIndexMap.NOT_FOUND);
+  }
+
+  @Test
+  void put_shouldReplaceExistingIndex() {
+    map.put(getHash(1), 1);
+    map.put(getHash(1), 5);
+
+    assertThat(map.size()).isEqualTo(1);
+    assertThat(map.get(getHash(1))).isEqualTo(5);
+  }
+
+  @Test
+  void clear_shouldRemoveAllEntries() {
+    map.put(getHash(1), 1);
+    map.put(getHash(2), 2);
+
+    map.clear();
+
+    assertThat(map.size()).isZero();
+    assertThat(map.containsKey(getHash(1))).isFalse();
+  }
+}
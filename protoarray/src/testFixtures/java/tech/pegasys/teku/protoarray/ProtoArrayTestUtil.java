@@ -58,21 +58,12 @@ public class ProtoArrayTestUtil {
     return STORE_FACTORY.createGenesisStore();
   }
 
-  public static void assertThatBlockInformationMatches(ProtoNode node1, ProtoNode node2) {
-    assertThat(node1.getBlockSlot()).isEqualTo(node2.getBlockSlot());
-    assertThat(node1.getStateRoot()).isEqualTo(node2.getStateRoot());
-    assertThat(node1.getBlockRoot()).isEqualTo(node2.getBlockRoot());
-    assertThat(node1.getParentRoot()).isEqualTo(node2.getParentRoot());
-    assertThat(node1.getJustifiedEpoch()).isEqualTo(node2.getJustifiedEpoch());
-    assertThat(node1.getFinalizedEpoch()).isEqualTo(node2.getFinalizedEpoch());
-  }
-
   public static void assertThatProtoArrayMatches(ProtoArray array1, ProtoArray array2) {
-    assertThat(array1.getNodes().size()).isEqualTo(array2.getNodes().size());
+    assertThat(array1.size()).isEqualTo(array2.size());
     assertThat(array1.getJustifiedEpoch()).isEqualTo(array2.getJustifiedEpoch());
     assertThat(array1.getFinalizedEpoch()).isEqualTo(array2.getFinalizedEpoch());
-    for (int i = 0; i < array1.getNodes().size(); i++) {
-      assertThatBlockInformationMatches(array1.getNodes().get(i), array2.getNodes().get(i));
+    for (int i = 0; i < array1.size(); i++) {
+      assertThat(array1.getBlockInformation(i)).isEqualTo(array2.getBlockInformation(i));
     }
   }
 }
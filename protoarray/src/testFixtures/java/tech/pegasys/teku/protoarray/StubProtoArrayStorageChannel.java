@@ -18,7 +18,7 @@ import tech.pegasys.teku.infrastructure.async.SafeFuture;
 
 public class StubProtoArrayStorageChannel implements ProtoArrayStorageChannel {
   @Override
-  public void onProtoArrayUpdate(ProtoArraySnapshot protoArraySnapshot) {}
+  public void onProtoArrayUpdate(ProtoArrayUpdate protoArrayUpdate) {}
 
   @Override
   public SafeFuture<Optional<ProtoArraySnapshot>> getProtoArraySnapshot() {
@@ -18,7 +18,6 @@ import static tech.pegasys.teku.core.ForkChoiceUtil.on_tick;
 import static tech.pegasys.teku.logging.StatusLogger.STATUS_LOG;
 import static tech.pegasys.teku.util.config.Constants.SECONDS_PER_SLOT;
 
-import com.google.common.eventbus.EventBus;
 import com.google.common.primitives.UnsignedLong;
 import io.libp2p.core.crypto.KEY_TYPE;
 import io.libp2p.core.crypto.KeyKt;
@@ -34,12 +33,16 @@ import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.beaconrestapi.BeaconRestApi;
+import tech.pegasys.teku.bls.VerifiedSignatureCache;
 import tech.pegasys.teku.core.BlockProposalUtil;
 import tech.pegasys.teku.core.StateTransition;
+import tech.pegasys.teku.core.blockvalidator.PipelinedBlockValidator;
 import tech.pegasys.teku.core.operationvalidators.AttestationDataStateTransitionValidator;
 import tech.pegasys.teku.core.operationvalidators.AttesterSlashingStateTransitionValidator;
 import tech.pegasys.teku.core.operationvalidators.ProposerSlashingStateTransitionValidator;
 import tech.pegasys.teku.core.operationvalidators.VoluntaryExitStateTransitionValidator;
+import tech.pegasys.teku.core.profiling.StateTransitionProfiler;
+import tech.pegasys.teku.data.BlockProcessingRecordChannel;
 import tech.pegasys.teku.datastructures.attestation.ValidateableAttestation;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.datastructures.operations.AttesterSlashing;
@@ -51,6 +54,7 @@ import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.networking.eth2.Eth2Config;
 import tech.pegasys.teku.networking.eth2.Eth2Network;
 import tech.pegasys.teku.networking.eth2.Eth2NetworkBuilder;
+import tech.pegasys.teku.networking.eth2.gossip.events.GossipedBlockChannel;
 import tech.pegasys.teku.networking.eth2.gossip.subnets.AttestationTopicSubscriber;
 import tech.pegasys.teku.networking.eth2.mock.NoOpEth2Network;
 import tech.pegasys.teku.networking.p2p.connection.TargetPeerRange;
@@ -66,11 +70,17 @@ import tech.pegasys.teku.statetransition.attestation.AggregatingAttestationPool;
 import tech.pegasys.teku.statetransition.attestation.AttestationManager;
 import tech.pegasys.teku.statetransition.attestation.ForkChoiceAttestationProcessor;
 import tech.pegasys.teku.statetransition.blockimport.BlockImporter;
+import tech.pegasys.teku.statetransition.blockimport.BlockLifecycleTracker;
+import tech.pegasys.teku.statetransition.blockimport.TimingBlockLifecycleTracker;
+import tech.pegasys.teku.statetransition.events.attestation.AttestationTimingChannel;
+import tech.pegasys.teku.statetransition.events.block.ImportedBlockChannel;
+import tech.pegasys.teku.statetransition.events.block.ProposedBlockChannel;
 import tech.pegasys.teku.statetransition.forkchoice.ForkChoice;
 import tech.pegasys.teku.statetransition.genesis.GenesisHandler;
 import tech.pegasys.teku.statetransition.util.FutureItems;
 import tech.pegasys.teku.statetransition.util.PendingPool;
 import tech.pegasys.teku.statetransition.util.StartupUtil;
+import tech.pegasys.teku.storage.api.ChainInitializedChannel;
 import tech.pegasys.teku.storage.api.FinalizedCheckpointChannel;
 import tech.pegasys.teku.storage.api.ReorgEventChannel;
 import tech.pegasys.teku.storage.api.StorageQueryChannel;
@@ -82,6 +92,7 @@ import tech.pegasys.teku.storage.store.UpdatableStore.StoreTransaction;
 import tech.pegasys.teku.sync.BlockManager;
 import tech.pegasys.teku.sync.DefaultSyncService;
 import tech.pegasys.teku.sync.FetchRecentBlocksService;
+import tech.pegasys.teku.sync.HistoricalBlockSyncService;
 import tech.pegasys.teku.sync.SyncManager;
 import tech.pegasys.teku.sync.SyncService;
 import tech.pegasys.teku.sync.SyncStateTracker;
@@ -107,12 +118,15 @@ public class BeaconChainController extends Service implements TimeTickChannel {
   private final TekuConfiguration config;
   private final AsyncRunner asyncRunner;
   private final TimeProvider timeProvider;
-  private final EventBus eventBus;
   private final boolean setupInitialState;
   private final SlotEventsChannel slotEventsChannelPublisher;
   private final AsyncRunner networkAsyncRunner;
+  private final AsyncRunner blockValidationAsyncRunner;
+  private final VerifiedSignatureCache verifiedSignatureCache =
+      new VerifiedSignatureCache(VerifiedSignatureCache.DEFAULT_MAX_SIZE);
 
   private volatile ForkChoice forkChoice;
+  private volatile BlockLifecycleTracker blockLifecycleTracker;
   private volatile StateTransition stateTransition;
   private volatile BlockImporter blockImporter;
   private volatile RecentChainData recentChainData;
@@ -121,6 +135,8 @@ public class BeaconChainController extends Service implements TimeTickChannel {
   private volatile AggregatingAttestationPool attestationPool;
   private volatile DepositProvider depositProvider;
   private volatile SyncService syncService;
+  private volatile Optional<HistoricalBlockSyncService> historicalBlockSyncService =
+      Optional.empty();
   private volatile AttestationManager attestationManager;
   private volatile CombinedChainDataClient combinedChainDataClient;
   private volatile Eth1DataCache eth1DataCache;
@@ -135,8 +151,11 @@ public class BeaconChainController extends Service implements TimeTickChannel {
   public BeaconChainController(final ServiceConfig serviceConfig) {
     this.asyncRunner = serviceConfig.createAsyncRunner("beaconchain");
     this.networkAsyncRunner = serviceConfig.createAsyncRunner("p2p", 10);
+    // Block import blocks waiting for signature verification so it must not compete with the
+    // tasks it waits on for shared threads
+    this.blockValidationAsyncRunner =
+        serviceConfig.createAsyncRunnerWithDedicatedThreads("blockvalidation");
     this.timeProvider = serviceConfig.getTimeProvider();
-    this.eventBus = serviceConfig.getEventBus();
     this.eventChannels = serviceConfig.getEventChannels();
     this.config = serviceConfig.getConfig();
     this.metricsSystem = serviceConfig.getMetricsSystem();
@@ -146,7 +165,6 @@ public class BeaconChainController extends Service implements TimeTickChannel {
 
   @Override
   protected SafeFuture<?> doStart() {
-    this.eventBus.register(this);
     LOG.debug("Starting {}", this.getClass().getSimpleName());
     return initialize()
         .thenCompose(
@@ -158,6 +176,9 @@ public class BeaconChainController extends Service implements TimeTickChannel {
             attestationManager.start(),
             p2pNetwork.start(),
             syncService.start(),
+            historicalBlockSyncService
+                .<SafeFuture<?>>map(HistoricalBlockSyncService::start)
+                .orElse(SafeFuture.COMPLETE),
             syncStateTracker.start())
         .reportExceptions();
   }
@@ -166,10 +187,12 @@ public class BeaconChainController extends Service implements TimeTickChannel {
   protected SafeFuture<?> doStop() {
     LOG.debug("Stopping {}", this.getClass().getSimpleName());
     return SafeFuture.allOf(
-        SafeFuture.fromRunnable(() -> eventBus.unregister(this)),
         SafeFuture.fromRunnable(() -> beaconRestAPI.ifPresent(BeaconRestApi::stop)),
         syncStateTracker.stop(),
         syncService.stop(),
+        historicalBlockSyncService
+            .<SafeFuture<?>>map(HistoricalBlockSyncService::stop)
+            .orElse(SafeFuture.COMPLETE),
         attestationManager.stop(),
         SafeFuture.fromRunnable(p2pNetwork::stop));
   }
@@ -183,13 +206,18 @@ public class BeaconChainController extends Service implements TimeTickChannel {
             eventChannels.getPublisher(ProtoArrayStorageChannel.class, asyncRunner),
             eventChannels.getPublisher(FinalizedCheckpointChannel.class, asyncRunner),
             eventChannels.getPublisher(ReorgEventChannel.class),
-            eventBus)
+            eventChannels.getPublisher(ChainInitializedChannel.class))
         .thenAccept(
             client -> {
               // Setup chain storage
               this.recentChainData = client;
               if (recentChainData.isPreGenesis()) {
-                if (setupInitialState) {
+                if (config.isInitialAnchorEnabled()) {
+                  StartupUtil.setupInitialAnchor(
+                      recentChainData,
+                      config.getInitialAnchorState(),
+                      config.getInitialAnchorBlock());
+                } else if (setupInitialState) {
                   setupInitialState();
                 } else if (config.isEth1Enabled()) {
                   STATUS_LOG.loadingGenesisFromEth1Chain();
@@ -209,6 +237,7 @@ public class BeaconChainController extends Service implements TimeTickChannel {
 
   public void initAll() {
     initStateTransition();
+    initBlockLifecycleTracker();
     initForkChoice();
     initBlockImporter();
     initCombinedChainDataClient();
@@ -261,12 +290,25 @@ public class BeaconChainController extends Service implements TimeTickChannel {
 
   private void initStateTransition() {
     LOG.debug("BeaconChainController.initStateTransition()");
-    stateTransition = new StateTransition();
+    StateTransitionProfiler.initMetrics(metricsSystem);
+    stateTransition =
+        new StateTransition(
+            new PipelinedBlockValidator(verifiedSignatureCache, blockValidationAsyncRunner));
+  }
+
+  private void initBlockLifecycleTracker() {
+    LOG.debug("BeaconChainController.initBlockLifecycleTracker()");
+    // Blocks which are not head by the time attestations are due are reported as slow
+    final long slowBlockThresholdMillis = SECONDS_PER_SLOT * 1000L / 3;
+    blockLifecycleTracker =
+        new TimingBlockLifecycleTracker(metricsSystem, timeProvider, slowBlockThresholdMillis);
   }
 
   private void initForkChoice() {
     LOG.debug("BeaconChainController.initForkChoice()");
-    forkChoice = new ForkChoice(recentChainData, stateTransition);
+    forkChoice =
+        new ForkChoice(
+            recentChainData, stateTransition, verifiedSignatureCache, blockLifecycleTracker);
   }
 
   public void initMetrics() {
@@ -325,7 +367,7 @@ public class BeaconChainController extends Service implements TimeTickChannel {
             attestationPool,
             attestationManager,
             attestationTopicSubscriber,
-            eventBus);
+            eventChannels.getPublisher(ProposedBlockChannel.class));
     eventChannels
         .subscribe(SlotEventsChannel.class, attestationTopicSubscriber)
         .subscribe(ValidatorApiChannel.class, validatorApiHandler);
@@ -348,13 +390,13 @@ public class BeaconChainController extends Service implements TimeTickChannel {
         new ForkChoiceAttestationProcessor(recentChainData, forkChoice);
     attestationManager =
         AttestationManager.create(
-            eventBus,
             pendingAttestations,
             futureAttestations,
             forkChoiceAttestationProcessor,
             attestationPool);
     eventChannels
         .subscribe(SlotEventsChannel.class, attestationManager)
+        .subscribe(ImportedBlockChannel.class, attestationManager)
         .subscribe(FinalizedCheckpointChannel.class, pendingAttestations);
   }
 
@@ -394,8 +436,10 @@ public class BeaconChainController extends Service implements TimeTickChannel {
           Eth2NetworkBuilder.create()
               .config(p2pConfig)
               .eth2Config(eth2Config)
-              .eventBus(eventBus)
+              .eventChannels(eventChannels)
               .recentChainData(recentChainData)
+              .verifiedSignatureCache(verifiedSignatureCache)
+              .blockLifecycleTracker(blockLifecycleTracker)
               .gossipedAttestationConsumer(
                   attestation ->
                       attestationManager
@@ -426,7 +470,7 @@ public class BeaconChainController extends Service implements TimeTickChannel {
             forkChoice,
             p2pNetwork,
             slotEventsChannelPublisher,
-            eventBus);
+            eventChannels.getPublisher(AttestationTimingChannel.class));
   }
 
   private Optional<Bytes> getP2pPrivateKeyBytes() {
@@ -462,7 +506,7 @@ public class BeaconChainController extends Service implements TimeTickChannel {
             eventChannels.getPublisher(ValidatorApiChannel.class, asyncRunner),
             blockImporter);
     if (config.isRestApiEnabled()) {
-      beaconRestAPI = Optional.of(new BeaconRestApi(dataProvider, config));
+      beaconRestAPI = Optional.of(new BeaconRestApi(dataProvider, config, metricsSystem));
     } else {
       LOG.info("rest-api-enabled is false, not starting rest api.");
     }
@@ -470,7 +514,14 @@ public class BeaconChainController extends Service implements TimeTickChannel {
 
   public void initBlockImporter() {
     LOG.debug("BeaconChainController.initBlockImporter()");
-    blockImporter = new BlockImporter(recentChainData, forkChoice, eventBus);
+    blockImporter =
+        new BlockImporter(
+            recentChainData,
+            forkChoice,
+            eventChannels.getPublisher(ImportedBlockChannel.class),
+            eventChannels.getPublisher(BlockProcessingRecordChannel.class),
+            blockLifecycleTracker);
+    eventChannels.subscribe(ProposedBlockChannel.class, blockImporter);
   }
 
   public void initSyncManager() {
@@ -482,21 +533,31 @@ public class BeaconChainController extends Service implements TimeTickChannel {
       final FutureItems<SignedBeaconBlock> futureBlocks =
           new FutureItems<>(SignedBeaconBlock::getSlot);
       final FetchRecentBlocksService recentBlockFetcher =
-          FetchRecentBlocksService.create(asyncRunner, p2pNetwork, pendingBlocks);
+          FetchRecentBlocksService.create(
+              asyncRunner, p2pNetwork, pendingBlocks, blockLifecycleTracker);
       BlockManager blockManager =
           BlockManager.create(
-              eventBus,
               pendingBlocks,
               futureBlocks,
               recentBlockFetcher,
               recentChainData,
-              blockImporter);
+              blockImporter,
+              blockLifecycleTracker);
       SyncManager syncManager =
           SyncManager.create(
               asyncRunner, p2pNetwork, recentChainData, blockImporter, metricsSystem);
       syncService = new DefaultSyncService(blockManager, syncManager, recentChainData);
+      historicalBlockSyncService =
+          Optional.of(
+              HistoricalBlockSyncService.create(
+                  asyncRunner,
+                  p2pNetwork,
+                  eventChannels.getPublisher(StorageQueryChannel.class, asyncRunner),
+                  eventChannels.getPublisher(StorageUpdateChannel.class, asyncRunner)));
       eventChannels
           .subscribe(SlotEventsChannel.class, blockManager)
+          .subscribe(ImportedBlockChannel.class, blockManager)
+          .subscribe(GossipedBlockChannel.class, blockManager)
           .subscribe(FinalizedCheckpointChannel.class, pendingBlocks);
     }
   }
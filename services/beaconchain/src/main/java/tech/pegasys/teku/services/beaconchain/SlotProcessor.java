@@ -20,14 +20,12 @@ import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.compute_star
 import static tech.pegasys.teku.util.config.Constants.SECONDS_PER_SLOT;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.eventbus.EventBus;
 import com.google.common.primitives.UnsignedLong;
 import tech.pegasys.teku.core.ForkChoiceUtil;
 import tech.pegasys.teku.datastructures.blocks.NodeSlot;
 import tech.pegasys.teku.logging.EventLogger;
 import tech.pegasys.teku.networking.eth2.Eth2Network;
-import tech.pegasys.teku.statetransition.events.attestation.BroadcastAggregatesEvent;
-import tech.pegasys.teku.statetransition.events.attestation.BroadcastAttestationEvent;
+import tech.pegasys.teku.statetransition.events.attestation.AttestationTimingChannel;
 import tech.pegasys.teku.statetransition.forkchoice.ForkChoice;
 import tech.pegasys.teku.storage.client.RecentChainData;
 import tech.pegasys.teku.sync.SyncService;
@@ -39,7 +37,7 @@ public class SlotProcessor {
   private final ForkChoice forkChoice;
   private final Eth2Network p2pNetwork;
   private final SlotEventsChannel slotEventsChannelPublisher;
-  private final EventBus eventBus;
+  private final AttestationTimingChannel attestationTimingChannel;
   private final NodeSlot nodeSlot = new NodeSlot(ZERO);
   private final EventLogger eventLog;
 
@@ -55,14 +53,14 @@ public class SlotProcessor {
       final ForkChoice forkChoice,
       final Eth2Network p2pNetwork,
       final SlotEventsChannel slotEventsChannelPublisher,
-      final EventBus eventBus,
+      final AttestationTimingChannel attestationTimingChannel,
       final EventLogger eventLogger) {
     this.recentChainData = recentChainData;
     this.syncService = syncService;
     this.forkChoice = forkChoice;
     this.p2pNetwork = p2pNetwork;
     this.slotEventsChannelPublisher = slotEventsChannelPublisher;
-    this.eventBus = eventBus;
+    this.attestationTimingChannel = attestationTimingChannel;
     this.eventLog = eventLogger;
   }
 
@@ -72,14 +70,14 @@ public class SlotProcessor {
       final ForkChoice forkChoice,
       final Eth2Network p2pNetwork,
       final SlotEventsChannel slotEventsChannelPublisher,
-      final EventBus eventBus) {
+      final AttestationTimingChannel attestationTimingChannel) {
     this(
         recentChainData,
         syncService,
         forkChoice,
         p2pNetwork,
         slotEventsChannelPublisher,
-        eventBus,
+        attestationTimingChannel,
         EventLogger.EVENT_LOG);
   }
 
@@ -200,12 +198,12 @@ public class SlotProcessor {
                     recentChainData.getFinalizedRoot(),
                     p2pNetwork.getPeerCount()));
 
-    this.eventBus.post(new BroadcastAttestationEvent(nodeSlot.getValue()));
+    attestationTimingChannel.onAttestationCreationDue(nodeSlot.getValue());
   }
 
   private void processSlotAggregate() {
     onTickSlotAggregate = nodeSlot.getValue();
-    this.eventBus.post(new BroadcastAggregatesEvent(nodeSlot.getValue()));
+    attestationTimingChannel.onAttestationAggregationDue(nodeSlot.getValue());
   }
 
   @VisibleForTesting
@@ -22,7 +22,6 @@ import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.compute_star
 import static tech.pegasys.teku.metrics.TekuMetricCategory.BEACON;
 import static tech.pegasys.teku.util.config.Constants.SLOTS_PER_EPOCH;
 
-import com.google.common.eventbus.EventBus;
 import com.google.common.primitives.UnsignedLong;
 import java.util.List;
 import java.util.Optional;
@@ -62,8 +61,7 @@ class BeaconChainMetricsTest {
   private final NodeSlot nodeSlot = new NodeSlot(NODE_SLOT_VALUE);
 
   private final RecentChainData recentChainData = mock(RecentChainData.class);
-  private final RecentChainData preGenesisChainData =
-      MemoryOnlyRecentChainData.create(mock(EventBus.class));
+  private final RecentChainData preGenesisChainData = MemoryOnlyRecentChainData.create();
   private final Eth2Network eth2Network = mock(Eth2Network.class);
 
   private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
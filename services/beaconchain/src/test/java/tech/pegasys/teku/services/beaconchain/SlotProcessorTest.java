@@ -23,9 +23,7 @@ import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.compute_epoc
 import static tech.pegasys.teku.util.config.Constants.SECONDS_PER_SLOT;
 import static tech.pegasys.teku.util.config.Constants.SLOTS_PER_EPOCH;
 
-import com.google.common.eventbus.EventBus;
 import com.google.common.primitives.UnsignedLong;
-import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -34,14 +32,12 @@ import tech.pegasys.teku.datastructures.state.BeaconState;
 import tech.pegasys.teku.datastructures.util.DataStructureUtil;
 import tech.pegasys.teku.logging.EventLogger;
 import tech.pegasys.teku.networking.eth2.Eth2Network;
-import tech.pegasys.teku.statetransition.events.attestation.BroadcastAggregatesEvent;
-import tech.pegasys.teku.statetransition.events.attestation.BroadcastAttestationEvent;
+import tech.pegasys.teku.statetransition.events.attestation.AttestationTimingChannel;
 import tech.pegasys.teku.statetransition.forkchoice.ForkChoice;
 import tech.pegasys.teku.storage.client.RecentChainData;
 import tech.pegasys.teku.storage.storageSystem.InMemoryStorageSystem;
 import tech.pegasys.teku.storage.storageSystem.StorageSystem;
 import tech.pegasys.teku.sync.SyncService;
-import tech.pegasys.teku.util.EventSink;
 import tech.pegasys.teku.util.config.StateStorageMode;
 import tech.pegasys.teku.util.time.channels.SlotEventsChannel;
 
@@ -54,12 +50,13 @@ public class SlotProcessorTest {
   private final StorageSystem storageSystem =
       InMemoryStorageSystem.createEmptyV3StorageSystem(StateStorageMode.ARCHIVE);
   private final RecentChainData recentChainData = storageSystem.recentChainData();
-  private final EventBus eventBus = storageSystem.eventBus();
 
   private final SyncService syncService = mock(SyncService.class);
   private final ForkChoice forkChoice = mock(ForkChoice.class);
   private final Eth2Network p2pNetwork = mock(Eth2Network.class);
   private final SlotEventsChannel slotEventsChannel = mock(SlotEventsChannel.class);
+  private final AttestationTimingChannel attestationTimingChannel =
+      mock(AttestationTimingChannel.class);
   private final SlotProcessor slotProcessor =
       new SlotProcessor(
           recentChainData,
@@ -67,7 +64,7 @@ public class SlotProcessorTest {
           forkChoice,
           p2pNetwork,
           slotEventsChannel,
-          eventBus,
+          attestationTimingChannel,
           eventLogger);
   final UnsignedLong genesisTime = beaconState.getGenesis_time();
   final UnsignedLong desiredSlot = UnsignedLong.valueOf(100L);
@@ -205,8 +202,6 @@ public class SlotProcessorTest {
   public void onTick_shouldRunAttestationsDuringProcessing() {
     // skip the slot start
     slotProcessor.setOnTickSlotStart(slotProcessor.getNodeSlot().getValue());
-    final List<BroadcastAttestationEvent> events =
-        EventSink.capture(eventBus, BroadcastAttestationEvent.class);
     when(syncService.isSyncActive()).thenReturn(false);
 
     when(p2pNetwork.getPeerCount()).thenReturn(1);
@@ -222,8 +217,8 @@ public class SlotProcessorTest {
             recentChainData.getStore().getFinalizedCheckpoint().getEpoch(),
             recentChainData.getFinalizedRoot(),
             1);
-    assertThat(events)
-        .containsExactly(new BroadcastAttestationEvent(slotProcessor.getNodeSlot().getValue()));
+    verify(attestationTimingChannel)
+        .onAttestationCreationDue(slotProcessor.getNodeSlot().getValue());
   }
 
   @Test
@@ -233,9 +228,6 @@ public class SlotProcessorTest {
     slotProcessor.setOnTickSlotStart(slot);
     slotProcessor.setOnTickSlotAttestation(slot);
 
-    final List<BroadcastAggregatesEvent> events =
-        EventSink.capture(eventBus, BroadcastAggregatesEvent.class);
-
     when(syncService.isSyncActive()).thenReturn(false);
 
     when(p2pNetwork.getPeerCount()).thenReturn(1);
@@ -243,7 +235,7 @@ public class SlotProcessorTest {
     slotProcessor.onTick(
         beaconState.getGenesis_time().plus(UnsignedLong.valueOf(SECONDS_PER_SLOT).minus(ONE)));
     assertThat(slotProcessor.getNodeSlot().getValue()).isEqualTo(ONE);
-    assertThat(events).containsExactly(new BroadcastAggregatesEvent(slot));
+    verify(attestationTimingChannel).onAttestationAggregationDue(slot);
   }
 
   @Test
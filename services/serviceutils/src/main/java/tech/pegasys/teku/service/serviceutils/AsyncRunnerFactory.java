@@ -14,23 +14,53 @@
 package tech.pegasys.teku.service.serviceutils;
 
 import java.util.Collection;
+import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.MetricTrackingExecutorFactory;
 import tech.pegasys.teku.infrastructure.async.ScheduledExecutorAsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SharedExecutorPool;
 
 public class AsyncRunnerFactory {
   private final Collection<AsyncRunner> asyncRunners = new CopyOnWriteArrayList<>();
 
   private final MetricTrackingExecutorFactory executorFactory;
+  private final Optional<SharedExecutorPool> sharedExecutorPool;
 
   public AsyncRunnerFactory(final MetricTrackingExecutorFactory executorFactory) {
+    this(executorFactory, Optional.empty());
+  }
+
+  public AsyncRunnerFactory(
+      final MetricTrackingExecutorFactory executorFactory,
+      final Optional<SharedExecutorPool> sharedExecutorPool) {
     this.executorFactory = executorFactory;
+    this.sharedExecutorPool = sharedExecutorPool;
   }
 
+  /**
+   * Creates an {@link AsyncRunner} using the shared executor pool if one was provided, otherwise
+   * with its own dedicated threads.
+   */
   public AsyncRunner create(final String name, final int maxThreads) {
-    final AsyncRunner asyncRunner =
-        ScheduledExecutorAsyncRunner.create(name, maxThreads, executorFactory);
+    return sharedExecutorPool
+        .map(
+            pool ->
+                register(
+                    ScheduledExecutorAsyncRunner.createOnSharedPool(
+                        name, maxThreads, pool, executorFactory)))
+        .orElseGet(() -> createWithDedicatedThreads(name, maxThreads));
+  }
+
+  /**
+   * Creates an {@link AsyncRunner} with its own threads even when a shared executor pool is in use,
+   * for services which must not compete with others for threads.
+   */
+  public AsyncRunner createWithDedicatedThreads(final String name, final int maxThreads) {
+    return register(ScheduledExecutorAsyncRunner.create(name, maxThreads, executorFactory));
+  }
+
+  private AsyncRunner register(final AsyncRunner asyncRunner) {
     asyncRunners.add(asyncRunner);
     return asyncRunner;
   }
@@ -73,4 +73,9 @@ public class ServiceConfig {
   public AsyncRunner createAsyncRunner(final String name, final int maxThreads) {
     return asyncRunnerFactory.create(name, maxThreads);
   }
+
+  public AsyncRunner createAsyncRunnerWithDedicatedThreads(final String name) {
+    return asyncRunnerFactory.createWithDedicatedThreads(
+        name, Math.max(Runtime.getRuntime().availableProcessors(), 5));
+  }
 }
@@ -13,8 +13,10 @@
 
 package tech.pegasys.teku.ssz.SSZTypes;
 
+import java.util.Iterator;
 import java.util.function.Function;
 import org.apache.tuweni.bytes.Bytes32;
+import org.jetbrains.annotations.NotNull;
 import tech.pegasys.teku.ssz.backing.VectorViewRead;
 import tech.pegasys.teku.ssz.backing.VectorViewWrite;
 import tech.pegasys.teku.ssz.backing.ViewRead;
@@ -47,6 +49,23 @@ public class SSZBackingVector<C, R extends ViewRead> extends SSZAbstractCollecti
     return unwrapper.apply(delegate.get(index));
   }
 
+  @NotNull
+  @Override
+  public Iterator<C> iterator() {
+    final Iterator<R> viewIterator = delegate.childIterator();
+    return new Iterator<>() {
+      @Override
+      public boolean hasNext() {
+        return viewIterator.hasNext();
+      }
+
+      @Override
+      public C next() {
+        return unwrapper.apply(viewIterator.next());
+      }
+    };
+  }
+
   @Override
   public int size() {
     return delegate.size();
@@ -13,6 +13,8 @@
 
 package tech.pegasys.teku.ssz.backing;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import tech.pegasys.teku.ssz.backing.type.CompositeViewType;
 
 /**
@@ -34,6 +36,41 @@ public interface CompositeViewRead<ChildType> extends ViewRead {
    */
   ChildType get(int index);
 
+  /** Returns an iterator over all children in index order */
+  default Iterator<ChildType> childIterator() {
+    return childIterator(0, size());
+  }
+
+  /**
+   * Returns an iterator over the children from {@code fromIndex} (inclusive) to {@code toIndex}
+   * (exclusive) in index order. Tree backed implementations traverse the backing tree once instead
+   * of resolving every child from the root, and don't populate the children views cache.
+   *
+   * @throws IndexOutOfBoundsException if the range is not within [0, size())
+   */
+  default Iterator<ChildType> childIterator(int fromIndex, int toIndex) {
+    if (fromIndex < 0 || fromIndex > toIndex || toIndex > size()) {
+      throw new IndexOutOfBoundsException(
+          "Invalid range [" + fromIndex + ", " + toIndex + ") for size " + size());
+    }
+    return new Iterator<>() {
+      private int index = fromIndex;
+
+      @Override
+      public boolean hasNext() {
+        return index < toIndex;
+      }
+
+      @Override
+      public ChildType next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return get(index++);
+      }
+    };
+  }
+
   @Override
   CompositeViewType getType();
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ssz.backing.tree;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import tech.pegasys.teku.ssz.backing.tree.TreeNode.BranchNode;
+
+/**
+ * Depth-first cursor over the nodes at a fixed depth of a binary tree, visiting them from left to
+ * right.
+ *
+ * <p>The cursor keeps the path from the root to the current node, so moving to the next node only
+ * descends from the closest common ancestor. Visiting {@code n} consecutive nodes this way costs
+ * {@code O(n + depth)} rather than {@code O(n * depth)} for separate {@link TreeNode#get(long)}
+ * lookups.
+ */
+public class TreeCursor implements Iterator<TreeNode> {
+  private final int depth;
+  private final TreeNode[] path;
+  private final long endIndex;
+  private long nextIndex;
+
+  /**
+   * Creates a cursor over the nodes at {@code depth} with indices from {@code fromIndex}
+   * (inclusive) to {@code toIndex} (exclusive). Index {@code i} corresponds to generalized index
+   * {@code (1 << depth) + i}
+   */
+  public TreeCursor(
+      final TreeNode root, final int depth, final long fromIndex, final long toIndex) {
+    checkArgument(depth >= 0 && depth < 63, "Invalid depth: %s", depth);
+    checkArgument(
+        fromIndex >= 0 && fromIndex <= toIndex && toIndex <= 1L << depth,
+        "Invalid range [%s, %s) for depth %s",
+        fromIndex,
+        toIndex,
+        depth);
+    this.depth = depth;
+    this.path = new TreeNode[depth + 1];
+    this.path[0] = root;
+    this.nextIndex = fromIndex;
+    this.endIndex = toIndex;
+    if (fromIndex < toIndex) {
+      descend(0);
+    }
+  }
+
+  /** Returns the index of the node which will be returned by the next call to {@link #next()} */
+  public long nextIndex() {
+    return nextIndex;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return nextIndex < endIndex;
+  }
+
+  @Override
+  public TreeNode next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    final TreeNode node = path[depth];
+    nextIndex++;
+    if (nextIndex < endIndex) {
+      // The lowest set bit of the new index is the highest bit that changed, so only the levels
+      // below the corresponding ancestor need to be walked again
+      descend(depth - 1 - Long.numberOfTrailingZeros(nextIndex));
+    }
+    return node;
+  }
+
+  private void descend(final int fromLevel) {
+    for (int level = fromLevel; level < depth; level++) {
+      final BranchNode branch = (BranchNode) path[level];
+      path[level + 1] =
+          ((nextIndex >>> (depth - 1 - level)) & 1) == 0 ? branch.left() : branch.right();
+    }
+  }
+}
@@ -16,6 +16,7 @@ package tech.pegasys.teku.ssz.backing.view;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -87,6 +88,45 @@ public abstract class AbstractCompositeViewWrite<
     }
   }
 
+  /**
+   * Iterates the backing immutable view and substitutes children changed in this view. Changes made
+   * while iterating are visible for children not yet returned by the iterator
+   */
+  @Override
+  public Iterator<ChildReadType> childIterator(int fromIndex, int toIndex) {
+    ViewUtils.checkRange(fromIndex, toIndex, size());
+    Iterator<ChildReadType> backingIterator =
+        backingImmutableView.childIterator(fromIndex, toIndex);
+    return new Iterator<>() {
+      private int index = fromIndex;
+
+      @Override
+      public boolean hasNext() {
+        return backingIterator.hasNext();
+      }
+
+      @Override
+      public ChildReadType next() {
+        ChildReadType backingChild = backingIterator.next();
+        ChildReadType changedChild = getChangedChild(index++);
+        return changedChild != null ? changedChild : backingChild;
+      }
+    };
+  }
+
+  private ChildReadType getChangedChild(int index) {
+    if (childrenChanges.isEmpty() && childrenRefs.isEmpty()) {
+      return null;
+    }
+    ChildReadType ret = childrenChanges.get(index);
+    return ret != null ? ret : childrenRefs.get(index);
+  }
+
+  /** Returns true if any children were changed since this view was created or last committed */
+  boolean hasUncommittedChanges() {
+    return !childrenChanges.isEmpty() || !childrenRefsChanged.isEmpty();
+  }
+
   @Override
   public ChildWriteType getByRef(int index) {
     ChildWriteType ret = childrenRefs.get(index);
@@ -14,6 +14,7 @@
 package tech.pegasys.teku.ssz.backing.view;
 
 import java.util.Arrays;
+import java.util.Iterator;
 import tech.pegasys.teku.ssz.backing.ListViewRead;
 import tech.pegasys.teku.ssz.backing.ListViewWrite;
 import tech.pegasys.teku.ssz.backing.VectorViewRead;
@@ -107,6 +108,17 @@ public class ListViewReadImpl<ElementType extends ViewRead> implements ListViewR
     return container.getData().get(index);
   }
 
+  @Override
+  public Iterator<ElementType> childIterator(int fromIndex, int toIndex) {
+    ViewUtils.checkRange(fromIndex, toIndex, size());
+    return container.getData().childIterator(fromIndex, toIndex);
+  }
+
+  /** Returns the backing node of the vector holding this list's elements */
+  TreeNode getDataBackingNode() {
+    return container.getData().getBackingNode();
+  }
+
   @Override
   public ListViewWrite<ElementType> createWritableCopy() {
     return new ListViewWriteImpl<>(getType(), container.createWritableCopy());
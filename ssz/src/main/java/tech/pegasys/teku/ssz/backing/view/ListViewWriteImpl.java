@@ -16,6 +16,8 @@ package tech.pegasys.teku.ssz.backing.view;
 import static tech.pegasys.teku.ssz.backing.view.BasicViews.UInt64View;
 import static tech.pegasys.teku.ssz.backing.view.ListViewReadImpl.ListContainerRead;
 
+import java.util.Iterator;
+import java.util.Optional;
 import java.util.function.Consumer;
 import tech.pegasys.teku.ssz.backing.ListViewRead;
 import tech.pegasys.teku.ssz.backing.ListViewWrite;
@@ -95,6 +97,26 @@ public class ListViewWriteImpl<
     return container.getData().get(index);
   }
 
+  @Override
+  public Iterator<ElementReadType> childIterator(int fromIndex, int toIndex) {
+    ViewUtils.checkRange(fromIndex, toIndex, size());
+    return container.getData().childIterator(fromIndex, toIndex);
+  }
+
+  /**
+   * Returns the backing node of the vector holding this list's elements if none of the elements
+   * have been changed since this view was created or last committed
+   */
+  Optional<TreeNode> getUnchangedDataBackingNode() {
+    VectorViewWriteRef<ElementReadType, ElementWriteType> data = container.getData();
+    if (data instanceof AbstractCompositeViewWrite
+        && !((AbstractCompositeViewWrite<?, ?>) data).hasUncommittedChanges()) {
+      return Optional.of(
+          ((AbstractCompositeViewWrite<?, ?>) data).backingImmutableView.getBackingNode());
+    }
+    return Optional.empty();
+  }
+
   @Override
   public ElementWriteType getByRef(int index) {
     checkIndex(index, false);
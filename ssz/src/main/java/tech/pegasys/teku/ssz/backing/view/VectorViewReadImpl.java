@@ -13,10 +13,13 @@
 
 package tech.pegasys.teku.ssz.backing.view;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import tech.pegasys.teku.ssz.backing.VectorViewRead;
 import tech.pegasys.teku.ssz.backing.ViewRead;
 import tech.pegasys.teku.ssz.backing.cache.ArrayIntCache;
 import tech.pegasys.teku.ssz.backing.cache.IntCache;
+import tech.pegasys.teku.ssz.backing.tree.TreeCursor;
 import tech.pegasys.teku.ssz.backing.tree.TreeNode;
 import tech.pegasys.teku.ssz.backing.type.CompositeViewType;
 import tech.pegasys.teku.ssz.backing.type.VectorViewType;
@@ -45,6 +48,43 @@ public class VectorViewReadImpl<ElementReadType extends ViewRead>
         elementType.createFromBackingNode(node, index % type.getElementsPerChunk());
   }
 
+  @Override
+  public Iterator<ElementReadType> childIterator(int fromIndex, int toIndex) {
+    ViewUtils.checkRange(fromIndex, toIndex, size());
+    VectorViewType<ElementReadType> type = getType();
+    ViewType elementType = type.getElementType();
+    int elementsPerChunk = type.getElementsPerChunk();
+    TreeCursor chunks =
+        new TreeCursor(
+            getBackingNode(),
+            type.treeDepth(),
+            fromIndex / elementsPerChunk,
+            ((long) toIndex + elementsPerChunk - 1) / elementsPerChunk);
+    return new Iterator<>() {
+      private int index = fromIndex;
+      private TreeNode chunk;
+
+      @Override
+      public boolean hasNext() {
+        return index < toIndex;
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public ElementReadType next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        int internalIndex = index % elementsPerChunk;
+        if (chunk == null || internalIndex == 0) {
+          chunk = chunks.next();
+        }
+        index++;
+        return (ElementReadType) elementType.createFromBackingNode(chunk, internalIndex);
+      }
+    };
+  }
+
   @Override
   protected int sizeImpl() {
     return (int) Long.min(Integer.MAX_VALUE, getType().getMaxLength());
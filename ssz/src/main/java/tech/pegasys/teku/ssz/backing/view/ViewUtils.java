@@ -13,6 +13,9 @@
 
 package tech.pegasys.teku.ssz.backing.view;
 
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.function.LongConsumer;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.MutableBytes;
 import tech.pegasys.teku.ssz.SSZTypes.Bitlist;
@@ -21,11 +24,14 @@ import tech.pegasys.teku.ssz.backing.ListViewRead;
 import tech.pegasys.teku.ssz.backing.ListViewWrite;
 import tech.pegasys.teku.ssz.backing.VectorViewRead;
 import tech.pegasys.teku.ssz.backing.VectorViewWrite;
+import tech.pegasys.teku.ssz.backing.tree.TreeCursor;
+import tech.pegasys.teku.ssz.backing.tree.TreeNode;
 import tech.pegasys.teku.ssz.backing.type.BasicViewTypes;
 import tech.pegasys.teku.ssz.backing.type.ListViewType;
 import tech.pegasys.teku.ssz.backing.type.VectorViewType;
 import tech.pegasys.teku.ssz.backing.view.BasicViews.BitView;
 import tech.pegasys.teku.ssz.backing.view.BasicViews.ByteView;
+import tech.pegasys.teku.ssz.backing.view.BasicViews.UInt64View;
 
 /** Handy view tool methods */
 public class ViewUtils {
@@ -99,4 +105,83 @@ public class ViewUtils {
     }
     return ret;
   }
+
+  /**
+   * Passes each element of the list of uint64 to the action in index order. Values are decoded
+   * directly from the packed backing tree chunks without creating element views, unless the list is
+   * a mutable view with uncommitted element changes.
+   */
+  public static void forEachLong(ListViewRead<UInt64View> list, LongConsumer action) {
+    int size = list.size();
+    Optional<TreeNode> dataNode = getCommittedDataBackingNode(list);
+    if (dataNode.isEmpty() || list.getType().getElementType() != BasicViewTypes.UINT64_TYPE) {
+      Iterator<UInt64View> iterator = list.childIterator();
+      while (iterator.hasNext()) {
+        action.accept(iterator.next().longValue());
+      }
+      return;
+    }
+
+    VectorViewType<UInt64View> vectorType = list.getType().getCompatibleVectorType();
+    int elementsPerChunk = vectorType.getElementsPerChunk();
+    TreeCursor chunks =
+        new TreeCursor(
+            dataNode.get(),
+            vectorType.treeDepth(),
+            0,
+            ((long) size + elementsPerChunk - 1) / elementsPerChunk);
+    int index = 0;
+    while (chunks.hasNext()) {
+      byte[] chunk = chunks.next().hashTreeRoot().toArrayUnsafe();
+      for (int i = 0; i < elementsPerChunk && index < size; i++, index++) {
+        action.accept(getLongLittleEndian(chunk, i * Long.BYTES));
+      }
+    }
+  }
+
+  /** Copies all elements of the list of uint64 to a new array */
+  public static long[] toLongArray(ListViewRead<UInt64View> list) {
+    long[] result = new long[list.size()];
+    forEachLong(
+        list,
+        new LongConsumer() {
+          private int index = 0;
+
+          @Override
+          public void accept(long value) {
+            result[index++] = value;
+          }
+        });
+    return result;
+  }
+
+  private static Optional<TreeNode> getCommittedDataBackingNode(ListViewRead<?> list) {
+    if (list instanceof ListViewReadImpl) {
+      return Optional.of(((ListViewReadImpl<?>) list).getDataBackingNode());
+    } else if (list instanceof ListViewWriteImpl) {
+      return ((ListViewWriteImpl<?, ?>) list).getUnchangedDataBackingNode();
+    } else {
+      return Optional.empty();
+    }
+  }
+
+  private static long getLongLittleEndian(byte[] bytes, int offset) {
+    long value = 0;
+    for (int i = Long.BYTES - 1; i >= 0; i--) {
+      value = (value << 8) | (bytes[offset + i] & 0xFF);
+    }
+    return value;
+  }
+
+  /**
+   * Checks the child index range used for iteration
+   *
+   * @throws IndexOutOfBoundsException if the range is not within [0, size)
+   */
+  static void checkRange(int fromIndex, int toIndex, int size) {
+    if (fromIndex < 0 || fromIndex > toIndex || toIndex > size) {
+      throw new IndexOutOfBoundsException(
+          "Invalid range [" + fromIndex + ", " + toIndex + ") for size " + size);
+    }
+  }
 }
@@ -17,11 +17,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import com.google.common.primitives.UnsignedLong;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.ssz.backing.tree.TreeNode;
 import tech.pegasys.teku.ssz.backing.type.BasicViewTypes;
 import tech.pegasys.teku.ssz.backing.type.ListViewType;
 import tech.pegasys.teku.ssz.backing.view.BasicViews.UInt64View;
+import tech.pegasys.teku.ssz.backing.view.ViewUtils;
 
 public class BasicListViewTest {
 
@@ -93,4 +97,68 @@ public class BasicListViewTest {
     listView.clear();
     assertThat(listView.commitChanges().hashTreeRoot()).isEqualTo(n0.hashTreeRoot());
   }
+
+  @Test
+  public void childIteratorShouldMatchIndexedAccess() {
+    ListViewRead<UInt64View> list = createList(11);
+
+    assertThat(toLongs(list.childIterator())).containsExactly(getAll(list, 0, 11));
+    assertThat(toLongs(list.childIterator(3, 9))).containsExactly(getAll(list, 3, 9));
+    assertThat(list.childIterator(5, 5).hasNext()).isFalse();
+    assertThatExceptionOfType(IndexOutOfBoundsException.class)
+        .isThrownBy(() -> list.childIterator(0, 12));
+  }
+
+  @Test
+  public void childIteratorShouldIncludeUncommittedChanges() {
+    ListViewWrite<UInt64View> list = createList(6).createWritableCopy();
+    list.set(1, UInt64View.fromLong(0x999));
+    list.append(UInt64View.fromLong(0x777));
+
+    assertThat(toLongs(list.childIterator()))
+        .containsExactly(0x100, 0x999, 0x102, 0x103, 0x104, 0x105, 0x777);
+  }
+
+  @Test
+  public void toLongArrayShouldReadAllValues() {
+    ListViewRead<UInt64View> list = createList(11);
+
+    assertThat(ViewUtils.toLongArray(list)).containsExactly(getAll(list, 0, 11));
+    assertThat(ViewUtils.toLongArray(list.createWritableCopy()))
+        .containsExactly(getAll(list, 0, 11));
+    assertThat(ViewUtils.toLongArray(createList(0))).isEmpty();
+  }
+
+  @Test
+  public void toLongArrayShouldIncludeUncommittedChanges() {
+    ListViewWrite<UInt64View> list = createList(5).createWritableCopy();
+    list.set(4, UInt64View.fromLong(0x999));
+    list.append(UInt64View.fromLong(0x777));
+
+    assertThat(ViewUtils.toLongArray(list))
+        .containsExactly(0x100, 0x101, 0x102, 0x103, 0x999, 0x777);
+  }
+
+  private ListViewRead<UInt64View> createList(final int size) {
+    ListViewType<UInt64View> listType = new ListViewType<>(BasicViewTypes.UINT64_TYPE, 100);
+    ListViewWrite<UInt64View> listView = listType.getDefault().createWritableCopy();
+    for (int i = 0; i < size; i++) {
+      listView.append(UInt64View.fromLong(0x100 + i));
+    }
+    return listView.commitChanges();
+  }
+
+  private long[] getAll(final ListViewRead<UInt64View> list, final int from, final int to) {
+    long[] values = new long[to - from];
+    for (int i = from; i < to; i++) {
+      values[i - from] = list.get(i).longValue();
+    }
+    return values;
+  }
+
+  private long[] toLongs(final Iterator<UInt64View> iterator) {
+    List<Long> values = new ArrayList<>();
+    iterator.forEachRemaining(view -> values.add(view.longValue()));
+    return values.stream().mapToLong(Long::longValue).toArray();
+  }
 }
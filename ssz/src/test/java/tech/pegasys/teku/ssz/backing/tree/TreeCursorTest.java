@@ -0,0 +1,93 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ssz.backing.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class TreeCursorTest {
+
+  private final TreeNode tree =
+      TreeUtil.createTree(
+          IntStream.range(0, 13).mapToObj(TreeTest::newTestLeaf).collect(Collectors.toList()));
+  private final int depth = TreeUtil.treeDepth(13);
+
+  @Test
+  public void shouldVisitAllNodesInOrder() {
+    assertThat(collect(new TreeCursor(tree, depth, 0, 16)))
+        .containsExactlyElementsOf(lookupAll(0, 16));
+  }
+
+  @Test
+  public void shouldVisitEveryRange() {
+    for (int from = 0; from <= 16; from++) {
+      for (int to = from; to <= 16; to++) {
+        assertThat(collect(new TreeCursor(tree, depth, from, to)))
+            .describedAs("Range [%s, %s)", from, to)
+            .containsExactlyElementsOf(lookupAll(from, to));
+      }
+    }
+  }
+
+  @Test
+  public void shouldVisitNodesAtIntermediateDepth() {
+    assertThat(collect(new TreeCursor(tree, 2, 0, 4)))
+        .containsExactly(tree.get(0b100), tree.get(0b101), tree.get(0b110), tree.get(0b111));
+  }
+
+  @Test
+  public void shouldReturnRootWhenDepthIsZero() {
+    assertThat(collect(new TreeCursor(tree, 0, 0, 1))).containsExactly(tree);
+  }
+
+  @Test
+  public void shouldTrackNextIndex() {
+    final TreeCursor cursor = new TreeCursor(tree, depth, 3, 5);
+    assertThat(cursor.nextIndex()).isEqualTo(3);
+    cursor.next();
+    assertThat(cursor.nextIndex()).isEqualTo(4);
+    cursor.next();
+    assertThat(cursor.hasNext()).isFalse();
+    assertThatThrownBy(cursor::next).isInstanceOf(NoSuchElementException.class);
+  }
+
+  @Test
+  public void shouldRejectRangeOutsideTree() {
+    assertThatThrownBy(() -> new TreeCursor(tree, depth, 0, 17))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new TreeCursor(tree, depth, 5, 4))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private List<TreeNode> lookupAll(final int fromIndex, final int toIndex) {
+    final List<TreeNode> nodes = new ArrayList<>();
+    for (int i = fromIndex; i < toIndex; i++) {
+      nodes.add(tree.get((1L << depth) + i));
+    }
+    return nodes;
+  }
+
+  private List<TreeNode> collect(final TreeCursor cursor) {
+    final List<TreeNode> nodes = new ArrayList<>();
+    cursor.forEachRemaining(nodes::add);
+    return nodes;
+  }
+}
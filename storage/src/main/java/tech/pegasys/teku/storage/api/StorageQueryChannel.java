@@ -33,8 +33,33 @@ public interface StorageQueryChannel extends ChannelInterface {
 
   SafeFuture<Optional<SignedBeaconBlock>> getLatestFinalizedBlockAtSlot(final UnsignedLong slot);
 
+  /**
+   * Returns the finalized blocks at the given slots in a single request.
+   *
+   * @param slots The slots to look up
+   * @return A map from slot to block for each slot which has a finalized block
+   */
+  SafeFuture<Map<UnsignedLong, SignedBeaconBlock>> getFinalizedBlocksAtSlots(
+      final Set<UnsignedLong> slots);
+
   SafeFuture<Optional<SignedBeaconBlock>> getBlockByBlockRoot(final Bytes32 blockRoot);
 
+  /**
+   * Returns any hot or finalized blocks with the given roots in a single request.
+   *
+   * @param blockRoots The roots of blocks to look up
+   * @return A map from root to block of any found blocks
+   */
+  SafeFuture<Map<Bytes32, SignedBeaconBlock>> getBlocksByBlockRoot(final Set<Bytes32> blockRoots);
+
+  /**
+   * Returns the finalized block with the lowest slot that is available, which is the genesis block
+   * unless the node started from a later anchor and has not yet backfilled all historical blocks.
+   *
+   * @return the earliest available finalized block
+   */
+  SafeFuture<Optional<SignedBeaconBlock>> getEarliestHistoricalBlock();
+
   /**
    * Returns "hot" blocks - the latest finalized block or blocks that descend from the latest
    * finalized block
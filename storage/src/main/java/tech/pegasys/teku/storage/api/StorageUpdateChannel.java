@@ -13,6 +13,8 @@
 
 package tech.pegasys.teku.storage.api;
 
+import java.util.Collection;
+import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.storage.events.AnchorPoint;
 import tech.pegasys.teku.storage.events.StorageUpdate;
@@ -23,4 +25,6 @@ public interface StorageUpdateChannel extends ChannelInterface {
   SafeFuture<Void> onStorageUpdate(StorageUpdate event);
 
   void onGenesis(AnchorPoint genesis);
+
+  SafeFuture<Void> onHistoricalBlocks(Collection<SignedBeaconBlock> blocks);
 }
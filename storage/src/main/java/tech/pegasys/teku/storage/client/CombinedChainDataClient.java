@@ -22,9 +22,13 @@ import static tech.pegasys.teku.util.config.Constants.SLOTS_PER_EPOCH;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.primitives.UnsignedLong;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.Set;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
@@ -309,6 +313,36 @@ public class CombinedChainDataClient {
         .orElseGet(() -> historicalChainData.getBlockByBlockRoot(blockRoot));
   }
 
+  /**
+   * Returns any known blocks with the given roots. Blocks which are not already held in memory are
+   * loaded with a single storage request.
+   *
+   * @param blockRoots the roots of the blocks to retrieve
+   * @return a map from root to block for each block that was found
+   */
+  public SafeFuture<Map<Bytes32, SignedBeaconBlock>> getBlocksByBlockRoots(
+      final Set<Bytes32> blockRoots) {
+    final Map<Bytes32, SignedBeaconBlock> blocks = new HashMap<>();
+    final Set<Bytes32> missingRoots = new HashSet<>();
+    final UpdatableStore store = recentChainData.getStore();
+    for (Bytes32 blockRoot : blockRoots) {
+      final Optional<SignedBeaconBlock> block =
+          store != null ? store.getBlockIfAvailable(blockRoot) : Optional.empty();
+      block.ifPresentOrElse(
+          value -> blocks.put(blockRoot, value), () -> missingRoots.add(blockRoot));
+    }
+    if (missingRoots.isEmpty()) {
+      return completedFuture(blocks);
+    }
+    return historicalChainData
+        .getBlocksByBlockRoot(missingRoots)
+        .thenApply(
+            loadedBlocks -> {
+              blocks.putAll(loadedBlocks);
+              return blocks;
+            });
+  }
+
   private boolean isRecentData(final UnsignedLong slot) {
     checkNotNull(slot);
     if (recentChainData.isPreGenesis()) {
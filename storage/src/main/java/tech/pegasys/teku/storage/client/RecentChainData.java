@@ -16,7 +16,6 @@ package tech.pegasys.teku.storage.client;
 import static tech.pegasys.teku.core.ForkChoiceUtil.get_ancestor;
 import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.compute_epoch_at_slot;
 
-import com.google.common.eventbus.EventBus;
 import com.google.common.primitives.UnsignedLong;
 import java.util.NavigableMap;
 import java.util.Optional;
@@ -43,6 +42,7 @@ import tech.pegasys.teku.metrics.TekuMetricCategory;
 import tech.pegasys.teku.protoarray.ForkChoiceStrategy;
 import tech.pegasys.teku.protoarray.ProtoArrayForkChoiceStrategy;
 import tech.pegasys.teku.protoarray.ProtoArrayStorageChannel;
+import tech.pegasys.teku.storage.api.ChainInitializedChannel;
 import tech.pegasys.teku.storage.api.FinalizedCheckpointChannel;
 import tech.pegasys.teku.storage.api.ReorgEventChannel;
 import tech.pegasys.teku.storage.api.StorageUpdateChannel;
@@ -59,7 +59,7 @@ public abstract class RecentChainData implements StoreUpdateHandler {
   private static final Logger LOG = LogManager.getLogger();
 
   private final BlockProvider blockProvider;
-  protected final EventBus eventBus;
+  private final ChainInitializedChannel chainInitializedChannel;
   protected final FinalizedCheckpointChannel finalizedCheckpointChannel;
   protected final StorageUpdateChannel storageUpdateChannel;
   protected final ProtoArrayStorageChannel protoArrayStorageChannel;
@@ -83,11 +83,11 @@ public abstract class RecentChainData implements StoreUpdateHandler {
       final ProtoArrayStorageChannel protoArrayStorageChannel,
       final FinalizedCheckpointChannel finalizedCheckpointChannel,
       final ReorgEventChannel reorgEventChannel,
-      final EventBus eventBus) {
+      final ChainInitializedChannel chainInitializedChannel) {
     this.metricsSystem = metricsSystem;
     this.blockProvider = blockProvider;
     this.reorgEventChannel = reorgEventChannel;
-    this.eventBus = eventBus;
+    this.chainInitializedChannel = chainInitializedChannel;
     this.storageUpdateChannel = storageUpdateChannel;
     this.protoArrayStorageChannel = protoArrayStorageChannel;
     this.finalizedCheckpointChannel = finalizedCheckpointChannel;
@@ -107,19 +107,26 @@ public abstract class RecentChainData implements StoreUpdateHandler {
   }
 
   public void initializeFromGenesis(final BeaconState genesisState) {
-    final AnchorPoint genesis = AnchorPoint.fromGenesisState(genesisState);
+    initializeFromAnchorPoint(AnchorPoint.fromGenesisState(genesisState));
+  }
+
+  /**
+   * Initializes the store from a trusted, finalized anchor. Blocks prior to the anchor are not
+   * available until they have been backfilled.
+   */
+  public void initializeFromAnchorPoint(final AnchorPoint anchor) {
     final UpdatableStore store =
-        StoreBuilder.buildForkChoiceStore(metricsSystem, blockProvider, genesis);
+        StoreBuilder.buildForkChoiceStore(metricsSystem, blockProvider, anchor);
     final boolean result = setStore(store);
     if (!result) {
       throw new IllegalStateException(
           "Failed to set genesis state: store has already been initialized");
     }
 
-    storageUpdateChannel.onGenesis(genesis);
-    eventBus.post(genesis);
+    storageUpdateChannel.onGenesis(anchor);
+    chainInitializedChannel.onChainInitialized(anchor);
 
-    // The genesis state is by definition finalized so just get the root from there.
+    // The anchor state is by definition finalized so just get the root from there.
     Bytes32 headBlockRoot = store.getFinalizedCheckpoint().getRoot();
     BeaconBlock headBlock = store.getBlock(headBlockRoot);
     updateBestBlock(headBlockRoot, headBlock.getSlot());
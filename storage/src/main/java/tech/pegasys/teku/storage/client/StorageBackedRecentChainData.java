@@ -16,7 +16,6 @@ package tech.pegasys.teku.storage.client;
 import static tech.pegasys.teku.logging.StatusLogger.STATUS_LOG;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.eventbus.EventBus;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
@@ -24,6 +23,7 @@ import tech.pegasys.teku.core.lookup.BlockProvider;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.protoarray.ProtoArrayStorageChannel;
+import tech.pegasys.teku.storage.api.ChainInitializedChannel;
 import tech.pegasys.teku.storage.api.FinalizedCheckpointChannel;
 import tech.pegasys.teku.storage.api.ReorgEventChannel;
 import tech.pegasys.teku.storage.api.StorageQueryChannel;
@@ -42,7 +42,7 @@ public class StorageBackedRecentChainData extends RecentChainData {
       final ProtoArrayStorageChannel protoArrayStorageChannel,
       final FinalizedCheckpointChannel finalizedCheckpointChannel,
       final ReorgEventChannel reorgEventChannel,
-      final EventBus eventBus) {
+      final ChainInitializedChannel chainInitializedChannel) {
     super(
         metricsSystem,
         storageQueryChannel::getHotBlocksByRoot,
@@ -50,10 +50,9 @@ public class StorageBackedRecentChainData extends RecentChainData {
         protoArrayStorageChannel,
         finalizedCheckpointChannel,
         reorgEventChannel,
-        eventBus);
+        chainInitializedChannel);
     this.storageQueryChannel = storageQueryChannel;
     this.blockProvider = storageQueryChannel::getHotBlocksByRoot;
-    eventBus.register(this);
   }
 
   public static SafeFuture<RecentChainData> create(
@@ -64,7 +63,7 @@ public class StorageBackedRecentChainData extends RecentChainData {
       final ProtoArrayStorageChannel protoArrayStorageChannel,
       final FinalizedCheckpointChannel finalizedCheckpointChannel,
       final ReorgEventChannel reorgEventChannel,
-      final EventBus eventBus) {
+      final ChainInitializedChannel chainInitializedChannel) {
     StorageBackedRecentChainData client =
         new StorageBackedRecentChainData(
             metricsSystem,
@@ -73,7 +72,7 @@ public class StorageBackedRecentChainData extends RecentChainData {
             protoArrayStorageChannel,
             finalizedCheckpointChannel,
             reorgEventChannel,
-            eventBus);
+            chainInitializedChannel);
 
     return client.initializeFromStorageWithRetry(asyncRunner);
   }
@@ -86,7 +85,7 @@ public class StorageBackedRecentChainData extends RecentChainData {
       final ProtoArrayStorageChannel protoArrayStorageChannel,
       final FinalizedCheckpointChannel finalizedCheckpointChannel,
       final ReorgEventChannel reorgEventChannel,
-      final EventBus eventBus) {
+      final ChainInitializedChannel chainInitializedChannel) {
     StorageBackedRecentChainData client =
         new StorageBackedRecentChainData(
             metricsSystem,
@@ -95,7 +94,7 @@ public class StorageBackedRecentChainData extends RecentChainData {
             protoArrayStorageChannel,
             finalizedCheckpointChannel,
             reorgEventChannel,
-            eventBus);
+            chainInitializedChannel);
 
     return client.initializeFromStorage().join();
   }
@@ -63,6 +63,22 @@ public class AnchorPoint {
     return new AnchorPoint(genesisCheckpoint, signedGenesisBlock, genesisState);
   }
 
+  /**
+   * Creates an anchor from a trusted, finalized block and its post-state. The anchor checkpoint is
+   * placed at the first epoch boundary at or after the block, as it would be if the following slots
+   * were empty.
+   */
+  public static AnchorPoint fromInitialBlockAndState(
+      final SignedBeaconBlock block, final BeaconState state) {
+    final UnsignedLong slot = block.getSlot();
+    final UnsignedLong epoch = BeaconStateUtil.compute_epoch_at_slot(slot);
+    final UnsignedLong checkpointEpoch =
+        BeaconStateUtil.compute_start_slot_at_epoch(epoch).equals(slot)
+            ? epoch
+            : epoch.plus(UnsignedLong.ONE);
+    return new AnchorPoint(new Checkpoint(checkpointEpoch, block.getRoot()), block, state);
+  }
+
   public boolean isGenesis() {
     return isGenesis;
   }
@@ -15,6 +15,7 @@ package tech.pegasys.teku.storage.server;
 
 import com.google.common.eventbus.EventBus;
 import com.google.common.primitives.UnsignedLong;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -99,6 +100,11 @@ public class ChainStorage implements StorageUpdateChannel, StorageQueryChannel {
     database.storeGenesis(genesis);
   }
 
+  @Override
+  public SafeFuture<Void> onHistoricalBlocks(final Collection<SignedBeaconBlock> blocks) {
+    return SafeFuture.fromRunnable(() -> database.storeHistoricalBlocks(blocks));
+  }
+
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getFinalizedBlockAtSlot(final UnsignedLong slot) {
     return SafeFuture.of(() -> database.getFinalizedBlockAtSlot(slot));
@@ -110,11 +116,28 @@ public class ChainStorage implements StorageUpdateChannel, StorageQueryChannel {
     return SafeFuture.of(() -> database.getLatestFinalizedBlockAtSlot(slot));
   }
 
+  @Override
+  public SafeFuture<Map<UnsignedLong, SignedBeaconBlock>> getFinalizedBlocksAtSlots(
+      final Set<UnsignedLong> slots) {
+    return SafeFuture.of(() -> database.getFinalizedBlocksAtSlots(slots));
+  }
+
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getBlockByBlockRoot(final Bytes32 blockRoot) {
     return SafeFuture.of(() -> database.getSignedBlock(blockRoot));
   }
 
+  @Override
+  public SafeFuture<Map<Bytes32, SignedBeaconBlock>> getBlocksByBlockRoot(
+      final Set<Bytes32> blockRoots) {
+    return SafeFuture.of(() -> database.getSignedBlocks(blockRoots));
+  }
+
+  @Override
+  public SafeFuture<Optional<SignedBeaconBlock>> getEarliestHistoricalBlock() {
+    return SafeFuture.of(database::getEarliestFinalizedBlock);
+  }
+
   @Override
   public SafeFuture<Map<Bytes32, SignedBeaconBlock>> getHotBlocksByRoot(
       final Set<Bytes32> blockRoots) {
@@ -15,6 +15,7 @@ package tech.pegasys.teku.storage.server;
 
 import com.google.common.primitives.UnsignedLong;
 import com.google.errorprone.annotations.MustBeClosed;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -27,14 +28,29 @@ import tech.pegasys.teku.datastructures.state.BeaconState;
 import tech.pegasys.teku.pow.event.DepositsFromBlockEvent;
 import tech.pegasys.teku.pow.event.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.protoarray.ProtoArraySnapshot;
+import tech.pegasys.teku.protoarray.ProtoArrayUpdate;
 import tech.pegasys.teku.storage.events.AnchorPoint;
 import tech.pegasys.teku.storage.events.StorageUpdate;
 import tech.pegasys.teku.storage.store.StoreBuilder;
 
 public interface Database extends AutoCloseable {
 
+  /**
+   * Stores the initial anchor the chain starts from. This is the genesis block and state unless the
+   * node was started from a later finalized anchor.
+   *
+   * @param genesis The anchor to store
+   */
   void storeGenesis(AnchorPoint genesis);
 
+  /**
+   * Stores finalized blocks from before the initial anchor. The blocks must already have been
+   * verified to form a chain leading to the earliest stored block.
+   *
+   * @param blocks The historical blocks to store
+   */
+  void storeHistoricalBlocks(Collection<SignedBeaconBlock> blocks);
+
   void update(StorageUpdate event);
 
   Optional<StoreBuilder> createMemoryStore();
@@ -57,8 +73,33 @@ public interface Database extends AutoCloseable {
    */
   Optional<SignedBeaconBlock> getLatestFinalizedBlockAtSlot(UnsignedLong slot);
 
+  /**
+   * Return the finalized blocks at the given slots, reading them in a single batch.
+   *
+   * @param slots The slots to query
+   * @return A map from slot to block for each slot which has a finalized block
+   */
+  Map<UnsignedLong, SignedBeaconBlock> getFinalizedBlocksAtSlots(Set<UnsignedLong> slots);
+
   Optional<SignedBeaconBlock> getSignedBlock(Bytes32 root);
 
+  /**
+   * Returns the hot or finalized blocks with the given roots, reading them in as few batches as
+   * possible.
+   *
+   * @param blockRoots The roots of blocks to look up
+   * @return A map from root to block of any found blocks
+   */
+  Map<Bytes32, SignedBeaconBlock> getSignedBlocks(Set<Bytes32> blockRoots);
+
+  /**
+   * Returns the finalized block with the lowest slot. When the node was started from a finalized
+   * anchor this moves back towards genesis as historical blocks are backfilled.
+   *
+   * @return the earliest finalized block available
+   */
+  Optional<SignedBeaconBlock> getEarliestFinalizedBlock();
+
   /**
    * Returns latest finalized block or any known blocks that descend from the latest finalized block
    *
@@ -98,5 +139,5 @@ public interface Database extends AutoCloseable {
 
   void addDepositsFromBlockEvent(final DepositsFromBlockEvent event);
 
-  void putProtoArraySnapshot(final ProtoArraySnapshot protoArray);
+  void updateProtoArray(final ProtoArrayUpdate protoArrayUpdate);
 }
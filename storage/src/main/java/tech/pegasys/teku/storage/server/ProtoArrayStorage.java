@@ -17,6 +17,7 @@ import java.util.Optional;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.protoarray.ProtoArraySnapshot;
 import tech.pegasys.teku.protoarray.ProtoArrayStorageChannel;
+import tech.pegasys.teku.protoarray.ProtoArrayUpdate;
 
 public class ProtoArrayStorage implements ProtoArrayStorageChannel {
   private final Database database;
@@ -26,8 +27,8 @@ public class ProtoArrayStorage implements ProtoArrayStorageChannel {
   }
 
   @Override
-  public void onProtoArrayUpdate(ProtoArraySnapshot protoArraySnapshot) {
-    database.putProtoArraySnapshot(protoArraySnapshot);
+  public void onProtoArrayUpdate(ProtoArrayUpdate protoArrayUpdate) {
+    database.updateProtoArray(protoArrayUpdate);
   }
 
   @Override
@@ -19,16 +19,16 @@ import static tech.pegasys.teku.metrics.TekuMetricCategory.STORAGE_FINALIZED_DB;
 import static tech.pegasys.teku.metrics.TekuMetricCategory.STORAGE_HOT_DB;
 import static tech.pegasys.teku.util.config.Constants.SLOTS_PER_EPOCH;
 
+import com.google.common.collect.Sets;
 import com.google.common.primitives.UnsignedLong;
 import com.google.errorprone.annotations.MustBeClosed;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
@@ -45,6 +45,7 @@ import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.pow.event.DepositsFromBlockEvent;
 import tech.pegasys.teku.pow.event.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.protoarray.ProtoArraySnapshot;
+import tech.pegasys.teku.protoarray.ProtoArrayUpdate;
 import tech.pegasys.teku.storage.events.AnchorPoint;
 import tech.pegasys.teku.storage.events.StorageUpdate;
 import tech.pegasys.teku.storage.server.Database;
@@ -164,6 +165,14 @@ public class RocksDbDatabase implements Database {
     }
   }
 
+  @Override
+  public void storeHistoricalBlocks(final Collection<SignedBeaconBlock> blocks) {
+    try (final FinalizedUpdater updater = finalizedDao.finalizedUpdater()) {
+      blocks.forEach(updater::addFinalizedBlock);
+      updater.commit();
+    }
+  }
+
   @Override
   public void update(final StorageUpdate event) {
     if (event.isEmpty()) {
@@ -226,6 +235,12 @@ public class RocksDbDatabase implements Database {
     return finalizedDao.getFinalizedBlockAtSlot(slot);
   }
 
+  @Override
+  public Map<UnsignedLong, SignedBeaconBlock> getFinalizedBlocksAtSlots(
+      final Set<UnsignedLong> slots) {
+    return finalizedDao.getFinalizedBlocksAtSlots(slots);
+  }
+
   @Override
   public Optional<SignedBeaconBlock> getLatestFinalizedBlockAtSlot(final UnsignedLong slot) {
     return finalizedDao.getLatestFinalizedBlockAtSlot(slot);
@@ -241,11 +256,26 @@ public class RocksDbDatabase implements Database {
     return hotDao.getHotBlock(root).or(() -> finalizedDao.getFinalizedBlock(root));
   }
 
+  @Override
+  public Optional<SignedBeaconBlock> getEarliestFinalizedBlock() {
+    try (final Stream<SignedBeaconBlock> blocks =
+        finalizedDao.streamFinalizedBlocks(UnsignedLong.ZERO, UnsignedLong.MAX_VALUE)) {
+      return blocks.findFirst();
+    }
+  }
+
+  @Override
+  public Map<Bytes32, SignedBeaconBlock> getSignedBlocks(final Set<Bytes32> blockRoots) {
+    final Map<Bytes32, SignedBeaconBlock> blocks = new HashMap<>(hotDao.getHotBlocks(blockRoots));
+    if (blocks.size() < blockRoots.size()) {
+      blocks.putAll(finalizedDao.getFinalizedBlocks(Sets.difference(blockRoots, blocks.keySet())));
+    }
+    return blocks;
+  }
+
   @Override
   public Map<Bytes32, SignedBeaconBlock> getHotBlocks(final Set<Bytes32> blockRoots) {
-    return blockRoots.stream()
-        .flatMap(root -> hotDao.getHotBlock(root).stream())
-        .collect(Collectors.toMap(SignedBeaconBlock::getRoot, Function.identity()));
+    return hotDao.getHotBlocks(blockRoots);
   }
 
   @Override
@@ -315,9 +345,9 @@ public class RocksDbDatabase implements Database {
   }
 
   @Override
-  public void putProtoArraySnapshot(final ProtoArraySnapshot protoArraySnapshot) {
+  public void updateProtoArray(final ProtoArrayUpdate protoArrayUpdate) {
     try (final RocksDbProtoArrayDao.ProtoArrayUpdater updater = protoArrayDao.protoArrayUpdater()) {
-      updater.putProtoArraySnapshot(protoArraySnapshot);
+      updater.updateProtoArray(protoArrayUpdate);
       updater.commit();
     }
   }
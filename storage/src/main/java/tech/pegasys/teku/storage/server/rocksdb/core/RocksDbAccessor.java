@@ -14,6 +14,7 @@
 package tech.pegasys.teku.storage.server.rocksdb.core;
 
 import com.google.errorprone.annotations.MustBeClosed;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -26,6 +27,17 @@ public interface RocksDbAccessor extends AutoCloseable {
 
   <K, V> Optional<V> get(RocksDbColumn<K, V> column, K key);
 
+  /**
+   * Looks up multiple keys from a column in a single batched read.
+   *
+   * @param column The column we want to query
+   * @param keys The requested keys
+   * @param <K> The key type of the column
+   * @param <V> The value type of the column
+   * @return A map from key to value containing only the keys that were found
+   */
+  <K, V> Map<K, V> multiGet(RocksDbColumn<K, V> column, Collection<K> keys);
+
   <K, V> Map<K, V> getAll(RocksDbColumn<K, V> column);
 
   /**
@@ -15,6 +15,10 @@ package tech.pegasys.teku.storage.server.rocksdb.core;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.errorprone.annotations.MustBeClosed;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +30,7 @@ import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer.TimingContext;
 import org.rocksdb.AbstractRocksIterator;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.RocksDBException;
@@ -34,6 +39,7 @@ import org.rocksdb.TransactionDB;
 import org.rocksdb.WriteOptions;
 import tech.pegasys.teku.storage.server.DatabaseStorageException;
 import tech.pegasys.teku.storage.server.ShuttingDownException;
+import tech.pegasys.teku.storage.server.rocksdb.core.RocksDbStats.ColumnReadMetrics;
 import tech.pegasys.teku.storage.server.rocksdb.schema.RocksDbColumn;
 import tech.pegasys.teku.storage.server.rocksdb.schema.RocksDbVariable;
 
@@ -42,6 +48,7 @@ public class RocksDbInstance implements RocksDbAccessor {
   private final TransactionDB db;
   private final ColumnFamilyHandle defaultHandle;
   private final ImmutableMap<RocksDbColumn<?, ?>, ColumnFamilyHandle> columnHandles;
+  private final ImmutableMap<RocksDbColumn<?, ?>, ColumnReadMetrics> columnReadMetrics;
   private final List<AutoCloseable> resources;
   private final Set<Transaction> openTransactions = new HashSet<>();
 
@@ -51,10 +58,12 @@ public class RocksDbInstance implements RocksDbAccessor {
       final TransactionDB db,
       final ColumnFamilyHandle defaultHandle,
       final ImmutableMap<RocksDbColumn<?, ?>, ColumnFamilyHandle> columnHandles,
+      final ImmutableMap<RocksDbColumn<?, ?>, ColumnReadMetrics> columnReadMetrics,
       final List<AutoCloseable> resources) {
     this.db = db;
     this.defaultHandle = defaultHandle;
     this.columnHandles = columnHandles;
+    this.columnReadMetrics = columnReadMetrics;
     this.resources = resources;
   }
 
@@ -74,14 +83,55 @@ public class RocksDbInstance implements RocksDbAccessor {
     assertOpen();
     final ColumnFamilyHandle handle = columnHandles.get(column);
     final byte[] keyBytes = column.getKeySerializer().serialize(key);
+    final ColumnReadMetrics metrics = columnReadMetrics.get(column);
     try {
-      return Optional.ofNullable(db.get(handle, keyBytes))
-          .map(data -> column.getValueSerializer().deserialize(data));
+      final TimingContext timer = metrics.startTimer();
+      final byte[] data;
+      try {
+        data = db.get(handle, keyBytes);
+      } finally {
+        timer.stopTimer();
+      }
+      metrics.recordResult(data != null);
+      return Optional.ofNullable(data).map(column.getValueSerializer()::deserialize);
     } catch (RocksDBException e) {
       throw new DatabaseStorageException("Failed to get value", e);
     }
   }
 
+  @Override
+  public <K, V> Map<K, V> multiGet(final RocksDbColumn<K, V> column, final Collection<K> keys) {
+    assertOpen();
+    if (keys.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    final ColumnFamilyHandle handle = columnHandles.get(column);
+    final List<K> keyList = new ArrayList<>(keys);
+    final List<byte[]> keyBytes =
+        keyList.stream().map(column.getKeySerializer()::serialize).collect(Collectors.toList());
+    final ColumnReadMetrics metrics = columnReadMetrics.get(column);
+    try {
+      final TimingContext timer = metrics.startTimer();
+      final List<byte[]> values;
+      try {
+        values = db.multiGetAsList(Collections.nCopies(keyBytes.size(), handle), keyBytes);
+      } finally {
+        timer.stopTimer();
+      }
+      final Map<K, V> result = new HashMap<>();
+      for (int i = 0; i < keyList.size(); i++) {
+        final byte[] data = values.get(i);
+        metrics.recordResult(data != null);
+        if (data != null) {
+          result.put(keyList.get(i), column.getValueSerializer().deserialize(data));
+        }
+      }
+      return result;
+    } catch (RocksDBException e) {
+      throw new DatabaseStorageException("Failed to get values", e);
+    }
+  }
+
   @Override
   public <K, V> Map<K, V> getAll(RocksDbColumn<K, V> column) {
     assertOpen();
@@ -13,8 +13,10 @@
 
 package tech.pegasys.teku.storage.server.rocksdb.core;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -23,6 +25,7 @@ import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
 import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
 import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
@@ -37,9 +40,17 @@ import org.rocksdb.TransactionDBOptions;
 import tech.pegasys.teku.storage.server.DatabaseStorageException;
 import tech.pegasys.teku.storage.server.rocksdb.RocksDbConfiguration;
 import tech.pegasys.teku.storage.server.rocksdb.schema.RocksDbColumn;
+import tech.pegasys.teku.storage.server.rocksdb.schema.RocksDbColumn.AccessProfile;
 import tech.pegasys.teku.storage.server.rocksdb.schema.Schema;
 
 public class RocksDbInstanceFactory {
+  private static final double HIGH_PRIORITY_POOL_RATIO = 0.1;
+  private static final double BLOOM_FILTER_BITS_PER_KEY = 10;
+  private static final long POINT_LOOKUP_BLOCK_SIZE = 4 * 1024;
+  private static final long RANGE_SCAN_BLOCK_SIZE = 32 * 1024;
+  private static final long LARGE_VALUE_BLOCK_SIZE = 256 * 1024;
+  private static final long LARGE_VALUE_TARGET_FILE_SIZE = 256 * 1024 * 1024;
+
   static {
     RocksDbUtil.loadNativeLibrary();
   }
@@ -56,12 +67,12 @@ public class RocksDbInstanceFactory {
     final TransactionDBOptions txOptions = new TransactionDBOptions();
     final RocksDbStats rocksDbStats = new RocksDbStats(metricsSystem, metricCategory);
     final DBOptions dbOptions = createDBOptions(configuration, rocksDbStats.getStats());
-    final LRUCache blockCache = new LRUCache(configuration.getCacheCapacity());
-    final ColumnFamilyOptions columnFamilyOptions =
-        createColumnFamilyOptions(configuration, blockCache);
+    final LRUCache blockCache =
+        new LRUCache(configuration.getCacheCapacity(), -1, false, HIGH_PRIORITY_POOL_RATIO);
     final List<AutoCloseable> resources =
-        new ArrayList<>(
-            List.of(txOptions, dbOptions, columnFamilyOptions, rocksDbStats, blockCache));
+        new ArrayList<>(List.of(txOptions, dbOptions, rocksDbStats, blockCache));
+    final Map<AccessProfile, ColumnFamilyOptions> columnFamilyOptions =
+        createColumnFamilyOptions(configuration, blockCache, resources);
 
     List<ColumnFamilyDescriptor> columnDescriptors =
         createColumnFamilyDescriptors(schema, columnFamilyOptions);
@@ -98,7 +109,12 @@ public class RocksDbInstanceFactory {
 
       rocksDbStats.registerMetrics(db);
 
-      return new RocksDbInstance(db, defaultHandle, columnHandlesMap, resources);
+      return new RocksDbInstance(
+          db,
+          defaultHandle,
+          columnHandlesMap,
+          rocksDbStats.createColumnReadMetrics(Schema.getColumnNames(schema)),
+          resources);
     } catch (RocksDBException e) {
       throw new DatabaseStorageException(
           "Failed to open database at path: " + configuration.getDatabaseDir(), e);
@@ -139,30 +155,85 @@ public class RocksDbInstanceFactory {
     return options;
   }
 
-  private static ColumnFamilyOptions createColumnFamilyOptions(
-      final RocksDbConfiguration configuration, final Cache cache) {
-    return new ColumnFamilyOptions()
-        .setCompressionType(configuration.getCompressionType())
-        .setBottommostCompressionType(configuration.getBottomMostCompressionType())
-        .setTableFormatConfig(createBlockBasedTableConfig(cache));
+  @VisibleForTesting
+  static Map<AccessProfile, ColumnFamilyOptions> createColumnFamilyOptions(
+      final RocksDbConfiguration configuration,
+      final Cache cache,
+      final List<AutoCloseable> resources) {
+    final Map<AccessProfile, ColumnFamilyOptions> optionsByProfile =
+        new EnumMap<>(AccessProfile.class);
+    for (AccessProfile profile : AccessProfile.values()) {
+      final ColumnFamilyOptions options =
+          new ColumnFamilyOptions()
+              .setCompressionType(configuration.getCompressionType())
+              .setBottommostCompressionType(configuration.getBottomMostCompressionType())
+              .setTableFormatConfig(createBlockBasedTableConfig(cache, profile, resources));
+      if (profile == AccessProfile.LARGE_VALUE) {
+        // Larger files keep the number of open files and index blocks down when each value is
+        // several megabytes
+        options.setTargetFileSizeBase(LARGE_VALUE_TARGET_FILE_SIZE);
+      }
+      resources.add(options);
+      optionsByProfile.put(profile, options);
+    }
+    return optionsByProfile;
   }
 
   private static List<ColumnFamilyDescriptor> createColumnFamilyDescriptors(
-      final Class<? extends Schema> schema, final ColumnFamilyOptions columnFamilyOptions) {
+      final Class<? extends Schema> schema,
+      final Map<AccessProfile, ColumnFamilyOptions> columnFamilyOptions) {
     List<ColumnFamilyDescriptor> columnDescriptors =
         Schema.streamColumns(schema)
             .map(
-                col -> new ColumnFamilyDescriptor(col.getId().toArrayUnsafe(), columnFamilyOptions))
+                col ->
+                    new ColumnFamilyDescriptor(
+                        col.getId().toArrayUnsafe(),
+                        columnFamilyOptions.get(col.getAccessProfile())))
             .collect(Collectors.toList());
+    // The default column only holds a handful of variables which are read by key
     columnDescriptors.add(
-        new ColumnFamilyDescriptor(Schema.DEFAULT_COLUMN_ID.toArrayUnsafe(), columnFamilyOptions));
+        new ColumnFamilyDescriptor(
+            Schema.DEFAULT_COLUMN_ID.toArrayUnsafe(),
+            columnFamilyOptions.get(AccessProfile.POINT_LOOKUP)));
     return columnDescriptors;
   }
 
-  private static BlockBasedTableConfig createBlockBasedTableConfig(final Cache cache) {
-    return new BlockBasedTableConfig()
-        .setBlockCache(cache)
-        .setCacheIndexAndFilterBlocks(true)
-        .setFormatVersion(4); // Use the latest format version (only applies to new tables)
+  @VisibleForTesting
+  static BlockBasedTableConfig createBlockBasedTableConfig(
+      final Cache cache, final AccessProfile profile, final List<AutoCloseable> resources) {
+    final BlockBasedTableConfig config =
+        new BlockBasedTableConfig()
+            .setFormatVersion(4); // Use the latest format version (only applies to new tables)
+    switch (profile) {
+      case POINT_LOOKUP:
+        // Bloom filters let lookups for missing keys skip reading data blocks entirely, and keeping
+        // index and filter blocks in the high priority pool stops large reads evicting them
+        final BloomFilter filter = new BloomFilter(BLOOM_FILTER_BITS_PER_KEY, false);
+        resources.add(filter);
+        return config
+            .setBlockCache(cache)
+            .setBlockSize(POINT_LOOKUP_BLOCK_SIZE)
+            .setFilterPolicy(filter)
+            .setCacheIndexAndFilterBlocks(true)
+            .setCacheIndexAndFilterBlocksWithHighPriority(true)
+            .setPinL0FilterAndIndexBlocksInCache(true);
+      case RANGE_SCAN:
+        // Scans read every key in the range so filters don't help, but larger blocks mean fewer
+        // reads and better compression
+        return config
+            .setBlockCache(cache)
+            .setBlockSize(RANGE_SCAN_BLOCK_SIZE)
+            .setCacheIndexAndFilterBlocks(true)
+            .setCacheIndexAndFilterBlocksWithHighPriority(true);
+      case LARGE_VALUE:
+        // Values are read rarely and are large enough to flush the rest of the block cache, so
+        // bypass it. The index is tiny relative to the data so is kept in table reader memory.
+        return config
+            .setNoBlockCache(true)
+            .setBlockSize(LARGE_VALUE_BLOCK_SIZE)
+            .setCacheIndexAndFilterBlocks(false);
+      default:
+        throw new IllegalArgumentException("Unknown access profile: " + profile);
+    }
   }
 }
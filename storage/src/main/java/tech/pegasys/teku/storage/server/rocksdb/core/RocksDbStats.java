@@ -13,22 +13,29 @@
 
 package tech.pegasys.teku.storage.server.rocksdb.core;
 
+import com.google.common.collect.ImmutableMap;
 import io.prometheus.client.Collector;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.metrics.prometheus.PrometheusMetricsSystem;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer.TimingContext;
 import org.rocksdb.HistogramData;
 import org.rocksdb.HistogramType;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.Statistics;
 import org.rocksdb.TickerType;
+import tech.pegasys.teku.storage.server.rocksdb.schema.RocksDbColumn;
 
 /**
  * Taken from
@@ -201,6 +208,16 @@ public class RocksDbStats implements AutoCloseable {
         "current_size_all_mem_tables",
         "Current size of all RocksDB mem tables combined",
         () -> getLongProperty(database, "rocksdb.cur-size-all-mem-tables"));
+    metricsSystem.createLongGauge(
+        category,
+        "block_cache_usage",
+        "Memory used by entries in the RocksDB block cache",
+        () -> getLongProperty(database, "rocksdb.block-cache-usage"));
+    metricsSystem.createLongGauge(
+        category,
+        "block_cache_pinned_usage",
+        "Memory used by entries pinned in the RocksDB block cache",
+        () -> getLongProperty(database, "rocksdb.block-cache-pinned-usage"));
 
     for (final TickerType ticker : TICKERS) {
       final String promCounterName = ticker.name().toLowerCase();
@@ -219,6 +236,36 @@ public class RocksDbStats implements AutoCloseable {
     }
   }
 
+  /**
+   * Creates the metrics recorded for point lookups in each column. RocksDB only reports block cache
+   * statistics for the database as a whole, so per column we track read latency and whether the key
+   * was found.
+   */
+  public ImmutableMap<RocksDbColumn<?, ?>, ColumnReadMetrics> createColumnReadMetrics(
+      final Map<RocksDbColumn<?, ?>, String> columnNames) {
+    final LabelledMetric<OperationTimer> readLatency =
+        metricsSystem.createLabelledTimer(
+            category, "column_read_latency", "Time taken to read a key from a column", "column");
+    final LabelledMetric<Counter> readCounter =
+        metricsSystem.createLabelledCounter(
+            category,
+            "column_read_total",
+            "Total number of key reads from a column by result",
+            "column",
+            "result");
+    final ImmutableMap.Builder<RocksDbColumn<?, ?>, ColumnReadMetrics> builder =
+        ImmutableMap.builder();
+    columnNames.forEach(
+        (column, name) ->
+            builder.put(
+                column,
+                new ColumnReadMetrics(
+                    readLatency.labels(name),
+                    readCounter.labels(name, "found"),
+                    readCounter.labels(name, "missing"))));
+    return builder.build();
+  }
+
   private long getLongProperty(final RocksDB database, final String name) {
     try {
       return database.getLongProperty(name);
@@ -275,4 +322,31 @@ public class RocksDbStats implements AutoCloseable {
     }
     return supplier.get();
   }
+
+  public static class ColumnReadMetrics {
+    private final OperationTimer readLatency;
+    private final Counter foundCounter;
+    private final Counter missingCounter;
+
+    private ColumnReadMetrics(
+        final OperationTimer readLatency,
+        final Counter foundCounter,
+        final Counter missingCounter) {
+      this.readLatency = readLatency;
+      this.foundCounter = foundCounter;
+      this.missingCounter = missingCounter;
+    }
+
+    public TimingContext startTimer() {
+      return readLatency.startTimer();
+    }
+
+    public void recordResult(final boolean found) {
+      if (found) {
+        foundCounter.inc();
+      } else {
+        missingCounter.inc();
+      }
+    }
+  }
 }
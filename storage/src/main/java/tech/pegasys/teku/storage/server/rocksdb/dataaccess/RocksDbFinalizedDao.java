@@ -15,6 +15,8 @@ package tech.pegasys.teku.storage.server.rocksdb.dataaccess;
 
 import com.google.common.primitives.UnsignedLong;
 import com.google.errorprone.annotations.MustBeClosed;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes32;
@@ -29,10 +31,14 @@ public interface RocksDbFinalizedDao extends AutoCloseable {
 
   Optional<SignedBeaconBlock> getFinalizedBlock(final Bytes32 root);
 
+  Map<Bytes32, SignedBeaconBlock> getFinalizedBlocks(final Collection<Bytes32> roots);
+
   FinalizedUpdater finalizedUpdater();
 
   Optional<SignedBeaconBlock> getFinalizedBlockAtSlot(UnsignedLong slot);
 
+  Map<UnsignedLong, SignedBeaconBlock> getFinalizedBlocksAtSlots(Collection<UnsignedLong> slots);
+
   Optional<SignedBeaconBlock> getLatestFinalizedBlockAtSlot(UnsignedLong slot);
 
   Optional<BeaconState> getLatestAvailableFinalizedState(UnsignedLong maxSlot);
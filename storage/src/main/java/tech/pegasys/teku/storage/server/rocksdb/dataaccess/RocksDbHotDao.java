@@ -15,6 +15,7 @@ package tech.pegasys.teku.storage.server.rocksdb.dataaccess;
 
 import com.google.common.primitives.UnsignedLong;
 import com.google.errorprone.annotations.MustBeClosed;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -48,6 +49,8 @@ public interface RocksDbHotDao extends AutoCloseable {
 
   Map<Bytes32, SignedBeaconBlock> getHotBlocks();
 
+  Map<Bytes32, SignedBeaconBlock> getHotBlocks(final Collection<Bytes32> roots);
+
   List<Bytes32> getStateRootsBeforeSlot(final UnsignedLong slot);
 
   Optional<SlotAndBlockRoot> getSlotAndBlockRootFromStateRoot(final Bytes32 stateRoot);
@@ -15,6 +15,7 @@ package tech.pegasys.teku.storage.server.rocksdb.dataaccess;
 
 import java.util.Optional;
 import tech.pegasys.teku.protoarray.ProtoArraySnapshot;
+import tech.pegasys.teku.protoarray.ProtoArrayUpdate;
 
 /**
  * Provides an abstract "data access object" interface for working with ETH1 data from the
@@ -27,7 +28,7 @@ public interface RocksDbProtoArrayDao extends AutoCloseable {
   ProtoArrayUpdater protoArrayUpdater();
 
   interface ProtoArrayUpdater extends AutoCloseable {
-    void putProtoArraySnapshot(final ProtoArraySnapshot protoArraySnapshot);
+    void updateProtoArray(final ProtoArrayUpdate protoArrayUpdate);
 
     void commit();
 
@@ -15,6 +15,8 @@ package tech.pegasys.teku.storage.server.rocksdb.dataaccess;
 
 import com.google.common.primitives.UnsignedLong;
 import com.google.errorprone.annotations.MustBeClosed;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -29,6 +31,7 @@ import tech.pegasys.teku.datastructures.state.Checkpoint;
 import tech.pegasys.teku.pow.event.DepositsFromBlockEvent;
 import tech.pegasys.teku.pow.event.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.protoarray.ProtoArraySnapshot;
+import tech.pegasys.teku.protoarray.ProtoArrayUpdate;
 import tech.pegasys.teku.storage.server.rocksdb.core.ColumnEntry;
 import tech.pegasys.teku.storage.server.rocksdb.core.RocksDbAccessor;
 import tech.pegasys.teku.storage.server.rocksdb.core.RocksDbAccessor.RocksDbTransaction;
@@ -68,6 +71,23 @@ public class V3RocksDbDao
     return db.get(V3Schema.FINALIZED_ROOTS_BY_SLOT, slot).flatMap(this::getFinalizedBlock);
   }
 
+  @Override
+  public Map<UnsignedLong, SignedBeaconBlock> getFinalizedBlocksAtSlots(
+      final Collection<UnsignedLong> slots) {
+    final Map<UnsignedLong, Bytes32> rootsBySlot =
+        db.multiGet(V3Schema.FINALIZED_ROOTS_BY_SLOT, slots);
+    final Map<Bytes32, SignedBeaconBlock> blocksByRoot = getFinalizedBlocks(rootsBySlot.values());
+    final Map<UnsignedLong, SignedBeaconBlock> blocks = new HashMap<>();
+    rootsBySlot.forEach(
+        (slot, root) -> {
+          final SignedBeaconBlock block = blocksByRoot.get(root);
+          if (block != null) {
+            blocks.put(slot, block);
+          }
+        });
+    return blocks;
+  }
+
   @Override
   public Optional<SignedBeaconBlock> getLatestFinalizedBlockAtSlot(final UnsignedLong slot) {
     return db.getFloorEntry(V3Schema.FINALIZED_ROOTS_BY_SLOT, slot)
@@ -101,11 +121,21 @@ public class V3RocksDbDao
     return db.get(V3Schema.HOT_BLOCKS_BY_ROOT, root);
   }
 
+  @Override
+  public Map<Bytes32, SignedBeaconBlock> getHotBlocks(final Collection<Bytes32> roots) {
+    return db.multiGet(V3Schema.HOT_BLOCKS_BY_ROOT, roots);
+  }
+
   @Override
   public Optional<SignedBeaconBlock> getFinalizedBlock(final Bytes32 root) {
     return db.get(V3Schema.FINALIZED_BLOCKS_BY_ROOT, root);
   }
 
+  @Override
+  public Map<Bytes32, SignedBeaconBlock> getFinalizedBlocks(final Collection<Bytes32> roots) {
+    return db.multiGet(V3Schema.FINALIZED_BLOCKS_BY_ROOT, roots);
+  }
+
   @Override
   public Optional<BeaconState> getLatestFinalizedState() {
     return db.get(V3Schema.LATEST_FINALIZED_STATE);
@@ -191,9 +221,11 @@ public class V3RocksDbDao
   private static class V3Updater
       implements HotUpdater, FinalizedUpdater, Eth1Updater, ProtoArrayUpdater {
 
+    private final RocksDbAccessor db;
     private final RocksDbTransaction transaction;
 
     V3Updater(final RocksDbAccessor db) {
+      this.db = db;
       this.transaction = db.startTransaction();
     }
 
@@ -286,6 +318,20 @@ public class V3RocksDbDao
       transaction.put(V3Schema.PROTO_ARRAY_SNAPSHOT, newProtoArray);
     }
 
+    @Override
+    public void updateProtoArray(final ProtoArrayUpdate protoArrayUpdate) {
+      // The V3 schema only stores full snapshots so apply the update to the existing snapshot
+      final ProtoArraySnapshot snapshot =
+          db.get(V3Schema.PROTO_ARRAY_SNAPSHOT)
+              .orElseGet(
+                  () ->
+                      new ProtoArraySnapshot(
+                          protoArrayUpdate.getJustifiedEpoch(),
+                          protoArrayUpdate.getFinalizedEpoch(),
+                          List.of()));
+      putProtoArraySnapshot(snapshot.applyUpdate(protoArrayUpdate));
+    }
+
     @Override
     public void commit() {
       // Commit db updates
@@ -15,6 +15,9 @@ package tech.pegasys.teku.storage.server.rocksdb.dataaccess;
 
 import com.google.common.primitives.UnsignedLong;
 import com.google.errorprone.annotations.MustBeClosed;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes32;
@@ -43,6 +46,12 @@ public class V4FinalizedRocksDbDao implements RocksDbFinalizedDao {
     return db.get(V4SchemaFinalized.FINALIZED_BLOCKS_BY_SLOT, slot);
   }
 
+  @Override
+  public Map<UnsignedLong, SignedBeaconBlock> getFinalizedBlocksAtSlots(
+      final Collection<UnsignedLong> slots) {
+    return db.multiGet(V4SchemaFinalized.FINALIZED_BLOCKS_BY_SLOT, slots);
+  }
+
   @Override
   public Optional<SignedBeaconBlock> getLatestFinalizedBlockAtSlot(final UnsignedLong slot) {
     return db.getFloorEntry(V4SchemaFinalized.FINALIZED_BLOCKS_BY_SLOT, slot)
@@ -74,6 +83,23 @@ public class V4FinalizedRocksDbDao implements RocksDbFinalizedDao {
         .flatMap(this::getFinalizedBlockAtSlot);
   }
 
+  @Override
+  public Map<Bytes32, SignedBeaconBlock> getFinalizedBlocks(final Collection<Bytes32> roots) {
+    final Map<Bytes32, UnsignedLong> slotsByRoot =
+        db.multiGet(V4SchemaFinalized.SLOTS_BY_FINALIZED_ROOT, roots);
+    final Map<UnsignedLong, SignedBeaconBlock> blocksBySlot =
+        getFinalizedBlocksAtSlots(slotsByRoot.values());
+    final Map<Bytes32, SignedBeaconBlock> blocks = new HashMap<>();
+    slotsByRoot.forEach(
+        (root, slot) -> {
+          final SignedBeaconBlock block = blocksBySlot.get(slot);
+          if (block != null) {
+            blocks.put(root, block);
+          }
+        });
+    return blocks;
+  }
+
   @Override
   @MustBeClosed
   public FinalizedUpdater finalizedUpdater() {
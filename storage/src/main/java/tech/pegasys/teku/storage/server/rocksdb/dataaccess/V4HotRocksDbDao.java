@@ -15,6 +15,7 @@ package tech.pegasys.teku.storage.server.rocksdb.dataaccess;
 
 import com.google.common.primitives.UnsignedLong;
 import com.google.errorprone.annotations.MustBeClosed;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -28,7 +29,9 @@ import tech.pegasys.teku.datastructures.state.BeaconState;
 import tech.pegasys.teku.datastructures.state.Checkpoint;
 import tech.pegasys.teku.pow.event.DepositsFromBlockEvent;
 import tech.pegasys.teku.pow.event.MinGenesisTimeBlockEvent;
+import tech.pegasys.teku.protoarray.BlockInformation;
 import tech.pegasys.teku.protoarray.ProtoArraySnapshot;
+import tech.pegasys.teku.protoarray.ProtoArrayUpdate;
 import tech.pegasys.teku.storage.server.rocksdb.core.ColumnEntry;
 import tech.pegasys.teku.storage.server.rocksdb.core.RocksDbAccessor;
 import tech.pegasys.teku.storage.server.rocksdb.core.RocksDbAccessor.RocksDbTransaction;
@@ -83,6 +86,11 @@ public class V4HotRocksDbDao implements RocksDbHotDao, RocksDbEth1Dao, RocksDbPr
     return db.getAll(V4SchemaHot.HOT_BLOCKS_BY_ROOT);
   }
 
+  @Override
+  public Map<Bytes32, SignedBeaconBlock> getHotBlocks(final Collection<Bytes32> roots) {
+    return db.multiGet(V4SchemaHot.HOT_BLOCKS_BY_ROOT, roots);
+  }
+
   @Override
   public List<Bytes32> getStateRootsBeforeSlot(final UnsignedLong slot) {
     try (Stream<ColumnEntry<Bytes32, SlotAndBlockRoot>> stream =
@@ -117,7 +125,21 @@ public class V4HotRocksDbDao implements RocksDbHotDao, RocksDbEth1Dao, RocksDbPr
 
   @Override
   public Optional<ProtoArraySnapshot> getProtoArraySnapshot() {
-    return db.get(V4SchemaHot.PROTO_ARRAY_SNAPSHOT);
+    final Optional<UnsignedLong> prunedNodeCount =
+        db.get(V4SchemaHot.PROTO_ARRAY_PRUNED_NODE_COUNT);
+    if (prunedNodeCount.isEmpty()) {
+      // Fall back to a full snapshot written before nodes were stored incrementally
+      return db.get(V4SchemaHot.PROTO_ARRAY_SNAPSHOT);
+    }
+    try (final Stream<ColumnEntry<UnsignedLong, BlockInformation>> nodes =
+        db.stream(V4SchemaHot.PROTO_ARRAY_NODES, prunedNodeCount.get(), UnsignedLong.MAX_VALUE)) {
+      return Optional.of(
+          new ProtoArraySnapshot(
+              db.get(V4SchemaHot.PROTO_ARRAY_JUSTIFIED_EPOCH).orElseThrow(),
+              db.get(V4SchemaHot.PROTO_ARRAY_FINALIZED_EPOCH).orElseThrow(),
+              prunedNodeCount.get().longValue(),
+              nodes.map(ColumnEntry::getValue).collect(Collectors.toList())));
+    }
   }
 
   @Override
@@ -229,6 +251,27 @@ public class V4HotRocksDbDao implements RocksDbHotDao, RocksDbEth1Dao, RocksDbPr
       transaction.put(V4SchemaHot.PROTO_ARRAY_SNAPSHOT, newProtoArray);
     }
 
+    @Override
+    public void updateProtoArray(final ProtoArrayUpdate protoArrayUpdate) {
+      for (long sequence = protoArrayUpdate.getPreviousPrunedNodeCount();
+          sequence < protoArrayUpdate.getPrunedNodeCount();
+          sequence++) {
+        transaction.delete(V4SchemaHot.PROTO_ARRAY_NODES, UnsignedLong.valueOf(sequence));
+      }
+      long sequence = protoArrayUpdate.getFirstNewNodeSequence();
+      for (BlockInformation node : protoArrayUpdate.getNewNodes()) {
+        transaction.put(V4SchemaHot.PROTO_ARRAY_NODES, UnsignedLong.valueOf(sequence), node);
+        sequence++;
+      }
+      transaction.put(
+          V4SchemaHot.PROTO_ARRAY_PRUNED_NODE_COUNT,
+          UnsignedLong.valueOf(protoArrayUpdate.getPrunedNodeCount()));
+      transaction.put(
+          V4SchemaHot.PROTO_ARRAY_JUSTIFIED_EPOCH, protoArrayUpdate.getJustifiedEpoch());
+      transaction.put(
+          V4SchemaHot.PROTO_ARRAY_FINALIZED_EPOCH, protoArrayUpdate.getFinalizedEpoch());
+    }
+
     @Override
     public void commit() {
       // Commit db updates
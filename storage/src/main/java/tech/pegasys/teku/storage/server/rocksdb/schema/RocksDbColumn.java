@@ -22,22 +22,33 @@ public class RocksDbColumn<TKey, TValue> {
   private final Bytes id;
   private final RocksDbSerializer<TKey> keySerializer;
   private final RocksDbSerializer<TValue> valueSerializer;
+  private final AccessProfile accessProfile;
 
   private RocksDbColumn(
       final byte[] id,
       final RocksDbSerializer<TKey> keySerializer,
-      final RocksDbSerializer<TValue> valueSerializer) {
+      final RocksDbSerializer<TValue> valueSerializer,
+      final AccessProfile accessProfile) {
     this.id = Bytes.wrap(id);
     this.keySerializer = keySerializer;
     this.valueSerializer = valueSerializer;
+    this.accessProfile = accessProfile;
   }
 
   public static <K, V> RocksDbColumn<K, V> create(
       final int id,
       final RocksDbSerializer<K> keySerializer,
       final RocksDbSerializer<V> valueSerializer) {
+    return create(id, keySerializer, valueSerializer, AccessProfile.POINT_LOOKUP);
+  }
+
+  public static <K, V> RocksDbColumn<K, V> create(
+      final int id,
+      final RocksDbSerializer<K> keySerializer,
+      final RocksDbSerializer<V> valueSerializer,
+      final AccessProfile accessProfile) {
     final byte byteId = toByteExact(id);
-    return new RocksDbColumn<>(new byte[] {byteId}, keySerializer, valueSerializer);
+    return new RocksDbColumn<>(new byte[] {byteId}, keySerializer, valueSerializer, accessProfile);
   }
 
   public Bytes getId() {
@@ -51,4 +62,18 @@ public class RocksDbColumn<TKey, TValue> {
   public RocksDbSerializer<TValue> getValueSerializer() {
     return valueSerializer;
   }
+
+  public AccessProfile getAccessProfile() {
+    return accessProfile;
+  }
+
+  /** Describes how a column is read so the column family can be tuned to match. */
+  public enum AccessProfile {
+    /** Small values looked up by exact key, often for keys that are not present. */
+    POINT_LOOKUP,
+    /** Values read by iterating over ordered ranges of keys. */
+    RANGE_SCAN,
+    /** Values large enough that each one spans many data blocks, such as beacon states. */
+    LARGE_VALUE
+  }
 }
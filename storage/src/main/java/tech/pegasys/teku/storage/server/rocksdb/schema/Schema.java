@@ -16,6 +16,9 @@ package tech.pegasys.teku.storage.server.rocksdb.schema;
 import java.lang.reflect.Modifier;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes;
 
@@ -36,6 +39,23 @@ public interface Schema {
             });
   }
 
+  /** Returns the name of each column in the schema, as used in metric labels. */
+  static Map<RocksDbColumn<?, ?>, String> getColumnNames(Class<? extends Schema> schema) {
+    return Arrays.stream(schema.getDeclaredFields())
+        .filter(f -> Modifier.isStatic(f.getModifiers()))
+        .filter(f -> f.getType() == RocksDbColumn.class)
+        .collect(
+            Collectors.toMap(
+                f -> {
+                  try {
+                    return (RocksDbColumn<?, ?>) f.get(null);
+                  } catch (IllegalAccessException e) {
+                    throw new RuntimeException(e);
+                  }
+                },
+                f -> f.getName().toLowerCase(Locale.US)));
+  }
+
   static Stream<RocksDbVariable<?>> streamVariables(Class<? extends Schema> schema) {
     return Arrays.stream(schema.getDeclaredFields())
         .filter(f -> Modifier.isStatic(f.getModifiers()))
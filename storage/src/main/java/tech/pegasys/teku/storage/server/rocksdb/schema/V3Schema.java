@@ -13,6 +13,8 @@
 
 package tech.pegasys.teku.storage.server.rocksdb.schema;
 
+import static tech.pegasys.teku.storage.server.rocksdb.schema.RocksDbColumn.AccessProfile.LARGE_VALUE;
+import static tech.pegasys.teku.storage.server.rocksdb.schema.RocksDbColumn.AccessProfile.RANGE_SCAN;
 import static tech.pegasys.teku.storage.server.rocksdb.serialization.RocksDbSerializer.BYTES32_SERIALIZER;
 import static tech.pegasys.teku.storage.server.rocksdb.serialization.RocksDbSerializer.CHECKPOINT_SERIALIZER;
 import static tech.pegasys.teku.storage.server.rocksdb.serialization.RocksDbSerializer.DEPOSITS_FROM_BLOCK_EVENT_SERIALIZER;
@@ -39,20 +41,21 @@ public interface V3Schema extends Schema {
 
   // Columns
   RocksDbColumn<UnsignedLong, Bytes32> FINALIZED_ROOTS_BY_SLOT =
-      RocksDbColumn.create(1, UNSIGNED_LONG_SERIALIZER, BYTES32_SERIALIZER);
+      RocksDbColumn.create(1, UNSIGNED_LONG_SERIALIZER, BYTES32_SERIALIZER, RANGE_SCAN);
   RocksDbColumn<Bytes32, SignedBeaconBlock> FINALIZED_BLOCKS_BY_ROOT =
       RocksDbColumn.create(2, BYTES32_SERIALIZER, SIGNED_BLOCK_SERIALIZER);
   RocksDbColumn<Bytes32, BeaconState> FINALIZED_STATES_BY_ROOT =
-      RocksDbColumn.create(3, BYTES32_SERIALIZER, STATE_SERIALIZER);
+      RocksDbColumn.create(3, BYTES32_SERIALIZER, STATE_SERIALIZER, LARGE_VALUE);
   RocksDbColumn<Bytes32, SignedBeaconBlock> HOT_BLOCKS_BY_ROOT =
       RocksDbColumn.create(4, BYTES32_SERIALIZER, SIGNED_BLOCK_SERIALIZER);
   // We no longer store checkpoint states, keeping only for backwards compatibility
   RocksDbColumn<Checkpoint, BeaconState> CHECKPOINT_STATES =
-      RocksDbColumn.create(5, CHECKPOINT_SERIALIZER, STATE_SERIALIZER);
+      RocksDbColumn.create(5, CHECKPOINT_SERIALIZER, STATE_SERIALIZER, LARGE_VALUE);
   RocksDbColumn<UnsignedLong, VoteTracker> VOTES =
-      RocksDbColumn.create(6, UNSIGNED_LONG_SERIALIZER, VOTES_SERIALIZER);
+      RocksDbColumn.create(6, UNSIGNED_LONG_SERIALIZER, VOTES_SERIALIZER, RANGE_SCAN);
   RocksDbColumn<UnsignedLong, DepositsFromBlockEvent> DEPOSITS_FROM_BLOCK_EVENTS =
-      RocksDbColumn.create(7, UNSIGNED_LONG_SERIALIZER, DEPOSITS_FROM_BLOCK_EVENT_SERIALIZER);
+      RocksDbColumn.create(
+          7, UNSIGNED_LONG_SERIALIZER, DEPOSITS_FROM_BLOCK_EVENT_SERIALIZER, RANGE_SCAN);
   RocksDbColumn<Bytes32, SlotAndBlockRoot> STATE_ROOT_TO_SLOT_AND_BLOCK_ROOT =
       RocksDbColumn.create(8, BYTES32_SERIALIZER, SLOT_AND_BLOCK_ROOT_SERIALIZER);
 
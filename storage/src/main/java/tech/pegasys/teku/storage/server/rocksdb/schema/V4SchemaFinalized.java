@@ -13,6 +13,8 @@
 
 package tech.pegasys.teku.storage.server.rocksdb.schema;
 
+import static tech.pegasys.teku.storage.server.rocksdb.schema.RocksDbColumn.AccessProfile.LARGE_VALUE;
+import static tech.pegasys.teku.storage.server.rocksdb.schema.RocksDbColumn.AccessProfile.RANGE_SCAN;
 import static tech.pegasys.teku.storage.server.rocksdb.serialization.RocksDbSerializer.BYTES32_SERIALIZER;
 import static tech.pegasys.teku.storage.server.rocksdb.serialization.RocksDbSerializer.SIGNED_BLOCK_SERIALIZER;
 import static tech.pegasys.teku.storage.server.rocksdb.serialization.RocksDbSerializer.STATE_SERIALIZER;
@@ -27,7 +29,7 @@ public interface V4SchemaFinalized extends Schema {
   RocksDbColumn<Bytes32, UnsignedLong> SLOTS_BY_FINALIZED_ROOT =
       RocksDbColumn.create(1, BYTES32_SERIALIZER, UNSIGNED_LONG_SERIALIZER);
   RocksDbColumn<UnsignedLong, SignedBeaconBlock> FINALIZED_BLOCKS_BY_SLOT =
-      RocksDbColumn.create(2, UNSIGNED_LONG_SERIALIZER, SIGNED_BLOCK_SERIALIZER);
+      RocksDbColumn.create(2, UNSIGNED_LONG_SERIALIZER, SIGNED_BLOCK_SERIALIZER, RANGE_SCAN);
   RocksDbColumn<UnsignedLong, BeaconState> FINALIZED_STATES_BY_SLOT =
-      RocksDbColumn.create(3, UNSIGNED_LONG_SERIALIZER, STATE_SERIALIZER);
+      RocksDbColumn.create(3, UNSIGNED_LONG_SERIALIZER, STATE_SERIALIZER, LARGE_VALUE);
 }
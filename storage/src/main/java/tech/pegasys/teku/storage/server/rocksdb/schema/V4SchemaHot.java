@@ -13,6 +13,9 @@
 
 package tech.pegasys.teku.storage.server.rocksdb.schema;
 
+import static tech.pegasys.teku.storage.server.rocksdb.schema.RocksDbColumn.AccessProfile.LARGE_VALUE;
+import static tech.pegasys.teku.storage.server.rocksdb.schema.RocksDbColumn.AccessProfile.RANGE_SCAN;
+import static tech.pegasys.teku.storage.server.rocksdb.serialization.RocksDbSerializer.BLOCK_INFORMATION_SERIALIZER;
 import static tech.pegasys.teku.storage.server.rocksdb.serialization.RocksDbSerializer.BYTES32_SERIALIZER;
 import static tech.pegasys.teku.storage.server.rocksdb.serialization.RocksDbSerializer.CHECKPOINT_SERIALIZER;
 import static tech.pegasys.teku.storage.server.rocksdb.serialization.RocksDbSerializer.DEPOSITS_FROM_BLOCK_EVENT_SERIALIZER;
@@ -33,6 +36,7 @@ import tech.pegasys.teku.datastructures.state.BeaconState;
 import tech.pegasys.teku.datastructures.state.Checkpoint;
 import tech.pegasys.teku.pow.event.DepositsFromBlockEvent;
 import tech.pegasys.teku.pow.event.MinGenesisTimeBlockEvent;
+import tech.pegasys.teku.protoarray.BlockInformation;
 import tech.pegasys.teku.protoarray.ProtoArraySnapshot;
 
 public interface V4SchemaHot extends Schema {
@@ -40,13 +44,17 @@ public interface V4SchemaHot extends Schema {
       RocksDbColumn.create(1, BYTES32_SERIALIZER, SIGNED_BLOCK_SERIALIZER);
   // Checkpoint states are no longer stored, keeping only for backwards compatibility.
   RocksDbColumn<Checkpoint, BeaconState> CHECKPOINT_STATES =
-      RocksDbColumn.create(2, CHECKPOINT_SERIALIZER, STATE_SERIALIZER);
+      RocksDbColumn.create(2, CHECKPOINT_SERIALIZER, STATE_SERIALIZER, LARGE_VALUE);
   RocksDbColumn<UnsignedLong, VoteTracker> VOTES =
-      RocksDbColumn.create(3, UNSIGNED_LONG_SERIALIZER, VOTES_SERIALIZER);
+      RocksDbColumn.create(3, UNSIGNED_LONG_SERIALIZER, VOTES_SERIALIZER, RANGE_SCAN);
   RocksDbColumn<UnsignedLong, DepositsFromBlockEvent> DEPOSITS_FROM_BLOCK_EVENTS =
-      RocksDbColumn.create(4, UNSIGNED_LONG_SERIALIZER, DEPOSITS_FROM_BLOCK_EVENT_SERIALIZER);
+      RocksDbColumn.create(
+          4, UNSIGNED_LONG_SERIALIZER, DEPOSITS_FROM_BLOCK_EVENT_SERIALIZER, RANGE_SCAN);
   RocksDbColumn<Bytes32, SlotAndBlockRoot> STATE_ROOT_TO_SLOT_AND_BLOCK_ROOT =
       RocksDbColumn.create(5, BYTES32_SERIALIZER, SLOT_AND_BLOCK_ROOT_SERIALIZER);
+  // Proto array nodes keyed by their sequence number, see ProtoArrayUpdate
+  RocksDbColumn<UnsignedLong, BlockInformation> PROTO_ARRAY_NODES =
+      RocksDbColumn.create(6, UNSIGNED_LONG_SERIALIZER, BLOCK_INFORMATION_SERIALIZER, RANGE_SCAN);
 
   // Variables
   RocksDbVariable<UnsignedLong> GENESIS_TIME = RocksDbVariable.create(1, UNSIGNED_LONG_SERIALIZER);
@@ -59,6 +67,14 @@ public interface V4SchemaHot extends Schema {
   RocksDbVariable<BeaconState> LATEST_FINALIZED_STATE = RocksDbVariable.create(5, STATE_SERIALIZER);
   RocksDbVariable<MinGenesisTimeBlockEvent> MIN_GENESIS_TIME_BLOCK =
       RocksDbVariable.create(6, MIN_GENESIS_TIME_BLOCK_EVENT_SERIALIZER);
+  // Full proto array snapshots are no longer written, keeping only to migrate existing databases.
   RocksDbVariable<ProtoArraySnapshot> PROTO_ARRAY_SNAPSHOT =
       RocksDbVariable.create(7, PROTO_ARRAY_SNAPSHOT_SERIALIZER);
+  // Pruning marker: nodes in PROTO_ARRAY_NODES with a lower sequence number have been removed
+  RocksDbVariable<UnsignedLong> PROTO_ARRAY_PRUNED_NODE_COUNT =
+      RocksDbVariable.create(8, UNSIGNED_LONG_SERIALIZER);
+  RocksDbVariable<UnsignedLong> PROTO_ARRAY_JUSTIFIED_EPOCH =
+      RocksDbVariable.create(9, UNSIGNED_LONG_SERIALIZER);
+  RocksDbVariable<UnsignedLong> PROTO_ARRAY_FINALIZED_EPOCH =
+      RocksDbVariable.create(10, UNSIGNED_LONG_SERIALIZER);
 }
@@ -23,6 +23,7 @@ import tech.pegasys.teku.datastructures.state.BeaconStateImpl;
 import tech.pegasys.teku.datastructures.state.Checkpoint;
 import tech.pegasys.teku.pow.event.DepositsFromBlockEvent;
 import tech.pegasys.teku.pow.event.MinGenesisTimeBlockEvent;
+import tech.pegasys.teku.protoarray.BlockInformation;
 import tech.pegasys.teku.protoarray.ProtoArraySnapshot;
 
 public interface RocksDbSerializer<T> {
@@ -41,6 +42,8 @@ public interface RocksDbSerializer<T> {
       new ProtoArraySnapshotSerializer();
   RocksDbSerializer<SlotAndBlockRoot> SLOT_AND_BLOCK_ROOT_SERIALIZER =
       new SlotAndBlockRootSerializer();
+  RocksDbSerializer<BlockInformation> BLOCK_INFORMATION_SERIALIZER =
+      new BlockInformationSerializer();
 
   T deserialize(final byte[] data);
 
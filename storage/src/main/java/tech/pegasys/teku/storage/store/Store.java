@@ -32,6 +32,7 @@ import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.CheckReturnValue;
 import org.apache.logging.log4j.LogManager;
@@ -70,9 +71,11 @@ class Store implements UpdatableStore {
   private final Counter stateRequestCachedCounter;
   private final Counter stateRequestRegenerateCounter;
   private final Counter stateRequestMissCounter;
+  private final Counter stateRequestDeduplicatedCounter;
   private final Counter checkpointStateRequestCachedCounter;
   private final Counter checkpointStateRequestRegenerateCounter;
   private final Counter checkpointStateRequestMissCounter;
+  private final Counter checkpointStateRequestDeduplicatedCounter;
   private final MetricsSystem metricsSystem;
 
   private final BlockProvider blockProvider;
@@ -89,6 +92,12 @@ class Store implements UpdatableStore {
   Map<UnsignedLong, VoteTracker> votes;
   SignedBlockAndState finalizedBlockAndState;
 
+  // In-flight regenerations, so concurrent requests for the same state share a single computation
+  private final Map<Bytes32, SafeFuture<Optional<SignedBlockAndState>>> pendingBlockStates =
+      new ConcurrentHashMap<>();
+  private final Map<Checkpoint, SafeFuture<Optional<BeaconState>>> pendingCheckpointStates =
+      new ConcurrentHashMap<>();
+
   Store(
       final MetricsSystem metricsSystem,
       final BlockProvider blockProvider,
@@ -111,6 +120,7 @@ class Store implements UpdatableStore {
     stateRequestCachedCounter = stateRequestCounter.labels("cached");
     stateRequestRegenerateCounter = stateRequestCounter.labels("regenerate");
     stateRequestMissCounter = stateRequestCounter.labels("miss");
+    stateRequestDeduplicatedCounter = stateRequestCounter.labels("deduplicated");
     final LabelledMetric<Counter> checkpointStateRequestCounter =
         metricsSystem.createLabelledCounter(
             TekuMetricCategory.STORAGE,
@@ -120,6 +130,8 @@ class Store implements UpdatableStore {
     checkpointStateRequestCachedCounter = checkpointStateRequestCounter.labels("cached");
     checkpointStateRequestRegenerateCounter = checkpointStateRequestCounter.labels("regenerate");
     checkpointStateRequestMissCounter = checkpointStateRequestCounter.labels("miss");
+    checkpointStateRequestDeduplicatedCounter =
+        checkpointStateRequestCounter.labels("deduplicated");
 
     this.time = time;
     this.genesis_time = genesis_time;
@@ -422,16 +434,21 @@ class Store implements UpdatableStore {
     if (inMemoryCheckpoint.isPresent()) {
       return SafeFuture.completedFuture(inMemoryCheckpoint);
     }
-    return retrieveBlockState(checkpoint.getRoot())
-        .thenApply(
-            state ->
-                state.map(
-                    baseState -> {
-                      final BeaconState checkpointState =
-                          regenerateCheckpointState(checkpoint, baseState);
-                      putCheckpointState(checkpoint, checkpointState);
-                      return checkpointState;
-                    }));
+    return deduplicate(
+        pendingCheckpointStates,
+        checkpoint,
+        checkpointStateRequestDeduplicatedCounter,
+        () ->
+            retrieveBlockState(checkpoint.getRoot())
+                .thenApply(
+                    state ->
+                        state.map(
+                            baseState -> {
+                              final BeaconState checkpointState =
+                                  regenerateCheckpointState(checkpoint, baseState);
+                              putCheckpointState(checkpoint, checkpointState);
+                              return checkpointState;
+                            })));
   }
 
   private Optional<BeaconState> getCheckpointStateIfAvailable(final Checkpoint checkpoint) {
@@ -479,13 +496,42 @@ class Store implements UpdatableStore {
     if (inMemoryState.isPresent()) {
       return SafeFuture.completedFuture(inMemoryState);
     }
-    return regenerateState(blockRoot, this::cacheState)
-        .thenApply(res -> res.map(SignedBlockAndState::getState));
+    return regenerateStateOnce(blockRoot).thenApply(res -> res.map(SignedBlockAndState::getState));
   }
 
   private SafeFuture<Optional<SignedBlockAndState>> getAndCacheBlockAndState(
       final Bytes32 blockRoot) {
-    return regenerateState(blockRoot, this::cacheBlockAndState);
+    return regenerateStateOnce(blockRoot)
+        .thenPeek(result -> result.map(SignedBlockAndState::getBlock).ifPresent(this::putBlock));
+  }
+
+  private SafeFuture<Optional<SignedBlockAndState>> regenerateStateOnce(final Bytes32 blockRoot) {
+    return deduplicate(
+        pendingBlockStates,
+        blockRoot,
+        stateRequestDeduplicatedCounter,
+        () -> regenerateState(blockRoot, this::cacheState));
+  }
+
+  /**
+   * Returns the in-flight request for {@code key} if there is one, otherwise starts a new request
+   * which later callers will share until it completes. Results are cached by the request itself
+   * before it completes, so callers arriving afterwards find them without regenerating.
+   */
+  private <K, V> SafeFuture<V> deduplicate(
+      final Map<K, SafeFuture<V>> pendingRequests,
+      final K key,
+      final Counter deduplicatedCounter,
+      final Supplier<SafeFuture<V>> request) {
+    final SafeFuture<V> result = new SafeFuture<>();
+    final SafeFuture<V> existingRequest = pendingRequests.putIfAbsent(key, result);
+    if (existingRequest != null) {
+      deduplicatedCounter.inc();
+      return existingRequest;
+    }
+    result.always(() -> pendingRequests.remove(key, result));
+    SafeFuture.ofComposed(request::get).propagateTo(result);
+    return result;
   }
 
   private SafeFuture<Optional<SignedBlockAndState>> regenerateState(
@@ -559,11 +605,6 @@ class Store implements UpdatableStore {
                 .orElse(EmptyStoreResults.EMPTY_BLOCK_AND_STATE_FUTURE));
   }
 
-  private void cacheBlockAndState(final SignedBlockAndState blockAndState) {
-    putBlockState(blockAndState.getRoot(), blockAndState.getState());
-    putBlock(blockAndState.getBlock());
-  }
-
   private void cacheState(final SignedBlockAndState blockAndState) {
     putBlockState(blockAndState.getRoot(), blockAndState.getState());
   }
@@ -16,7 +16,9 @@ package tech.pegasys.teku.storage.client;
 import static com.google.common.primitives.UnsignedLong.ONE;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.compute_epoch_at_slot;
 import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.compute_start_slot_at_epoch;
@@ -48,6 +50,7 @@ import tech.pegasys.teku.datastructures.util.DataStructureUtil;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.metrics.TekuMetricCategory;
 import tech.pegasys.teku.protoarray.ProtoArrayForkChoiceStrategy;
+import tech.pegasys.teku.storage.api.ChainInitializedChannel;
 import tech.pegasys.teku.storage.api.TrackingReorgEventChannel.ReorgEvent;
 import tech.pegasys.teku.storage.storageSystem.InMemoryStorageSystem;
 import tech.pegasys.teku.storage.storageSystem.StorageSystem;
@@ -86,6 +89,21 @@ class RecentChainDataTest {
     assertThat(preGenesisStorageClient.getStore()).isNotNull();
   }
 
+  @Test
+  public void initialize_shouldNotifyChainInitialized() {
+    final ChainInitializedChannel chainInitializedChannel = mock(ChainInitializedChannel.class);
+    final RecentChainData recentChainData =
+        MemoryOnlyRecentChainData.builder()
+            .chainInitializedChannel(chainInitializedChannel)
+            .build();
+
+    recentChainData.initializeFromGenesis(genesisState);
+
+    verify(chainInitializedChannel)
+        .onChainInitialized(
+            argThat(anchor -> anchor.isGenesis() && anchor.getState().equals(genesisState)));
+  }
+
   @Test
   public void updateBestBlock_validUpdate() throws Exception {
     final SignedBlockAndState bestBlock = chainBuilder.generateNextBlock();
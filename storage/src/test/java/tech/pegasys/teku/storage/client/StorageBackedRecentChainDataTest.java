@@ -19,7 +19,6 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.google.common.eventbus.EventBus;
 import com.google.common.primitives.UnsignedLong;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
@@ -37,6 +36,7 @@ import tech.pegasys.teku.storage.api.FinalizedCheckpointChannel;
 import tech.pegasys.teku.storage.api.ReorgEventChannel;
 import tech.pegasys.teku.storage.api.StorageQueryChannel;
 import tech.pegasys.teku.storage.api.StorageUpdateChannel;
+import tech.pegasys.teku.storage.api.StubChainInitializedChannel;
 import tech.pegasys.teku.storage.api.StubFinalizedCheckpointChannel;
 import tech.pegasys.teku.storage.api.StubReorgEventChannel;
 import tech.pegasys.teku.storage.events.AnchorPoint;
@@ -61,7 +61,6 @@ public class StorageBackedRecentChainDataTest {
     SafeFuture<Optional<StoreBuilder>> storeRequestFuture = new SafeFuture<>();
     when(storageQueryChannel.onStoreRequest()).thenReturn(storeRequestFuture);
 
-    final EventBus eventBus = new EventBus();
     final SafeFuture<RecentChainData> client =
         StorageBackedRecentChainData.create(
             new StubMetricsSystem(),
@@ -71,7 +70,7 @@ public class StorageBackedRecentChainDataTest {
             new StubProtoArrayStorageChannel(),
             finalizedCheckpointChannel,
             reorgEventChannel,
-            eventBus);
+            new StubChainInitializedChannel());
 
     // We should have posted a request to get the store from storage
     verify(storageQueryChannel).onStoreRequest();
@@ -98,7 +97,6 @@ public class StorageBackedRecentChainDataTest {
     SafeFuture<Optional<StoreBuilder>> storeRequestFuture = new SafeFuture<>();
     when(storageQueryChannel.onStoreRequest()).thenReturn(storeRequestFuture);
 
-    final EventBus eventBus = new EventBus();
     final SafeFuture<RecentChainData> client =
         StorageBackedRecentChainData.create(
             new StubMetricsSystem(),
@@ -108,7 +106,7 @@ public class StorageBackedRecentChainDataTest {
             new StubProtoArrayStorageChannel(),
             finalizedCheckpointChannel,
             reorgEventChannel,
-            eventBus);
+            new StubChainInitializedChannel());
 
     // We should have posted a request to get the store from storage
     verify(storageQueryChannel).onStoreRequest();
@@ -141,7 +139,6 @@ public class StorageBackedRecentChainDataTest {
         .thenReturn(SafeFuture.failedFuture(new TimeoutException()))
         .thenReturn(storeRequestFuture);
 
-    final EventBus eventBus = new EventBus();
     final SafeFuture<RecentChainData> client =
         StorageBackedRecentChainData.create(
             new StubMetricsSystem(),
@@ -151,7 +148,7 @@ public class StorageBackedRecentChainDataTest {
             new StubProtoArrayStorageChannel(),
             finalizedCheckpointChannel,
             reorgEventChannel,
-            eventBus);
+            new StubChainInitializedChannel());
 
     // We should have posted a request to get the store from storage
     verify(storageQueryChannel).onStoreRequest();
@@ -33,6 +33,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes32;
@@ -144,6 +145,38 @@ public abstract class AbstractDatabaseTest {
     assertStoresMatch(memoryStore, store);
   }
 
+  @Test
+  public void shouldStartFromAnchorAndStoreHistoricalBlocks() throws StateTransitionException {
+    chainBuilder.generateBlocksUpToSlot(6);
+    final SignedBlockAndState anchorBlockAndState = chainBuilder.getBlockAndStateAtSlot(6);
+    final AnchorPoint anchor =
+        AnchorPoint.fromInitialBlockAndState(
+            anchorBlockAndState.getBlock(), anchorBlockAndState.getState());
+
+    createStorage(storageMode);
+    recentChainData.initializeFromAnchorPoint(anchor);
+    assertThat(recentChainData.getStore().getFinalizedCheckpoint())
+        .isEqualTo(new Checkpoint(UnsignedLong.valueOf(2), anchor.getRoot()));
+    assertThat(database.getEarliestFinalizedBlock()).contains(anchorBlockAndState.getBlock());
+
+    final List<SignedBeaconBlock> historicalBlocks =
+        chainBuilder
+            .streamBlocksAndStatesUpTo(5)
+            .map(SignedBlockAndState::getBlock)
+            .collect(toList());
+    database.storeHistoricalBlocks(historicalBlocks);
+
+    assertThat(database.getEarliestFinalizedBlock()).contains(genesisBlockAndState.getBlock());
+    for (SignedBeaconBlock block : historicalBlocks) {
+      assertThat(database.getSignedBlock(block.getRoot())).contains(block);
+      assertThat(database.getFinalizedBlockAtSlot(block.getSlot())).contains(block);
+    }
+
+    // Restarting should load the anchor as the latest finalized block
+    final UpdatableStore memoryStore = recreateStore();
+    assertThat(memoryStore.getFinalizedCheckpoint()).isEqualTo(anchor.getCheckpoint());
+  }
+
   @Test
   public void shouldGetHotBlockByRoot() throws StateTransitionException {
     final StoreTransaction transaction = recentChainData.startStoreTransaction();
@@ -410,6 +443,37 @@ public abstract class AbstractDatabaseTest {
     assertThat(result.getBlockRoots()).containsExactlyInAnyOrderElementsOf(hotBlockRoots);
   }
 
+  @Test
+  public void shouldGetHotAndFinalizedBlocksInBatches() throws StateTransitionException {
+    generateCheckpoints();
+    final List<SignedBlockAndState> allBlocks =
+        chainBuilder
+            .streamBlocksAndStates(0, checkpoint2BlockAndState.getSlot().longValue())
+            .collect(toList());
+    addBlocks(allBlocks);
+    justifyAndFinalizeEpoch(checkpoint1.getEpoch(), checkpoint1BlockAndState);
+
+    final Map<Bytes32, SignedBeaconBlock> expectedByRoot =
+        allBlocks.stream()
+            .collect(Collectors.toMap(SignedBlockAndState::getRoot, SignedBlockAndState::getBlock));
+    final Set<Bytes32> requestedRoots = new HashSet<>(expectedByRoot.keySet());
+    requestedRoots.add(Bytes32.ZERO);
+    assertThat(database.getSignedBlocks(requestedRoots)).isEqualTo(expectedByRoot);
+
+    final List<SignedBeaconBlock> finalizedBlocks =
+        chainBuilder
+            .streamBlocksAndStates(0, checkpoint1BlockAndState.getSlot().longValue())
+            .map(SignedBlockAndState::getBlock)
+            .collect(toList());
+    final Set<UnsignedLong> requestedSlots =
+        finalizedBlocks.stream().map(SignedBeaconBlock::getSlot).collect(Collectors.toSet());
+    requestedSlots.add(checkpoint2BlockAndState.getSlot().plus(UnsignedLong.ONE));
+    assertThat(database.getFinalizedBlocksAtSlots(requestedSlots))
+        .isEqualTo(
+            finalizedBlocks.stream()
+                .collect(Collectors.toMap(SignedBeaconBlock::getSlot, Function.identity())));
+  }
+
   @Test
   public void shouldRecordAndRetrieveGenesisInformation() {
     final DataStructureUtil util = new DataStructureUtil();
@@ -17,8 +17,6 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.google.common.primitives.UnsignedLong;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.io.TempDir;
@@ -27,6 +25,7 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.protoarray.ProtoArray;
 import tech.pegasys.teku.protoarray.ProtoArraySnapshot;
+import tech.pegasys.teku.protoarray.ProtoArrayUpdate;
 import tech.pegasys.teku.storage.storageSystem.StorageSystem;
 import tech.pegasys.teku.storage.storageSystem.StorageSystemArgumentsProvider;
 
@@ -65,12 +64,7 @@ public class ProtoArrayStorageTest {
 
     // init ProtoArray
     ProtoArray protoArray =
-        new ProtoArray(
-            10000,
-            UnsignedLong.valueOf(100),
-            UnsignedLong.valueOf(99),
-            new ArrayList<>(),
-            new HashMap<>());
+        new ProtoArray(10000, UnsignedLong.valueOf(100), UnsignedLong.valueOf(99));
 
     // add block 1
     protoArray.onBlock(
@@ -91,7 +85,7 @@ public class ProtoArrayStorageTest {
         UnsignedLong.valueOf(100));
 
     ProtoArraySnapshot protoArraySnapshot = ProtoArraySnapshot.create(protoArray);
-    protoArrayStorage.onProtoArrayUpdate(protoArraySnapshot);
+    protoArrayStorage.onProtoArrayUpdate(ProtoArrayUpdate.create(protoArray, 0, 0));
 
     SafeFuture<Optional<ProtoArraySnapshot>> future = protoArrayStorage.getProtoArraySnapshot();
     assertThat(future.isDone()).isTrue();
@@ -112,23 +106,12 @@ public class ProtoArrayStorageTest {
 
     // init ProtoArray
     ProtoArray protoArray1 =
-        new ProtoArray(
-            10000,
-            UnsignedLong.valueOf(100),
-            UnsignedLong.valueOf(99),
-            new ArrayList<>(),
-            new HashMap<>());
+        new ProtoArray(10000, UnsignedLong.valueOf(100), UnsignedLong.valueOf(99));
 
-    ProtoArraySnapshot protoArraySnapshot1 = ProtoArraySnapshot.create(protoArray1);
-    protoArrayStorage.onProtoArrayUpdate(protoArraySnapshot1);
+    protoArrayStorage.onProtoArrayUpdate(ProtoArrayUpdate.create(protoArray1, 0, 0));
 
     ProtoArray protoArray2 =
-        new ProtoArray(
-            10000,
-            UnsignedLong.valueOf(98),
-            UnsignedLong.valueOf(97),
-            new ArrayList<>(),
-            new HashMap<>());
+        new ProtoArray(10000, UnsignedLong.valueOf(98), UnsignedLong.valueOf(97));
 
     // add block 1
     protoArray2.onBlock(
@@ -149,10 +132,59 @@ public class ProtoArrayStorageTest {
         UnsignedLong.valueOf(100));
 
     ProtoArraySnapshot protoArraySnapshot2 = ProtoArraySnapshot.create(protoArray2);
-    protoArrayStorage.onProtoArrayUpdate(protoArraySnapshot2);
+    protoArrayStorage.onProtoArrayUpdate(ProtoArrayUpdate.create(protoArray2, 0, 0));
 
     ProtoArraySnapshot protoArraySnapshotFromDisk =
         protoArrayStorage.getProtoArraySnapshot().get().get();
     assertThat(protoArraySnapshotFromDisk).isEqualToComparingFieldByField(protoArraySnapshot2);
   }
+
+  @ParameterizedTest(name = "{0}")
+  @ArgumentsSource(StorageSystemArgumentsProvider.class)
+  public void shouldApplyIncrementalUpdates(
+      final String storageType,
+      final StorageSystemArgumentsProvider.StorageSystemSupplier storageSystemSupplier)
+      throws Exception {
+    setup(storageSystemSupplier);
+
+    ProtoArray protoArray = new ProtoArray(0, UnsignedLong.valueOf(100), UnsignedLong.valueOf(99));
+    addBlock(protoArray, 1, Bytes32.ZERO);
+    addBlock(protoArray, 2, getRoot(1));
+    addBlock(protoArray, 3, getRoot(2));
+    ProtoArrayUpdate update1 = ProtoArrayUpdate.create(protoArray, 0, 0);
+    protoArrayStorage.onProtoArrayUpdate(update1);
+
+    addBlock(protoArray, 4, getRoot(3));
+    protoArray.maybePrune(getRoot(3));
+    assertThat(protoArray.getPrunedNodeCount()).isEqualTo(2);
+    ProtoArrayUpdate update2 =
+        ProtoArrayUpdate.create(
+            protoArray, update1.getPrunedNodeCount(), update1.getNextNodeSequence());
+    assertThat(update2.getNewNodes()).hasSize(1);
+    protoArrayStorage.onProtoArrayUpdate(update2);
+
+    ProtoArraySnapshot expected = ProtoArraySnapshot.create(protoArray);
+    ProtoArraySnapshot protoArraySnapshotFromDisk =
+        protoArrayStorage.getProtoArraySnapshot().get().orElseThrow();
+    assertThat(protoArraySnapshotFromDisk.getBlockInformationList())
+        .isEqualTo(expected.getBlockInformationList());
+    assertThat(protoArraySnapshotFromDisk.getJustifiedEpoch())
+        .isEqualTo(expected.getJustifiedEpoch());
+    assertThat(protoArraySnapshotFromDisk.getFinalizedEpoch())
+        .isEqualTo(expected.getFinalizedEpoch());
+  }
+
+  private void addBlock(final ProtoArray protoArray, final int slot, final Bytes32 parentRoot) {
+    protoArray.onBlock(
+        UnsignedLong.valueOf(slot),
+        getRoot(slot),
+        parentRoot,
+        Bytes32.ZERO,
+        UnsignedLong.valueOf(100),
+        UnsignedLong.valueOf(99));
+  }
+
+  private Bytes32 getRoot(final int slot) {
+    return Bytes32.fromHexStringLenient("0x" + slot);
+  }
 }
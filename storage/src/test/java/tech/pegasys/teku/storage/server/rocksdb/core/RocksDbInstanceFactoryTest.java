@@ -0,0 +1,139 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.rocksdb.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.primitives.UnsignedLong;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.LRUCache;
+import tech.pegasys.teku.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.metrics.StubCounter;
+import tech.pegasys.teku.metrics.StubMetricsSystem;
+import tech.pegasys.teku.metrics.TekuMetricCategory;
+import tech.pegasys.teku.storage.server.rocksdb.RocksDbConfiguration;
+import tech.pegasys.teku.storage.server.rocksdb.core.RocksDbAccessor.RocksDbTransaction;
+import tech.pegasys.teku.storage.server.rocksdb.schema.RocksDbColumn.AccessProfile;
+import tech.pegasys.teku.storage.server.rocksdb.schema.V4SchemaHot;
+
+class RocksDbInstanceFactoryTest {
+  private final List<AutoCloseable> resources = new ArrayList<>();
+  private final LRUCache cache = new LRUCache(1024);
+
+  @AfterEach
+  void tearDown() throws Exception {
+    for (AutoCloseable resource : resources) {
+      resource.close();
+    }
+    cache.close();
+  }
+
+  @Test
+  void pointLookupShouldUseSmallBlocksWithBloomFilter() {
+    final BlockBasedTableConfig config =
+        RocksDbInstanceFactory.createBlockBasedTableConfig(
+            cache, AccessProfile.POINT_LOOKUP, resources);
+
+    assertThat(config.noBlockCache()).isFalse();
+    assertThat(config.blockSize()).isEqualTo(4 * 1024);
+    assertThat(config.filterPolicy()).isInstanceOf(BloomFilter.class);
+    assertThat(config.cacheIndexAndFilterBlocks()).isTrue();
+    assertThat(config.cacheIndexAndFilterBlocksWithHighPriority()).isTrue();
+    assertThat(config.pinL0FilterAndIndexBlocksInCache()).isTrue();
+    // The filter must be closed with the database
+    assertThat(resources).contains(config.filterPolicy());
+  }
+
+  @Test
+  void rangeScanShouldUseLargerBlocksWithoutFilter() {
+    final BlockBasedTableConfig config =
+        RocksDbInstanceFactory.createBlockBasedTableConfig(
+            cache, AccessProfile.RANGE_SCAN, resources);
+
+    assertThat(config.noBlockCache()).isFalse();
+    assertThat(config.blockSize()).isEqualTo(32 * 1024);
+    assertThat(config.filterPolicy()).isNull();
+    assertThat(config.cacheIndexAndFilterBlocks()).isTrue();
+    assertThat(config.cacheIndexAndFilterBlocksWithHighPriority()).isTrue();
+  }
+
+  @Test
+  void largeValueShouldBypassBlockCache() {
+    final BlockBasedTableConfig config =
+        RocksDbInstanceFactory.createBlockBasedTableConfig(
+            cache, AccessProfile.LARGE_VALUE, resources);
+
+    assertThat(config.noBlockCache()).isTrue();
+    assertThat(config.blockSize()).isEqualTo(256 * 1024);
+    assertThat(config.filterPolicy()).isNull();
+    assertThat(config.cacheIndexAndFilterBlocks()).isFalse();
+  }
+
+  @Test
+  void shouldCreateColumnFamilyOptionsForEachProfile() {
+    final Map<AccessProfile, ColumnFamilyOptions> options =
+        RocksDbInstanceFactory.createColumnFamilyOptions(
+            RocksDbConfiguration.v5HotDefaults(), cache, resources);
+
+    assertThat(options).containsOnlyKeys(AccessProfile.values());
+    assertThat(resources).containsAll(options.values());
+    assertThat(options.get(AccessProfile.LARGE_VALUE).targetFileSizeBase())
+        .isEqualTo(256 * 1024 * 1024);
+    assertThat(options.get(AccessProfile.POINT_LOOKUP).targetFileSizeBase())
+        .isLessThan(options.get(AccessProfile.LARGE_VALUE).targetFileSizeBase());
+  }
+
+  @Test
+  void getShouldRecordReadResultForColumn(@TempDir final Path tempDir) throws Exception {
+    final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+    final Bytes32 storedRoot = Bytes32.fromHexString("0x01");
+    final Bytes32 missingRoot = Bytes32.fromHexString("0x02");
+    try (final RocksDbAccessor db =
+        RocksDbInstanceFactory.create(
+            metricsSystem,
+            TekuMetricCategory.STORAGE_HOT_DB,
+            RocksDbConfiguration.v3And4Settings(tempDir),
+            V4SchemaHot.class)) {
+      try (final RocksDbTransaction transaction = db.startTransaction()) {
+        transaction.put(
+            V4SchemaHot.STATE_ROOT_TO_SLOT_AND_BLOCK_ROOT,
+            storedRoot,
+            new SlotAndBlockRoot(UnsignedLong.ONE, Bytes32.ZERO));
+        transaction.commit();
+      }
+
+      assertThat(db.get(V4SchemaHot.STATE_ROOT_TO_SLOT_AND_BLOCK_ROOT, storedRoot)).isPresent();
+      assertThat(db.get(V4SchemaHot.STATE_ROOT_TO_SLOT_AND_BLOCK_ROOT, storedRoot)).isPresent();
+      assertThat(db.get(V4SchemaHot.STATE_ROOT_TO_SLOT_AND_BLOCK_ROOT, missingRoot)).isEmpty();
+    }
+
+    final StubCounter readCounter =
+        metricsSystem.getCounter(TekuMetricCategory.STORAGE_HOT_DB, "column_read_total");
+    assertThat(readCounter.getValue("state_root_to_slot_and_block_root", "found")).isEqualTo(2);
+    assertThat(readCounter.getValue("state_root_to_slot_and_block_root", "missing")).isEqualTo(1);
+    // Reads are only attributed to the column that was read
+    assertThat(readCounter.getValue("hot_blocks_by_root", "found")).isZero();
+    assertThat(readCounter.getValue("hot_blocks_by_root", "missing")).isZero();
+  }
+}
@@ -113,11 +113,19 @@ public abstract class AbstractStoreTest {
   }
 
   protected Store createGenesisStore(final StorePruningOptions pruningOptions) {
+    return createGenesisStore(
+        pruningOptions, new StubMetricsSystem(), blockProviderFromChainBuilder());
+  }
+
+  protected Store createGenesisStore(
+      final StorePruningOptions pruningOptions,
+      final StubMetricsSystem metricsSystem,
+      final BlockProvider blockProvider) {
     final SignedBlockAndState genesis = chainBuilder.generateGenesis();
     final Checkpoint genesisCheckpoint = chainBuilder.getCurrentCheckpointForEpoch(0);
     return new Store(
-        new StubMetricsSystem(),
-        blockProviderFromChainBuilder(),
+        metricsSystem,
+        blockProvider,
         genesis.getState().getGenesis_time(),
         genesis.getState().getGenesis_time(),
         genesisCheckpoint,
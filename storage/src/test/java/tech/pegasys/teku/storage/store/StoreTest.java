@@ -18,7 +18,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.compute_start_slot_at_epoch;
 
 import com.google.common.primitives.UnsignedLong;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.core.StateTransitionException;
@@ -31,6 +33,7 @@ import tech.pegasys.teku.datastructures.state.BeaconState;
 import tech.pegasys.teku.datastructures.state.Checkpoint;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.metrics.StubMetricsSystem;
+import tech.pegasys.teku.metrics.TekuMetricCategory;
 import tech.pegasys.teku.storage.api.StubStorageUpdateChannel;
 import tech.pegasys.teku.storage.api.StubStorageUpdateChannelWithDelays;
 import tech.pegasys.teku.storage.events.AnchorPoint;
@@ -146,6 +149,38 @@ class StoreTest extends AbstractStoreTest {
         });
   }
 
+  @Test
+  public void retrieveBlockState_shouldShareRegenerationBetweenConcurrentRequests() {
+    final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+    final AtomicReference<SafeFuture<Void>> blockRetrieval =
+        new AtomicReference<>(SafeFuture.COMPLETE);
+    final BlockProvider blockProvider = blockProviderFromChainBuilder();
+    final Store store =
+        createGenesisStore(
+            StorePruningOptions.create(2, 2, 2),
+            metricsSystem,
+            roots -> blockRetrieval.get().thenCompose(__ -> blockProvider.getBlocks(roots)));
+    final List<SignedBlockAndState> blocks = chainBuilder.generateBlocksUpToSlot(10);
+    addBlocks(store, blocks);
+
+    // Hold block retrieval so regeneration stays in flight
+    blockRetrieval.set(new SafeFuture<>());
+    final SignedBlockAndState target = blocks.get(4);
+    final SafeFuture<Optional<BeaconState>> result1 = store.retrieveBlockState(target.getRoot());
+    final SafeFuture<Optional<BeaconState>> result2 = store.retrieveBlockState(target.getRoot());
+    assertThat(result1).isNotDone();
+    assertThat(result2).isNotDone();
+    assertThat(
+            metricsSystem
+                .getCounter(TekuMetricCategory.STORAGE, "memory_state_requests")
+                .getValue("deduplicated"))
+        .isEqualTo(1);
+
+    blockRetrieval.get().complete(null);
+    assertThat(result1).isCompletedWithValue(Optional.of(target.getState()));
+    assertThat(result2).isCompletedWithValue(Optional.of(target.getState()));
+  }
+
   @Test
   public void shouldApplyChangesWhenTransactionCommits() throws StateTransitionException {
     testApplyChangesWhenTransactionCommits(false);
@@ -42,11 +42,28 @@ public class StubStorageQueryChannel implements StorageQueryChannel {
     return SafeFuture.completedFuture(Optional.empty());
   }
 
+  @Override
+  public SafeFuture<Map<UnsignedLong, SignedBeaconBlock>> getFinalizedBlocksAtSlots(
+      final Set<UnsignedLong> slots) {
+    return SafeFuture.completedFuture(Collections.emptyMap());
+  }
+
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getBlockByBlockRoot(Bytes32 blockRoot) {
     return SafeFuture.completedFuture(Optional.empty());
   }
 
+  @Override
+  public SafeFuture<Map<Bytes32, SignedBeaconBlock>> getBlocksByBlockRoot(
+      final Set<Bytes32> blockRoots) {
+    return SafeFuture.completedFuture(Collections.emptyMap());
+  }
+
+  @Override
+  public SafeFuture<Optional<SignedBeaconBlock>> getEarliestHistoricalBlock() {
+    return SafeFuture.completedFuture(Optional.empty());
+  }
+
   @Override
   public SafeFuture<Map<Bytes32, SignedBeaconBlock>> getHotBlocksByRoot(
       final Set<Bytes32> blockRoots) {
@@ -13,6 +13,8 @@
 
 package tech.pegasys.teku.storage.api;
 
+import java.util.Collection;
+import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.storage.events.AnchorPoint;
 import tech.pegasys.teku.storage.events.StorageUpdate;
@@ -26,4 +28,9 @@ public class StubStorageUpdateChannel implements StorageUpdateChannel {
 
   @Override
   public void onGenesis(AnchorPoint genesis) {}
+
+  @Override
+  public SafeFuture<Void> onHistoricalBlocks(Collection<SignedBeaconBlock> blocks) {
+    return SafeFuture.COMPLETE;
+  }
 }
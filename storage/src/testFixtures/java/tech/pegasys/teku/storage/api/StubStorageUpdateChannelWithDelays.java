@@ -13,6 +13,8 @@
 
 package tech.pegasys.teku.storage.api;
 
+import java.util.Collection;
+import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.storage.events.AnchorPoint;
@@ -32,4 +34,9 @@ public class StubStorageUpdateChannelWithDelays implements StorageUpdateChannel
 
   @Override
   public void onGenesis(AnchorPoint genesis) {}
+
+  @Override
+  public SafeFuture<Void> onHistoricalBlocks(Collection<SignedBeaconBlock> blocks) {
+    return SafeFuture.COMPLETE;
+  }
 }
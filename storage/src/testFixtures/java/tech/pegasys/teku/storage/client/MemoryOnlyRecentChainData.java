@@ -15,15 +15,16 @@ package tech.pegasys.teku.storage.client;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import com.google.common.eventbus.EventBus;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.core.lookup.BlockProvider;
 import tech.pegasys.teku.protoarray.ProtoArrayStorageChannel;
 import tech.pegasys.teku.protoarray.StubProtoArrayStorageChannel;
+import tech.pegasys.teku.storage.api.ChainInitializedChannel;
 import tech.pegasys.teku.storage.api.FinalizedCheckpointChannel;
 import tech.pegasys.teku.storage.api.ReorgEventChannel;
 import tech.pegasys.teku.storage.api.StorageUpdateChannel;
+import tech.pegasys.teku.storage.api.StubChainInitializedChannel;
 import tech.pegasys.teku.storage.api.StubFinalizedCheckpointChannel;
 import tech.pegasys.teku.storage.api.StubReorgEventChannel;
 import tech.pegasys.teku.storage.api.StubStorageUpdateChannel;
@@ -33,11 +34,11 @@ public class MemoryOnlyRecentChainData extends RecentChainData {
 
   private MemoryOnlyRecentChainData(
       final MetricsSystem metricsSystem,
-      final EventBus eventBus,
       final StorageUpdateChannel storageUpdateChannel,
       final ProtoArrayStorageChannel protoArrayStorageChannel,
       final FinalizedCheckpointChannel finalizedCheckpointChannel,
-      final ReorgEventChannel reorgEventChannel) {
+      final ReorgEventChannel reorgEventChannel,
+      final ChainInitializedChannel chainInitializedChannel) {
     super(
         metricsSystem,
         BlockProvider.NOOP,
@@ -45,54 +46,43 @@ public class MemoryOnlyRecentChainData extends RecentChainData {
         protoArrayStorageChannel,
         finalizedCheckpointChannel,
         reorgEventChannel,
-        eventBus);
-    eventBus.register(this);
+        chainInitializedChannel);
   }
 
   public static Builder builder() {
     return new Builder();
   }
 
-  public static RecentChainData create(final EventBus eventBus) {
-    return builder().eventBus(eventBus).build();
+  public static RecentChainData create() {
+    return builder().build();
   }
 
-  public static RecentChainData create(
-      final EventBus eventBus, final ReorgEventChannel reorgEventChannel) {
-    return builder().eventBus(eventBus).reorgEventChannel(reorgEventChannel).build();
+  public static RecentChainData create(final ReorgEventChannel reorgEventChannel) {
+    return builder().reorgEventChannel(reorgEventChannel).build();
   }
 
   public static RecentChainData createWithStore(
-      final EventBus eventBus,
-      final ReorgEventChannel reorgEventChannel,
-      final UpdatableStore store) {
-    final RecentChainData recentChainData =
-        builder().eventBus(eventBus).reorgEventChannel(reorgEventChannel).build();
+      final ReorgEventChannel reorgEventChannel, final UpdatableStore store) {
+    final RecentChainData recentChainData = builder().reorgEventChannel(reorgEventChannel).build();
     recentChainData.setStore(store);
     return recentChainData;
   }
 
   public static class Builder {
-    EventBus eventBus = new EventBus();
     StorageUpdateChannel storageUpdateChannel = new StubStorageUpdateChannel();
     ProtoArrayStorageChannel protoArrayStorageChannel = new StubProtoArrayStorageChannel();
     FinalizedCheckpointChannel finalizedCheckpointChannel = new StubFinalizedCheckpointChannel();
     ReorgEventChannel reorgEventChannel = new StubReorgEventChannel();
+    ChainInitializedChannel chainInitializedChannel = new StubChainInitializedChannel();
 
     public RecentChainData build() {
       return new MemoryOnlyRecentChainData(
           new NoOpMetricsSystem(),
-          eventBus,
           storageUpdateChannel,
           protoArrayStorageChannel,
           finalizedCheckpointChannel,
-          reorgEventChannel);
-    }
-
-    public Builder eventBus(final EventBus eventBus) {
-      checkNotNull(eventBus);
-      this.eventBus = eventBus;
-      return this;
+          reorgEventChannel,
+          chainInitializedChannel);
     }
 
     public Builder storageUpdateChannel(final StorageUpdateChannel storageUpdateChannel) {
@@ -113,5 +103,11 @@ public class MemoryOnlyRecentChainData extends RecentChainData {
       this.reorgEventChannel = reorgEventChannel;
       return this;
     }
+
+    public Builder chainInitializedChannel(final ChainInitializedChannel chainInitializedChannel) {
+      checkNotNull(chainInitializedChannel);
+      this.chainInitializedChannel = chainInitializedChannel;
+      return this;
+    }
   }
 }
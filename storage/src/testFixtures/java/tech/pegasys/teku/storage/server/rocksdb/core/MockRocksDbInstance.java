@@ -16,6 +16,7 @@ package tech.pegasys.teku.storage.server.rocksdb.core;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -93,6 +94,17 @@ public class MockRocksDbInstance implements RocksDbAccessor {
     return columnValue(column, valueBytes);
   }
 
+  @Override
+  public <K, V> Map<K, V> multiGet(final RocksDbColumn<K, V> column, final Collection<K> keys) {
+    assertOpen();
+    assertValidColumn(column);
+    final Map<K, V> result = new HashMap<>();
+    for (K key : keys) {
+      get(column, key).ifPresent(value -> result.put(key, value));
+    }
+    return result;
+  }
+
   @Override
   public <K, V> Map<K, V> getAll(final RocksDbColumn<K, V> column) {
     assertOpen();
@@ -18,6 +18,7 @@ import tech.pegasys.teku.metrics.StubMetricsSystem;
 import tech.pegasys.teku.pow.api.TrackingEth1EventsChannel;
 import tech.pegasys.teku.protoarray.StubProtoArrayStorageChannel;
 import tech.pegasys.teku.storage.api.FinalizedCheckpointChannel;
+import tech.pegasys.teku.storage.api.StubChainInitializedChannel;
 import tech.pegasys.teku.storage.api.StubFinalizedCheckpointChannel;
 import tech.pegasys.teku.storage.api.TrackingReorgEventChannel;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
@@ -137,7 +138,7 @@ public class InMemoryStorageSystem extends AbstractStorageSystem {
             new StubProtoArrayStorageChannel(),
             finalizedCheckpointChannel,
             reorgEventChannel,
-            eventBus);
+            new StubChainInitializedChannel());
 
     // Create combined client
     final CombinedChainDataClient combinedChainDataClient =
@@ -33,7 +33,7 @@ import tech.pegasys.teku.infrastructure.async.Waiter;
 import tech.pegasys.teku.networking.eth2.Eth2NetworkFactory;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
-import tech.pegasys.teku.statetransition.events.block.ProposedBlockEvent;
+import tech.pegasys.teku.statetransition.events.block.ProposedBlockChannel;
 import tech.pegasys.teku.util.config.Constants;
 
 public class BlockPropagationIntegrationTest {
@@ -102,7 +102,7 @@ public class BlockPropagationIntegrationTest {
 
     // Propagate new block
     final SignedBeaconBlock newBlock = node1.chainUtil().createBlockAtSlot(currentSlot);
-    node1.eventBus().post(new ProposedBlockEvent(newBlock));
+    node1.eventChannels().getPublisher(ProposedBlockChannel.class).onBlockProposed(newBlock);
 
     // Verify that node2 fetches required blocks in response
     Waiter.waitFor(
@@ -13,8 +13,6 @@
 
 package tech.pegasys.teku.sync;
 
-import com.google.common.eventbus.EventBus;
-import com.google.common.eventbus.Subscribe;
 import com.google.common.primitives.UnsignedLong;
 import java.util.HashSet;
 import java.util.List;
@@ -25,10 +23,12 @@ import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.core.results.BlockImportResult.FailureReason;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
-import tech.pegasys.teku.networking.eth2.gossip.events.GossipedBlockEvent;
+import tech.pegasys.teku.networking.eth2.gossip.events.GossipedBlockChannel;
 import tech.pegasys.teku.service.serviceutils.Service;
 import tech.pegasys.teku.statetransition.blockimport.BlockImporter;
-import tech.pegasys.teku.statetransition.events.block.ImportedBlockEvent;
+import tech.pegasys.teku.statetransition.blockimport.BlockLifecycleTracker;
+import tech.pegasys.teku.statetransition.blockimport.BlockLifecycleTracker.Deferral;
+import tech.pegasys.teku.statetransition.events.block.ImportedBlockChannel;
 import tech.pegasys.teku.statetransition.util.FutureItems;
 import tech.pegasys.teku.statetransition.util.PendingPool;
 import tech.pegasys.teku.storage.client.RecentChainData;
@@ -36,62 +36,65 @@ import tech.pegasys.teku.util.collections.ConcurrentLimitedSet;
 import tech.pegasys.teku.util.collections.LimitStrategy;
 import tech.pegasys.teku.util.time.channels.SlotEventsChannel;
 
-public class BlockManager extends Service implements SlotEventsChannel {
+public class BlockManager extends Service
+    implements SlotEventsChannel, ImportedBlockChannel, GossipedBlockChannel {
   private static final Logger LOG = LogManager.getLogger();
 
-  private final EventBus eventBus;
   private final RecentChainData recentChainData;
   private final BlockImporter blockImporter;
   private final PendingPool<SignedBeaconBlock> pendingBlocks;
 
   private final FutureItems<SignedBeaconBlock> futureBlocks;
   private final FetchRecentBlocksService recentBlockFetcher;
+  private final BlockLifecycleTracker blockLifecycleTracker;
   private final Set<Bytes32> invalidBlockRoots =
       ConcurrentLimitedSet.create(500, LimitStrategy.DROP_LEAST_RECENTLY_ACCESSED);
 
   BlockManager(
-      final EventBus eventBus,
       final RecentChainData recentChainData,
       final BlockImporter blockImporter,
       final PendingPool<SignedBeaconBlock> pendingBlocks,
       final FutureItems<SignedBeaconBlock> futureBlocks,
-      final FetchRecentBlocksService recentBlockFetcher) {
-    this.eventBus = eventBus;
+      final FetchRecentBlocksService recentBlockFetcher,
+      final BlockLifecycleTracker blockLifecycleTracker) {
     this.recentChainData = recentChainData;
     this.blockImporter = blockImporter;
     this.pendingBlocks = pendingBlocks;
     this.futureBlocks = futureBlocks;
     this.recentBlockFetcher = recentBlockFetcher;
+    this.blockLifecycleTracker = blockLifecycleTracker;
   }
 
   public static BlockManager create(
-      final EventBus eventBus,
       final PendingPool<SignedBeaconBlock> pendingBlocks,
       final FutureItems<SignedBeaconBlock> futureBlocks,
       final FetchRecentBlocksService recentBlockFetcher,
       final RecentChainData recentChainData,
-      final BlockImporter blockImporter) {
+      final BlockImporter blockImporter,
+      final BlockLifecycleTracker blockLifecycleTracker) {
     return new BlockManager(
-        eventBus, recentChainData, blockImporter, pendingBlocks, futureBlocks, recentBlockFetcher);
+        recentChainData,
+        blockImporter,
+        pendingBlocks,
+        futureBlocks,
+        recentBlockFetcher,
+        blockLifecycleTracker);
   }
 
   @Override
   public SafeFuture<?> doStart() {
-    this.eventBus.register(this);
     recentBlockFetcher.subscribeBlockFetched(this::importBlock);
     return recentBlockFetcher.start();
   }
 
   @Override
   protected SafeFuture<?> doStop() {
-    eventBus.unregister(this);
     return recentBlockFetcher.stop();
   }
 
-  @Subscribe
-  @SuppressWarnings("unused")
-  void onGossipedBlock(GossipedBlockEvent gossipedBlockEvent) {
-    importBlock(gossipedBlockEvent.getBlock());
+  @Override
+  public void onGossipedBlock(final SignedBeaconBlock block) {
+    importBlock(block);
   }
 
   @Override
@@ -100,11 +103,9 @@ public class BlockManager extends Service implements SlotEventsChannel {
     futureBlocks.prune(slot).forEach(this::importBlock);
   }
 
-  @Subscribe
-  @SuppressWarnings("unused")
-  void onBlockImported(ImportedBlockEvent blockImportedEvent) {
+  @Override
+  public void onBlockImported(final SignedBeaconBlock block) {
     // Check if any pending blocks can now be imported
-    final SignedBeaconBlock block = blockImportedEvent.getBlock();
     final Bytes32 blockRoot = block.getMessage().hash_tree_root();
     pendingBlocks.remove(block);
     final List<SignedBeaconBlock> children = pendingBlocks.getItemsDependingOn(blockRoot, false);
@@ -125,8 +126,10 @@ public class BlockManager extends Service implements SlotEventsChannel {
               if (result.isSuccessful()) {
                 LOG.trace("Imported block: {}", block);
               } else if (result.getFailureReason() == FailureReason.UNKNOWN_PARENT) {
+                blockLifecycleTracker.onDeferred(block, Deferral.PENDING_POOL);
                 pendingBlocks.add(block);
               } else if (result.getFailureReason() == FailureReason.BLOCK_IS_FROM_FUTURE) {
+                blockLifecycleTracker.onDeferred(block, Deferral.FUTURE_ITEMS);
                 futureBlocks.add(block);
               } else {
                 LOG.trace(
@@ -169,6 +172,7 @@ public class BlockManager extends Service implements SlotEventsChannel {
         blockToDrop -> {
           invalidBlockRoots.add(blockToDrop.getMessage().hash_tree_root());
           pendingBlocks.remove(blockToDrop);
+          blockLifecycleTracker.onDropped(blockToDrop);
         });
   }
 }
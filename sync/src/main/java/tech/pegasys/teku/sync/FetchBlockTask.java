@@ -13,8 +13,11 @@
 
 package tech.pegasys.teku.sync;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
@@ -27,6 +30,7 @@ import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
+import tech.pegasys.teku.networking.eth2.rpc.core.ResponseStreamListener;
 import tech.pegasys.teku.networking.p2p.network.P2PNetwork;
 import tech.pegasys.teku.networking.p2p.peer.NodeId;
 import tech.pegasys.teku.sync.FetchBlockTask.FetchBlockResult.Status;
@@ -70,21 +74,13 @@ class FetchBlockTask {
       return SafeFuture.completedFuture(FetchBlockResult.createFailed(Status.CANCELLED));
     }
 
-    final Optional<Eth2Peer> maybePeer =
-        eth2Network
-            .streamPeers()
-            .filter(p -> !queriedPeers.contains(p.getId()))
-            .min(
-                Comparator.comparing(Eth2Peer::getOutstandingRequests)
-                    .thenComparing(SHUFFLING_COMPARATOR));
-
+    final Optional<Eth2Peer> maybePeer = findPeer();
     if (maybePeer.isEmpty()) {
       return SafeFuture.completedFuture(FetchBlockResult.createFailed(Status.NO_AVAILABLE_PEERS));
     }
     final Eth2Peer peer = maybePeer.get();
 
-    numberOfRuns.incrementAndGet();
-    queriedPeers.add(peer.getId());
+    markQueried(peer);
     return peer.requestBlockByRoot(blockRoot)
         .thenApply(FetchBlockResult::createSuccessful)
         .exceptionally(
@@ -94,6 +90,93 @@ class FetchBlockTask {
             });
   }
 
+  /**
+   * Fetches the block for this task together with the blocks for {@code batchedTasks} using a
+   * single BeaconBlocksByRoot request. The peer is selected from those not yet queried by this
+   * task. Any block the peer does not return is reported as {@link Status#FETCH_FAILED} so it can
+   * be retried independently.
+   *
+   * @return the result for each task, keyed by block root
+   */
+  public SafeFuture<Map<Bytes32, FetchBlockResult>> runBatch(
+      final List<FetchBlockTask> batchedTasks) {
+    final Map<Bytes32, FetchBlockResult> results = new ConcurrentHashMap<>();
+    final List<FetchBlockTask> tasksToFetch = new ArrayList<>();
+    for (FetchBlockTask task : prepend(this, batchedTasks)) {
+      if (task.cancelled.get()) {
+        results.put(task.getBlockRoot(), FetchBlockResult.createFailed(Status.CANCELLED));
+      } else {
+        tasksToFetch.add(task);
+      }
+    }
+    if (tasksToFetch.isEmpty()) {
+      return SafeFuture.completedFuture(results);
+    }
+
+    final Optional<Eth2Peer> maybePeer = findPeer();
+    if (maybePeer.isEmpty()) {
+      tasksToFetch.forEach(
+          task ->
+              results.put(
+                  task.getBlockRoot(), FetchBlockResult.createFailed(Status.NO_AVAILABLE_PEERS)));
+      return SafeFuture.completedFuture(results);
+    }
+    final Eth2Peer peer = maybePeer.get();
+
+    final Map<Bytes32, SignedBeaconBlock> blocks = new ConcurrentHashMap<>();
+    final List<Bytes32> blockRoots = new ArrayList<>();
+    tasksToFetch.forEach(
+        task -> {
+          task.markQueried(peer);
+          blockRoots.add(task.getBlockRoot());
+        });
+    return SafeFuture.ofComposed(
+            () ->
+                peer.requestBlocksByRoot(
+                    blockRoots,
+                    ResponseStreamListener.from(block -> blocks.put(block.getRoot(), block))))
+        .exceptionally(
+            err -> {
+              LOG.debug("Failed to fetch blocks " + blockRoots, err);
+              return null;
+            })
+        .thenApply(
+            __ -> {
+              tasksToFetch.forEach(
+                  task ->
+                      results.put(
+                          task.getBlockRoot(),
+                          Optional.ofNullable(blocks.get(task.getBlockRoot()))
+                              .map(FetchBlockResult::createSuccessful)
+                              .orElseGet(
+                                  () -> FetchBlockResult.createFailed(Status.FETCH_FAILED))));
+              return results;
+            });
+  }
+
+  private Optional<Eth2Peer> findPeer() {
+    return eth2Network
+        .streamPeers()
+        .filter(p -> !queriedPeers.contains(p.getId()))
+        .min(
+            Comparator.comparing(Eth2Peer::getOutstandingRequests)
+                .thenComparing(Eth2Peer::getPerformanceScore, Comparator.reverseOrder())
+                .thenComparing(SHUFFLING_COMPARATOR));
+  }
+
+  private void markQueried(final Eth2Peer peer) {
+    numberOfRuns.incrementAndGet();
+    queriedPeers.add(peer.getId());
+  }
+
+  private static List<FetchBlockTask> prepend(
+      final FetchBlockTask first, final List<FetchBlockTask> rest) {
+    final List<FetchBlockTask> tasks = new ArrayList<>(rest.size() + 1);
+    tasks.add(first);
+    tasks.addAll(rest);
+    return tasks;
+  }
+
   static final class FetchBlockResult {
     public enum Status {
       SUCCESSFUL,
@@ -14,13 +14,19 @@
 package tech.pegasys.teku.sync;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.primitives.UnsignedLong;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
@@ -28,16 +34,26 @@ import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
+import tech.pegasys.teku.networking.eth2.rpc.core.ResponseStreamListener;
 import tech.pegasys.teku.networking.p2p.network.P2PNetwork;
 import tech.pegasys.teku.service.serviceutils.Service;
+import tech.pegasys.teku.statetransition.blockimport.BlockLifecycleTracker;
+import tech.pegasys.teku.statetransition.blockimport.BlockLifecycleTracker.Source;
 import tech.pegasys.teku.statetransition.util.PendingPool;
 import tech.pegasys.teku.sync.FetchBlockTask.FetchBlockResult;
+import tech.pegasys.teku.util.collections.ConcurrentLimitedMap;
+import tech.pegasys.teku.util.collections.LimitStrategy;
 import tech.pegasys.teku.util.events.Subscribers;
 
 public class FetchRecentBlocksService extends Service {
   private static final Logger LOG = LogManager.getLogger();
 
   private static final int MAX_CONCURRENT_REQUESTS = 3;
+  static final int MAX_BLOCKS_PER_REQUEST = 16;
+  // Once this many ancestors in a row have been found missing, fetch the rest of the gap by range
+  static final int RANGE_FALLBACK_DEPTH = 4;
+  static final int RANGE_FALLBACK_SLOTS = 64;
+  private static final int MAX_TRACKED_MISSING_ANCESTORS = 1024;
   private static final Duration WAIT_FOR_PEERS_DURATION = Duration.ofSeconds(30);
   private static final RetryDelayFunction RETRY_DELAY_FUNCTION =
       RetryDelayFunction.createExponentialRetry(2, Duration.ofSeconds(5), Duration.ofMinutes(5));
@@ -49,34 +65,45 @@ public class FetchRecentBlocksService extends Service {
   private final Map<Bytes32, FetchBlockTask> allTasks = new ConcurrentHashMap<>();
   private final Queue<FetchBlockTask> pendingTasks = new ConcurrentLinkedQueue<>();
   private final Collection<FetchBlockTask> activeTasks = new ConcurrentLinkedQueue<>();
+  private int activeRequestCount = 0;
+
+  private final Map<Bytes32, MissingAncestor> missingAncestors =
+      ConcurrentLimitedMap.create(
+          MAX_TRACKED_MISSING_ANCESTORS, LimitStrategy.DROP_LEAST_RECENTLY_ACCESSED);
+  private final AtomicBoolean rangeRequestInProgress = new AtomicBoolean(false);
 
   private final FetchBlockTaskFactory fetchBlockTaskFactory;
   private final Subscribers<BlockSubscriber> blockSubscribers = Subscribers.create(true);
   private final AsyncRunner asyncRunner;
+  private final BlockLifecycleTracker blockLifecycleTracker;
 
   FetchRecentBlocksService(
       final AsyncRunner asyncRunner,
       final P2PNetwork<Eth2Peer> eth2Network,
       final PendingPool<SignedBeaconBlock> pendingBlocksPool,
       final FetchBlockTaskFactory fetchBlockTaskFactory,
-      final int maxConcurrentRequests) {
+      final int maxConcurrentRequests,
+      final BlockLifecycleTracker blockLifecycleTracker) {
     this.asyncRunner = asyncRunner;
     this.maxConcurrentRequests = maxConcurrentRequests;
     this.eth2Network = eth2Network;
     this.pendingBlocksPool = pendingBlocksPool;
     this.fetchBlockTaskFactory = fetchBlockTaskFactory;
+    this.blockLifecycleTracker = blockLifecycleTracker;
   }
 
   public static FetchRecentBlocksService create(
       final AsyncRunner asyncRunner,
       final P2PNetwork<Eth2Peer> eth2Network,
-      final PendingPool<SignedBeaconBlock> pendingBlocksPool) {
+      final PendingPool<SignedBeaconBlock> pendingBlocksPool,
+      final BlockLifecycleTracker blockLifecycleTracker) {
     return new FetchRecentBlocksService(
         asyncRunner,
         eth2Network,
         pendingBlocksPool,
         FetchBlockTask::create,
-        MAX_CONCURRENT_REQUESTS);
+        MAX_CONCURRENT_REQUESTS,
+        blockLifecycleTracker);
   }
 
   @Override
@@ -116,6 +143,11 @@ public class FetchRecentBlocksService extends Service {
     }
     LOG.trace("Queue block to be fetched: {}", blockRoot);
     queueTask(task);
+
+    final MissingAncestor missingAncestor = missingAncestors.get(blockRoot);
+    if (missingAncestor != null && missingAncestor.depth >= RANGE_FALLBACK_DEPTH) {
+      requestAncestorsByRange(missingAncestor.childSlot);
+    }
   }
 
   public void cancelRecentBlockRequest(final Bytes32 blockRoot) {
@@ -126,18 +158,31 @@ public class FetchRecentBlocksService extends Service {
   }
 
   private synchronized void checkTasks() {
-    // If we have capacity, execute the next task
-    if (activeTasks.size() < maxConcurrentRequests) {
+    // If we have capacity, execute the next task along with any others waiting to be fetched
+    if (activeRequestCount < maxConcurrentRequests) {
       final FetchBlockTask nextTask = pendingTasks.poll();
       if (nextTask == null) {
         return;
       }
-      runNextTask(nextTask);
+      final List<FetchBlockTask> batchedTasks = new ArrayList<>();
+      while (batchedTasks.size() < MAX_BLOCKS_PER_REQUEST - 1) {
+        final FetchBlockTask batchedTask = pendingTasks.poll();
+        if (batchedTask == null) {
+          break;
+        }
+        batchedTasks.add(batchedTask);
+      }
+      if (batchedTasks.isEmpty()) {
+        runNextTask(nextTask);
+      } else {
+        runNextBatch(nextTask, batchedTasks);
+      }
     }
   }
 
   private void runNextTask(final FetchBlockTask task) {
-    registerActiveTask(task);
+    final List<FetchBlockTask> tasks = List.of(task);
+    registerActiveTasks(tasks);
     task.run()
         .thenAccept(res -> processFetchResult(task, res))
         .exceptionally(
@@ -145,7 +190,26 @@ public class FetchRecentBlocksService extends Service {
               LOG.warn("Failed to run " + task.getClass().getSimpleName(), err);
               return null;
             })
-        .always(() -> deregisterActiveTask(task));
+        .always(() -> deregisterActiveTasks(tasks));
+  }
+
+  private void runNextBatch(final FetchBlockTask task, final List<FetchBlockTask> batchedTasks) {
+    final List<FetchBlockTask> tasks = new ArrayList<>();
+    tasks.add(task);
+    tasks.addAll(batchedTasks);
+    registerActiveTasks(tasks);
+    task.runBatch(batchedTasks)
+        .thenAccept(
+            results ->
+                tasks.forEach(
+                    batchedTask ->
+                        processFetchResult(batchedTask, results.get(batchedTask.getBlockRoot()))))
+        .exceptionally(
+            (err) -> {
+              LOG.warn("Failed to run batch of " + tasks.size() + " fetch block tasks", err);
+              return null;
+            })
+        .always(() -> deregisterActiveTasks(tasks));
   }
 
   private void processFetchResult(final FetchBlockTask task, final FetchBlockResult result) {
@@ -168,13 +232,17 @@ public class FetchRecentBlocksService extends Service {
     }
   }
 
-  private void registerActiveTask(FetchBlockTask task) {
-    LOG.trace("Fetch block {}", task.getBlockRoot());
-    activeTasks.add(task);
+  private synchronized void registerActiveTasks(final List<FetchBlockTask> tasks) {
+    tasks.forEach(task -> LOG.trace("Fetch block {}", task.getBlockRoot()));
+    activeTasks.addAll(tasks);
+    activeRequestCount++;
   }
 
-  private void deregisterActiveTask(FetchBlockTask task) {
-    activeTasks.remove(task);
+  private void deregisterActiveTasks(final List<FetchBlockTask> tasks) {
+    synchronized (this) {
+      activeTasks.removeAll(tasks);
+      activeRequestCount--;
+    }
     checkTasks();
   }
 
@@ -210,11 +278,76 @@ public class FetchRecentBlocksService extends Service {
 
   private void handleFetchedBlock(FetchBlockTask task, final SignedBeaconBlock block) {
     LOG.trace("Successfully fetched block: {}", block);
-    blockSubscribers.forEach(s -> s.onBlock(block));
+    // Record how deep into the gap the parent is before importing, as importing will request it
+    final MissingAncestor missingAncestor = missingAncestors.remove(task.getBlockRoot());
+    final int depth = missingAncestor != null ? missingAncestor.depth : 1;
+    missingAncestors.put(block.getParent_root(), new MissingAncestor(depth + 1, block.getSlot()));
+    notifyBlockFetched(block);
     // After retrieved block has been processed, stop tracking it
     removeTask(task);
   }
 
+  private void notifyBlockFetched(final SignedBeaconBlock block) {
+    blockLifecycleTracker.onReceived(block, Source.RPC);
+    blockSubscribers.forEach(s -> s.onBlock(block));
+  }
+
+  /**
+   * Fetches the slots preceding {@code childSlot} by range from a peer whose head is at least as
+   * recent, rather than walking back one parent at a time. Any ancestors still missing afterwards
+   * continue to be fetched by root.
+   */
+  private void requestAncestorsByRange(final UnsignedLong childSlot) {
+    if (childSlot.equals(UnsignedLong.ZERO) || !rangeRequestInProgress.compareAndSet(false, true)) {
+      return;
+    }
+    final UnsignedLong lastMissingSlot = childSlot.minus(UnsignedLong.ONE);
+    final Optional<Eth2Peer> maybePeer =
+        eth2Network
+            .streamPeers()
+            .filter(Eth2Peer::hasStatus)
+            .filter(peer -> peer.getStatus().getHeadSlot().compareTo(lastMissingSlot) >= 0)
+            .min(
+                Comparator.comparing(Eth2Peer::getOutstandingRequests)
+                    .thenComparing(Eth2Peer::getPerformanceScore, Comparator.reverseOrder()));
+    if (maybePeer.isEmpty()) {
+      LOG.trace("No peer available to fetch missing ancestors before slot {}", childSlot);
+      rangeRequestInProgress.set(false);
+      return;
+    }
+
+    final UnsignedLong count =
+        UnsignedLong.valueOf(Math.min(childSlot.longValue(), RANGE_FALLBACK_SLOTS));
+    final UnsignedLong startSlot = childSlot.minus(count);
+    LOG.debug("Fetching missing ancestors by range from slot {} to {}", startSlot, lastMissingSlot);
+    final AtomicBoolean firstBlock = new AtomicBoolean(true);
+    maybePeer
+        .get()
+        .requestBlocksByRange(
+            startSlot,
+            count,
+            UnsignedLong.ONE,
+            ResponseStreamListener.from(
+                block -> handleBlockFetchedByRange(block, firstBlock.getAndSet(false))))
+        .exceptionally(
+            err -> {
+              LOG.debug("Failed to fetch missing ancestors by range", err);
+              return null;
+            })
+        .always(() -> rangeRequestInProgress.set(false));
+  }
+
+  private void handleBlockFetchedByRange(
+      final SignedBeaconBlock block, final boolean isFirstBlock) {
+    LOG.trace("Fetched block by range: {}", block);
+    if (isFirstBlock) {
+      // If the gap extends beyond this range, continue straight on to the next range
+      missingAncestors.put(
+          block.getParent_root(), new MissingAncestor(RANGE_FALLBACK_DEPTH, block.getSlot()));
+    }
+    notifyBlockFetched(block);
+  }
+
   @VisibleForTesting
   int countPendingTasks() {
     return pendingTasks.size();
@@ -230,6 +363,16 @@ public class FetchRecentBlocksService extends Service {
     return allTasks.size();
   }
 
+  private static class MissingAncestor {
+    private final int depth;
+    private final UnsignedLong childSlot;
+
+    private MissingAncestor(final int depth, final UnsignedLong childSlot) {
+      this.depth = depth;
+      this.childSlot = childSlot;
+    }
+  }
+
   interface FetchBlockTaskFactory {
     FetchBlockTask create(final P2PNetwork<Eth2Peer> eth2Network, final Bytes32 blockRoot);
   }
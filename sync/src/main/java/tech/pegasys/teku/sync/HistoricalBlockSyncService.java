@@ -0,0 +1,260 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.sync;
+
+import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.compute_start_slot_at_epoch;
+import static tech.pegasys.teku.logging.StatusLogger.STATUS_LOG;
+import static tech.pegasys.teku.util.config.Constants.MAX_BLOCK_BY_RANGE_REQUEST_SIZE;
+
+import com.google.common.primitives.UnsignedLong;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
+import tech.pegasys.teku.networking.eth2.rpc.core.ResponseStreamListener;
+import tech.pegasys.teku.networking.p2p.network.P2PNetwork;
+import tech.pegasys.teku.networking.p2p.peer.DisconnectReason;
+import tech.pegasys.teku.networking.p2p.peer.NodeId;
+import tech.pegasys.teku.service.serviceutils.Service;
+import tech.pegasys.teku.storage.api.StorageQueryChannel;
+import tech.pegasys.teku.storage.api.StorageUpdateChannel;
+import tech.pegasys.teku.util.config.Constants;
+
+/**
+ * Downloads blocks from before the earliest stored block, working backwards towards genesis. This
+ * fills in the history of a node that was started from a finalized anchor rather than genesis.
+ *
+ * <p>Historical blocks are finalized so they are only checked to form an unbroken hash chain back
+ * from the earliest stored block, without replaying any state transitions.
+ */
+public class HistoricalBlockSyncService extends Service {
+  private static final Logger LOG = LogManager.getLogger();
+  private static final Duration RETRY_DELAY = Duration.ofSeconds(5);
+  private static final UnsignedLong GENESIS_SLOT = UnsignedLong.valueOf(Constants.GENESIS_SLOT);
+  // Number of different peers which must agree a range is empty before it is skipped.
+  static final int EMPTY_RANGE_CONFIRMATIONS = 2;
+
+  private final AsyncRunner asyncRunner;
+  private final P2PNetwork<Eth2Peer> network;
+  private final StorageQueryChannel storageQueryChannel;
+  private final StorageUpdateChannel storageUpdateChannel;
+  private final UnsignedLong batchSize;
+
+  // Only accessed from the single chain of batch requests.
+  private SignedBeaconBlock earliestBlock;
+  private UnsignedLong requestEndSlot;
+  private boolean downloadedBlocks = false;
+  private final Set<NodeId> peersReportingEmptyRange = new HashSet<>();
+
+  HistoricalBlockSyncService(
+      final AsyncRunner asyncRunner,
+      final P2PNetwork<Eth2Peer> network,
+      final StorageQueryChannel storageQueryChannel,
+      final StorageUpdateChannel storageUpdateChannel,
+      final UnsignedLong batchSize) {
+    this.asyncRunner = asyncRunner;
+    this.network = network;
+    this.storageQueryChannel = storageQueryChannel;
+    this.storageUpdateChannel = storageUpdateChannel;
+    this.batchSize = batchSize;
+  }
+
+  public static HistoricalBlockSyncService create(
+      final AsyncRunner asyncRunner,
+      final P2PNetwork<Eth2Peer> network,
+      final StorageQueryChannel storageQueryChannel,
+      final StorageUpdateChannel storageUpdateChannel) {
+    return new HistoricalBlockSyncService(
+        asyncRunner,
+        network,
+        storageQueryChannel,
+        storageUpdateChannel,
+        MAX_BLOCK_BY_RANGE_REQUEST_SIZE);
+  }
+
+  @Override
+  protected SafeFuture<?> doStart() {
+    loadEarliestBlock();
+    return SafeFuture.COMPLETE;
+  }
+
+  @Override
+  protected SafeFuture<?> doStop() {
+    return SafeFuture.COMPLETE;
+  }
+
+  private void loadEarliestBlock() {
+    storageQueryChannel
+        .getEarliestHistoricalBlock()
+        .finish(
+            this::onEarliestBlockLoaded,
+            error -> {
+              LOG.error("Failed to load earliest historical block", error);
+              retryAfterDelay(this::loadEarliestBlock);
+            });
+  }
+
+  private void onEarliestBlockLoaded(final Optional<SignedBeaconBlock> maybeBlock) {
+    if (maybeBlock.isEmpty()) {
+      // The initial anchor may not have been written to storage yet.
+      retryAfterDelay(this::loadEarliestBlock);
+      return;
+    }
+    earliestBlock = maybeBlock.get();
+    setRequestEndSlot(earliestBlock.getSlot());
+    fetchNextBatch();
+  }
+
+  private void fetchNextBatch() {
+    if (!isRunning()) {
+      return;
+    }
+    if (earliestBlock.getSlot().equals(GENESIS_SLOT)) {
+      if (downloadedBlocks) {
+        STATUS_LOG.historicalBlockSyncComplete();
+      }
+      return;
+    }
+    if (requestEndSlot.equals(GENESIS_SLOT)) {
+      // Searched all the way back to genesis without finding the parent of the earliest block so
+      // the blocks must have been withheld. Start again from the earliest block.
+      LOG.debug("Unable to find parent of block {}", earliestBlock.getRoot());
+      setRequestEndSlot(earliestBlock.getSlot());
+      retryAfterDelay(this::fetchNextBatch);
+      return;
+    }
+
+    final Optional<Eth2Peer> maybePeer = selectPeer();
+    if (maybePeer.isEmpty()) {
+      LOG.trace("No suitable peers available to download historical blocks from");
+      retryAfterDelay(this::fetchNextBatch);
+      return;
+    }
+    final Eth2Peer peer = maybePeer.get();
+
+    final UnsignedLong startSlot =
+        requestEndSlot.compareTo(batchSize) > 0 ? requestEndSlot.minus(batchSize) : GENESIS_SLOT;
+    final UnsignedLong count = requestEndSlot.minus(startSlot);
+    final List<SignedBeaconBlock> blocks = new ArrayList<>();
+    LOG.trace(
+        "Requesting {} historical blocks starting at {} from peer {}", count, startSlot, peer);
+    peer.requestBlocksByRange(
+            startSlot, count, UnsignedLong.ONE, ResponseStreamListener.from(blocks::add))
+        .thenCompose(__ -> processBatch(peer, startSlot, blocks))
+        .finish(
+            () -> asyncRunner.runAsync(this::fetchNextBatch).reportExceptions(),
+            error -> {
+              LOG.debug("Failed to download historical blocks from peer {}", peer, error);
+              retryAfterDelay(this::fetchNextBatch);
+            });
+  }
+
+  private SafeFuture<Void> processBatch(
+      final Eth2Peer peer, final UnsignedLong startSlot, final List<SignedBeaconBlock> blocks) {
+    final List<SignedBeaconBlock> chain = new ArrayList<>();
+    Bytes32 expectedRoot = earliestBlock.getParent_root();
+    for (SignedBeaconBlock block :
+        blocks.stream()
+            .sorted(Comparator.comparing(SignedBeaconBlock::getSlot).reversed())
+            .collect(Collectors.toList())) {
+      if (block.getSlot().compareTo(startSlot) < 0
+          || block.getSlot().compareTo(requestEndSlot) >= 0
+          || !block.getRoot().equals(expectedRoot)) {
+        LOG.debug(
+            "Disconnecting from peer {} which returned block {} at slot {} that does not form a chain to block {}",
+            peer,
+            block.getRoot(),
+            block.getSlot(),
+            expectedRoot);
+        peer.disconnectCleanly(DisconnectReason.REMOTE_FAULT);
+        return SafeFuture.failedFuture(
+            new IllegalStateException("Peer returned historical blocks that do not form a chain"));
+      }
+      chain.add(block);
+      expectedRoot = block.getParent_root();
+    }
+
+    if (chain.isEmpty()) {
+      // A peer that is lagging or withholding blocks can't be distinguished from a range of empty
+      // slots so only move on once enough different peers agree there are no blocks.
+      peersReportingEmptyRange.add(peer.getId());
+      if (peersReportingEmptyRange.size() < EMPTY_RANGE_CONFIRMATIONS) {
+        LOG.debug(
+            "Peer {} returned no blocks between slots {} and {}, confirming with another peer",
+            peer,
+            startSlot,
+            requestEndSlot);
+        return SafeFuture.COMPLETE;
+      }
+      // All slots in the range were empty so keep searching further back for the parent.
+      setRequestEndSlot(startSlot);
+      return SafeFuture.COMPLETE;
+    }
+
+    return storageUpdateChannel
+        .onHistoricalBlocks(chain)
+        .thenRun(
+            () -> {
+              earliestBlock = chain.get(chain.size() - 1);
+              setRequestEndSlot(earliestBlock.getSlot());
+              downloadedBlocks = true;
+              LOG.debug("Downloaded historical blocks back to slot {}", requestEndSlot);
+            });
+  }
+
+  private Optional<Eth2Peer> selectPeer() {
+    // Only peers which have finalized the blocks we need will be able to provide them.
+    final List<Eth2Peer> peers =
+        network
+            .streamPeers()
+            .filter(Eth2Peer::hasStatus)
+            .filter(peer -> !peersReportingEmptyRange.contains(peer.getId()))
+            .filter(
+                peer ->
+                    compute_start_slot_at_epoch(peer.finalizedEpoch()).compareTo(requestEndSlot)
+                        >= 0)
+            .collect(Collectors.toList());
+    if (peers.isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.of(peers.get(ThreadLocalRandom.current().nextInt(peers.size())));
+  }
+
+  private void setRequestEndSlot(final UnsignedLong requestEndSlot) {
+    this.requestEndSlot = requestEndSlot;
+    peersReportingEmptyRange.clear();
+  }
+
+  private void retryAfterDelay(final Runnable action) {
+    if (!isRunning()) {
+      return;
+    }
+    asyncRunner
+        .runAfterDelay(action::run, RETRY_DELAY.toMillis(), TimeUnit.MILLISECONDS)
+        .reportExceptions();
+  }
+}
@@ -13,12 +13,15 @@
 
 package tech.pegasys.teku.sync;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.compute_start_slot_at_epoch;
 import static tech.pegasys.teku.util.config.Constants.MAX_BLOCK_BY_RANGE_REQUEST_SIZE;
 
 import com.google.common.base.Throwables;
 import com.google.common.primitives.UnsignedLong;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -27,6 +30,7 @@ import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.core.results.BlockImportResult;
 import tech.pegasys.teku.core.results.BlockImportResult.FailureReason;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
@@ -50,6 +54,12 @@ public class PeerSync {
    */
   private static final UnsignedLong MIN_SLOTS_TO_PROGRESS_PER_REQUEST = UnsignedLong.valueOf(50);
 
+  /**
+   * The number of blocks imported together when syncing. Importing a run of blocks at once allows
+   * their signatures to be verified in a single batch.
+   */
+  public static final int DEFAULT_IMPORT_BATCH_SIZE = 64;
+
   private static final Logger LOG = LogManager.getLogger();
   private static final UnsignedLong STEP = UnsignedLong.ONE;
 
@@ -58,6 +68,7 @@ public class PeerSync {
   private final BlockImporter blockImporter;
 
   private final AsyncRunner asyncRunner;
+  private final int importBatchSize;
   private final Counter blockImportSuccessResult;
   private final Counter blockImportFailureResult;
 
@@ -68,9 +79,20 @@ public class PeerSync {
       final RecentChainData storageClient,
       final BlockImporter blockImporter,
       final MetricsSystem metricsSystem) {
+    this(asyncRunner, storageClient, blockImporter, metricsSystem, 1);
+  }
+
+  public PeerSync(
+      final AsyncRunner asyncRunner,
+      final RecentChainData storageClient,
+      final BlockImporter blockImporter,
+      final MetricsSystem metricsSystem,
+      final int importBatchSize) {
+    checkArgument(importBatchSize > 0, "Import batch size must be positive");
     this.asyncRunner = asyncRunner;
     this.storageClient = storageClient;
     this.blockImporter = blockImporter;
+    this.importBatchSize = importBatchSize;
     final LabelledMetric<Counter> blockImportCounter =
         metricsSystem.createLabelledCounter(
             TekuMetricCategory.BEACON,
@@ -128,10 +150,19 @@ public class PeerSync {
               final SafeFuture<Void> readyForNextRequest =
                   asyncRunner.getDelayedFuture(
                       NEXT_REQUEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+              final List<SignedBeaconBlock> pendingBlocks = new ArrayList<>();
               final PeerSyncBlockRequest request =
                   new PeerSyncBlockRequest(
-                      readyForNextRequest, startSlot.plus(count), this::blockResponseListener);
+                      readyForNextRequest,
+                      startSlot.plus(count),
+                      block -> blockResponseListener(block, pendingBlocks));
               return peer.requestBlocksByRange(startSlot, count, STEP, request)
+                  .exceptionallyCompose(
+                      error ->
+                          // Still import the blocks we received before the request failed
+                          importPendingBlocks(pendingBlocks)
+                              .thenCompose(imported -> SafeFuture.<Void>failedFuture(error)))
+                  .thenCompose((res) -> importPendingBlocks(pendingBlocks))
                   .thenApply((res) -> request);
             })
         .thenCompose(
@@ -148,6 +179,7 @@ public class PeerSync {
                 LOG.debug(
                     "Rejecting peer {} as sync target because it excessively throttled returned blocks",
                     peer.getId());
+                peer.reportExcessiveThrottling();
                 return SafeFuture.completedFuture(PeerSyncResult.EXCESSIVE_THROTTLING);
               }
               return executeSync(peer, status, nextSlot, blockRequest.getReadyForNextRequest());
@@ -208,10 +240,56 @@ public class PeerSync {
         : diff;
   }
 
-  private SafeFuture<?> blockResponseListener(final SignedBeaconBlock block) {
+  private SafeFuture<?> blockResponseListener(
+      final SignedBeaconBlock block, final List<SignedBeaconBlock> pendingBlocks) {
     if (stopped.get()) {
       throw new CancellationException("Peer sync was cancelled");
     }
+    if (importBatchSize == 1) {
+      return importBlock(block);
+    }
+    synchronized (pendingBlocks) {
+      pendingBlocks.add(block);
+      if (pendingBlocks.size() < importBatchSize) {
+        return SafeFuture.COMPLETE;
+      }
+    }
+    return importPendingBlocks(pendingBlocks);
+  }
+
+  private SafeFuture<Void> importPendingBlocks(final List<SignedBeaconBlock> pendingBlocks) {
+    final List<SignedBeaconBlock> blocks;
+    synchronized (pendingBlocks) {
+      if (pendingBlocks.isEmpty()) {
+        return SafeFuture.COMPLETE;
+      }
+      blocks = new ArrayList<>(pendingBlocks);
+      pendingBlocks.clear();
+    }
+    if (stopped.get()) {
+      return SafeFuture.failedFuture(new CancellationException("Peer sync was cancelled"));
+    }
+    return blockImporter
+        .importBlocks(blocks)
+        .thenAccept(
+            (results) -> {
+              for (int i = 0; i < results.size(); i++) {
+                final BlockImportResult result = results.get(i);
+                final SignedBeaconBlock block = blocks.get(i);
+                LOG.trace(
+                    "Block import result for block at {}: {}",
+                    block.getMessage().getSlot(),
+                    result);
+                if (!result.isSuccessful()) {
+                  this.blockImportFailureResult.inc();
+                  throw new FailedBlockImportException(block, result);
+                }
+                this.blockImportSuccessResult.inc();
+              }
+            });
+  }
+
+  private SafeFuture<Void> importBlock(final SignedBeaconBlock block) {
     return blockImporter
         .importBlock(block)
         .thenAccept(
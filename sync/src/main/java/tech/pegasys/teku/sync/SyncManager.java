@@ -78,7 +78,12 @@ public class SyncManager extends Service {
         asyncRunner,
         network,
         storageClient,
-        new PeerSync(asyncRunner, storageClient, blockImporter, metricsSystem));
+        new PeerSync(
+            asyncRunner,
+            storageClient,
+            blockImporter,
+            metricsSystem,
+            PeerSync.DEFAULT_IMPORT_BATCH_SIZE));
   }
 
   @Override
@@ -222,6 +227,7 @@ public class SyncManager extends Service {
         .filter(this::isPeerSyncSuitable)
         .max(
             Comparator.comparing(Eth2Peer::finalizedEpoch)
+                .thenComparing(Eth2Peer::getPerformanceScore)
                 .thenComparing(peer -> peer.getStatus().getHeadSlot())
                 .thenComparing(p -> Math.random()));
   }
@@ -16,25 +16,29 @@ package tech.pegasys.teku.sync;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.events.TestExceptionHandler.TEST_EXCEPTION_HANDLER;
 
-import com.google.common.eventbus.EventBus;
 import com.google.common.primitives.UnsignedLong;
 import java.util.ArrayList;
 import java.util.List;
 import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.bls.BLSKeyGenerator;
 import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.core.StateTransition;
+import tech.pegasys.teku.data.BlockProcessingRecordChannel;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.datastructures.util.DataStructureUtil;
+import tech.pegasys.teku.events.EventChannels;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
-import tech.pegasys.teku.networking.eth2.gossip.events.GossipedBlockEvent;
 import tech.pegasys.teku.statetransition.BeaconChainUtil;
 import tech.pegasys.teku.statetransition.ImportedBlocks;
 import tech.pegasys.teku.statetransition.blockimport.BlockImporter;
+import tech.pegasys.teku.statetransition.blockimport.BlockLifecycleTracker;
+import tech.pegasys.teku.statetransition.events.block.ImportedBlockChannel;
 import tech.pegasys.teku.statetransition.forkchoice.ForkChoice;
 import tech.pegasys.teku.statetransition.util.FutureItems;
 import tech.pegasys.teku.statetransition.util.PendingPool;
@@ -45,8 +49,6 @@ import tech.pegasys.teku.util.config.Constants;
 public class BlockManagerTest {
   private final DataStructureUtil dataStructureUtil = new DataStructureUtil();
   private final List<BLSKeyPair> validatorKeys = BLSKeyGenerator.generateKeyPairs(2);
-  private final EventBus localEventBus = new EventBus();
-  private final EventBus remoteEventBus = new EventBus();
   private final UnsignedLong historicalBlockTolerance = UnsignedLong.valueOf(5);
   private final UnsignedLong futureBlockTolerance = UnsignedLong.valueOf(2);
   private final PendingPool<SignedBeaconBlock> pendingBlocks =
@@ -55,27 +57,31 @@ public class BlockManagerTest {
       new FutureItems<>(SignedBeaconBlock::getSlot);
   private final FetchRecentBlocksService recentBlockFetcher = mock(FetchRecentBlocksService.class);
 
-  private final RecentChainData localRecentChainData =
-      MemoryOnlyRecentChainData.create(localEventBus);
-  private final RecentChainData remoteRecentChainData =
-      MemoryOnlyRecentChainData.create(remoteEventBus);
+  private final RecentChainData localRecentChainData = MemoryOnlyRecentChainData.create();
+  private final RecentChainData remoteRecentChainData = MemoryOnlyRecentChainData.create();
   private final BeaconChainUtil localChain =
       BeaconChainUtil.create(localRecentChainData, validatorKeys);
   private final BeaconChainUtil remoteChain =
       BeaconChainUtil.create(remoteRecentChainData, validatorKeys);
   private final ForkChoice forkChoice = new ForkChoice(localRecentChainData, new StateTransition());
-  private final ImportedBlocks importedBlocks = new ImportedBlocks(localEventBus);
+  private final EventChannels eventChannels =
+      EventChannels.createSyncChannels(TEST_EXCEPTION_HANDLER, new NoOpMetricsSystem());
+  private final ImportedBlocks importedBlocks = new ImportedBlocks();
 
   private final BlockImporter blockImporter =
-      new BlockImporter(localRecentChainData, forkChoice, localEventBus);
+      new BlockImporter(
+          localRecentChainData,
+          forkChoice,
+          eventChannels.getPublisher(ImportedBlockChannel.class),
+          eventChannels.getPublisher(BlockProcessingRecordChannel.class));
   private final BlockManager blockManager =
       new BlockManager(
-          localEventBus,
           localRecentChainData,
           blockImporter,
           pendingBlocks,
           futureBlocks,
-          recentBlockFetcher);
+          recentBlockFetcher,
+          BlockLifecycleTracker.NOOP);
 
   private final UnsignedLong genesisSlot = UnsignedLong.valueOf(Constants.GENESIS_SLOT);
   private UnsignedLong currentSlot = genesisSlot;
@@ -86,13 +92,15 @@ public class BlockManagerTest {
     remoteChain.initializeStorage();
     when(recentBlockFetcher.start()).thenReturn(SafeFuture.completedFuture(null));
     when(recentBlockFetcher.stop()).thenReturn(SafeFuture.completedFuture(null));
+    eventChannels
+        .subscribe(ImportedBlockChannel.class, importedBlocks)
+        .subscribe(ImportedBlockChannel.class, blockManager);
     assertThat(blockManager.start()).isCompleted();
   }
 
   @AfterEach
   public void cleanup() throws Exception {
     assertThat(blockManager.stop()).isCompleted();
-    importedBlocks.close();
   }
 
   @Test
@@ -102,7 +110,7 @@ public class BlockManagerTest {
     incrementSlot();
 
     assertThat(importedBlocks.get()).isEmpty();
-    localEventBus.post(new GossipedBlockEvent(nextBlock));
+    blockManager.onGossipedBlock(nextBlock);
     assertThat(importedBlocks.get()).containsExactly(nextBlock);
     assertThat(pendingBlocks.size()).isEqualTo(0);
   }
@@ -117,7 +125,7 @@ public class BlockManagerTest {
 
     incrementSlot();
     incrementSlot();
-    localEventBus.post(new GossipedBlockEvent(nextNextBlock));
+    blockManager.onGossipedBlock(nextNextBlock);
     assertThat(importedBlocks.get()).isEmpty();
     assertThat(pendingBlocks.size()).isEqualTo(1);
     assertThat(futureBlocks.size()).isEqualTo(0);
@@ -129,7 +137,7 @@ public class BlockManagerTest {
     final UnsignedLong nextSlot = genesisSlot.plus(UnsignedLong.ONE);
     final SignedBeaconBlock nextBlock = remoteChain.createAndImportBlockAtSlot(nextSlot);
 
-    localEventBus.post(new GossipedBlockEvent(nextBlock));
+    blockManager.onGossipedBlock(nextBlock);
     assertThat(importedBlocks.get()).isEmpty();
     assertThat(pendingBlocks.size()).isEqualTo(0);
     assertThat(futureBlocks.size()).isEqualTo(1);
@@ -145,7 +153,7 @@ public class BlockManagerTest {
     final SignedBeaconBlock nextNextBlock = remoteChain.createAndImportBlockAtSlot(nextNextSlot);
 
     incrementSlot();
-    localEventBus.post(new GossipedBlockEvent(nextNextBlock));
+    blockManager.onGossipedBlock(nextNextBlock);
     assertThat(importedBlocks.get()).isEmpty();
     assertThat(pendingBlocks.size()).isEqualTo(1);
     assertThat(futureBlocks.size()).isEqualTo(0);
@@ -163,9 +171,7 @@ public class BlockManagerTest {
     }
 
     // Gossip all blocks except the first
-    blocks.subList(1, blockCount).stream()
-        .map(GossipedBlockEvent::new)
-        .forEach(localEventBus::post);
+    blocks.subList(1, blockCount).stream().forEach(blockManager::onGossipedBlock);
     assertThat(importedBlocks.get()).isEmpty();
     assertThat(pendingBlocks.size()).isEqualTo(blockCount - 1);
 
@@ -192,17 +198,17 @@ public class BlockManagerTest {
     }
 
     // Gossip all blocks except the first
-    invalidBlockDescendants.stream().map(GossipedBlockEvent::new).forEach(localEventBus::post);
+    invalidBlockDescendants.stream().forEach(blockManager::onGossipedBlock);
     assertThat(importedBlocks.get()).isEmpty();
     assertThat(pendingBlocks.size()).isEqualTo(invalidChainDepth);
 
     // Gossip next block, causing dependent blocks to be dropped when the import fails
-    localEventBus.post(new GossipedBlockEvent(invalidBlock));
+    blockManager.onGossipedBlock(invalidBlock);
     assertThat(importedBlocks.get()).isEmpty();
     assertThat(pendingBlocks.size()).isEqualTo(0);
 
     // If any invalid block is again gossiped, it should be ignored
-    invalidBlockDescendants.stream().map(GossipedBlockEvent::new).forEach(localEventBus::post);
+    invalidBlockDescendants.stream().forEach(blockManager::onGossipedBlock);
     assertThat(importedBlocks.get()).isEmpty();
     assertThat(pendingBlocks.size()).isEqualTo(0);
   }
@@ -225,24 +231,23 @@ public class BlockManagerTest {
 
     // Gossip all blocks except the first two
     invalidBlockDescendants.subList(1, invalidChainDepth).stream()
-        .map(GossipedBlockEvent::new)
-        .forEach(localEventBus::post);
+        .forEach(blockManager::onGossipedBlock);
     assertThat(importedBlocks.get()).isEmpty();
     assertThat(pendingBlocks.size()).isEqualTo(invalidChainDepth - 1);
 
     // Gossip invalid block, which should fail to import and be marked invalid
-    localEventBus.post(new GossipedBlockEvent(invalidBlock));
+    blockManager.onGossipedBlock(invalidBlock);
     assertThat(importedBlocks.get()).isEmpty();
     assertThat(pendingBlocks.size()).isEqualTo(invalidChainDepth - 1);
 
     // Gossip the child of the invalid block, which should also be marked invalid causing
     // the rest of the chain to be marked invalid and dropped
-    localEventBus.post(new GossipedBlockEvent(invalidBlockDescendants.get(0)));
+    blockManager.onGossipedBlock(invalidBlockDescendants.get(0));
     assertThat(importedBlocks.get()).isEmpty();
     assertThat(pendingBlocks.size()).isEqualTo(0);
 
     // If any invalid block is again gossiped, it should be ignored
-    invalidBlockDescendants.stream().map(GossipedBlockEvent::new).forEach(localEventBus::post);
+    invalidBlockDescendants.stream().forEach(blockManager::onGossipedBlock);
     assertThat(importedBlocks.get()).isEmpty();
     assertThat(pendingBlocks.size()).isEqualTo(0);
   }
@@ -260,9 +265,7 @@ public class BlockManagerTest {
     }
 
     // Gossip all blocks except the first
-    blocks.subList(1, blockCount).stream()
-        .map(GossipedBlockEvent::new)
-        .forEach(localEventBus::post);
+    blocks.subList(1, blockCount).stream().forEach(blockManager::onGossipedBlock);
     assertThat(importedBlocks.get()).isEmpty();
     assertThat(pendingBlocks.size()).isEqualTo(blockCount - 1);
 
@@ -14,11 +14,15 @@
 package tech.pegasys.teku.sync;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,6 +31,7 @@ import tech.pegasys.teku.datastructures.util.DataStructureUtil;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.networking.eth2.Eth2Network;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
+import tech.pegasys.teku.networking.eth2.rpc.core.ResponseStreamListener;
 import tech.pegasys.teku.networking.p2p.mock.MockNodeId;
 import tech.pegasys.teku.sync.FetchBlockTask.FetchBlockResult;
 import tech.pegasys.teku.sync.FetchBlockTask.FetchBlockResult.Status;
@@ -151,6 +156,27 @@ public class FetchBlockTaskTest {
     assertThat(fetchBlockResult.getBlock()).isEqualTo(block);
   }
 
+  @Test
+  public void run_shouldPreferBetterPerformingPeerWhenEquallyBusy() {
+    final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(10);
+    final Bytes32 blockRoot = block.getMessage().hash_tree_root();
+    FetchBlockTask task = FetchBlockTask.create(eth2Network, blockRoot);
+
+    final Eth2Peer peer = registerNewPeer(1);
+    when(peer.requestBlockByRoot(blockRoot))
+        .thenReturn(SafeFuture.failedFuture(new RuntimeException("whoops")));
+    when(peer.getPerformanceScore()).thenReturn(100);
+    final Eth2Peer peer2 = registerNewPeer(2);
+    when(peer2.requestBlockByRoot(blockRoot)).thenReturn(SafeFuture.completedFuture(block));
+    when(peer2.getPerformanceScore()).thenReturn(400);
+
+    final SafeFuture<FetchBlockResult> result = task.run();
+    assertThat(result).isDone();
+    final FetchBlockResult fetchBlockResult = result.getNow(null);
+    assertThat(fetchBlockResult.isSuccessful()).isTrue();
+    assertThat(fetchBlockResult.getBlock()).isEqualTo(block);
+  }
+
   @Test
   public void cancel() {
     final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(10);
@@ -168,6 +194,47 @@ public class FetchBlockTaskTest {
     assertThat(fetchBlockResult.getStatus()).isEqualTo(Status.CANCELLED);
   }
 
+  @Test
+  public void runBatch_shouldRequestAllRootsFromOnePeer() throws Exception {
+    final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(10);
+    final Bytes32 missingRoot = dataStructureUtil.randomBytes32();
+    final FetchBlockTask task = FetchBlockTask.create(eth2Network, block.getRoot());
+    final FetchBlockTask batchedTask = FetchBlockTask.create(eth2Network, missingRoot);
+
+    final Eth2Peer peer = registerNewPeer(1);
+    when(peer.requestBlocksByRoot(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              final ResponseStreamListener<SignedBeaconBlock> listener = invocation.getArgument(1);
+              return listener.onResponse(block).thenApply(__ -> null);
+            });
+
+    final SafeFuture<Map<Bytes32, FetchBlockResult>> result = task.runBatch(List.of(batchedTask));
+    assertThat(result).isDone();
+    final Map<Bytes32, FetchBlockResult> results = result.getNow(null);
+    assertThat(results.get(block.getRoot()).getBlock()).isEqualTo(block);
+    assertThat(results.get(missingRoot).getStatus()).isEqualTo(Status.FETCH_FAILED);
+    verify(peer).requestBlocksByRoot(eq(List.of(block.getRoot(), missingRoot)), any());
+
+    // Both tasks have now queried the only peer
+    assertThat(batchedTask.run().getNow(null).getStatus()).isEqualTo(Status.NO_AVAILABLE_PEERS);
+  }
+
+  @Test
+  public void runBatch_shouldNotRequestCancelledTasks() {
+    final FetchBlockTask task =
+        FetchBlockTask.create(eth2Network, dataStructureUtil.randomBytes32());
+    final FetchBlockTask batchedTask =
+        FetchBlockTask.create(eth2Network, dataStructureUtil.randomBytes32());
+    registerNewPeer(1);
+
+    task.cancel();
+    batchedTask.cancel();
+    final Map<Bytes32, FetchBlockResult> results = task.runBatch(List.of(batchedTask)).getNow(null);
+    assertThat(results.get(task.getBlockRoot()).getStatus()).isEqualTo(Status.CANCELLED);
+    assertThat(results.get(batchedTask.getBlockRoot()).getStatus()).isEqualTo(Status.CANCELLED);
+  }
+
   private Eth2Peer registerNewPeer(final int id) {
     final Eth2Peer peer = mock(Eth2Peer.class);
     when(peer.getOutstandingRequests()).thenReturn(0);
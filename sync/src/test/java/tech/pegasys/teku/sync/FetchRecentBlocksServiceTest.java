@@ -15,14 +15,18 @@ package tech.pegasys.teku.sync;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.primitives.UnsignedLong;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,6 +36,9 @@ import tech.pegasys.teku.datastructures.util.DataStructureUtil;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.networking.eth2.Eth2Network;
+import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
+import tech.pegasys.teku.networking.eth2.peers.PeerStatus;
+import tech.pegasys.teku.statetransition.blockimport.BlockLifecycleTracker;
 import tech.pegasys.teku.statetransition.util.PendingPool;
 import tech.pegasys.teku.sync.FetchBlockTask.FetchBlockResult;
 import tech.pegasys.teku.sync.FetchBlockTask.FetchBlockResult.Status;
@@ -52,6 +59,7 @@ public class FetchRecentBlocksServiceTest {
 
   private final List<FetchBlockTask> tasks = new ArrayList<>();
   private final List<SafeFuture<FetchBlockResult>> taskFutures = new ArrayList<>();
+  private final List<SafeFuture<Map<Bytes32, FetchBlockResult>>> batchFutures = new ArrayList<>();
   private final List<SignedBeaconBlock> importedBlocks = new ArrayList<>();
 
   private FetchRecentBlocksService recentBlockFetcher;
@@ -64,7 +72,8 @@ public class FetchRecentBlocksServiceTest {
             eth2Network,
             pendingBlocksPool,
             fetchBlockTaskFactory,
-            maxConcurrentRequests);
+            maxConcurrentRequests,
+            BlockLifecycleTracker.NOOP);
 
     lenient().when(fetchBlockTaskFactory.create(any(), any())).thenAnswer(this::createMockTask);
     recentBlockFetcher.subscribeBlockFetched(importedBlocks::add);
@@ -79,6 +88,9 @@ public class FetchRecentBlocksServiceTest {
     final SafeFuture<FetchBlockResult> future = new SafeFuture<>();
     lenient().when(task.run()).thenReturn(future);
     taskFutures.add(future);
+    final SafeFuture<Map<Bytes32, FetchBlockResult>> batchFuture = new SafeFuture<>();
+    lenient().when(task.runBatch(any())).thenReturn(batchFuture);
+    batchFutures.add(batchFuture);
 
     tasks.add(task);
 
@@ -233,6 +245,71 @@ public class FetchRecentBlocksServiceTest {
     assertTaskCounts(taskCount - 1, taskCount - 1, 0);
   }
 
+  @Test
+  public void batchQueuedTasksIntoSingleRequest() {
+    final List<Bytes32> roots = new ArrayList<>();
+    for (int i = 0; i < maxConcurrentRequests + 2; i++) {
+      final Bytes32 root = dataStructureUtil.randomBytes32();
+      roots.add(root);
+      recentBlockFetcher.requestRecentBlock(root);
+    }
+    assertTaskCounts(4, 2, 2);
+
+    // Complete first task, both queued tasks should then be fetched by one request
+    taskFutures
+        .get(0)
+        .complete(FetchBlockResult.createSuccessful(dataStructureUtil.randomSignedBeaconBlock(1)));
+    verify(tasks.get(2)).runBatch(List.of(tasks.get(3)));
+    verify(tasks.get(3), never()).run();
+    assertTaskCounts(3, 3, 0);
+
+    // Peer only returns one of the blocks so the other is retried
+    final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(2);
+    batchFutures
+        .get(2)
+        .complete(
+            Map.of(
+                roots.get(2),
+                FetchBlockResult.createSuccessful(block),
+                roots.get(3),
+                FetchBlockResult.createFailed(Status.FETCH_FAILED)));
+    assertThat(importedBlocks).contains(block);
+    assertThat(asyncRunner.countDelayedActions()).isEqualTo(1);
+    assertTaskCounts(2, 1, 0);
+  }
+
+  @Test
+  public void fetchAncestorsByRangeWhenGapIsDeep() {
+    final Eth2Peer peer = mock(Eth2Peer.class);
+    final PeerStatus peerStatus = mock(PeerStatus.class);
+    when(peer.hasStatus()).thenReturn(true);
+    when(peer.getStatus()).thenReturn(peerStatus);
+    when(peerStatus.getHeadSlot()).thenReturn(UnsignedLong.valueOf(200));
+    when(peer.requestBlocksByRange(any(), any(), any(), any())).thenReturn(new SafeFuture<>());
+    when(eth2Network.streamPeers()).thenAnswer(__ -> Stream.of(peer));
+
+    // Each fetched block's parent is also missing
+    Bytes32 root = dataStructureUtil.randomBytes32();
+    long slot = 100;
+    for (int depth = 1; depth < FetchRecentBlocksService.RANGE_FALLBACK_DEPTH; depth++) {
+      recentBlockFetcher.requestRecentBlock(root);
+      final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(slot);
+      taskFutures.get(depth - 1).complete(FetchBlockResult.createSuccessful(block));
+      verify(peer, never()).requestBlocksByRange(any(), any(), any(), any());
+      root = block.getParent_root();
+      slot--;
+    }
+
+    recentBlockFetcher.requestRecentBlock(root);
+    final long childSlot = slot + 1;
+    verify(peer)
+        .requestBlocksByRange(
+            eq(UnsignedLong.valueOf(childSlot - FetchRecentBlocksService.RANGE_FALLBACK_SLOTS)),
+            eq(UnsignedLong.valueOf(FetchRecentBlocksService.RANGE_FALLBACK_SLOTS)),
+            eq(UnsignedLong.ONE),
+            any());
+  }
+
   private void assertTaskCounts(
       final int totalTasks, final int activeTasks, final int queuedTasks) {
     assertThat(recentBlockFetcher.countTrackedTasks()).isEqualTo(totalTasks);
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.sync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.primitives.UnsignedLong;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
+import tech.pegasys.teku.networking.eth2.rpc.core.ResponseStreamListener;
+import tech.pegasys.teku.networking.p2p.mock.MockNodeId;
+import tech.pegasys.teku.networking.p2p.network.P2PNetwork;
+import tech.pegasys.teku.networking.p2p.peer.DisconnectReason;
+import tech.pegasys.teku.storage.api.StorageQueryChannel;
+import tech.pegasys.teku.storage.api.StorageUpdateChannel;
+
+public class HistoricalBlockSyncServiceTest {
+  private static final UnsignedLong BATCH_SIZE = UnsignedLong.valueOf(4);
+
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+
+  @SuppressWarnings("unchecked")
+  private final P2PNetwork<Eth2Peer> network = mock(P2PNetwork.class);
+
+  private final Eth2Peer peer = mock(Eth2Peer.class);
+  private final StorageQueryChannel storageQueryChannel = mock(StorageQueryChannel.class);
+  private final StorageUpdateChannel storageUpdateChannel = mock(StorageUpdateChannel.class);
+  private final List<SignedBeaconBlock> storedBlocks = new ArrayList<>();
+
+  // Chain with a block at every slot except 5 and 6.
+  private final List<SignedBeaconBlock> chain = createChain(10, 5, 6);
+  private final SignedBeaconBlock anchor = chain.get(chain.size() - 1);
+
+  private final HistoricalBlockSyncService service =
+      new HistoricalBlockSyncService(
+          asyncRunner, network, storageQueryChannel, storageUpdateChannel, BATCH_SIZE);
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    when(network.streamPeers()).thenAnswer(__ -> Stream.of(peer));
+    setupPeer(peer, 1);
+    when(storageQueryChannel.getEarliestHistoricalBlock())
+        .thenReturn(SafeFuture.completedFuture(Optional.of(anchor)));
+    when(storageUpdateChannel.onHistoricalBlocks(any()))
+        .thenAnswer(
+            invocation -> {
+              storedBlocks.addAll(invocation.getArgument(0, Collection.class));
+              return SafeFuture.COMPLETE;
+            });
+  }
+
+  @Test
+  void shouldBackfillBlocksToGenesis() {
+    when(peer.requestBlocksByRange(any(), any(), any(), any()))
+        .thenAnswer(
+            invocation ->
+                respondWith(
+                    invocation.getArgument(0),
+                    invocation.getArgument(1),
+                    invocation.getArgument(3),
+                    chain));
+
+    service.start().join();
+    asyncRunner.executeUntilDone();
+
+    final List<SignedBeaconBlock> expected = new ArrayList<>(chain.subList(0, chain.size() - 1));
+    assertThat(storedBlocks).containsExactlyInAnyOrderElementsOf(expected);
+    // Each request ends at the earliest block found so far.
+    verify(peer).requestBlocksByRange(eq(UnsignedLong.valueOf(5)), eq(BATCH_SIZE), any(), any());
+    verify(peer).requestBlocksByRange(eq(UnsignedLong.valueOf(3)), eq(BATCH_SIZE), any(), any());
+    verify(peer)
+        .requestBlocksByRange(eq(UnsignedLong.ZERO), eq(UnsignedLong.valueOf(3)), any(), any());
+    verify(peer, never()).disconnectCleanly(any());
+  }
+
+  @Test
+  void shouldDisconnectPeerWhenBlocksDoNotFormChain() {
+    final List<SignedBeaconBlock> otherChain = createChain(10);
+    when(peer.requestBlocksByRange(any(), any(), any(), any()))
+        .thenAnswer(
+            invocation ->
+                respondWith(
+                    invocation.getArgument(0),
+                    invocation.getArgument(1),
+                    invocation.getArgument(3),
+                    otherChain));
+
+    service.start().join();
+
+    verify(peer).disconnectCleanly(DisconnectReason.REMOTE_FAULT);
+    assertThat(storedBlocks).isEmpty();
+    // Should retry later
+    assertThat(asyncRunner.hasDelayedActions()).isTrue();
+  }
+
+  @Test
+  void shouldNotSkipRangeWhenPeerReturnsNoBlocksForSlotsWithBlocks() {
+    final Eth2Peer withholdingPeer = mock(Eth2Peer.class);
+    setupPeer(withholdingPeer, 2);
+    // Only the withholding peer is available for the first request.
+    when(network.streamPeers())
+        .thenAnswer(__ -> Stream.of(withholdingPeer))
+        .thenAnswer(__ -> Stream.of(withholdingPeer, peer));
+    when(withholdingPeer.requestBlocksByRange(any(), any(), any(), any()))
+        .thenReturn(SafeFuture.COMPLETE);
+    respondFromChain(peer, chain);
+
+    service.start().join();
+    asyncRunner.executeUntilDone();
+
+    final List<SignedBeaconBlock> expected = new ArrayList<>(chain.subList(0, chain.size() - 1));
+    assertThat(storedBlocks).containsExactlyInAnyOrderElementsOf(expected);
+    verify(withholdingPeer)
+        .requestBlocksByRange(eq(UnsignedLong.valueOf(5)), eq(BATCH_SIZE), any(), any());
+    // The honest peer is still asked for the range the withholding peer claimed was empty.
+    verify(peer).requestBlocksByRange(eq(UnsignedLong.valueOf(5)), eq(BATCH_SIZE), any(), any());
+    verify(peer).requestBlocksByRange(eq(UnsignedLong.valueOf(3)), eq(BATCH_SIZE), any(), any());
+    verify(peer)
+        .requestBlocksByRange(eq(UnsignedLong.ZERO), eq(UnsignedLong.valueOf(3)), any(), any());
+    verify(peer, never()).disconnectCleanly(any());
+  }
+
+  @Test
+  void shouldSkipRangeWhenMultiplePeersReturnNoBlocks() {
+    // Chain with no blocks between slots 4 and 7 inclusive.
+    final List<SignedBeaconBlock> gappedChain = createChain(12, 4, 5, 6, 7);
+    when(storageQueryChannel.getEarliestHistoricalBlock())
+        .thenReturn(
+            SafeFuture.completedFuture(Optional.of(gappedChain.get(gappedChain.size() - 1))));
+    final Eth2Peer otherPeer = mock(Eth2Peer.class);
+    setupPeer(otherPeer, 2);
+    when(network.streamPeers()).thenAnswer(__ -> Stream.of(peer, otherPeer));
+    respondFromChain(peer, gappedChain);
+    respondFromChain(otherPeer, gappedChain);
+
+    service.start().join();
+    asyncRunner.executeUntilDone();
+
+    assertThat(storedBlocks)
+        .containsExactlyInAnyOrderElementsOf(gappedChain.subList(0, gappedChain.size() - 1));
+    verify(peer).requestBlocksByRange(eq(UnsignedLong.valueOf(4)), eq(BATCH_SIZE), any(), any());
+    verify(otherPeer)
+        .requestBlocksByRange(eq(UnsignedLong.valueOf(4)), eq(BATCH_SIZE), any(), any());
+  }
+
+  @Test
+  void shouldNotSkipRangeWhenOnlyOnePeerReturnsNoBlocks() {
+    final List<SignedBeaconBlock> gappedChain = createChain(12, 4, 5, 6, 7);
+    when(storageQueryChannel.getEarliestHistoricalBlock())
+        .thenReturn(
+            SafeFuture.completedFuture(Optional.of(gappedChain.get(gappedChain.size() - 1))));
+    respondFromChain(peer, gappedChain);
+
+    service.start().join();
+    asyncRunner.executeRepeatedly(10);
+
+    assertThat(storedBlocks).containsExactlyInAnyOrderElementsOf(gappedChain.subList(4, 7));
+    verify(peer).requestBlocksByRange(eq(UnsignedLong.valueOf(4)), eq(BATCH_SIZE), any(), any());
+    verify(peer, never()).requestBlocksByRange(eq(UnsignedLong.ZERO), any(), any(), any());
+    // Keeps waiting for another peer to confirm the range is empty.
+    assertThat(asyncRunner.hasDelayedActions()).isTrue();
+  }
+
+  @Test
+  void shouldNotRequestBlocksWhenStartedFromGenesis() {
+    when(storageQueryChannel.getEarliestHistoricalBlock())
+        .thenReturn(SafeFuture.completedFuture(Optional.of(chain.get(0))));
+
+    service.start().join();
+
+    verify(peer, never()).requestBlocksByRange(any(), any(), any(), any());
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+  }
+
+  @Test
+  void shouldWaitForPeerWhichHasFinalizedRequiredBlocks() {
+    when(peer.finalizedEpoch()).thenReturn(UnsignedLong.ZERO);
+
+    service.start().join();
+
+    verify(peer, never()).requestBlocksByRange(any(), any(), any(), any());
+    assertThat(asyncRunner.hasDelayedActions()).isTrue();
+  }
+
+  private void setupPeer(final Eth2Peer peer, final int id) {
+    when(peer.getId()).thenReturn(new MockNodeId(id));
+    when(peer.hasStatus()).thenReturn(true);
+    when(peer.finalizedEpoch()).thenReturn(UnsignedLong.valueOf(100));
+  }
+
+  private void respondFromChain(final Eth2Peer peer, final List<SignedBeaconBlock> blocks) {
+    when(peer.requestBlocksByRange(any(), any(), any(), any()))
+        .thenAnswer(
+            invocation ->
+                respondWith(
+                    invocation.getArgument(0),
+                    invocation.getArgument(1),
+                    invocation.getArgument(3),
+                    blocks));
+  }
+
+  private SafeFuture<Void> respondWith(
+      final UnsignedLong startSlot,
+      final UnsignedLong count,
+      final ResponseStreamListener<SignedBeaconBlock> listener,
+      final List<SignedBeaconBlock> blocks) {
+    final UnsignedLong endSlot = startSlot.plus(count);
+    return SafeFuture.allOf(
+        blocks.stream()
+            .filter(
+                block ->
+                    block.getSlot().compareTo(startSlot) >= 0
+                        && block.getSlot().compareTo(endSlot) < 0)
+            .map(listener::onResponse)
+            .toArray(SafeFuture<?>[]::new));
+  }
+
+  private static List<SignedBeaconBlock> createChain(final int length, final int... emptySlots) {
+    final List<SignedBeaconBlock> blocks = new ArrayList<>();
+    Bytes32 parentRoot = Bytes32.ZERO;
+    for (int slot = 0; slot < length; slot++) {
+      if (isEmptySlot(slot, emptySlots)) {
+        continue;
+      }
+      final SignedBeaconBlock block = mock(SignedBeaconBlock.class);
+      final Bytes32 root = Bytes32.random();
+      when(block.getSlot()).thenReturn(UnsignedLong.valueOf(slot));
+      when(block.getRoot()).thenReturn(root);
+      when(block.getParent_root()).thenReturn(parentRoot);
+      blocks.add(block);
+      parentRoot = root;
+    }
+    return blocks;
+  }
+
+  private static boolean isEmptySlot(final int slot, final int... emptySlots) {
+    for (int emptySlot : emptySlots) {
+      if (emptySlot == slot) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
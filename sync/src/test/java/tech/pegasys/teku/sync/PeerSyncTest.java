@@ -14,6 +14,7 @@
 package tech.pegasys.teku.sync;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -33,6 +34,7 @@ import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
 import tech.pegasys.teku.core.StateTransitionException;
 import tech.pegasys.teku.core.results.BlockImportResult;
 import tech.pegasys.teku.data.BlockProcessingRecord;
@@ -388,6 +390,7 @@ public class PeerSyncTest {
     completeRequestWithBlockAtSlot(requestFuture1, lastReceivedBlockSlot);
 
     assertThat(syncFuture).isCompletedWithValue(PeerSyncResult.EXCESSIVE_THROTTLING);
+    verify(peer).reportExcessiveThrottling();
     // We don't disconnect the peer, the SyncManager just excludes the peer as a sync target for a
     // period
     verify(peer, never()).disconnectCleanly(any());
@@ -433,6 +436,102 @@ public class PeerSyncTest {
     verify(peer, never()).disconnectCleanly(any());
   }
 
+  @Test
+  void sync_shouldImportBlocksInBatches() {
+    final PeerSync batchingPeerSync =
+        new PeerSync(asyncRunner, storageClient, blockImporter, new NoOpMetricsSystem(), 2);
+    when(blockImporter.importBlocks(any())).thenAnswer(this::successfulImport);
+    final SafeFuture<Void> requestFuture = new SafeFuture<>();
+    when(peer.requestBlocksByRange(any(), any(), any(), any())).thenReturn(requestFuture);
+
+    final SafeFuture<PeerSyncResult> syncFuture = batchingPeerSync.sync(peer);
+    verify(peer)
+        .requestBlocksByRange(
+            any(), any(), eq(UnsignedLong.ONE), responseListenerArgumentCaptor.capture());
+    final List<SignedBeaconBlock> blocks =
+        respondWithBlocksAtSlots(responseListenerArgumentCaptor.getValue(), 1, 2, 3);
+
+    // A full batch is imported as soon as it is received
+    verify(blockImporter).importBlocks(blocks.subList(0, 2));
+    verify(blockImporter, never()).importBlock(any());
+
+    // The rest are imported when the request completes
+    when(storageClient.getFinalizedEpoch()).thenReturn(PEER_FINALIZED_EPOCH);
+    requestFuture.complete(null);
+    verify(blockImporter).importBlocks(blocks.subList(2, 3));
+    asyncRunner.executeQueuedActions();
+
+    assertThat(syncFuture).isCompletedWithValue(PeerSyncResult.SUCCESSFUL_SYNC);
+  }
+
+  @Test
+  void sync_shouldImportBufferedBlocksWhenRequestFails() {
+    final PeerSync batchingPeerSync =
+        new PeerSync(asyncRunner, storageClient, blockImporter, new NoOpMetricsSystem(), 2);
+    when(blockImporter.importBlocks(any())).thenAnswer(this::successfulImport);
+    final SafeFuture<Void> requestFuture = new SafeFuture<>();
+    when(peer.requestBlocksByRange(any(), any(), any(), any())).thenReturn(requestFuture);
+
+    final SafeFuture<PeerSyncResult> syncFuture = batchingPeerSync.sync(peer);
+    verify(peer)
+        .requestBlocksByRange(
+            any(), any(), eq(UnsignedLong.ONE), responseListenerArgumentCaptor.capture());
+    final List<SignedBeaconBlock> blocks =
+        respondWithBlocksAtSlots(responseListenerArgumentCaptor.getValue(), 1, 2, 3);
+    verify(blockImporter).importBlocks(blocks.subList(0, 2));
+
+    final RuntimeException error = new RuntimeException("Stream closed");
+    requestFuture.completeExceptionally(error);
+
+    // The partial batch is imported before the error is reported
+    verify(blockImporter).importBlocks(blocks.subList(2, 3));
+    assertThat(syncFuture).isCompletedExceptionally();
+    assertThatThrownBy(syncFuture::join).hasRootCause(error);
+  }
+
+  @Test
+  void sync_shouldDisconnectPeerWhenBlockInBatchIsInvalid() {
+    final PeerSync batchingPeerSync =
+        new PeerSync(asyncRunner, storageClient, blockImporter, new NoOpMetricsSystem(), 2);
+    when(blockImporter.importBlocks(any()))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                List.of(
+                    BlockImportResult.successful(mock(BlockProcessingRecord.class)),
+                    BlockImportResult.failedStateTransition(new StateTransitionException()))));
+    final SafeFuture<Void> requestFuture = new SafeFuture<>();
+    when(peer.requestBlocksByRange(any(), any(), any(), any())).thenReturn(requestFuture);
+
+    final SafeFuture<PeerSyncResult> syncFuture = batchingPeerSync.sync(peer);
+    verify(peer)
+        .requestBlocksByRange(
+            any(), any(), eq(UnsignedLong.ONE), responseListenerArgumentCaptor.capture());
+    final ResponseStreamListener<SignedBeaconBlock> responseListener =
+        responseListenerArgumentCaptor.getValue();
+
+    // The first block is buffered until the batch is full
+    assertThat(responseListener.onResponse(dataStructureUtil.randomSignedBeaconBlock(1)))
+        .isCompleted();
+    try {
+      responseListener.onResponse(dataStructureUtil.randomSignedBeaconBlock(2)).join();
+      fail("Should have thrown an error to indicate the response was bad");
+    } catch (final Exception e) {
+      assertThat(e).hasCauseInstanceOf(FailedBlockImportException.class);
+      requestFuture.completeExceptionally(e);
+    }
+
+    assertThat(syncFuture).isCompletedWithValue(PeerSyncResult.BAD_BLOCK);
+    verify(peer).disconnectCleanly(DisconnectReason.REMOTE_FAULT);
+  }
+
+  private SafeFuture<List<BlockImportResult>> successfulImport(final InvocationOnMock invocation) {
+    final List<SignedBeaconBlock> blocks = invocation.getArgument(0);
+    final List<BlockImportResult> results = new ArrayList<>();
+    blocks.forEach(
+        block -> results.add(BlockImportResult.successful(mock(BlockProcessingRecord.class))));
+    return SafeFuture.completedFuture(results);
+  }
+
   private void completeRequestWithBlockAtSlot(
       final SafeFuture<Void> requestFuture1, final int lastBlockSlot) {
     final ResponseStreamListener<SignedBeaconBlock> responseListener1 =
@@ -16,6 +16,7 @@ package tech.pegasys.teku.sync;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -117,6 +118,25 @@ public class SyncManagerTest {
     assertThat(syncManager.isSyncQueued()).isFalse();
   }
 
+  @Test
+  void sync_shouldPreferBetterPerformingPeerWithSameFinalizedEpoch() {
+    final Eth2Peer fastPeer = mock(Eth2Peer.class);
+    when(fastPeer.getStatus()).thenReturn(PEER_STATUS);
+    when(fastPeer.finalizedEpoch()).thenReturn(PEER_FINALIZED_EPOCH);
+    when(fastPeer.getPerformanceScore()).thenReturn(400);
+    when(peer.finalizedEpoch()).thenReturn(PEER_FINALIZED_EPOCH);
+    when(peer.getPerformanceScore()).thenReturn(100);
+    when(network.streamPeers()).thenReturn(Stream.of(peer, fastPeer));
+
+    when(peerSync.sync(fastPeer)).thenReturn(new SafeFuture<>());
+
+    assertThat(syncManager.start()).isCompleted();
+    assertThat(syncManager.isSyncActive()).isTrue();
+
+    verify(peerSync).sync(fastPeer);
+    verify(peerSync, never()).sync(peer);
+  }
+
   @Test
   void sync_existingPeerWithSameFinalizedEpochButMuchBetterHeadSlot() {
     when(network.streamPeers()).thenReturn(Stream.of(peer));
@@ -15,13 +15,13 @@ package tech.pegasys.teku.sync;
 
 import static tech.pegasys.teku.events.TestExceptionHandler.TEST_EXCEPTION_HANDLER;
 
-import com.google.common.eventbus.EventBus;
 import com.google.common.primitives.UnsignedLong;
 import java.util.List;
 import java.util.function.Consumer;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.core.StateTransition;
+import tech.pegasys.teku.data.BlockProcessingRecordChannel;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.events.EventChannels;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
@@ -29,10 +29,14 @@ import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.networking.eth2.Eth2Network;
 import tech.pegasys.teku.networking.eth2.Eth2NetworkFactory;
 import tech.pegasys.teku.networking.eth2.Eth2NetworkFactory.Eth2P2PNetworkBuilder;
+import tech.pegasys.teku.networking.eth2.gossip.events.GossipedBlockChannel;
 import tech.pegasys.teku.networking.p2p.network.PeerAddress;
 import tech.pegasys.teku.networking.p2p.peer.Peer;
 import tech.pegasys.teku.statetransition.BeaconChainUtil;
 import tech.pegasys.teku.statetransition.blockimport.BlockImporter;
+import tech.pegasys.teku.statetransition.blockimport.BlockLifecycleTracker;
+import tech.pegasys.teku.statetransition.events.block.ImportedBlockChannel;
+import tech.pegasys.teku.statetransition.events.block.ProposedBlockChannel;
 import tech.pegasys.teku.statetransition.forkchoice.ForkChoice;
 import tech.pegasys.teku.statetransition.util.FutureItems;
 import tech.pegasys.teku.statetransition.util.PendingPool;
@@ -42,7 +46,6 @@ import tech.pegasys.teku.storage.client.RecentChainData;
 import tech.pegasys.teku.util.time.channels.SlotEventsChannel;
 
 public class SyncingNodeManager {
-  private final EventBus eventBus;
   private final EventChannels eventChannels;
   private final RecentChainData storageClient;
   private final BeaconChainUtil chainUtil;
@@ -50,13 +53,11 @@ public class SyncingNodeManager {
   private final SyncService syncService;
 
   private SyncingNodeManager(
-      final EventBus eventBus,
       final EventChannels eventChannels,
       final RecentChainData storageClient,
       final BeaconChainUtil chainUtil,
       final Eth2Network eth2Network,
       final SyncService syncService) {
-    this.eventBus = eventBus;
     this.eventChannels = eventChannels;
     this.storageClient = storageClient;
     this.chainUtil = chainUtil;
@@ -70,36 +71,41 @@ public class SyncingNodeManager {
       final List<BLSKeyPair> validatorKeys,
       Consumer<Eth2P2PNetworkBuilder> configureNetwork)
       throws Exception {
-    final EventBus eventBus = new EventBus();
     final EventChannels eventChannels =
         EventChannels.createSyncChannels(TEST_EXCEPTION_HANDLER, new NoOpMetricsSystem());
-    final RecentChainData recentChainData = MemoryOnlyRecentChainData.create(eventBus);
+    final RecentChainData recentChainData = MemoryOnlyRecentChainData.create();
 
     final BeaconChainUtil chainUtil = BeaconChainUtil.create(recentChainData, validatorKeys);
     chainUtil.initializeStorage();
 
     final Eth2P2PNetworkBuilder networkBuilder =
-        networkFactory.builder().eventBus(eventBus).recentChainData(recentChainData);
+        networkFactory.builder().eventChannels(eventChannels).recentChainData(recentChainData);
 
     configureNetwork.accept(networkBuilder);
 
     final Eth2Network eth2Network = networkBuilder.startNetwork();
 
     ForkChoice forkChoice = new ForkChoice(recentChainData, new StateTransition());
-    BlockImporter blockImporter = new BlockImporter(recentChainData, forkChoice, eventBus);
+    BlockImporter blockImporter =
+        new BlockImporter(
+            recentChainData,
+            forkChoice,
+            eventChannels.getPublisher(ImportedBlockChannel.class),
+            eventChannels.getPublisher(BlockProcessingRecordChannel.class));
     final PendingPool<SignedBeaconBlock> pendingBlocks = PendingPool.createForBlocks();
     final FutureItems<SignedBeaconBlock> futureBlocks =
         new FutureItems<>(SignedBeaconBlock::getSlot);
     final FetchRecentBlocksService recentBlockFetcher =
-        FetchRecentBlocksService.create(asyncRunner, eth2Network, pendingBlocks);
+        FetchRecentBlocksService.create(
+            asyncRunner, eth2Network, pendingBlocks, BlockLifecycleTracker.NOOP);
     BlockManager blockManager =
         BlockManager.create(
-            eventBus,
             pendingBlocks,
             futureBlocks,
             recentBlockFetcher,
             recentChainData,
-            blockImporter);
+            blockImporter,
+            BlockLifecycleTracker.NOOP);
 
     SyncManager syncManager =
         SyncManager.create(
@@ -108,12 +114,15 @@ public class SyncingNodeManager {
 
     eventChannels
         .subscribe(SlotEventsChannel.class, blockManager)
+        .subscribe(ImportedBlockChannel.class, blockManager)
+        .subscribe(GossipedBlockChannel.class, blockManager)
+        .subscribe(ProposedBlockChannel.class, blockImporter)
         .subscribe(FinalizedCheckpointChannel.class, pendingBlocks);
 
     syncService.start().join();
 
     return new SyncingNodeManager(
-        eventBus, eventChannels, recentChainData, chainUtil, eth2Network, syncService);
+        eventChannels, recentChainData, chainUtil, eth2Network, syncService);
   }
 
   public SafeFuture<Peer> connect(final SyncingNodeManager peer) {
@@ -125,10 +134,6 @@ public class SyncingNodeManager {
     return eventChannels;
   }
 
-  public EventBus eventBus() {
-    return eventBus;
-  }
-
   public BeaconChainUtil chainUtil() {
     return chainUtil;
   }
@@ -20,32 +20,42 @@ import com.google.common.eventbus.EventBus;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.vertx.core.Vertx;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.core.profiling.StateTransitionProfiler;
+import tech.pegasys.teku.data.BlockProcessingRecordChannel;
 import tech.pegasys.teku.data.recorder.SSZTransitionRecorder;
+import tech.pegasys.teku.events.EventChannelConfig;
+import tech.pegasys.teku.events.EventChannelConfig.Priority;
 import tech.pegasys.teku.events.EventChannels;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.MetricTrackingExecutorFactory;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.SharedExecutorPool;
 import tech.pegasys.teku.logging.LoggingConfiguration;
 import tech.pegasys.teku.logging.LoggingConfigurator;
 import tech.pegasys.teku.metrics.MetricsEndpoint;
 import tech.pegasys.teku.service.serviceutils.AsyncRunnerFactory;
 import tech.pegasys.teku.service.serviceutils.ServiceConfig;
 import tech.pegasys.teku.services.ServiceController;
+import tech.pegasys.teku.statetransition.events.block.ImportedBlockChannel;
+import tech.pegasys.teku.storage.api.ChainInitializedChannel;
 import tech.pegasys.teku.util.cli.VersionProvider;
 import tech.pegasys.teku.util.config.Constants;
 import tech.pegasys.teku.util.config.TekuConfiguration;
 import tech.pegasys.teku.util.time.SystemTimeProvider;
 
 public class BeaconNode {
+  private static final int IMPORTED_BLOCK_QUEUE_CAPACITY = 5_000;
 
   private final Vertx vertx = Vertx.vertx();
   private final ExecutorService threadPool =
       Executors.newCachedThreadPool(
           new ThreadFactoryBuilder().setDaemon(true).setNameFormat("events-%d").build());
 
+  private final Optional<SharedExecutorPool> sharedExecutorPool;
   private final AsyncRunnerFactory asyncRunnerFactory;
   private final ServiceController serviceController;
   private final EventChannels eventChannels;
@@ -67,10 +77,29 @@ public class BeaconNode {
     final MetricsSystem metricsSystem = metricsEndpoint.getMetricsSystem();
     final TekuDefaultExceptionHandler subscriberExceptionHandler =
         new TekuDefaultExceptionHandler();
-    this.eventChannels = new EventChannels(subscriberExceptionHandler, metricsSystem);
+    this.sharedExecutorPool =
+        config.isSharedThreadPoolEnabled()
+            ? Optional.of(SharedExecutorPool.create(metricsSystem))
+            : Optional.empty();
+    this.eventChannels =
+        sharedExecutorPool
+            .map(
+                pool ->
+                    EventChannels.createSharedPoolChannels(
+                        subscriberExceptionHandler, metricsSystem, pool.getExecutor()))
+            .orElseGet(() -> new EventChannels(subscriberExceptionHandler, metricsSystem))
+            // A deep queue stops a slow subscriber from blocking block import
+            .configure(
+                ImportedBlockChannel.class,
+                EventChannelConfig.create(IMPORTED_BLOCK_QUEUE_CAPACITY, Priority.HIGH))
+            .configure(
+                BlockProcessingRecordChannel.class,
+                EventChannelConfig.create(EventChannelConfig.DEFAULT_QUEUE_CAPACITY, Priority.LOW));
     final EventBus eventBus = new AsyncEventBus(threadPool, subscriberExceptionHandler);
 
-    asyncRunnerFactory = new AsyncRunnerFactory(new MetricTrackingExecutorFactory(metricsSystem));
+    asyncRunnerFactory =
+        new AsyncRunnerFactory(
+            new MetricTrackingExecutorFactory(metricsSystem), sharedExecutorPool);
     final ServiceConfig serviceConfig =
         new ServiceConfig(
             asyncRunnerFactory,
@@ -86,7 +115,11 @@ public class BeaconNode {
     if (transitionRecordDir != null) {
       SSZTransitionRecorder sszTransitionRecorder =
           new SSZTransitionRecorder(Path.of(transitionRecordDir));
-      eventBus.register(sszTransitionRecorder);
+      eventChannels
+          .subscribe(ChainInitializedChannel.class, sszTransitionRecorder)
+          .subscribe(BlockProcessingRecordChannel.class, sszTransitionRecorder);
+      // Record a breakdown of where the time went alongside each transition
+      StateTransitionProfiler.setEnabled(true);
     }
 
     this.serviceController = new ServiceController(serviceConfig);
@@ -105,6 +138,7 @@ public class BeaconNode {
 
     // Stop async actions
     asyncRunnerFactory.getAsyncRunners().forEach(AsyncRunner::shutdown);
+    sharedExecutorPool.ifPresent(SharedExecutorPool::shutdown);
 
     // Stop services. This includes closing the database.
     serviceController.stop().reportExceptions();
@@ -34,6 +34,7 @@ import tech.pegasys.teku.cli.converter.MetricCategoryConverter;
 import tech.pegasys.teku.cli.options.BeaconRestApiOptions;
 import tech.pegasys.teku.cli.options.DataOptions;
 import tech.pegasys.teku.cli.options.DepositOptions;
+import tech.pegasys.teku.cli.options.ExecutorOptions;
 import tech.pegasys.teku.cli.options.InteropOptions;
 import tech.pegasys.teku.cli.options.LoggingOptions;
 import tech.pegasys.teku.cli.options.MetricsOptions;
@@ -150,6 +151,9 @@ public class BeaconNodeCommand implements Callable<Integer> {
   @Mixin(name = "REST API")
   private BeaconRestApiOptions beaconRestApiOptions;
 
+  @Mixin(name = "Executor")
+  private ExecutorOptions executorOptions;
+
   public BeaconNodeCommand(
       final PrintWriter outputWriter,
       final PrintWriter errorWriter,
@@ -313,6 +317,8 @@ public class BeaconNodeCommand implements Callable<Integer> {
         .setInteropOwnedValidatorStartIndex(interopOptions.getInteropOwnerValidatorStartIndex())
         .setInteropOwnedValidatorCount(interopOptions.getInteropOwnerValidatorCount())
         .setInitialState(networkOptions.getInitialState())
+        .setInitialAnchorState(networkOptions.getInitialAnchorState())
+        .setInitialAnchorBlock(networkOptions.getInitialAnchorBlock())
         .setInteropNumberOfValidators(interopOptions.getInteropNumberOfValidators())
         .setInteropEnabled(interopOptions.isInteropEnabled())
         .setValidatorKeyFile(validatorOptions.getValidatorKeyFile())
@@ -322,6 +328,13 @@ public class BeaconNodeCommand implements Callable<Integer> {
             validatorOptions.getValidatorExternalSignerPublicKeys())
         .setValidatorExternalSignerUrl(validatorOptions.getValidatorExternalSignerUrl())
         .setValidatorExternalSignerTimeout(validatorOptions.getValidatorExternalSignerTimeout())
+        .setValidatorExternalSignerBatchingEnabled(
+            validatorOptions.isValidatorExternalSignerBatchingEnabled())
+        .setValidatorExternalSignerConcurrentRequestLimit(
+            validatorOptions.getValidatorExternalSignerConcurrentRequestLimit())
+        .setValidatorKeystoreCacheFile(validatorOptions.getValidatorKeystoreCacheFile())
+        .setValidatorKeystoreCachePasswordFile(
+            validatorOptions.getValidatorKeystoreCachePasswordFile())
         .setGraffiti(validatorOptions.getGraffiti())
         .setEth1DepositContractAddress(depositOptions.getEth1DepositContractAddress())
         .setEth1Endpoint(depositOptions.getEth1Endpoint())
@@ -351,6 +364,9 @@ public class BeaconNodeCommand implements Callable<Integer> {
         .setRestApiEnabled(beaconRestApiOptions.isRestApiEnabled())
         .setRestApiInterface(beaconRestApiOptions.getRestApiInterface())
         .setRestApiHostAllowlist(beaconRestApiOptions.getRestApiHostAllowlist())
+        .setRestApiFinalizedCacheMaxSizeInMb(
+            beaconRestApiOptions.getRestApiFinalizedCacheMaxSizeInMb())
+        .setSharedThreadPoolEnabled(executorOptions.isSharedThreadPoolEnabled())
         .build();
   }
 }
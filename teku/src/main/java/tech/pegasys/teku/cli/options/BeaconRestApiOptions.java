@@ -57,6 +57,15 @@ public class BeaconRestApiOptions {
       arity = "0..*")
   private final List<String> restApiHostAllowlist = Arrays.asList("127.0.0.1", "localhost");
 
+  @Option(
+      names = {"--Xrest-api-finalized-cache-max-size"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Maximum size in megabytes of the cache of serialized finalized responses, 0 to disable",
+      arity = "1",
+      hidden = true)
+  private int restApiFinalizedCacheMaxSizeInMb = 64;
+
   public int getRestApiPort() {
     return restApiPort;
   }
@@ -76,4 +85,8 @@ public class BeaconRestApiOptions {
   public List<String> getRestApiHostAllowlist() {
     return restApiHostAllowlist;
   }
+
+  public int getRestApiFinalizedCacheMaxSizeInMb() {
+    return restApiFinalizedCacheMaxSizeInMb;
+  }
 }
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.cli.options;
+
+import picocli.CommandLine.Option;
+
+public class ExecutorOptions {
+
+  @Option(
+      hidden = true,
+      names = {"--Xshared-thread-pool-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Run async tasks and event delivery on a shared thread pool instead of dedicated threads",
+      fallbackValue = "true",
+      arity = "0..1")
+  private boolean sharedThreadPoolEnabled = false;
+
+  public boolean isSharedThreadPoolEnabled() {
+    return sharedThreadPoolEnabled;
+  }
+}
@@ -31,6 +31,24 @@ public class NetworkOptions {
       arity = "1")
   private String initialState = null;
 
+  @Option(
+      names = {"--Xinitial-anchor-state"},
+      paramLabel = "<FILENAME>",
+      description =
+          "SSZ file containing a trusted finalized BeaconState to start from instead of genesis",
+      arity = "1",
+      hidden = true)
+  private String initialAnchorState = null;
+
+  @Option(
+      names = {"--Xinitial-anchor-block"},
+      paramLabel = "<FILENAME>",
+      description =
+          "SSZ file containing the SignedBeaconBlock matching the state given by --Xinitial-anchor-state",
+      arity = "1",
+      hidden = true)
+  private String initialAnchorBlock = null;
+
   @Option(
       names = {"--Xstartup-target-peer-count"},
       paramLabel = "<NUMBER>",
@@ -54,6 +72,14 @@ public class NetworkOptions {
     return initialState;
   }
 
+  public String getInitialAnchorState() {
+    return initialAnchorState;
+  }
+
+  public String getInitialAnchorBlock() {
+    return initialAnchorBlock;
+  }
+
   public Integer getStartupTargetPeerCount() {
     return startupTargetPeerCount;
   }
@@ -66,6 +66,41 @@ public class ValidatorOptions {
       arity = "1")
   private int validatorExternalSignerTimeout = 1000;
 
+  @Option(
+      names = {"--Xvalidators-external-signer-batching-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Combine signing requests made at the same time into batched requests to the external signing service",
+      arity = "1",
+      hidden = true)
+  private boolean validatorExternalSignerBatchingEnabled = false;
+
+  @Option(
+      names = {"--Xvalidators-external-signer-concurrent-limit"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Maximum number of concurrent requests to the external signing service when batching is enabled",
+      arity = "1",
+      hidden = true)
+  private int validatorExternalSignerConcurrentRequestLimit = 8;
+
+  @Option(
+      names = {"--Xvalidators-keystore-cache-file"},
+      paramLabel = "<FILENAME>",
+      description =
+          "File to cache decrypted validator keys in so the keystores do not need to be decrypted on each restart",
+      arity = "1",
+      hidden = true)
+  private String validatorKeystoreCacheFile = null;
+
+  @Option(
+      names = {"--Xvalidators-keystore-cache-password-file"},
+      paramLabel = "<FILENAME>",
+      description = "The password file used to encrypt the validator keystore cache",
+      arity = "1",
+      hidden = true)
+  private String validatorKeystoreCachePasswordFile = null;
+
   @Option(
       names = {"--validators-graffiti"},
       converter = GraffitiConverter.class,
@@ -99,6 +134,22 @@ public class ValidatorOptions {
     return validatorExternalSignerTimeout;
   }
 
+  public boolean isValidatorExternalSignerBatchingEnabled() {
+    return validatorExternalSignerBatchingEnabled;
+  }
+
+  public int getValidatorExternalSignerConcurrentRequestLimit() {
+    return validatorExternalSignerConcurrentRequestLimit;
+  }
+
+  public String getValidatorKeystoreCacheFile() {
+    return validatorKeystoreCacheFile;
+  }
+
+  public String getValidatorKeystoreCachePasswordFile() {
+    return validatorKeystoreCachePasswordFile;
+  }
+
   public Bytes32 getGraffiti() {
     return graffiti;
   }
@@ -35,6 +35,8 @@ public class TekuConfiguration implements MetricsConfig {
   // Network
   private final String constants;
   private final String initialState;
+  private final String initialAnchorState;
+  private final String initialAnchorBlock;
   private final Integer startupTargetPeerCount;
   private final Integer startupTimeoutSeconds;
 
@@ -67,6 +69,10 @@ public class TekuConfiguration implements MetricsConfig {
   private final List<String> validatorExternalSignerPublicKeys;
   private final String validatorExternalSignerUrl;
   private final int validatorExternalSignerTimeout;
+  private final boolean validatorExternalSignerBatchingEnabled;
+  private final int validatorExternalSignerConcurrentRequestLimit;
+  private final String validatorKeystoreCacheFile;
+  private final String validatorKeystoreCachePasswordFile;
   private final Bytes32 graffiti;
 
   // Deposit
@@ -108,6 +114,8 @@ public class TekuConfiguration implements MetricsConfig {
   private final boolean restApiEnabled;
   private final String restApiInterface;
   private final List<String> restApiHostAllowlist;
+  private final int restApiFinalizedCacheMaxSizeInMb;
+  private final boolean sharedThreadPoolEnabled;
 
   public static TekuConfigurationBuilder builder() {
     return new TekuConfigurationBuilder();
@@ -133,6 +141,8 @@ public class TekuConfiguration implements MetricsConfig {
       final int interopOwnedValidatorStartIndex,
       final int interopOwnedValidatorCount,
       final String initialState,
+      final String initialAnchorState,
+      final String initialAnchorBlock,
       final int interopNumberOfValidators,
       final boolean interopEnabled,
       final String validatorsKeyFile,
@@ -141,6 +151,10 @@ public class TekuConfiguration implements MetricsConfig {
       final List<String> validatorExternalSignerPublicKeys,
       final String validatorExternalSignerUrl,
       final int validatorExternalSignerTimeout,
+      final boolean validatorExternalSignerBatchingEnabled,
+      final int validatorExternalSignerConcurrentRequestLimit,
+      final String validatorKeystoreCacheFile,
+      final String validatorKeystoreCachePasswordFile,
       final Eth1Address eth1DepositContractAddress,
       final String eth1Endpoint,
       final boolean eth1DepositsFromStorageEnabled,
@@ -169,6 +183,8 @@ public class TekuConfiguration implements MetricsConfig {
       final boolean restApiEnabled,
       final String restApiInterface,
       final List<String> restApiHostAllowlist,
+      final int restApiFinalizedCacheMaxSizeInMb,
+      final boolean sharedThreadPoolEnabled,
       final Bytes32 graffiti) {
     this.constants = constants;
     this.startupTargetPeerCount = startupTargetPeerCount;
@@ -189,6 +205,8 @@ public class TekuConfiguration implements MetricsConfig {
     this.interopOwnedValidatorStartIndex = interopOwnedValidatorStartIndex;
     this.interopOwnedValidatorCount = interopOwnedValidatorCount;
     this.initialState = initialState;
+    this.initialAnchorState = initialAnchorState;
+    this.initialAnchorBlock = initialAnchorBlock;
     this.interopNumberOfValidators = interopNumberOfValidators;
     this.interopEnabled = interopEnabled;
     this.validatorsKeyFile = validatorsKeyFile;
@@ -197,6 +215,11 @@ public class TekuConfiguration implements MetricsConfig {
     this.validatorExternalSignerPublicKeys = validatorExternalSignerPublicKeys;
     this.validatorExternalSignerUrl = validatorExternalSignerUrl;
     this.validatorExternalSignerTimeout = validatorExternalSignerTimeout;
+    this.validatorExternalSignerBatchingEnabled = validatorExternalSignerBatchingEnabled;
+    this.validatorExternalSignerConcurrentRequestLimit =
+        validatorExternalSignerConcurrentRequestLimit;
+    this.validatorKeystoreCacheFile = validatorKeystoreCacheFile;
+    this.validatorKeystoreCachePasswordFile = validatorKeystoreCachePasswordFile;
     this.eth1DepositContractAddress = eth1DepositContractAddress;
     this.eth1Endpoint = eth1Endpoint;
     this.eth1DepositsFromStorageEnabled = eth1DepositsFromStorageEnabled;
@@ -225,6 +248,8 @@ public class TekuConfiguration implements MetricsConfig {
     this.restApiEnabled = restApiEnabled;
     this.restApiInterface = restApiInterface;
     this.restApiHostAllowlist = restApiHostAllowlist;
+    this.restApiFinalizedCacheMaxSizeInMb = restApiFinalizedCacheMaxSizeInMb;
+    this.sharedThreadPoolEnabled = sharedThreadPoolEnabled;
     this.graffiti = graffiti;
   }
 
@@ -312,6 +337,18 @@ public class TekuConfiguration implements MetricsConfig {
     return initialState == null || initialState.isEmpty() ? null : initialState;
   }
 
+  public String getInitialAnchorState() {
+    return initialAnchorState == null || initialAnchorState.isEmpty() ? null : initialAnchorState;
+  }
+
+  public String getInitialAnchorBlock() {
+    return initialAnchorBlock == null || initialAnchorBlock.isEmpty() ? null : initialAnchorBlock;
+  }
+
+  public boolean isInitialAnchorEnabled() {
+    return getInitialAnchorState() != null;
+  }
+
   public int getInteropNumberOfValidators() {
     return interopNumberOfValidators;
   }
@@ -357,6 +394,22 @@ public class TekuConfiguration implements MetricsConfig {
     return validatorExternalSignerTimeout;
   }
 
+  public boolean isValidatorExternalSignerBatchingEnabled() {
+    return validatorExternalSignerBatchingEnabled;
+  }
+
+  public int getValidatorExternalSignerConcurrentRequestLimit() {
+    return validatorExternalSignerConcurrentRequestLimit;
+  }
+
+  public String getValidatorKeystoreCacheFile() {
+    return validatorKeystoreCacheFile;
+  }
+
+  public String getValidatorKeystoreCachePasswordFile() {
+    return validatorKeystoreCachePasswordFile;
+  }
+
   public boolean isEth1Enabled() {
     return !StringUtils.isEmpty(eth1Endpoint);
   }
@@ -478,6 +531,14 @@ public class TekuConfiguration implements MetricsConfig {
     return restApiHostAllowlist;
   }
 
+  public int getRestApiFinalizedCacheMaxSizeInMb() {
+    return restApiFinalizedCacheMaxSizeInMb;
+  }
+
+  public boolean isSharedThreadPoolEnabled() {
+    return sharedThreadPoolEnabled;
+  }
+
   public Bytes32 getGraffiti() {
     return graffiti;
   }
@@ -21,6 +21,9 @@ import org.apache.tuweni.bytes.Bytes32;
 
 public class TekuConfigurationBuilder {
   private static final boolean DEFAULT_P2P_SNAPPY_ENABLED = false;
+  private static final int DEFAULT_VALIDATOR_EXTERNAL_SIGNER_CONCURRENT_REQUEST_LIMIT = 8;
+  private static final int DEFAULT_REST_API_FINALIZED_CACHE_MAX_SIZE_IN_MB = 64;
+  private static final boolean DEFAULT_SHARED_THREAD_POOL_ENABLED = false;
   private String constants;
   private Integer startupTargetPeerCount;
   private Integer startupTimeoutSeconds;
@@ -40,6 +43,8 @@ public class TekuConfigurationBuilder {
   private int interopOwnedValidatorStartIndex;
   private int interopOwnedValidatorCount;
   private String initialState;
+  private String initialAnchorState;
+  private String initialAnchorBlock;
   private int interopNumberOfValidators;
   private boolean interopEnabled;
   private String validatorsKeyFile;
@@ -48,6 +53,11 @@ public class TekuConfigurationBuilder {
   private List<String> validatorExternalSignerPublicKeys;
   private String validatorExternalSignerUrl;
   private int validatorExternalSignerTimeout;
+  private boolean validatorExternalSignerBatchingEnabled;
+  private int validatorExternalSignerConcurrentRequestLimit =
+      DEFAULT_VALIDATOR_EXTERNAL_SIGNER_CONCURRENT_REQUEST_LIMIT;
+  private String validatorKeystoreCacheFile;
+  private String validatorKeystoreCachePasswordFile;
   private Eth1Address eth1DepositContractAddress;
   private String eth1Endpoint;
   private boolean eth1DepositsFromStorageEnabled;
@@ -76,6 +86,8 @@ public class TekuConfigurationBuilder {
   private boolean restApiEnabled;
   private String restApiInterface;
   private List<String> restApiHostAllowlist;
+  private int restApiFinalizedCacheMaxSizeInMb = DEFAULT_REST_API_FINALIZED_CACHE_MAX_SIZE_IN_MB;
+  private boolean sharedThreadPoolEnabled = DEFAULT_SHARED_THREAD_POOL_ENABLED;
   private NetworkDefinition network;
   private Bytes32 graffiti;
 
@@ -177,6 +189,16 @@ public class TekuConfigurationBuilder {
     return this;
   }
 
+  public TekuConfigurationBuilder setInitialAnchorState(final String initialAnchorState) {
+    this.initialAnchorState = initialAnchorState;
+    return this;
+  }
+
+  public TekuConfigurationBuilder setInitialAnchorBlock(final String initialAnchorBlock) {
+    this.initialAnchorBlock = initialAnchorBlock;
+    return this;
+  }
+
   public TekuConfigurationBuilder setInteropNumberOfValidators(
       final int interopNumberOfValidators) {
     this.interopNumberOfValidators = interopNumberOfValidators;
@@ -223,6 +245,31 @@ public class TekuConfigurationBuilder {
     return this;
   }
 
+  public TekuConfigurationBuilder setValidatorExternalSignerBatchingEnabled(
+      final boolean validatorExternalSignerBatchingEnabled) {
+    this.validatorExternalSignerBatchingEnabled = validatorExternalSignerBatchingEnabled;
+    return this;
+  }
+
+  public TekuConfigurationBuilder setValidatorExternalSignerConcurrentRequestLimit(
+      final int validatorExternalSignerConcurrentRequestLimit) {
+    this.validatorExternalSignerConcurrentRequestLimit =
+        validatorExternalSignerConcurrentRequestLimit;
+    return this;
+  }
+
+  public TekuConfigurationBuilder setValidatorKeystoreCacheFile(
+      final String validatorKeystoreCacheFile) {
+    this.validatorKeystoreCacheFile = validatorKeystoreCacheFile;
+    return this;
+  }
+
+  public TekuConfigurationBuilder setValidatorKeystoreCachePasswordFile(
+      final String validatorKeystoreCachePasswordFile) {
+    this.validatorKeystoreCachePasswordFile = validatorKeystoreCachePasswordFile;
+    return this;
+  }
+
   public TekuConfigurationBuilder setEth1DepositContractAddress(
       final Eth1Address eth1DepositContractAddress) {
     this.eth1DepositContractAddress = eth1DepositContractAddress;
@@ -369,6 +416,18 @@ public class TekuConfigurationBuilder {
     return this;
   }
 
+  public TekuConfigurationBuilder setRestApiFinalizedCacheMaxSizeInMb(
+      final int restApiFinalizedCacheMaxSizeInMb) {
+    this.restApiFinalizedCacheMaxSizeInMb = restApiFinalizedCacheMaxSizeInMb;
+    return this;
+  }
+
+  public TekuConfigurationBuilder setSharedThreadPoolEnabled(
+      final boolean sharedThreadPoolEnabled) {
+    this.sharedThreadPoolEnabled = sharedThreadPoolEnabled;
+    return this;
+  }
+
   public TekuConfigurationBuilder setGraffiti(final Bytes32 graffiti) {
     this.graffiti = graffiti;
     return this;
@@ -400,6 +459,12 @@ public class TekuConfigurationBuilder {
           "eth1-deposit-contract-address is required if eth1-endpoint is specified.");
     }
 
+    if ((initialAnchorState == null || initialAnchorState.isEmpty())
+        != (initialAnchorBlock == null || initialAnchorBlock.isEmpty())) {
+      throw new InvalidConfigurationException(
+          "Both Xinitial-anchor-state and Xinitial-anchor-block must be specified to start from an anchor.");
+    }
+
     p2pSnappyEnabled = Optional.ofNullable(p2pSnappyEnabled).orElse(DEFAULT_P2P_SNAPPY_ENABLED);
     return new TekuConfiguration(
         constants,
@@ -421,6 +486,8 @@ public class TekuConfigurationBuilder {
         interopOwnedValidatorStartIndex,
         interopOwnedValidatorCount,
         initialState,
+        initialAnchorState,
+        initialAnchorBlock,
         interopNumberOfValidators,
         interopEnabled,
         validatorsKeyFile,
@@ -429,6 +496,10 @@ public class TekuConfigurationBuilder {
         validatorExternalSignerPublicKeys,
         validatorExternalSignerUrl,
         validatorExternalSignerTimeout,
+        validatorExternalSignerBatchingEnabled,
+        validatorExternalSignerConcurrentRequestLimit,
+        validatorKeystoreCacheFile,
+        validatorKeystoreCachePasswordFile,
         eth1DepositContractAddress,
         eth1Endpoint,
         eth1DepositsFromStorageEnabled,
@@ -457,6 +528,8 @@ public class TekuConfigurationBuilder {
         restApiEnabled,
         restApiInterface,
         restApiHostAllowlist,
+        restApiFinalizedCacheMaxSizeInMb,
+        sharedThreadPoolEnabled,
         graffiti);
   }
 
@@ -13,21 +13,21 @@
 
 package tech.pegasys.teku.validator.anticorruption;
 
-import com.google.common.eventbus.Subscribe;
 import com.google.common.primitives.UnsignedLong;
 import org.apache.tuweni.bytes.Bytes32;
-import tech.pegasys.teku.statetransition.events.attestation.BroadcastAggregatesEvent;
-import tech.pegasys.teku.statetransition.events.attestation.BroadcastAttestationEvent;
-import tech.pegasys.teku.statetransition.events.block.ImportedBlockEvent;
+import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.statetransition.events.attestation.AttestationTimingChannel;
+import tech.pegasys.teku.statetransition.events.block.ImportedBlockChannel;
 import tech.pegasys.teku.storage.api.ReorgEventChannel;
 import tech.pegasys.teku.util.time.channels.SlotEventsChannel;
 import tech.pegasys.teku.validator.api.ValidatorTimingChannel;
 
-/**
- * Converts events from the {@link com.google.common.eventbus.EventBus} to the new validator client
- * {@link tech.pegasys.teku.events.EventChannels}.
- */
-class BeaconChainEventAdapter implements SlotEventsChannel, ReorgEventChannel {
+/** Converts events from the beacon chain channels to the validator client channels. */
+class BeaconChainEventAdapter
+    implements SlotEventsChannel,
+        ReorgEventChannel,
+        AttestationTimingChannel,
+        ImportedBlockChannel {
 
   private final ValidatorTimingChannel validatorTimingChannel;
 
@@ -35,19 +35,19 @@ class BeaconChainEventAdapter implements SlotEventsChannel, ReorgEventChannel {
     this.validatorTimingChannel = validatorTimingChannel;
   }
 
-  @Subscribe
-  public void onBroadcastAttestationEvent(final BroadcastAttestationEvent event) {
-    validatorTimingChannel.onAttestationCreationDue(event.getNodeSlot());
+  @Override
+  public void onAttestationCreationDue(final UnsignedLong slot) {
+    validatorTimingChannel.onAttestationCreationDue(slot);
   }
 
-  @Subscribe
-  public void onAggregationEvent(BroadcastAggregatesEvent event) {
-    validatorTimingChannel.onAttestationAggregationDue(event.getSlot());
+  @Override
+  public void onAttestationAggregationDue(final UnsignedLong slot) {
+    validatorTimingChannel.onAttestationAggregationDue(slot);
   }
 
-  @Subscribe
-  public void onImportedBlockEvent(ImportedBlockEvent event) {
-    validatorTimingChannel.onBlockImportedForSlot(event.getBlock().getSlot());
+  @Override
+  public void onBlockImported(final SignedBeaconBlock block) {
+    validatorTimingChannel.onBlockImportedForSlot(block.getSlot());
   }
 
   @Override
@@ -14,6 +14,8 @@
 package tech.pegasys.teku.validator.anticorruption;
 
 import tech.pegasys.teku.service.serviceutils.ServiceConfig;
+import tech.pegasys.teku.statetransition.events.attestation.AttestationTimingChannel;
+import tech.pegasys.teku.statetransition.events.block.ImportedBlockChannel;
 import tech.pegasys.teku.storage.api.ReorgEventChannel;
 import tech.pegasys.teku.util.time.channels.SlotEventsChannel;
 import tech.pegasys.teku.validator.api.ValidatorTimingChannel;
@@ -25,10 +27,11 @@ public class ValidatorAnticorruptionLayer {
         config.getEventChannels().getPublisher(ValidatorTimingChannel.class);
     final BeaconChainEventAdapter beaconChainEventAdapter =
         new BeaconChainEventAdapter(validatorTimingChannel);
-    config.getEventBus().register(beaconChainEventAdapter);
     config
         .getEventChannels()
         .subscribe(SlotEventsChannel.class, beaconChainEventAdapter)
-        .subscribe(ReorgEventChannel.class, beaconChainEventAdapter);
+        .subscribe(ReorgEventChannel.class, beaconChainEventAdapter)
+        .subscribe(AttestationTimingChannel.class, beaconChainEventAdapter)
+        .subscribe(ImportedBlockChannel.class, beaconChainEventAdapter);
   }
 }
@@ -15,7 +15,6 @@ package tech.pegasys.teku.validator.api;
 
 import com.google.common.primitives.UnsignedLong;
 import java.util.Collection;
-import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import org.apache.tuweni.bytes.Bytes32;
@@ -34,7 +33,7 @@ import tech.pegasys.teku.util.channels.ChannelInterface;
 public interface ValidatorApiChannel extends ChannelInterface {
   SafeFuture<Optional<ForkInfo>> getForkInfo();
 
-  SafeFuture<Optional<List<ValidatorDuties>>> getDuties(
+  SafeFuture<Optional<EpochDuties>> getDuties(
       UnsignedLong epoch, Collection<BLSPublicKey> publicKeys);
 
   SafeFuture<Optional<BeaconBlock>> createUnsignedBlock(
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static org.mockserver.model.JsonBody.json;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.junit.jupiter.MockServerExtension;
+import org.mockserver.model.MediaType;
+import tech.pegasys.teku.bls.BLS;
+import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.validator.client.signer.BatchSigningRequest;
+import tech.pegasys.teku.validator.client.signer.BatchSigningRequestBody;
+import tech.pegasys.teku.validator.client.signer.ExternalSignerException;
+import tech.pegasys.teku.validator.client.signer.ExternalSigningBatcher;
+
+@ExtendWith(MockServerExtension.class)
+public class ExternalSigningBatcherIntegrationTest {
+  private static final Duration TIMEOUT = Duration.ofMillis(500);
+  private static final Bytes SIGNING_ROOT_1 = Bytes.fromHexString("0x42");
+  private static final Bytes SIGNING_ROOT_2 = Bytes.fromHexString("0x43");
+  private final BLSKeyPair keyPair1 = BLSKeyPair.random(1);
+  private final BLSKeyPair keyPair2 = BLSKeyPair.random(2);
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private ClientAndServer client;
+  private ExternalSigningBatcher batcher;
+
+  @BeforeEach
+  void setup(final ClientAndServer client) throws MalformedURLException {
+    this.client = client;
+    final URL signingServiceUrl = new URL("http://127.0.0.1:" + client.getLocalPort());
+    batcher =
+        ExternalSigningBatcher.create(
+            signingServiceUrl, TIMEOUT, asyncRunner, new NoOpMetricsSystem(), 2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    client.reset();
+  }
+
+  @Test
+  void signsRequestsForMultipleKeysInSingleBatch() {
+    final BLSSignature signature1 = BLS.sign(keyPair1.getSecretKey(), SIGNING_ROOT_1);
+    final BLSSignature signature2 = BLS.sign(keyPair2.getSecretKey(), SIGNING_ROOT_2);
+    client
+        .when(request())
+        .respond(
+            response()
+                .withBody("[\"" + signature1.toString() + "\",\"" + signature2.toString() + "\"]"));
+
+    final SafeFuture<BLSSignature> result1 = batcher.sign(keyPair1.getPublicKey(), SIGNING_ROOT_1);
+    final SafeFuture<BLSSignature> result2 = batcher.sign(keyPair2.getPublicKey(), SIGNING_ROOT_2);
+    asyncRunner.executeQueuedActions();
+
+    assertThat(result1.join()).isEqualTo(signature1);
+    assertThat(result2.join()).isEqualTo(signature2);
+
+    final BatchSigningRequestBody expectedBody =
+        new BatchSigningRequestBody(
+            List.of(
+                new BatchSigningRequest(
+                    keyPair1.getPublicKey().toBytesCompressed().toHexString(),
+                    SIGNING_ROOT_1.toHexString()),
+                new BatchSigningRequest(
+                    keyPair2.getPublicKey().toBytesCompressed().toHexString(),
+                    SIGNING_ROOT_2.toHexString())));
+    client.verify(
+        request()
+            .withMethod("POST")
+            .withContentType(MediaType.APPLICATION_JSON)
+            .withBody(json(expectedBody))
+            .withPath("/signer/sign/batch"));
+  }
+
+  @Test
+  void failsAllRequestsInBatchWhenSignerReturnsFailureResponse() {
+    client.when(request()).respond(response().withStatusCode(500));
+
+    final SafeFuture<BLSSignature> result1 = batcher.sign(keyPair1.getPublicKey(), SIGNING_ROOT_1);
+    final SafeFuture<BLSSignature> result2 = batcher.sign(keyPair2.getPublicKey(), SIGNING_ROOT_2);
+    asyncRunner.executeQueuedActions();
+
+    assertThatThrownBy(result1::join)
+        .hasCauseInstanceOf(ExternalSignerException.class)
+        .hasMessageEndingWith(
+            "External signer failed to sign and returned invalid response status code: 500");
+    assertThatThrownBy(result2::join).hasCauseInstanceOf(ExternalSignerException.class);
+  }
+
+  @Test
+  void failsAllRequestsInBatchWhenSignerReturnsWrongNumberOfSignatures() {
+    final BLSSignature signature1 = BLS.sign(keyPair1.getSecretKey(), SIGNING_ROOT_1);
+    client.when(request()).respond(response().withBody("[\"" + signature1.toString() + "\"]"));
+
+    final SafeFuture<BLSSignature> result1 = batcher.sign(keyPair1.getPublicKey(), SIGNING_ROOT_1);
+    final SafeFuture<BLSSignature> result2 = batcher.sign(keyPair2.getPublicKey(), SIGNING_ROOT_2);
+    asyncRunner.executeQueuedActions();
+
+    assertThatThrownBy(result1::join)
+        .hasCauseInstanceOf(ExternalSignerException.class)
+        .hasMessageEndingWith("External signer returned 1 signatures but 2 were requested");
+    assertThatThrownBy(result2::join).hasCauseInstanceOf(ExternalSignerException.class);
+  }
+}
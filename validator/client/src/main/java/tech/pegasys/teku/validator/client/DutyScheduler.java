@@ -51,12 +51,13 @@ public class DutyScheduler implements ValidatorTimingChannel {
     final UnsignedLong epochNumber = compute_epoch_at_slot(slot);
     removePriorEpochs(epochNumber);
     dutiesByEpoch.computeIfAbsent(epochNumber, this::requestDutiesForEpoch);
-    dutiesByEpoch.computeIfAbsent(epochNumber.plus(ONE), this::requestDutiesForEpoch);
     stableSubnetSubscriber.onSlot(slot);
   }
 
   @Override
   public void onChainReorg(final UnsignedLong newSlot) {
+    // Duties whose dependent root is unchanged by the reorg are reused by the duty loader rather
+    // than being scheduled again.
     LOG.debug("Chain reorganisation detected. Recalculating validator duties");
     dutiesByEpoch.clear();
     final UnsignedLong epochNumber = compute_epoch_at_slot(newSlot);
@@ -78,6 +79,10 @@ public class DutyScheduler implements ValidatorTimingChannel {
   @Override
   public void onAttestationAggregationDue(final UnsignedLong slot) {
     notifyDutyQueue(DutyQueue::onAttestationAggregationDue, slot);
+    // Look ahead to the next epoch once this slot's attestations have been produced so loading
+    // duties doesn't compete with producing them, particularly in the first slot of an epoch
+    dutiesByEpoch.computeIfAbsent(
+        compute_epoch_at_slot(slot).plus(ONE), this::requestDutiesForEpoch);
   }
 
   @Override
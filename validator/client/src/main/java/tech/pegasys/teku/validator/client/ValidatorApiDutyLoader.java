@@ -16,16 +16,22 @@ package tech.pegasys.teku.validator.client;
 import com.google.common.primitives.UnsignedLong;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.datastructures.operations.Attestation;
 import tech.pegasys.teku.datastructures.util.CommitteeUtil;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.metrics.TekuMetricCategory;
+import tech.pegasys.teku.validator.api.EpochDuties;
 import tech.pegasys.teku.validator.api.ValidatorApiChannel;
 import tech.pegasys.teku.validator.api.ValidatorDuties;
 import tech.pegasys.teku.validator.client.duties.ScheduledDuties;
@@ -36,6 +42,11 @@ class ValidatorApiDutyLoader implements DutyLoader {
   private final ForkProvider forkProvider;
   private final Supplier<ScheduledDuties> scheduledDutiesFactory;
   private final Map<BLSPublicKey, Validator> validators;
+  private final NavigableMap<UnsignedLong, LoadedDuties> loadedDutiesByEpoch =
+      new ConcurrentSkipListMap<>();
+  private final Counter scheduledDutiesCounter;
+  private final Counter reusedDutiesCounter;
+  private volatile UnsignedLong latestLoadedEpoch = UnsignedLong.ZERO;
 
   ValidatorApiDutyLoader(
       final MetricsSystem metricsSystem,
@@ -52,6 +63,19 @@ class ValidatorApiDutyLoader implements DutyLoader {
         "local_validator_count",
         "Current number of valdiators running in this validator client",
         this.validators::size);
+    final LabelledMetric<Counter> dutyLoadCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.VALIDATOR,
+            "duty_loads_total",
+            "Counter recording whether loaded duties were newly scheduled or reused because their dependent root was unchanged",
+            "result");
+    scheduledDutiesCounter = dutyLoadCounter.labels("scheduled");
+    reusedDutiesCounter = dutyLoadCounter.labels("reused");
+    metricsSystem.createGauge(
+        TekuMetricCategory.VALIDATOR,
+        "duties_latest_loaded_epoch",
+        "The latest epoch duties have been loaded for",
+        () -> latestLoadedEpoch.doubleValue());
   }
 
   @Override
@@ -61,7 +85,6 @@ class ValidatorApiDutyLoader implements DutyLoader {
 
   private SafeFuture<ScheduledDuties> requestAndScheduleDutiesForEpoch(final UnsignedLong epoch) {
     LOG.trace("Requesting duties for epoch {}", epoch);
-    final ScheduledDuties scheduledDuties = scheduledDutiesFactory.get();
     return validatorApiChannel
         .getDuties(epoch, validators.keySet())
         .thenApply(
@@ -70,8 +93,38 @@ class ValidatorApiDutyLoader implements DutyLoader {
                     () ->
                         new NodeDataUnavailableException(
                             "Duties could not be calculated because chain data was not yet available")))
-        .thenCompose(duties -> scheduleAllDuties(scheduledDuties, duties))
-        .thenApply(__ -> scheduledDuties);
+        .thenCompose(duties -> getOrScheduleDuties(epoch, duties));
+  }
+
+  private SafeFuture<ScheduledDuties> getOrScheduleDuties(
+      final UnsignedLong epoch, final EpochDuties duties) {
+    final LoadedDuties loadedDuties = loadedDutiesByEpoch.get(epoch);
+    if (loadedDuties != null && loadedDuties.dependentRoot.equals(duties.getDependentRoot())) {
+      // The chain the duties depend on hasn't changed so avoid signing and scheduling them again
+      LOG.trace("Reusing duties for epoch {} as dependent root is unchanged", epoch);
+      reusedDutiesCounter.inc();
+      return SafeFuture.completedFuture(loadedDuties.scheduledDuties);
+    }
+    final ScheduledDuties scheduledDuties = scheduledDutiesFactory.get();
+    return scheduleAllDuties(scheduledDuties, duties.getDuties())
+        .thenApply(
+            __ -> {
+              onDutiesScheduled(
+                  epoch, new LoadedDuties(duties.getDependentRoot(), scheduledDuties));
+              return scheduledDuties;
+            });
+  }
+
+  private void onDutiesScheduled(final UnsignedLong epoch, final LoadedDuties loadedDuties) {
+    scheduledDutiesCounter.inc();
+    loadedDutiesByEpoch.put(epoch, loadedDuties);
+    // Duties are only ever needed for the current and next epoch
+    if (epoch.compareTo(UnsignedLong.ONE) > 0) {
+      loadedDutiesByEpoch.headMap(epoch.minus(UnsignedLong.ONE), false).clear();
+    }
+    if (epoch.compareTo(latestLoadedEpoch) > 0) {
+      latestLoadedEpoch = epoch;
+    }
   }
 
   private SafeFuture<Void> scheduleAllDuties(
@@ -177,4 +230,14 @@ class ValidatorApiDutyLoader implements DutyLoader {
               return null;
             });
   }
+
+  private static class LoadedDuties {
+    private final Bytes32 dependentRoot;
+    private final ScheduledDuties scheduledDuties;
+
+    private LoadedDuties(final Bytes32 dependentRoot, final ScheduledDuties scheduledDuties) {
+      this.dependentRoot = dependentRoot;
+      this.scheduledDuties = scheduledDuties;
+    }
+  }
 }
@@ -41,11 +41,12 @@ public class ValidatorClientService extends Service {
   }
 
   public static ValidatorClientService create(final ServiceConfig config) {
-    final Map<BLSPublicKey, Validator> validators =
-        ValidatorLoader.initializeValidators(config.getConfig());
     final EventChannels eventChannels = config.getEventChannels();
     final MetricsSystem metricsSystem = config.getMetricsSystem();
-    final AsyncRunner asyncRunner = config.createAsyncRunner("validator");
+    // Duties are time critical so don't compete with other services for shared threads
+    final AsyncRunner asyncRunner = config.createAsyncRunnerWithDedicatedThreads("validator");
+    final Map<BLSPublicKey, Validator> validators =
+        ValidatorLoader.initializeValidators(config.getConfig(), asyncRunner, metricsSystem);
     final ValidatorApiChannel validatorApiChannel =
         new MetricRecordingValidatorApiChannel(
             metricsSystem,
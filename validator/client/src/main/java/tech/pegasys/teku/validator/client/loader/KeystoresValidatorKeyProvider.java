@@ -20,22 +20,59 @@ import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 import com.google.common.io.Files;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
 import tech.pegasys.signers.bls.keystore.KeyStore;
 import tech.pegasys.signers.bls.keystore.KeyStoreLoader;
 import tech.pegasys.signers.bls.keystore.KeyStoreValidationException;
 import tech.pegasys.signers.bls.keystore.model.KeyStoreData;
 import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.bls.BLSSecretKey;
+import tech.pegasys.teku.metrics.TekuMetricCategory;
 import tech.pegasys.teku.util.config.TekuConfiguration;
 
 public class KeystoresValidatorKeyProvider implements ValidatorKeyProvider {
+  private static final Logger LOG = LogManager.getLogger();
+  private static final int PROGRESS_LOG_INTERVAL = 100;
+
+  private final AtomicInteger totalKeystores = new AtomicInteger();
+  private final AtomicInteger loadedKeystores = new AtomicInteger();
+  private final Counter keyCacheHitCounter;
+
+  public KeystoresValidatorKeyProvider(final MetricsSystem metricsSystem) {
+    metricsSystem.createGauge(
+        TekuMetricCategory.VALIDATOR,
+        "keystores_total",
+        "Number of validator keystores to be loaded",
+        totalKeystores::get);
+    metricsSystem.createGauge(
+        TekuMetricCategory.VALIDATOR,
+        "keystores_loaded",
+        "Number of validator keystores loaded so far",
+        loadedKeystores::get);
+    keyCacheHitCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.VALIDATOR,
+            "keystore_cache_hits_total",
+            "Number of validator keys loaded from the key cache instead of being decrypted");
+  }
 
   @Override
   public List<BLSKeyPair> loadValidatorKeys(final TekuConfiguration config) {
@@ -43,12 +80,103 @@ public class KeystoresValidatorKeyProvider implements ValidatorKeyProvider {
         config.getValidatorKeystorePasswordFilePairs();
     checkNotNull(keystorePasswordFilePairs, "validator keystore and password pairs cannot be null");
 
-    // return distinct loaded key pairs
-    return keystorePasswordFilePairs.stream()
-        .map(pair -> loadBLSPrivateKey(pair.getLeft(), loadPassword(pair.getRight())))
-        .distinct()
-        .map(privKey -> new BLSKeyPair(BLSSecretKey.fromBytes(privKey)))
-        .collect(toList());
+    final Optional<ValidatorKeyCache> keyCache = loadKeyCache(config);
+    totalKeystores.set(keystorePasswordFilePairs.size());
+    loadedKeystores.set(0);
+
+    // Keystore decryption is deliberately expensive so decrypt them across all available cores
+    final int threadCount =
+        Math.max(
+            1,
+            Math.min(Runtime.getRuntime().availableProcessors(), keystorePasswordFilePairs.size()));
+    final ExecutorService executor =
+        Executors.newFixedThreadPool(
+            threadCount,
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("keystore-loader-%d").build());
+    try {
+      final List<Future<Bytes32>> privateKeys =
+          keystorePasswordFilePairs.stream()
+              .map(
+                  pair ->
+                      executor.submit(
+                          () -> {
+                            final Bytes32 privateKey =
+                                loadBLSPrivateKey(pair.getLeft(), pair.getRight(), keyCache);
+                            logProgress(loadedKeystores.incrementAndGet());
+                            return privateKey;
+                          }))
+              .collect(toList());
+
+      // Wait for results in order so the reported error is for the first invalid keystore
+      final List<Bytes32> loadedPrivateKeys = new ArrayList<>();
+      for (Future<Bytes32> privateKey : privateKeys) {
+        loadedPrivateKeys.add(getResult(privateKey));
+      }
+      keyCache.ifPresent(ValidatorKeyCache::save);
+
+      // return distinct loaded key pairs
+      return loadedPrivateKeys.stream()
+          .distinct()
+          .map(privKey -> new BLSKeyPair(BLSSecretKey.fromBytes(privKey)))
+          .collect(toList());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private Optional<ValidatorKeyCache> loadKeyCache(final TekuConfiguration config) {
+    if (config.getValidatorKeystoreCacheFile() == null) {
+      return Optional.empty();
+    }
+    if (config.getValidatorKeystoreCachePasswordFile() == null) {
+      throw new IllegalArgumentException(
+          "A password file must be specified when using a validator keystore cache");
+    }
+    final String password = loadPassword(Path.of(config.getValidatorKeystoreCachePasswordFile()));
+    return Optional.of(
+        ValidatorKeyCache.load(Path.of(config.getValidatorKeystoreCacheFile()), password));
+  }
+
+  private void logProgress(final int loadedCount) {
+    final int total = totalKeystores.get();
+    if (loadedCount % PROGRESS_LOG_INTERVAL == 0 || loadedCount == total) {
+      LOG.info("Loaded {} of {} validator keystores", loadedCount, total);
+    }
+  }
+
+  private Bytes32 getResult(final Future<Bytes32> privateKey) {
+    try {
+      return privateKey.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while loading validator keystores", e);
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException("Failed to load validator keystore", e.getCause());
+    }
+  }
+
+  private Bytes32 loadBLSPrivateKey(
+      final Path keystoreFile,
+      final Path passwordFile,
+      final Optional<ValidatorKeyCache> keyCache) {
+    final String password = loadPassword(passwordFile);
+    if (keyCache.isEmpty()) {
+      return loadBLSPrivateKey(keystoreFile, password);
+    }
+    final ValidatorKeyCache cache = keyCache.get();
+    // The password is part of the hash so a wrong password never matches a cached key
+    final Bytes32 keystoreHash = ValidatorKeyCache.hashKeystore(keystoreFile, password);
+    final Optional<Bytes32> cachedKey = cache.get(keystoreHash);
+    if (cachedKey.isPresent()) {
+      keyCacheHitCounter.inc();
+      return cachedKey.get();
+    }
+    final Bytes32 privateKey = loadBLSPrivateKey(keystoreFile, password);
+    cache.put(keystoreHash, privateKey);
+    return privateKey;
   }
 
   private Bytes32 loadBLSPrivateKey(final Path keystoreFile, final String password) {
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.loader;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.MutableBytes;
+
+/**
+ * Encrypted on-disk cache of decrypted validator keys, so restarts don't need to run the expensive
+ * key derivation function of every keystore.
+ *
+ * <p>Entries are keyed by the SHA-256 hash of the keystore file contents and its password, so any
+ * change to a keystore file or its password results in a cache miss and the keystore is decrypted,
+ * and its password checked, as if there were no cache. The whole cache is sealed with AES-GCM using
+ * a key derived once from a single password. Entries for keystores which are no longer loaded are
+ * dropped when the cache is saved.
+ */
+public class ValidatorKeyCache {
+  private static final Logger LOG = LogManager.getLogger();
+  private static final Bytes HEADER = Bytes.wrap("TKVC\u0001".getBytes(US_ASCII));
+  private static final String KDF_ALGORITHM = "PBKDF2WithHmacSHA256";
+  private static final int KDF_ITERATIONS = 100_000;
+  private static final String CIPHER_ALGORITHM = "AES/GCM/NoPadding";
+  private static final int SALT_LENGTH = 16;
+  private static final int IV_LENGTH = 12;
+  private static final int TAG_LENGTH_BITS = 128;
+  private static final int ENTRY_LENGTH = Bytes32.SIZE * 2;
+  private static final SecureRandom RANDOM = new SecureRandom();
+
+  private final Path cacheFile;
+  private final Bytes salt;
+  private final SecretKey encryptionKey;
+  private final Map<Bytes32, Bytes32> cachedKeys;
+  private final Map<Bytes32, Bytes32> usedKeys = new ConcurrentHashMap<>();
+  private volatile boolean modified = false;
+
+  private ValidatorKeyCache(
+      final Path cacheFile,
+      final Bytes salt,
+      final SecretKey encryptionKey,
+      final Map<Bytes32, Bytes32> cachedKeys) {
+    this.cacheFile = cacheFile;
+    this.salt = salt;
+    this.encryptionKey = encryptionKey;
+    this.cachedKeys = cachedKeys;
+  }
+
+  public static ValidatorKeyCache load(final Path cacheFile, final String password) {
+    if (!cacheFile.toFile().exists()) {
+      return createEmpty(cacheFile, password);
+    }
+    try {
+      final Bytes contents = Bytes.wrap(Files.readAllBytes(cacheFile));
+      final int headerLength = HEADER.size() + SALT_LENGTH + IV_LENGTH;
+      if (contents.size() < headerLength || !contents.slice(0, HEADER.size()).equals(HEADER)) {
+        LOG.warn("Ignoring validator key cache {} as it is not in a recognised format", cacheFile);
+        return createEmpty(cacheFile, password);
+      }
+      final Bytes salt = contents.slice(HEADER.size(), SALT_LENGTH);
+      final Bytes iv = contents.slice(HEADER.size() + SALT_LENGTH, IV_LENGTH);
+      final SecretKey encryptionKey = deriveKey(password, salt);
+      final Cipher cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+      cipher.init(
+          Cipher.DECRYPT_MODE, encryptionKey, new GCMParameterSpec(TAG_LENGTH_BITS, iv.toArray()));
+      cipher.updateAAD(contents.slice(0, headerLength).toArrayUnsafe());
+      final Bytes plaintext =
+          Bytes.wrap(cipher.doFinal(contents.slice(headerLength).toArrayUnsafe()));
+      return new ValidatorKeyCache(cacheFile, salt, encryptionKey, parseEntries(plaintext));
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to read validator key cache " + cacheFile, e);
+    } catch (final GeneralSecurityException | IllegalArgumentException e) {
+      LOG.warn(
+          "Ignoring validator key cache {} as it could not be decrypted: {}",
+          cacheFile,
+          e.getMessage());
+      return createEmpty(cacheFile, password);
+    }
+  }
+
+  private static ValidatorKeyCache createEmpty(final Path cacheFile, final String password) {
+    final Bytes salt = randomBytes(SALT_LENGTH);
+    return new ValidatorKeyCache(
+        cacheFile, salt, deriveKey(password, salt), new ConcurrentHashMap<>());
+  }
+
+  public static Bytes32 hashKeystore(final Path keystoreFile, final String password) {
+    try {
+      final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(Files.readAllBytes(keystoreFile));
+      return Bytes32.wrap(digest.digest(password.getBytes(UTF_8)));
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to read keystore file " + keystoreFile, e);
+    }
+  }
+
+  public Optional<Bytes32> get(final Bytes32 keystoreHash) {
+    final Optional<Bytes32> secretKey = Optional.ofNullable(cachedKeys.get(keystoreHash));
+    secretKey.ifPresent(key -> usedKeys.put(keystoreHash, key));
+    return secretKey;
+  }
+
+  public void put(final Bytes32 keystoreHash, final Bytes32 secretKey) {
+    usedKeys.put(keystoreHash, secretKey);
+    modified = true;
+  }
+
+  /** Writes the entries used since the cache was loaded, if they differ from the loaded cache. */
+  public void save() {
+    if (!modified && usedKeys.size() == cachedKeys.size()) {
+      return;
+    }
+    try {
+      final MutableBytes plaintext = MutableBytes.create(usedKeys.size() * ENTRY_LENGTH);
+      int offset = 0;
+      for (Map.Entry<Bytes32, Bytes32> entry : usedKeys.entrySet()) {
+        entry.getKey().copyTo(plaintext, offset);
+        entry.getValue().copyTo(plaintext, offset + Bytes32.SIZE);
+        offset += ENTRY_LENGTH;
+      }
+
+      final Bytes iv = randomBytes(IV_LENGTH);
+      final Bytes header = Bytes.concatenate(HEADER, salt, iv);
+      final Cipher cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+      cipher.init(
+          Cipher.ENCRYPT_MODE, encryptionKey, new GCMParameterSpec(TAG_LENGTH_BITS, iv.toArray()));
+      cipher.updateAAD(header.toArrayUnsafe());
+      final Bytes ciphertext = Bytes.wrap(cipher.doFinal(plaintext.toArrayUnsafe()));
+
+      final Path tempFile = cacheFile.resolveSibling(cacheFile.getFileName() + ".tmp");
+      Files.write(tempFile, Bytes.concatenate(header, ciphertext).toArrayUnsafe());
+      Files.move(
+          tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      LOG.debug("Saved {} validator keys to key cache {}", usedKeys.size(), cacheFile);
+    } catch (final IOException e) {
+      LOG.warn("Failed to write validator key cache " + cacheFile, e);
+    } catch (final GeneralSecurityException e) {
+      throw new IllegalStateException("Unable to encrypt validator key cache", e);
+    }
+  }
+
+  private static Map<Bytes32, Bytes32> parseEntries(final Bytes plaintext) {
+    if (plaintext.size() % ENTRY_LENGTH != 0) {
+      throw new IllegalArgumentException("Invalid validator key cache length");
+    }
+    final Map<Bytes32, Bytes32> entries = new ConcurrentHashMap<>();
+    for (int offset = 0; offset < plaintext.size(); offset += ENTRY_LENGTH) {
+      entries.put(
+          Bytes32.wrap(plaintext.slice(offset, Bytes32.SIZE)),
+          Bytes32.wrap(plaintext.slice(offset + Bytes32.SIZE, Bytes32.SIZE)));
+    }
+    return entries;
+  }
+
+  private static SecretKey deriveKey(final String password, final Bytes salt) {
+    try {
+      final SecretKeyFactory factory = SecretKeyFactory.getInstance(KDF_ALGORITHM);
+      final PBEKeySpec keySpec =
+          new PBEKeySpec(password.toCharArray(), salt.toArray(), KDF_ITERATIONS, 256);
+      return new SecretKeySpec(factory.generateSecret(keySpec).getEncoded(), "AES");
+    } catch (final GeneralSecurityException e) {
+      throw new IllegalStateException("Unable to derive validator key cache encryption key", e);
+    }
+  }
+
+  private static Bytes randomBytes(final int length) {
+    final byte[] bytes = new byte[length];
+    RANDOM.nextBytes(bytes);
+    return Bytes.wrap(bytes);
+  }
+}
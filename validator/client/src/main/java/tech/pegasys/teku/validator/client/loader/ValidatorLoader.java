@@ -16,33 +16,44 @@ package tech.pegasys.teku.validator.client.loader;
 import static java.util.stream.Collectors.toMap;
 import static tech.pegasys.teku.logging.StatusLogger.STATUS_LOG;
 
+import java.net.http.HttpClient;
 import java.time.Duration;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.core.signatures.LocalMessageSignerService;
+import tech.pegasys.teku.core.signatures.MessageSignerService;
 import tech.pegasys.teku.core.signatures.Signer;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.util.bytes.KeyFormatter;
 import tech.pegasys.teku.util.config.TekuConfiguration;
 import tech.pegasys.teku.validator.client.Validator;
+import tech.pegasys.teku.validator.client.signer.BatchingExternalMessageSignerService;
 import tech.pegasys.teku.validator.client.signer.ExternalMessageSignerService;
+import tech.pegasys.teku.validator.client.signer.ExternalSigningBatcher;
 
 public class ValidatorLoader {
 
-  public static Map<BLSPublicKey, Validator> initializeValidators(TekuConfiguration config) {
+  public static Map<BLSPublicKey, Validator> initializeValidators(
+      final TekuConfiguration config,
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem) {
     // Get validator connection info and create a new Validator object and put it into the
     // Validators map
 
     final Map<BLSPublicKey, Validator> validators = new HashMap<>();
-    validators.putAll(createLocalSignerValidator(config));
-    validators.putAll(createExternalSignerValidator(config));
+    validators.putAll(createLocalSignerValidator(config, metricsSystem));
+    validators.putAll(createExternalSignerValidator(config, asyncRunner, metricsSystem));
 
     STATUS_LOG.validatorsInitialised(
         validators.values().stream()
@@ -53,8 +64,8 @@ public class ValidatorLoader {
   }
 
   private static Map<BLSPublicKey, Validator> createLocalSignerValidator(
-      final TekuConfiguration config) {
-    return loadValidatorKeys(config).stream()
+      final TekuConfiguration config, final MetricsSystem metricsSystem) {
+    return loadValidatorKeys(config, metricsSystem).stream()
         .map(
             blsKeyPair ->
                 new Validator(
@@ -65,21 +76,45 @@ public class ValidatorLoader {
   }
 
   private static Map<BLSPublicKey, Validator> createExternalSignerValidator(
-      final TekuConfiguration config) {
+      final TekuConfiguration config,
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem) {
+    final List<BLSPublicKey> publicKeys = config.getValidatorExternalSignerPublicKeys();
+    if (publicKeys.isEmpty()) {
+      return Collections.emptyMap();
+    }
     final Duration timeout = Duration.ofMillis(config.getValidatorExternalSignerTimeout());
-    return config.getValidatorExternalSignerPublicKeys().stream()
+    final Function<BLSPublicKey, MessageSignerService> signerServiceFactory;
+    if (config.isValidatorExternalSignerBatchingEnabled()) {
+      final ExternalSigningBatcher batcher =
+          ExternalSigningBatcher.create(
+              config.getValidatorExternalSignerUrl(),
+              timeout,
+              asyncRunner,
+              metricsSystem,
+              config.getValidatorExternalSignerConcurrentRequestLimit());
+      signerServiceFactory =
+          publicKey -> new BatchingExternalMessageSignerService(publicKey, batcher);
+    } else {
+      // Share a single client so connections to the signer are reused across validators
+      final HttpClient httpClient = HttpClient.newHttpClient();
+      signerServiceFactory =
+          publicKey ->
+              new ExternalMessageSignerService(
+                  httpClient, config.getValidatorExternalSignerUrl(), publicKey, timeout);
+    }
+    return publicKeys.stream()
         .map(
             publicKey ->
                 new Validator(
                     publicKey,
-                    new Signer(
-                        new ExternalMessageSignerService(
-                            config.getValidatorExternalSignerUrl(), publicKey, timeout)),
+                    new Signer(signerServiceFactory.apply(publicKey)),
                     Optional.ofNullable(config.getGraffiti())))
         .collect(toMap(Validator::getPublicKey, Function.identity()));
   }
 
-  private static Collection<BLSKeyPair> loadValidatorKeys(final TekuConfiguration config) {
+  private static Collection<BLSKeyPair> loadValidatorKeys(
+      final TekuConfiguration config, final MetricsSystem metricsSystem) {
     final Set<ValidatorKeyProvider> keyProviders = new LinkedHashSet<>();
     if (config.isInteropEnabled()) {
       keyProviders.add(new MockStartValidatorKeyProvider());
@@ -90,7 +125,7 @@ public class ValidatorLoader {
       }
 
       if (config.getValidatorKeystorePasswordFilePairs() != null) {
-        keyProviders.add(new KeystoresValidatorKeyProvider());
+        keyProviders.add(new KeystoresValidatorKeyProvider(metricsSystem));
       }
     }
     return keyProviders.stream()
@@ -15,7 +15,6 @@ package tech.pegasys.teku.validator.client.metrics;
 
 import com.google.common.primitives.UnsignedLong;
 import java.util.Collection;
-import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import org.apache.tuweni.bytes.Bytes32;
@@ -32,8 +31,8 @@ import tech.pegasys.teku.datastructures.state.ForkInfo;
 import tech.pegasys.teku.datastructures.validator.SubnetSubscription;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.metrics.TekuMetricCategory;
+import tech.pegasys.teku.validator.api.EpochDuties;
 import tech.pegasys.teku.validator.api.ValidatorApiChannel;
-import tech.pegasys.teku.validator.api.ValidatorDuties;
 
 public class MetricRecordingValidatorApiChannel implements ValidatorApiChannel {
 
@@ -128,7 +127,7 @@ public class MetricRecordingValidatorApiChannel implements ValidatorApiChannel {
   }
 
   @Override
-  public SafeFuture<Optional<List<ValidatorDuties>>> getDuties(
+  public SafeFuture<Optional<EpochDuties>> getDuties(
       final UnsignedLong epoch, final Collection<BLSPublicKey> publicKeys) {
     return countRequest(delegate.getDuties(epoch, publicKeys), dutiesRequestCounter);
   }
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.signer;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.apache.tuweni.bytes.Bytes;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BatchSigningRequest {
+
+  private final String publicKey;
+  private final Bytes data;
+
+  @JsonCreator
+  public BatchSigningRequest(
+      @JsonProperty("publicKey") final String publicKey, @JsonProperty("data") final String data) {
+    this.publicKey = publicKey;
+    this.data = Bytes.fromHexString(data);
+  }
+
+  @JsonGetter("publicKey")
+  public String getPublicKey() {
+    return publicKey;
+  }
+
+  @JsonGetter("data")
+  public String getData() {
+    return data.toHexString();
+  }
+}
@@ -34,9 +34,19 @@ public class ExternalMessageSignerService implements MessageSignerService {
   private final URL signingServiceUrl;
   private final BLSPublicKey blsPublicKey;
   private final Duration timeout;
+  private final HttpClient httpClient;
 
   public ExternalMessageSignerService(
       final URL signingServiceUrl, final BLSPublicKey blsPublicKey, final Duration timeout) {
+    this(HttpClient.newHttpClient(), signingServiceUrl, blsPublicKey, timeout);
+  }
+
+  public ExternalMessageSignerService(
+      final HttpClient httpClient,
+      final URL signingServiceUrl,
+      final BLSPublicKey blsPublicKey,
+      final Duration timeout) {
+    this.httpClient = httpClient;
     this.signingServiceUrl = signingServiceUrl;
     this.blsPublicKey = blsPublicKey;
     this.timeout = timeout;
@@ -85,7 +95,7 @@ public class ExternalMessageSignerService implements MessageSignerService {
                   .header("Content-Type", "application/json")
                   .POST(BodyPublishers.ofString(requestBody))
                   .build();
-          return HttpClient.newHttpClient()
+          return httpClient
               .sendAsync(request, BodyHandlers.ofString())
               .handleAsync(this::getBlsSignature);
         });
@@ -0,0 +1,331 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.signer;
+
+import static java.util.stream.Collectors.toList;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
+import io.prometheus.client.Histogram;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.metrics.prometheus.PrometheusMetricsSystem;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.metrics.TekuMetricCategory;
+
+/**
+ * Combines signing requests for any number of keys into batched requests to the external signer.
+ *
+ * <p>Requests made within {@code batchWindow} of the first pending request, such as all the
+ * attestations for a slot, are sent together in a single request of up to {@code maxBatchSize}
+ * entries. Each batch is allowed the single signature {@code timeout} plus {@link
+ * #TIMEOUT_PER_ADDITIONAL_SIGNATURE} for every other signature in it. All batches share one {@link
+ * HttpClient} so connections are reused (over HTTP/2 where the signer supports it) and at most
+ * {@code maxConcurrentRequests} batches are in flight at once.
+ */
+public class ExternalSigningBatcher {
+  private static final Logger LOG = LogManager.getLogger();
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  static final int DEFAULT_MAX_BATCH_SIZE = 512;
+  static final Duration DEFAULT_BATCH_WINDOW = Duration.ofMillis(5);
+  /**
+   * Additional time allowed for each signature in a batch after the first. The signer produces the
+   * signatures of a batch one after another, so a batch needs more time than a single signature.
+   */
+  static final Duration TIMEOUT_PER_ADDITIONAL_SIGNATURE = Duration.ofMillis(2);
+
+  private static final double[] LATENCY_BUCKETS_SECONDS = {
+    0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10
+  };
+
+  private final HttpClient httpClient;
+  private final URL signingServiceUrl;
+  private final Duration timeout;
+  private final AsyncRunner asyncRunner;
+  private final int maxConcurrentRequests;
+  private final int maxBatchSize;
+  private final Duration batchWindow;
+
+  private final Histogram requestLatency;
+  private final LabelledMetric<Counter> batchRequestCounter;
+  private final Counter signingRequestCounter;
+
+  private final Queue<PendingSigningRequest> pendingRequests = new ArrayDeque<>();
+  private final Queue<List<PendingSigningRequest>> queuedBatches = new ArrayDeque<>();
+  private int activeRequests = 0;
+  private boolean flushScheduled = false;
+
+  ExternalSigningBatcher(
+      final HttpClient httpClient,
+      final URL signingServiceUrl,
+      final Duration timeout,
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final int maxConcurrentRequests,
+      final int maxBatchSize,
+      final Duration batchWindow) {
+    this.httpClient = httpClient;
+    this.signingServiceUrl = signingServiceUrl;
+    this.timeout = timeout;
+    this.asyncRunner = asyncRunner;
+    this.maxConcurrentRequests = maxConcurrentRequests;
+    this.maxBatchSize = maxBatchSize;
+    this.batchWindow = batchWindow;
+
+    final MetricCategory category = TekuMetricCategory.VALIDATOR;
+    requestLatency =
+        Histogram.build()
+            .name(metricName(category, "external_signer_batch_request_duration_seconds"))
+            .help("Time taken for the external signer to respond to a batched signing request")
+            .buckets(LATENCY_BUCKETS_SECONDS)
+            .create();
+    if (metricsSystem instanceof PrometheusMetricsSystem) {
+      ((PrometheusMetricsSystem) metricsSystem).addCollector(category, requestLatency);
+    }
+    batchRequestCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.VALIDATOR,
+            "external_signer_batch_requests_total",
+            "Counter recording the number of batched signing requests sent to the external signer",
+            "outcome");
+    signingRequestCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.VALIDATOR,
+            "external_signer_batched_signatures_total",
+            "Counter recording the number of signatures requested through batched requests");
+  }
+
+  private static String metricName(final MetricCategory category, final String name) {
+    return category.getApplicationPrefix().orElse("") + category.getName() + "_" + name;
+  }
+
+  public static ExternalSigningBatcher create(
+      final URL signingServiceUrl,
+      final Duration timeout,
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final int maxConcurrentRequests) {
+    final HttpClient httpClient =
+        HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).connectTimeout(timeout).build();
+    return new ExternalSigningBatcher(
+        httpClient,
+        signingServiceUrl,
+        timeout,
+        asyncRunner,
+        metricsSystem,
+        maxConcurrentRequests,
+        DEFAULT_MAX_BATCH_SIZE,
+        DEFAULT_BATCH_WINDOW);
+  }
+
+  public SafeFuture<BLSSignature> sign(final BLSPublicKey publicKey, final Bytes signingRoot) {
+    final PendingSigningRequest request = new PendingSigningRequest(publicKey, signingRoot);
+    final boolean scheduleFlush;
+    synchronized (this) {
+      pendingRequests.add(request);
+      if (pendingRequests.size() >= maxBatchSize) {
+        queueBatch();
+        scheduleFlush = false;
+      } else {
+        scheduleFlush = !flushScheduled;
+        flushScheduled = true;
+      }
+    }
+    if (scheduleFlush) {
+      asyncRunner
+          .runAfterDelay(this::flush, batchWindow.toMillis(), TimeUnit.MILLISECONDS)
+          .reportExceptions();
+    }
+    sendQueuedBatches();
+    return request.result;
+  }
+
+  private void flush() {
+    synchronized (this) {
+      flushScheduled = false;
+      while (!pendingRequests.isEmpty()) {
+        queueBatch();
+      }
+    }
+    sendQueuedBatches();
+  }
+
+  private synchronized void queueBatch() {
+    final List<PendingSigningRequest> batch = new ArrayList<>();
+    while (batch.size() < maxBatchSize && !pendingRequests.isEmpty()) {
+      batch.add(pendingRequests.remove());
+    }
+    if (!batch.isEmpty()) {
+      queuedBatches.add(batch);
+    }
+  }
+
+  private void sendQueuedBatches() {
+    final List<List<PendingSigningRequest>> batchesToSend = new ArrayList<>();
+    synchronized (this) {
+      while (activeRequests < maxConcurrentRequests && !queuedBatches.isEmpty()) {
+        activeRequests++;
+        batchesToSend.add(queuedBatches.remove());
+      }
+    }
+    batchesToSend.forEach(this::sendBatch);
+  }
+
+  private void sendBatch(final List<PendingSigningRequest> batch) {
+    LOG.trace("Sending batch of {} signing requests to external signer", batch.size());
+    signingRequestCounter.inc(batch.size());
+    final Histogram.Timer requestTimer = requestLatency.startTimer();
+    SafeFuture.ofComposed(
+            () -> {
+              final HttpRequest request =
+                  HttpRequest.newBuilder()
+                      .uri(getBatchSigningUri())
+                      .timeout(getBatchTimeout(timeout, batch.size()))
+                      .header("Content-Type", "application/json")
+                      .POST(BodyPublishers.ofString(createBatchSigningRequestBody(batch)))
+                      .build();
+              return httpClient.sendAsync(request, BodyHandlers.ofString());
+            })
+        .thenApply(response -> getBlsSignatures(response, batch.size()))
+        .handle(
+            (signatures, error) -> {
+              requestTimer.observeDuration();
+              synchronized (this) {
+                activeRequests--;
+              }
+              if (error != null) {
+                batchRequestCounter.labels("failed").inc();
+                final Throwable cause =
+                    error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause()
+                        : error;
+                final ExternalSignerException exception =
+                    cause instanceof ExternalSignerException
+                        ? (ExternalSignerException) cause
+                        : new ExternalSignerException(
+                            "External signer failed to sign due to " + cause, cause);
+                batch.forEach(request -> request.result.completeExceptionally(exception));
+              } else {
+                batchRequestCounter.labels("success").inc();
+                for (int i = 0; i < batch.size(); i++) {
+                  batch.get(i).result.complete(signatures.get(i));
+                }
+              }
+              sendQueuedBatches();
+              return null;
+            })
+        .reportExceptions();
+  }
+
+  @VisibleForTesting
+  Histogram getRequestLatency() {
+    return requestLatency;
+  }
+
+  static Duration getBatchTimeout(final Duration timeout, final int batchSize) {
+    return timeout.plus(TIMEOUT_PER_ADDITIONAL_SIGNATURE.multipliedBy(Math.max(batchSize - 1, 0)));
+  }
+
+  private URI getBatchSigningUri() throws URISyntaxException {
+    return signingServiceUrl.toURI().resolve("/signer/sign/batch");
+  }
+
+  private String createBatchSigningRequestBody(final List<PendingSigningRequest> batch) {
+    final BatchSigningRequestBody body =
+        new BatchSigningRequestBody(
+            batch.stream()
+                .map(
+                    request ->
+                        new BatchSigningRequest(
+                            request.publicKey.toBytesCompressed().toHexString(),
+                            request.signingRoot.toHexString()))
+                .collect(toList()));
+    try {
+      return MAPPER.writeValueAsString(body);
+    } catch (final JsonProcessingException e) {
+      throw new ExternalSignerException("Unable to create external signing request", e);
+    }
+  }
+
+  private List<BLSSignature> getBlsSignatures(
+      final HttpResponse<String> response, final int expectedCount) {
+    if (response.statusCode() != 200) {
+      throw new ExternalSignerException(
+          "External signer failed to sign and returned invalid response status code: "
+              + response.statusCode());
+    }
+
+    final String[] signatures;
+    try {
+      signatures = MAPPER.readValue(response.body(), String[].class);
+    } catch (final JsonProcessingException e) {
+      throw new ExternalSignerException(
+          "External signer returned an invalid response: " + e.getMessage(), e);
+    }
+    if (signatures.length != expectedCount) {
+      throw new ExternalSignerException(
+          "External signer returned "
+              + signatures.length
+              + " signatures but "
+              + expectedCount
+              + " were requested");
+    }
+
+    try {
+      final List<BLSSignature> result = new ArrayList<>(signatures.length);
+      for (String signature : signatures) {
+        result.add(BLSSignature.fromBytes(Bytes.fromHexString(signature)));
+      }
+      return result;
+    } catch (final IllegalArgumentException e) {
+      throw new ExternalSignerException(
+          "External signer returned an invalid signature: " + e.getMessage(), e);
+    }
+  }
+
+  private static class PendingSigningRequest {
+    private final BLSPublicKey publicKey;
+    private final Bytes signingRoot;
+    private final SafeFuture<BLSSignature> result = new SafeFuture<>();
+
+    private PendingSigningRequest(final BLSPublicKey publicKey, final Bytes signingRoot) {
+      this.publicKey = publicKey;
+      this.signingRoot = signingRoot;
+    }
+  }
+}
@@ -34,6 +34,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.bls.BLSPublicKey;
@@ -45,6 +46,8 @@ import tech.pegasys.teku.datastructures.util.DataStructureUtil;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.metrics.StubMetricsSystem;
+import tech.pegasys.teku.metrics.TekuMetricCategory;
+import tech.pegasys.teku.validator.api.EpochDuties;
 import tech.pegasys.teku.validator.api.ValidatorApiChannel;
 import tech.pegasys.teku.validator.api.ValidatorDuties;
 import tech.pegasys.teku.validator.api.ValidatorTimingChannel;
@@ -75,6 +78,7 @@ class DutySchedulerTest {
 
   private final DataStructureUtil dataStructureUtil = new DataStructureUtil();
   private final ForkInfo fork = dataStructureUtil.randomForkInfo();
+  private final Bytes32 dependentRoot = dataStructureUtil.randomBytes32();
   private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
 
   private final DutyScheduler dutyScheduler =
@@ -93,7 +97,7 @@ class DutySchedulerTest {
   @BeforeEach
   public void setUp() {
     when(validatorApiChannel.getDuties(any(), any()))
-        .thenReturn(completedFuture(Optional.of(emptyList())));
+        .thenReturn(completedFuture(Optional.of(new EpochDuties(dependentRoot, emptyList()))));
     when(dutyFactory.createAttestationProductionDuty(any()))
         .thenReturn(mock(AttestationProductionDuty.class));
     when(forkProvider.getForkInfo()).thenReturn(completedFuture(fork));
@@ -105,7 +109,9 @@ class DutySchedulerTest {
 
   @Test
   public void shouldFetchDutiesForCurrentAndNextEpoch() {
-    dutyScheduler.onSlot(compute_start_slot_at_epoch(UnsignedLong.ONE));
+    final UnsignedLong slot = compute_start_slot_at_epoch(UnsignedLong.ONE);
+    dutyScheduler.onSlot(slot);
+    dutyScheduler.onAttestationAggregationDue(slot);
 
     verify(validatorApiChannel).getDuties(UnsignedLong.ONE, VALIDATOR_KEYS);
     verify(validatorApiChannel).getDuties(UnsignedLong.valueOf(2), VALIDATOR_KEYS);
@@ -114,6 +120,7 @@ class DutySchedulerTest {
   @Test
   public void shouldFetchDutiesForSecondEpochWhenFirstEpochReached() {
     dutyScheduler.onSlot(ZERO);
+    dutyScheduler.onAttestationAggregationDue(ZERO);
 
     verify(validatorApiChannel).getDuties(ZERO, VALIDATOR_KEYS);
     verify(validatorApiChannel).getDuties(UnsignedLong.ONE, VALIDATOR_KEYS);
@@ -122,6 +129,7 @@ class DutySchedulerTest {
     final UnsignedLong epoch1Start = compute_start_slot_at_epoch(UnsignedLong.ONE);
     for (int slot = 0; slot <= epoch1Start.intValue(); slot++) {
       dutyScheduler.onSlot(UnsignedLong.valueOf(slot));
+      dutyScheduler.onAttestationAggregationDue(UnsignedLong.valueOf(slot));
     }
     verify(validatorApiChannel).getDuties(UnsignedLong.valueOf(2), VALIDATOR_KEYS);
   }
@@ -129,12 +137,16 @@ class DutySchedulerTest {
   @Test
   public void shouldNotRefetchDutiesWhichHaveAlreadyBeenRetrieved() {
     when(validatorApiChannel.getDuties(any(), any())).thenReturn(new SafeFuture<>());
-    dutyScheduler.onSlot(compute_start_slot_at_epoch(UnsignedLong.ONE));
+    final UnsignedLong epoch1Start = compute_start_slot_at_epoch(UnsignedLong.ONE);
+    dutyScheduler.onSlot(epoch1Start);
+    dutyScheduler.onAttestationAggregationDue(epoch1Start);
 
     verify(validatorApiChannel).getDuties(UnsignedLong.ONE, VALIDATOR_KEYS);
     verify(validatorApiChannel).getDuties(UnsignedLong.valueOf(2), VALIDATOR_KEYS);
 
-    dutyScheduler.onSlot(compute_start_slot_at_epoch(UnsignedLong.valueOf(2)));
+    final UnsignedLong epoch2Start = compute_start_slot_at_epoch(UnsignedLong.valueOf(2));
+    dutyScheduler.onSlot(epoch2Start);
+    dutyScheduler.onAttestationAggregationDue(epoch2Start);
 
     // Requests the next epoch, but not the current one because we already have that
     verify(validatorApiChannel).getDuties(UnsignedLong.valueOf(3), VALIDATOR_KEYS);
@@ -145,12 +157,14 @@ class DutySchedulerTest {
   public void shouldNotRefetchDutiesWhichHaveAlreadyBeenRetrievedDuringFirstEpoch() {
     when(validatorApiChannel.getDuties(any(), any())).thenReturn(new SafeFuture<>());
     dutyScheduler.onSlot(ZERO);
+    dutyScheduler.onAttestationAggregationDue(ZERO);
 
     verify(validatorApiChannel).getDuties(ZERO, VALIDATOR_KEYS);
     verify(validatorApiChannel).getDuties(ONE, VALIDATOR_KEYS);
 
     // Second slot in epoch 0
     dutyScheduler.onSlot(ONE);
+    dutyScheduler.onAttestationAggregationDue(ONE);
 
     // Shouldn't request any more duties
     verifyNoMoreInteractions(validatorApiChannel);
@@ -158,8 +172,8 @@ class DutySchedulerTest {
 
   @Test
   public void shouldRetryWhenRequestingDutiesFails() {
-    final SafeFuture<Optional<List<ValidatorDuties>>> request1 = new SafeFuture<>();
-    final SafeFuture<Optional<List<ValidatorDuties>>> request2 = new SafeFuture<>();
+    final SafeFuture<Optional<EpochDuties>> request1 = new SafeFuture<>();
+    final SafeFuture<Optional<EpochDuties>> request2 = new SafeFuture<>();
     when(validatorApiChannel.getDuties(UnsignedLong.ONE, VALIDATOR_KEYS))
         .thenReturn(request1)
         .thenReturn(request2);
@@ -181,7 +195,9 @@ class DutySchedulerTest {
   @Test
   public void shouldRefetchDutiesAfterReorg() {
     when(validatorApiChannel.getDuties(any(), any())).thenReturn(new SafeFuture<>());
-    dutyScheduler.onSlot(compute_start_slot_at_epoch(UnsignedLong.ONE));
+    final UnsignedLong slot = compute_start_slot_at_epoch(UnsignedLong.ONE);
+    dutyScheduler.onSlot(slot);
+    dutyScheduler.onAttestationAggregationDue(slot);
 
     verify(validatorApiChannel).getDuties(UnsignedLong.ONE, VALIDATOR_KEYS);
     verify(validatorApiChannel).getDuties(UnsignedLong.valueOf(2), VALIDATOR_KEYS);
@@ -194,10 +210,80 @@ class DutySchedulerTest {
     verifyNoMoreInteractions(validatorApiChannel);
   }
 
+  @Test
+  public void shouldNotRequestNextEpochDutiesUntilAttestationAggregationDue() {
+    when(validatorApiChannel.getDuties(any(), any())).thenReturn(new SafeFuture<>());
+    final UnsignedLong slot = compute_start_slot_at_epoch(UnsignedLong.ONE);
+    dutyScheduler.onSlot(slot);
+
+    verify(validatorApiChannel).getDuties(UnsignedLong.ONE, VALIDATOR_KEYS);
+    verifyNoMoreInteractions(validatorApiChannel);
+
+    dutyScheduler.onAttestationAggregationDue(slot);
+    verify(validatorApiChannel).getDuties(UnsignedLong.valueOf(2), VALIDATOR_KEYS);
+  }
+
+  @Test
+  public void shouldReuseDutiesAfterReorgWhenDependentRootIsUnchanged() {
+    final UnsignedLong blockProposerSlot = UnsignedLong.valueOf(5);
+    final ValidatorDuties validator1Duties =
+        ValidatorDuties.withDuties(
+            VALIDATOR1_KEY, 5, 3, 6, 0, List.of(blockProposerSlot), UnsignedLong.valueOf(7));
+    when(validatorApiChannel.getDuties(eq(ZERO), any()))
+        .thenReturn(
+            completedFuture(
+                Optional.of(new EpochDuties(dependentRoot, List.of(validator1Duties)))));
+    final BlockProductionDuty blockCreationDuty = mock(BlockProductionDuty.class);
+    when(blockCreationDuty.performDuty()).thenReturn(new SafeFuture<>());
+    when(dutyFactory.createBlockProductionDuty(blockProposerSlot, validator1))
+        .thenReturn(blockCreationDuty);
+
+    dutyScheduler.onSlot(ZERO);
+    verify(dutyFactory).createBlockProductionDuty(blockProposerSlot, validator1);
+
+    dutyScheduler.onChainReorg(ONE);
+
+    verify(validatorApiChannel, times(2)).getDuties(ZERO, VALIDATOR_KEYS);
+    // Duties were reused rather than being scheduled again
+    verify(dutyFactory, times(1)).createBlockProductionDuty(blockProposerSlot, validator1);
+    assertThat(getDutyLoadCount("reused")).isEqualTo(1);
+
+    dutyScheduler.onBlockProductionDue(blockProposerSlot);
+    verify(blockCreationDuty).performDuty();
+  }
+
+  @Test
+  public void shouldRescheduleDutiesAfterReorgWhenDependentRootChanges() {
+    final UnsignedLong blockProposerSlot = UnsignedLong.valueOf(5);
+    final ValidatorDuties validator1Duties =
+        ValidatorDuties.withDuties(
+            VALIDATOR1_KEY, 5, 3, 6, 0, List.of(blockProposerSlot), UnsignedLong.valueOf(7));
+    when(validatorApiChannel.getDuties(eq(ZERO), any()))
+        .thenReturn(
+            completedFuture(Optional.of(new EpochDuties(dependentRoot, List.of(validator1Duties)))))
+        .thenReturn(
+            completedFuture(
+                Optional.of(
+                    new EpochDuties(
+                        dataStructureUtil.randomBytes32(), List.of(validator1Duties)))));
+    when(dutyFactory.createBlockProductionDuty(blockProposerSlot, validator1))
+        .thenReturn(mock(BlockProductionDuty.class));
+
+    dutyScheduler.onSlot(ZERO);
+    verify(dutyFactory).createBlockProductionDuty(blockProposerSlot, validator1);
+
+    dutyScheduler.onChainReorg(ONE);
+
+    verify(validatorApiChannel, times(2)).getDuties(ZERO, VALIDATOR_KEYS);
+    verify(dutyFactory, times(2)).createBlockProductionDuty(blockProposerSlot, validator1);
+  }
+
   @Test
   public void shouldRefetchDutiesAfterBlockImportedFromTwoOrMoreEpochsBefore() {
     when(validatorApiChannel.getDuties(any(), any())).thenReturn(new SafeFuture<>());
-    dutyScheduler.onSlot(compute_start_slot_at_epoch(UnsignedLong.valueOf(5)));
+    final UnsignedLong epoch5Start = compute_start_slot_at_epoch(UnsignedLong.valueOf(5));
+    dutyScheduler.onSlot(epoch5Start);
+    dutyScheduler.onAttestationAggregationDue(epoch5Start);
 
     verify(validatorApiChannel).getDuties(UnsignedLong.valueOf(5), VALIDATOR_KEYS);
     verify(validatorApiChannel).getDuties(UnsignedLong.valueOf(6), VALIDATOR_KEYS);
@@ -208,7 +294,10 @@ class DutySchedulerTest {
     // Duties are invalidated but not yet re-requested as we might be importing a batch of blocks
     verifyNoMoreInteractions(validatorApiChannel);
 
-    dutyScheduler.onSlot(compute_start_slot_at_epoch(UnsignedLong.valueOf(5)).plus(ONE));
+    dutyScheduler.onSlot(epoch5Start.plus(ONE));
+    // Epoch 6 is only requested once attestations for the slot are done
+    verifyNoMoreInteractions(validatorApiChannel);
+    dutyScheduler.onAttestationAggregationDue(epoch5Start.plus(ONE));
     // Re-requests epoch 6 which may have been changed by the new block
     verify(validatorApiChannel, times(2)).getDuties(UnsignedLong.valueOf(6), VALIDATOR_KEYS);
     // Epoch 5 is unchanged so not re-requested
@@ -222,7 +311,9 @@ class DutySchedulerTest {
         ValidatorDuties.withDuties(
             VALIDATOR1_KEY, 5, 3, 6, 0, List.of(blockProposerSlot), UnsignedLong.valueOf(7));
     when(validatorApiChannel.getDuties(eq(ZERO), any()))
-        .thenReturn(completedFuture(Optional.of(List.of(validator1Duties))));
+        .thenReturn(
+            completedFuture(
+                Optional.of(new EpochDuties(dependentRoot, List.of(validator1Duties)))));
 
     final BlockProductionDuty blockCreationDuty = mock(BlockProductionDuty.class);
     when(blockCreationDuty.performDuty()).thenReturn(new SafeFuture<>());
@@ -253,11 +344,12 @@ class DutySchedulerTest {
                     () -> scheduledDuties,
                     Map.of(VALIDATOR1_KEY, validator1, VALIDATOR2_KEY, validator2))),
             stableSubnetSubscriber);
-    final SafeFuture<Optional<List<ValidatorDuties>>> epoch0Duties = new SafeFuture<>();
+    final SafeFuture<Optional<EpochDuties>> epoch0Duties = new SafeFuture<>();
 
     when(validatorApiChannel.getDuties(eq(ZERO), any())).thenReturn(epoch0Duties);
     when(validatorApiChannel.getDuties(eq(ONE), any()))
-        .thenReturn(SafeFuture.completedFuture(Optional.of(emptyList())));
+        .thenReturn(
+            SafeFuture.completedFuture(Optional.of(new EpochDuties(dependentRoot, emptyList()))));
     dutyScheduler.onSlot(ZERO);
 
     dutyScheduler.onBlockProductionDue(ZERO);
@@ -268,7 +360,7 @@ class DutySchedulerTest {
     verify(scheduledDuties, never()).produceAttestations(ZERO);
     verify(scheduledDuties, never()).performAggregation(ZERO);
 
-    epoch0Duties.complete(Optional.of(emptyList()));
+    epoch0Duties.complete(Optional.of(new EpochDuties(dependentRoot, emptyList())));
     verify(scheduledDuties).produceBlock(ZERO);
     verify(scheduledDuties).produceAttestations(ZERO);
     verify(scheduledDuties).performAggregation(ZERO);
@@ -281,7 +373,9 @@ class DutySchedulerTest {
         ValidatorDuties.withDuties(
             VALIDATOR1_KEY, 5, 3, 6, 0, List.of(blockProposerSlot), UnsignedLong.valueOf(7));
     when(validatorApiChannel.getDuties(eq(ZERO), any()))
-        .thenReturn(completedFuture(Optional.of(List.of(validator1Duties))));
+        .thenReturn(
+            completedFuture(
+                Optional.of(new EpochDuties(dependentRoot, List.of(validator1Duties)))));
 
     final BlockProductionDuty blockCreationDuty = mock(BlockProductionDuty.class);
     when(blockCreationDuty.performDuty()).thenReturn(new SafeFuture<>());
@@ -329,7 +423,10 @@ class DutySchedulerTest {
             emptyList(),
             attestationSlot);
     when(validatorApiChannel.getDuties(eq(ZERO), any()))
-        .thenReturn(completedFuture(Optional.of(List.of(validator1Duties, validator2Duties))));
+        .thenReturn(
+            completedFuture(
+                Optional.of(
+                    new EpochDuties(dependentRoot, List.of(validator1Duties, validator2Duties)))));
 
     final AttestationProductionDuty attestationDuty = mock(AttestationProductionDuty.class);
     when(attestationDuty.performDuty()).thenReturn(new SafeFuture<>());
@@ -379,7 +476,10 @@ class DutySchedulerTest {
             emptyList(),
             attestationSlot);
     when(validatorApiChannel.getDuties(eq(ONE), any()))
-        .thenReturn(completedFuture(Optional.of(List.of(validator1Duties, validator2Duties))));
+        .thenReturn(
+            completedFuture(
+                Optional.of(
+                    new EpochDuties(dependentRoot, List.of(validator1Duties, validator2Duties)))));
 
     final BLSSignature validator1Signature = dataStructureUtil.randomSignature();
     when(validator1.getSigner().signAggregationSlot(attestationSlot, fork))
@@ -417,4 +517,10 @@ class DutySchedulerTest {
     dutyScheduler.onAttestationAggregationDue(attestationSlot);
     verify(aggregationDuty).performDuty();
   }
+
+  private long getDutyLoadCount(final String result) {
+    return metricsSystem
+        .getCounter(TekuMetricCategory.VALIDATOR, "duty_loads_total")
+        .getValue(result);
+  }
 }
@@ -20,7 +20,9 @@ import static org.mockito.Mockito.when;
 
 import com.google.common.io.Resources;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.tuweni.bytes.Bytes32;
@@ -29,13 +31,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.bls.BLSSecretKey;
+import tech.pegasys.teku.metrics.StubMetricsSystem;
+import tech.pegasys.teku.metrics.TekuMetricCategory;
 import tech.pegasys.teku.util.config.TekuConfiguration;
 
 class KeystoresValidatorKeyProviderTest {
   private static final String EXPECTED_PASSWORD = "testpassword";
   private final TekuConfiguration config = mock(TekuConfiguration.class);
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
   private final KeystoresValidatorKeyProvider keystoresValidatorKeyProvider =
-      new KeystoresValidatorKeyProvider();
+      new KeystoresValidatorKeyProvider(metricsSystem);
   private static final Bytes32 BLS_PRIVATE_KEY =
       Bytes32.fromHexString("0x000000000019d6689c085ae165831e934ff763ae46a2a6c172b3f1b60a8ce26f");
   private static final BLSKeyPair EXPECTED_BLS_KEY_PAIR =
@@ -61,6 +66,97 @@ class KeystoresValidatorKeyProviderTest {
 
     // since both test vectors encrypted same private key, we should get 1 element
     Assertions.assertThat(blsKeyPairs).containsExactly(EXPECTED_BLS_KEY_PAIR);
+    Assertions.assertThat(
+            metricsSystem.getGauge(TekuMetricCategory.VALIDATOR, "keystores_loaded").getValue())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void shouldLoadKeysFromKeyCacheOnSubsequentLoads(@TempDir final Path tempDir) throws Exception {
+    final Path scryptKeystore = Path.of(Resources.getResource("scryptTestVector.json").toURI());
+    final Path pbkdf2Keystore = Path.of(Resources.getResource("pbkdf2TestVector.json").toURI());
+    final Path tempPasswordFile = createTempFile(tempDir, "pass", ".txt");
+    writeString(tempPasswordFile, EXPECTED_PASSWORD);
+    final Path cacheFile = tempDir.resolve("keys.cache");
+    final Path cachePasswordFile = createTempFile(tempDir, "cachepass", ".txt");
+    writeString(cachePasswordFile, "cachepassword");
+
+    when(config.getValidatorKeystorePasswordFilePairs())
+        .thenReturn(
+            List.of(
+                Pair.of(scryptKeystore, tempPasswordFile),
+                Pair.of(pbkdf2Keystore, tempPasswordFile)));
+    when(config.getValidatorKeystoreCacheFile()).thenReturn(cacheFile.toString());
+    when(config.getValidatorKeystoreCachePasswordFile()).thenReturn(cachePasswordFile.toString());
+
+    Assertions.assertThat(keystoresValidatorKeyProvider.loadValidatorKeys(config))
+        .containsExactly(EXPECTED_BLS_KEY_PAIR);
+    Assertions.assertThat(cacheFile).exists();
+    Assertions.assertThat(getCacheHits(metricsSystem)).isZero();
+
+    final StubMetricsSystem restartedMetricsSystem = new StubMetricsSystem();
+    Assertions.assertThat(
+            new KeystoresValidatorKeyProvider(restartedMetricsSystem).loadValidatorKeys(config))
+        .containsExactly(EXPECTED_BLS_KEY_PAIR);
+    Assertions.assertThat(getCacheHits(restartedMetricsSystem)).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotUseKeyCacheEntryWhenKeystoreFileChanges(@TempDir final Path tempDir)
+      throws Exception {
+    final Path scryptKeystore = tempDir.resolve("scrypt.json");
+    Files.copy(Path.of(Resources.getResource("scryptTestVector.json").toURI()), scryptKeystore);
+    final Path tempPasswordFile = createTempFile(tempDir, "pass", ".txt");
+    writeString(tempPasswordFile, EXPECTED_PASSWORD);
+    final Path cacheFile = tempDir.resolve("keys.cache");
+    final Path cachePasswordFile = createTempFile(tempDir, "cachepass", ".txt");
+    writeString(cachePasswordFile, "cachepassword");
+
+    when(config.getValidatorKeystorePasswordFilePairs())
+        .thenReturn(List.of(Pair.of(scryptKeystore, tempPasswordFile)));
+    when(config.getValidatorKeystoreCacheFile()).thenReturn(cacheFile.toString());
+    when(config.getValidatorKeystoreCachePasswordFile()).thenReturn(cachePasswordFile.toString());
+    keystoresValidatorKeyProvider.loadValidatorKeys(config);
+
+    Files.writeString(scryptKeystore, "\n", StandardOpenOption.APPEND);
+
+    final StubMetricsSystem restartedMetricsSystem = new StubMetricsSystem();
+    Assertions.assertThat(
+            new KeystoresValidatorKeyProvider(restartedMetricsSystem).loadValidatorKeys(config))
+        .containsExactly(EXPECTED_BLS_KEY_PAIR);
+    Assertions.assertThat(getCacheHits(restartedMetricsSystem)).isZero();
+  }
+
+  @Test
+  void shouldRejectInvalidPasswordWhenKeyIsCached(@TempDir final Path tempDir) throws Exception {
+    final Path scryptKeystore = Path.of(Resources.getResource("scryptTestVector.json").toURI());
+    final Path tempPasswordFile = createTempFile(tempDir, "pass", ".txt");
+    writeString(tempPasswordFile, EXPECTED_PASSWORD);
+    final Path cacheFile = tempDir.resolve("keys.cache");
+    final Path cachePasswordFile = createTempFile(tempDir, "cachepass", ".txt");
+    writeString(cachePasswordFile, "cachepassword");
+
+    when(config.getValidatorKeystorePasswordFilePairs())
+        .thenReturn(List.of(Pair.of(scryptKeystore, tempPasswordFile)));
+    when(config.getValidatorKeystoreCacheFile()).thenReturn(cacheFile.toString());
+    when(config.getValidatorKeystoreCachePasswordFile()).thenReturn(cachePasswordFile.toString());
+    keystoresValidatorKeyProvider.loadValidatorKeys(config);
+
+    writeString(tempPasswordFile, "invalidpassword");
+
+    final StubMetricsSystem restartedMetricsSystem = new StubMetricsSystem();
+    Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(
+            () ->
+                new KeystoresValidatorKeyProvider(restartedMetricsSystem).loadValidatorKeys(config))
+        .withMessage("Invalid keystore password: " + scryptKeystore);
+    Assertions.assertThat(getCacheHits(restartedMetricsSystem)).isZero();
+  }
+
+  private long getCacheHits(final StubMetricsSystem metricsSystem) {
+    return metricsSystem
+        .getCounter(TekuMetricCategory.VALIDATOR, "keystore_cache_hits_total")
+        .getValue();
   }
 
   @Test
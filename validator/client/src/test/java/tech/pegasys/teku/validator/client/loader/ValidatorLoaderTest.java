@@ -20,14 +20,19 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.core.signatures.LocalMessageSignerService;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.util.config.TekuConfiguration;
 import tech.pegasys.teku.validator.client.Validator;
+import tech.pegasys.teku.validator.client.signer.BatchingExternalMessageSignerService;
 import tech.pegasys.teku.validator.client.signer.ExternalMessageSignerService;
 
 class ValidatorLoaderTest {
@@ -40,6 +45,9 @@ class ValidatorLoaderTest {
       "- {privkey: '0x25295f0d1d592a90b333e26e85149708208e9f8e8bc18f6c77bd62f8ad7a6866',\n"
           + "  pubkey: '0xa99a76ed7796f7be22d5b7e85deeb7c5677e88e511e0b337618f8c4eb61349b4bf2d153f649f7b53359fe8b94a38e44c'}";
 
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final MetricsSystem metricsSystem = new NoOpMetricsSystem();
+
   @Test
   void initializeValidatorsWithExternalMessageSignerWhenConfigHasExternalSigningPublicKeys() {
     final TekuConfiguration tekuConfiguration =
@@ -50,7 +58,7 @@ class ValidatorLoaderTest {
             .setValidatorKeystorePasswordFiles(emptyList())
             .build();
     final Map<BLSPublicKey, Validator> validators =
-        ValidatorLoader.initializeValidators(tekuConfiguration);
+        ValidatorLoader.initializeValidators(tekuConfiguration, asyncRunner, metricsSystem);
 
     assertThat(validators).hasSize(1);
     final BLSPublicKey key = BLSPublicKey.fromBytes(Bytes.fromHexString(PUBLIC_KEY1));
@@ -61,6 +69,27 @@ class ValidatorLoaderTest {
         .isInstanceOf(ExternalMessageSignerService.class);
   }
 
+  @Test
+  void initializeValidatorsWithBatchingMessageSignerWhenExternalSignerBatchingEnabled() {
+    final TekuConfiguration tekuConfiguration =
+        TekuConfiguration.builder()
+            .setValidatorExternalSignerUrl("http://localhost:9000")
+            .setValidatorExternalSignerPublicKeys(List.of(PUBLIC_KEY1, PUBLIC_KEY2))
+            .setValidatorExternalSignerBatchingEnabled(true)
+            .setValidatorKeystoreFiles(emptyList())
+            .setValidatorKeystorePasswordFiles(emptyList())
+            .build();
+    final Map<BLSPublicKey, Validator> validators =
+        ValidatorLoader.initializeValidators(tekuConfiguration, asyncRunner, metricsSystem);
+
+    assertThat(validators).hasSize(2);
+    assertThat(validators.values())
+        .allMatch(
+            validator ->
+                validator.getSigner().getMessageSignerService()
+                    instanceof BatchingExternalMessageSignerService);
+  }
+
   @Test
   void initializeValidatorsWithLocalMessageSignerWhenConfigHasValidatorsKeyFile(
       @TempDir Path tempDir) throws IOException {
@@ -74,7 +103,7 @@ class ValidatorLoaderTest {
             .setValidatorKeystorePasswordFiles(emptyList())
             .build();
     final Map<BLSPublicKey, Validator> validators =
-        ValidatorLoader.initializeValidators(tekuConfiguration);
+        ValidatorLoader.initializeValidators(tekuConfiguration, asyncRunner, metricsSystem);
 
     assertThat(validators).hasSize(1);
     final BLSPublicKey key = BLSPublicKey.fromBytes(Bytes.fromHexString(PUBLIC_KEY1));
@@ -100,7 +129,7 @@ class ValidatorLoaderTest {
             .setValidatorKeystorePasswordFiles(emptyList())
             .build();
     final Map<BLSPublicKey, Validator> validators =
-        ValidatorLoader.initializeValidators(tekuConfiguration);
+        ValidatorLoader.initializeValidators(tekuConfiguration, asyncRunner, metricsSystem);
 
     assertThat(validators).hasSize(2);
 
@@ -134,7 +163,7 @@ class ValidatorLoaderTest {
             .setValidatorKeystorePasswordFiles(emptyList())
             .build();
     final Map<BLSPublicKey, Validator> validators =
-        ValidatorLoader.initializeValidators(tekuConfiguration);
+        ValidatorLoader.initializeValidators(tekuConfiguration, asyncRunner, metricsSystem);
 
     // Both local and external validators get loaded.
     assertThat(validators).hasSize(1);
@@ -159,7 +188,7 @@ class ValidatorLoaderTest {
             .setValidatorKeystorePasswordFiles(emptyList())
             .build();
     final Map<BLSPublicKey, Validator> validators =
-        ValidatorLoader.initializeValidators(tekuConfiguration);
+        ValidatorLoader.initializeValidators(tekuConfiguration, asyncRunner, metricsSystem);
 
     assertThat(validators).hasSize(ownedValidatorCount);
   }
@@ -175,7 +204,7 @@ class ValidatorLoaderTest {
             .setValidatorKeystorePasswordFiles(emptyList())
             .build();
     final Map<BLSPublicKey, Validator> validators =
-        ValidatorLoader.initializeValidators(tekuConfiguration);
+        ValidatorLoader.initializeValidators(tekuConfiguration, asyncRunner, metricsSystem);
 
     assertThat(validators).isEmpty();
   }
@@ -34,6 +34,7 @@ import tech.pegasys.teku.datastructures.util.DataStructureUtil;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.metrics.StubMetricsSystem;
 import tech.pegasys.teku.metrics.TekuMetricCategory;
+import tech.pegasys.teku.validator.api.EpochDuties;
 import tech.pegasys.teku.validator.api.ValidatorApiChannel;
 import tech.pegasys.teku.validator.client.metrics.BeaconChainRequestCounter.RequestOutcome;
 
@@ -155,7 +156,7 @@ class MetricRecordingValidatorApiChannelTest {
             "getDuties",
             channel -> channel.getDuties(slot, Collections.emptyList()),
             MetricRecordingValidatorApiChannel.DUTIES_REQUESTS_COUNTER_NAME,
-            Collections.emptyList()),
+            new EpochDuties(dataStructureUtil.randomBytes32(), Collections.emptyList())),
         requestDataTest(
             "createUnsignedBlock",
             channel -> channel.createUnsignedBlock(slot, signature, Optional.empty()),
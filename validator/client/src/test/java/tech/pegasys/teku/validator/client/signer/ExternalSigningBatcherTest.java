@@ -0,0 +1,130 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.signer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.prometheus.client.Histogram;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.datastructures.util.DataStructureUtil;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.metrics.StubMetricsSystem;
+
+class ExternalSigningBatcherTest {
+  private static final Duration TIMEOUT = Duration.ofMillis(1000);
+
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil();
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final HttpClient httpClient = mock(HttpClient.class);
+
+  @Test
+  void getBatchTimeout_shouldUseSingleSignatureTimeoutForSingleRequest() {
+    assertThat(ExternalSigningBatcher.getBatchTimeout(TIMEOUT, 1)).isEqualTo(TIMEOUT);
+  }
+
+  @Test
+  void getBatchTimeout_shouldScaleWithBatchSize() {
+    assertThat(ExternalSigningBatcher.getBatchTimeout(TIMEOUT, 512))
+        .isEqualTo(
+            TIMEOUT.plus(
+                ExternalSigningBatcher.TIMEOUT_PER_ADDITIONAL_SIGNATURE.multipliedBy(511)));
+    assertThat(ExternalSigningBatcher.getBatchTimeout(TIMEOUT, 512))
+        .isGreaterThan(ExternalSigningBatcher.getBatchTimeout(TIMEOUT, 2));
+  }
+
+  @Test
+  void sign_shouldSendBatchWithScaledTimeout() throws Exception {
+    final ExternalSigningBatcher batcher = createBatcher();
+    final List<BLSSignature> signatures =
+        List.of(
+            dataStructureUtil.randomSignature(),
+            dataStructureUtil.randomSignature(),
+            dataStructureUtil.randomSignature());
+    respondWithSignatures(signatures);
+
+    final List<SafeFuture<BLSSignature>> results = new ArrayList<>();
+    for (int i = 0; i < signatures.size(); i++) {
+      results.add(batcher.sign(dataStructureUtil.randomPublicKey(), Bytes.of(i)));
+    }
+    asyncRunner.executeQueuedActions();
+
+    final ArgumentCaptor<HttpRequest> requestCaptor = ArgumentCaptor.forClass(HttpRequest.class);
+    verify(httpClient).sendAsync(requestCaptor.capture(), any());
+    assertThat(requestCaptor.getValue().timeout())
+        .contains(
+            TIMEOUT.plus(ExternalSigningBatcher.TIMEOUT_PER_ADDITIONAL_SIGNATURE.multipliedBy(2)));
+    for (int i = 0; i < signatures.size(); i++) {
+      assertThat(results.get(i)).isCompletedWithValue(signatures.get(i));
+    }
+  }
+
+  @Test
+  void sign_shouldRecordBatchLatencyInHistogram() throws Exception {
+    final ExternalSigningBatcher batcher = createBatcher();
+    respondWithSignatures(List.of(dataStructureUtil.randomSignature()));
+
+    final SafeFuture<BLSSignature> result =
+        batcher.sign(dataStructureUtil.randomPublicKey(), Bytes.of(1));
+    asyncRunner.executeQueuedActions();
+
+    assertThat(result).isCompleted();
+
+    final Histogram.Child.Value latency = batcher.getRequestLatency().get();
+    assertThat(latency.buckets[latency.buckets.length - 1]).isEqualTo(1);
+  }
+
+  private ExternalSigningBatcher createBatcher() throws Exception {
+    return new ExternalSigningBatcher(
+        httpClient,
+        new URL("http://localhost:9000"),
+        TIMEOUT,
+        asyncRunner,
+        new StubMetricsSystem(),
+        1,
+        ExternalSigningBatcher.DEFAULT_MAX_BATCH_SIZE,
+        ExternalSigningBatcher.DEFAULT_BATCH_WINDOW);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void respondWithSignatures(final List<BLSSignature> signatures) {
+    final HttpResponse<String> response = mock(HttpResponse.class);
+    when(response.statusCode()).thenReturn(200);
+    when(response.body())
+        .thenReturn(
+            signatures.stream()
+                .map(signature -> "\"" + signature + "\"")
+                .collect(Collectors.joining(",", "[", "]")));
+    when(httpClient.sendAsync(any(), ArgumentMatchers.<BodyHandler<String>>any()))
+        .thenReturn(CompletableFuture.completedFuture(response));
+  }
+}
@@ -25,7 +25,6 @@ import static tech.pegasys.teku.logging.ValidatorLogger.VALIDATOR_LOGGER;
 import static tech.pegasys.teku.util.config.Constants.GENESIS_SLOT;
 import static tech.pegasys.teku.util.config.Constants.MAX_VALIDATORS_PER_COMMITTEE;
 
-import com.google.common.eventbus.EventBus;
 import com.google.common.primitives.UnsignedLong;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -46,6 +45,7 @@ import tech.pegasys.teku.core.exceptions.SlotProcessingException;
 import tech.pegasys.teku.datastructures.attestation.ValidateableAttestation;
 import tech.pegasys.teku.datastructures.blocks.BeaconBlock;
 import tech.pegasys.teku.datastructures.blocks.BeaconBlockAndState;
+import tech.pegasys.teku.datastructures.blocks.BeaconBlockHeader;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.datastructures.operations.Attestation;
 import tech.pegasys.teku.datastructures.operations.AttestationData;
@@ -62,10 +62,11 @@ import tech.pegasys.teku.networking.eth2.gossip.subnets.AttestationTopicSubscrib
 import tech.pegasys.teku.ssz.SSZTypes.Bitlist;
 import tech.pegasys.teku.statetransition.attestation.AggregatingAttestationPool;
 import tech.pegasys.teku.statetransition.attestation.AttestationManager;
-import tech.pegasys.teku.statetransition.events.block.ProposedBlockEvent;
+import tech.pegasys.teku.statetransition.events.block.ProposedBlockChannel;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
 import tech.pegasys.teku.sync.SyncStateTracker;
 import tech.pegasys.teku.util.config.Constants;
+import tech.pegasys.teku.validator.api.EpochDuties;
 import tech.pegasys.teku.validator.api.NodeSyncingException;
 import tech.pegasys.teku.validator.api.ValidatorApiChannel;
 import tech.pegasys.teku.validator.api.ValidatorDuties;
@@ -79,7 +80,7 @@ public class ValidatorApiHandler implements ValidatorApiChannel {
   private final AggregatingAttestationPool attestationPool;
   private final AttestationManager attestationManager;
   private final AttestationTopicSubscriber attestationTopicSubscriber;
-  private final EventBus eventBus;
+  private final ProposedBlockChannel proposedBlockChannel;
 
   public ValidatorApiHandler(
       final CombinedChainDataClient combinedChainDataClient,
@@ -89,7 +90,7 @@ public class ValidatorApiHandler implements ValidatorApiChannel {
       final AggregatingAttestationPool attestationPool,
       final AttestationManager attestationManager,
       final AttestationTopicSubscriber attestationTopicSubscriber,
-      final EventBus eventBus) {
+      final ProposedBlockChannel proposedBlockChannel) {
     this.combinedChainDataClient = combinedChainDataClient;
     this.syncStateTracker = syncStateTracker;
     this.stateTransition = stateTransition;
@@ -97,7 +98,7 @@ public class ValidatorApiHandler implements ValidatorApiChannel {
     this.attestationPool = attestationPool;
     this.attestationManager = attestationManager;
     this.attestationTopicSubscriber = attestationTopicSubscriber;
-    this.eventBus = eventBus;
+    this.proposedBlockChannel = proposedBlockChannel;
   }
 
   @Override
@@ -107,13 +108,13 @@ public class ValidatorApiHandler implements ValidatorApiChannel {
   }
 
   @Override
-  public SafeFuture<Optional<List<ValidatorDuties>>> getDuties(
+  public SafeFuture<Optional<EpochDuties>> getDuties(
       final UnsignedLong epoch, final Collection<BLSPublicKey> publicKeys) {
     if (isSyncActive()) {
       return NodeSyncingException.failedFuture();
     }
     if (publicKeys.isEmpty()) {
-      return SafeFuture.completedFuture(Optional.of(emptyList()));
+      return SafeFuture.completedFuture(Optional.of(new EpochDuties(Bytes32.ZERO, emptyList())));
     }
     final UnsignedLong slot =
         compute_start_slot_at_epoch(
@@ -125,7 +126,30 @@ public class ValidatorApiHandler implements ValidatorApiChannel {
             optionalState ->
                 optionalState
                     .map(state -> processSlots(state, slot))
-                    .map(state -> getValidatorDutiesFromState(state, epoch, publicKeys)));
+                    .map(
+                        state ->
+                            new EpochDuties(
+                                getDependentRoot(state),
+                                getValidatorDutiesFromState(state, epoch, publicKeys))));
+  }
+
+  /**
+   * Duties are calculated from the state at the start of the previous epoch so they depend only on
+   * the latest block in that state. Returns the root of that block.
+   */
+  private Bytes32 getDependentRoot(final BeaconState state) {
+    final BeaconBlockHeader latestBlockHeader = state.getLatest_block_header();
+    if (!latestBlockHeader.getState_root().equals(Bytes32.ZERO)) {
+      return latestBlockHeader.hash_tree_root();
+    }
+    // The state root is only filled in when the next slot is processed
+    return new BeaconBlockHeader(
+            latestBlockHeader.getSlot(),
+            latestBlockHeader.getProposer_index(),
+            latestBlockHeader.getParent_root(),
+            state.hash_tree_root(),
+            latestBlockHeader.getBody_root())
+        .hash_tree_root();
   }
 
   private BeaconState processSlots(final BeaconState startingState, final UnsignedLong targetSlot) {
@@ -259,7 +283,7 @@ public class ValidatorApiHandler implements ValidatorApiChannel {
 
   @Override
   public void sendSignedBlock(final SignedBeaconBlock block) {
-    eventBus.post(new ProposedBlockEvent(block));
+    proposedBlockChannel.onBlockProposed(block);
   }
 
   private boolean isSyncActive() {
@@ -24,7 +24,6 @@ import static tech.pegasys.teku.datastructures.blocks.BeaconBlockBodyLists.creat
 import static tech.pegasys.teku.datastructures.blocks.BeaconBlockBodyLists.createProposerSlashings;
 import static tech.pegasys.teku.datastructures.blocks.BeaconBlockBodyLists.createVoluntaryExits;
 
-import com.google.common.eventbus.EventBus;
 import com.google.common.primitives.UnsignedLong;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
@@ -57,7 +56,7 @@ class BlockFactoryTest {
 
   public static final Eth1Data ETH1_DATA = new Eth1Data();
   private final DataStructureUtil dataStructureUtil = new DataStructureUtil();
-  private final RecentChainData recentChainData = MemoryOnlyRecentChainData.create(new EventBus());
+  private final RecentChainData recentChainData = MemoryOnlyRecentChainData.create();
   private final BeaconChainUtil beaconChainUtil = BeaconChainUtil.create(1, recentChainData);
   private final AggregatingAttestationPool attestationsPool =
       mock(AggregatingAttestationPool.class);
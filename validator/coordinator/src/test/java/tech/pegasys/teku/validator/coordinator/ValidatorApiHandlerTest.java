@@ -25,7 +25,6 @@ import static tech.pegasys.teku.datastructures.util.AttestationProcessingResult.
 import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.compute_epoch_at_slot;
 import static tech.pegasys.teku.infrastructure.async.SafeFuture.completedFuture;
 
-import com.google.common.eventbus.EventBus;
 import com.google.common.primitives.UnsignedLong;
 import java.util.List;
 import java.util.Optional;
@@ -39,6 +38,7 @@ import tech.pegasys.teku.core.StateTransition;
 import tech.pegasys.teku.datastructures.attestation.ValidateableAttestation;
 import tech.pegasys.teku.datastructures.blocks.BeaconBlock;
 import tech.pegasys.teku.datastructures.blocks.BeaconBlockAndState;
+import tech.pegasys.teku.datastructures.blocks.BeaconBlockHeader;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.datastructures.operations.Attestation;
 import tech.pegasys.teku.datastructures.operations.AttestationData;
@@ -54,11 +54,12 @@ import tech.pegasys.teku.ssz.SSZTypes.Bitlist;
 import tech.pegasys.teku.ssz.SSZTypes.SSZMutableList;
 import tech.pegasys.teku.statetransition.attestation.AggregatingAttestationPool;
 import tech.pegasys.teku.statetransition.attestation.AttestationManager;
-import tech.pegasys.teku.statetransition.events.block.ProposedBlockEvent;
+import tech.pegasys.teku.statetransition.events.block.ProposedBlockChannel;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
 import tech.pegasys.teku.sync.SyncState;
 import tech.pegasys.teku.sync.SyncStateTracker;
 import tech.pegasys.teku.util.config.Constants;
+import tech.pegasys.teku.validator.api.EpochDuties;
 import tech.pegasys.teku.validator.api.NodeSyncingException;
 import tech.pegasys.teku.validator.api.ValidatorDuties;
 
@@ -76,7 +77,7 @@ class ValidatorApiHandlerTest {
   private final AttestationManager attestationManager = mock(AttestationManager.class);
   private final AttestationTopicSubscriber attestationTopicSubscriptions =
       mock(AttestationTopicSubscriber.class);
-  private final EventBus eventBus = mock(EventBus.class);
+  private final ProposedBlockChannel proposedBlockChannel = mock(ProposedBlockChannel.class);
 
   private final ValidatorApiHandler validatorApiHandler =
       new ValidatorApiHandler(
@@ -87,7 +88,7 @@ class ValidatorApiHandlerTest {
           attestationPool,
           attestationManager,
           attestationTopicSubscriptions,
-          eventBus);
+          proposedBlockChannel);
 
   @BeforeEach
   public void setUp() {
@@ -97,7 +98,7 @@ class ValidatorApiHandlerTest {
   @Test
   public void getDuties_shouldFailWhenNodeIsSyncing() {
     when(syncStateTracker.getCurrentSyncState()).thenReturn(SyncState.SYNCING);
-    final SafeFuture<Optional<List<ValidatorDuties>>> duties =
+    final SafeFuture<Optional<EpochDuties>> duties =
         validatorApiHandler.getDuties(EPOCH, List.of(dataStructureUtil.randomPublicKey()));
     assertThat(duties).isCompletedExceptionally();
     assertThatThrownBy(duties::get).hasRootCauseInstanceOf(NodeSyncingException.class);
@@ -108,7 +109,7 @@ class ValidatorApiHandlerTest {
     when(chainDataClient.getLatestStateAtSlot(PREVIOUS_EPOCH_START_SLOT))
         .thenReturn(completedFuture(Optional.empty()));
 
-    final SafeFuture<Optional<List<ValidatorDuties>>> duties =
+    final SafeFuture<Optional<EpochDuties>> duties =
         validatorApiHandler.getDuties(EPOCH, List.of(dataStructureUtil.randomPublicKey()));
     assertThat(duties).isCompletedWithValue(Optional.empty());
   }
@@ -118,10 +119,11 @@ class ValidatorApiHandlerTest {
     when(chainDataClient.getLatestStateAtSlot(PREVIOUS_EPOCH_START_SLOT))
         .thenReturn(completedFuture(Optional.of(createStateWithActiveValidators())));
 
-    final SafeFuture<Optional<List<ValidatorDuties>>> result =
+    final SafeFuture<Optional<EpochDuties>> result =
         validatorApiHandler.getDuties(EPOCH, emptyList());
-    final Optional<List<ValidatorDuties>> duties = assertCompletedSuccessfully(result);
-    assertThat(duties.get()).isEmpty();
+    final List<ValidatorDuties> duties =
+        assertCompletedSuccessfully(result).orElseThrow().getDuties();
+    assertThat(duties).isEmpty();
   }
 
   @Test
@@ -130,10 +132,11 @@ class ValidatorApiHandlerTest {
         .thenReturn(completedFuture(Optional.of(createStateWithActiveValidators())));
 
     final BLSPublicKey unknownPublicKey = dataStructureUtil.randomPublicKey();
-    final SafeFuture<Optional<List<ValidatorDuties>>> result =
+    final SafeFuture<Optional<EpochDuties>> result =
         validatorApiHandler.getDuties(EPOCH, List.of(unknownPublicKey));
-    final Optional<List<ValidatorDuties>> duties = assertCompletedSuccessfully(result);
-    assertThat(duties.get()).containsExactly(ValidatorDuties.noDuties(unknownPublicKey));
+    final List<ValidatorDuties> duties =
+        assertCompletedSuccessfully(result).orElseThrow().getDuties();
+    assertThat(duties).containsExactly(ValidatorDuties.noDuties(unknownPublicKey));
   }
 
   @Test
@@ -143,10 +146,11 @@ class ValidatorApiHandlerTest {
         .thenReturn(completedFuture(Optional.of(state)));
 
     final BLSPublicKey publicKey = state.getValidators().get(0).getPubkey();
-    final SafeFuture<Optional<List<ValidatorDuties>>> result =
+    final SafeFuture<Optional<EpochDuties>> result =
         validatorApiHandler.getDuties(EPOCH, List.of(publicKey));
-    final Optional<List<ValidatorDuties>> duties = assertCompletedSuccessfully(result);
-    assertThat(duties.get()).containsExactly(ValidatorDuties.noDuties(publicKey));
+    final List<ValidatorDuties> duties =
+        assertCompletedSuccessfully(result).orElseThrow().getDuties();
+    assertThat(duties).containsExactly(ValidatorDuties.noDuties(publicKey));
   }
 
   @Test
@@ -157,10 +161,11 @@ class ValidatorApiHandlerTest {
 
     final int validatorIndex = 3;
     final BLSPublicKey publicKey = state.getValidators().get(validatorIndex).getPubkey();
-    final SafeFuture<Optional<List<ValidatorDuties>>> result =
+    final SafeFuture<Optional<EpochDuties>> result =
         validatorApiHandler.getDuties(EPOCH, List.of(publicKey));
-    final Optional<List<ValidatorDuties>> duties = assertCompletedSuccessfully(result);
-    assertThat(duties.get())
+    final List<ValidatorDuties> duties =
+        assertCompletedSuccessfully(result).orElseThrow().getDuties();
+    assertThat(duties)
         .containsExactly(
             ValidatorDuties.withDuties(
                 publicKey, validatorIndex, 0, 2, 1, emptyList(), UnsignedLong.valueOf(110)));
@@ -174,9 +179,10 @@ class ValidatorApiHandlerTest {
 
     final List<BLSPublicKey> allValidatorKeys =
         state.getValidators().stream().map(Validator::getPubkey).collect(Collectors.toList());
-    final SafeFuture<Optional<List<ValidatorDuties>>> result =
+    final SafeFuture<Optional<EpochDuties>> result =
         validatorApiHandler.getDuties(ZERO, allValidatorKeys);
-    final List<ValidatorDuties> duties = assertCompletedSuccessfully(result).orElseThrow();
+    final List<ValidatorDuties> duties =
+        assertCompletedSuccessfully(result).orElseThrow().getDuties();
     assertThat(
             duties.stream()
                 .flatMap(duty -> duty.getDuties().stream())
@@ -193,10 +199,11 @@ class ValidatorApiHandlerTest {
     final BLSPublicKey unknownPublicKey = dataStructureUtil.randomPublicKey();
     final BLSPublicKey validator3Key = state.getValidators().get(3).getPubkey();
     final BLSPublicKey validator31Key = state.getValidators().get(31).getPubkey();
-    final SafeFuture<Optional<List<ValidatorDuties>>> result =
+    final SafeFuture<Optional<EpochDuties>> result =
         validatorApiHandler.getDuties(
             EPOCH, List.of(validator3Key, unknownPublicKey, validator31Key));
-    final Optional<List<ValidatorDuties>> duties = assertCompletedSuccessfully(result);
+    final List<ValidatorDuties> duties =
+        assertCompletedSuccessfully(result).orElseThrow().getDuties();
     final ValidatorDuties validator3Duties =
         ValidatorDuties.withDuties(
             validator3Key, 3, 0, 2, 1, emptyList(), UnsignedLong.valueOf(110));
@@ -210,8 +217,22 @@ class ValidatorApiHandlerTest {
             1,
             List.of(UnsignedLong.valueOf(107), UnsignedLong.valueOf(111)),
             UnsignedLong.valueOf(104));
-    assertThat(duties.get())
-        .containsExactly(validator3Duties, unknownValidatorDuties, validator31Duties);
+    assertThat(duties).containsExactly(validator3Duties, unknownValidatorDuties, validator31Duties);
+  }
+
+  @Test
+  public void getDuties_shouldIncludeRootOfBlockDutiesDependOn() {
+    final BeaconBlockHeader latestBlockHeader = dataStructureUtil.randomBeaconBlockHeader();
+    final BeaconState state =
+        createStateWithActiveValidators()
+            .updated(mutableState -> mutableState.setLatest_block_header(latestBlockHeader));
+    when(chainDataClient.getLatestStateAtSlot(PREVIOUS_EPOCH_START_SLOT))
+        .thenReturn(completedFuture(Optional.of(state)));
+
+    final SafeFuture<Optional<EpochDuties>> result =
+        validatorApiHandler.getDuties(EPOCH, List.of(dataStructureUtil.randomPublicKey()));
+    final EpochDuties duties = assertCompletedSuccessfully(result).orElseThrow();
+    assertThat(duties.getDependentRoot()).isEqualTo(latestBlockHeader.hash_tree_root());
   }
 
   @Test
@@ -362,11 +383,11 @@ class ValidatorApiHandlerTest {
   }
 
   @Test
-  public void sendSignedBlock_shouldPostProposedBlockEvent() {
+  public void sendSignedBlock_shouldPublishProposedBlock() {
     final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(5);
     validatorApiHandler.sendSignedBlock(block);
 
-    verify(eventBus).post(new ProposedBlockEvent(block));
+    verify(proposedBlockChannel).onBlockProposed(block);
   }
 
   @Test
@@ -381,7 +402,7 @@ class ValidatorApiHandlerTest {
   }
 
   private Optional<List<ValidatorDuties>> assertCompletedSuccessfully(
-      final SafeFuture<Optional<List<ValidatorDuties>>> result) {
+      final SafeFuture<Optional<EpochDuties>> result) {
     assertThat(result).isCompleted();
     return result.join();
   }